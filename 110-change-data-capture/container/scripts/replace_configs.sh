@@ -60,6 +60,18 @@ if [[ "" != "$MONGO_CHANGE_STREAM_BATCH_SIZE" ]]; then
   export MONGO_CHANGE_STREAM_BATCH_SIZE; yq -i '.changeStreamBatchSize=env(MONGO_CHANGE_STREAM_BATCH_SIZE)' $CONFIG_FILE
 fi
 
+if [[ "" != "$TIMESCALE_SINK_ENABLED" ]]; then
+  export TIMESCALE_SINK_ENABLED; yq -i '.timescaleSink.enabled=env(TIMESCALE_SINK_ENABLED)' $CONFIG_FILE
+fi
+
+if [[ "" != "$TIMESCALE_SINK_PARTITIONS" ]]; then
+  export TIMESCALE_SINK_PARTITIONS; yq -i '.timescaleSink.partitions=env(TIMESCALE_SINK_PARTITIONS)' $CONFIG_FILE
+fi
+
+if [[ "" != "$TIMESCALE_SINK_BATCH_SIZE" ]]; then
+  export TIMESCALE_SINK_BATCH_SIZE; yq -i '.timescaleSink.batchSize=env(TIMESCALE_SINK_BATCH_SIZE)' $CONFIG_FILE
+fi
+
 if [[ "" != "$TIMESCALEDB_URI" ]]; then
   export TIMESCALEDB_URI; yq -i '.timescaledb.timescaledbUrl=env(TIMESCALEDB_URI)' $CONFIG_FILE
 fi
@@ -14,6 +14,8 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.cf.AbstractCfModule;
 import io.harness.cf.CfClientConfig;
 import io.harness.cf.CfMigrationConfig;
+import io.harness.changehandlers.PlanExecutionSummaryCdHourlyRollup;
+import io.harness.changehandlers.TimescaleChangeDataSink;
 import io.harness.delegate.beans.DelegateAsyncTaskResponse;
 import io.harness.delegate.beans.DelegateSyncTaskResponse;
 import io.harness.delegate.beans.DelegateTaskProgressResponse;
@@ -32,6 +34,7 @@ import io.harness.serializer.PersistenceRegistrars;
 import io.harness.threading.ExecutorModule;
 import io.harness.threading.ThreadPool;
 
+import com.codahale.metrics.Gauge;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -146,6 +149,7 @@ public class ChangeDataCaptureApplication extends Application<ChangeDataCaptureS
     Injector injector = Guice.createInjector(modules);
     registerStores(changeDataCaptureServiceConfig, injector);
     registerManagedBeans(environment, injector);
+    registerMetrics(environment, injector);
     registerResources(environment, injector);
     registerHealthCheck(environment, injector);
     MaintenanceController.forceMaintenance(false);
@@ -179,6 +183,17 @@ public class ChangeDataCaptureApplication extends Application<ChangeDataCaptureS
   }
 
   private void registerManagedBeans(Environment environment, Injector injector) {
+    environment.lifecycle().manage(injector.getInstance(TimescaleChangeDataSink.class));
+    environment.lifecycle().manage(injector.getInstance(PlanExecutionSummaryCdHourlyRollup.class));
     environment.lifecycle().manage(injector.getInstance(ChangeDataCaptureSyncService.class));
   }
+
+  private void registerMetrics(Environment environment, Injector injector) {
+    final TimescaleChangeDataSink changeDataSink = injector.getInstance(TimescaleChangeDataSink.class);
+    environment.metrics().register("timescale_sink_pending", (Gauge<Long>) changeDataSink::getPending);
+    environment.metrics().register("timescale_sink_written", (Gauge<Long>) changeDataSink.getWritten()::get);
+    environment.metrics().register("timescale_sink_coalesced", (Gauge<Long>) changeDataSink.getCoalesced()::get);
+    environment.metrics().register("timescale_sink_failed", (Gauge<Long>) changeDataSink.getFailed()::get);
+    environment.metrics().register("timescale_sink_lag_millis", (Gauge<Long>) changeDataSink.getLagMillis()::get);
+  }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(CE)
+@Value
+@Builder
+public class ChangeDataSinkConfig {
+  // Writes the TimescaleDB changes through the batching sink instead of one statement per change
+  @JsonProperty(defaultValue = "false") @Builder.Default private boolean enabled = false;
+  // Writers, the changes of an entity always go to the same one
+  @JsonProperty(defaultValue = "8") @Builder.Default private int partitions = 8;
+  @JsonProperty(defaultValue = "500") @Builder.Default private int batchSize = 500;
+  // Changes waiting in a partition before the handlers are blocked
+  @JsonProperty(defaultValue = "5000") @Builder.Default private int queueCapacity = 5000;
+}
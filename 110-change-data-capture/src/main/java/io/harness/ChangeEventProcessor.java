@@ -9,6 +9,7 @@ package io.harness;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimescaleChangeDataSink;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.entities.CDCEntity;
 
@@ -35,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 class ChangeEventProcessor {
   @Inject private Set<CDCEntity<?>> subscribedClasses;
   @Inject private WingsPersistence wingsPersistence;
+  @Inject private TimescaleChangeDataSink changeDataSink;
   private final BlockingQueue<ChangeEvent<?>> changeEventQueue = new LinkedBlockingQueue<>(100);
   private final ExecutorService changeEventExecutorService =
       Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("primary-change-processor").build());
@@ -46,7 +48,8 @@ class ChangeEventProcessor {
 
   void startProcessingChangeEvents() {
     if (changeEventProcessorTask == null) {
-      changeEventProcessorTask = new ChangeEventProcessorTask(subscribedClasses, changeEventQueue, wingsPersistence);
+      changeEventProcessorTask =
+          new ChangeEventProcessorTask(subscribedClasses, changeEventQueue, wingsPersistence, changeDataSink);
       changeEventProcessorTaskFuture = changeEventExecutorService.submit(changeEventProcessorTask);
       changeEventProcessorWatcher.submit(this::watchChangeEventQueue);
     }
@@ -74,6 +77,11 @@ class ChangeEventProcessor {
       long completed = changeEventProcessorTask.getCompletedTaskCount();
       log.info("ChangeEventProcessor stats, processing={}, waiting={}, completed={}, total={}", processing, waiting,
           completed, total.get());
+      if (changeDataSink.isEnabled()) {
+        log.info("TimescaleChangeDataSink stats, pending={}, written={}, coalesced={}, failed={}, lagMillis={}",
+            changeDataSink.getPending(), changeDataSink.getWritten().get(), changeDataSink.getCoalesced().get(),
+            changeDataSink.getFailed().get(), changeDataSink.getLagMillis().get());
+      }
       if ((processing + waiting) > 10) {
         changeEventQueue.stream()
             .collect(Collectors.groupingBy(ChangeEvent::getEntityType, Collectors.counting()))
@@ -87,7 +95,7 @@ class ChangeEventProcessor {
   boolean isWorking() {
     int waiting = changeEventQueue.size();
     int processing = changeEventProcessorTask.getActiveCount();
-    return (waiting + processing) > 0;
+    return (waiting + processing) > 0 || changeDataSink.getPending() > 0;
   }
 
   boolean isAlive() {
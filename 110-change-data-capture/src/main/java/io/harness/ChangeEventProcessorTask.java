@@ -13,6 +13,7 @@ import io.harness.CDCStateEntity.cdcStateEntityKeys;
 import io.harness.annotations.ChangeDataCapture;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimescaleChangeDataSink;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.entities.CDCEntity;
 import io.harness.persistence.PersistentEntity;
@@ -21,6 +22,9 @@ import software.wings.dl.WingsPersistence;
 
 import dev.morphia.query.Query;
 import dev.morphia.query.UpdateOperations;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
@@ -42,14 +46,22 @@ public class ChangeEventProcessorTask implements Runnable {
   private final Set<CDCEntity<?>> cdcEntities;
   private final BlockingQueue<ChangeEvent<?>> changeEventQueue;
   private final WingsPersistence wingsPersistence;
+  private final TimescaleChangeDataSink changeDataSink;
   private final AtomicInteger processing = new AtomicInteger(0);
   private final AtomicLong completed = new AtomicLong(0);
+  // The last change of each source class whose resume token waits for the sink to flush, at most one flush is waited
+  // for per source class. Guarded by unflushedChanges.
+  private final Map<Class<?>, ChangeEvent<?>> unflushedChanges = new HashMap<>();
+  private final Set<Class<?>> flushingClasses = new HashSet<>();
+  private final ExecutorService tokenExecutorService =
+      Executors.newSingleThreadExecutor(ThreadFactoryBuilder.create().setNameFormat("change-token-saver").get());
 
   ChangeEventProcessorTask(Set<CDCEntity<?>> cdcEntities, BlockingQueue<ChangeEvent<?>> changeEventQueue,
-      WingsPersistence wingsPersistence) {
+      WingsPersistence wingsPersistence, TimescaleChangeDataSink changeDataSink) {
     this.cdcEntities = cdcEntities;
     this.changeEventQueue = changeEventQueue;
     this.wingsPersistence = wingsPersistence;
+    this.changeDataSink = changeDataSink;
   }
 
   @Override
@@ -88,6 +100,7 @@ public class ChangeEventProcessorTask implements Runnable {
     } finally {
       log.info("Shutting down search consumer service");
       executorService.shutdownNow();
+      tokenExecutorService.shutdownNow();
     }
   }
 
@@ -119,7 +132,45 @@ public class ChangeEventProcessorTask implements Runnable {
       }
     }
 
-    saveCDCStateEntityToken(clazz, changeEvent);
+    if (changeEvent.getToken() != null && changeDataSink.isEnabled()) {
+      saveCDCStateEntityTokenAfterFlush(clazz, changeEvent);
+    } else {
+      saveCDCStateEntityToken(clazz, changeEvent);
+    }
+  }
+
+  /**
+   * The handlers leave their TimescaleDB writes to the sink, which batches them in the background. The resume token is
+   * saved once the sink has written the changes submitted up to this one, otherwise a restart would skip them.
+   */
+  private void saveCDCStateEntityTokenAfterFlush(Class<? extends PersistentEntity> sourceClass, ChangeEvent<?> event) {
+    synchronized (unflushedChanges) {
+      unflushedChanges.put(sourceClass, event);
+      if (!flushingClasses.add(sourceClass)) {
+        // The flush in progress saves the token of an earlier change, this one is flushed next
+        return;
+      }
+    }
+    flushAndSaveToken(sourceClass);
+  }
+
+  private void flushAndSaveToken(Class<? extends PersistentEntity> sourceClass) {
+    ChangeEvent<?> changeEvent;
+    synchronized (unflushedChanges) {
+      changeEvent = unflushedChanges.remove(sourceClass);
+      if (changeEvent == null) {
+        flushingClasses.remove(sourceClass);
+        return;
+      }
+    }
+    changeDataSink.flush().whenCompleteAsync((ignored, throwable) -> {
+      try {
+        saveCDCStateEntityToken(sourceClass, changeEvent);
+      } catch (Exception e) {
+        log.error("Failed to save resume token for, entity={}", sourceClass.getCanonicalName(), e);
+      }
+      flushAndSaveToken(sourceClass);
+    }, tokenExecutorService);
   }
 
   private void saveCDCStateEntityToken(Class<? extends PersistentEntity> sourceClass, ChangeEvent<?> changeEvent) {
@@ -31,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 public abstract class AbstractChangeDataHandler implements ChangeHandler {
   private static final int MAX_RETRY_COUNT = 5;
   @Inject private TimeScaleDBService timeScaleDBService;
+  @Inject(optional = true) private TimescaleChangeDataSink changeDataSink;
 
   @Override
   public boolean handleChange(ChangeEvent<?> changeEvent, String tableName, String[] fields) {
@@ -69,6 +70,10 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
   public boolean dbOperation(String query) {
     boolean successfulOperation = false;
     log.trace("In dbOperation, Query: {}", query);
+    if (isSinkEnabled()) {
+      // The statement may touch the rows of changes still queued in the sink, they have to be written first
+      changeDataSink.flush().join();
+    }
     if (timeScaleDBService.isValid()) {
       int retryCount = 0;
       while (!successfulOperation && retryCount < MAX_RETRY_COUNT) {
@@ -293,8 +298,14 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
       case INSERT:
         if (columnValueMapping != null) {
           if (shouldUpdateOnConflict()) {
-            dbOperation(updateSQL(
-                tableName, columnValueMapping, Collections.singletonMap("id", changeEvent.getUuid()), primaryKeys));
+            if (isSinkEnabled()) {
+              changeDataSink.upsert(tableName, changeEvent.getUuid(), primaryKeys, columnValueMapping);
+            } else {
+              dbOperation(updateSQL(
+                  tableName, columnValueMapping, Collections.singletonMap("id", changeEvent.getUuid()), primaryKeys));
+            }
+          } else if (isSinkEnabled()) {
+            changeDataSink.insert(tableName, changeEvent.getUuid(), columnValueMapping);
           } else {
             dbOperation(insertSQL(tableName, columnValueMapping));
           }
@@ -302,12 +313,20 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
         break;
       case UPDATE:
         if (columnValueMapping != null) {
-          dbOperation(updateSQL(tableName, columnValueMapping, Collections.emptyMap(), primaryKeys));
+          if (isSinkEnabled()) {
+            changeDataSink.upsert(tableName, changeEvent.getUuid(), primaryKeys, columnValueMapping);
+          } else {
+            dbOperation(updateSQL(tableName, columnValueMapping, Collections.emptyMap(), primaryKeys));
+          }
         }
         break;
       case DELETE:
         if (shouldDelete()) {
-          dbOperation(deleteSQL(tableName, getColumnValueMappingsForWhereClause(changeEvent)));
+          if (isSinkEnabled()) {
+            changeDataSink.delete(tableName, changeEvent.getUuid(), getColumnValueMappingsForWhereClause(changeEvent));
+          } else {
+            dbOperation(deleteSQL(tableName, getColumnValueMappingsForWhereClause(changeEvent)));
+          }
         } else {
           if (columnValueMapping != null) {
             dbOperation(updateDeletedFieldsSQL(tableName, getColumnValueMappingForDelete(), changeEvent.getUuid()));
@@ -318,4 +337,12 @@ public abstract class AbstractChangeDataHandler implements ChangeHandler {
         log.info("Change Event Type not Handled: {}", changeEvent.getChangeType());
     }
   }
+
+  /**
+   * The sink writes the changes in the background, the resume token of a streamed change is saved by
+   * {@link io.harness.ChangeEventProcessorTask} once the sink flushed them.
+   */
+  private boolean isSinkEnabled() {
+    return changeDataSink != null && changeDataSink.isEnabled();
+  }
 }
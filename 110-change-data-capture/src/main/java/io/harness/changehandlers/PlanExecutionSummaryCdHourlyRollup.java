@@ -0,0 +1,370 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.dropwizard.lifecycle.Managed;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains pipeline_execution_summary_cd_hourly, the executions of pipeline_execution_summary_cd counted per project,
+ * hour and status, and service_infra_info_hourly, the service deployments of service_infra_info counted per project,
+ * hour of their execution, hour of their start, service, status, env_type and deployment_type. The CD overview
+ * dashboards read them instead of the executions and the service deployments.
+ *
+ * The change handlers mark the hours of the changed executions in pipeline_execution_summary_cd_hourly_changes, and both
+ * tables are counted again for the marked hours from pipeline_execution_summary_cd and service_infra_info every few
+ * seconds. Counting
+ * an hour again instead of applying the change keeps the counts right without knowing the previous status of an
+ * execution, and an hour changed by many events is counted once. The marks are kept in TimescaleDB so that the hours
+ * changed before a restart are still counted again after it.
+ *
+ * The hours of the last {@link #RECONCILE_HOURS} are also counted again every {@link #RECONCILE_INTERVAL_MINUTES}
+ * minutes and on start, which corrects the counts of a change whose mark could not be written. They are counted again
+ * one account at a time, each in its own transaction, so that no statement scans the recent executions of all accounts.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Singleton
+@Slf4j
+public class PlanExecutionSummaryCdHourlyRollup implements Managed {
+  public static final long BUCKET_SIZE_MS = TimeUnit.HOURS.toMillis(1);
+  private static final long REFRESH_INTERVAL_SECONDS = 10;
+  private static final long RECONCILE_INTERVAL_MINUTES = 10;
+  private static final long RECONCILE_HOURS = 6;
+  // An hour marked again within this time is not written again, the refresh waits for the marks to settle longer
+  private static final long MARK_INTERVAL_MS = 1000;
+  private static final long MARK_SETTLE_MS = 5000;
+  private static final int REFRESH_BATCH_SIZE = 1000;
+
+  private static final String ON_CONFLICT_MARK_SQL =
+      " ON CONFLICT (accountid, orgidentifier, projectidentifier, bucket) DO UPDATE SET changedat = GREATEST("
+      + "pipeline_execution_summary_cd_hourly_changes.changedat, EXCLUDED.changedat)";
+  private static final String MARK_SQL = "INSERT INTO pipeline_execution_summary_cd_hourly_changes "
+      + "(accountid, orgidentifier, projectidentifier, bucket, changedat) VALUES (?, ?, ?, ?, ?)"
+      + ON_CONFLICT_MARK_SQL;
+  private static final String MARK_DELETED_SQL = "INSERT INTO pipeline_execution_summary_cd_hourly_changes "
+      + "(accountid, orgidentifier, projectidentifier, bucket, changedat) "
+      + "SELECT accountid, orgidentifier, projectidentifier, startts - startts % 3600000, ? "
+      + "FROM pipeline_execution_summary_cd WHERE id=? AND accountid IS NOT NULL AND orgidentifier IS NOT NULL "
+      + "AND projectidentifier IS NOT NULL" + ON_CONFLICT_MARK_SQL;
+  private static final String SELECT_CHANGES_SQL = "SELECT accountid, orgidentifier, projectidentifier, bucket, "
+      + "changedat FROM pipeline_execution_summary_cd_hourly_changes WHERE changedat<=? ORDER BY changedat LIMIT ?";
+  private static final String DELETE_CHANGE_SQL = "DELETE FROM pipeline_execution_summary_cd_hourly_changes "
+      + "WHERE accountid=? AND orgidentifier=? AND projectidentifier=? AND bucket=? AND changedat<=?";
+
+  private static final String DELETE_BUCKET_SQL = "DELETE FROM pipeline_execution_summary_cd_hourly WHERE accountid=? "
+      + "AND orgidentifier=? AND projectidentifier=? AND bucket=?";
+  private static final String INSERT_BUCKET_SQL = "INSERT INTO pipeline_execution_summary_cd_hourly "
+      + "SELECT cd.accountid, cd.orgidentifier, cd.projectidentifier, ?, COALESCE(cd.status, ''), COUNT(*), "
+      + "COALESCE(SUM(env.production), 0), COALESCE(SUM(env.non_production), 0) "
+      + "FROM pipeline_execution_summary_cd cd LEFT JOIN LATERAL ("
+      + "SELECT COUNT(*) FILTER (WHERE env_type = 'Production') AS production, "
+      + "COUNT(*) FILTER (WHERE env_type = 'PreProduction') AS non_production "
+      + "FROM service_infra_info WHERE pipeline_execution_summary_cd_id = cd.id) env ON TRUE "
+      + "WHERE cd.accountid=? AND cd.orgidentifier=? AND cd.projectidentifier=? AND cd.startts>=? AND cd.startts<? "
+      + "GROUP BY cd.accountid, cd.orgidentifier, cd.projectidentifier, COALESCE(cd.status, '')";
+
+  private static final String DELETE_SERVICE_BUCKET_SQL = "DELETE FROM service_infra_info_hourly WHERE accountid=? "
+      + "AND orgidentifier=? AND projectidentifier=? AND bucket=?";
+  private static final String INSERT_SERVICE_BUCKET_SQL = "INSERT INTO service_infra_info_hourly "
+      + "SELECT cd.accountid, cd.orgidentifier, cd.projectidentifier, ?, "
+      + "sii.service_startts - sii.service_startts % 3600000, sii.service_id, MAX(sii.service_name), "
+      + "sii.service_status, sii.env_type, sii.deployment_type, COUNT(*), COUNT(sii.service_name) "
+      + "FROM pipeline_execution_summary_cd cd JOIN service_infra_info sii "
+      + "ON sii.pipeline_execution_summary_cd_id = cd.id AND sii.accountid = cd.accountid "
+      + "WHERE cd.accountid=? AND cd.orgidentifier=? AND cd.projectidentifier=? AND cd.startts>=? AND cd.startts<? "
+      + "AND sii.service_id IS NOT NULL AND sii.service_startts IS NOT NULL GROUP BY 1, 2, 3, 5, 6, 8, 9, 10";
+
+  // The accounts with recent executions and the accounts with recent counts, whose executions may all be deleted
+  private static final String SELECT_RECENT_ACCOUNTS_SQL = "SELECT accountid FROM pipeline_execution_summary_cd "
+      + "WHERE startts>=? AND accountid IS NOT NULL UNION SELECT accountid FROM pipeline_execution_summary_cd_hourly "
+      + "WHERE bucket>=?";
+  private static final String DELETE_RECENT_BUCKETS_SQL =
+      "DELETE FROM pipeline_execution_summary_cd_hourly WHERE accountid=? AND bucket>=?";
+  private static final String INSERT_RECENT_BUCKETS_SQL = "INSERT INTO pipeline_execution_summary_cd_hourly "
+      + "SELECT cd.accountid, cd.orgidentifier, cd.projectidentifier, cd.startts - cd.startts % 3600000, "
+      + "COALESCE(cd.status, ''), COUNT(*), COALESCE(SUM(env.production), 0), COALESCE(SUM(env.non_production), 0) "
+      + "FROM pipeline_execution_summary_cd cd LEFT JOIN LATERAL ("
+      + "SELECT COUNT(*) FILTER (WHERE env_type = 'Production') AS production, "
+      + "COUNT(*) FILTER (WHERE env_type = 'PreProduction') AS non_production "
+      + "FROM service_infra_info WHERE pipeline_execution_summary_cd_id = cd.id) env ON TRUE "
+      + "WHERE cd.accountid=? AND cd.orgidentifier IS NOT NULL AND cd.projectidentifier IS NOT NULL "
+      + "AND cd.startts>=? GROUP BY 1, 2, 3, 4, 5";
+  private static final String DELETE_RECENT_SERVICE_BUCKETS_SQL =
+      "DELETE FROM service_infra_info_hourly WHERE accountid=? AND bucket>=?";
+  private static final String INSERT_RECENT_SERVICE_BUCKETS_SQL = "INSERT INTO service_infra_info_hourly "
+      + "SELECT cd.accountid, cd.orgidentifier, cd.projectidentifier, cd.startts - cd.startts % 3600000, "
+      + "sii.service_startts - sii.service_startts % 3600000, sii.service_id, MAX(sii.service_name), "
+      + "sii.service_status, sii.env_type, sii.deployment_type, COUNT(*), COUNT(sii.service_name) "
+      + "FROM pipeline_execution_summary_cd cd JOIN service_infra_info sii "
+      + "ON sii.pipeline_execution_summary_cd_id = cd.id AND sii.accountid = cd.accountid "
+      + "WHERE cd.accountid=? AND cd.orgidentifier IS NOT NULL AND cd.projectidentifier IS NOT NULL AND cd.startts>=? "
+      + "AND sii.service_id IS NOT NULL AND sii.service_startts IS NOT NULL GROUP BY 1, 2, 3, 4, 5, 6, 8, 9, 10";
+
+  @Inject private TimeScaleDBService timeScaleDBService;
+  @Inject private TimescaleChangeDataSink changeDataSink;
+  private final Map<Bucket, Long> markedAt = new ConcurrentHashMap<>();
+  private ScheduledExecutorService refreshExecutor;
+
+  @Value
+  @VisibleForTesting
+  static class Bucket {
+    String accountId;
+    String orgIdentifier;
+    String projectIdentifier;
+    long startTs;
+  }
+
+  public void markChanged(String accountId, String orgIdentifier, String projectIdentifier, long startTs) {
+    Bucket bucket = new Bucket(accountId, orgIdentifier, projectIdentifier, startTs - startTs % BUCKET_SIZE_MS);
+    long now = System.currentTimeMillis();
+    Long lastMarkedAt = markedAt.put(bucket, now);
+    if (lastMarkedAt != null && now - lastMarkedAt < MARK_INTERVAL_MS) {
+      markedAt.put(bucket, lastMarkedAt);
+      return;
+    }
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = connection.prepareStatement(MARK_SQL)) {
+      statement.setString(1, bucket.getAccountId());
+      statement.setString(2, bucket.getOrgIdentifier());
+      statement.setString(3, bucket.getProjectIdentifier());
+      statement.setLong(4, bucket.getStartTs());
+      statement.setLong(5, now);
+      statement.execute();
+    } catch (SQLException e) {
+      markedAt.remove(bucket);
+      log.error("Failed to mark the hourly CD execution counts of {}", bucket, e);
+    }
+  }
+
+  /**
+   * Marks the hour of a deleted execution, which is read from pipeline_execution_summary_cd. Has to run before the
+   * execution is deleted there.
+   */
+  public void markDeleted(String executionId) {
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = connection.prepareStatement(MARK_DELETED_SQL)) {
+      statement.setLong(1, System.currentTimeMillis());
+      statement.setString(2, executionId);
+      statement.execute();
+    } catch (SQLException e) {
+      log.error("Failed to mark the hourly CD execution counts of the deleted execution {}", executionId, e);
+    }
+  }
+
+  @Override
+  public synchronized void start() {
+    if (refreshExecutor == null) {
+      refreshExecutor = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("cd-hourly-rollup-refresher").build());
+      refreshExecutor.scheduleWithFixedDelay(
+          this::refreshSafely, REFRESH_INTERVAL_SECONDS, REFRESH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+      refreshExecutor.scheduleWithFixedDelay(
+          this::reconcileSafely, 0, RECONCILE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+      refreshExecutor = null;
+    }
+  }
+
+  private void refreshSafely() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      log.error("Failed to refresh the hourly CD execution counts", e);
+    }
+  }
+
+  private void reconcileSafely() {
+    try {
+      reconcile();
+    } catch (Exception e) {
+      log.error("Failed to reconcile the recent hourly CD execution counts", e);
+    }
+  }
+
+  @VisibleForTesting
+  void refresh() throws SQLException {
+    long now = System.currentTimeMillis();
+    markedAt.values().removeIf(lastMarkedAt -> now - lastMarkedAt >= MARK_INTERVAL_MS);
+    if (!timeScaleDBService.isValid()) {
+      log.warn("TimeScale Down");
+      return;
+    }
+    Map<Bucket, Long> changes = readChanges(now - MARK_SETTLE_MS);
+    if (changes.isEmpty()) {
+      return;
+    }
+    // The executions are written in the background by the sink, the changes marked so far are counted once written
+    changeDataSink.flush().join();
+    for (Map.Entry<Bucket, Long> change : changes.entrySet()) {
+      try {
+        refresh(change.getKey(), change.getValue());
+      } catch (SQLException e) {
+        // The mark is kept, the hour is counted again by the next refresh
+        log.error("Failed to refresh the hourly CD execution counts of {}", change.getKey(), e);
+      }
+    }
+  }
+
+  private Map<Bucket, Long> readChanges(long changedBefore) throws SQLException {
+    Map<Bucket, Long> changes = new LinkedHashMap<>();
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = connection.prepareStatement(SELECT_CHANGES_SQL)) {
+      statement.setLong(1, changedBefore);
+      statement.setInt(2, REFRESH_BATCH_SIZE);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          changes.put(new Bucket(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3),
+                          resultSet.getLong(4)),
+              resultSet.getLong(5));
+        }
+      }
+    }
+    return changes;
+  }
+
+  private void refresh(Bucket bucket, long changedAt) throws SQLException {
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement deleteStatement = connection.prepareStatement(DELETE_BUCKET_SQL);
+         PreparedStatement insertStatement = connection.prepareStatement(INSERT_BUCKET_SQL);
+         PreparedStatement deleteServiceStatement = connection.prepareStatement(DELETE_SERVICE_BUCKET_SQL);
+         PreparedStatement insertServiceStatement = connection.prepareStatement(INSERT_SERVICE_BUCKET_SQL);
+         PreparedStatement deleteChangeStatement = connection.prepareStatement(DELETE_CHANGE_SQL)) {
+      connection.setAutoCommit(false);
+      try {
+        deleteStatement.setString(1, bucket.getAccountId());
+        deleteStatement.setString(2, bucket.getOrgIdentifier());
+        deleteStatement.setString(3, bucket.getProjectIdentifier());
+        deleteStatement.setLong(4, bucket.getStartTs());
+        deleteStatement.execute();
+
+        insertStatement.setLong(1, bucket.getStartTs());
+        insertStatement.setString(2, bucket.getAccountId());
+        insertStatement.setString(3, bucket.getOrgIdentifier());
+        insertStatement.setString(4, bucket.getProjectIdentifier());
+        insertStatement.setLong(5, bucket.getStartTs());
+        insertStatement.setLong(6, bucket.getStartTs() + BUCKET_SIZE_MS);
+        insertStatement.execute();
+
+        deleteServiceStatement.setString(1, bucket.getAccountId());
+        deleteServiceStatement.setString(2, bucket.getOrgIdentifier());
+        deleteServiceStatement.setString(3, bucket.getProjectIdentifier());
+        deleteServiceStatement.setLong(4, bucket.getStartTs());
+        deleteServiceStatement.execute();
+
+        insertServiceStatement.setLong(1, bucket.getStartTs());
+        insertServiceStatement.setString(2, bucket.getAccountId());
+        insertServiceStatement.setString(3, bucket.getOrgIdentifier());
+        insertServiceStatement.setString(4, bucket.getProjectIdentifier());
+        insertServiceStatement.setLong(5, bucket.getStartTs());
+        insertServiceStatement.setLong(6, bucket.getStartTs() + BUCKET_SIZE_MS);
+        insertServiceStatement.execute();
+
+        // A mark written since it was read stays for the next refresh
+        deleteChangeStatement.setString(1, bucket.getAccountId());
+        deleteChangeStatement.setString(2, bucket.getOrgIdentifier());
+        deleteChangeStatement.setString(3, bucket.getProjectIdentifier());
+        deleteChangeStatement.setLong(4, bucket.getStartTs());
+        deleteChangeStatement.setLong(5, changedAt);
+        deleteChangeStatement.execute();
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void reconcile() throws SQLException {
+    if (!timeScaleDBService.isValid()) {
+      log.warn("TimeScale Down");
+      return;
+    }
+    long now = System.currentTimeMillis();
+    long fromBucket = now - now % BUCKET_SIZE_MS - (RECONCILE_HOURS - 1) * BUCKET_SIZE_MS;
+    changeDataSink.flush().join();
+    for (String accountId : readRecentAccounts(fromBucket)) {
+      try {
+        reconcile(accountId, fromBucket);
+      } catch (SQLException e) {
+        // The next reconcile counts the hours of the account again
+        log.error("Failed to reconcile the recent hourly CD execution counts of the account {}", accountId, e);
+      }
+    }
+  }
+
+  private List<String> readRecentAccounts(long fromBucket) throws SQLException {
+    List<String> accountIds = new ArrayList<>();
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = connection.prepareStatement(SELECT_RECENT_ACCOUNTS_SQL)) {
+      statement.setLong(1, fromBucket);
+      statement.setLong(2, fromBucket);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          accountIds.add(resultSet.getString(1));
+        }
+      }
+    }
+    return accountIds;
+  }
+
+  private void reconcile(String accountId, long fromBucket) throws SQLException {
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement deleteStatement = connection.prepareStatement(DELETE_RECENT_BUCKETS_SQL);
+         PreparedStatement insertStatement = connection.prepareStatement(INSERT_RECENT_BUCKETS_SQL);
+         PreparedStatement deleteServiceStatement = connection.prepareStatement(DELETE_RECENT_SERVICE_BUCKETS_SQL);
+         PreparedStatement insertServiceStatement = connection.prepareStatement(INSERT_RECENT_SERVICE_BUCKETS_SQL)) {
+      connection.setAutoCommit(false);
+      try {
+        deleteStatement.setString(1, accountId);
+        deleteStatement.setLong(2, fromBucket);
+        deleteStatement.execute();
+        insertStatement.setString(1, accountId);
+        insertStatement.setLong(2, fromBucket);
+        insertStatement.execute();
+        deleteServiceStatement.setString(1, accountId);
+        deleteServiceStatement.setLong(2, fromBucket);
+        deleteServiceStatement.execute();
+        insertServiceStatement.setString(1, accountId);
+        insertServiceStatement.setLong(2, fromBucket);
+        insertServiceStatement.execute();
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+    }
+  }
+}
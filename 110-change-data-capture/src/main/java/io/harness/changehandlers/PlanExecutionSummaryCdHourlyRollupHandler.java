@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import io.harness.ChangeHandler;
+import io.harness.annotations.dev.CodePulse;
+import io.harness.annotations.dev.HarnessModuleComponent;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.ProductModule;
+import io.harness.changestreamsframework.ChangeEvent;
+import io.harness.changestreamsframework.ChangeType;
+import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity.PlanExecutionSummaryKeys;
+
+import com.google.inject.Inject;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Marks the hour of a changed CD execution for {@link PlanExecutionSummaryCdHourlyRollup}. Runs before the handlers
+ * writing pipeline_execution_summary_cd and service_infra_info, so that a deleted execution is still there to read its
+ * hour from.
+ */
+@CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_DASHBOARD})
+@OwnedBy(HarnessTeam.CDC)
+@Slf4j
+public class PlanExecutionSummaryCdHourlyRollupHandler implements ChangeHandler {
+  @Inject private PlanExecutionSummaryCdHourlyRollup hourlyRollup;
+
+  @Override
+  public boolean handleChange(ChangeEvent<?> changeEvent, String tableName, String[] fields) {
+    if (changeEvent.getChangeType() == ChangeType.DELETE) {
+      hourlyRollup.markDeleted(changeEvent.getUuid());
+      return true;
+    }
+    DBObject dbObject = changeEvent.getFullDocument();
+    if (dbObject == null || dbObject.get("moduleInfo") == null
+        || ((BasicDBObject) dbObject.get("moduleInfo")).get("cd") == null) {
+      return true;
+    }
+    Object accountId = dbObject.get(PlanExecutionSummaryKeys.accountId);
+    Object orgIdentifier = dbObject.get(PlanExecutionSummaryKeys.orgIdentifier);
+    Object projectIdentifier = dbObject.get(PlanExecutionSummaryKeys.projectIdentifier);
+    Object startTs = dbObject.get(PlanExecutionSummaryKeys.startTs);
+    if (accountId == null || orgIdentifier == null || projectIdentifier == null || startTs == null) {
+      return true;
+    }
+    try {
+      hourlyRollup.markChanged(accountId.toString(), orgIdentifier.toString(), projectIdentifier.toString(),
+          Long.parseLong(startTs.toString()));
+    } catch (NumberFormatException e) {
+      log.info(String.format("Not able to parse this event %s", changeEvent), e);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.ChangeDataCaptureServiceConfig;
+import io.harness.ChangeDataSinkConfig;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.dropwizard.lifecycle.Managed;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the TimescaleDB changes of the CDC handlers in batches.
+ *
+ * The changes are partitioned by table and entity, so the changes of an entity are written in order by a single
+ * writer. A writer takes the changes waiting in its queue, merges the upserts of the same row into one, and writes the
+ * changes having the same statement as one JDBC batch of a parameterized statement. A batch failing as a whole, for
+ * example on a duplicate plain insert, is written again statement by statement so that one bad row does not drop the
+ * others.
+ *
+ * {@link #flush()} tells when the changes submitted so far are written, so that the resume token of the streamed
+ * changes is saved after their batches and the statements run outside of the sink follow the changes before them.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Singleton
+@Slf4j
+public class TimescaleChangeDataSink implements Managed {
+  private static final int MAX_RETRY_COUNT = 5;
+
+  private final TimeScaleDBService timeScaleDBService;
+  private final ChangeDataSinkConfig config;
+  private final List<BlockingQueue<SinkOperation>> partitions = new ArrayList<>();
+  private ExecutorService writers;
+
+  private final AtomicLong pending = new AtomicLong();
+  @Getter private final AtomicLong received = new AtomicLong();
+  @Getter private final AtomicLong coalesced = new AtomicLong();
+  @Getter private final AtomicLong written = new AtomicLong();
+  @Getter private final AtomicLong failed = new AtomicLong();
+  // Time between the submission of the oldest change of the last batch and its write
+  @Getter private final AtomicLong lagMillis = new AtomicLong();
+
+  enum OperationType { INSERT, UPSERT, DELETE, FLUSH }
+
+  @Inject
+  public TimescaleChangeDataSink(TimeScaleDBService timeScaleDBService, ChangeDataCaptureServiceConfig config) {
+    this(timeScaleDBService, config.getTimescaleSinkConfig());
+  }
+
+  @VisibleForTesting
+  TimescaleChangeDataSink(TimeScaleDBService timeScaleDBService, ChangeDataSinkConfig config) {
+    this.timeScaleDBService = timeScaleDBService;
+    this.config = config;
+    for (int i = 0; i < Math.max(1, config.getPartitions()); i++) {
+      partitions.add(new LinkedBlockingQueue<>(Math.max(1, config.getQueueCapacity())));
+    }
+  }
+
+  public boolean isEnabled() {
+    return config.isEnabled();
+  }
+
+  public long getPending() {
+    return pending.get();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (!isEnabled() || writers != null) {
+      return;
+    }
+    writers = Executors.newFixedThreadPool(
+        partitions.size(), new ThreadFactoryBuilder().setNameFormat("timescale-change-writer-%d").build());
+    partitions.forEach(partition -> writers.submit(() -> write(partition)));
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (writers != null) {
+      writers.shutdownNow();
+      writers = null;
+    }
+  }
+
+  /**
+   * INSERT ... ON CONFLICT (primary keys) DO UPDATE SET the given columns.
+   */
+  public CompletableFuture<Boolean> upsert(
+      String tableName, String entityId, List<String> primaryKeys, Map<String, String> columnValueMapping) {
+    return submit(new SinkOperation(OperationType.UPSERT, tableName, entityId, primaryKeys, columnValueMapping));
+  }
+
+  public CompletableFuture<Boolean> insert(String tableName, String entityId, Map<String, String> columnValueMapping) {
+    return submit(new SinkOperation(OperationType.INSERT, tableName, entityId, null, columnValueMapping));
+  }
+
+  public CompletableFuture<Boolean> delete(
+      String tableName, String entityId, Map<String, String> columnValueMappingForCondition) {
+    return submit(
+        new SinkOperation(OperationType.DELETE, tableName, entityId, null, columnValueMappingForCondition));
+  }
+
+  /**
+   * Completes once the changes submitted before are written or failed. A marker is queued behind them in every
+   * partition, the changes keep being written in batches.
+   */
+  public CompletableFuture<Void> flush() {
+    if (pending.get() == 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    List<CompletableFuture<Boolean>> markers = new ArrayList<>();
+    for (BlockingQueue<SinkOperation> partition : partitions) {
+      SinkOperation marker = SinkOperation.flushMarker();
+      enqueue(partition, marker);
+      markers.add(marker.future);
+    }
+    return CompletableFuture.allOf(markers.toArray(new CompletableFuture[0]));
+  }
+
+  private CompletableFuture<Boolean> submit(SinkOperation operation) {
+    if (operation.columns.isEmpty()) {
+      return CompletableFuture.completedFuture(false);
+    }
+    received.incrementAndGet();
+    enqueue(partitions.get(Math.floorMod(operation.entityKey.hashCode(), partitions.size())), operation);
+    return operation.future;
+  }
+
+  private void enqueue(BlockingQueue<SinkOperation> partition, SinkOperation operation) {
+    if (writers == null) {
+      start();
+    }
+    pending.incrementAndGet();
+    try {
+      partition.put(operation);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pending.decrementAndGet();
+      operation.complete(false);
+    }
+  }
+
+  private void write(BlockingQueue<SinkOperation> partition) {
+    while (!Thread.currentThread().isInterrupted()) {
+      List<SinkOperation> operations = new ArrayList<>();
+      try {
+        SinkOperation first = partition.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        operations.add(first);
+        partition.drainTo(operations, Math.max(1, config.getBatchSize()) - 1);
+        write(operations);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.error("Failed to write {} changes to TimeScaleDB", operations.size(), e);
+        operations.forEach(operation -> operation.complete(false));
+      } finally {
+        pending.addAndGet(-operations.size());
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void write(List<SinkOperation> operations) {
+    // The flush markers are completed after the whole batch, which holds every change queued before them
+    List<SinkOperation> markers = new ArrayList<>();
+    List<SinkOperation> changes = new ArrayList<>();
+    operations.forEach(operation -> (operation.type == OperationType.FLUSH ? markers : changes).add(operation));
+    try {
+      writeChanges(changes);
+    } finally {
+      markers.forEach(marker -> marker.complete(true));
+    }
+  }
+
+  private void writeChanges(List<SinkOperation> operations) {
+    if (operations.isEmpty()) {
+      return;
+    }
+    long oldestSubmission = operations.get(0).submittedAt;
+    List<List<SinkOperation>> rounds = coalesce(operations);
+    if (!timeScaleDBService.isValid()) {
+      log.warn("TimeScale Down");
+      operations.forEach(operation -> operation.complete(false));
+      failed.addAndGet(operations.size());
+      return;
+    }
+    for (List<SinkOperation> round : rounds) {
+      round.stream()
+          .collect(Collectors.groupingBy(operation -> operation.sql, LinkedHashMap::new, Collectors.toList()))
+          .forEach(this::executeBatch);
+    }
+    lagMillis.set(System.currentTimeMillis() - oldestSubmission);
+  }
+
+  /**
+   * Merges the upserts of a row which follow each other without an insert or delete of the entity in between, the
+   * later values winning. The result is split in rounds holding at most one change per entity, a round being written
+   * after the previous one to keep the order of the changes of an entity.
+   */
+  @VisibleForTesting
+  List<List<SinkOperation>> coalesce(List<SinkOperation> operations) {
+    List<SinkOperation> merged = new ArrayList<>();
+    Map<String, Map<String, SinkOperation>> upsertsByEntity = new HashMap<>();
+    for (SinkOperation operation : operations) {
+      if (operation.type != OperationType.UPSERT) {
+        upsertsByEntity.remove(operation.entityKey);
+        merged.add(operation);
+        continue;
+      }
+      Map<String, SinkOperation> upserts = upsertsByEntity.computeIfAbsent(operation.entityKey, key -> new HashMap<>());
+      SinkOperation previous = upserts.get(operation.rowKey);
+      if (previous != null && previous.merge(operation)) {
+        coalesced.incrementAndGet();
+        continue;
+      }
+      upserts.put(operation.rowKey, operation);
+      merged.add(operation);
+    }
+
+    List<List<SinkOperation>> rounds = new ArrayList<>();
+    Map<String, Integer> roundByEntity = new HashMap<>();
+    for (SinkOperation operation : merged) {
+      int round = roundByEntity.merge(operation.entityKey, 1, Integer::sum) - 1;
+      if (round == rounds.size()) {
+        rounds.add(new ArrayList<>());
+      }
+      rounds.get(round).add(operation);
+    }
+    return rounds;
+  }
+
+  private void executeBatch(String sql, List<SinkOperation> operations) {
+    try (Connection dbConnection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(sql)) {
+      for (SinkOperation operation : operations) {
+        operation.bind(statement);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+      written.addAndGet(operations.size());
+      operations.forEach(operation -> operation.complete(true));
+      return;
+    } catch (SQLException e) {
+      log.warn("Failed to write a batch of {} changes, writing them one by one, Query = {}", operations.size(), sql, e);
+    }
+    operations.forEach(this::execute);
+  }
+
+  private void execute(SinkOperation operation) {
+    for (int retryCount = 0; retryCount < MAX_RETRY_COUNT; retryCount++) {
+      try (Connection dbConnection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = dbConnection.prepareStatement(operation.sql)) {
+        operation.bind(statement);
+        statement.execute();
+        written.incrementAndGet();
+        operation.complete(true);
+        return;
+      } catch (SQLException e) {
+        log.error("Failed to save/update/delete data Query = {}, values = {}, retryCount=[{}], Exception: ",
+            operation.sql, operation.columns.values(), retryCount, e);
+      }
+    }
+    failed.incrementAndGet();
+    operation.complete(false);
+  }
+
+  @VisibleForTesting
+  static class SinkOperation {
+    private final OperationType type;
+    private final String tableName;
+    private final List<String> primaryKeys;
+    // Columns without null or blank values, in name order so that the changes of a table share statements
+    private final TreeMap<String, String> columns = new TreeMap<>();
+    private final String entityKey;
+    private final String rowKey;
+    private final long submittedAt = System.currentTimeMillis();
+    private final List<CompletableFuture<Boolean>> mergedFutures = new ArrayList<>();
+    private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+    private String sql;
+
+    SinkOperation(OperationType type, String tableName, String entityId, List<String> primaryKeys,
+        Map<String, String> columnValueMapping) {
+      this.type = type;
+      this.tableName = tableName;
+      this.primaryKeys = primaryKeys;
+      columnValueMapping.forEach((column, value) -> {
+        if (!isEmpty(value)) {
+          columns.put(column, value);
+        }
+      });
+      this.entityKey = tableName + '/' + entityId;
+      this.rowKey = primaryKeys == null
+          ? null
+          : primaryKeys.stream().map(key -> String.valueOf(columns.get(key))).collect(Collectors.joining("/"));
+      this.sql = buildSql();
+    }
+
+    static SinkOperation flushMarker() {
+      return new SinkOperation(OperationType.FLUSH, null, null, null, Collections.emptyMap());
+    }
+
+    /**
+     * The later upsert of the row overwrites the columns it sets.
+     */
+    boolean merge(SinkOperation later) {
+      if (!primaryKeys.equals(later.primaryKeys)) {
+        return false;
+      }
+      columns.putAll(later.columns);
+      sql = buildSql();
+      mergedFutures.add(later.future);
+      return true;
+    }
+
+    void bind(PreparedStatement statement) throws SQLException {
+      int index = 1;
+      for (String value : columns.values()) {
+        // Untyped like the quoted literals of the hand built statements, the server casts them to the column types
+        statement.setObject(index++, value, Types.OTHER);
+      }
+    }
+
+    void complete(boolean success) {
+      future.complete(success);
+      mergedFutures.forEach(mergedFuture -> mergedFuture.complete(success));
+    }
+
+    @VisibleForTesting
+    String getSql() {
+      return sql;
+    }
+
+    private String buildSql() {
+      String columnNames = String.join(",", columns.keySet());
+      String parameters = columns.keySet().stream().map(column -> "?").collect(Collectors.joining(","));
+      switch (type) {
+        case INSERT:
+          return String.format("INSERT INTO %s (%s) VALUES(%s)", tableName, columnNames, parameters);
+        case UPSERT:
+          return String.format("INSERT INTO %s (%s) VALUES(%s) ON CONFLICT (%s) DO UPDATE SET %s", tableName,
+              columnNames, parameters, String.join(",", primaryKeys),
+              columns.keySet().stream().map(column -> column + "=EXCLUDED." + column).collect(Collectors.joining(",")));
+        case DELETE:
+          return String.format("DELETE FROM %s WHERE %s", tableName,
+              columns.keySet().stream().map(column -> column + "=?").collect(Collectors.joining(" AND ")));
+        case FLUSH:
+          return null;
+        default:
+          throw new IllegalStateException("Unknown operation " + type);
+      }
+    }
+  }
+}
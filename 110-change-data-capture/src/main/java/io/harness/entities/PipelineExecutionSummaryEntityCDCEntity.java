@@ -14,6 +14,7 @@ import io.harness.changehandlers.ApprovalStageExecutionDataHandler;
 import io.harness.changehandlers.PlanExecutionSummaryCIStageChangeDataHandler;
 import io.harness.changehandlers.PlanExecutionSummaryCdChangeDataHandler;
 import io.harness.changehandlers.PlanExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew;
+import io.harness.changehandlers.PlanExecutionSummaryCdHourlyRollupHandler;
 import io.harness.changehandlers.PlanExecutionSummaryChangeDataHandler;
 import io.harness.changehandlers.PlanExecutionSummaryChangeDataHandlerAllStages;
 import io.harness.changehandlers.RuntimeInputsInfoCDChangeDataHandler;
@@ -33,6 +34,7 @@ public class PipelineExecutionSummaryEntityCDCEntity implements CDCEntity<Pipeli
   @Inject private TagsInfoNGCDChangeDataHandler tagsInfoNGCDChangeDataHandler;
   @Inject private RuntimeInputsInfoCDChangeDataHandler runtimeInputsInfoCDChangeDataHandler;
   @Inject private ApprovalStageExecutionDataHandler approvalStageExecutionDataHandler;
+  @Inject private PlanExecutionSummaryCdHourlyRollupHandler planExecutionSummaryCdHourlyRollupHandler;
   @Inject
   private PlanExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew
       planExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew;
@@ -55,6 +57,8 @@ public class PipelineExecutionSummaryEntityCDCEntity implements CDCEntity<Pipeli
       return runtimeInputsInfoCDChangeDataHandler;
     } else if (handlerClass.contentEquals("ApprovalStage")) {
       return approvalStageExecutionDataHandler;
+    } else if (handlerClass.contentEquals("PipelineExecutionSummaryEntityCDHourly")) {
+      return planExecutionSummaryCdHourlyRollupHandler;
     }
     return null;
   }
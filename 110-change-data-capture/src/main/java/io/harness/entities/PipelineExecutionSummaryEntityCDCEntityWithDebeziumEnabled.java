@@ -15,6 +15,7 @@ import io.harness.changehandlers.ApprovalStageExecutionDataHandler;
 import io.harness.changehandlers.PlanExecutionSummaryCIStageChangeDataHandler;
 import io.harness.changehandlers.PlanExecutionSummaryCdChangeDataHandler;
 import io.harness.changehandlers.PlanExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew;
+import io.harness.changehandlers.PlanExecutionSummaryCdHourlyRollupHandler;
 import io.harness.changehandlers.PlanExecutionSummaryChangeDataHandler;
 import io.harness.changehandlers.PlanExecutionSummaryChangeDataHandlerAllStages;
 import io.harness.changehandlers.RuntimeInputsInfoCDChangeDataHandler;
@@ -35,6 +36,7 @@ public class PipelineExecutionSummaryEntityCDCEntityWithDebeziumEnabled
   @Inject private TagsInfoNGCDChangeDataHandler tagsInfoNGCDChangeDataHandler;
   @Inject private RuntimeInputsInfoCDChangeDataHandler runtimeInputsInfoCDChangeDataHandler;
   @Inject private ApprovalStageExecutionDataHandler approvalStageExecutionDataHandler;
+  @Inject private PlanExecutionSummaryCdHourlyRollupHandler planExecutionSummaryCdHourlyRollupHandler;
   @Inject
   private PlanExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew
       planExecutionSummaryCdChangeServiceInfraChangeDataHandlerNew;
@@ -71,6 +73,8 @@ public class PipelineExecutionSummaryEntityCDCEntityWithDebeziumEnabled
       return approvalStageExecutionDataHandler;
     } else if (handlerClass.contentEquals("RuntimeInputsInfo")) {
       return runtimeInputsInfoCDChangeDataHandler;
+    } else if (handlerClass.contentEquals("PipelineExecutionSummaryEntityCDHourly")) {
+      return planExecutionSummaryCdHourlyRollupHandler;
     }
 
     return null;
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import org.joor.Reflect;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PlanExecutionSummaryCdHourlyRollupTest extends CategoryTest {
+  private static final long HOUR = 1619568000000L;
+
+  private TimeScaleDBService timeScaleDBService;
+  private TimescaleChangeDataSink changeDataSink;
+  private Connection connection;
+  private PreparedStatement statement;
+  private PreparedStatement selectStatement;
+  private ResultSet resultSet;
+  private PlanExecutionSummaryCdHourlyRollup hourlyRollup;
+
+  @Before
+  public void setup() throws SQLException {
+    timeScaleDBService = mock(TimeScaleDBService.class);
+    changeDataSink = mock(TimescaleChangeDataSink.class);
+    connection = mock(Connection.class);
+    statement = mock(PreparedStatement.class);
+    selectStatement = mock(PreparedStatement.class);
+    resultSet = mock(ResultSet.class);
+    when(timeScaleDBService.isValid()).thenReturn(true);
+    when(timeScaleDBService.getDBConnection()).thenReturn(connection);
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    when(connection.prepareStatement(startsWith("SELECT"))).thenReturn(selectStatement);
+    when(selectStatement.executeQuery()).thenReturn(resultSet);
+    when(changeDataSink.flush()).thenReturn(CompletableFuture.completedFuture(null));
+    hourlyRollup = new PlanExecutionSummaryCdHourlyRollup();
+    Reflect.on(hourlyRollup).set("timeScaleDBService", timeScaleDBService);
+    Reflect.on(hourlyRollup).set("changeDataSink", changeDataSink);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldMarkTheHourOfTheExecution() throws SQLException {
+    hourlyRollup.markChanged("acc", "org", "pro", HOUR + 1000);
+    hourlyRollup.markChanged("acc", "org", "pro", HOUR + 3599999);
+    hourlyRollup.markChanged("acc", "org", "pro", HOUR + 3600000);
+
+    verify(statement, times(2)).execute();
+    verify(statement).setLong(4, HOUR);
+    verify(statement).setLong(4, HOUR + 3600000);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldMarkTheHourOfTheDeletedExecutionFromTheStoredExecution() throws SQLException {
+    hourlyRollup.markDeleted("executionId");
+
+    verify(connection).prepareStatement(startsWith("INSERT INTO pipeline_execution_summary_cd_hourly_changes"));
+    verify(statement).setString(2, "executionId");
+    verify(statement).execute();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldCountTheMarkedHoursAgainAfterTheSinkFlushes() throws SQLException {
+    givenMarkedHour(HOUR, 5000L);
+
+    hourlyRollup.refresh();
+
+    verify(changeDataSink).flush();
+    verify(connection).prepareStatement(startsWith("DELETE FROM pipeline_execution_summary_cd_hourly WHERE"));
+    verify(connection).prepareStatement(startsWith("DELETE FROM service_infra_info_hourly WHERE"));
+    verify(statement, times(5)).execute();
+    verify(statement, times(2)).setLong(5, HOUR);
+    verify(statement, times(2)).setLong(6, HOUR + 3600000);
+    verify(statement).setLong(5, 5000L);
+    verify(connection).commit();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldKeepTheMarkWhenTheHourCouldNotBeCounted() throws SQLException {
+    when(resultSet.next()).thenReturn(false);
+    hourlyRollup.refresh();
+    verify(changeDataSink, never()).flush();
+
+    givenMarkedHour(HOUR, 5000L);
+    when(statement.execute()).thenThrow(new SQLException("connection reset"));
+    hourlyRollup.refresh();
+
+    verify(connection, never()).commit();
+    verify(connection).rollback();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldCountTheRecentHoursAgainPerAccount() throws SQLException {
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getString(1)).thenReturn("acc1", "acc2");
+
+    hourlyRollup.reconcile();
+
+    verify(changeDataSink).flush();
+    verify(connection, times(2))
+        .prepareStatement("DELETE FROM pipeline_execution_summary_cd_hourly WHERE accountid=? AND bucket>=?");
+    verify(connection, times(2))
+        .prepareStatement("DELETE FROM service_infra_info_hourly WHERE accountid=? AND bucket>=?");
+    verify(statement, times(4)).setString(1, "acc1");
+    verify(statement, times(4)).setString(1, "acc2");
+    verify(statement, times(8)).execute();
+    verify(connection, times(2)).commit();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReconcileTheOtherAccountsWhenAnAccountFails() throws SQLException {
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getString(1)).thenReturn("acc1", "acc2");
+    when(statement.execute()).thenThrow(new SQLException("connection reset")).thenReturn(true);
+
+    hourlyRollup.reconcile();
+
+    verify(connection).rollback();
+    verify(statement, times(4)).setString(1, "acc2");
+    verify(connection).commit();
+  }
+
+  private void givenMarkedHour(long bucket, long changedAt) throws SQLException {
+    reset(resultSet);
+    when(resultSet.next()).thenReturn(true, false);
+    when(resultSet.getString(1)).thenReturn("acc");
+    when(resultSet.getString(2)).thenReturn("org");
+    when(resultSet.getString(3)).thenReturn("pro");
+    when(resultSet.getLong(4)).thenReturn(bucket);
+    when(resultSet.getLong(5)).thenReturn(changedAt);
+  }
+}
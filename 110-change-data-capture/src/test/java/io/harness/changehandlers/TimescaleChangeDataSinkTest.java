@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.ChangeDataSinkConfig;
+import io.harness.category.element.UnitTests;
+import io.harness.changehandlers.TimescaleChangeDataSink.OperationType;
+import io.harness.changehandlers.TimescaleChangeDataSink.SinkOperation;
+import io.harness.rule.Owner;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.google.common.collect.ImmutableMap;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class TimescaleChangeDataSinkTest extends CategoryTest {
+  private static final String UPSERT_SQL =
+      "INSERT INTO services (id,name,version) VALUES(?,?,?) ON CONFLICT (id) DO UPDATE SET id=EXCLUDED.id,"
+      + "name=EXCLUDED.name,version=EXCLUDED.version";
+
+  private TimeScaleDBService timeScaleDBService;
+  private PreparedStatement statement;
+  private Connection connection;
+  private TimescaleChangeDataSink sink;
+
+  @Before
+  public void setup() throws SQLException {
+    timeScaleDBService = mock(TimeScaleDBService.class);
+    connection = mock(Connection.class);
+    statement = mock(PreparedStatement.class);
+    when(timeScaleDBService.isValid()).thenReturn(true);
+    when(timeScaleDBService.getDBConnection()).thenReturn(connection);
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    sink = new TimescaleChangeDataSink(timeScaleDBService, ChangeDataSinkConfig.builder().enabled(true).build());
+  }
+
+  private SinkOperation upsert(String id, Map<String, String> columns) {
+    Map<String, String> columnValueMapping = new HashMap<>(columns);
+    columnValueMapping.put("id", id);
+    return new SinkOperation(OperationType.UPSERT, "services", id, singletonList("id"), columnValueMapping);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldBuildParameterizedStatements() {
+    assertThat(upsert("s1", ImmutableMap.of("name", "svc", "version", "1")).getSql()).isEqualTo(UPSERT_SQL);
+    assertThat(new SinkOperation(OperationType.DELETE, "services", "s1", null, ImmutableMap.of("id", "s1")).getSql())
+        .isEqualTo("DELETE FROM services WHERE id=?");
+
+    Map<String, String> columns = new HashMap<>();
+    columns.put("id", "s1");
+    columns.put("name", "");
+    columns.put("version", null);
+    assertThat(new SinkOperation(OperationType.INSERT, "services", "s1", null, columns).getSql())
+        .isEqualTo("INSERT INTO services (id) VALUES(?)");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldCoalesceUpsertsOfTheSameRow() throws SQLException {
+    SinkOperation first = upsert("s1", ImmutableMap.of("name", "old", "version", "1"));
+    SinkOperation second = upsert("s1", ImmutableMap.of("name", "new"));
+
+    sink.write(asList(first, second));
+
+    verify(connection).prepareStatement(UPSERT_SQL);
+    verify(statement, times(1)).addBatch();
+    verify(statement).setObject(1, "s1", Types.OTHER);
+    verify(statement).setObject(2, "new", Types.OTHER);
+    verify(statement).setObject(3, "1", Types.OTHER);
+    assertThat(sink.getCoalesced().get()).isEqualTo(1);
+    assertThat(sink.getWritten().get()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldBatchChangesOfDifferentEntities() throws SQLException {
+    sink.write(asList(upsert("s1", ImmutableMap.of("name", "a", "version", "1")),
+        upsert("s2", ImmutableMap.of("name", "b", "version", "1"))));
+
+    verify(connection, times(1)).prepareStatement(UPSERT_SQL);
+    verify(statement, times(2)).addBatch();
+    verify(statement, times(1)).executeBatch();
+    assertThat(sink.getWritten().get()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldKeepTheOrderAroundDeletes() {
+    SinkOperation delete = new SinkOperation(OperationType.DELETE, "services", "s1", null, ImmutableMap.of("id", "s1"));
+    List<List<SinkOperation>> rounds = sink.coalesce(asList(upsert("s1", ImmutableMap.of("name", "a")), delete,
+        upsert("s1", ImmutableMap.of("name", "b")), upsert("s2", ImmutableMap.of("name", "c"))));
+
+    assertThat(rounds).hasSize(3);
+    assertThat(rounds.get(0)).hasSize(2);
+    assertThat(rounds.get(1)).containsExactly(delete);
+    assertThat(rounds.get(2)).hasSize(1);
+    assertThat(sink.getCoalesced().get()).isZero();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldWriteOneByOneWhenTheBatchFails() throws SQLException {
+    when(statement.executeBatch()).thenThrow(new SQLException("duplicate key"));
+    when(statement.execute()).thenThrow(new SQLException("duplicate key")).thenReturn(true);
+    SinkOperation first = new SinkOperation(OperationType.INSERT, "services", "s1", null, ImmutableMap.of("id", "s1"));
+    SinkOperation second = new SinkOperation(OperationType.INSERT, "services", "s2", null, ImmutableMap.of("id", "s2"));
+
+    sink.write(asList(first, second));
+
+    verify(statement, times(3)).execute();
+    verify(statement, times(3)).setObject(eq(1), eq("s1"), eq(Types.OTHER));
+    assertThat(sink.getWritten().get()).isEqualTo(2);
+    assertThat(sink.getFailed().get()).isZero();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldCompleteTheSubmittedChanges() {
+    sink.start();
+    try {
+      assertThat(sink.upsert("services", "s1", singletonList("id"), ImmutableMap.of("id", "s1", "name", "a")).join())
+          .isTrue();
+      verify(connection).prepareStatement("INSERT INTO services (id,name) VALUES(?,?) ON CONFLICT (id) DO UPDATE SET "
+          + "id=EXCLUDED.id,name=EXCLUDED.name");
+    } finally {
+      sink.stop();
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldFlushTheChangesSubmittedBefore() throws Exception {
+    assertThat(sink.flush().isDone()).isTrue();
+
+    sink.start();
+    try {
+      CompletableFuture<Boolean> first =
+          sink.upsert("services", "s1", singletonList("id"), ImmutableMap.of("id", "s1"));
+      CompletableFuture<Boolean> second = sink.delete("services", "s2", ImmutableMap.of("id", "s2"));
+
+      sink.flush().get(10, TimeUnit.SECONDS);
+      assertThat(first.isDone()).isTrue();
+      assertThat(second.isDone()).isTrue();
+    } finally {
+      sink.stop();
+    }
+  }
+}
@@ -259,6 +259,7 @@ import io.harness.threading.ThreadPool;
 import io.harness.timescale.CDRetentionHandlerNG;
 import io.harness.token.remote.TokenClient;
 import io.harness.tracing.MongoRedisTracer;
+import io.harness.tracing.profiler.QueryProfileResource;
 import io.harness.waiter.NotifierScheduledExecutorService;
 import io.harness.waiter.NotifyEvent;
 import io.harness.waiter.NotifyQueuePublisherRegister;
@@ -988,6 +989,7 @@ public class NextGenApplication extends Application<NextGenConfiguration> {
         }
       }
       environment.jersey().register(injector.getInstance(VersionInfoResource.class));
+      environment.jersey().register(injector.getInstance(QueryProfileResource.class));
       environment.jersey().property(
           ServerProperties.RESOURCE_VALIDATION_DISABLE, appConfig.isDisableResourceValidation());
     } catch (Exception e) {
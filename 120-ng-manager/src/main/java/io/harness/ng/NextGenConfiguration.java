@@ -267,6 +267,7 @@ public class NextGenConfiguration extends Configuration {
   @JsonProperty("timescaledb") @ConfigSecret private TimeScaleDBConfig timeScaleDBConfig;
   @JsonProperty("enableDashboardTimescale") private Boolean enableDashboardTimescale;
   @JsonProperty("enablePaginatedQueryOnTimescale") private Boolean enablePaginatedQueryOnTimescale;
+  @JsonProperty("enableCdDashboardRollups") private Boolean enableCdDashboardRollups;
   @JsonProperty("distributedLockImplementation") private DistributedLockImplementation distributedLockImplementation;
   @JsonProperty("exportMetricsToStackDriver") private boolean exportMetricsToStackDriver;
   @JsonProperty("signupNotificationConfiguration")
@@ -56,6 +56,9 @@ import io.harness.annotations.dev.ProductModule;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.RedisAbstractConsumer;
+import io.harness.eventsframework.impl.redis.RedisConsumerRuntime;
+import io.harness.eventsframework.impl.redis.RedisConsumerRuntimeConfig;
 import io.harness.eventsframework.impl.redis.RedisTraceConsumer;
 import io.harness.queue.QueueController;
 import io.harness.security.SecurityContextBuilder;
@@ -83,6 +86,7 @@ public class EntityCRUDStreamConsumer extends RedisTraceConsumer {
   private final Map<String, MessageProcessor> processorMap;
   private final List<MessageListener> messageListenersList;
   private final QueueController queueController;
+  private RedisConsumerRuntime consumerRuntime;
 
   @Inject
   public EntityCRUDStreamConsumer(@Named(ENTITY_CRUD) Consumer redisConsumer,
@@ -173,6 +177,11 @@ public class EntityCRUDStreamConsumer extends RedisTraceConsumer {
     log.info("Started the consumer for entity crud stream");
     try {
       SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId()));
+      if (redisConsumer instanceof RedisAbstractConsumer) {
+        consumerRuntime = new RedisConsumerRuntime((RedisAbstractConsumer) redisConsumer, this::handleMessage,
+            RedisConsumerRuntimeConfig.builder().build(),
+            () -> SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId())));
+      }
       while (!Thread.currentThread().isInterrupted()) {
         if (queueController.isNotPrimary()) {
           log.info("Entity crud consumer is not running on primary deployment, will try again after some time...");
@@ -187,10 +196,22 @@ public class EntityCRUDStreamConsumer extends RedisTraceConsumer {
     } catch (Exception ex) {
       log.error("Entity crud stream consumer unexpectedly stopped", ex);
     } finally {
+      shutdownConsumerRuntime();
       SecurityContextBuilder.unsetCompleteContext();
     }
   }
 
+  private void shutdownConsumerRuntime() {
+    if (consumerRuntime == null) {
+      return;
+    }
+    try {
+      consumerRuntime.shutdown();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private void readEventsFrameworkMessages() throws InterruptedException {
     try {
       pollAndProcessMessages();
@@ -200,7 +221,11 @@ public class EntityCRUDStreamConsumer extends RedisTraceConsumer {
     }
   }
 
-  private void pollAndProcessMessages() {
+  private void pollAndProcessMessages() throws InterruptedException {
+    if (consumerRuntime != null) {
+      consumerRuntime.readAndDispatch(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+      return;
+    }
     List<Message> messages;
     String messageId;
     boolean messageProcessed;
@@ -20,4 +20,6 @@ import lombok.Value;
 public class TimeAndStatusDeployment {
   private List<Long> time;
   private List<String> status;
+  // Number of executions of each time and status, one each when null
+  private List<Long> count;
 }
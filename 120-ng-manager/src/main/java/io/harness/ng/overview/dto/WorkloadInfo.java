@@ -21,5 +21,7 @@ public class WorkloadInfo {
   List<Pair<Long, Long>> timeInterval;
   List<String> deploymentTypeList;
   List<String> pipelineExecutionIdList;
+  // Deployments of each row when the rows are counted from the hourly rollups, one per row otherwise
+  List<Long> count;
   Map<String, String> uniqueWorkloadNameAndId;
 }
@@ -214,6 +214,8 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
   private String EMPTY_ARTIFACT = "";
   private String CUSTOM_DEPLOYMENT = "CustomDeployment";
   private String tableNameServiceAndInfra = "service_infra_info";
+  private String tableNameCDHourly = "pipeline_execution_summary_cd_hourly";
+  private String tableNameServiceAndInfraHourly = "service_infra_info_hourly";
   private static final String PIPELINE_EXECUTION_SUMMARY_CD_ID = "pipeline_execution_summary_cd_id";
   private static final String EXECUTION_FAILURE_DETAILS = "execution_failure_details";
   public static List<String> activeStatusList = Arrays.asList(ExecutionStatus.RUNNING.name(),
@@ -713,15 +715,34 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
   public HealthDeploymentDetails healthDeploymentDashboardHelper(String accountId, String orgId, String projectId,
       long startInterval, long endInterval, long previousStartInterval) {
-    String query = queryBuilderSelectStatusTime(accountId, orgId, projectId, previousStartInterval, endInterval);
+    List<TimeAndStatusDeployment> timeAndStatusDeployments = new ArrayList<>();
+    long production = 0;
+    long nonProduction = 0;
+
+    // The hours before the rollup end are counted from the hourly execution counts, the rest from the executions.
+    long rollupEndInterval =
+        getHourlyRollupEndInterval(accountId, orgId, projectId, startInterval, endInterval, previousStartInterval);
+    if (rollupEndInterval > previousStartInterval) {
+      timeAndStatusDeployments.add(queryCalculatorRollupTimeAndStatus(queryBuilderSelectRollupStatusTime(
+          accountId, orgId, projectId, previousStartInterval, rollupEndInterval)));
+      if (rollupEndInterval > startInterval) {
+        Pair<Long, Long> rollupEnvType = queryCalculatorRollupEnvType(
+            queryBuilderRollupEnvironmentType(accountId, orgId, projectId, startInterval, rollupEndInterval));
+        production += rollupEnvType.getLeft();
+        nonProduction += rollupEnvType.getRight();
+      }
+    }
 
-    List<Long> time = new ArrayList<>();
-    List<String> status = new ArrayList<>();
-    List<String> envType = new ArrayList<>();
+    if (rollupEndInterval < endInterval) {
+      String query = queryBuilderSelectStatusTime(accountId, orgId, projectId, rollupEndInterval, endInterval);
+      timeAndStatusDeployments.add(queryCalculatorTimeAndStatus(query));
 
-    TimeAndStatusDeployment timeAndStatusDeployment = queryCalculatorTimeAndStatus(query);
-    time = timeAndStatusDeployment.getTime();
-    status = timeAndStatusDeployment.getStatus();
+      String queryEnvironmentType = queryBuilderEnvironmentType(
+          accountId, orgId, projectId, Math.max(startInterval, rollupEndInterval), endInterval);
+      List<String> envType = queryCalculatorEnvType(queryEnvironmentType);
+      production += Collections.frequency(envType, EnvironmentType.Production.name());
+      nonProduction += Collections.frequency(envType, EnvironmentType.PreProduction.name());
+    }
 
     long total = 0;
     long currentSuccess = 0;
@@ -749,40 +770,40 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       startDateCopy = startDateCopy + timeUnitPerDay;
     }
 
-    for (int i = 0; i < time.size(); i++) {
-      long currentTimeEpoch = time.get(i);
-      if (currentTimeEpoch >= startInterval && currentTimeEpoch < endInterval) {
-        currentTimeEpoch = getStartingDateEpochValue(currentTimeEpoch, startInterval);
-        total++;
-        totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + 1);
-        if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-          currentSuccess++;
-          successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + 1);
-        } else if (activeStatusList.contains(status.get(i)) || pendingStatusList.contains(status.get(i))) {
-          currentActive++;
-          activeCountMap.put(currentTimeEpoch, activeCountMap.get(currentTimeEpoch) + 1);
-        } else {
-          currentFailed++;
-          failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + 1);
-        }
-      } else {
-        previousDeployment++;
-        if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-          previousSuccess++;
-        } else if (activeStatusList.contains(status.get(i)) || pendingStatusList.contains(status.get(i))) {
-          previousActive++;
+    for (TimeAndStatusDeployment timeAndStatusDeployment : timeAndStatusDeployments) {
+      List<Long> time = timeAndStatusDeployment.getTime();
+      List<String> status = timeAndStatusDeployment.getStatus();
+      List<Long> count = timeAndStatusDeployment.getCount();
+      for (int i = 0; i < time.size(); i++) {
+        long currentTimeEpoch = time.get(i);
+        long executions = count == null ? 1 : count.get(i);
+        if (currentTimeEpoch >= startInterval && currentTimeEpoch < endInterval) {
+          currentTimeEpoch = getStartingDateEpochValue(currentTimeEpoch, startInterval);
+          total += executions;
+          totalCountMap.put(currentTimeEpoch, totalCountMap.get(currentTimeEpoch) + (int) executions);
+          if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
+            currentSuccess += executions;
+            successCountMap.put(currentTimeEpoch, successCountMap.get(currentTimeEpoch) + (int) executions);
+          } else if (activeStatusList.contains(status.get(i)) || pendingStatusList.contains(status.get(i))) {
+            currentActive += executions;
+            activeCountMap.put(currentTimeEpoch, activeCountMap.get(currentTimeEpoch) + (int) executions);
+          } else {
+            currentFailed += executions;
+            failedCountMap.put(currentTimeEpoch, failedCountMap.get(currentTimeEpoch) + (int) executions);
+          }
         } else {
-          previousFailed++;
+          previousDeployment += executions;
+          if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
+            previousSuccess += executions;
+          } else if (activeStatusList.contains(status.get(i)) || pendingStatusList.contains(status.get(i))) {
+            previousActive += executions;
+          } else {
+            previousFailed += executions;
+          }
         }
       }
     }
 
-    String queryEnvironmentType = queryBuilderEnvironmentType(accountId, orgId, projectId, startInterval, endInterval);
-    envType = queryCalculatorEnvType(queryEnvironmentType);
-
-    long production = Collections.frequency(envType, EnvironmentType.Production.name());
-    long nonProduction = Collections.frequency(envType, EnvironmentType.PreProduction.name());
-
     List<DeploymentDateAndCount> totalDateAndCount = new ArrayList<>();
     List<DeploymentDateAndCount> successDateAndCount = new ArrayList<>();
     List<DeploymentDateAndCount> failedDateAndCount = new ArrayList<>();
@@ -829,6 +850,106 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
         .build();
   }
 
+  /**
+   * End of the whole hours of the dashboard intervals which can be counted from pipeline_execution_summary_cd_hourly
+   * and service_infra_info_hourly, which hold the executions and the service deployments per project and hour of their
+   * start. The current hour, still changing, is counted from the executions. Returns the previous start interval when
+   * the hourly counts are not used.
+   */
+  public long getHourlyRollupEndInterval(String accountId, String orgId, String projectId, long startInterval,
+      long endInterval, long previousStartInterval) {
+    if (!Boolean.TRUE.equals(nextGenConfiguration.getEnableCdDashboardRollups()) || accountId == null || orgId == null
+        || projectId == null || startInterval % HOUR_IN_MS != 0 || previousStartInterval % HOUR_IN_MS != 0) {
+      return previousStartInterval;
+    }
+    long currentTime = getCurrentTime();
+    long rollupEndInterval = Math.min(endInterval - endInterval % HOUR_IN_MS, currentTime - currentTime % HOUR_IN_MS);
+    return Math.max(previousStartInterval, rollupEndInterval);
+  }
+
+  public String queryBuilderSelectRollupStatusTime(
+      String accountId, String orgId, String projectId, long startInterval, long endInterval) {
+    return String.format("select bucket,status,executions from %s where accountid='%s' and orgidentifier='%s' and "
+            + "projectidentifier='%s' and bucket>=%s and bucket<%s;",
+        tableNameCDHourly, accountId, orgId, projectId, startInterval, endInterval);
+  }
+
+  public String queryBuilderSelectRollupStatusTime(String accountId, String orgId, String projectId,
+      List<String> statusList, long startInterval, long endInterval) {
+    StringBuilder totalBuildSqlBuilder = new StringBuilder(String.format(
+        "select bucket,status,executions from %s where accountid='%s' and orgidentifier='%s' and projectidentifier='%s' "
+            + "and status in (",
+        tableNameCDHourly, accountId, orgId, projectId));
+    for (String status : statusList) {
+      totalBuildSqlBuilder.append(String.format("'%s',", status));
+    }
+    totalBuildSqlBuilder.deleteCharAt(totalBuildSqlBuilder.length() - 1);
+    totalBuildSqlBuilder.append(String.format(") and bucket>=%s and bucket<%s;", startInterval, endInterval));
+    return totalBuildSqlBuilder.toString();
+  }
+
+  public String queryBuilderRollupEnvironmentType(
+      String accountId, String orgId, String projectId, long startInterval, long endInterval) {
+    return String.format("select coalesce(sum(production),0) as production,coalesce(sum(non_production),0) as "
+            + "non_production from %s where accountid='%s' and orgidentifier='%s' and projectidentifier='%s' and "
+            + "bucket>=%s and bucket<%s;",
+        tableNameCDHourly, accountId, orgId, projectId, startInterval, endInterval);
+  }
+
+  public TimeAndStatusDeployment queryCalculatorRollupTimeAndStatus(String query) {
+    List<Long> time = new ArrayList<>();
+    List<String> status = new ArrayList<>();
+    List<Long> count = new ArrayList<>();
+
+    int totalTries = 0;
+    boolean successfulOperation = false;
+    while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
+      ResultSet resultSet = null;
+      time.clear();
+      status.clear();
+      count.clear();
+      try (Connection connection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = connection.prepareStatement(query)) {
+        resultSet = statement.executeQuery();
+        while (resultSet != null && resultSet.next()) {
+          time.add(resultSet.getLong("bucket"));
+          status.add(resultSet.getString("status"));
+          count.add(resultSet.getLong("executions"));
+        }
+        successfulOperation = true;
+      } catch (SQLException ex) {
+        totalTries++;
+      } finally {
+        DBUtils.close(resultSet);
+      }
+    }
+
+    return TimeAndStatusDeployment.builder().time(time).status(status).count(count).build();
+  }
+
+  /**
+   * @return the production and non production deployments
+   */
+  public Pair<Long, Long> queryCalculatorRollupEnvType(String query) {
+    int totalTries = 0;
+    while (totalTries <= MAX_RETRY_COUNT) {
+      ResultSet resultSet = null;
+      try (Connection connection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = connection.prepareStatement(query)) {
+        resultSet = statement.executeQuery();
+        if (resultSet != null && resultSet.next()) {
+          return Pair.of(resultSet.getLong("production"), resultSet.getLong("non_production"));
+        }
+        return Pair.of(0L, 0L);
+      } catch (SQLException ex) {
+        totalTries++;
+      } finally {
+        DBUtils.close(resultSet);
+      }
+    }
+    return Pair.of(0L, 0L);
+  }
+
   private io.harness.ng.overview.dto.ExecutionDeployment getExecutionDeployment(
       Long time, long total, long success, long failed) {
     return io.harness.ng.overview.dto.ExecutionDeployment.builder()
@@ -1887,7 +2008,7 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       String projectIdentifier, long startTime, long endTime, String serviceIdentifier, long bucketSizeInDays) {
     String serviceRef = IdentifierRefHelper.getRefFromIdentifierOrRef(
         accountIdentifier, orgIdentifier, projectIdentifier, serviceIdentifier);
-    String query = queryBuilderServiceDeployments(
+    List<String> queries = queryBuilderServiceDeploymentsWithRollups(
         accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, bucketSizeInDays, serviceRef);
 
     /**
@@ -1899,32 +2020,34 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     initializeResultMap(resultMap, startTimeCopy, endTime, bucketSizeInDays);
 
-    int totalTries = 0;
-    boolean successfulOperation = false;
-    while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
-      ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
-           PreparedStatement statement = connection.prepareStatement(query)) {
-        resultSet = statement.executeQuery();
-        while (resultSet != null && resultSet.next()) {
-          String status = resultSet.getString(NGServiceConstants.STATUS);
-          long bucketTime = Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY));
-          long numberOfRecords = resultSet.getLong(NGServiceConstants.NUMBER_OF_RECORDS);
-          io.harness.ng.overview.dto.ServiceDeployment serviceDeployment = resultMap.get(bucketTime);
-          io.harness.ng.overview.dto.DeploymentCount deployments = serviceDeployment.getDeployments();
-          deployments.setTotal(deployments.getTotal() + numberOfRecords);
-          if (CDDashboardServiceHelper.successStatusList.contains(status)) {
-            deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
-          } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
-            deployments.setFailure(deployments.getFailure() + numberOfRecords);
+    for (String query : queries) {
+      int totalTries = 0;
+      boolean successfulOperation = false;
+      while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
+        ResultSet resultSet = null;
+        try (Connection connection = timeScaleDBService.getDBConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+          resultSet = statement.executeQuery();
+          while (resultSet != null && resultSet.next()) {
+            String status = resultSet.getString(NGServiceConstants.STATUS);
+            long bucketTime = Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY));
+            long numberOfRecords = resultSet.getLong(NGServiceConstants.NUMBER_OF_RECORDS);
+            io.harness.ng.overview.dto.ServiceDeployment serviceDeployment = resultMap.get(bucketTime);
+            io.harness.ng.overview.dto.DeploymentCount deployments = serviceDeployment.getDeployments();
+            deployments.setTotal(deployments.getTotal() + numberOfRecords);
+            if (CDDashboardServiceHelper.successStatusList.contains(status)) {
+              deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
+            } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
+              deployments.setFailure(deployments.getFailure() + numberOfRecords);
+            }
           }
+          successfulOperation = true;
+        } catch (SQLException ex) {
+          log.error("%s after total tries = %s", ex, totalTries);
+          totalTries++;
+        } finally {
+          DBUtils.close(resultSet);
         }
-        successfulOperation = true;
-      } catch (SQLException ex) {
-        log.error("%s after total tries = %s", ex, totalTries);
-        totalTries++;
-      } finally {
-        DBUtils.close(resultSet);
       }
     }
     List<io.harness.ng.overview.dto.ServiceDeployment> serviceDeploymentList =
@@ -1937,7 +2060,7 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       String projectIdentifier, long startTime, long endTime, String serviceIdentifier, long bucketSizeInDays) {
     String serviceRef = IdentifierRefHelper.getRefFromIdentifierOrRef(
         accountIdentifier, orgIdentifier, projectIdentifier, serviceIdentifier);
-    String query = queryBuilderServiceDeployments(
+    List<String> queries = queryBuilderServiceDeploymentsWithRollups(
         accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, bucketSizeInDays, serviceRef);
 
     /**
@@ -1949,32 +2072,34 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
     initializeResultMapV2(resultMap, startTimeCopy, endTime, bucketSizeInDays);
 
-    int totalTries = 0;
-    boolean successfulOperation = false;
-    while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
-      ResultSet resultSet = null;
-      try (Connection connection = timeScaleDBService.getDBConnection();
-           PreparedStatement statement = connection.prepareStatement(query)) {
-        resultSet = statement.executeQuery();
-        while (resultSet != null && resultSet.next()) {
-          String status = resultSet.getString(NGServiceConstants.STATUS);
-          long bucketTime = Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY));
-          long numberOfRecords = resultSet.getLong(NGServiceConstants.NUMBER_OF_RECORDS);
-          ServiceDeploymentV2 serviceDeployment = resultMap.get(bucketTime);
-          DeploymentCount deployments = serviceDeployment.getDeployments();
-          deployments.setTotal(deployments.getTotal() + numberOfRecords);
-          if (CDDashboardServiceHelper.successStatusList.contains(status)) {
-            deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
-          } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
-            deployments.setFailure(deployments.getFailure() + numberOfRecords);
+    for (String query : queries) {
+      int totalTries = 0;
+      boolean successfulOperation = false;
+      while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
+        ResultSet resultSet = null;
+        try (Connection connection = timeScaleDBService.getDBConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+          resultSet = statement.executeQuery();
+          while (resultSet != null && resultSet.next()) {
+            String status = resultSet.getString(NGServiceConstants.STATUS);
+            long bucketTime = Long.parseLong(resultSet.getString(NGServiceConstants.TIME_ENTITY));
+            long numberOfRecords = resultSet.getLong(NGServiceConstants.NUMBER_OF_RECORDS);
+            ServiceDeploymentV2 serviceDeployment = resultMap.get(bucketTime);
+            DeploymentCount deployments = serviceDeployment.getDeployments();
+            deployments.setTotal(deployments.getTotal() + numberOfRecords);
+            if (CDDashboardServiceHelper.successStatusList.contains(status)) {
+              deployments.setSuccess(deployments.getSuccess() + numberOfRecords);
+            } else if (CDDashboardServiceHelper.failedStatusList.contains(status)) {
+              deployments.setFailure(deployments.getFailure() + numberOfRecords);
+            }
           }
+          successfulOperation = true;
+        } catch (SQLException ex) {
+          log.error("%s after total tries = %s", ex, totalTries);
+          totalTries++;
+        } finally {
+          DBUtils.close(resultSet);
         }
-        successfulOperation = true;
-      } catch (SQLException ex) {
-        log.error("%s after total tries = %s", ex, totalTries);
-        totalTries++;
-      } finally {
-        DBUtils.close(resultSet);
       }
     }
     List<ServiceDeploymentV2> serviceDeploymentList = resultMap.values().stream().collect(Collectors.toList());
@@ -2074,6 +2199,44 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
     return totalBuildSqlBuilder.toString();
   }
 
+  /**
+   * Queries of the service deployments per status and bucket. The whole hours before the rollup end are counted from
+   * service_infra_info_hourly, the rest from the service deployments.
+   */
+  public List<String> queryBuilderServiceDeploymentsWithRollups(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, long startTime, long endTime, long bucketSizeInDays, String serviceIdentifier) {
+    List<String> queries = new ArrayList<>();
+    long rollupEndTime =
+        getHourlyRollupEndInterval(accountIdentifier, orgIdentifier, projectIdentifier, startTime, endTime, startTime);
+    if (rollupEndTime > startTime) {
+      queries.add(queryBuilderRollupServiceDeployments(accountIdentifier, orgIdentifier, projectIdentifier, startTime,
+          rollupEndTime, bucketSizeInDays, serviceIdentifier));
+    }
+    if (rollupEndTime < endTime) {
+      queries.add(queryBuilderServiceDeployments(accountIdentifier, orgIdentifier, projectIdentifier, rollupEndTime,
+          endTime, bucketSizeInDays, serviceIdentifier));
+    }
+    return queries;
+  }
+
+  public String queryBuilderRollupServiceDeployments(String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, long startTime, long endTime, long bucketSizeInDays, String serviceIdentifier) {
+    StringBuilder totalBuildSqlBuilder = new StringBuilder();
+    totalBuildSqlBuilder.append(String.format(
+        "select service_status as status, harness_date_bin_ng_mgr(%s, service_bucket) as time_entity, "
+            + "sum(deployments) as numberOfRecords from %s where accountid='%s' and orgidentifier='%s' and "
+            + "projectidentifier='%s'",
+        bucketSizeInDays * DAY_IN_MS, tableNameServiceAndInfraHourly, accountIdentifier, orgIdentifier,
+        projectIdentifier));
+    if (serviceIdentifier != null) {
+      totalBuildSqlBuilder.append(String.format(" and service_id='%s'", serviceIdentifier));
+    }
+    totalBuildSqlBuilder.append(String.format(
+        " and service_bucket>=%s and service_bucket<%s and service_status != '' group by status, time_entity;",
+        startTime, endTime));
+    return totalBuildSqlBuilder.toString();
+  }
+
   private static void validateBucketSize(long numberOfDays, long bucketSizeInDays) throws Exception {
     if (numberOfDays < bucketSizeInDays) {
       throw new Exception("Bucket size should be less than the number of days in the selected time range");
@@ -2529,32 +2692,72 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
   public DashboardExecutionStatusInfo getDeploymentActiveFailedRunningInfo(
       String accountId, String orgId, String projectId, long days, long startInterval, long endInterval) {
     // failed
-    String queryFailed = queryBuilderStatusNew(
-        accountId, orgId, projectId, days, CDDashboardServiceHelper.failedStatusList, startInterval, endInterval);
-    String queryServiceNameTagIdFailed = queryBuilderSelectIdLimitTimeCdTableNew(
+    long failedStartInterval = getLatestExecutionsStartInterval(
         accountId, orgId, projectId, days, CDDashboardServiceHelper.failedStatusList, startInterval, endInterval);
+    String queryFailed = queryBuilderStatusNew(accountId, orgId, projectId, days,
+        CDDashboardServiceHelper.failedStatusList, failedStartInterval, endInterval);
+    String queryServiceNameTagIdFailed = queryBuilderSelectIdLimitTimeCdTableNew(accountId, orgId, projectId, days,
+        CDDashboardServiceHelper.failedStatusList, failedStartInterval, endInterval);
     queryServiceNameTagIdFailed = queryBuilderServiceTag(queryServiceNameTagIdFailed);
     List<ExecutionStatusInfo> failure = getDeploymentStatusInfo(queryFailed, queryServiceNameTagIdFailed);
 
     // active
+    long activeStartInterval = getLatestExecutionsStartInterval(
+        accountId, orgId, projectId, days, activeStatusList, startInterval, endInterval);
     String queryActive =
-        queryBuilderStatusNew(accountId, orgId, projectId, days, activeStatusList, startInterval, endInterval);
+        queryBuilderStatusNew(accountId, orgId, projectId, days, activeStatusList, activeStartInterval, endInterval);
     String queryServiceNameTagIdActive = queryBuilderSelectIdLimitTimeCdTableNew(
-        accountId, orgId, projectId, days, activeStatusList, startInterval, endInterval);
+        accountId, orgId, projectId, days, activeStatusList, activeStartInterval, endInterval);
     queryServiceNameTagIdActive = queryBuilderServiceTag(queryServiceNameTagIdActive);
     List<ExecutionStatusInfo> active = getDeploymentStatusInfo(queryActive, queryServiceNameTagIdActive);
 
     // pending
+    long pendingStartInterval = getLatestExecutionsStartInterval(
+        accountId, orgId, projectId, days, pendingStatusList, startInterval, endInterval);
     String queryPending =
-        queryBuilderStatusNew(accountId, orgId, projectId, days, pendingStatusList, startInterval, endInterval);
+        queryBuilderStatusNew(accountId, orgId, projectId, days, pendingStatusList, pendingStartInterval, endInterval);
     String queryServiceNameTagIdPending = queryBuilderSelectIdLimitTimeCdTableNew(
-        accountId, orgId, projectId, days, pendingStatusList, startInterval, endInterval);
+        accountId, orgId, projectId, days, pendingStatusList, pendingStartInterval, endInterval);
     queryServiceNameTagIdPending = queryBuilderServiceTag(queryServiceNameTagIdPending);
     List<ExecutionStatusInfo> pending = getDeploymentStatusInfo(queryPending, queryServiceNameTagIdPending);
 
     return DashboardExecutionStatusInfo.builder().failure(failure).active(active).pending(pending).build();
   }
 
+  /**
+   * Start of the latest whole hours of the interval holding at least limit executions of the statuses, counted from
+   * pipeline_execution_summary_cd_hourly. The latest limit executions of the interval all start after it, so they are
+   * read from those hours instead of the whole interval. Returns the start interval when the hourly counts are not
+   * used or do not reach the limit.
+   */
+  public long getLatestExecutionsStartInterval(String accountId, String orgId, String projectId, long limit,
+      List<String> statusList, long startInterval, long endInterval) {
+    if (!Boolean.TRUE.equals(nextGenConfiguration.getEnableCdDashboardRollups()) || accountId == null || orgId == null
+        || projectId == null || limit <= 0 || startInterval <= 0 || endInterval <= 0) {
+      return startInterval;
+    }
+    long currentTime = getCurrentTime();
+    long rollupStartInterval = startInterval + (HOUR_IN_MS - startInterval % HOUR_IN_MS) % HOUR_IN_MS;
+    long rollupEndInterval = Math.min(endInterval - endInterval % HOUR_IN_MS, currentTime - currentTime % HOUR_IN_MS);
+    if (rollupEndInterval <= rollupStartInterval) {
+      return startInterval;
+    }
+    TimeAndStatusDeployment hourlyExecutions = queryCalculatorRollupTimeAndStatus(queryBuilderSelectRollupStatusTime(
+        accountId, orgId, projectId, statusList, rollupStartInterval, rollupEndInterval));
+    Map<Long, Long> executionsPerHour = new HashMap<>();
+    for (int i = 0; i < hourlyExecutions.getTime().size(); i++) {
+      executionsPerHour.merge(hourlyExecutions.getTime().get(i), hourlyExecutions.getCount().get(i), Long::sum);
+    }
+    long executions = 0;
+    for (long bucket = rollupEndInterval - HOUR_IN_MS; bucket >= rollupStartInterval; bucket -= HOUR_IN_MS) {
+      executions += executionsPerHour.getOrDefault(bucket, 0L);
+      if (executions >= limit) {
+        return bucket;
+      }
+    }
+    return startInterval;
+  }
+
   private ExecutionStatusInfo getDeploymentStatusInfoObject(String name, String identfier, String planExecutionId,
       Long startTime, Long endTime, String status, GitInfo gitInfo, String triggerType, AuthorInfo authorInfo,
       List<ServiceDeploymentInfo> serviceDeploymentInfos, List<EnvironmentDeploymentsInfo> environmentDeploymentsInfos,
@@ -2662,15 +2865,16 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
   public DashboardWorkloadDeployment getWorkloadDeploymentInfoCalculation(List<String> workloadsId, List<String> status,
       List<Pair<Long, Long>> timeInterval, List<String> deploymentTypeList, Map<String, String> uniqueWorkloadNameAndId,
-      long startDate, long endDate, List<String> pipelineExecutionIdList) {
+      long startDate, long endDate, List<String> pipelineExecutionIdList, List<Long> count) {
     Map<String, Pair<String, AuthorInfo>> pipelineExecutionIdToTriggerAndAuthorInfoMap =
         getPipelineExecutionIdToTriggerTypeAndAuthorInfoMapping(pipelineExecutionIdList);
     long numberOfDays = NGDateUtils.getNumberOfDays(startDate, endDate);
 
     List<WorkloadDeploymentInfo> workloadDeploymentInfoList = new ArrayList<>();
 
-    List<WorkloadDeploymentDetails> workloadDeploymentDetailsList = workloadDeploymentInfoCalculationHelper(workloadsId,
-        status, timeInterval, deploymentTypeList, uniqueWorkloadNameAndId, startDate, endDate, pipelineExecutionIdList);
+    List<WorkloadDeploymentDetails> workloadDeploymentDetailsList =
+        workloadDeploymentInfoCalculationHelper(workloadsId, status, timeInterval, deploymentTypeList,
+            uniqueWorkloadNameAndId, startDate, endDate, pipelineExecutionIdList, count);
 
     for (WorkloadDeploymentDetails workloadDeploymentDetails : workloadDeploymentDetailsList) {
       LastWorkloadInfo lastWorkloadInfo =
@@ -2717,15 +2921,16 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
   public DashboardWorkloadDeploymentV2 getWorkloadDeploymentInfoCalculationV2(List<String> workloadsId,
       List<String> status, List<Pair<Long, Long>> timeInterval, List<String> deploymentTypeList,
-      Map<String, String> uniqueWorkloadNameAndId, long startDate, long endDate, List<String> pipelineExecutionIdList) {
+      Map<String, String> uniqueWorkloadNameAndId, long startDate, long endDate, List<String> pipelineExecutionIdList, List<Long> count) {
     Map<String, Pair<String, AuthorInfo>> pipelineExecutionIdToTriggerAndAuthorInfoMap =
         getPipelineExecutionIdToTriggerTypeAndAuthorInfoMapping(pipelineExecutionIdList);
     long numberOfDays = NGDateUtils.getNumberOfDays(startDate, endDate);
 
     List<WorkloadDeploymentInfoV2> workloadDeploymentInfoList = new ArrayList<>();
 
-    List<WorkloadDeploymentDetails> workloadDeploymentDetailsList = workloadDeploymentInfoCalculationHelper(workloadsId,
-        status, timeInterval, deploymentTypeList, uniqueWorkloadNameAndId, startDate, endDate, pipelineExecutionIdList);
+    List<WorkloadDeploymentDetails> workloadDeploymentDetailsList =
+        workloadDeploymentInfoCalculationHelper(workloadsId, status, timeInterval, deploymentTypeList,
+            uniqueWorkloadNameAndId, startDate, endDate, pipelineExecutionIdList, count);
 
     for (WorkloadDeploymentDetails workloadDeploymentDetails : workloadDeploymentDetailsList) {
       LastWorkloadInfo lastWorkloadInfo =
@@ -2772,15 +2977,16 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
   public DashboardWorkloadDeploymentV2 getWorkloadDeploymentInfoCalculationV2Paginated(List<String> workloadsId,
       List<String> status, List<Pair<Long, Long>> timeInterval, List<String> deploymentTypeList,
-      Map<String, String> uniqueWorkloadNameAndId, long startDate, long endDate, List<String> pipelineExecutionIdList) {
+      Map<String, String> uniqueWorkloadNameAndId, long startDate, long endDate, List<String> pipelineExecutionIdList, List<Long> count) {
     Map<String, Pair<String, AuthorInfo>> pipelineExecutionIdToTriggerAndAuthorInfoMap =
         getPipelineExecutionIdToTriggerTypeAndAuthorInfoMappingPaginated(pipelineExecutionIdList);
     long numberOfDays = NGDateUtils.getNumberOfDays(startDate, endDate);
 
     List<WorkloadDeploymentInfoV2> workloadDeploymentInfoList = new ArrayList<>();
 
-    List<WorkloadDeploymentDetails> workloadDeploymentDetailsList = workloadDeploymentInfoCalculationHelper(workloadsId,
-        status, timeInterval, deploymentTypeList, uniqueWorkloadNameAndId, startDate, endDate, pipelineExecutionIdList);
+    List<WorkloadDeploymentDetails> workloadDeploymentDetailsList =
+        workloadDeploymentInfoCalculationHelper(workloadsId, status, timeInterval, deploymentTypeList,
+            uniqueWorkloadNameAndId, startDate, endDate, pipelineExecutionIdList, count);
 
     for (WorkloadDeploymentDetails workloadDeploymentDetails : workloadDeploymentDetailsList) {
       LastWorkloadInfo lastWorkloadInfo =
@@ -2827,7 +3033,8 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
 
   public List<WorkloadDeploymentDetails> workloadDeploymentInfoCalculationHelper(List<String> workloadsId,
       List<String> status, List<Pair<Long, Long>> timeInterval, List<String> deploymentTypeList,
-      Map<String, String> uniqueWorkloadNameAndId, long startDate, long endDate, List<String> pipelineExecutionIdList) {
+      Map<String, String> uniqueWorkloadNameAndId, long startDate, long endDate, List<String> pipelineExecutionIdList,
+      List<Long> count) {
     List<WorkloadDeploymentDetails> workloadDeploymentDetailsList = new ArrayList<>();
     for (String workloadId : uniqueWorkloadNameAndId.keySet()) {
       long totalDeployment = 0;
@@ -2856,18 +3063,21 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
         if (workloadsId.get(i).contentEquals(workloadId)) {
           long startTime = timeInterval.get(i).getKey();
           long endTime = timeInterval.get(i).getValue();
+          long deployments = count == null ? 1 : count.get(i);
           long currentTimeEpoch = startTime;
           if (currentTimeEpoch >= startDate && currentTimeEpoch < endDate) {
             currentTimeEpoch = getStartingDateEpochValue(currentTimeEpoch, startDate);
-            totalDeployment++;
-            deploymentCountMap.put(currentTimeEpoch, deploymentCountMap.get(currentTimeEpoch) + 1);
+            totalDeployment += deployments;
+            deploymentCountMap.put(currentTimeEpoch, deploymentCountMap.get(currentTimeEpoch) + (int) deployments);
             if (CDDashboardServiceHelper.successStatusList.contains(status.get(i))) {
-              success++;
+              success += deployments;
             }
             if (CDDashboardServiceHelper.failedStatusList.contains(status.get(i))) {
-              failure++;
+              failure += deployments;
             }
-            if (lastExecutedStartTs == 0 || lastExecutedStartTs < startTime) {
+            // The rows counted from the hourly rollups have no execution and are never the last deployment
+            if (pipelineExecutionIdList.get(i) != null
+                && (lastExecutedStartTs == 0 || lastExecutedStartTs < startTime)) {
               lastExecutedStartTs = startTime;
               lastExecutedEndTs = endTime;
               lastStatus = status.get(i);
@@ -2875,12 +3085,12 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
               pipelineExecutionId = pipelineExecutionIdList.get(i);
             }
           } else {
-            prevTotalDeployments++;
+            prevTotalDeployments += deployments;
             if (status.get(i).contentEquals(ExecutionStatus.SUCCESS.name())) {
-              previousSuccess++;
+              previousSuccess += deployments;
             }
             if (status.get(i).contentEquals(ExecutionStatus.FAILED.name())) {
-              previousFailure++;
+              previousFailure += deployments;
             }
           }
         }
@@ -2921,12 +3131,12 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
   public DashboardWorkloadDeployment getDashboardWorkloadDeployment(String accountIdentifier, String orgIdentifier,
       String projectIdentifier, long startInterval, long endInterval, long previousStartInterval,
       EnvironmentType envType) {
-    WorkloadInfo workloadInfo = getWorkloadInfo(
-        accountIdentifier, orgIdentifier, projectIdentifier, endInterval, previousStartInterval, envType);
+    WorkloadInfo workloadInfo = getWorkloadInfo(accountIdentifier, orgIdentifier, projectIdentifier, startInterval,
+        endInterval, previousStartInterval, envType, false);
 
     return getWorkloadDeploymentInfoCalculation(workloadInfo.getWorkloadsId(), workloadInfo.getStatus(),
         workloadInfo.getTimeInterval(), workloadInfo.getDeploymentTypeList(), workloadInfo.getUniqueWorkloadNameAndId(),
-        startInterval, endInterval, workloadInfo.getPipelineExecutionIdList());
+        startInterval, endInterval, workloadInfo.getPipelineExecutionIdList(), workloadInfo.getCount());
   }
 
   @Override
@@ -2937,39 +3147,121 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
       return getDashboardWorkloadDeploymentV2Paginated(accountIdentifier, orgIdentifier, projectIdentifier,
           startInterval, endInterval, previousStartInterval, envType);
     }
-    WorkloadInfo workloadInfo = getWorkloadInfo(
-        accountIdentifier, orgIdentifier, projectIdentifier, endInterval, previousStartInterval, envType);
+    WorkloadInfo workloadInfo = getWorkloadInfo(accountIdentifier, orgIdentifier, projectIdentifier, startInterval,
+        endInterval, previousStartInterval, envType, false);
 
     return getWorkloadDeploymentInfoCalculationV2(workloadInfo.getWorkloadsId(), workloadInfo.getStatus(),
         workloadInfo.getTimeInterval(), workloadInfo.getDeploymentTypeList(), workloadInfo.getUniqueWorkloadNameAndId(),
-        startInterval, endInterval, workloadInfo.getPipelineExecutionIdList());
+        startInterval, endInterval, workloadInfo.getPipelineExecutionIdList(), workloadInfo.getCount());
   }
 
   @Override
   public DashboardWorkloadDeploymentV2 getDashboardWorkloadDeploymentV2Paginated(String accountIdentifier,
       String orgIdentifier, String projectIdentifier, long startInterval, long endInterval, long previousStartInterval,
       EnvironmentType envType) {
-    WorkloadInfo workloadInfo = getWorkloadInfoPaginated(
-        accountIdentifier, orgIdentifier, projectIdentifier, endInterval, previousStartInterval, envType);
+    WorkloadInfo workloadInfo = getWorkloadInfo(accountIdentifier, orgIdentifier, projectIdentifier, startInterval,
+        endInterval, previousStartInterval, envType, true);
 
     return getWorkloadDeploymentInfoCalculationV2Paginated(workloadInfo.getWorkloadsId(), workloadInfo.getStatus(),
         workloadInfo.getTimeInterval(), workloadInfo.getDeploymentTypeList(), workloadInfo.getUniqueWorkloadNameAndId(),
-        startInterval, endInterval, workloadInfo.getPipelineExecutionIdList());
-  }
-
-  private WorkloadInfo getWorkloadInfo(String accountIdentifier, String orgIdentifier, String projectIdentifier,
-      long endInterval, long previousStartInterval, EnvironmentType envType) {
-    String query = queryBuilderSelectWorkload(
-        accountIdentifier, orgIdentifier, projectIdentifier, previousStartInterval, endInterval, envType);
+        startInterval, endInterval, workloadInfo.getPipelineExecutionIdList(), workloadInfo.getCount());
+  }
+
+  public WorkloadInfo getWorkloadInfo(String accountIdentifier, String orgIdentifier, String projectIdentifier,
+      long startInterval, long endInterval, long previousStartInterval, EnvironmentType envType, boolean paginated) {
+    // The service deployments of the executions started before the rollup end and started themselves before it are
+    // counted from the hourly service deployment counts, the rest are read. The last deployment of a service is read
+    // from the last hour it was deployed in.
+    long rollupEndInterval = getHourlyRollupEndInterval(
+        accountIdentifier, orgIdentifier, projectIdentifier, startInterval, endInterval, previousStartInterval);
+    boolean fromHourlyRollups = rollupEndInterval > previousStartInterval;
+    WorkloadInfo workloadInfo = WorkloadInfo.builder()
+                                    .workloadsId(new ArrayList<>())
+                                    .uniqueWorkloadNameAndId(new HashMap<>())
+                                    .timeInterval(new ArrayList<>())
+                                    .deploymentTypeList(new ArrayList<>())
+                                    .status(new ArrayList<>())
+                                    .pipelineExecutionIdList(new ArrayList<>())
+                                    .count(fromHourlyRollups ? new ArrayList<>() : null)
+                                    .build();
+    if (!fromHourlyRollups) {
+      addWorkloadRows(workloadInfo,
+          queryBuilderSelectWorkload(
+              accountIdentifier, orgIdentifier, projectIdentifier, previousStartInterval, endInterval, envType),
+          1, paginated);
+      return workloadInfo;
+    }
+
+    Map<String, Long> lastServiceBuckets = addRollupWorkloadRows(workloadInfo,
+        queryBuilderSelectRollupWorkload(
+            accountIdentifier, orgIdentifier, projectIdentifier, previousStartInterval, rollupEndInterval, envType),
+        startInterval);
+    if (!lastServiceBuckets.isEmpty()) {
+      addWorkloadRows(workloadInfo,
+          queryBuilderSelectLastWorkload(accountIdentifier, orgIdentifier, projectIdentifier, previousStartInterval,
+              rollupEndInterval, envType, lastServiceBuckets),
+          0, paginated);
+    }
+    addWorkloadRows(workloadInfo,
+        queryBuilderSelectWorkloadAfterRollup(accountIdentifier, orgIdentifier, projectIdentifier,
+            previousStartInterval, endInterval, rollupEndInterval, envType),
+        1, paginated);
+    return workloadInfo;
+  }
+
+  private void addWorkloadRows(WorkloadInfo workloadInfo, String query, long count, boolean paginated) {
+    if (paginated) {
+      TimescalePersistence queryExecutor = new TimescalePersistence(timeScaleDBService);
+      ModifyPreparedStatement modifyPreparedStatement = (preparedStatement, connection) -> {};
+      PaginatedQueryCallback callback = resultSet -> addWorkloadRow(workloadInfo, resultSet, count);
+      queryExecutor.executePaginatedQuery(query, BATCH_SIZE, MAX_RETRY_COUNT, callback, modifyPreparedStatement);
+      return;
+    }
 
-    List<String> workloadsId = new ArrayList<>();
-    List<String> status = new ArrayList<>();
-    List<Pair<Long, Long>> timeInterval = new ArrayList<>();
-    List<String> deploymentTypeList = new ArrayList<>();
-    List<String> pipelineExecutionIdList = new ArrayList<>();
+    int totalTries = 0;
+    boolean successfulOperation = false;
+    while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
+      ResultSet resultSet = null;
+      try (Connection connection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = connection.prepareStatement(query)) {
+        resultSet = statement.executeQuery();
+        while (resultSet != null && resultSet.next()) {
+          addWorkloadRow(workloadInfo, resultSet, count);
+        }
+        successfulOperation = true;
+      } catch (SQLException ex) {
+        totalTries++;
+      } finally {
+        DBUtils.close(resultSet);
+      }
+    }
+  }
 
-    HashMap<String, String> uniqueWorkloadNameAndId = new HashMap<>();
+  private void addWorkloadRow(WorkloadInfo workloadInfo, ResultSet resultSet, long count) throws SQLException {
+    String serviceName = resultSet.getString(SERVICE_NAME);
+    String service_id = resultSet.getString(SERVICE_ID);
+    long startTime = Long.parseLong(resultSet.getString("startTs"));
+    workloadInfo.getWorkloadsId().add(service_id);
+    workloadInfo.getStatus().add(resultSet.getString("status"));
+    workloadInfo.getPipelineExecutionIdList().add(resultSet.getString(NGServiceConstants.PIPELINE_EXECUTION_ID));
+    if (resultSet.getString("endTs") != null) {
+      workloadInfo.getTimeInterval().add(Pair.of(startTime, Long.valueOf(resultSet.getString("endTs"))));
+    } else {
+      workloadInfo.getTimeInterval().add(Pair.of(startTime, -1L));
+    }
+    workloadInfo.getDeploymentTypeList().add(resultSet.getString("deployment_type"));
+    if (workloadInfo.getCount() != null) {
+      workloadInfo.getCount().add(count);
+    }
+    workloadInfo.getUniqueWorkloadNameAndId().putIfAbsent(service_id, serviceName);
+  }
 
+  /**
+   * Adds the service deployments counted per service, status, hour and deployment type from service_infra_info_hourly.
+   * @return the last hour of each service deployed since the start interval
+   */
+  public Map<String, Long> addRollupWorkloadRows(WorkloadInfo workloadInfo, String query, long startInterval) {
+    Map<String, Long> lastServiceBuckets = new HashMap<>();
     int totalTries = 0;
     boolean successfulOperation = false;
     while (!successfulOperation && totalTries <= MAX_RETRY_COUNT) {
@@ -2978,22 +3270,17 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
            PreparedStatement statement = connection.prepareStatement(query)) {
         resultSet = statement.executeQuery();
         while (resultSet != null && resultSet.next()) {
-          String serviceName = resultSet.getString(SERVICE_NAME);
-          String service_id = resultSet.getString(SERVICE_ID);
-          long startTime = Long.parseLong(resultSet.getString("startTs"));
-          workloadsId.add(service_id);
-          status.add(resultSet.getString("status"));
-          String pipelineExecutionId = resultSet.getString(NGServiceConstants.PIPELINE_EXECUTION_ID);
-          pipelineExecutionIdList.add(pipelineExecutionId);
-          if (resultSet.getString("endTs") != null) {
-            timeInterval.add(Pair.of(startTime, Long.valueOf(resultSet.getString("endTs"))));
-          } else {
-            timeInterval.add(Pair.of(startTime, -1L));
-          }
-          deploymentTypeList.add(resultSet.getString("deployment_type"));
-
-          if (!uniqueWorkloadNameAndId.containsKey(service_id)) {
-            uniqueWorkloadNameAndId.put(service_id, serviceName);
+          String serviceId = resultSet.getString(SERVICE_ID);
+          long serviceBucket = resultSet.getLong("service_bucket");
+          workloadInfo.getWorkloadsId().add(serviceId);
+          workloadInfo.getStatus().add(resultSet.getString("status"));
+          workloadInfo.getPipelineExecutionIdList().add(null);
+          workloadInfo.getTimeInterval().add(Pair.of(serviceBucket, -1L));
+          workloadInfo.getDeploymentTypeList().add(resultSet.getString("deployment_type"));
+          workloadInfo.getCount().add(resultSet.getLong("deployments"));
+          workloadInfo.getUniqueWorkloadNameAndId().putIfAbsent(serviceId, resultSet.getString(SERVICE_NAME));
+          if (serviceBucket >= startInterval) {
+            lastServiceBuckets.merge(serviceId, serviceBucket, Math::max);
           }
         }
         successfulOperation = true;
@@ -3003,63 +3290,79 @@ public class CDOverviewDashboardServiceImpl implements CDOverviewDashboardServic
         DBUtils.close(resultSet);
       }
     }
-    return WorkloadInfo.builder()
-        .workloadsId(workloadsId)
-        .uniqueWorkloadNameAndId(uniqueWorkloadNameAndId)
-        .timeInterval(timeInterval)
-        .deploymentTypeList(deploymentTypeList)
-        .status(status)
-        .pipelineExecutionIdList(pipelineExecutionIdList)
-        .build();
+    return lastServiceBuckets;
   }
 
-  private WorkloadInfo getWorkloadInfoPaginated(String accountIdentifier, String orgIdentifier,
-      String projectIdentifier, long endInterval, long previousStartInterval, EnvironmentType envType) {
-    String query = queryBuilderSelectWorkload(
-        accountIdentifier, orgIdentifier, projectIdentifier, previousStartInterval, endInterval, envType);
-
-    List<String> workloadsId = new ArrayList<>();
-    List<String> status = new ArrayList<>();
-    List<Pair<Long, Long>> timeInterval = new ArrayList<>();
-    List<String> deploymentTypeList = new ArrayList<>();
-    List<String> pipelineExecutionIdList = new ArrayList<>();
-
-    HashMap<String, String> uniqueWorkloadNameAndId = new HashMap<>();
-
-    TimescalePersistence queryExecutor = new TimescalePersistence(timeScaleDBService);
-
-    ModifyPreparedStatement modifyPreparedStatement = (preparedStatement, connection) -> {};
-
-    // Define a PaginatedQueryCallback using a lambda expression
-    PaginatedQueryCallback callback = resultSet -> {
-      String serviceName = resultSet.getString(SERVICE_NAME);
-      String service_id = resultSet.getString(SERVICE_ID);
-      long startTime = Long.parseLong(resultSet.getString("startTs"));
-      workloadsId.add(service_id);
-      status.add(resultSet.getString("status"));
-      String pipelineExecutionId = resultSet.getString(NGServiceConstants.PIPELINE_EXECUTION_ID);
-      pipelineExecutionIdList.add(pipelineExecutionId);
-      if (resultSet.getString("endTs") != null) {
-        timeInterval.add(Pair.of(startTime, Long.valueOf(resultSet.getString("endTs"))));
-      } else {
-        timeInterval.add(Pair.of(startTime, -1L));
-      }
-      deploymentTypeList.add(resultSet.getString("deployment_type"));
+  public String queryBuilderSelectRollupWorkload(String accountId, String orgId, String projectId,
+      long previousStartInterval, long rollupEndInterval, EnvironmentType envType) {
+    StringBuilder totalBuildSqlBuilder = new StringBuilder();
+    totalBuildSqlBuilder.append(String.format(
+        "select service_id,max(service_name) as service_name,service_status as status,service_bucket,deployment_type,"
+            + "sum(named_deployments) as deployments from %s where accountid='%s' and orgidentifier='%s' and "
+            + "projectidentifier='%s' and bucket>=%s and bucket<%s and service_bucket<%s",
+        tableNameServiceAndInfraHourly, accountId, orgId, projectId, previousStartInterval, rollupEndInterval,
+        rollupEndInterval));
+    if (envType != null) {
+      totalBuildSqlBuilder.append(String.format(" and env_type='%s'", envType.toString()));
+    }
+    totalBuildSqlBuilder.append(" group by service_id,service_status,service_bucket,deployment_type "
+        + "having sum(named_deployments)>0;");
+    return totalBuildSqlBuilder.toString();
+  }
 
-      if (!uniqueWorkloadNameAndId.containsKey(service_id)) {
-        uniqueWorkloadNameAndId.put(service_id, serviceName);
-      }
-    };
+  /**
+   * The service deployments of the given services in their given hours, of the executions counted in
+   * service_infra_info_hourly.
+   */
+  public String queryBuilderSelectLastWorkload(String accountId, String orgId, String projectId,
+      long previousStartInterval, long rollupEndInterval, EnvironmentType envType,
+      Map<String, Long> lastServiceBuckets) {
+    StringBuilder totalBuildSqlBuilder = new StringBuilder(
+        "select sii.service_name,sii.service_id,sii.service_status as status,sii.service_startts as startts,"
+        + "sii.service_endts as endts,sii.deployment_type,sii.pipeline_execution_summary_cd_id from "
+        + tableNameServiceAndInfra + " as sii join " + tableNameCD
+        + " as pesi on pesi.id=sii.pipeline_execution_summary_cd_id join (values ");
+    for (Map.Entry<String, Long> lastServiceBucket : lastServiceBuckets.entrySet()) {
+      totalBuildSqlBuilder.append(
+          String.format("('%s',%s),", lastServiceBucket.getKey(), lastServiceBucket.getValue()));
+    }
+    totalBuildSqlBuilder.deleteCharAt(totalBuildSqlBuilder.length() - 1);
+    totalBuildSqlBuilder.append(String.format(
+        ") as last_bucket(service_id,service_bucket) on sii.service_id=last_bucket.service_id and "
+            + "sii.service_startts>=last_bucket.service_bucket and sii.service_startts<last_bucket.service_bucket+%s "
+            + "where sii.accountid='%s' and pesi.accountid='%s' and pesi.orgidentifier='%s' and "
+            + "pesi.projectidentifier='%s' and pesi.startts>=%s and pesi.startts<%s",
+        HOUR_IN_MS, accountId, accountId, orgId, projectId, previousStartInterval, rollupEndInterval));
+    if (envType != null) {
+      totalBuildSqlBuilder.append(String.format(" and sii.env_type='%s'", envType.toString()));
+    }
+    totalBuildSqlBuilder.append(" and sii.service_name is not null;");
+    return totalBuildSqlBuilder.toString();
+  }
 
-    queryExecutor.executePaginatedQuery(query, BATCH_SIZE, MAX_RETRY_COUNT, callback, modifyPreparedStatement);
-    return WorkloadInfo.builder()
-        .workloadsId(workloadsId)
-        .uniqueWorkloadNameAndId(uniqueWorkloadNameAndId)
-        .timeInterval(timeInterval)
-        .deploymentTypeList(deploymentTypeList)
-        .status(status)
-        .pipelineExecutionIdList(pipelineExecutionIdList)
-        .build();
+  /**
+   * The service deployments not counted in service_infra_info_hourly: those of the executions started after the rollup
+   * end, and those started themselves after it.
+   */
+  public String queryBuilderSelectWorkloadAfterRollup(String accountId, String orgId, String projectId,
+      long previousStartInterval, long endInterval, long rollupEndInterval, EnvironmentType envType) {
+    String selectQuery =
+        "select sii.service_name,sii.service_id,sii.service_status as status,sii.service_startts as startts,"
+        + "sii.service_endts as endts,sii.deployment_type,sii.pipeline_execution_summary_cd_id from "
+        + tableNameServiceAndInfra + " as sii join " + tableNameCD
+        + " as pesi on pesi.id=sii.pipeline_execution_summary_cd_id where ";
+    String filter = String.format(
+        "pesi.accountid='%s' and pesi.orgidentifier='%s' and pesi.projectidentifier='%s' and "
+            + "sii.service_name is not null and sii.service_id is not null",
+        accountId, orgId, projectId);
+    if (envType != null) {
+      filter += String.format(" and sii.env_type='%s'", envType.toString());
+    }
+    return selectQuery + filter
+        + String.format(" and pesi.startts>=%s and pesi.startts<%s union all ", rollupEndInterval, endInterval)
+        + selectQuery + filter
+        + String.format(" and pesi.startts>=%s and pesi.startts<%s and sii.accountid='%s' and sii.service_startts>=%s;",
+            previousStartInterval, rollupEndInterval, accountId, rollupEndInterval);
   }
 
   public long getTimeUnitToGroupBy(TimeGroupType timeGroupType) {
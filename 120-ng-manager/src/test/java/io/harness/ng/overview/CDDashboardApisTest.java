@@ -7,8 +7,10 @@
 
 package io.harness.ng.overview;
 
+import static io.harness.NGDateUtils.HOUR_IN_MS;
 import static io.harness.ng.core.activityhistory.dto.TimeGroupType.DAY;
 import static io.harness.ng.overview.service.CDOverviewDashboardServiceImpl.INVALID_CHANGE_RATE;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.MEENAKSHI;
 import static io.harness.rule.OwnerRule.PRASHANTSHARMA;
 import static io.harness.rule.OwnerRule.RISHABH;
@@ -17,13 +19,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.cd.CDDashboardServiceHelper;
+import io.harness.ng.NextGenConfiguration;
 import io.harness.ng.core.dashboard.AuthorInfo;
 import io.harness.ng.core.dashboard.DashboardExecutionStatusInfo;
 import io.harness.ng.core.dashboard.EnvironmentDeploymentsInfo;
@@ -33,6 +38,7 @@ import io.harness.ng.core.dashboard.ServiceDeploymentInfo;
 import io.harness.ng.core.dashboard.ServiceDeployments;
 import io.harness.ng.core.environment.beans.EnvironmentType;
 import io.harness.ng.overview.dto.DashboardWorkloadDeployment;
+import io.harness.ng.overview.dto.DashboardWorkloadDeploymentV2;
 import io.harness.ng.overview.dto.Deployment;
 import io.harness.ng.overview.dto.DeploymentChangeRates;
 import io.harness.ng.overview.dto.DeploymentCount;
@@ -42,6 +48,7 @@ import io.harness.ng.overview.dto.DeploymentStatusInfoList;
 import io.harness.ng.overview.dto.ExecutionDeployment;
 import io.harness.ng.overview.dto.ExecutionDeploymentInfo;
 import io.harness.ng.overview.dto.HealthDeploymentDashboard;
+import io.harness.ng.overview.dto.HealthDeploymentDetails;
 import io.harness.ng.overview.dto.HealthDeploymentInfo;
 import io.harness.ng.overview.dto.LastWorkloadInfo;
 import io.harness.ng.overview.dto.ServiceDeployment;
@@ -52,6 +59,7 @@ import io.harness.ng.overview.dto.TotalDeploymentInfo;
 import io.harness.ng.overview.dto.WorkloadCountInfo;
 import io.harness.ng.overview.dto.WorkloadDateCountInfo;
 import io.harness.ng.overview.dto.WorkloadDeploymentInfo;
+import io.harness.ng.overview.dto.WorkloadInfo;
 import io.harness.ng.overview.service.CDOverviewDashboardServiceImpl;
 import io.harness.pms.execution.ExecutionStatus;
 import io.harness.rule.Owner;
@@ -62,6 +70,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.MutablePair;
@@ -78,6 +88,7 @@ import org.mockito.Spy;
 @OwnedBy(HarnessTeam.CDC)
 public class CDDashboardApisTest extends CategoryTest {
   @Mock TimeScaleDBService timeScaleDBService;
+  @Mock NextGenConfiguration nextGenConfiguration;
   @InjectMocks @Spy private CDOverviewDashboardServiceImpl cdOverviewDashboardServiceImpl;
 
   private List<String> failedStatusList = CDDashboardServiceHelper.failedStatusList;
@@ -235,6 +246,272 @@ public class CDDashboardApisTest extends CategoryTest {
     assertThat(expectedHealthDeploymentDashboard).isEqualTo(healthDeploymentDashboard);
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetHealthDeploymentDetailsFromHourlyRollups() {
+    long previousInterval = 1619136000000L;
+    long startInterval = 1619568000000L;
+    long endInterval = 1619999940000L;
+    long rollupEndInterval = endInterval - endInterval % HOUR_IN_MS;
+    List<String> statuses = Arrays.asList(ExecutionStatus.SUCCESS.name(), ExecutionStatus.FAILED.name(),
+        ExecutionStatus.RUNNING.name(), ExecutionStatus.APPROVALWAITING.name(), ExecutionStatus.ABORTED.name(),
+        ExecutionStatus.IGNOREFAILED.name(), null);
+    List<String> envTypes =
+        Arrays.asList(EnvironmentType.Production.name(), EnvironmentType.PreProduction.name(), null);
+
+    // Generated executions, their hourly counts and the executions after the last whole hour
+    Random random = new Random(42);
+    List<Long> time = new ArrayList<>();
+    List<String> status = new ArrayList<>();
+    List<String> envType = new ArrayList<>();
+    Map<Pair<Long, String>, Long> hourlyCounts = new TreeMap<>();
+    List<Long> tailTime = new ArrayList<>();
+    List<String> tailStatus = new ArrayList<>();
+    List<String> tailEnvType = new ArrayList<>();
+    long hourlyProduction = 0;
+    long hourlyNonProduction = 0;
+    for (int i = 0; i < 50000; i++) {
+      long startTs = previousInterval + (long) (random.nextDouble() * (endInterval - previousInterval));
+      String executionStatus = statuses.get(random.nextInt(statuses.size()));
+      String executionEnvType = envTypes.get(random.nextInt(envTypes.size()));
+      time.add(startTs);
+      status.add(executionStatus);
+      if (startTs >= startInterval && executionEnvType != null) {
+        envType.add(executionEnvType);
+      }
+      if (startTs < rollupEndInterval) {
+        hourlyCounts.merge(Pair.of(startTs - startTs % HOUR_IN_MS, executionStatus == null ? "" : executionStatus), 1L,
+            Long::sum);
+        if (startTs >= startInterval && EnvironmentType.Production.name().equals(executionEnvType)) {
+          hourlyProduction++;
+        } else if (startTs >= startInterval && EnvironmentType.PreProduction.name().equals(executionEnvType)) {
+          hourlyNonProduction++;
+        }
+      } else {
+        tailTime.add(startTs);
+        tailStatus.add(executionStatus);
+        if (executionEnvType != null) {
+          tailEnvType.add(executionEnvType);
+        }
+      }
+    }
+
+    doReturn(TimeAndStatusDeployment.builder().time(time).status(status).build())
+        .when(cdOverviewDashboardServiceImpl)
+        .queryCalculatorTimeAndStatus(anyString());
+    doReturn(envType).when(cdOverviewDashboardServiceImpl).queryCalculatorEnvType(anyString());
+    HealthDeploymentDetails fromExecutions = cdOverviewDashboardServiceImpl.healthDeploymentDashboardHelper(
+        "acc", "org", "pro", startInterval, endInterval, previousInterval);
+
+    when(nextGenConfiguration.getEnableCdDashboardRollups()).thenReturn(true);
+    assertThat(cdOverviewDashboardServiceImpl.getHourlyRollupEndInterval(
+                   "acc", "org", "pro", startInterval, endInterval, previousInterval))
+        .isEqualTo(rollupEndInterval);
+    doReturn(TimeAndStatusDeployment.builder()
+                 .time(hourlyCounts.keySet().stream().map(Pair::getLeft).collect(Collectors.toList()))
+                 .status(hourlyCounts.keySet().stream().map(Pair::getRight).collect(Collectors.toList()))
+                 .count(new ArrayList<>(hourlyCounts.values()))
+                 .build())
+        .when(cdOverviewDashboardServiceImpl)
+        .queryCalculatorRollupTimeAndStatus(anyString());
+    doReturn(Pair.of(hourlyProduction, hourlyNonProduction))
+        .when(cdOverviewDashboardServiceImpl)
+        .queryCalculatorRollupEnvType(anyString());
+    doReturn(TimeAndStatusDeployment.builder().time(tailTime).status(tailStatus).build())
+        .when(cdOverviewDashboardServiceImpl)
+        .queryCalculatorTimeAndStatus(anyString());
+    doReturn(tailEnvType).when(cdOverviewDashboardServiceImpl).queryCalculatorEnvType(anyString());
+    HealthDeploymentDetails fromHourlyRollups = cdOverviewDashboardServiceImpl.healthDeploymentDashboardHelper(
+        "acc", "org", "pro", startInterval, endInterval, previousInterval);
+
+    assertThat(hourlyCounts.size()).isLessThan(time.size() / 10);
+    assertThat(fromHourlyRollups).isEqualTo(fromExecutions);
+    String rollupQuery = cdOverviewDashboardServiceImpl.queryBuilderSelectRollupStatusTime(
+        "acc", "org", "pro", previousInterval, rollupEndInterval);
+    verify(cdOverviewDashboardServiceImpl).queryCalculatorRollupTimeAndStatus(rollupQuery);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetHourlyRollupEndIntervalForUnalignedIntervals() {
+    when(nextGenConfiguration.getEnableCdDashboardRollups()).thenReturn(true);
+    long previousInterval = 1619136000000L;
+    long startInterval = 1619568000000L;
+
+    assertThat(cdOverviewDashboardServiceImpl.getHourlyRollupEndInterval(
+                   "acc", "org", "pro", startInterval + 1800000L, 1619999940000L, previousInterval + 1800000L))
+        .isEqualTo(previousInterval + 1800000L);
+    assertThat(cdOverviewDashboardServiceImpl.getHourlyRollupEndInterval(
+                   "acc", "org", null, startInterval, 1619999940000L, previousInterval))
+        .isEqualTo(previousInterval);
+    long now = System.currentTimeMillis();
+    assertThat(cdOverviewDashboardServiceImpl.getHourlyRollupEndInterval(
+                   "acc", "org", "pro", startInterval, now + HOUR_IN_MS, previousInterval))
+        .isLessThanOrEqualTo(now);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetWorkloadDeploymentsFromHourlyRollups() {
+    long previousInterval = 1619136000000L;
+    long startInterval = 1619568000000L;
+    long endInterval = 1619999940000L;
+    long rollupEndInterval = endInterval - endInterval % HOUR_IN_MS;
+    List<String> statuses = Arrays.asList(ExecutionStatus.SUCCESS.name(), ExecutionStatus.FAILED.name(),
+        ExecutionStatus.RUNNING.name(), ExecutionStatus.ABORTED.name(), ExecutionStatus.EXPIRED.name());
+    List<String> deploymentTypes = Arrays.asList("Kubernetes", "NativeHelm", null);
+
+    // Generated service deployments, their hourly counts, the deployments of the last hour of each service and the
+    // deployments after the last whole hour
+    Random random = new Random(42);
+    WorkloadInfo deployments = emptyWorkloadInfo(false);
+    Map<List<Object>, Long> hourlyCounts = new HashMap<>();
+    WorkloadInfo tail = emptyWorkloadInfo(true);
+    for (int i = 0; i < 100000; i++) {
+      String serviceId = "ServiceId" + random.nextInt(5);
+      long startTs = previousInterval + (long) (random.nextDouble() * (endInterval - previousInterval));
+      String status = statuses.get(random.nextInt(statuses.size()));
+      String deploymentType = deploymentTypes.get(random.nextInt(deploymentTypes.size()));
+      addWorkloadRow(deployments, serviceId, status, startTs, deploymentType, "execution" + i, 1);
+      if (startTs < rollupEndInterval) {
+        hourlyCounts.merge(
+            Arrays.<Object>asList(serviceId, status, startTs - startTs % HOUR_IN_MS, String.valueOf(deploymentType)),
+            1L, Long::sum);
+      } else {
+        addWorkloadRow(tail, serviceId, status, startTs, deploymentType, "execution" + i, 1);
+      }
+    }
+    WorkloadInfo fromHourlyRollups = emptyWorkloadInfo(true);
+    Map<String, Long> lastServiceBuckets = new HashMap<>();
+    for (Map.Entry<List<Object>, Long> hourlyCount : hourlyCounts.entrySet()) {
+      List<Object> key = hourlyCount.getKey();
+      long serviceBucket = (long) key.get(2);
+      addWorkloadRow(fromHourlyRollups, (String) key.get(0), (String) key.get(1), serviceBucket,
+          "null".equals(key.get(3)) ? null : (String) key.get(3), null, hourlyCount.getValue());
+      if (serviceBucket >= startInterval) {
+        lastServiceBuckets.merge((String) key.get(0), serviceBucket, Math::max);
+      }
+    }
+    for (int i = 0; i < deployments.getWorkloadsId().size(); i++) {
+      long startTs = deployments.getTimeInterval().get(i).getKey();
+      Long lastServiceBucket = lastServiceBuckets.get(deployments.getWorkloadsId().get(i));
+      if (lastServiceBucket != null && startTs >= lastServiceBucket && startTs < lastServiceBucket + HOUR_IN_MS) {
+        addWorkloadRow(fromHourlyRollups, deployments.getWorkloadsId().get(i), deployments.getStatus().get(i), startTs,
+            deployments.getDeploymentTypeList().get(i), deployments.getPipelineExecutionIdList().get(i), 0);
+      }
+    }
+    for (int i = 0; i < tail.getWorkloadsId().size(); i++) {
+      addWorkloadRow(fromHourlyRollups, tail.getWorkloadsId().get(i), tail.getStatus().get(i),
+          tail.getTimeInterval().get(i).getKey(), tail.getDeploymentTypeList().get(i),
+          tail.getPipelineExecutionIdList().get(i), 1);
+    }
+    doReturn(new HashMap<>())
+        .when(cdOverviewDashboardServiceImpl)
+        .getPipelineExecutionIdToTriggerTypeAndAuthorInfoMapping(anyList());
+
+    DashboardWorkloadDeploymentV2 expected = cdOverviewDashboardServiceImpl.getWorkloadDeploymentInfoCalculationV2(
+        deployments.getWorkloadsId(), deployments.getStatus(), deployments.getTimeInterval(),
+        deployments.getDeploymentTypeList(), deployments.getUniqueWorkloadNameAndId(), startInterval, endInterval,
+        deployments.getPipelineExecutionIdList(), deployments.getCount());
+    DashboardWorkloadDeploymentV2 actual = cdOverviewDashboardServiceImpl.getWorkloadDeploymentInfoCalculationV2(
+        fromHourlyRollups.getWorkloadsId(), fromHourlyRollups.getStatus(), fromHourlyRollups.getTimeInterval(),
+        fromHourlyRollups.getDeploymentTypeList(), fromHourlyRollups.getUniqueWorkloadNameAndId(), startInterval,
+        endInterval, fromHourlyRollups.getPipelineExecutionIdList(), fromHourlyRollups.getCount());
+
+    assertThat(fromHourlyRollups.getWorkloadsId().size()).isLessThan(deployments.getWorkloadsId().size() / 2);
+    assertThat(actual.getWorkloadDeploymentInfoList()).hasSize(5);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetServiceDeploymentQueriesWithHourlyRollups() {
+    long startInterval = 1619568000000L;
+    long endInterval = 1619999940000L;
+    long rollupEndInterval = endInterval - endInterval % HOUR_IN_MS;
+
+    assertThat(cdOverviewDashboardServiceImpl.queryBuilderServiceDeploymentsWithRollups(
+                   "acc", "org", "pro", startInterval, endInterval, 1, "svc"))
+        .containsExactly(cdOverviewDashboardServiceImpl.queryBuilderServiceDeployments(
+            "acc", "org", "pro", startInterval, endInterval, 1, "svc"));
+
+    when(nextGenConfiguration.getEnableCdDashboardRollups()).thenReturn(true);
+    assertThat(cdOverviewDashboardServiceImpl.queryBuilderServiceDeploymentsWithRollups(
+                   "acc", "org", "pro", startInterval, endInterval, 1, "svc"))
+        .containsExactly("select service_status as status, harness_date_bin_ng_mgr(86400000, service_bucket) as "
+                + "time_entity, sum(deployments) as numberOfRecords from service_infra_info_hourly where "
+                + "accountid='acc' and orgidentifier='org' and projectidentifier='pro' and service_id='svc' and "
+                + "service_bucket>=1619568000000 and service_bucket<1619996400000 and service_status != '' group by "
+                + "status, time_entity;",
+            cdOverviewDashboardServiceImpl.queryBuilderServiceDeployments(
+                "acc", "org", "pro", rollupEndInterval, endInterval, 1, "svc"));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetLatestExecutionsStartIntervalFromHourlyRollups() {
+    long startInterval = 1619568000000L;
+    long endInterval = 1619999940000L;
+    long lastHour = endInterval - endInterval % HOUR_IN_MS - HOUR_IN_MS;
+    List<String> statuses = Arrays.asList(ExecutionStatus.FAILED.name(), ExecutionStatus.ABORTED.name());
+
+    assertThat(cdOverviewDashboardServiceImpl.getLatestExecutionsStartInterval(
+                   "acc", "org", "pro", 20, statuses, startInterval, endInterval))
+        .isEqualTo(startInterval);
+
+    when(nextGenConfiguration.getEnableCdDashboardRollups()).thenReturn(true);
+    doReturn(TimeAndStatusDeployment.builder()
+                 .time(Arrays.asList(lastHour, lastHour, lastHour - 2 * HOUR_IN_MS, lastHour - 5 * HOUR_IN_MS))
+                 .status(Arrays.asList(statuses.get(0), statuses.get(1), statuses.get(0), statuses.get(1)))
+                 .count(Arrays.asList(5L, 4L, 10L, 30L))
+                 .build())
+        .when(cdOverviewDashboardServiceImpl)
+        .queryCalculatorRollupTimeAndStatus(anyString());
+
+    assertThat(cdOverviewDashboardServiceImpl.getLatestExecutionsStartInterval(
+                   "acc", "org", "pro", 9, statuses, startInterval, endInterval))
+        .isEqualTo(lastHour);
+    assertThat(cdOverviewDashboardServiceImpl.getLatestExecutionsStartInterval(
+                   "acc", "org", "pro", 20, statuses, startInterval, endInterval))
+        .isEqualTo(lastHour - 5 * HOUR_IN_MS);
+    assertThat(cdOverviewDashboardServiceImpl.getLatestExecutionsStartInterval(
+                   "acc", "org", "pro", 50, statuses, startInterval, endInterval))
+        .isEqualTo(startInterval);
+    verify(cdOverviewDashboardServiceImpl, times(3))
+        .queryCalculatorRollupTimeAndStatus(cdOverviewDashboardServiceImpl.queryBuilderSelectRollupStatusTime(
+            "acc", "org", "pro", statuses, startInterval, lastHour + HOUR_IN_MS));
+  }
+
+  private WorkloadInfo emptyWorkloadInfo(boolean counted) {
+    return WorkloadInfo.builder()
+        .workloadsId(new ArrayList<>())
+        .status(new ArrayList<>())
+        .timeInterval(new ArrayList<>())
+        .deploymentTypeList(new ArrayList<>())
+        .pipelineExecutionIdList(new ArrayList<>())
+        .count(counted ? new ArrayList<>() : null)
+        .uniqueWorkloadNameAndId(new HashMap<>())
+        .build();
+  }
+
+  private void addWorkloadRow(WorkloadInfo workloadInfo, String serviceId, String status, long startTs,
+      String deploymentType, String pipelineExecutionId, long count) {
+    workloadInfo.getWorkloadsId().add(serviceId);
+    workloadInfo.getStatus().add(status);
+    workloadInfo.getTimeInterval().add(Pair.of(startTs, pipelineExecutionId == null ? -1L : startTs + 60000L));
+    workloadInfo.getDeploymentTypeList().add(deploymentType);
+    workloadInfo.getPipelineExecutionIdList().add(pipelineExecutionId);
+    if (workloadInfo.getCount() != null) {
+      workloadInfo.getCount().add(count);
+    }
+    workloadInfo.getUniqueWorkloadNameAndId().putIfAbsent(serviceId, serviceId.replace("Id", ""));
+  }
+
   @Test
   @Owner(developers = PRASHANTSHARMA)
   @Category(UnitTests.class)
@@ -373,7 +650,7 @@ public class CDDashboardApisTest extends CategoryTest {
         cdOverviewDashboardServiceImpl.getWorkloadDeploymentInfoCalculation(workloadsId, status, timeInterval,
             Arrays.asList(
                 "kuber1", "kuber2", "kuber1", "kuber3", "kuber3", "kuber1", "kuber4", "kuber2", "kuber2", "kuber1"),
-            hashMap, startInterval, endInterval, workloadsId);
+            hashMap, startInterval, endInterval, workloadsId, null);
 
     List<WorkloadDeploymentInfo> workloadDeploymentInfos = new ArrayList<>();
 
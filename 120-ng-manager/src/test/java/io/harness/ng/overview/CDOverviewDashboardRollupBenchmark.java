@@ -0,0 +1,249 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ng.overview;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ng.NextGenConfiguration;
+import io.harness.ng.core.environment.beans.EnvironmentType;
+import io.harness.ng.overview.service.CDOverviewDashboardServiceImpl;
+import io.harness.pms.execution.ExecutionStatus;
+import io.harness.timescaledb.TimeScaleDBConfig;
+import io.harness.timescaledb.TimeScaleDBService;
+import io.harness.timescaledb.TimeScaleDBServiceImpl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+/**
+ * Compares the deployment health, service deployments and workload dashboards counted from the executions with the
+ * ones counted from pipeline_execution_summary_cd_hourly and service_infra_info_hourly, over executions generated for
+ * a new account in the TimescaleDB given by the timescaledbUrl, timescaledbUsername and timescaledbPassword system
+ * properties. The tables have to exist, the
+ * generated rows are deleted at the end.
+ *
+ * Usage: CDOverviewDashboardRollupBenchmark [executions] [days] [rounds],
+ * with -DtimescaledbUrl=jdbc:postgresql://localhost:5432/harness
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Slf4j
+public class CDOverviewDashboardRollupBenchmark {
+  private static final long DAY_IN_MS = TimeUnit.DAYS.toMillis(1);
+  private static final int INSERT_BATCH_SIZE = 1000;
+  private static final String ORG_ID = "org";
+  private static final String PROJECT_ID = "project";
+  private static final List<String> STATUSES = Arrays.asList(ExecutionStatus.SUCCESS.name(),
+      ExecutionStatus.FAILED.name(), ExecutionStatus.RUNNING.name(), ExecutionStatus.APPROVALWAITING.name(),
+      ExecutionStatus.ABORTED.name(), ExecutionStatus.IGNOREFAILED.name());
+  private static final List<String> ENV_TYPES =
+      Arrays.asList(EnvironmentType.Production.name(), EnvironmentType.PreProduction.name(), null);
+  private static final List<String> DEPLOYMENT_TYPES = Arrays.asList("Kubernetes", "NativeHelm", "Ssh");
+  private static final int SERVICES = 20;
+  private static final String SERVICE_ID = "service1";
+
+  private static final String INSERT_EXECUTION_SQL = "INSERT INTO pipeline_execution_summary_cd "
+      + "(id, accountid, orgidentifier, projectidentifier, status, startts) VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_SERVICE_INFRA_SQL = "INSERT INTO service_infra_info "
+      + "(id, env_type, pipeline_execution_summary_cd_id, service_startts, accountid, orgidentifier, "
+      + "projectidentifier, service_id, service_name, service_status, service_endts, deployment_type) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  // The hourly counts as the migration creating pipeline_execution_summary_cd_hourly fills them
+  private static final String INSERT_HOURLY_SQL = "INSERT INTO pipeline_execution_summary_cd_hourly "
+      + "SELECT cd.accountid, cd.orgidentifier, cd.projectidentifier, cd.startts - cd.startts % 3600000, "
+      + "COALESCE(cd.status, ''), COUNT(*), COALESCE(SUM(env.production), 0), COALESCE(SUM(env.non_production), 0) "
+      + "FROM pipeline_execution_summary_cd cd LEFT JOIN LATERAL ("
+      + "SELECT COUNT(*) FILTER (WHERE env_type = 'Production') AS production, "
+      + "COUNT(*) FILTER (WHERE env_type = 'PreProduction') AS non_production "
+      + "FROM service_infra_info WHERE pipeline_execution_summary_cd_id = cd.id) env ON TRUE "
+      + "WHERE cd.accountid=? GROUP BY 1, 2, 3, 4, 5";
+  // The hourly service deployment counts as the migration creating service_infra_info_hourly fills them
+  private static final String INSERT_SERVICE_HOURLY_SQL = "INSERT INTO service_infra_info_hourly "
+      + "SELECT cd.accountid, cd.orgidentifier, cd.projectidentifier, cd.startts - cd.startts % 3600000, "
+      + "sii.service_startts - sii.service_startts % 3600000, sii.service_id, MAX(sii.service_name), "
+      + "sii.service_status, sii.env_type, sii.deployment_type, COUNT(*), COUNT(sii.service_name) "
+      + "FROM pipeline_execution_summary_cd cd JOIN service_infra_info sii "
+      + "ON sii.pipeline_execution_summary_cd_id = cd.id AND sii.accountid = cd.accountid "
+      + "WHERE cd.accountid=? AND sii.service_id IS NOT NULL AND sii.service_startts IS NOT NULL "
+      + "GROUP BY 1, 2, 3, 4, 5, 6, 8, 9, 10";
+  private static final List<String> TABLES = Arrays.asList("pipeline_execution_summary_cd_hourly",
+      "service_infra_info_hourly", "service_infra_info", "pipeline_execution_summary_cd");
+
+  private final TimeScaleDBService timeScaleDBService;
+  private final String accountId = generateUuid();
+  private final long previousStartInterval;
+  private final long startInterval;
+  private final long endInterval;
+
+  private CDOverviewDashboardRollupBenchmark(TimeScaleDBService timeScaleDBService, int days) {
+    this.timeScaleDBService = timeScaleDBService;
+    long now = System.currentTimeMillis();
+    this.endInterval = now - now % DAY_IN_MS + DAY_IN_MS;
+    this.startInterval = endInterval - days * DAY_IN_MS;
+    this.previousStartInterval = startInterval - days * DAY_IN_MS;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int executions = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+    int days = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+    int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+    TimeScaleDBService timeScaleDBService = new TimeScaleDBServiceImpl(
+        TimeScaleDBConfig.builder()
+            .timescaledbUrl(System.getProperty("timescaledbUrl", "jdbc:postgresql://localhost:5432/harness"))
+            .timescaledbUsername(System.getProperty("timescaledbUsername"))
+            .timescaledbPassword(System.getProperty("timescaledbPassword"))
+            .build());
+    if (!timeScaleDBService.isValid()) {
+      log.error("No TimescaleDB at {}", System.getProperty("timescaledbUrl"));
+      return;
+    }
+
+    CDOverviewDashboardRollupBenchmark benchmark = new CDOverviewDashboardRollupBenchmark(timeScaleDBService, days);
+    try {
+      benchmark.generate(executions);
+      benchmark.run(rounds);
+    } finally {
+      benchmark.cleanup();
+    }
+  }
+
+  private void generate(int executions) throws SQLException {
+    long startNanos = System.nanoTime();
+    Random random = new Random(42);
+    long now = System.currentTimeMillis();
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement executionStatement = connection.prepareStatement(INSERT_EXECUTION_SQL);
+         PreparedStatement serviceInfraStatement = connection.prepareStatement(INSERT_SERVICE_INFRA_SQL)) {
+      for (int i = 1; i <= executions; i++) {
+        String executionId = generateUuid();
+        long startTs = previousStartInterval + (long) (random.nextDouble() * (now - previousStartInterval));
+        executionStatement.setString(1, executionId);
+        executionStatement.setString(2, accountId);
+        executionStatement.setString(3, ORG_ID);
+        executionStatement.setString(4, PROJECT_ID);
+        String status = STATUSES.get(random.nextInt(STATUSES.size()));
+        executionStatement.setString(5, status);
+        executionStatement.setLong(6, startTs);
+        executionStatement.addBatch();
+
+        String envType = ENV_TYPES.get(random.nextInt(ENV_TYPES.size()));
+        if (envType != null) {
+          serviceInfraStatement.setString(1, generateUuid());
+          serviceInfraStatement.setString(2, envType);
+          serviceInfraStatement.setString(3, executionId);
+          serviceInfraStatement.setLong(4, startTs);
+          serviceInfraStatement.setString(5, accountId);
+          serviceInfraStatement.setString(6, ORG_ID);
+          serviceInfraStatement.setString(7, PROJECT_ID);
+          String serviceId = "service" + random.nextInt(SERVICES);
+          serviceInfraStatement.setString(8, serviceId);
+          serviceInfraStatement.setString(9, serviceId.toUpperCase());
+          serviceInfraStatement.setString(10, status);
+          serviceInfraStatement.setLong(11, startTs + random.nextInt(600000));
+          serviceInfraStatement.setString(12, DEPLOYMENT_TYPES.get(random.nextInt(DEPLOYMENT_TYPES.size())));
+          serviceInfraStatement.addBatch();
+        }
+
+        if (i % INSERT_BATCH_SIZE == 0 || i == executions) {
+          executionStatement.executeBatch();
+          serviceInfraStatement.executeBatch();
+        }
+      }
+    }
+
+    try (Connection connection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = connection.prepareStatement(INSERT_HOURLY_SQL);
+         PreparedStatement serviceStatement = connection.prepareStatement(INSERT_SERVICE_HOURLY_SQL)) {
+      statement.setString(1, accountId);
+      statement.execute();
+      serviceStatement.setString(1, accountId);
+      serviceStatement.execute();
+    }
+    log.info("Generated {} executions over {} days for the account {} in {}s", executions,
+        (endInterval - previousStartInterval) / DAY_IN_MS, accountId,
+        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos));
+  }
+
+  private void run(int rounds) throws IllegalAccessException {
+    CDOverviewDashboardServiceImpl fromExecutions = createDashboardService(false);
+    CDOverviewDashboardServiceImpl fromHourlyRollups = createDashboardService(true);
+    compare("Deployment health", rounds, fromExecutions, fromHourlyRollups,
+        dashboardService
+        -> dashboardService.healthDeploymentDashboardHelper(
+            accountId, ORG_ID, PROJECT_ID, startInterval, endInterval, previousStartInterval));
+    compare("Service deployments", rounds, fromExecutions, fromHourlyRollups,
+        dashboardService
+        -> dashboardService.getServiceDeploymentsV2(
+            accountId, ORG_ID, PROJECT_ID, startInterval, endInterval, SERVICE_ID, 1));
+    compare("Workloads", rounds, fromExecutions, fromHourlyRollups,
+        dashboardService
+        -> dashboardService.getDashboardWorkloadDeploymentV2(
+            accountId, ORG_ID, PROJECT_ID, startInterval, endInterval, previousStartInterval, null));
+  }
+
+  private void compare(String dashboard, int rounds, CDOverviewDashboardServiceImpl fromExecutions,
+      CDOverviewDashboardServiceImpl fromHourlyRollups, Function<CDOverviewDashboardServiceImpl, Object> query) {
+    // Warms up both paths and checks that they count the same
+    Object expected = query.apply(fromExecutions);
+    Object actual = query.apply(fromHourlyRollups);
+    if (!expected.equals(actual)) {
+      log.error("{} from the hourly counts differ from the executions: {} instead of {}", dashboard, actual, expected);
+    }
+
+    long executionsNanos = 0;
+    long hourlyRollupsNanos = 0;
+    for (int round = 0; round < rounds; round++) {
+      long startNanos = System.nanoTime();
+      query.apply(fromExecutions);
+      executionsNanos += System.nanoTime() - startNanos;
+
+      startNanos = System.nanoTime();
+      query.apply(fromHourlyRollups);
+      hourlyRollupsNanos += System.nanoTime() - startNanos;
+    }
+    log.info("{} over {} days: from the executions {}ms, from the hourly counts {}ms", dashboard,
+        (endInterval - startInterval) / DAY_IN_MS, TimeUnit.NANOSECONDS.toMillis(executionsNanos / rounds),
+        TimeUnit.NANOSECONDS.toMillis(hourlyRollupsNanos / rounds));
+  }
+
+  private CDOverviewDashboardServiceImpl createDashboardService(boolean enableCdDashboardRollups)
+      throws IllegalAccessException {
+    NextGenConfiguration nextGenConfiguration = mock(NextGenConfiguration.class);
+    when(nextGenConfiguration.getEnableCdDashboardRollups()).thenReturn(enableCdDashboardRollups);
+    when(nextGenConfiguration.getEnablePaginatedQueryOnTimescale()).thenReturn(false);
+    CDOverviewDashboardServiceImpl dashboardService = new CDOverviewDashboardServiceImpl();
+    FieldUtils.writeField(dashboardService, "timeScaleDBService", timeScaleDBService, true);
+    FieldUtils.writeField(dashboardService, "nextGenConfiguration", nextGenConfiguration, true);
+    return dashboardService;
+  }
+
+  private void cleanup() throws SQLException {
+    try (Connection connection = timeScaleDBService.getDBConnection()) {
+      for (String table : TABLES) {
+        try (PreparedStatement statement =
+                 connection.prepareStatement("DELETE FROM " + table + " WHERE accountid=?")) {
+          statement.setString(1, accountId);
+          statement.execute();
+        }
+      }
+    }
+  }
+}
@@ -34,4 +34,6 @@ public class InstanceSyncPerpetualTaskInfoDTO {
   long createdAt;
   long lastUpdatedAt;
   Long lastSuccessfulRun;
+  String contentHash;
+  Long contentHashSyncedAt;
 }
@@ -63,4 +63,7 @@ public class InstanceSyncPerpetualTaskInfo {
   @CreatedDate long createdAt;
   @LastModifiedDate long lastUpdatedAt;
   Long lastSuccessfulRun;
+  // Hash of the server instances last synced by the V2 perpetual task, unset when the deployment infos change
+  String contentHash;
+  Long contentHashSyncedAt;
 }
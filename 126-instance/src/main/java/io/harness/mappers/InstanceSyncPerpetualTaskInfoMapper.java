@@ -33,6 +33,8 @@ public class InstanceSyncPerpetualTaskInfoMapper {
         .lastUpdatedAt(instanceSyncPerpetualTaskInfo.getLastUpdatedAt())
         .connectorIdentifier(instanceSyncPerpetualTaskInfo.getConnectorIdentifier())
         .lastSuccessfulRun(instanceSyncPerpetualTaskInfo.getLastSuccessfulRun())
+        .contentHash(instanceSyncPerpetualTaskInfo.getContentHash())
+        .contentHashSyncedAt(instanceSyncPerpetualTaskInfo.getContentHashSyncedAt())
         .build();
   }
 
@@ -47,6 +49,8 @@ public class InstanceSyncPerpetualTaskInfoMapper {
         .perpetualTaskIdV2(instanceSyncPerpetualTaskInfoDTO.getPerpetualTaskIdV2())
         .connectorIdentifier(instanceSyncPerpetualTaskInfoDTO.getConnectorIdentifier())
         .lastSuccessfulRun(instanceSyncPerpetualTaskInfoDTO.getLastSuccessfulRun())
+        .contentHash(instanceSyncPerpetualTaskInfoDTO.getContentHash())
+        .contentHashSyncedAt(instanceSyncPerpetualTaskInfoDTO.getContentHashSyncedAt())
         .build();
   }
 }
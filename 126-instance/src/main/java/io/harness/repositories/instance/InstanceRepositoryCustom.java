@@ -30,6 +30,7 @@ import java.util.List;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_FIRST_GEN})
 @OwnedBy(HarnessTeam.DX)
@@ -38,6 +39,13 @@ public interface InstanceRepositoryCustom {
 
   Instance findAndModify(Criteria criteria, Update update);
 
+  /**
+   * Inserts, replaces and updates the instances in one unordered bulk write
+   * @return the instances to insert which were not inserted as they already exist
+   */
+  List<Instance> bulkWrite(List<Instance> instancesToInsert, List<Pair<Criteria, Instance>> instancesToReplace,
+      List<Pair<Criteria, Update>> instancesToUpdate);
+
   List<Instance> getActiveInstancesByAccountOrgProjectAndService(String accountIdentifier, String orgIdentifier,
       String projectIdentifier, String serviceIdentifier, long timestamp);
 
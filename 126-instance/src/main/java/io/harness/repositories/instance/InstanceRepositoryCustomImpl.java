@@ -12,6 +12,7 @@ import static io.harness.entities.Instance.InstanceKeysAdditional;
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
 import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
@@ -40,8 +41,10 @@ import io.harness.utils.IdentifierRefHelper;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.result.UpdateResult;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +56,8 @@ import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -64,6 +69,7 @@ import org.springframework.data.mongodb.core.aggregation.SortOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true,
     components = {HarnessModuleComponent.CDS_DASHBOARD, HarnessModuleComponent.CDS_FIRST_GEN})
@@ -101,6 +107,33 @@ public class InstanceRepositoryCustomImpl implements InstanceRepositoryCustom {
     return mongoTemplate.findAndModify(query, update, Instance.class);
   }
 
+  @Override
+  public List<Instance> bulkWrite(List<Instance> instancesToInsert, List<Pair<Criteria, Instance>> instancesToReplace,
+      List<Pair<Criteria, Update>> instancesToUpdate) {
+    if (instancesToInsert.isEmpty() && instancesToReplace.isEmpty() && instancesToUpdate.isEmpty()) {
+      return Collections.emptyList();
+    }
+    // The inserts go first, so the index of a failed insert is the index of its instance
+    BulkOperations bulkOperations =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Instance.class).insert(instancesToInsert);
+    instancesToReplace.forEach(
+        replace -> bulkOperations.replaceOne(new Query(replace.getFirst()), replace.getSecond()));
+    instancesToUpdate.forEach(update -> bulkOperations.updateOne(new Query(update.getFirst()), update.getSecond()));
+    try {
+      bulkOperations.execute();
+      return Collections.emptyList();
+    } catch (BulkOperationException ex) {
+      List<Instance> existingInstances = new ArrayList<>();
+      for (BulkWriteError bulkWriteError : ex.getErrors()) {
+        if (!isDuplicateKeyCode(bulkWriteError.getCode()) || bulkWriteError.getIndex() >= instancesToInsert.size()) {
+          throw ex;
+        }
+        existingInstances.add(instancesToInsert.get(bulkWriteError.getIndex()));
+      }
+      return existingInstances;
+    }
+  }
+
   @Override
   public List<Instance> getActiveInstancesByAccountOrgProjectAndService(String accountIdentifier, String orgIdentifier,
       String projectIdentifier, String serviceIdentifier, long timestamp) {
@@ -51,6 +51,13 @@ public interface InstanceService {
 
   Optional<InstanceDTO> findAndReplace(InstanceDTO instanceDTO);
 
+  /**
+   * Adds, replaces and soft deletes the instances in one bulk write, like saveOrReturnEmptyIfAlreadyExists,
+   * findAndReplace and delete do one instance at a time
+   */
+  void bulkWrite(
+      List<InstanceDTO> instancesToAdd, List<InstanceDTO> instancesToUpdate, List<InstanceDTO> instancesToDelete);
+
   List<InstanceDTO> getActiveInstancesByAccountOrgProjectAndService(String accountIdentifier, String orgIdentifier,
       String projectIdentifier, String serviceIdentifier, long timestamp);
 
@@ -39,6 +39,7 @@ import io.harness.repositories.instance.InstanceRepository;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.client.result.UpdateResult;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -48,6 +49,7 @@ import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_FIRST_GEN})
 @Singleton
@@ -115,21 +117,8 @@ public class InstanceServiceImpl implements InstanceService {
   @Override
   public Optional<InstanceDTO> delete(String instanceKey, String accountIdentifier, String orgIdentifier,
       String projectIdentifier, String infrastructureMappingId) {
-    checkArgument(isNotEmpty(instanceKey), "instanceKey must be present");
-    checkArgument(isNotEmpty(accountIdentifier), "accountIdentifier must be present");
-    checkArgument(isNotEmpty(orgIdentifier), "orgIdentifier must be present");
-    checkArgument(isNotEmpty(projectIdentifier), "projectIdentifier must be present");
-
-    Criteria criteria = Criteria.where(InstanceKeys.instanceKey)
-                            .is(instanceKey)
-                            .and(InstanceKeys.accountIdentifier)
-                            .is(accountIdentifier)
-                            .and(InstanceKeys.orgIdentifier)
-                            .is(orgIdentifier)
-                            .and(InstanceKeys.projectIdentifier)
-                            .is(projectIdentifier)
-                            .and(InstanceKeys.infrastructureMappingId)
-                            .is(infrastructureMappingId);
+    Criteria criteria =
+        getDeleteCriteria(instanceKey, accountIdentifier, orgIdentifier, projectIdentifier, infrastructureMappingId);
     Update update =
         new Update().set(InstanceKeys.isDeleted, true).set(InstanceKeys.deletedAt, System.currentTimeMillis());
     Instance instance = instanceRepository.findAndModify(criteria, update);
@@ -145,10 +134,7 @@ public class InstanceServiceImpl implements InstanceService {
    */
   @Override
   public Optional<InstanceDTO> findAndReplace(InstanceDTO instanceDTO) {
-    Criteria criteria = Criteria.where(InstanceKeys.instanceKey)
-                            .is(instanceDTO.getInstanceKey())
-                            .and(InstanceKeys.infrastructureMappingId)
-                            .is(instanceDTO.getInfrastructureMappingId());
+    Criteria criteria = getReplaceCriteria(instanceDTO);
     Instance instanceOptional = instanceRepository.findAndReplace(criteria, InstanceMapper.toEntity(instanceDTO));
     if (instanceOptional == null) {
       return Optional.empty();
@@ -156,6 +142,42 @@ public class InstanceServiceImpl implements InstanceService {
     return Optional.of(InstanceMapper.toDTO(instanceOptional));
   }
 
+  @Override
+  public void bulkWrite(
+      List<InstanceDTO> instancesToAdd, List<InstanceDTO> instancesToUpdate, List<InstanceDTO> instancesToDelete) {
+    long deletedAt = System.currentTimeMillis();
+    List<Pair<Criteria, Update>> instancesToSoftDelete = new ArrayList<>();
+    for (InstanceDTO instanceDTO : instancesToDelete) {
+      try {
+        instancesToSoftDelete.add(
+            Pair.of(getDeleteCriteria(instanceDTO.getInstanceKey(), instanceDTO.getAccountIdentifier(),
+                        instanceDTO.getOrgIdentifier(), instanceDTO.getProjectIdentifier(),
+                        instanceDTO.getInfrastructureMappingId()),
+                new Update().set(InstanceKeys.isDeleted, true).set(InstanceKeys.deletedAt, deletedAt)));
+      } catch (IllegalArgumentException e) {
+        // Skips the instance only, the rest of the batch is still written.
+        log.error("Skipping the delete of instance {} of infrastructure mapping {}: {}", instanceDTO.getInstanceKey(),
+            instanceDTO.getInfrastructureMappingId(), e.getMessage());
+      }
+    }
+    List<Pair<Criteria, Instance>> instancesToReplace =
+        instancesToUpdate.stream()
+            .map(instanceDTO -> Pair.of(getReplaceCriteria(instanceDTO), InstanceMapper.toEntity(instanceDTO)))
+            .collect(Collectors.toList());
+    List<Instance> existingInstances = instanceRepository.bulkWrite(
+        instancesToAdd.stream().map(InstanceMapper::toEntity).collect(Collectors.toList()), instancesToReplace,
+        instancesToSoftDelete);
+
+    // If instance exists in deleted state, undelete it
+    for (Instance instance : existingInstances) {
+      if (undeleteInstance(instance) != null) {
+        log.info("Undeleted instance : {}", instance.getInstanceKey());
+      } else {
+        log.error("Duplicate key error while inserting instance : {}", instance.getInstanceKey());
+      }
+    }
+  }
+
   @Override
   public List<InstanceDTO> getActiveInstancesByAccountOrgProjectAndService(String accountIdentifier,
       String orgIdentifier, String projectIdentifier, String serviceIdentifier, long timestamp) {
@@ -366,6 +388,32 @@ public class InstanceServiceImpl implements InstanceService {
 
   // ----------------------------------- PRIVATE METHODS -------------------------------------
 
+  private Criteria getDeleteCriteria(String instanceKey, String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, String infrastructureMappingId) {
+    checkArgument(isNotEmpty(instanceKey), "instanceKey must be present");
+    checkArgument(isNotEmpty(accountIdentifier), "accountIdentifier must be present");
+    checkArgument(isNotEmpty(orgIdentifier), "orgIdentifier must be present");
+    checkArgument(isNotEmpty(projectIdentifier), "projectIdentifier must be present");
+
+    return Criteria.where(InstanceKeys.instanceKey)
+        .is(instanceKey)
+        .and(InstanceKeys.accountIdentifier)
+        .is(accountIdentifier)
+        .and(InstanceKeys.orgIdentifier)
+        .is(orgIdentifier)
+        .and(InstanceKeys.projectIdentifier)
+        .is(projectIdentifier)
+        .and(InstanceKeys.infrastructureMappingId)
+        .is(infrastructureMappingId);
+  }
+
+  private Criteria getReplaceCriteria(InstanceDTO instanceDTO) {
+    return Criteria.where(InstanceKeys.instanceKey)
+        .is(instanceDTO.getInstanceKey())
+        .and(InstanceKeys.infrastructureMappingId)
+        .is(instanceDTO.getInfrastructureMappingId());
+  }
+
   private Instance undeleteInstance(Instance instance) {
     Criteria criteria = Criteria.where(InstanceKeys.instanceKey)
                             .is(instance.getInstanceKey())
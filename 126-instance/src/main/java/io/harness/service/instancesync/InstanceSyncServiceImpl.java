@@ -8,6 +8,7 @@
 package io.harness.service.instancesync;
 import static io.harness.connector.ConnectorModule.DEFAULT_CONNECTOR_SERVICE;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.exception.WingsException.USER;
 
 import static java.util.Objects.isNull;
@@ -121,6 +122,9 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
       Integer.parseInt(System.getenv().getOrDefault("INSTANCE_SYNC_RESPONSE_BATCH_RELEASE_COUNT", "5"));
 
   static final long RELEASE_PRESERVE_TIME = TimeUnit.DAYS.toMillis(7);
+  // The instances are synced in full at least this often, even when the delegate reports them unchanged
+  static final long FULL_SYNC_INTERVAL = TimeUnit.MINUTES.toMillis(
+      Long.parseLong(System.getenv().getOrDefault("INSTANCE_SYNC_FULL_SYNC_INTERVAL_MINUTES", "30")));
 
   @Inject
   public InstanceSyncServiceImpl(PersistentLocker persistentLocker,
@@ -487,6 +491,8 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
   private void handlingInstanceSyncV2(String accountIdentifier, String perpetualTaskId,
       Map<String, InstanceSyncPerpetualTaskInfoDTO> instanceSyncPerpetualTaskInfoMap,
       Map<String, InstanceSyncData> instancesPerTask, long startTime) {
+    int unchanged = 0;
+    int changed = 0;
     for (String taskInfoId : instancesPerTask.keySet()) {
       InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO =
           instanceSyncPerpetualTaskInfoMap.get(taskInfoId);
@@ -542,6 +548,20 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
         }
 
         InstanceSyncData instanceSyncData = instancesPerTask.get(taskInfoId);
+        if (isUnchanged(instanceSyncPerpetualTaskInfoDTO, instanceSyncData)) {
+          log.info("Instances unchanged since the last instance sync");
+          instanceSyncPerpetualTaskInfoDTO.setLastSuccessfulRun(System.currentTimeMillis());
+          instanceSyncPerpetualTaskInfoService.updateLastSuccessfulRun(instanceSyncPerpetualTaskInfoDTO);
+          unchanged++;
+          continue;
+        }
+        if (instanceSyncData.getServerInstanceInfo().isEmpty() && isNotEmpty(instanceSyncData.getContentHash())) {
+          // The delegate left out the instances for a content hash which is no longer the synced one, e.g. after a
+          // new deployment. Nothing is deleted, the instances are sent again by the next run.
+          log.warn("Instances left out for content hash [{}] which is not the synced one, skipping the instance sync",
+              instanceSyncData.getContentHash());
+          continue;
+        }
         try (
             AcquiredLock<?> acquiredLock = persistentLocker.waitToAcquireLock(InstanceSyncConstants.INSTANCE_SYNC_PREFIX
                     + instanceSyncPerpetualTaskInfoDTO.getInfrastructureMappingId(),
@@ -558,8 +578,13 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
             log.info("Instance Sync completed");
             // cleaning up V1 perpetual task
             cleanupPerpetualTaskV1(instanceSyncPerpetualTaskInfoDTO);
-            instanceSyncPerpetualTaskInfoDTO.setLastSuccessfulRun(System.currentTimeMillis());
+            long lastSuccessfulRun = System.currentTimeMillis();
+            instanceSyncPerpetualTaskInfoDTO.setLastSuccessfulRun(lastSuccessfulRun);
+            instanceSyncPerpetualTaskInfoDTO.setContentHash(
+                isEmpty(instanceSyncData.getContentHash()) ? null : instanceSyncData.getContentHash());
+            instanceSyncPerpetualTaskInfoDTO.setContentHashSyncedAt(lastSuccessfulRun);
             instanceSyncPerpetualTaskInfoService.updateLastSuccessfulRun(instanceSyncPerpetualTaskInfoDTO);
+            changed++;
           } catch (Exception exception) {
             log.error("Exception occurred during instance sync", exception);
           } finally {
@@ -569,6 +594,24 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
         }
       }
     }
+    instanceSyncMonitoringService.recordDeltaMetrics(accountIdentifier, instancesPerTask.size(), unchanged, changed);
+  }
+
+  /**
+   * The instances from the delegate are unchanged when their content hash is the one of the instances synced last time.
+   * The delegate leaves out unchanged instances, which are still synced in full once every FULL_SYNC_INTERVAL.
+   */
+  private boolean isUnchanged(
+      InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO, InstanceSyncData instanceSyncData) {
+    return isNotEmpty(instanceSyncData.getContentHash())
+        && instanceSyncData.getContentHash().equals(instanceSyncPerpetualTaskInfoDTO.getContentHash())
+        && (instanceSyncData.getServerInstanceInfo().isEmpty() || isContentHashFresh(instanceSyncPerpetualTaskInfoDTO));
+  }
+
+  private boolean isContentHashFresh(InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO) {
+    return instanceSyncPerpetualTaskInfoDTO.getContentHash() != null
+        && instanceSyncPerpetualTaskInfoDTO.getContentHashSyncedAt() != null
+        && instanceSyncPerpetualTaskInfoDTO.getContentHashSyncedAt() + FULL_SYNC_INTERVAL > System.currentTimeMillis();
   }
 
   private void migrateToInstanceSyncV1(InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO,
@@ -635,8 +678,12 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
           instanceSyncPerpetualTaskInfoDTO.getDeploymentInfoDetailsDTOList().get(0).getDeploymentInfoDTO().getType(),
           infrastructureMappingDTO.getInfrastructureKind());
 
-      deploymentReleaseDetailsList.add(
-          instanceSyncHandler.getDeploymentReleaseDetails(instanceSyncPerpetualTaskInfoDTO));
+      DeploymentReleaseDetails deploymentReleaseDetails =
+          instanceSyncHandler.getDeploymentReleaseDetails(instanceSyncPerpetualTaskInfoDTO);
+      if (isContentHashFresh(instanceSyncPerpetualTaskInfoDTO)) {
+        deploymentReleaseDetails.setContentHash(instanceSyncPerpetualTaskInfoDTO.getContentHash());
+      }
+      deploymentReleaseDetailsList.add(deploymentReleaseDetails);
     }
 
     return InstanceSyncTaskDetails.builder()
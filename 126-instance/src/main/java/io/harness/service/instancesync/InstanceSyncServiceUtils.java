@@ -26,28 +26,16 @@ class InstanceSyncServiceUtils {
   private InstanceService instanceService;
 
   public void processInstances(Map<OperationsOnInstances, List<InstanceDTO>> instancesToBeModified) {
-    deleteInstances(instancesToBeModified.get(OperationsOnInstances.DELETE));
-    // ** check if saveAll method can be used safely to update multiple records together
-    saveInstances(instancesToBeModified.get(OperationsOnInstances.ADD));
-    updateInstances(instancesToBeModified.get(OperationsOnInstances.UPDATE));
-  }
-  private void deleteInstances(List<InstanceDTO> instancesToBeDeleted) {
+    List<InstanceDTO> instancesToBeDeleted = instancesToBeModified.get(OperationsOnInstances.DELETE);
+    List<InstanceDTO> instancesToBeSaved = instancesToBeModified.get(OperationsOnInstances.ADD);
+    List<InstanceDTO> instancesToBeUpdated = instancesToBeModified.get(OperationsOnInstances.UPDATE);
     logInstances(OperationsOnInstances.DELETE.name(), instancesToBeDeleted);
-    instancesToBeDeleted.forEach(instanceDTO
-        -> instanceService.delete(instanceDTO.getInstanceKey(), instanceDTO.getAccountIdentifier(),
-            instanceDTO.getOrgIdentifier(), instanceDTO.getProjectIdentifier(),
-            instanceDTO.getInfrastructureMappingId()));
-  }
-
-  private void saveInstances(List<InstanceDTO> instancesToBeSaved) {
     logInstances(OperationsOnInstances.ADD.name(), instancesToBeSaved);
-    instancesToBeSaved.forEach(instanceDTO -> instanceService.saveOrReturnEmptyIfAlreadyExists(instanceDTO));
-  }
-
-  private void updateInstances(List<InstanceDTO> instancesToBeUpdated) {
     logInstances(OperationsOnInstances.UPDATE.name(), instancesToBeUpdated);
-    instancesToBeUpdated.forEach(instanceDTO -> instanceService.findAndReplace(instanceDTO));
+    // The instances added, deleted and updated are distinct, so they are written together in one bulk write
+    instanceService.bulkWrite(instancesToBeSaved, instancesToBeUpdated, instancesToBeDeleted);
   }
+
   private void logInstances(String operation, List<InstanceDTO> instanceDTOList) {
     if (instanceDTOList.isEmpty()) {
       return;
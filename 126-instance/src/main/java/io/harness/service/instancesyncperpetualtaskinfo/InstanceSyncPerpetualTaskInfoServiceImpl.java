@@ -73,9 +73,12 @@ public class InstanceSyncPerpetualTaskInfoServiceImpl implements InstanceSyncPer
                             .is(instanceSyncPerpetualTaskInfoDTO.getAccountIdentifier())
                             .and(InstanceSyncPerpetualTaskInfoKeys.id)
                             .is(instanceSyncPerpetualTaskInfoDTO.getId());
-    Update update = new Update().set(InstanceSyncPerpetualTaskInfoKeys.deploymentInfoDetailsList,
-        DeploymentInfoDetailsMapper.toDeploymentInfoDetailsEntityList(
-            instanceSyncPerpetualTaskInfoDTO.getDeploymentInfoDetailsDTOList()));
+    // The instances synced for the previous deployment infos are synced again in full
+    Update update = new Update()
+                        .set(InstanceSyncPerpetualTaskInfoKeys.deploymentInfoDetailsList,
+                            DeploymentInfoDetailsMapper.toDeploymentInfoDetailsEntityList(
+                                instanceSyncPerpetualTaskInfoDTO.getDeploymentInfoDetailsDTOList()))
+                        .unset(InstanceSyncPerpetualTaskInfoKeys.contentHash);
     return InstanceSyncPerpetualTaskInfoMapper.toDTO(instanceSyncPerpetualTaskInfoRepository.update(criteria, update));
   }
 
@@ -91,6 +94,7 @@ public class InstanceSyncPerpetualTaskInfoServiceImpl implements InstanceSyncPer
         DeploymentInfoDetailsMapper.toDeploymentInfoDetailsEntityList(
             instanceSyncPerpetualTaskInfoDTO.getDeploymentInfoDetailsDTOList()));
     update.set(InstanceSyncPerpetualTaskInfoKeys.connectorIdentifier, connectorIdentifier);
+    update.unset(InstanceSyncPerpetualTaskInfoKeys.contentHash);
     return InstanceSyncPerpetualTaskInfoMapper.toDTO(instanceSyncPerpetualTaskInfoRepository.update(criteria, update));
   }
 
@@ -121,6 +125,13 @@ public class InstanceSyncPerpetualTaskInfoServiceImpl implements InstanceSyncPer
 
     update.set(
         InstanceSyncPerpetualTaskInfoKeys.lastSuccessfulRun, instanceSyncPerpetualTaskInfoDTO.getLastSuccessfulRun());
+    if (instanceSyncPerpetualTaskInfoDTO.getContentHash() != null) {
+      update.set(InstanceSyncPerpetualTaskInfoKeys.contentHash, instanceSyncPerpetualTaskInfoDTO.getContentHash());
+      update.set(InstanceSyncPerpetualTaskInfoKeys.contentHashSyncedAt,
+          instanceSyncPerpetualTaskInfoDTO.getContentHashSyncedAt());
+    } else {
+      update.unset(InstanceSyncPerpetualTaskInfoKeys.contentHash);
+    }
     return InstanceSyncPerpetualTaskInfoMapper.toDTO(instanceSyncPerpetualTaskInfoRepository.update(criteria, update));
   }
 
@@ -7,6 +7,7 @@
 
 package io.harness.repositories.instance;
 
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.BUHA;
 import static io.harness.rule.OwnerRule.MEENA;
 import static io.harness.rule.OwnerRule.PIYUSH_BHUWALKA;
@@ -16,7 +17,9 @@ import static io.harness.rule.OwnerRule.VIKYATH_HAREKAL;
 import static java.util.Comparator.comparingInt;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,15 +39,22 @@ import io.harness.mongo.helper.SecondaryMongoTemplateHolder;
 import io.harness.ng.core.environment.beans.EnvironmentType;
 import io.harness.rule.Owner;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.Mock;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -52,6 +62,7 @@ import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 
 public class InstanceRepositoryCustomImplTest extends InstancesTestBase {
   private final String ACCOUNT_ID = "acc";
@@ -110,6 +121,33 @@ public class InstanceRepositoryCustomImplTest extends InstancesTestBase {
     assertThat(instanceRepositoryCustom.findAndModify(criteria, update)).isEqualTo(instance);
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void bulkWriteReturnsTheExistingInstancesToInsert() {
+    Instance newInstance = Instance.builder().instanceKey("new").build();
+    Instance existingInstance = Instance.builder().instanceKey("existing").build();
+    Instance updatedInstance = Instance.builder().instanceKey("updated").build();
+    Criteria criteria = Criteria.where(InstanceKeys.instanceKey).is("deleted");
+    Update update = new Update().set(InstanceKeys.isDeleted, true);
+    BulkOperations bulkOperations = mock(BulkOperations.class);
+    when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Instance.class)).thenReturn(bulkOperations);
+    when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    when(bulkOperations.execute())
+        .thenThrow(new BulkOperationException("duplicate",
+            new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1)), null, new ServerAddress(),
+                Collections.emptySet())));
+
+    assertThat(instanceRepositoryCustom.bulkWrite(List.of(newInstance, existingInstance),
+                   List.of(Pair.of(Criteria.where(InstanceKeys.instanceKey).is("updated"), updatedInstance)),
+                   List.of(Pair.of(criteria, update))))
+        .containsExactly(existingInstance);
+    verify(bulkOperations).insert(List.of(newInstance, existingInstance));
+    verify(bulkOperations).replaceOne(any(Query.class), eq(updatedInstance));
+    verify(bulkOperations).updateOne(new Query(criteria), update);
+  }
+
   @Test
   @Owner(developers = PIYUSH_BHUWALKA)
   @Category(UnitTests.class)
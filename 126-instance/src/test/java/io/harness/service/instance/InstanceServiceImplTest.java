@@ -15,6 +15,7 @@
 package io.harness.service.instance;
 
 import static io.harness.rule.OwnerRule.ABHISHEK;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.BUHA;
 import static io.harness.rule.OwnerRule.PIYUSH_BHUWALKA;
 import static io.harness.rule.OwnerRule.RISHABH;
@@ -71,6 +72,8 @@ import org.mockito.Mock;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 import org.springframework.transaction.TransactionTimedOutException;
 
 public class InstanceServiceImplTest extends InstancesTestBase {
@@ -213,6 +216,77 @@ public class InstanceServiceImplTest extends InstancesTestBase {
     assertFalse(response.isPresent());
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void bulkWriteUndeletesTheExistingInstancesToAdd() {
+    InstanceInfoDTO instanceInfoDTO = K8sInstanceInfoDTO.builder().build();
+    InstanceDTO instanceToAdd = InstanceDTO.builder()
+                                    .instanceKey("added")
+                                    .infrastructureMappingId(infraMappingId)
+                                    .instanceInfoDTO(instanceInfoDTO)
+                                    .build();
+    InstanceDTO instanceToUpdate = InstanceDTO.builder()
+                                       .instanceKey("updated")
+                                       .infrastructureMappingId(infraMappingId)
+                                       .instanceInfoDTO(instanceInfoDTO)
+                                       .build();
+    InstanceDTO instanceToDelete = InstanceDTO.builder()
+                                       .instanceKey("deleted")
+                                       .accountIdentifier("Acc")
+                                       .orgIdentifier("Org")
+                                       .projectIdentifier("Proj")
+                                       .infrastructureMappingId(infraMappingId)
+                                       .instanceInfoDTO(instanceInfoDTO)
+                                       .build();
+    Instance existingInstance = Instance.builder().instanceKey("added").infrastructureMappingId(infraMappingId).build();
+    when(instanceRepository.bulkWrite(anyList(), anyList(), anyList())).thenReturn(List.of(existingInstance));
+    when(instanceRepository.findAndReplace(any(), any())).thenReturn(existingInstance);
+
+    instanceService.bulkWrite(List.of(instanceToAdd), List.of(instanceToUpdate), List.of(instanceToDelete));
+
+    ArgumentCaptor<List<Instance>> instancesToInsert = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Pair<Criteria, Instance>>> instancesToReplace = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<Pair<Criteria, Update>>> instancesToSoftDelete = ArgumentCaptor.forClass(List.class);
+    verify(instanceRepository)
+        .bulkWrite(instancesToInsert.capture(), instancesToReplace.capture(), instancesToSoftDelete.capture());
+    assertThat(instancesToInsert.getValue()).extracting(Instance::getInstanceKey).containsExactly("added");
+    assertThat(instancesToReplace.getValue().get(0).getSecond().getInstanceKey()).isEqualTo("updated");
+    assertThat(instancesToSoftDelete.getValue().get(0).getFirst().getCriteriaObject().get(InstanceKeys.instanceKey))
+        .isEqualTo("deleted");
+    assertThat(instancesToSoftDelete.getValue().get(0).getSecond().getUpdateObject().toJson())
+        .contains(InstanceKeys.isDeleted);
+    verify(instanceRepository).findAndReplace(any(), eq(existingInstance));
+    assertFalse(existingInstance.isDeleted());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void bulkWriteSkipsTheInvalidInstancesToDelete() {
+    InstanceDTO invalidInstance = InstanceDTO.builder()
+                                      .instanceKey("invalid")
+                                      .accountIdentifier("Acc")
+                                      .infrastructureMappingId(infraMappingId)
+                                      .build();
+    InstanceDTO instanceToDelete = InstanceDTO.builder()
+                                       .instanceKey("deleted")
+                                       .accountIdentifier("Acc")
+                                       .orgIdentifier("Org")
+                                       .projectIdentifier("Proj")
+                                       .infrastructureMappingId(infraMappingId)
+                                       .build();
+    when(instanceRepository.bulkWrite(anyList(), anyList(), anyList())).thenReturn(List.of());
+
+    instanceService.bulkWrite(List.of(), List.of(), List.of(invalidInstance, instanceToDelete));
+
+    ArgumentCaptor<List<Pair<Criteria, Update>>> instancesToSoftDelete = ArgumentCaptor.forClass(List.class);
+    verify(instanceRepository).bulkWrite(anyList(), anyList(), instancesToSoftDelete.capture());
+    assertThat(instancesToSoftDelete.getValue()).hasSize(1);
+    assertThat(instancesToSoftDelete.getValue().get(0).getFirst().getCriteriaObject().get(InstanceKeys.instanceKey))
+        .isEqualTo("deleted");
+  }
+
   @Test
   @Owner(developers = PIYUSH_BHUWALKA)
   @Category(UnitTests.class)
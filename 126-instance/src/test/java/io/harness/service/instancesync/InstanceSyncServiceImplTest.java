@@ -9,6 +9,7 @@ package io.harness.service.instancesync;
 
 import static io.harness.delegate.beans.connector.ConnectorType.KUBERNETES_CLUSTER;
 import static io.harness.rule.OwnerRule.ACHYUTH;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.ARVIND;
 import static io.harness.rule.OwnerRule.NAMAN_TALAYCHA;
 import static io.harness.rule.OwnerRule.PIYUSH_BHUWALKA;
@@ -26,6 +27,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -946,6 +948,70 @@ public class InstanceSyncServiceImplTest extends InstancesTestBase {
         .getInstanceSyncHandler(ServiceSpecType.KUBERNETES, InfrastructureKind.KUBERNETES_DIRECT);
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void processInstanceSyncByPerpetualTaskV2UnchangedInstancesTest() {
+    InfrastructureMappingDTO infrastructureMappingDTO = InfrastructureMappingDTO.builder()
+                                                            .accountIdentifier(ACCOUNT_IDENTIFIER)
+                                                            .id(ID)
+                                                            .orgIdentifier(ORG_IDENTIFIER)
+                                                            .projectIdentifier(PROJECT_IDENTIFIER)
+                                                            .envIdentifier(ENV_IDENTIFIER)
+                                                            .serviceIdentifier(SERVICE_IDENTIFIER)
+                                                            .infrastructureKind(InfrastructureKind.KUBERNETES_DIRECT)
+                                                            .connectorRef(CONNECTOR_REF)
+                                                            .infrastructureKey(INFRASTRUCTURE_KEY)
+                                                            .build();
+    InstanceSyncResponseV2 instanceSyncResponseV2 =
+        InstanceSyncResponseV2.newBuilder()
+            .setPerpetualTaskId(PERPETUAL_TASK)
+            .setAccountId(ACCOUNT_IDENTIFIER)
+            .setStatus(InstanceSyncStatus.newBuilder()
+                           .setIsSuccessful(true)
+                           .setExecutionStatus(CommandExecutionStatus.SUCCESS.name())
+                           .build())
+            .addInstanceData(InstanceSyncData.newBuilder()
+                                 .setTaskInfoId("taskInfoId")
+                                 .setStatus(InstanceSyncStatus.newBuilder()
+                                                .setIsSuccessful(true)
+                                                .setExecutionStatus(CommandExecutionStatus.SUCCESS.name())
+                                                .build())
+                                 .setDeploymentType(ServiceSpecType.KUBERNETES)
+                                 .setContentHash("contentHash")
+                                 .build())
+            .build();
+    InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO =
+        InstanceSyncPerpetualTaskInfoDTO.builder()
+            .id("taskInfoId")
+            .deploymentInfoDetailsDTOList(
+                Arrays.asList(DeploymentInfoDetailsDTO.builder()
+                                  .deploymentInfoDTO(K8sDeploymentInfoDTO.builder().releaseName("releaseName").build())
+                                  .build()))
+            .infrastructureMappingId(INFRASTRUCTURE_MAPPING_ID)
+            .contentHash("contentHash")
+            .contentHashSyncedAt(System.currentTimeMillis())
+            .build();
+    when(instanceSyncPerpetualTaskInfoService.findAll(ACCOUNT_IDENTIFIER, PERPETUAL_TASK))
+        .thenReturn(Arrays.asList(instanceSyncPerpetualTaskInfoDTO));
+    when(infrastructureMappingService.getByInfrastructureMappingId(INFRASTRUCTURE_MAPPING_ID))
+        .thenReturn(Optional.of(infrastructureMappingDTO));
+    when(instanceSyncHandlerFactoryService.getInstanceSyncHandler(
+             ServiceSpecType.KUBERNETES, InfrastructureKind.KUBERNETES_DIRECT))
+        .thenReturn(abstractInstanceSyncHandler);
+    when(abstractInstanceSyncHandler.isInstanceSyncV2EnabledAndSupported(ACCOUNT_IDENTIFIER)).thenReturn(true);
+    doReturn(Environment.builder().build()).when(instanceSyncHelper).fetchEnvironment(any());
+    doReturn(ServiceEntity.builder().build()).when(instanceSyncHelper).fetchService(any());
+
+    instanceSyncService.processInstanceSyncByPerpetualTaskV2(
+        ACCOUNT_IDENTIFIER, PERPETUAL_TASK, instanceSyncResponseV2);
+
+    verify(instanceSyncPerpetualTaskInfoService, times(1)).updateLastSuccessfulRun(instanceSyncPerpetualTaskInfoDTO);
+    verify(persistentLocker, never()).waitToAcquireLock(anyString(), any(), any());
+    verify(kryoSerializer, never()).asObject(nullable(byte[].class));
+    verify(instanceSyncMonitoringService, times(1)).recordDeltaMetrics(ACCOUNT_IDENTIFIER, 1, 1, 0);
+  }
+
   @Test
   @Owner(developers = NAMAN_TALAYCHA)
   @Category(UnitTests.class)
@@ -14,8 +14,6 @@ import static io.harness.service.instancesync.OperationsOnInstances.UPDATE;
 
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 import io.harness.annotations.dev.HarnessTeam;
@@ -82,9 +80,9 @@ public class InstanceSyncServiceUtilsTest {
 
     instanceSyncServiceUtils.processInstances(instancesToBeModified);
 
-    verify(instanceService).delete(eq(INSTANCESYNC_KEY1), anyString(), anyString(), anyString(), anyString());
-    verify(instanceService).findAndReplace(eq(instanceToUpdate));
-    verify(instanceService).saveOrReturnEmptyIfAlreadyExists(eq(instanceToAdd));
+    verify(instanceService)
+        .bulkWrite(Collections.singletonList(instanceToAdd), Collections.singletonList(instanceToUpdate),
+            instancesToBeModified.get(DELETE));
   }
 
   @Test
@@ -44,7 +44,7 @@ public class DelegateAgentMetricResource {
           metricRegistry.getMetric(Arrays.stream(DelegateMetric.values())
                                        .collect(Collectors.toList())
                                        .stream()
-                                       .map(delegateMetric -> delegateMetric.getMetricName())
+                                       .flatMap(delegateMetric -> delegateMetric.getSampleNames().stream())
                                        .collect(Collectors.toSet())));
       writer.flush();
       return writer.getBuffer().toString();
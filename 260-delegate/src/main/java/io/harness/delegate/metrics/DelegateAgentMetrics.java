@@ -18,6 +18,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import io.prometheus.client.Histogram;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(DEL)
 public class DelegateAgentMetrics {
   private static final int METRICS_POLL_DELAY_SECONDS = 30;
+  private static final double[] HISTOGRAM_MILLIS_BUCKETS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
   @Inject @Named("delegateAgentMetricsExecutor") protected ScheduledExecutorService executorService;
 
   @Inject private HarnessMetricRegistry metricRegistry;
@@ -57,6 +59,14 @@ public class DelegateAgentMetrics {
           metricRegistry.registerCounterMetric(
               delegateMetric.getMetricName(), delegateMetric.getLabels(), delegateMetric.getDescription());
           break;
+        case HISTOGRAM:
+          metricRegistry.registerHistogramMetric(delegateMetric.getMetricName(),
+              Histogram.build()
+                  .name(HarnessMetricRegistry.getAbsoluteMetricName(delegateMetric.getMetricName()))
+                  .help(delegateMetric.getDescription())
+                  .labelNames(delegateMetric.getLabels())
+                  .buckets(HISTOGRAM_MILLIS_BUCKETS));
+          break;
         default:
           unhandled(delegateMetric.getMetricType());
       }
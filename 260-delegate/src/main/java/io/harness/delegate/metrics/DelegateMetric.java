@@ -10,6 +10,10 @@ package io.harness.delegate.metrics;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.DELEGATE_NAME_LABEL;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASK_TYPE_LABEL;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 public enum DelegateMetric {
   TASK_EXECUTION_TIME("task_execution_time", "Time needed to execute the task", DelegateMetricType.GAUGE,
       DELEGATE_NAME_LABEL, TASK_TYPE_LABEL),
@@ -25,7 +29,14 @@ public enum DelegateMetric {
       DelegateMetricType.COUNT, DELEGATE_NAME_LABEL),
   DELEGATE_CONNECTED("delegate_connected", "Delegate connected", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
   RESOURCE_CONSUMPTION_ABOVE_THRESHOLD("delegate_resource_consumption_above_threshold",
-      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL);
+      "Delegate resource consumption reached more than threshold", DelegateMetricType.GAUGE, DELEGATE_NAME_LABEL),
+  LOG_LINES_STREAMED("log_lines_streamed_total", "Number of task log lines pushed to the log service",
+      DelegateMetricType.COUNT, DELEGATE_NAME_LABEL),
+  LOG_LINES_DROPPED("log_lines_dropped_total",
+      "Number of task log lines dropped as they were written faster than they could be streamed",
+      DelegateMetricType.COUNT, DELEGATE_NAME_LABEL),
+  LOG_PUSH_TIME("log_push_time_millis", "Time needed to push a batch of task log lines to the log service",
+      DelegateMetricType.HISTOGRAM, DELEGATE_NAME_LABEL);
 
   private final String metricName;
   private final String description;
@@ -54,4 +65,14 @@ public enum DelegateMetric {
   public String[] getLabels() {
     return labels;
   }
+
+  /**
+   * Names of the samples exported for the metric, a histogram is exported as its buckets, count and sum.
+   */
+  public List<String> getSampleNames() {
+    if (metricType == DelegateMetricType.HISTOGRAM) {
+      return Arrays.asList(metricName + "_bucket", metricName + "_count", metricName + "_sum");
+    }
+    return Collections.singletonList(metricName);
+  }
 }
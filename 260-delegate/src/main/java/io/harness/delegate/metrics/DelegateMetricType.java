@@ -7,4 +7,4 @@
 
 package io.harness.delegate.metrics;
 
-public enum DelegateMetricType { GAUGE, COUNT }
+public enum DelegateMetricType { GAUGE, COUNT, HISTOGRAM }
@@ -49,6 +49,9 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
 import static io.harness.delegate.metrics.DelegateMetric.DELEGATE_CONNECTED;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_LINES_DROPPED;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_LINES_STREAMED;
+import static io.harness.delegate.metrics.DelegateMetric.LOG_PUSH_TIME;
 import static io.harness.delegate.metrics.DelegateMetric.RESOURCE_CONSUMPTION_ABOVE_THRESHOLD;
 import static io.harness.delegate.metrics.DelegateMetric.TASKS_CURRENTLY_EXECUTING;
 import static io.harness.delegate.metrics.DelegateMetric.TASK_COMPLETED;
@@ -147,8 +150,11 @@ import io.harness.exception.UnexpectedException;
 import io.harness.filesystem.FileIo;
 import io.harness.grpc.util.RestartableServiceManager;
 import io.harness.logging.AutoLogContext;
+import io.harness.logstreaming.LogBufferBudget;
+import io.harness.logstreaming.LogOverflowPolicy;
 import io.harness.logstreaming.LogStreamingClient;
 import io.harness.logstreaming.LogStreamingHelper;
+import io.harness.logstreaming.LogStreamingMetrics;
 import io.harness.logstreaming.LogStreamingSanitizer;
 import io.harness.logstreaming.LogStreamingTaskClient;
 import io.harness.logstreaming.LogStreamingTaskClient.LogStreamingTaskClientBuilder;
@@ -376,6 +382,24 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject Context context;
 
   private static final LogPerformanceImpl logPerformanceImpl = new LogPerformanceImpl();
+  private final LogStreamingMetrics logStreamingMetrics = new LogStreamingMetrics() {
+    @Override
+    public void recordLinesStreamed(int count) {
+      metricRegistry.recordCounterInc(LOG_LINES_STREAMED.getMetricName(), new String[] {DELEGATE_NAME}, count);
+    }
+
+    @Override
+    public void recordLinesDropped(int count) {
+      metricRegistry.recordCounterInc(LOG_LINES_DROPPED.getMetricName(), new String[] {DELEGATE_NAME}, count);
+    }
+
+    @Override
+    public void recordFlushTime(long millis) {
+      metricRegistry.recordHistogram(LOG_PUSH_TIME.getMetricName(), new String[] {DELEGATE_NAME}, millis);
+    }
+  };
+  // Memory cap of the log lines buffered by all the tasks, created from the delegate config on first use.
+  private LogBufferBudget logBufferBudget;
   private final AtomicBoolean waiter = new AtomicBoolean(true);
 
   private final Set<String> currentlyAcquiringTasks = ConcurrentHashMap.newKeySet();
@@ -2348,7 +2372,16 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
             .logService(delegateLogService)
             .taskProgressExecutor(taskProgressExecutor)
             .appId(appId)
-            .activityId(activityId);
+            .activityId(activityId)
+            .metrics(logStreamingMetrics);
+
+    if (delegateConfiguration.getLogStreamingMaxBufferedBytes() != null) {
+      taskClientBuilder.bufferBudget(getLogBufferBudget());
+    }
+    if (isNotBlank(delegateConfiguration.getLogStreamingSpillDirectory())) {
+      taskClientBuilder.overflowPolicy(LogOverflowPolicy.SPILL_TO_DISK)
+          .spillDirectory(Paths.get(delegateConfiguration.getLogStreamingSpillDirectory()));
+    }
 
     if (isNotBlank(delegateTaskPackage.getDelegateCallbackToken()) && delegateServiceAgentClient != null) {
       taskClientBuilder.taskProgressClient(TaskProgressClient.builder()
@@ -2363,6 +2396,13 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     return taskClientBuilder.build();
   }
 
+  private synchronized LogBufferBudget getLogBufferBudget() {
+    if (logBufferBudget == null) {
+      logBufferBudget = new LogBufferBudget(delegateConfiguration.getLogStreamingMaxBufferedBytes());
+    }
+    return logBufferBudget;
+  }
+
   private Optional<LogSanitizer> getLogSanitizer(Pair<String, Set<String>> activitySecrets) {
     // Create log sanitizer only if activityId and secrets are present
     if (isNotBlank(activitySecrets.getLeft()) && isNotEmpty(activitySecrets.getRight())) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the estimated heap held by the log lines buffered by all the {@link LogStreamingTaskClient}s sharing it, so that
+ * the cap does not grow with the number of tasks running on the delegate.
+ */
+public class LogBufferBudget {
+  /**
+   * Shared by the task clients which are not given a budget of their own.
+   */
+  public static final LogBufferBudget SHARED = new LogBufferBudget(64L * 1024 * 1024);
+
+  private final long maxBytes;
+  private final AtomicLong usedBytes = new AtomicLong();
+  private final Object releaseMonitor = new Object();
+
+  public LogBufferBudget(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * @return false if the bytes do not fit under the cap. A line is always let in while nothing else is buffered, even
+   *     if it is larger than the cap, so that it can not wait forever.
+   */
+  boolean tryAcquire(long bytes) {
+    long used = usedBytes.addAndGet(bytes);
+    if (used <= maxBytes || used == bytes) {
+      return true;
+    }
+    usedBytes.addAndGet(-bytes);
+    return false;
+  }
+
+  void release(long bytes) {
+    if (bytes == 0) {
+      return;
+    }
+    usedBytes.addAndGet(-bytes);
+    synchronized (releaseMonitor) {
+      releaseMonitor.notifyAll();
+    }
+  }
+
+  /**
+   * Waits until some bytes are released or the timeout passes.
+   */
+  void awaitRelease(long timeoutMillis) throws InterruptedException {
+    synchronized (releaseMonitor) {
+      releaseMonitor.wait(timeoutMillis);
+    }
+  }
+
+  long getUsedBytes() {
+    return usedBytes.get();
+  }
+}
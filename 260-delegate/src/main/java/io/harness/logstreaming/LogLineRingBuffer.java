@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi producer, single consumer queue of log lines. Every slot carries a sequence number telling whether it
+ * is free for the producer of the given round or published for the consumer, so producers only contend on a single
+ * CAS and never block the task threads writing the logs.
+ *
+ * The consumer side is not thread safe, the caller has to make sure there is a single thread draining at a time.
+ */
+class LogLineRingBuffer {
+  private final int mask;
+  private final AtomicReferenceArray<LogLine> lines;
+  private final AtomicLongArray sequences;
+  private final AtomicLong producerIndex = new AtomicLong();
+  private volatile long consumerIndex;
+
+  LogLineRingBuffer(int requestedCapacity) {
+    int capacity = Integer.highestOneBit(Math.max(1, requestedCapacity - 1)) << 1;
+    mask = capacity - 1;
+    lines = new AtomicReferenceArray<>(capacity);
+    sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * @return false if the buffer is full
+   */
+  boolean offer(LogLine logLine) {
+    long index = producerIndex.get();
+    while (true) {
+      int slot = (int) index & mask;
+      long diff = sequences.get(slot) - index;
+      if (diff == 0) {
+        if (producerIndex.compareAndSet(index, index + 1)) {
+          lines.set(slot, logLine);
+          sequences.set(slot, index + 1);
+          return true;
+        }
+        index = producerIndex.get();
+      } else if (diff < 0) {
+        return false;
+      } else {
+        index = producerIndex.get();
+      }
+    }
+  }
+
+  /**
+   * Moves up to max published lines to the sink in the order they were offered.
+   */
+  int drainTo(List<LogLine> sink, int max) {
+    long index = consumerIndex;
+    int drained = 0;
+    while (drained < max) {
+      int slot = (int) index & mask;
+      if (sequences.get(slot) != index + 1) {
+        break;
+      }
+      sink.add(lines.get(slot));
+      lines.set(slot, null);
+      sequences.set(slot, index + mask + 1);
+      index++;
+      drained++;
+    }
+    consumerIndex = index;
+    return drained;
+  }
+
+  int size() {
+    return (int) Math.max(0, producerIndex.get() - consumerIndex);
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+}
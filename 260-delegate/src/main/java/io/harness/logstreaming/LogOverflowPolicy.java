@@ -0,0 +1,28 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+/**
+ * What the {@link LogStreamingTaskClient} does with the log lines written while its memory buffers are full, i.e. when
+ * the task writes logs faster than they can be pushed to the log service.
+ */
+public enum LogOverflowPolicy {
+  /**
+   * The writing task waits until the dispatcher pushed enough lines to make room for the line, so no line is lost.
+   */
+  BLOCK,
+  /**
+   * Lines are dropped and counted, the stream gets a warning line with the number of lines dropped.
+   */
+  DROP,
+  /**
+   * Lines are appended to a file on the local disk and pushed after the lines buffered in memory. Lines are dropped
+   * only if the file can not be written.
+   */
+  SPILL_TO_DISK
+}
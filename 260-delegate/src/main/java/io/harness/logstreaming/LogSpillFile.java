@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import io.harness.logging.LogLevel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append only file of the log lines which did not fit into the memory of the log stream. The file is written until
+ * {@link #finishWrites()} is called and read afterwards, lines are read back in the order they were appended.
+ */
+@Slf4j
+class LogSpillFile {
+  private final Path path;
+  private DataOutputStream out;
+  private DataInputStream in;
+  private long written;
+  private long read;
+
+  private LogSpillFile(Path path) throws IOException {
+    this.path = path;
+    this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+  }
+
+  static LogSpillFile create(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    return new LogSpillFile(Files.createTempFile(directory, "log-stream-", ".spill"));
+  }
+
+  void append(LogLine logLine) throws IOException {
+    out.writeUTF(logLine.getLevel() == null ? "" : logLine.getLevel().name());
+    writeString(logLine.getMessage());
+    out.writeBoolean(logLine.getTimestamp() != null);
+    if (logLine.getTimestamp() != null) {
+      out.writeLong(logLine.getTimestamp().getEpochSecond());
+      out.writeInt(logLine.getTimestamp().getNano());
+    }
+    out.writeInt(logLine.getPosition());
+    Map<String, String> arguments = logLine.getArguments();
+    out.writeInt(arguments == null ? -1 : arguments.size());
+    if (arguments != null) {
+      for (Map.Entry<String, String> argument : arguments.entrySet()) {
+        writeString(argument.getKey());
+        writeString(argument.getValue());
+      }
+    }
+    written++;
+  }
+
+  boolean isEmpty() {
+    return written == 0;
+  }
+
+  void finishWrites() throws IOException {
+    out.close();
+  }
+
+  int read(List<LogLine> sink, int max) throws IOException {
+    if (in == null) {
+      in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+    }
+    int count = 0;
+    while (count < max && read < written) {
+      String level = in.readUTF();
+      LogLine.LogLineBuilder logLine =
+          LogLine.builder().level(level.isEmpty() ? null : LogLevel.valueOf(level)).message(readString());
+      if (in.readBoolean()) {
+        logLine.timestamp(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+      }
+      logLine.position(in.readInt());
+      int argumentCount = in.readInt();
+      if (argumentCount >= 0) {
+        Map<String, String> arguments = new HashMap<>();
+        for (int i = 0; i < argumentCount; i++) {
+          arguments.put(readString(), readString());
+        }
+        logLine.arguments(arguments);
+      }
+      sink.add(logLine.skipColoring(true).build());
+      read++;
+      count++;
+    }
+    return count;
+  }
+
+  boolean isExhausted() {
+    return read >= written;
+  }
+
+  void delete() {
+    try {
+      out.close();
+      if (in != null) {
+        in.close();
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Unable to delete log spill file {}", path, e);
+    }
+  }
+
+  private void writeString(String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private String readString() throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lines of a single log stream waiting to be pushed. Lines are kept in a lock free ring buffer, once it overflows they
+ * are spilled to disk (if there is a spill directory) until all the spilled lines are drained again, so that the
+ * lines keep their order.
+ *
+ * Any number of threads can write, the drain methods must be called by a single thread at a time.
+ */
+@Slf4j
+class LogStreamBuffer {
+  private final LogLineRingBuffer memory;
+  private final Path spillDirectory;
+  private final AtomicLong droppedLines = new AtomicLong();
+
+  private final Object spillLock = new Object();
+  private volatile boolean spilling;
+  private LogSpillFile spillFile;
+  private volatile LogSpillFile drainingFile;
+
+  LogStreamBuffer(int capacity, Path spillDirectory) {
+    this.memory = new LogLineRingBuffer(capacity);
+    this.spillDirectory = spillDirectory;
+  }
+
+  /**
+   * @return false if the line did not fit to the memory or the stream spills to disk already
+   */
+  boolean offer(LogLine logLine) {
+    return !spilling && memory.offer(logLine);
+  }
+
+  /**
+   * @return false if the stream can not spill or writing the spill file failed
+   */
+  boolean spill(LogLine logLine) {
+    if (spillDirectory == null) {
+      return false;
+    }
+    synchronized (spillLock) {
+      try {
+        if (spillFile == null) {
+          spillFile = LogSpillFile.create(spillDirectory);
+        }
+        spillFile.append(logLine);
+        spilling = true;
+        return true;
+      } catch (IOException e) {
+        log.warn("Unable to spill log line to {}", spillDirectory, e);
+        return false;
+      }
+    }
+  }
+
+  void recordDropped() {
+    droppedLines.incrementAndGet();
+  }
+
+  long takeDropped() {
+    return droppedLines.getAndSet(0);
+  }
+
+  int memorySize() {
+    return memory.size();
+  }
+
+  int drainMemory(List<LogLine> sink, int max) {
+    return memory.drainTo(sink, max);
+  }
+
+  /**
+   * Moves spilled lines to the sink, the memory has to be drained first as it holds the older lines. A spill file which
+   * can not be read back is dropped.
+   */
+  int drainSpilled(List<LogLine> sink, int max) {
+    int drained = 0;
+    while (spilling && drained < max) {
+      LogSpillFile file = drainingFile;
+      try {
+        if (file == null) {
+          synchronized (spillLock) {
+            if (spillFile == null) {
+              spilling = false;
+              break;
+            }
+            file = spillFile;
+            spillFile = null;
+            drainingFile = file;
+          }
+          file.finishWrites();
+        }
+        drained += file.read(sink, max - drained);
+        if (!file.isExhausted()) {
+          continue;
+        }
+      } catch (IOException e) {
+        log.warn("Unable to read spilled log lines back, the rest of the spill file is dropped", e);
+      }
+      file.delete();
+      drainingFile = null;
+    }
+    return drained;
+  }
+
+  boolean isEmpty() {
+    return memory.isEmpty() && !spilling && drainingFile == null;
+  }
+
+  /**
+   * Drops whatever was not drained yet, including the spill files.
+   */
+  void discard() {
+    synchronized (spillLock) {
+      if (spillFile != null) {
+        spillFile.delete();
+        spillFile = null;
+      }
+      if (drainingFile != null) {
+        drainingFile.delete();
+        drainingFile = null;
+      }
+      spilling = false;
+    }
+  }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+/**
+ * Receives the throughput figures of the {@link LogStreamingTaskClient}. Called from the log dispatching threads, so
+ * implementations must be thread safe and cheap.
+ */
+public interface LogStreamingMetrics {
+  LogStreamingMetrics NOOP = new LogStreamingMetrics() {};
+
+  default void recordLinesStreamed(int count) {}
+
+  default void recordLinesDropped(int count) {}
+
+  default void recordFlushTime(long millis) {}
+}
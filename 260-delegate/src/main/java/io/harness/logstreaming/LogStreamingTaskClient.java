@@ -34,20 +34,25 @@ import io.harness.network.SafeHttpCall;
 import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.extern.slf4j.Slf4j;
@@ -61,6 +66,11 @@ import org.jetbrains.annotations.NotNull;
  *    -> write line
  *    -> close stream
  * concurrent usage of open and close stream will result in loss of logs
+ *
+ * Log lines are buffered per stream in lock free ring buffers and pushed in batches of up to maxBatchSize lines, every
+ * flushIntervalMillis or as soon as a stream has a full batch. The memory held by the buffered lines is capped by the
+ * bufferBudget shared by the task clients, lines written above the cap are handled according to the overflowPolicy.
+ * dispatchLogs() and closing a stream push all the buffered lines of the stream.
  */
 @CodePulse(
     module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_COMMON_STEPS})
@@ -82,7 +92,22 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private ScheduledFuture scheduledFuture;
   private final ITaskProgressClient taskProgressClient;
 
-  @Default private final Map<String, List<LogLine>> logCache = new HashMap<>();
+  @VisibleForTesting static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+  private static final int MAX_BATCHES_PER_FLUSH = 8;
+  // Rough estimate of the heap held by a line besides its message characters.
+  private static final int LINE_OVERHEAD_BYTES = 64;
+
+  @Default private final int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  @Default private final long flushIntervalMillis = 100;
+  @Default private final int streamCapacity = 8192;
+  @Default private final LogBufferBudget bufferBudget = LogBufferBudget.SHARED;
+  @Default private final LogOverflowPolicy overflowPolicy = LogOverflowPolicy.BLOCK;
+  @Default private final Path spillDirectory = Paths.get(System.getProperty("java.io.tmpdir"), "log-streaming-spill");
+  @Default private final LogStreamingMetrics metrics = LogStreamingMetrics.NOOP;
+
+  @Default private final Map<String, LogStreamBuffer> logStreams = new ConcurrentHashMap<>();
+  @Default private final AtomicBoolean flushRequested = new AtomicBoolean();
+  @Default private final ReentrantLock dispatchLock = new ReentrantLock();
 
   private Set<String> markers;
 
@@ -98,35 +123,32 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     } catch (Exception ex) {
       log.warn("Unable to open log stream for account {} and key {}", accountId, logKey, ex);
     }
-    scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(this::dispatchLogs, 0, 100, TimeUnit.MILLISECONDS);
+    scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(
+        this::dispatchLogsIfIdle, 0, flushIntervalMillis, TimeUnit.MILLISECONDS);
   }
 
   @Override
   public void closeStream(String baseLogKeySuffix) {
     String logKey = getLogKey(baseLogKeySuffix);
 
-    synchronized (logCache) {
-      // We can mark this task to be completed. Log upload can happen asynchronously.
-      scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
-    }
+    // We can mark this task to be completed. Log upload can happen asynchronously.
+    scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
   }
 
   private void closeStreamAsync(String logKey) {
-    // Waiting for finite time allow log upload to finish.
-    long startTime = currentTimeMillis();
-    synchronized (logCache) {
-      while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
-        log.debug("For {} the logs are not drained yet. sleeping...", logKey);
-        try {
-          logCache.wait(100);
-        } catch (InterruptedException e) {
-          log.warn("Log upload didn't completed successfully for {} ", logKey);
+    dispatchLock.lock();
+    try {
+      LogStreamBuffer logStream = logStreams.get(logKey);
+      if (logStream != null) {
+        flush(logKey, logStream, true);
+        if (!logStream.isEmpty()) {
+          log.warn("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
+              logStreams.size());
         }
       }
-    }
-    if (logCache.containsKey(logKey)) {
-      log.warn("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
-          logCache.size());
+      discardStream(logKey);
+    } finally {
+      dispatchLock.unlock();
     }
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
@@ -141,6 +163,22 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     }
   }
 
+  private void discardStream(String logKey) {
+    dispatchLock.lock();
+    try {
+      LogStreamBuffer logStream = logStreams.remove(logKey);
+      if (logStream == null) {
+        return;
+      }
+      List<LogLine> remaining = new ArrayList<>();
+      logStream.drainMemory(remaining, Integer.MAX_VALUE);
+      bufferBudget.release(estimateSize(remaining));
+      logStream.discard();
+    } finally {
+      dispatchLock.unlock();
+    }
+  }
+
   @Override
   public void writeLogLine(LogLine logLine, String baseLogKeySuffix) {
     if (logLine == null) {
@@ -152,29 +190,154 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine, getMarkers());
     colorLog(logLine);
 
-    synchronized (logCache) {
-      if (!logCache.containsKey(logKey)) {
-        logCache.put(logKey, new ArrayList<>());
+    enqueue(logStreams.computeIfAbsent(logKey, key -> new LogStreamBuffer(streamCapacity, getSpillDirectory())),
+        logLine);
+  }
+
+  private void enqueue(LogStreamBuffer logStream, LogLine logLine) {
+    long size = estimateSize(logLine);
+    do {
+      if (bufferBudget.tryAcquire(size)) {
+        if (logStream.offer(logLine)) {
+          if (logStream.memorySize() >= maxBatchSize) {
+            requestFlush();
+          }
+          return;
+        }
+        bufferBudget.release(size);
       }
-      logCache.get(logKey).add(logLine);
+      requestFlush();
+    } while (overflowPolicy == LogOverflowPolicy.BLOCK && awaitRoom());
+    if (logStream.spill(logLine)) {
+      return;
+    }
+    logStream.recordDropped();
+    metrics.recordLinesDropped(1);
+  }
+
+  /**
+   * Waits for the dispatcher to push lines, the flush interval bounds the wait in case the release was missed.
+   *
+   * @return false if the writing thread was interrupted
+   */
+  private boolean awaitRoom() {
+    try {
+      bufferBudget.awaitRelease(flushIntervalMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
     }
   }
 
+  /**
+   * Pushes all the buffered lines, waits for the dispatch in progress if there is one.
+   */
   @Override
   public void dispatchLogs() {
-    synchronized (logCache) {
-      for (Iterator<Map.Entry<String, List<LogLine>>> iterator = logCache.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry<String, List<LogLine>> next = iterator.next();
-        try {
-          SafeHttpCall.executeWithExceptions(
-              logStreamingClient.pushMessage(token, accountId, next.getKey(), next.getValue()));
-        } catch (Exception ex) {
-          log.warn("Unable to push message to log stream for account {} and key {}", accountId, next.getKey(), ex);
-        }
-        iterator.remove();
+    dispatchLock.lock();
+    try {
+      flushAll(true);
+    } finally {
+      dispatchLock.unlock();
+    }
+  }
+
+  private void dispatchLogsIfIdle() {
+    flushRequested.set(false);
+    if (!dispatchLock.tryLock()) {
+      return;
+    }
+    try {
+      flushAll(false);
+    } catch (Exception ex) {
+      log.warn("Unable to dispatch logs for account {}", accountId, ex);
+    } finally {
+      dispatchLock.unlock();
+    }
+  }
+
+  private void requestFlush() {
+    if (flushRequested.compareAndSet(false, true)) {
+      try {
+        scheduledExecutorService.execute(this::dispatchLogsIfIdle);
+      } catch (RejectedExecutionException ex) {
+        flushRequested.set(false);
+      }
+    }
+  }
+
+  private void flushAll(boolean drain) {
+    for (Map.Entry<String, LogStreamBuffer> entry : logStreams.entrySet()) {
+      flush(entry.getKey(), entry.getValue(), drain);
+    }
+  }
+
+  /**
+   * Pushes the lines of the stream, all of them when draining, at most MAX_BATCHES_PER_FLUSH batches otherwise.
+   */
+  private void flush(String logKey, LogStreamBuffer logStream, boolean drain) {
+    List<LogLine> batch = new ArrayList<>();
+    long dropped = logStream.takeDropped();
+    if (dropped > 0) {
+      log.warn("Dropped {} log lines of {} for account {} as they were written faster than they could be pushed",
+          dropped, logKey, accountId);
+      batch.add(droppedLinesWarning(dropped));
+    }
+    for (int batches = 0; drain || batches < MAX_BATCHES_PER_FLUSH; batches++) {
+      int drained = logStream.drainMemory(batch, maxBatchSize - batch.size());
+      bufferBudget.release(estimateSize(batch.subList(batch.size() - drained, batch.size())));
+      logStream.drainSpilled(batch, maxBatchSize - batch.size());
+      if (batch.isEmpty()) {
+        return;
       }
-      logCache.notifyAll();
+      push(logKey, batch);
+      if (batch.size() < maxBatchSize) {
+        return;
+      }
+      batch = new ArrayList<>();
+    }
+    // The stream has more full batches, let the other streams go first and continue with the next flush.
+    requestFlush();
+  }
+
+  private void push(String logKey, List<LogLine> batch) {
+    long startTime = currentTimeMillis();
+    try {
+      SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, batch));
+      metrics.recordLinesStreamed(batch.size());
+    } catch (Exception ex) {
+      log.warn("Unable to push message to log stream for account {} and key {}", accountId, logKey, ex);
+    } finally {
+      metrics.recordFlushTime(currentTimeMillis() - startTime);
+    }
+  }
+
+  private LogLine droppedLinesWarning(long dropped) {
+    LogLine logLine =
+        LogLine.builder()
+            .level(LogLevel.WARN)
+            .message(dropped + " log lines were dropped as they were written faster than they could be streamed")
+            .timestamp(OffsetDateTime.now().toInstant())
+            .build();
+    colorLog(logLine);
+    return logLine;
+  }
+
+  private Path getSpillDirectory() {
+    return overflowPolicy == LogOverflowPolicy.SPILL_TO_DISK ? spillDirectory : null;
+  }
+
+  private static long estimateSize(LogLine logLine) {
+    return LINE_OVERHEAD_BYTES + 2L * (logLine.getMessage() == null ? 0 : logLine.getMessage().length());
+  }
+
+  private static long estimateSize(List<LogLine> logLines) {
+    long size = 0;
+    for (LogLine logLine : logLines) {
+      size += estimateSize(logLine);
     }
+    return size;
   }
 
   @NotNull
@@ -38,6 +38,7 @@ import io.harness.security.encryption.EncryptedDataDetail;
 import io.harness.security.encryption.SecretDecryptionService;
 import io.harness.serializer.KryoSerializer;
 
+import com.google.common.hash.Hashing;
 import com.google.inject.Inject;
 import com.google.protobuf.ByteString;
 import io.github.resilience4j.retry.Retry;
@@ -141,7 +142,15 @@ abstract class AbstractInstanceSyncV2TaskExecutor implements PerpetualTaskExecut
     try {
       List<ServerInstanceInfo> serverInstanceInfos =
           retrieveServiceInstances(instanceSyncV2Request, deploymentReleaseDetails);
-      instanceSyncData.setServerInstanceInfo(ByteString.copyFrom(kryoSerializer.asBytes(serverInstanceInfos)))
+      byte[] serverInstanceInfoBytes = kryoSerializer.asBytes(serverInstanceInfos);
+      String contentHash = Hashing.sha256().hashBytes(serverInstanceInfoBytes).toString();
+      if (contentHash.equals(deploymentReleaseDetails.getContentHash())) {
+        // The manager already has these instances, only the hash is sent
+        serverInstanceInfos = Collections.emptyList();
+      } else {
+        instanceSyncData.setServerInstanceInfo(ByteString.copyFrom(serverInstanceInfoBytes));
+      }
+      instanceSyncData.setContentHash(contentHash)
           .setStatus(InstanceSyncStatus.newBuilder()
                          .setIsSuccessful(true)
                          .setExecutionStatus(CommandExecutionStatus.SUCCESS.name())
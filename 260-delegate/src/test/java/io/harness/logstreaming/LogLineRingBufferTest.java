@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.logging.LogLevel;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class LogLineRingBufferTest extends CategoryTest {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRejectLinesWhenFull() {
+    LogLineRingBuffer buffer = new LogLineRingBuffer(3);
+    assertThat(buffer.capacity()).isEqualTo(4);
+    for (int i = 0; i < 4; i++) {
+      assertThat(buffer.offer(line("producer", i))).isTrue();
+    }
+    assertThat(buffer.offer(line("producer", 4))).isFalse();
+
+    List<LogLine> drained = new ArrayList<>();
+    assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+    assertThat(buffer.size()).isEqualTo(1);
+    assertThat(buffer.offer(line("producer", 4))).isTrue();
+    assertThat(buffer.drainTo(drained, 10)).isEqualTo(2);
+    assertThat(drained).extracting(LogLine::getPosition).containsExactly(0, 1, 2, 3, 4);
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldKeepOrderOfEveryProducer() throws Exception {
+    int producers = 4;
+    int linesPerProducer = 20_000;
+    LogLineRingBuffer buffer = new LogLineRingBuffer(64);
+    ExecutorService executorService = Executors.newFixedThreadPool(producers);
+    CountDownLatch done = new CountDownLatch(producers);
+    for (int p = 0; p < producers; p++) {
+      String producer = "producer" + p;
+      executorService.submit(() -> {
+        for (int i = 0; i < linesPerProducer; i++) {
+          LogLine logLine = line(producer, i);
+          while (!buffer.offer(logLine)) {
+            Thread.yield();
+          }
+        }
+        done.countDown();
+      });
+    }
+
+    Map<String, Integer> nextPositions = new HashMap<>();
+    List<LogLine> drained = new ArrayList<>();
+    int total = 0;
+    while (total < producers * linesPerProducer) {
+      drained.clear();
+      total += buffer.drainTo(drained, 16);
+      for (LogLine logLine : drained) {
+        int expected = nextPositions.getOrDefault(logLine.getMessage(), 0);
+        assertThat(logLine.getPosition()).isEqualTo(expected);
+        nextPositions.put(logLine.getMessage(), expected + 1);
+      }
+    }
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    executorService.shutdown();
+    assertThat(nextPositions).hasSize(producers).allSatisfy((producer, next) -> {
+      assertThat(next).isEqualTo(linesPerProducer);
+    });
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  private static LogLine line(String producer, int position) {
+    return LogLine.builder().level(LogLevel.INFO).message(producer).position(position).build();
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.harness.logging.LogLevel;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Simulates concurrent tasks writing logs at a fixed rate to a log service with a fixed push latency and prints the
+ * throughput, drops and push latencies of the {@link LogStreamingTaskClient}.
+ *
+ * Arguments: [tasks] [lines per second per task] [seconds] [push latency millis], defaults to 50 10000 10 20.
+ */
+public class LogStreamingTaskClientBenchmark {
+  private static final int TICKS_PER_SECOND = 100;
+
+  public static void main(String[] args) throws Exception {
+    int tasks = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+    int linesPerSecond = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+    int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+    long pushLatencyMillis = args.length > 3 ? Long.parseLong(args[3]) : 20;
+
+    LongAdder pushes = new LongAdder();
+    LogStreamingClient logStreamingClient = mock(LogStreamingClient.class, withSettings().stubOnly());
+    Call<Void> call = mock(Call.class, withSettings().stubOnly());
+    when(call.execute()).thenAnswer(invocation -> {
+      Thread.sleep(pushLatencyMillis);
+      pushes.increment();
+      return Response.success(null);
+    });
+    when(logStreamingClient.openLogStream(anyString(), anyString(), anyString())).thenReturn(call);
+    when(logStreamingClient.pushMessage(anyString(), anyString(), anyString(), anyList())).thenReturn(call);
+    when(logStreamingClient.closeLogStream(anyString(), anyString(), anyString(), any(Boolean.class)))
+        .thenReturn(call);
+
+    LongAdder streamed = new LongAdder();
+    LongAdder dropped = new LongAdder();
+    AtomicLong maxPushMillis = new AtomicLong();
+    LongAdder totalPushMillis = new LongAdder();
+    LogStreamingMetrics metrics = new LogStreamingMetrics() {
+      @Override
+      public void recordLinesStreamed(int count) {
+        streamed.add(count);
+      }
+
+      @Override
+      public void recordLinesDropped(int count) {
+        dropped.add(count);
+      }
+
+      @Override
+      public void recordFlushTime(long millis) {
+        totalPushMillis.add(millis);
+        maxPushMillis.accumulateAndGet(millis, Math::max);
+      }
+    };
+
+    List<LogStreamingTaskClient> clients = new ArrayList<>();
+    for (int i = 0; i < tasks; i++) {
+      LogStreamingTaskClient client = LogStreamingTaskClient.builder()
+                                          .logStreamingClient(logStreamingClient)
+                                          .logStreamingSanitizer(LogStreamingSanitizer.builder().build())
+                                          .accountId("account")
+                                          .token("token")
+                                          .baseLogKey("task" + i)
+                                          .metrics(metrics)
+                                          .build();
+      client.openStream(null);
+      clients.add(client);
+    }
+
+    ExecutorService writers = Executors.newFixedThreadPool(tasks);
+    List<Future<Long>> written = new ArrayList<>();
+    long startNanos = System.nanoTime();
+    for (LogStreamingTaskClient client : clients) {
+      written.add(writers.submit(() -> writeLines(client, linesPerSecond, seconds)));
+    }
+    long totalWritten = 0;
+    for (Future<Long> future : written) {
+      totalWritten += future.get();
+    }
+    long writeNanos = System.nanoTime() - startNanos;
+    writers.shutdown();
+
+    for (LogStreamingTaskClient client : clients) {
+      client.closeStream(null);
+    }
+    while (streamed.sum() + dropped.sum() < totalWritten
+        && System.nanoTime() - startNanos < writeNanos + TimeUnit.SECONDS.toNanos(30)) {
+      Thread.sleep(10);
+    }
+    long drainNanos = System.nanoTime() - startNanos - writeNanos;
+
+    System.out.printf("tasks=%d rate=%d lines/s/task duration=%ds push latency=%dms%n", tasks, linesPerSecond, seconds,
+        pushLatencyMillis);
+    System.out.printf("written=%d (%.0f lines/s) streamed=%d dropped=%d%n", totalWritten,
+        totalWritten / (writeNanos / 1e9), streamed.sum(), dropped.sum());
+    System.out.printf("pushes=%d avg batch=%.1f lines avg push=%.1fms max push=%dms drain after writes=%dms%n",
+        pushes.sum(), streamed.sum() / (double) Math.max(1, pushes.sum()),
+        totalPushMillis.sum() / (double) Math.max(1, pushes.sum()), maxPushMillis.get(),
+        TimeUnit.NANOSECONDS.toMillis(drainNanos));
+    System.exit(0);
+  }
+
+  private static long writeLines(LogStreamingTaskClient client, int linesPerSecond, int seconds)
+      throws InterruptedException {
+    int linesPerTick = Math.max(1, linesPerSecond / TICKS_PER_SECOND);
+    long tickNanos = TimeUnit.SECONDS.toNanos(1) / TICKS_PER_SECOND;
+    long next = System.nanoTime();
+    long count = 0;
+    for (int tick = 0; tick < seconds * TICKS_PER_SECOND; tick++) {
+      for (int i = 0; i < linesPerTick; i++) {
+        client.writeLogLine(LogLine.builder()
+                                .level(LogLevel.INFO)
+                                .message("Step output line " + count + " of the simulated task")
+                                .timestamp(Instant.now())
+                                .build(),
+            null);
+        count++;
+      }
+      next += tickNanos;
+      long sleepNanos = next - System.nanoTime();
+      if (sleepNanos > 0) {
+        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+      }
+    }
+    return count;
+  }
+}
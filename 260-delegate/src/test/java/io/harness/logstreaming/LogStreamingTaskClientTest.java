@@ -8,6 +8,7 @@
 package io.harness.logstreaming;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.TMACARI;
 import static io.harness.rule.OwnerRule.VITALIE;
@@ -19,8 +20,13 @@ import static software.wings.beans.LogHelper.COMMAND_UNIT_PLACEHOLDER;
 import static java.time.Duration.ofMillis;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
@@ -33,13 +39,20 @@ import io.harness.rule.Owner;
 import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
 
 public class LogStreamingTaskClientTest extends CategoryTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   private final DelegateLogService logServiceMock = mock(DelegateLogService.class);
   private final LogStreamingClient logStreamingClientMock = mock(LogStreamingClient.class);
   private final LogStreamingSanitizer logStreamingSanitizerMock = mock(LogStreamingSanitizer.class);
@@ -238,4 +251,139 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     List<LogLine> logLines = captor.getValue();
     assertThat(logLines.get(0).getMessage()).contains("1;91");
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldPushInBatchesInWriteOrder() {
+    LogStreamingTaskClient client = clientBuilder().maxBatchSize(2).build();
+    List<LogLine> written = writeLines(client, 5);
+    client.dispatchLogs();
+
+    List<List<LogLine>> batches = capturePushedBatches();
+    assertThat(batches).allSatisfy(batch -> assertThat(batch.size()).isBetween(1, 2));
+    assertThat(batches.stream().flatMap(List::stream).collect(Collectors.toList())).isEqualTo(written);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldDropLinesAboveMemoryCap() {
+    LogStreamingMetrics metrics = mock(LogStreamingMetrics.class);
+    LogStreamingTaskClient client = clientBuilder()
+                                        .bufferBudget(new LogBufferBudget(10))
+                                        .overflowPolicy(LogOverflowPolicy.DROP)
+                                        .metrics(metrics)
+                                        .build();
+    writeLines(client, 5);
+    client.dispatchLogs();
+
+    // The first line is let in as nothing else is buffered
+    verify(metrics, times(4)).recordLinesDropped(1);
+    List<LogLine> pushed = capturePushedBatches().stream().flatMap(List::stream).collect(Collectors.toList());
+    assertThat(pushed).extracting(LogLine::getMessage).contains("msg0");
+    assertThat(pushed).filteredOn(logLine -> !"msg0".equals(logLine.getMessage())).isNotEmpty().allSatisfy(logLine -> {
+      assertThat(logLine.getLevel()).isEqualTo(LogLevel.WARN);
+      assertThat(logLine.getMessage()).contains("log lines were dropped");
+    });
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldSpillLinesAboveMemoryCapToDisk() throws Exception {
+    File spillDirectory = temporaryFolder.newFolder();
+    LogStreamingTaskClient client = clientBuilder()
+                                        .bufferBudget(new LogBufferBudget(200))
+                                        .overflowPolicy(LogOverflowPolicy.SPILL_TO_DISK)
+                                        .spillDirectory(spillDirectory.toPath())
+                                        .build();
+    List<LogLine> written = writeLines(client, 10);
+    client.dispatchLogs();
+
+    List<String> pushed = capturePushedBatches()
+                              .stream()
+                              .flatMap(List::stream)
+                              .map(LogLine::getMessage)
+                              .collect(Collectors.toList());
+    assertThat(pushed).isEqualTo(written.stream().map(LogLine::getMessage).collect(Collectors.toList()));
+    assertThat(spillDirectory.list()).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldPushAllBatchesOnExplicitDispatch() {
+    LogStreamingTaskClient client = clientBuilder().maxBatchSize(1).build();
+    List<LogLine> written = writeLines(client, 20);
+    client.dispatchLogs();
+
+    assertThat(capturePushedBatches().stream().flatMap(List::stream).collect(Collectors.toList())).isEqualTo(written);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldWaitForRoomAboveMemoryCap() {
+    LogStreamingMetrics metrics = mock(LogStreamingMetrics.class);
+    LogStreamingTaskClient client = clientBuilder().bufferBudget(new LogBufferBudget(200)).metrics(metrics).build();
+    List<LogLine> written = writeLines(client, 10);
+    client.dispatchLogs();
+
+    assertThat(capturePushedBatches().stream().flatMap(List::stream).collect(Collectors.toList())).isEqualTo(written);
+    verify(metrics, never()).recordLinesDropped(anyInt());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldShareTheMemoryCapBetweenClients() {
+    LogStreamingMetrics metrics = mock(LogStreamingMetrics.class);
+    LogBufferBudget bufferBudget = new LogBufferBudget(200);
+    LogStreamingTaskClient first = clientBuilder()
+                                       .bufferBudget(bufferBudget)
+                                       .overflowPolicy(LogOverflowPolicy.DROP)
+                                       .metrics(metrics)
+                                       .build();
+    LogStreamingTaskClient second = clientBuilder()
+                                        .bufferBudget(bufferBudget)
+                                        .overflowPolicy(LogOverflowPolicy.DROP)
+                                        .metrics(metrics)
+                                        .build();
+    writeLines(first, 2);
+    writeLines(second, 1);
+    verify(metrics).recordLinesDropped(1);
+
+    first.dispatchLogs();
+    second.dispatchLogs();
+    assertThat(bufferBudget.getUsedBytes()).isZero();
+  }
+
+  private LogStreamingTaskClient.LogStreamingTaskClientBuilder clientBuilder() {
+    return LogStreamingTaskClient.builder()
+        .logStreamingClient(logStreamingClientMock)
+        .accountId(ACCOUNT_ID)
+        .token(TOKEN)
+        .logStreamingSanitizer(logStreamingSanitizerMock)
+        .baseLogKey(BASE_LOG_KEY)
+        .logService(logServiceMock)
+        .bufferBudget(new LogBufferBudget(1024 * 1024));
+  }
+
+  private static List<LogLine> writeLines(LogStreamingTaskClient client, int count) {
+    List<LogLine> written = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      LogLine logLine = LogLine.builder().level(LogLevel.INFO).message("msg" + i).build();
+      client.writeLogLine(logLine, null);
+      written.add(logLine);
+    }
+    return written;
+  }
+
+  private List<List<LogLine>> capturePushedBatches() {
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock, atLeastOnce())
+        .pushMessage(eq(TOKEN), eq(ACCOUNT_ID), anyString(), captor.capture());
+    return (List) captor.getAllValues();
+  }
 }
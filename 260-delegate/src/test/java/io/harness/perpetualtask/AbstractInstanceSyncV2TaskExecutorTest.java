@@ -24,12 +24,14 @@ import io.harness.category.element.UnitTests;
 import io.harness.connector.ConnectorInfoDTO;
 import io.harness.delegate.beans.connector.k8Connector.KubernetesClusterConfigDTO;
 import io.harness.delegate.beans.connector.k8Connector.KubernetesCredentialDTO;
+import io.harness.delegate.beans.instancesync.ServerInstanceInfo;
 import io.harness.delegate.beans.instancesync.info.K8sServerInstanceInfo;
 import io.harness.logging.CommandExecutionStatus;
 import io.harness.managerclient.DelegateAgentManagerClient;
 import io.harness.network.SafeHttpCall;
 import io.harness.ng.beans.PageResponse;
 import io.harness.perpetualtask.instancesync.DeploymentReleaseDetails;
+import io.harness.perpetualtask.instancesync.InstanceSyncData;
 import io.harness.perpetualtask.instancesync.InstanceSyncResponseV2;
 import io.harness.perpetualtask.instancesync.InstanceSyncTaskDetails;
 import io.harness.perpetualtask.instancesync.K8sInstanceSyncPerpetualTaskParamsV2;
@@ -42,6 +44,7 @@ import io.harness.serializer.KryoSerializer;
 
 import software.wings.WingsBaseTest;
 
+import com.google.common.hash.Hashing;
 import com.google.inject.Inject;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
@@ -234,4 +237,83 @@ public class AbstractInstanceSyncV2TaskExecutorTest extends WingsBaseTest {
         PerpetualTaskId.newBuilder().setId(PERPETUAL_TASK).build(), params, Instant.now());
     verify(delegateAgentManagerClient, times(3)).processInstanceSyncNGResultV2(anyString(), anyString(), any());
   }
+
+  @Test
+  @Owner(developers = OwnerRule.ALEXEI)
+  @Category(UnitTests.class)
+  public void runOnceSendsOnlyTheHashOfUnchangedInstances() throws Exception {
+    PerpetualTaskExecutionParams params =
+        PerpetualTaskExecutionParams.newBuilder()
+            .setCustomizedParams(
+                Any.pack(K8sInstanceSyncPerpetualTaskParamsV2.newBuilder()
+                             .setAccountId(ACCOUNT_IDENTIFIER)
+                             .setOrgId(ORG_IDENTIFIER)
+                             .setProjectId(PROJECT_IDENTIFIER)
+                             .setEncryptedData(ByteString.copyFrom(kryoSerializer.asBytes(new ArrayList<>())))
+                             .setConnectorInfoDto(ByteString.copyFrom(kryoSerializer.asBytes(
+                                 ConnectorInfoDTO.builder()
+                                     .connectorConfig(KubernetesClusterConfigDTO.builder()
+                                                          .credential(KubernetesCredentialDTO.builder().build())
+                                                          .build())
+                                     .build())))
+                             .build()))
+            .build();
+    LinkedHashSet<String> namespaces = new LinkedHashSet<>();
+    namespaces.add("namespace1");
+    List<ServerInstanceInfo> serverInstanceInfos =
+        List.of(K8sServerInstanceInfo.builder().namespace("namespace1").releaseName("releaseName").build());
+    String contentHash = Hashing.sha256().hashBytes(kryoSerializer.asBytes(serverInstanceInfos)).toString();
+    InstanceSyncTaskDetails instanceSyncTaskDetails =
+        InstanceSyncTaskDetails.builder()
+            .details(PageResponse.<DeploymentReleaseDetails>builder()
+                         .content(List.of(
+                             DeploymentReleaseDetails.builder()
+                                 .deploymentDetails(List.of(K8sDeploymentReleaseDetails.builder()
+                                                                .releaseName("releaseName")
+                                                                .namespaces(namespaces)
+                                                                .build()))
+                                 .taskInfoId("unchanged")
+                                 .contentHash(contentHash)
+                                 .build(),
+                             DeploymentReleaseDetails.builder()
+                                 .deploymentDetails(List.of(K8sDeploymentReleaseDetails.builder()
+                                                                .releaseName("releaseName")
+                                                                .namespaces(namespaces)
+                                                                .build()))
+                                 .taskInfoId("changed")
+                                 .contentHash("previousHash")
+                                 .build()))
+                         .totalPages(1)
+                         .build())
+            .responseBatchConfig(ResponseBatchConfig.builder()
+                                     .releaseCount(RELEASE_COUNT_LIMIT)
+                                     .instanceCount(INSTANCE_COUNT_LIMIT)
+                                     .build())
+            .build();
+    Call<InstanceSyncTaskDetails> detailsCall = mock(Call.class);
+    when(delegateAgentManagerClient.fetchInstanceSyncV2TaskDetails(anyString(), anyInt(), anyInt(), anyString()))
+        .thenReturn(detailsCall);
+    when(detailsCall.execute()).thenReturn(Response.success(instanceSyncTaskDetails));
+    Call<RestResponse<Boolean>> resultCall = mock(Call.class);
+    when(delegateAgentManagerClient.processInstanceSyncNGResultV2(
+             anyString(), anyString(), any(InstanceSyncResponseV2.class)))
+        .thenReturn(resultCall);
+    when(resultCall.execute()).thenReturn(Response.success(new RestResponse<>(true)));
+    when(k8sInstanceSyncV2Helper.getServerInstanceInfoList(
+             any(K8sInstanceSyncPerpetualTaskV2Executor.PodDetailsRequest.class)))
+        .thenReturn(serverInstanceInfos);
+
+    k8sInstanceSyncPerpetualTaskV2Executor.runOnce(
+        PerpetualTaskId.newBuilder().setId(PERPETUAL_TASK).build(), params, Instant.now());
+
+    ArgumentCaptor<InstanceSyncResponseV2> captor = ArgumentCaptor.forClass(InstanceSyncResponseV2.class);
+    verify(delegateAgentManagerClient).processInstanceSyncNGResultV2(anyString(), anyString(), captor.capture());
+    List<InstanceSyncData> instanceData = captor.getValue().getInstanceDataList();
+    assertThat(instanceData).hasSize(2);
+    assertThat(instanceData.get(0).getContentHash()).isEqualTo(contentHash);
+    assertThat(instanceData.get(0).getServerInstanceInfo().isEmpty()).isTrue();
+    assertThat(instanceData.get(1).getContentHash()).isEqualTo(contentHash);
+    assertThat(instanceData.get(1).getServerInstanceInfo().toByteArray())
+        .isEqualTo(kryoSerializer.asBytes(serverInstanceInfos));
+  }
 }
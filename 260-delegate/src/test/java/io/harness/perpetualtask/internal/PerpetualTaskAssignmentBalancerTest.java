@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask.internal;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.joor.Reflect.on;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.beans.DelegateTask;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import software.wings.service.intfc.AssignDelegateService;
+
+import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class PerpetualTaskAssignmentBalancerTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final List<String> DELEGATE_IDS = Arrays.asList("delegate1", "delegate2", "delegate3", "delegate4");
+  private static final DelegateTask TASK =
+      DelegateTask.builder().accountId(ACCOUNT_ID).perpetualTaskId("taskId").build();
+
+  @Mock private PerpetualTaskRecordDao perpetualTaskRecordDao;
+  @Mock private AssignDelegateService assignDelegateService;
+  @InjectMocks private PerpetualTaskAssignmentBalancer assignmentBalancer;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(perpetualTaskRecordDao.countAssignedTasksByDelegate(ACCOUNT_ID)).thenReturn(Collections.emptyMap());
+    when(assignDelegateService.getConnectedDelegateList(anyList(), any(DelegateTask.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldOrderTheDelegatesOnTheRing() {
+    List<String> order = assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS);
+
+    assertThat(order).containsExactlyInAnyOrderElementsOf(DELEGATE_IDS);
+    assertThat(order).isEqualTo(PerpetualTaskAssignmentBalancer.getRingOrder("taskId", DELEGATE_IDS));
+    List<String> reversed = new ArrayList<>(DELEGATE_IDS);
+    Collections.reverse(reversed);
+    assertThat(assignmentBalancer.orderDelegates(TASK, reversed)).isEqualTo(order);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldMoveOnlyTheTasksOfTheLeavingDelegate() {
+    Map<String, String> owners = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      owners.put("task" + i, PerpetualTaskAssignmentBalancer.getRingOrder("task" + i, DELEGATE_IDS).get(0));
+    }
+    List<String> remaining = DELEGATE_IDS.subList(0, 3);
+
+    owners.forEach((taskId, owner) -> {
+      String newOwner = PerpetualTaskAssignmentBalancer.getRingOrder(taskId, remaining).get(0);
+      if (remaining.contains(owner)) {
+        assertThat(newOwner).isEqualTo(owner);
+      }
+    });
+    assertThat(owners.values()).contains("delegate4");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTryTheOverloadedAndDisconnectedDelegatesLast() {
+    String first = PerpetualTaskAssignmentBalancer.getRingOrder("taskId", DELEGATE_IDS).get(0);
+    when(perpetualTaskRecordDao.countAssignedTasksByDelegate(ACCOUNT_ID)).thenReturn(ImmutableMap.of(first, 10));
+
+    List<String> order = assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS);
+    assertThat(order.get(3)).isEqualTo(first);
+
+    String second = order.get(0);
+    assignmentBalancer.onDelegateDisconnected(ACCOUNT_ID, second);
+    order = assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS);
+    assertThat(order.get(2)).isEqualTo(first);
+    assertThat(order.get(3)).isEqualTo(second);
+
+    assignmentBalancer.onDelegateConnected(ACCOUNT_ID, second);
+    assertThat(assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS).get(0)).isEqualTo(second);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldCountTheAssignedTasks() {
+    List<String> ringOrder = PerpetualTaskAssignmentBalancer.getRingOrder("taskId", DELEGATE_IDS);
+    assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS);
+    assignmentBalancer.onAssignmentStarted("taskId");
+
+    assertThat(assignmentBalancer.onAssigned(ACCOUNT_ID, "taskId", null, ringOrder.get(0))).isPresent();
+    assertThat(assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS).get(3))
+        .isEqualTo(ringOrder.get(0));
+
+    assertThat(assignmentBalancer.onAssigned(ACCOUNT_ID, "taskId", ringOrder.get(0), ringOrder.get(1))).isEmpty();
+    List<String> order = assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS);
+    assertThat(order.get(0)).isEqualTo(ringOrder.get(0));
+    assertThat(order.get(3)).isEqualTo(ringOrder.get(1));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReloadTheDisconnectedDelegatesFromTheConnectionStatus() {
+    List<String> ringOrder = PerpetualTaskAssignmentBalancer.getRingOrder("taskId", DELEGATE_IDS);
+    when(assignDelegateService.getConnectedDelegateList(anyList(), any(DelegateTask.class)))
+        .thenReturn(ringOrder.subList(1, 4));
+
+    assertThat(assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS).get(3)).isEqualTo(ringOrder.get(0));
+
+    // Reconnected on another manager, this one only sees it on the next reload.
+    when(assignDelegateService.getConnectedDelegateList(anyList(), any(DelegateTask.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    assertThat(assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS).get(3)).isEqualTo(ringOrder.get(0));
+
+    Cache<String, Object> accountLoads = on(assignmentBalancer).get("accountLoads");
+    on(accountLoads.getIfPresent(ACCOUNT_ID)).set("loadedAt", 0L);
+    assertThat(assignmentBalancer.orderDelegates(TASK, DELEGATE_IDS)).isEqualTo(ringOrder);
+  }
+}
@@ -7,6 +7,7 @@
 
 package io.harness.perpetualtask.internal;
 
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.HITESH;
 import static io.harness.rule.OwnerRule.JENNY;
 import static io.harness.rule.OwnerRule.MATT;
@@ -58,6 +59,23 @@ public class PerpetualTaskRecordDaoTest extends WingsBaseTest {
     assertThat(task.getDelegateId()).isEqualTo(DELEGATE_ID);
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testCountAssignedTasksByDelegate() {
+    String taskId = perpetualTaskRecordDao.save(PerpetualTaskRecord.builder().accountId(ACCOUNT_ID).build());
+    perpetualTaskRecordDao.appointDelegate(taskId, DELEGATE_ID, 1L);
+    taskId = perpetualTaskRecordDao.save(PerpetualTaskRecord.builder().accountId(ACCOUNT_ID).build());
+    perpetualTaskRecordDao.appointDelegate(taskId, DELEGATE_ID, 1L);
+    perpetualTaskRecordDao.save(PerpetualTaskRecord.builder()
+                                    .accountId(ACCOUNT_ID)
+                                    .delegateId("test-delegate-id2")
+                                    .state(PerpetualTaskState.TASK_UNASSIGNED)
+                                    .build());
+
+    assertThat(perpetualTaskRecordDao.countAssignedTasksByDelegate(ACCOUNT_ID)).containsOnly(Map.entry(DELEGATE_ID, 2));
+  }
+
   @Test
   @Owner(developers = HITESH)
   @Category(UnitTests.class)
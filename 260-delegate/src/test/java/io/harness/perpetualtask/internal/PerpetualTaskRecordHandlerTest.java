@@ -7,6 +7,7 @@
 
 package io.harness.perpetualtask.internal;
 
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.HANTANG;
 import static io.harness.rule.OwnerRule.VUK;
 
@@ -23,14 +24,17 @@ import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.beans.DelegateTask;
+import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
 import io.harness.delegate.beans.RemoteMethodReturnValueData;
+import io.harness.ff.FeatureFlagService;
 import io.harness.perpetualtask.PerpetualTaskClientContext;
 import io.harness.perpetualtask.PerpetualTaskService;
 import io.harness.perpetualtask.PerpetualTaskServiceClientRegistry;
 import io.harness.perpetualtask.PerpetualTaskType;
 import io.harness.perpetualtask.k8s.watch.K8sWatchPerpetualTaskServiceClient;
 import io.harness.rule.Owner;
+import io.harness.waiter.WaitNotifyEngine;
 
 import software.wings.service.intfc.DelegateService;
 
@@ -57,6 +61,9 @@ public class PerpetualTaskRecordHandlerTest extends CategoryTest {
   @Mock DelegateService delegateService;
   @Mock PerpetualTaskService perpetualTaskService;
   @Mock PerpetualTaskRecordDao perpetualTaskRecordDao;
+  @Mock FeatureFlagService featureFlagService;
+  @Mock PerpetualTaskAssignmentBalancer assignmentBalancer;
+  @Mock WaitNotifyEngine waitNotifyEngine;
   @InjectMocks PerpetualTaskRecordHandler perpetualTaskRecordHandler;
   @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
 
@@ -113,4 +120,17 @@ public class PerpetualTaskRecordHandlerTest extends CategoryTest {
     perpetualTaskRecordHandler.assign(record);
     verify(perpetualTaskService, times(0)).appointDelegate(eq(accountId), anyString(), eq(delegateId), anyLong());
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldValidateTheTaskOnTheBalancedDelegates() {
+    when(featureFlagService.isEnabled(FeatureName.DEL_PERPETUAL_TASK_BALANCED_ASSIGNMENT, accountId)).thenReturn(true);
+
+    perpetualTaskRecordHandler.assign(record);
+
+    verify(delegateTask).setPerpetualTaskId(taskId);
+    verify(assignmentBalancer).onAssignmentStarted(taskId);
+    verify(delegateService).queueTaskV2(delegateTask);
+  }
 }
@@ -27,6 +27,7 @@ import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -403,7 +404,8 @@ public class RunStepTest extends CIExecutionTestBase {
 
     when(serializedResponseDataHelper.deserialize(responseData)).thenReturn(responseData);
     runStep.handleForCallbackId(ambiance, stepElementParameters, callbackIds, "callbackId1", responseData);
-    verify(waitNotifyEngine, times(1)).doneWith(any(), any());
+    verify(waitNotifyEngine, times(1))
+        .doneWithAll(argThat(responses -> responses.keySet().equals(Collections.singleton("callbackId2"))));
   }
 
   @Test
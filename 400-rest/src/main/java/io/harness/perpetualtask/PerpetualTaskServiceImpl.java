@@ -15,6 +15,7 @@ import static io.harness.metrics.impl.DelegateMetricsServiceImpl.PERPETUAL_TASK_
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.PERPETUAL_TASK_DELETE;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.PERPETUAL_TASK_NONASSIGNABLE;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.PERPETUAL_TASK_PAUSE;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.PERPETUAL_TASK_REASSIGNED;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.PERPETUAL_TASK_RESET;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.PERPETUAL_TASK_UNASSIGNED;
 import static io.harness.perpetualtask.PerpetualTaskState.TASK_NON_ASSIGNABLE;
@@ -34,6 +35,7 @@ import io.harness.logging.AutoLogContext;
 import io.harness.metrics.intfc.DelegateMetricsService;
 import io.harness.observer.RemoteObserverInformer;
 import io.harness.observer.Subject;
+import io.harness.perpetualtask.internal.PerpetualTaskAssignmentBalancer;
 import io.harness.perpetualtask.internal.PerpetualTaskRecord;
 import io.harness.perpetualtask.internal.PerpetualTaskRecordDao;
 import io.harness.reflection.ReflectionUtils;
@@ -54,6 +56,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.Durations;
 import io.grpc.Context;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -82,6 +85,7 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
   @Inject private RemoteObserverInformer remoteObserverInformer;
   @Inject private DelegateMetricsService delegateMetricsService;
   @Inject private DelegateCache delegateCache;
+  @Inject private PerpetualTaskAssignmentBalancer assignmentBalancer;
 
   @Inject
   public PerpetualTaskServiceImpl(PerpetualTaskRecordDao perpetualTaskRecordDao,
@@ -98,7 +102,11 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
 
   @Override
   public void appointDelegate(String accountId, String taskId, String delegateId, long lastContextUpdated) {
+    PerpetualTaskRecord perpetualTaskRecord = perpetualTaskRecordDao.getTask(taskId);
     perpetualTaskRecordDao.appointDelegate(taskId, delegateId, lastContextUpdated);
+    String previousDelegateId = perpetualTaskRecord != null ? perpetualTaskRecord.getDelegateId() : null;
+    Optional<Long> assignmentStartedAt =
+        assignmentBalancer.onAssigned(accountId, taskId, previousDelegateId, delegateId);
 
     broadcastAggregateSet.add(Pair.of(accountId, delegateId));
 
@@ -109,10 +117,15 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
                                          "onPerpetualTaskAssigned", String.class, String.class, String.class),
         PerpetualTaskServiceImpl.class, accountId, taskId, delegateId);
 
-    PerpetualTaskRecord perpetualTaskRecord = perpetualTaskRecordDao.getTask(taskId);
     if (perpetualTaskRecord != null) {
       String perpetualTaskType = perpetualTaskRecord.getPerpetualTaskType();
       delegateMetricsService.recordPerpetualTaskMetrics(accountId, perpetualTaskType, PERPETUAL_TASK_ASSIGNED);
+      if (isNotEmpty(previousDelegateId) && !previousDelegateId.equals(delegateId)) {
+        delegateMetricsService.recordPerpetualTaskMetrics(accountId, perpetualTaskType, PERPETUAL_TASK_REASSIGNED);
+      }
+      assignmentStartedAt.ifPresent(startedAt
+          -> delegateMetricsService.recordPerpetualTaskAssignmentDuration(
+              accountId, perpetualTaskType, Duration.ofMillis(currentTimeMillis() - startedAt)));
     }
   }
 
@@ -411,12 +424,14 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
 
   @Override
   public void onDisconnected(String accountId, String delegateId) {
+    assignmentBalancer.onDelegateDisconnected(accountId, delegateId);
     perpetualTaskRecordDao.markAllTasksOnDelegateForReassignment(accountId, delegateId);
   }
 
   @Override
   public void onReconnected(Delegate delegate) {
     log.info("Delegate reconnected/added for account {} delegateId {}", delegate.getAccountId(), delegate.getUuid());
+    assignmentBalancer.onDelegateConnected(delegate.getAccountId(), delegate.getUuid());
     perpetualTaskRecordDao.updateTaskNonAssignableToAssignable(delegate.getAccountId());
   }
 
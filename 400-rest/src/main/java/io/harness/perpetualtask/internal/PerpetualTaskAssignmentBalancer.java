@@ -0,0 +1,220 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.perpetualtask.internal;
+
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.beans.DelegateTask;
+
+import software.wings.service.intfc.AssignDelegateService;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Orders the delegates eligible for a perpetual task by bounded-load consistent hashing. The capability validation
+ * task of the perpetual task is broadcast to the first of them, and to the others in that order when it is broadcast
+ * again, so the first delegate able to run the task is appointed to it.
+ *
+ * Each delegate owns a number of points on a hash ring, and a task prefers the eligible delegates in the order their
+ * points follow the hash of the task on the ring. A delegate joining or leaving only changes the order for the tasks
+ * next to its points. Delegates running more than 1.25 times the average perpetual tasks of the eligible delegates,
+ * and the disconnected ones, are tried last.
+ *
+ * The perpetual tasks assigned to each delegate are kept in memory, counted on every appointment and reloaded from
+ * the database every minute, as the other managers appoint delegates too. The disconnected delegates are reloaded from
+ * the connection status of the delegates with them, so the delegates which disconnected or reconnected on another
+ * manager are picked up within a minute, and the events of this manager are followed in between.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+public class PerpetualTaskAssignmentBalancer {
+  private static final int VIRTUAL_NODES = 64;
+  private static final double LOAD_FACTOR = 1.25;
+  private static final long LOAD_REFRESH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  @Inject private PerpetualTaskRecordDao perpetualTaskRecordDao;
+  @Inject private AssignDelegateService assignDelegateService;
+
+  private final Cache<String, AccountLoad> accountLoads =
+      CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.HOURS).build();
+  private final Cache<String, Long> assignmentStartTimes =
+      CacheBuilder.newBuilder().maximumSize(100_000).expireAfterWrite(1, TimeUnit.HOURS).build();
+
+  private static class AccountLoad {
+    private final Map<String, Integer> assignedTasks = new HashMap<>();
+    private final Set<String> disconnectedDelegates = new HashSet<>();
+    private long loadedAt;
+  }
+
+  /**
+   * Returns the eligible delegates in the order they should validate the perpetual task of the capability validation
+   * task, or the delegates as they are if their load is not known.
+   */
+  public List<String> orderDelegates(DelegateTask validationTask, List<String> eligibleDelegateIds) {
+    String taskId = validationTask.getPerpetualTaskId();
+    if (eligibleDelegateIds.size() < 2) {
+      return eligibleDelegateIds;
+    }
+    Map<String, Integer> assignedTasks = new HashMap<>();
+    Set<String> disconnectedDelegates = new HashSet<>();
+    try {
+      AccountLoad accountLoad = getAccountLoad(validationTask, eligibleDelegateIds);
+      synchronized (accountLoad) {
+        eligibleDelegateIds.forEach(
+            delegateId -> assignedTasks.put(delegateId, accountLoad.assignedTasks.getOrDefault(delegateId, 0)));
+        disconnectedDelegates.addAll(accountLoad.disconnectedDelegates);
+      }
+    } catch (Exception e) {
+      log.warn("Failed to load the perpetual tasks of the delegates, perpetual task {} is not balanced", taskId, e);
+      return eligibleDelegateIds;
+    }
+
+    int totalAssignedTasks = assignedTasks.values().stream().mapToInt(Integer::intValue).sum();
+    // Counting the task itself, so that a task always fits under the capacity of the least loaded delegate.
+    double capacity = Math.ceil(LOAD_FACTOR * (totalAssignedTasks + 1) / eligibleDelegateIds.size());
+
+    List<String> preferredDelegates = new ArrayList<>();
+    List<String> overloadedDelegates = new ArrayList<>();
+    List<String> disconnected = new ArrayList<>();
+    for (String delegateId : getRingOrder(taskId, eligibleDelegateIds)) {
+      if (disconnectedDelegates.contains(delegateId)) {
+        disconnected.add(delegateId);
+      } else if (assignedTasks.get(delegateId) >= capacity) {
+        overloadedDelegates.add(delegateId);
+      } else {
+        preferredDelegates.add(delegateId);
+      }
+    }
+    preferredDelegates.addAll(overloadedDelegates);
+    preferredDelegates.addAll(disconnected);
+    return preferredDelegates;
+  }
+
+  public void onAssignmentStarted(String taskId) {
+    assignmentStartTimes.put(taskId, System.currentTimeMillis());
+  }
+
+  /**
+   * Counts the perpetual task on the appointed delegate instead of the previous one.
+   *
+   * @return when the assignment of the task was started by this manager, if it was
+   */
+  public Optional<Long> onAssigned(String accountId, String taskId, String previousDelegateId, String delegateId) {
+    AccountLoad accountLoad = accountLoads.getIfPresent(accountId);
+    if (accountLoad != null) {
+      synchronized (accountLoad) {
+        if (isNotEmpty(previousDelegateId) && !previousDelegateId.equals(delegateId)) {
+          accountLoad.assignedTasks.computeIfPresent(previousDelegateId, (id, tasks) -> tasks > 1 ? tasks - 1 : null);
+        }
+        if (!delegateId.equals(previousDelegateId)) {
+          accountLoad.assignedTasks.merge(delegateId, 1, Integer::sum);
+        }
+        accountLoad.disconnectedDelegates.remove(delegateId);
+      }
+    }
+    Long startedAt = assignmentStartTimes.getIfPresent(taskId);
+    assignmentStartTimes.invalidate(taskId);
+    return Optional.ofNullable(startedAt);
+  }
+
+  public void onDelegateConnected(String accountId, String delegateId) {
+    AccountLoad accountLoad = accountLoads.getIfPresent(accountId);
+    if (accountLoad != null) {
+      synchronized (accountLoad) {
+        accountLoad.disconnectedDelegates.remove(delegateId);
+      }
+    }
+  }
+
+  /**
+   * The perpetual tasks of a disconnected delegate are reassigned, so it is tried last until it connects again.
+   */
+  public void onDelegateDisconnected(String accountId, String delegateId) {
+    AccountLoad accountLoad = accountLoads.getIfPresent(accountId);
+    if (accountLoad != null) {
+      synchronized (accountLoad) {
+        accountLoad.assignedTasks.remove(delegateId);
+        accountLoad.disconnectedDelegates.add(delegateId);
+      }
+    }
+  }
+
+  private AccountLoad getAccountLoad(DelegateTask validationTask, List<String> eligibleDelegateIds)
+      throws ExecutionException {
+    String accountId = validationTask.getAccountId();
+    AccountLoad accountLoad = accountLoads.get(accountId, AccountLoad::new);
+    synchronized (accountLoad) {
+      long now = System.currentTimeMillis();
+      if (now - accountLoad.loadedAt > LOAD_REFRESH_INTERVAL_MS) {
+        Map<String, Integer> assignedTasks = perpetualTaskRecordDao.countAssignedTasksByDelegate(accountId);
+        accountLoad.assignedTasks.clear();
+        accountLoad.assignedTasks.putAll(assignedTasks);
+
+        // A disconnect or reconnect event missed in between is corrected from the connection status
+        List<String> knownDelegateIds = new ArrayList<>(eligibleDelegateIds);
+        knownDelegateIds.addAll(assignedTasks.keySet());
+        knownDelegateIds.addAll(accountLoad.disconnectedDelegates);
+        Set<String> connectedDelegateIds =
+            new HashSet<>(assignDelegateService.getConnectedDelegateList(knownDelegateIds, validationTask));
+        accountLoad.disconnectedDelegates.clear();
+        knownDelegateIds.stream()
+            .filter(delegateId -> !connectedDelegateIds.contains(delegateId))
+            .forEach(accountLoad.disconnectedDelegates::add);
+        accountLoad.loadedAt = now;
+      }
+    }
+    return accountLoad;
+  }
+
+  /**
+   * Returns the delegates in the order their first point follows the hash of the task on the ring.
+   */
+  @VisibleForTesting
+  static List<String> getRingOrder(String taskId, List<String> delegateIds) {
+    long taskHash = hash(taskId);
+    Map<String, Long> distances = new HashMap<>();
+    for (String delegateId : delegateIds) {
+      long distance = -1L;
+      for (int i = 0; i < VIRTUAL_NODES; i++) {
+        long pointDistance = hash(delegateId + ":" + i) - taskHash;
+        if (Long.compareUnsigned(pointDistance, distance) < 0) {
+          distance = pointDistance;
+        }
+      }
+      distances.put(delegateId, distance);
+    }
+    List<String> ringOrder = new ArrayList<>(distances.keySet());
+    ringOrder.sort((first, second) -> Long.compareUnsigned(distances.get(first), distances.get(second)));
+    return ringOrder;
+  }
+
+  private static long hash(String key) {
+    return HASH_FUNCTION.hashString(key, StandardCharsets.UTF_8).asLong();
+  }
+}
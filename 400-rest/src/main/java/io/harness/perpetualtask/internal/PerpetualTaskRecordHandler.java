@@ -22,6 +22,7 @@ import io.harness.annotations.dev.BreakDependencyOn;
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.DelegateTask;
+import io.harness.beans.FeatureName;
 import io.harness.delegate.Capability;
 import io.harness.delegate.DelegateTaskValidationFailedException;
 import io.harness.delegate.NoEligibleDelegatesInAccountException;
@@ -33,6 +34,7 @@ import io.harness.delegate.beans.executioncapability.ExecutionCapability;
 import io.harness.delegate.utils.DelegateTaskMigrationHelper;
 import io.harness.exception.DelegateTaskExpiredException;
 import io.harness.exception.InvalidArgumentsException;
+import io.harness.ff.FeatureFlagService;
 import io.harness.iterator.IteratorExecutionHandler;
 import io.harness.iterator.IteratorPumpAndRedisModeHandler;
 import io.harness.iterator.PersistenceIteratorFactory;
@@ -81,6 +83,8 @@ public class PerpetualTaskRecordHandler extends IteratorPumpAndRedisModeHandler
   @Inject private PerpetualTaskRecordDao perpetualTaskRecordDao;
   @Inject private WaitNotifyEngine waitNotifyEngine;
   @Inject private DelegateTaskMigrationHelper delegateTaskMigrationHelper;
+  @Inject private FeatureFlagService featureFlagService;
+  @Inject private PerpetualTaskAssignmentBalancer assignmentBalancer;
 
   private static final Duration ACCEPTABLE_NO_ALERT_DELAY = ofSeconds(45);
   private static final Duration ACCEPTABLE_EXECUTION_TIME = ofSeconds(30);
@@ -159,6 +163,10 @@ public class PerpetualTaskRecordHandler extends IteratorPumpAndRedisModeHandler
             "Unable to get validation task");
         return;
       }
+      if (featureFlagService.isEnabled(FeatureName.DEL_PERPETUAL_TASK_BALANCED_ASSIGNMENT, taskRecord.getAccountId())) {
+        validationTask.setPerpetualTaskId(taskId);
+      }
+      assignmentBalancer.onAssignmentStarted(taskId);
       try {
         waitNotifyEngine.waitForAllOn(GENERAL,
             new PerpetualTaskValidationCallback(taskRecord.getAccountId(), taskId, validationTask.getUuid()),
@@ -14,6 +14,7 @@ import io.harness.waiter.RedisNotifyQueuePublisher;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -29,4 +30,12 @@ public class CgNotifyEventPublisher extends RedisNotifyQueuePublisher {
     log.info("Notification event produced for by {}, for waitInstanceId {}", this.getClass().getSimpleName(),
         payload.getWaitInstanceId());
   }
+
+  @Override
+  public void sendAll(List<NotifyEvent> payloads) {
+    super.sendAll(payloads);
+    payloads.forEach(payload
+        -> log.info("Notification event produced for by {}, for waitInstanceId {}", this.getClass().getSimpleName(),
+            payload.getWaitInstanceId()));
+  }
 }
@@ -40,6 +40,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.Cd1SetupFields;
 import io.harness.beans.DelegateTask;
 import io.harness.beans.DelegateTask.DelegateTaskKeys;
+import io.harness.beans.FeatureName;
 import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.Delegate.DelegateKeys;
 import io.harness.delegate.beans.DelegateActivity;
@@ -80,6 +81,7 @@ import software.wings.service.intfc.EnvironmentService;
 import software.wings.service.intfc.InfrastructureMappingService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -93,6 +95,7 @@ import io.dropwizard.util.Lists;
 import java.nio.channels.Selector;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -104,6 +107,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -128,6 +132,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
   public static final long WHITELIST_TTL = TimeUnit.HOURS.toMillis(6);
   public static final long BLACKLIST_TTL = TimeUnit.MINUTES.toMillis(5);
   private static final long WHITELIST_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+  private static final long ASSIGNMENT_INDEX_TTL_SECONDS = 30;
 
   private static final String NO_ACTIVE_DELEGATES = "Account has no active delegates";
   public static final String NON_CONNECTED_DELEGATES = "Non active delegates";
@@ -184,6 +189,13 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
                 }
               });
 
+  private final Cache<String, DelegateAssignmentIndex> assignmentIndexes =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(ASSIGNMENT_INDEX_TTL_SECONDS, TimeUnit.SECONDS)
+          .build();
+  private final AtomicLong assignmentIndexInvalidations = new AtomicLong();
+
   private LoadingCache<String, List<Delegate>> accountDelegatesCache =
       CacheBuilder.newBuilder()
           .maximumSize(1000)
@@ -1102,12 +1114,16 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return List.of();
       }
 
-      eligibleDelegateIds = delegates.stream()
-                                .filter(delegate
-                                    -> delegate.getStatus() != DelegateInstanceStatus.DELETED
-                                        && canAssignTaskV2(delegate.getUuid(), task))
-                                .map(Delegate::getUuid)
-                                .collect(Collectors.toList());
+      if (featureFlagService.isEnabled(FeatureName.DEL_TASK_ASSIGNMENT_INDEX, task.getAccountId())) {
+        eligibleDelegateIds = getEligibleDelegatesFromAssignmentIndex(task, delegates);
+      } else {
+        eligibleDelegateIds = delegates.stream()
+                                  .filter(delegate
+                                      -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                                          && canAssignTaskV2(delegate.getUuid(), task))
+                                  .map(Delegate::getUuid)
+                                  .collect(Collectors.toList());
+      }
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
       List<String> nonAssignables =
           task.getNonAssignableDelegates()
@@ -1123,6 +1139,96 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return eligibleDelegateIds;
   }
 
+  /**
+   * Same result as filtering the delegates with {@link #canAssignTaskV2(String, DelegateTask)}, but only the delegates
+   * which the assignment index finds supporting the task type and having all the task selectors are checked one by one.
+   * The check of these candidates also covers index entries which went stale since the index was built. The other
+   * delegates get the reason canAssignTaskV2 would give, which checks the scopes before the selectors.
+   */
+  private List<String> getEligibleDelegatesFromAssignmentIndex(DelegateTask task, List<Delegate> delegates) {
+    DelegateAssignmentIndex assignmentIndex = getAssignmentIndex(task.getAccountId());
+    String taskType = task.getTaskDataV2().getTaskType();
+    Set<String> selectors = isEmpty(task.getExecutionCapabilities())
+        ? Collections.emptySet()
+        : delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities())
+              .stream()
+              .map(SelectorCapability::getSelectors)
+              .flatMap(Collection::stream)
+              .collect(Collectors.toSet());
+    BitSet supportingTaskType = assignmentIndex.getDelegatesSupportingTaskType(taskType);
+    BitSet candidates = assignmentIndex.getDelegatesWithSelectors(supportingTaskType, trimmedLowercaseSet(selectors));
+
+    List<String> eligibleDelegateIds = new ArrayList<>();
+    for (Delegate delegate : delegates) {
+      String delegateId = delegate.getUuid();
+      if (delegate.getStatus() == DelegateInstanceStatus.DELETED) {
+        continue;
+      }
+      if (!assignmentIndex.contains(delegateId) || assignmentIndex.isSet(candidates, delegateId)) {
+        if (canAssignTaskV2(delegateId, task)) {
+          eligibleDelegateIds.add(delegateId);
+        }
+        continue;
+      }
+
+      Delegate cachedDelegate = delegateCache.get(task.getAccountId(), delegateId);
+      if (cachedDelegate == null) {
+        continue;
+      }
+      String delegateName = isNotEmpty(cachedDelegate.getHostName()) ? cachedDelegate.getHostName() : delegateId;
+      if (!assignmentIndex.isSet(supportingTaskType, delegateId)) {
+        addNonAssignableDelegate(task, String.format("%s %s", taskType, CAN_NOT_ASSIGN_TASK_GROUP), delegateName);
+      } else if (canAssignScopesV2(cachedDelegate, task, delegateName)) {
+        addNonAssignableDelegate(task, CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors, delegateName);
+      }
+    }
+    return eligibleDelegateIds;
+  }
+
+  private void addNonAssignableDelegate(DelegateTask task, String reason, String delegateName) {
+    task.getNonAssignableDelegates().computeIfAbsent(reason, key -> new ArrayList<>()).add(delegateName);
+  }
+
+  /**
+   * Returns the assignment index of the account, built again when the account delegates are reloaded, when a delegate
+   * of the account changes its task types or tags on this manager, and at least every
+   * {@link #ASSIGNMENT_INDEX_TTL_SECONDS}, the lifetime of the cached delegate groups which selectors come from.
+   * Changes made through other managers are picked up by the last two.
+   */
+  private DelegateAssignmentIndex getAssignmentIndex(String accountId) {
+    List<Delegate> accountDelegates = getAccountDelegates(accountId);
+    DelegateAssignmentIndex assignmentIndex = assignmentIndexes.getIfPresent(accountId);
+    // The account delegates cache hands out the same list until it reloads the delegates.
+    if (assignmentIndex != null && assignmentIndex.getAccountDelegates() == accountDelegates) {
+      return assignmentIndex;
+    }
+    // Built outside of the cache lock, the index reads every delegate of the account through the delegate cache.
+    long invalidations = assignmentIndexInvalidations.get();
+    assignmentIndex = buildAssignmentIndex(accountId, accountDelegates);
+    if (invalidations == assignmentIndexInvalidations.get()) {
+      assignmentIndexes.put(accountId, assignmentIndex);
+    }
+    return assignmentIndex;
+  }
+
+  @Override
+  public void invalidateAssignmentIndex(String accountId) {
+    assignmentIndexInvalidations.incrementAndGet();
+    assignmentIndexes.invalidate(accountId);
+  }
+
+  private DelegateAssignmentIndex buildAssignmentIndex(String accountId, List<Delegate> accountDelegates) {
+    DelegateAssignmentIndex assignmentIndex = new DelegateAssignmentIndex(accountDelegates);
+    for (Delegate accountDelegate : accountDelegates) {
+      Delegate delegate = delegateCache.get(accountId, accountDelegate.getUuid());
+      if (delegate != null) {
+        assignmentIndex.addDelegate(delegate.getUuid(), delegate.getSupportedTaskTypes(),
+            trimmedLowercaseSet(delegateService.retrieveDelegateSelectors(delegate, true)));
+      }
+    }
+    return assignmentIndex;
+  }
+
   @Override
   public List<String> getConnectedDelegateList(List<String> delegates, DelegateTask delegateTask) {
     if (isEmpty(delegates)) {
@@ -1284,22 +1390,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       return false;
     }
 
-    boolean canAssignDelegateScopes = canAssignDelegateScopesV2(delegate, task);
-
-    if (!canAssignDelegateScopes) {
-      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP, new ArrayList<>());
-      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP).add(delegateName);
-      log.debug("can not assign canAssignDelegateScopes {}", canAssignDelegateScopes);
-      return false;
-    }
-
-    boolean canAssignDelegateProfileScopes =
-        canAssignDelegateProfileScopes(delegate, task.getSetupAbstractions(), task.getUuid());
-
-    if (!canAssignDelegateProfileScopes) {
-      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP, new ArrayList<>());
-      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP).add(delegateName);
-      log.debug("can not assign canAssignDelegateProfileScopes {}", canAssignDelegateProfileScopes);
+    if (!canAssignScopesV2(delegate, task, delegateName)) {
       return false;
     }
 
@@ -1321,6 +1412,28 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return true;
   }
 
+  private boolean canAssignScopesV2(Delegate delegate, DelegateTask task, String delegateName) {
+    boolean canAssignDelegateScopes = canAssignDelegateScopesV2(delegate, task);
+
+    if (!canAssignDelegateScopes) {
+      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP, new ArrayList<>());
+      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP).add(delegateName);
+      log.debug("can not assign canAssignDelegateScopes {}", canAssignDelegateScopes);
+      return false;
+    }
+
+    boolean canAssignDelegateProfileScopes =
+        canAssignDelegateProfileScopes(delegate, task.getSetupAbstractions(), task.getUuid());
+
+    if (!canAssignDelegateProfileScopes) {
+      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP, new ArrayList<>());
+      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP).add(delegateName);
+      log.debug("can not assign canAssignDelegateProfileScopes {}", canAssignDelegateProfileScopes);
+      return false;
+    }
+    return true;
+  }
+
   @Override
   public List<Delegate> fetchActiveDelegates(DelegateTask delegateTask) {
     List<Delegate> accountDelegates = getAccountDelegates(delegateTask.getAccountId());
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.Delegate;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Inverted index of the delegates of an account, from supported task type and from selector to the set of delegates.
+ * The delegates which support a task type and have all the selectors of a task are found with a few bitset
+ * intersections instead of checking every delegate of the account.
+ *
+ * Immutable once built, a new index is built when the delegates of the account change.
+ */
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateAssignmentIndex {
+  private static final BitSet EMPTY = new BitSet();
+
+  @Getter private final List<Delegate> accountDelegates;
+  private final Map<String, Integer> positions = new HashMap<>();
+  private final Map<String, BitSet> delegatesByTaskType = new HashMap<>();
+  private final Map<String, BitSet> delegatesBySelector = new HashMap<>();
+
+  /**
+   * @param accountDelegates the delegates of the account the index is built for, used to tell if the index is current
+   */
+  public DelegateAssignmentIndex(List<Delegate> accountDelegates) {
+    this.accountDelegates = accountDelegates;
+  }
+
+  /**
+   * Adds a delegate with its supported task types and its trimmed, lower case selectors.
+   */
+  public void addDelegate(String delegateId, Collection<String> supportedTaskTypes, Collection<String> selectors) {
+    int position = positions.computeIfAbsent(delegateId, id -> positions.size());
+    if (supportedTaskTypes != null) {
+      supportedTaskTypes.forEach(
+          taskType -> delegatesByTaskType.computeIfAbsent(taskType, key -> new BitSet()).set(position));
+    }
+    if (selectors != null) {
+      selectors.forEach(selector -> delegatesBySelector.computeIfAbsent(selector, key -> new BitSet()).set(position));
+    }
+  }
+
+  public boolean contains(String delegateId) {
+    return positions.containsKey(delegateId);
+  }
+
+  /**
+   * Returns the delegates which support the task type, to be read with {@link #isSet(BitSet, String)}.
+   */
+  public BitSet getDelegatesSupportingTaskType(String taskType) {
+    return taskType == null ? EMPTY : delegatesByTaskType.getOrDefault(taskType, EMPTY);
+  }
+
+  /**
+   * Returns the delegates among the given ones which have all the selectors.
+   */
+  public BitSet getDelegatesWithSelectors(BitSet delegates, Collection<String> selectors) {
+    BitSet result = (BitSet) delegates.clone();
+    for (String selector : selectors) {
+      if (result.isEmpty()) {
+        break;
+      }
+      result.and(delegatesBySelector.getOrDefault(selector, EMPTY));
+    }
+    return result;
+  }
+
+  public boolean isSet(BitSet delegates, String delegateId) {
+    Integer position = positions.get(delegateId);
+    return position != null && delegates.get(position);
+  }
+}
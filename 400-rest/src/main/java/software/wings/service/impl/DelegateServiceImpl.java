@@ -1300,7 +1300,15 @@ public class DelegateServiceImpl implements DelegateService {
     delegateTaskService.touchExecutingTasks(
         delegate.getAccountId(), delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
 
-    return delegateCache.get(delegate.getAccountId(), delegate.getUuid(), true);
+    Delegate updatedDelegate = delegateCache.get(delegate.getAccountId(), delegate.getUuid(), true);
+    // The assignment index would keep rejecting the delegate for the task types and tags it had before.
+    if (previousDelegate == null || updatedDelegate == null
+        || !Objects.equals(previousDelegate.getSupportedTaskTypes(), updatedDelegate.getSupportedTaskTypes())
+        || !Objects.equals(previousDelegate.getTags(), updatedDelegate.getTags())
+        || !Objects.equals(previousDelegate.getTagsFromYaml(), updatedDelegate.getTagsFromYaml())) {
+      assignDelegateService.invalidateAssignmentIndex(delegate.getAccountId());
+    }
+    return updatedDelegate;
   }
 
   private String processTemplate(Map<String, String> scriptParams, String template) throws IOException {
@@ -130,6 +130,7 @@ import io.harness.logstreaming.LogStreamingServiceRestClient;
 import io.harness.metrics.intfc.DelegateMetricsService;
 import io.harness.network.SafeHttpCall;
 import io.harness.observer.Subject;
+import io.harness.perpetualtask.internal.PerpetualTaskAssignmentBalancer;
 import io.harness.persistence.HPersistence;
 import io.harness.reflection.ExpressionReflectionUtils;
 import io.harness.reflection.ReflectionUtils;
@@ -268,6 +269,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @Inject @Getter private Subject<DelegateObserver> subject = new Subject<>();
   @Inject private DelegateTaskQueueService delegateTaskQueueService;
   @Inject private DelegateTaskMigrationHelper delegateTaskMigrationHelper;
+  @Inject private PerpetualTaskAssignmentBalancer perpetualTaskAssignmentBalancer;
   @Inject private FailDelegateTaskIteratorHelper failDelegateTaskIteratorHelper;
   private static final SecureRandom random = new SecureRandom();
 
@@ -622,10 +624,17 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
           throw new NoEligibleDelegatesInAccountException(assignDelegateService.getDelegateTaskAssignmentFailureMessage(
               task, TaskFailureReason.NO_ELIGIBLE_DELEGATES));
         }
-        // shuffle the eligible delegates to evenly distribute the load
-        Collections.shuffle(eligibleListOfDelegates);
-        task.setBroadcastToDelegateIds(
-            Lists.newArrayList(getDelegateIdForFirstBroadcast(task, eligibleListOfDelegates)));
+        if (isNotEmpty(task.getPerpetualTaskId())) {
+          // the perpetual task is validated by the delegates in the order of their perpetual task load
+          eligibleListOfDelegates = getWhitelistedDelegatesFirst(
+              task, perpetualTaskAssignmentBalancer.orderDelegates(task, eligibleListOfDelegates));
+          task.setBroadcastToDelegateIds(Lists.newArrayList(eligibleListOfDelegates.get(0)));
+        } else {
+          // shuffle the eligible delegates to evenly distribute the load
+          Collections.shuffle(eligibleListOfDelegates);
+          task.setBroadcastToDelegateIds(
+              Lists.newArrayList(getDelegateIdForFirstBroadcast(task, eligibleListOfDelegates)));
+        }
         if (isNotEmpty(task.getEligibleToExecuteDelegateIds())) {
           // case when caller send eligibleDelegateIds where we skip assignment process, different selection log message
           delegateSelectionLogsService.logEligibleDelegatesToExecuteTask(
@@ -682,6 +691,29 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
     }
   }
 
+  /**
+   * Moves the delegates which already validated the task before the others, keeping the order of both, as
+   * {@link #getDelegateIdForFirstBroadcast} broadcasts to them first.
+   */
+  private List<String> getWhitelistedDelegatesFirst(DelegateTask delegateTask, List<String> eligibleListOfDelegates) {
+    List<String> whitelistedDelegates = new ArrayList<>();
+    List<String> otherDelegates = new ArrayList<>();
+    for (String delegateId : eligibleListOfDelegates) {
+      if (assignDelegateService.isDelegateGroupWhitelisted(delegateTask, delegateId)
+          || assignDelegateService.isWhitelisted(delegateTask, delegateId)) {
+        whitelistedDelegates.add(delegateId);
+      } else {
+        otherDelegates.add(delegateId);
+      }
+    }
+    if (whitelistedDelegates.isEmpty()) {
+      delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_NO_FIRST_WHITELISTED);
+      printCriteriaNoMatch(delegateTask);
+    }
+    whitelistedDelegates.addAll(otherDelegates);
+    return whitelistedDelegates;
+  }
+
   private String getDelegateIdForFirstBroadcast(DelegateTask delegateTask, List<String> eligibleListOfDelegates) {
     if (delegateTask.isNGTask(delegateTask.getSetupAbstractions())
         && featureFlagService.isEnabled(DELEGATE_TASK_LOAD_DISTRIBUTION, delegateTask.getAccountId())) {
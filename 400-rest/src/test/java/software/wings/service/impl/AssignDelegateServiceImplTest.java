@@ -17,6 +17,7 @@ import static io.harness.delegate.beans.TaskData.DEFAULT_ASYNC_CALL_TIMEOUT;
 import static io.harness.delegate.beans.TaskData.DEFAULT_SYNC_CALL_TIMEOUT;
 import static io.harness.delegate.task.mixin.HttpConnectionExecutionCapabilityGenerator.buildHttpConnectionExecutionCapability;
 import static io.harness.delegate.utils.DelegateServiceConstants.HEARTBEAT_EXPIRY_TIME;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.ANSHUL;
 import static io.harness.rule.OwnerRule.ARPIT;
 import static io.harness.rule.OwnerRule.ARVIND;
@@ -39,6 +40,9 @@ import static software.wings.service.impl.AssignDelegateServiceImpl.SCOPE_WILDCA
 import static software.wings.service.impl.AssignDelegateServiceImpl.WHITELIST_TTL;
 import static software.wings.service.impl.AssignDelegateServiceImplTest.CriteriaType.MATCHING_CRITERIA;
 import static software.wings.service.impl.AssignDelegateServiceImplTest.CriteriaType.NOT_MATCHING_CRITERIA;
+import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP;
+import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP;
+import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_TASK_GROUP;
 import static software.wings.service.impl.instance.InstanceSyncTestConstants.APP_ID;
 import static software.wings.utils.WingsTestConstants.ACCOUNT_ID;
 import static software.wings.utils.WingsTestConstants.DELEGATE_ID;
@@ -64,6 +68,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.Cd1SetupFields;
 import io.harness.beans.DelegateTask;
 import io.harness.beans.DelegateTask.DelegateTaskBuilder;
+import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
 import io.harness.common.NGTaskType;
 import io.harness.delegate.beans.Delegate;
@@ -75,6 +80,7 @@ import io.harness.delegate.beans.DelegateProfile;
 import io.harness.delegate.beans.DelegateProfileScopingRule;
 import io.harness.delegate.beans.DelegateScope;
 import io.harness.delegate.beans.TaskData;
+import io.harness.delegate.beans.TaskDataV2;
 import io.harness.delegate.beans.TaskGroup;
 import io.harness.delegate.beans.executioncapability.ExecutionCapability;
 import io.harness.delegate.beans.executioncapability.HttpConnectionExecutionCapability;
@@ -2000,6 +2006,45 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
     assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).contains(delegate.getUuid());
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetEligibleDelegatesToExecuteTaskV2FromAssignmentIndex() throws ExecutionException {
+    Delegate eligible = createAccountDelegate();
+    eligible.setHostName("eligible");
+    Delegate withoutSelectors = createAccountDelegate();
+    withoutSelectors.setHostName("withoutSelectors");
+    Delegate excludedByScope = createAccountDelegate();
+    excludedByScope.setHostName("excludedByScope");
+    excludedByScope.setExcludeScopes(
+        singletonList(DelegateScope.builder().environmentTypes(ImmutableList.of(PROD)).build()));
+    Delegate withoutTaskType = createAccountDelegate();
+    withoutTaskType.setHostName("withoutTaskType");
+    withoutTaskType.setSupportedTaskTypes(singletonList(TaskType.JIRA.name()));
+    List<Delegate> delegates = asList(eligible, withoutSelectors, excludedByScope, withoutTaskType);
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(delegates);
+    for (Delegate delegate : delegates) {
+      when(delegateCache.get(ACCOUNT_ID, delegate.getUuid())).thenReturn(delegate);
+      when(delegateService.retrieveDelegateSelectors(delegate, true))
+          .thenReturn(delegate == eligible ? Collections.singleton("sel1") : emptySet());
+    }
+
+    DelegateTask legacyTask = constructDelegateTaskV2WithSelector("sel1");
+    List<String> legacyEligibleDelegates = assignDelegateService.getEligibleDelegatesToExecuteTaskV2(legacyTask);
+
+    when(featureFlagService.isEnabled(eq(FeatureName.DEL_TASK_ASSIGNMENT_INDEX), anyString())).thenReturn(true);
+    DelegateTask indexedTask = constructDelegateTaskV2WithSelector("sel1");
+    List<String> indexedEligibleDelegates = assignDelegateService.getEligibleDelegatesToExecuteTaskV2(indexedTask);
+
+    assertThat(legacyEligibleDelegates).containsExactly(eligible.getUuid());
+    assertThat(indexedEligibleDelegates).isEqualTo(legacyEligibleDelegates);
+    assertThat(legacyTask.getNonAssignableDelegates())
+        .containsEntry(TaskType.HTTP.name() + " " + CAN_NOT_ASSIGN_TASK_GROUP, singletonList("withoutTaskType"))
+        .containsEntry(CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP, singletonList("excludedByScope"))
+        .containsEntry(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " [sel1]", singletonList("withoutSelectors"));
+    assertThat(indexedTask.getNonAssignableDelegates()).isEqualTo(legacyTask.getNonAssignableDelegates());
+  }
+
   @Test
   @Owner(developers = JENNY)
   @Category(UnitTests.class)
@@ -2672,6 +2717,21 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
     return Lists.newArrayList(delegate1, delegate2, delegate3, delegate4);
   }
 
+  private DelegateTask constructDelegateTaskV2WithSelector(String selector) {
+    return DelegateTask.builder()
+        .accountId(ACCOUNT_ID)
+        .setupAbstraction(Cd1SetupFields.APP_ID_FIELD, "APP_ID")
+        .setupAbstraction(Cd1SetupFields.ENV_ID_FIELD, "ENV_ID")
+        .taskDataV2(TaskDataV2.builder()
+                        .async(true)
+                        .taskType(TaskType.HTTP.name())
+                        .timeout(DEFAULT_ASYNC_CALL_TIMEOUT)
+                        .build())
+        .executionCapabilities(
+            singletonList(SelectorCapability.builder().selectors(Collections.singleton(selector)).build()))
+        .build();
+  }
+
   private Delegate createNGDelegate() {
     Delegate delegate = createDelegateBuilder().build();
     delegate.setOwner(DelegateEntityOwner.builder().identifier("orgId/projectId").build());
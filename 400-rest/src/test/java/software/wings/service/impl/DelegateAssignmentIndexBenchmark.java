@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the delegates supporting the task type and having all the selectors of every task, once by checking every
+ * delegate of the account as the task assignment does without the index and once with a
+ * {@link DelegateAssignmentIndex}, and prints the time taken by both.
+ *
+ * Arguments: [delegates] [tasks] [task types] [selectors] [rounds], defaults to 1000 10000 100 50 5.
+ */
+public class DelegateAssignmentIndexBenchmark {
+  private static final int TASK_TYPES_PER_DELEGATE = 60;
+  private static final int SELECTORS_PER_DELEGATE = 4;
+
+  public static void main(String[] args) {
+    int delegates = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    int tasks = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+    int taskTypes = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+    int selectors = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+    int rounds = args.length > 4 ? Integer.parseInt(args[4]) : 5;
+
+    Random random = new Random(0);
+    List<String> delegateIds = new ArrayList<>();
+    List<Set<String>> delegateTaskTypes = new ArrayList<>();
+    List<Set<String>> delegateSelectors = new ArrayList<>();
+    DelegateAssignmentIndex index = new DelegateAssignmentIndex(Collections.emptyList());
+    for (int delegate = 0; delegate < delegates; delegate++) {
+      delegateIds.add("delegate" + delegate);
+      delegateTaskTypes.add(randomNames("TASK_TYPE_", taskTypes, TASK_TYPES_PER_DELEGATE, random));
+      delegateSelectors.add(randomNames("selector", selectors, SELECTORS_PER_DELEGATE, random));
+      index.addDelegate(delegateIds.get(delegate), delegateTaskTypes.get(delegate), delegateSelectors.get(delegate));
+    }
+    List<String> taskTaskTypes = new ArrayList<>();
+    List<Set<String>> taskSelectors = new ArrayList<>();
+    for (int task = 0; task < tasks; task++) {
+      taskTaskTypes.add("TASK_TYPE_" + random.nextInt(taskTypes));
+      taskSelectors.add(randomNames("selector", selectors, random.nextInt(2), random));
+    }
+
+    for (int round = 0; round < rounds; round++) {
+      long startNanos = System.nanoTime();
+      long eligible = 0;
+      for (int task = 0; task < tasks; task++) {
+        for (int delegate = 0; delegate < delegates; delegate++) {
+          if (delegateTaskTypes.get(delegate).contains(taskTaskTypes.get(task))
+              && delegateSelectors.get(delegate).containsAll(taskSelectors.get(task))) {
+            eligible++;
+          }
+        }
+      }
+      long scanMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+      startNanos = System.nanoTime();
+      long indexEligible = 0;
+      for (int task = 0; task < tasks; task++) {
+        BitSet candidates = index.getDelegatesWithSelectors(
+            index.getDelegatesSupportingTaskType(taskTaskTypes.get(task)), taskSelectors.get(task));
+        for (String delegateId : delegateIds) {
+          if (index.isSet(candidates, delegateId)) {
+            indexEligible++;
+          }
+        }
+      }
+      long indexMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+      System.out.printf("round %d: %d delegates x %d tasks, %d eligible pairs, check every delegate %dms, index %dms%n",
+          round, delegates, tasks, eligible, scanMillis, indexMillis);
+      if (eligible != indexEligible) {
+        throw new IllegalStateException("Index found " + indexEligible + " eligible pairs instead of " + eligible);
+      }
+    }
+  }
+
+  private static Set<String> randomNames(String prefix, int bound, int count, Random random) {
+    Set<String> names = new HashSet<>();
+    while (names.size() < Math.min(count, bound)) {
+      names.add(prefix + random.nextInt(bound));
+    }
+    return names;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateAssignmentIndexTest extends CategoryTest {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldFindDelegatesSupportingTaskTypeWithAllSelectors() {
+    DelegateAssignmentIndex index = new DelegateAssignmentIndex(Collections.emptyList());
+    index.addDelegate("d1", List.of("SHELL_SCRIPT", "HTTP"), Set.of("linux", "prod"));
+    index.addDelegate("d2", List.of("SHELL_SCRIPT"), Set.of("linux"));
+    index.addDelegate("d3", List.of("HTTP"), Set.of("linux", "prod"));
+    index.addDelegate("d4", null, null);
+
+    BitSet shellScript = index.getDelegatesSupportingTaskType("SHELL_SCRIPT");
+    assertThat(index.isSet(shellScript, "d1")).isTrue();
+    assertThat(index.isSet(shellScript, "d2")).isTrue();
+    assertThat(index.isSet(shellScript, "d3")).isFalse();
+    assertThat(index.isSet(shellScript, "d4")).isFalse();
+
+    BitSet linuxAndProd = index.getDelegatesWithSelectors(shellScript, Set.of("linux", "prod"));
+    assertThat(index.isSet(linuxAndProd, "d1")).isTrue();
+    assertThat(index.isSet(linuxAndProd, "d2")).isFalse();
+    assertThat(index.getDelegatesWithSelectors(shellScript, Collections.emptySet())).isEqualTo(shellScript);
+    assertThat(index.getDelegatesWithSelectors(shellScript, Set.of("windows")).isEmpty()).isTrue();
+    // The supporting delegates are not changed by the selector intersection.
+    assertThat(index.isSet(shellScript, "d2")).isTrue();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotFindUnknownDelegatesOrTaskTypes() {
+    DelegateAssignmentIndex index = new DelegateAssignmentIndex(Collections.emptyList());
+    index.addDelegate("d1", List.of("HTTP"), Set.of("linux"));
+
+    assertThat(index.contains("d1")).isTrue();
+    assertThat(index.contains("d2")).isFalse();
+    assertThat(index.getDelegatesSupportingTaskType("SHELL_SCRIPT").isEmpty()).isTrue();
+    assertThat(index.getDelegatesSupportingTaskType(null).isEmpty()).isTrue();
+    assertThat(index.isSet(index.getDelegatesSupportingTaskType("HTTP"), "d2")).isFalse();
+  }
+}
@@ -23,6 +23,7 @@ import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.time.Duration;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -58,6 +59,8 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
   public static final String PERPETUAL_TASK_ASSIGNED = "perpetual_task_assigned";
   public static final String PERPETUAL_TASK_UNASSIGNED = "perpetual_task_unassigned";
   public static final String PERPETUAL_TASK_NONASSIGNABLE = "perpetual_task_nonassignable";
+  public static final String PERPETUAL_TASK_REASSIGNED = "perpetual_task_reassigned";
+  public static final String PERPETUAL_TASK_ASSIGNMENT_TIME = "perpetual_task_assignment_time";
   public static final String TASK_TYPE_SUFFIX = "_by_type";
 
   public static final String HEARTBEAT_RECEIVED = "heartbeat_received";
@@ -143,6 +146,13 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
     }
   }
 
+  @Override
+  public void recordPerpetualTaskAssignmentDuration(String accountId, String perpetualTaskType, Duration duration) {
+    try (PerpetualTaskMetricContext ignore = new PerpetualTaskMetricContext(accountId, perpetualTaskType)) {
+      metricService.recordDuration(PERPETUAL_TASK_ASSIGNMENT_TIME, duration);
+    }
+  }
+
   @Override
   public void recordDelegateMetricsPerAccount(String accountId, String metricName) {
     try (DelegateAccountMetricContext ignore = new DelegateAccountMetricContext(accountId)) {
@@ -12,6 +12,8 @@ import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.DelegateRing;
 import io.harness.delegate.beans.DelegateTaskResponse;
 
+import java.time.Duration;
+
 public interface DelegateMetricsService {
   void recordDelegateTaskMetrics(DelegateTask task, String metricName);
 
@@ -23,6 +25,8 @@ public interface DelegateMetricsService {
 
   void recordPerpetualTaskMetrics(String accountId, String perpetualTaskType, String metricName);
 
+  void recordPerpetualTaskAssignmentDuration(String accountId, String perpetualTaskType, Duration duration);
+
   void recordDelegateMetricsPerAccount(String accountId, String metricName);
 
   void recordDelegateHeartBeatMetricsPerAccount(String accountId, String accountName, String companyName,
@@ -31,7 +31,9 @@ import dev.morphia.query.Query;
 import dev.morphia.query.UpdateOperations;
 import dev.morphia.query.UpdateResults;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -232,6 +234,20 @@ public class PerpetualTaskRecordDao {
         .asList();
   }
 
+  public Map<String, Integer> countAssignedTasksByDelegate(String accountId) {
+    Map<String, Integer> assignedTasks = new HashMap<>();
+    Query<PerpetualTaskRecord> query = persistence.createQuery(PerpetualTaskRecord.class)
+                                           .filter(PerpetualTaskRecordKeys.accountId, accountId)
+                                           .filter(PerpetualTaskRecordKeys.state, TASK_ASSIGNED)
+                                           .project(PerpetualTaskRecordKeys.delegateId, true);
+    try (HIterator<PerpetualTaskRecord> tasksIterator = new HIterator<>(query.fetch())) {
+      while (tasksIterator.hasNext()) {
+        assignedTasks.merge(tasksIterator.next().getDelegateId(), 1, Integer::sum);
+      }
+    }
+    return assignedTasks;
+  }
+
   public List<PerpetualTaskRecord> listAllPerpetualTasksForAccount(String accountId) {
     List<PerpetualTaskRecord> perpetualTaskRecords = new ArrayList<>();
 
@@ -62,4 +62,9 @@ public interface AssignDelegateService {
   boolean canAssignTaskV2(String delegateId, DelegateTask task);
 
   List<Delegate> fetchActiveDelegates(DelegateTask delegateTask);
+
+  /**
+   * Drops the assignment index of the account, to be called when the task types or tags of a delegate change.
+   */
+  void invalidateAssignmentIndex(String accountId);
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.helper;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+
+import io.harness.annotations.dev.CodePulse;
+import io.harness.annotations.dev.HarnessModuleComponent;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.ProductModule;
+import io.harness.beans.FeatureName;
+import io.harness.ff.FeatureFlagService;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.cloud.bigquery.TableResult;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caches the results of the perspective queries, so that the grid, chart, trend and total count queries fired by
+ * concurrent renders of the same perspective run once against the warehouse.
+ *
+ * A result is cached under the normalized query and the billing data watermark, the last time the tables read by the
+ * query were modified. New billing data moves the watermark and the query runs again, the stale results age out of
+ * the cache. Concurrent callers of a query that is running wait for its result instead of running it again, up to
+ * {@link #SHARED_RUN_WAIT_SECONDS}.
+ */
+@CodePulse(
+    module = ProductModule.CCM, unitCoverageRequired = true, components = {HarnessModuleComponent.CCM_PERSPECTIVE})
+@OwnedBy(CE)
+@Slf4j
+@Singleton
+public class ViewsQueryResultCache {
+  private static final long MAX_CACHED_ROWS = 500_000;
+  private static final long MAX_ROWS_PER_RESULT = 20_000;
+  private static final long RESULT_TTL_MINUTES = 60;
+  private static final long WATERMARK_TTL_SECONDS = 60;
+  // Callers waiting longer for the shared run of a query run it themselves.
+  private static final long SHARED_RUN_WAIT_SECONDS = 120;
+  private static final String METRIC_PREFIX = "ccm_perspective_query_cache_";
+
+  @Inject private FeatureFlagService featureFlagService;
+  @Inject private MetricRegistry metricRegistry;
+
+  private final AsyncCache<QueryKey, Object> results = Caffeine.newBuilder()
+                                                           .maximumWeight(MAX_CACHED_ROWS)
+                                                           .weigher(ViewsQueryResultCache::getWeight)
+                                                           .expireAfterWrite(RESULT_TTL_MINUTES, TimeUnit.MINUTES)
+                                                           .buildAsync();
+  private final Cache<String, Long> watermarks =
+      Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(WATERMARK_TTL_SECONDS, TimeUnit.SECONDS).build();
+
+  @FunctionalInterface
+  public interface QueryLoader<T, E extends Exception> {
+    T load() throws E;
+  }
+
+  @Value
+  @VisibleForTesting
+  static class QueryKey {
+    String accountId;
+    String query;
+    long watermark;
+  }
+
+  /**
+   * Returns the cached result of the query, or loads it. A null result is not cached.
+   *
+   * @param watermark the last time the billing data read by the query changed, see {@link #getTableWatermark}
+   */
+  @SuppressWarnings("unchecked")
+  public <T, E extends Exception> T get(String accountId, String query, LongSupplier watermark,
+      QueryLoader<T, E> loader) throws E {
+    if (accountId == null || !featureFlagService.isEnabled(FeatureName.CCM_PERSPECTIVE_QUERY_CACHE, accountId)) {
+      return loader.load();
+    }
+    QueryKey key;
+    try {
+      key = new QueryKey(accountId, normalize(query), watermark.getAsLong());
+    } catch (RuntimeException e) {
+      log.warn("Failed to get the billing data watermark of account {}, running the query uncached", accountId, e);
+      return loader.load();
+    }
+
+    CompletableFuture<Object> loading = new CompletableFuture<>();
+    CompletableFuture<Object> cached = results.asMap().putIfAbsent(key, loading);
+    if (cached != null) {
+      metricRegistry.counter(METRIC_PREFIX + (cached.isDone() ? "hit" : "shared")).inc();
+      try {
+        Object result = cached.get(SHARED_RUN_WAIT_SECONDS, TimeUnit.SECONDS);
+        if (result != null) {
+          return (T) result;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        log.warn("The shared run of the query failed, running it again", e.getCause());
+      } catch (TimeoutException e) {
+        log.warn("The shared run of the query of account {} did not finish in {}s, running it again", accountId,
+            SHARED_RUN_WAIT_SECONDS);
+      }
+      return loader.load();
+    }
+
+    metricRegistry.counter(METRIC_PREFIX + "miss").inc();
+    T result;
+    try (Timer.Context ignore = metricRegistry.timer(METRIC_PREFIX + "load_time").time()) {
+      result = loader.load();
+    } catch (Throwable t) {
+      // Errors too, so that no caller keeps waiting for a run which will never complete.
+      results.asMap().remove(key, loading);
+      loading.completeExceptionally(t);
+      throw t;
+    }
+    // A null or an oversized result completes the waiting callers but is removed from the cache.
+    loading.complete(result);
+    if (result != null && getWeight(key, result) > MAX_ROWS_PER_RESULT) {
+      results.asMap().remove(key, loading);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the last modified time of a table, looked up at most once a minute.
+   */
+  public long getTableWatermark(String tableName, ToLongFunction<String> lastModifiedTime) {
+    return watermarks.get(tableName, lastModifiedTime::applyAsLong);
+  }
+
+  @VisibleForTesting
+  static String normalize(String query) {
+    StringBuilder normalized = new StringBuilder(query.length());
+    char quote = 0;
+    boolean space = false;
+    boolean escaped = false;
+    for (char c : query.trim().toCharArray()) {
+      if (escaped || (quote != 0 && c == '\\')) {
+        // The character after a backslash never ends a literal.
+        escaped = !escaped;
+        normalized.append(c);
+        continue;
+      }
+      if (quote == 0 && Character.isWhitespace(c)) {
+        space = true;
+        continue;
+      }
+      if (space) {
+        normalized.append(' ');
+        space = false;
+      }
+      if (quote == 0 && (c == '\'' || c == '"' || c == '`')) {
+        quote = c;
+      } else if (c == quote) {
+        quote = 0;
+      }
+      normalized.append(c);
+    }
+    return normalized.toString();
+  }
+
+  private static int getWeight(QueryKey key, Object result) {
+    if (result instanceof TableResult) {
+      return (int) Math.min(Math.max(((TableResult) result).getTotalRows(), 1), Integer.MAX_VALUE);
+    }
+    return 1;
+  }
+}
@@ -81,6 +81,7 @@ import io.harness.ccm.views.helper.InstanceDetailsHelper;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
+import io.harness.ccm.views.helper.ViewsQueryResultCache;
 import io.harness.ccm.views.service.CEViewService;
 import io.harness.ccm.views.service.LabelFlattenedService;
 import io.harness.ccm.views.service.ViewsBillingService;
@@ -97,6 +98,7 @@ import com.healthmarketscience.sqlbuilder.SelectQuery;
 import com.healthmarketscience.sqlbuilder.custom.postgresql.PgLimitClause;
 import com.healthmarketscience.sqlbuilder.custom.postgresql.PgOffsetClause;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -112,6 +114,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -127,6 +132,9 @@ public class ClickHouseViewsBillingServiceImpl implements ViewsBillingService {
   private static final String UTILIZED_COST_LABEL = "Utilized Cost";
   private static final String SYSTEM_COST_LABEL = "System Cost";
   private static final int MAX_LIMIT_VALUE = 10_000;
+  private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("\\bccm\\.\\w+");
+  private static final String LAST_MODIFIED_TIME_QUERY = "SELECT toUnixTimestamp(max(modification_time)) "
+      + "FROM system.parts WHERE active AND database = ? AND table = ?";
 
   @Inject @Nullable @Named("clickHouseConfig") private ClickHouseConfig clickHouseConfig;
   @Inject private ClickHouseService clickHouseService;
@@ -146,6 +154,7 @@ public class ClickHouseViewsBillingServiceImpl implements ViewsBillingService {
   @Inject private BusinessMappingSharedCostHelper businessMappingSharedCostHelper;
   @Inject private LabelFlattenedService labelFlattenedService;
   @Inject private ModuleLicenseHelper moduleLicenseHelper;
+  @Inject private ViewsQueryResultCache viewsQueryResultCache;
 
   // ----------------------------------------------------------------------------------------------------------------
   // Methods to get data for filter panel
@@ -770,21 +779,54 @@ public class ClickHouseViewsBillingServiceImpl implements ViewsBillingService {
     if (Objects.isNull(query)) {
       return null;
     }
+    final String sql = query.toString();
+    try {
+      return viewsQueryResultCache.get(
+          queryParams.getAccountId(), sql, () -> getBillingDataWatermark(sql), () -> getTotalCount(sql));
+    } catch (SQLException e) {
+      log.error("Failed to getTrendStatsData. {}", e.toString());
+    }
+    return null;
+  }
+
+  private Integer getTotalCount(String sql) throws SQLException {
     ResultSet resultSet = null;
     Integer totalCount = null;
     try (Connection connection = clickHouseService.getConnection(clickHouseConfig);
          Statement statement = connection.createStatement()) {
-      resultSet = statement.executeQuery(query.toString());
+      resultSet = statement.executeQuery(sql);
       while (resultSet != null && resultSet.next()) {
         totalCount = resultSet.getInt("totalCount");
       }
       return totalCount;
-    } catch (SQLException e) {
-      log.error("Failed to getTrendStatsData. {}", e.toString());
     } finally {
       DBUtils.close(resultSet);
     }
-    return totalCount;
+  }
+
+  // The last time the ClickHouse tables read by the query were modified
+  private long getBillingDataWatermark(String query) {
+    Matcher matcher = TABLE_NAME_PATTERN.matcher(query);
+    long watermark = 0L;
+    while (matcher.find()) {
+      watermark =
+          Math.max(watermark, viewsQueryResultCache.getTableWatermark(matcher.group(), this::getLastModifiedTime));
+    }
+    return watermark;
+  }
+
+  private long getLastModifiedTime(String tableName) {
+    String[] tableNameParts = tableName.split("\\.");
+    try (Connection connection = clickHouseService.getConnection(clickHouseConfig);
+         PreparedStatement statement = connection.prepareStatement(LAST_MODIFIED_TIME_QUERY)) {
+      statement.setString(1, tableNameParts[0]);
+      statement.setString(2, tableNameParts[1]);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() ? TimeUnit.SECONDS.toMillis(resultSet.getLong(1)) : 0L;
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to get the last modified time of " + tableName, e);
+    }
   }
 
   private SelectQuery getTotalCountQuery(final List<QLCEViewFilterWrapper> filters, final List<QLCEViewGroupBy> groupBy,
@@ -93,6 +93,8 @@ import io.harness.ccm.views.helper.InstanceDetailsHelper;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
+import io.harness.ccm.views.helper.ViewsQueryResultCache;
+import io.harness.ccm.views.helper.ViewsQueryResultCache.QueryLoader;
 import io.harness.ccm.views.service.CEViewService;
 import io.harness.ccm.views.service.LabelFlattenedService;
 import io.harness.ccm.views.service.ViewsBillingService;
@@ -109,6 +111,8 @@ import com.google.cloud.bigquery.JobInfo;
 import com.google.cloud.bigquery.QueryJobConfiguration;
 import com.google.cloud.bigquery.Schema;
 import com.google.cloud.bigquery.StandardSQLTypeName;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
 import com.google.cloud.bigquery.TableResult;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -126,6 +130,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
@@ -159,6 +165,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
   @Inject private BusinessMappingSharedCostHelper businessMappingSharedCostHelper;
   @Inject private LabelFlattenedService labelFlattenedService;
   @Inject private ModuleLicenseHelper moduleLicenseHelper;
+  @Inject private ViewsQueryResultCache viewsQueryResultCache;
 
   // ----------------------------------------------------------------------------------------------------------------
   // Methods to get data for filter panel
@@ -319,9 +326,11 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     log.info("Query for grid (with limit as {}): {}", modifiedLimit, query);
     TableResult result;
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for grid query (with limit as {}): {}", job.getJobId(), modifiedLimit, query);
-      result = job.getQueryResults();
+      result = getQueryResult(bigQuery, queryParams.getAccountId(), query, () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for grid query (with limit as {}): {}", job.getJobId(), modifiedLimit, query);
+        return job.getQueryResults();
+      });
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataPoints for query {}", query, e);
       Thread.currentThread().interrupt();
@@ -350,7 +359,8 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
       SelectQuery query = businessMappingSharedCostHelper.getEntityStatsSharedCostDataQueryForCostTrend(filters,
           groupBy, aggregateFunction, sort, cloudProviderTableName, queryParams, sharedCostBusinessMappings, viewRules,
           labelsKeyAndColumnMapping, viewPreferences);
-      final TableResult result = getTableResultWithLimitAndOffset(bigQuery, query, limit, offset);
+      final TableResult result =
+          getTableResultWithLimitAndOffset(bigQuery, queryParams.getAccountId(), query, limit, offset);
       costTrendData =
           convertToEntityStatsCostTrendData(result, isClusterPerspective, queryParams.isSkipRoundOff(), groupBy);
     } else {
@@ -381,7 +391,8 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     if (Objects.isNull(query)) {
       return null;
     }
-    final TableResult result = getTableResultWithLimitAndOffset(bigQuery, query, limit, offset);
+    final TableResult result =
+        getTableResultWithLimitAndOffset(bigQuery, queryParams.getAccountId(), query, limit, offset);
     return convertToEntityStatsData(result, costTrendData, startTimeForTrendData, isClusterPerspective,
         queryParams.isUsedByTimeSeriesStats(), queryParams.isSkipRoundOff(), conversionField,
         queryParams.getAccountId(), groupBy, businessMapping, false);
@@ -577,9 +588,11 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     log.info("Query for cost trend (with limit as {}): {}", limit, query);
     TableResult result;
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for cost trend query (with limit as {}): {}", job.getJobId(), limit, query);
-      result = job.getQueryResults();
+      result = getQueryResult(bigQuery, queryParams.getAccountId(), query, () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for cost trend query (with limit as {}): {}", job.getJobId(), limit, query);
+        return job.getQueryResults();
+      });
     } catch (InterruptedException e) {
       log.error("Failed to getEntityStatsDataForCostTrend for account {}", queryParams.getAccountId(), e);
       Thread.currentThread().interrupt();
@@ -696,9 +709,11 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
 
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for timeSeriesStats query (with limit as {}): {}", job.getJobId(), limit, query);
-      return job.getQueryResults();
+      return getQueryResult(bigQuery, queryParams.getAccountId(), query, () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for timeSeriesStats query (with limit as {}): {}", job.getJobId(), limit, query);
+        return job.getQueryResults();
+      });
     } catch (InterruptedException e) {
       log.error("Failed to getTimeSeriesStats for query: {}", query, e);
       Thread.currentThread().interrupt();
@@ -966,10 +981,10 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     double prevSharedCostFromRulesAndFilters = getTotalSharedCostFromFilters(bigQuery, filtersForPrevPeriod, groupBy,
         aggregateFunction, Collections.emptyList(), cloudProviderTableName, queryParams, sharedCostBusinessMappings,
         labelsKeyAndColumnMapping, viewPreferences);
-    ViewCostData costData = getViewTrendStatsCostData(
-        bigQuery, query, isClusterTableQuery, businessMapping, addSharedCostFromGroupBy, sharedCostFromRulesAndFilters);
-    ViewCostData prevCostData = getViewTrendStatsCostData(bigQuery, prevTrendStatsQuery, isClusterTableQuery,
-        businessMapping, addSharedCostFromGroupBy, prevSharedCostFromRulesAndFilters);
+    ViewCostData costData = getViewTrendStatsCostData(bigQuery, queryParams.getAccountId(), query, isClusterTableQuery,
+        businessMapping, addSharedCostFromGroupBy, sharedCostFromRulesAndFilters);
+    ViewCostData prevCostData = getViewTrendStatsCostData(bigQuery, queryParams.getAccountId(), prevTrendStatsQuery,
+        isClusterTableQuery, businessMapping, addSharedCostFromGroupBy, prevSharedCostFromRulesAndFilters);
 
     EfficiencyScoreStats efficiencyScoreStats = null;
     if (isClusterTableQuery) {
@@ -1093,19 +1108,21 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     double sharedCostFromFiltersAndRules = getTotalSharedCostFromFilters(bigQuery, filters, groupBy, aggregateFunction,
         Collections.emptyList(), cloudProviderTableName, queryParams, sharedCostBusinessMappings,
         labelsKeyAndColumnMapping, viewPreferences);
-    return getViewTrendStatsCostData(
-        bigQuery, query, isClusterTableQuery, businessMapping, addSharedCostFromGroupBy, sharedCostFromFiltersAndRules);
+    return getViewTrendStatsCostData(bigQuery, queryParams.getAccountId(), query, isClusterTableQuery,
+        businessMapping, addSharedCostFromGroupBy, sharedCostFromFiltersAndRules);
   }
 
-  private ViewCostData getViewTrendStatsCostData(BigQuery bigQuery, SelectQuery query, boolean isClusterTableQuery,
-      BusinessMapping businessMappingFromGroupBy, boolean addSharedCostFromGroupBy,
+  private ViewCostData getViewTrendStatsCostData(BigQuery bigQuery, String accountId, SelectQuery query,
+      boolean isClusterTableQuery, BusinessMapping businessMappingFromGroupBy, boolean addSharedCostFromGroupBy,
       double sharedCostFromFiltersAndRules) {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for trend stats cost data query: {}", job.getJobId(), query);
-      result = job.getQueryResults();
+      result = getQueryResult(bigQuery, accountId, query, () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for trend stats cost data query: {}", job.getJobId(), query);
+        return job.getQueryResults();
+      });
     } catch (InterruptedException e) {
       log.error("Failed to getTrendStatsData.", e);
       Thread.currentThread().interrupt();
@@ -1171,7 +1188,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     TableResult result;
     try {
-      result = bigQuery.query(queryConfig);
+      result = getQueryResult(bigQuery, queryParams.getAccountId(), query, () -> bigQuery.query(queryConfig));
     } catch (InterruptedException e) {
       log.error("Failed to getTotalCountForQuery.", e);
       Thread.currentThread().interrupt();
@@ -1444,7 +1461,7 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
           viewsQueryHelper.removeBusinessMappingFilter(filters, sharedCostBusinessMapping.getUuid()), groupBy,
           businessMappingGroupBy, aggregateFunction, sort, cloudProviderTableName, modifiedQueryParams,
           sharedCostBusinessMapping, Collections.emptyList(), labelsKeyAndColumnMapping, viewPreferences);
-      TableResult result = getTableResultWithLimitAndOffset(bigQuery, query, limit, offset);
+      TableResult result = getTableResultWithLimitAndOffset(bigQuery, queryParams.getAccountId(), query, limit, offset);
 
       if (Objects.isNull(result)) {
         return Collections.emptyMap();
@@ -1520,17 +1537,19 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     return sharedCostsFromFilters;
   }
 
-  private TableResult getTableResultWithLimitAndOffset(
-      final BigQuery bigQuery, final SelectQuery query, final Integer limit, final Integer offset) {
+  private TableResult getTableResultWithLimitAndOffset(final BigQuery bigQuery, final String accountId,
+      final SelectQuery query, final Integer limit, final Integer offset) {
     query.addCustomization(new PgLimitClause(limit));
     query.addCustomization(new PgOffsetClause(offset));
     final QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(query.toString()).build();
     log.info("Query for shared cost (with limit as {}): {}", limit, query);
     TableResult result = null;
     try {
-      Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
-      log.info("Job id {} for shared cost query (with limit as {}): {}", job.getJobId(), limit, query);
-      result = job.getQueryResults();
+      result = getQueryResult(bigQuery, accountId, query, () -> {
+        Job job = bigQuery.create(JobInfo.newBuilder(queryConfig).build());
+        log.info("Job id {} for shared cost query (with limit as {}): {}", job.getJobId(), limit, query);
+        return job.getQueryResults();
+      });
     } catch (final InterruptedException e) {
       log.error("Failed to get query result", e);
       Thread.currentThread().interrupt();
@@ -1538,6 +1557,33 @@ public class ViewsBillingServiceImpl implements ViewsBillingService {
     return result;
   }
 
+  // ----------------------------------------------------------------------------------------------------------------
+  // Methods to run the queries through the query result cache
+  // ----------------------------------------------------------------------------------------------------------------
+  private TableResult getQueryResult(BigQuery bigQuery, String accountId, SelectQuery query,
+      QueryLoader<TableResult, InterruptedException> loader) throws InterruptedException {
+    final String sql = query.toString();
+    return viewsQueryResultCache.get(accountId, sql, () -> getBillingDataWatermark(bigQuery, accountId, sql), loader);
+  }
+
+  // The last time the tables of the account dataset read by the query were modified
+  private long getBillingDataWatermark(BigQuery bigQuery, String accountId, String query) {
+    String dataSetPrefix = bigQueryHelper.getCloudProviderTableName(accountId, "");
+    Matcher matcher = Pattern.compile(Pattern.quote(dataSetPrefix) + "\\w+").matcher(query);
+    long watermark = 0L;
+    while (matcher.find()) {
+      watermark = Math.max(watermark,
+          viewsQueryResultCache.getTableWatermark(matcher.group(), table -> getLastModifiedTime(bigQuery, table)));
+    }
+    return watermark;
+  }
+
+  private long getLastModifiedTime(BigQuery bigQuery, String tableName) {
+    String[] tableNameParts = tableName.split("\\.");
+    Table table = bigQuery.getTable(TableId.of(tableNameParts[0], tableNameParts[1], tableNameParts[2]));
+    return table == null || table.getLastModifiedTime() == null ? 0L : table.getLastModifiedTime();
+  }
+
   // ----------------------------------------------------------------------------------------------------------------
   // Methods to fetch fields from response
   // ----------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.ccm.views.helper;
+
+import static io.harness.annotations.dev.HarnessTeam.CE;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FeatureName;
+import io.harness.category.element.UnitTests;
+import io.harness.ff.FeatureFlagService;
+import io.harness.rule.Owner;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+@OwnedBy(CE)
+public class ViewsQueryResultCacheTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String QUERY = "SELECT sum(cost) AS cost FROM `project.BillingReport_account.unifiedTable` "
+      + "WHERE (awsServicecode IN ('Amazon  EC2') )";
+
+  @Mock private FeatureFlagService featureFlagService;
+  @Spy private MetricRegistry metricRegistry = new MetricRegistry();
+  @InjectMocks private ViewsQueryResultCache viewsQueryResultCache;
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(featureFlagService.isEnabled(eq(FeatureName.CCM_PERSPECTIVE_QUERY_CACHE), anyString())).thenReturn(true);
+  }
+
+  private String load() {
+    return "result-" + loads.incrementAndGet();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRunTheSameQueryOnce() {
+    assertThat(viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, this::load)).isEqualTo("result-1");
+    assertThat(viewsQueryResultCache.get(ACCOUNT_ID, "  " + QUERY.replace(" FROM", "\n    FROM"), () -> 100L,
+                   this::load))
+        .isEqualTo("result-1");
+
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(metricRegistry.counter("ccm_perspective_query_cache_hit").getCount()).isEqualTo(1);
+    assertThat(metricRegistry.counter("ccm_perspective_query_cache_miss").getCount()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRunTheQueryAgainWhenTheBillingDataChanges() {
+    assertThat(viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, this::load)).isEqualTo("result-1");
+    assertThat(viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 200L, this::load)).isEqualTo("result-2");
+    assertThat(viewsQueryResultCache.get("otherAccountId", QUERY, () -> 200L, this::load)).isEqualTo("result-3");
+    assertThat(viewsQueryResultCache.get("otherAccountId", QUERY, () -> 200L, this::load)).isEqualTo("result-3");
+    assertThat(viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 200L, this::load)).isEqualTo("result-2");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldShareTheRunningQuery() throws Exception {
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> first = executor.submit(() -> viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, () -> {
+        running.countDown();
+        Uninterruptibles.awaitUninterruptibly(release);
+        return load();
+      }));
+      assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+      Future<String> second =
+          executor.submit(() -> viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, this::load));
+      while (metricRegistry.counter("ccm_perspective_query_cache_shared").getCount() == 0) {
+        Thread.sleep(10);
+      }
+      release.countDown();
+
+      assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("result-1");
+      assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("result-1");
+      assertThat(loads.get()).isEqualTo(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotCacheFailuresAndNullResults() {
+    assertThatThrownBy(() -> viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, () -> {
+      throw new SQLException("timeout");
+    })).isInstanceOf(SQLException.class);
+    assertThat(viewsQueryResultCache.<String, RuntimeException>get(ACCOUNT_ID, QUERY, () -> 100L, () -> null))
+        .isNull();
+    assertThat(viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, this::load)).isEqualTo("result-1");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldDropTheRunOfAQueryFailingWithAnError() {
+    assertThatThrownBy(() -> viewsQueryResultCache.<String, RuntimeException>get(ACCOUNT_ID, QUERY, () -> 100L, () -> {
+      throw new OutOfMemoryError("result too large");
+    })).isInstanceOf(OutOfMemoryError.class);
+
+    // Runs the query again instead of waiting for the failed run.
+    assertThat(viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, this::load)).isEqualTo("result-1");
+    assertThat(metricRegistry.counter("ccm_perspective_query_cache_miss").getCount()).isEqualTo(2);
+    assertThat(metricRegistry.counter("ccm_perspective_query_cache_shared").getCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRunTheQueryUncachedWithoutAWatermark() {
+    LongSupplier missingTable = () -> {
+      throw new IllegalStateException("table not found");
+    };
+    viewsQueryResultCache.get(ACCOUNT_ID, QUERY, missingTable, this::load);
+    viewsQueryResultCache.get(ACCOUNT_ID, QUERY, missingTable, this::load);
+    assertThat(loads.get()).isEqualTo(2);
+
+    when(featureFlagService.isEnabled(eq(FeatureName.CCM_PERSPECTIVE_QUERY_CACHE), eq(ACCOUNT_ID))).thenReturn(false);
+    viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, this::load);
+    viewsQueryResultCache.get(ACCOUNT_ID, QUERY, () -> 100L, this::load);
+    assertThat(loads.get()).isEqualTo(4);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNormalizeWhitespaceOutsideLiterals() {
+    assertThat(ViewsQueryResultCache.normalize(QUERY.replace(" WHERE", "\n\tWHERE")))
+        .isEqualTo(ViewsQueryResultCache.normalize(QUERY));
+    assertThat(ViewsQueryResultCache.normalize("SELECT  'a  \\'  b'   FROM t"))
+        .isEqualTo("SELECT 'a  \\'  b' FROM t");
+  }
+}
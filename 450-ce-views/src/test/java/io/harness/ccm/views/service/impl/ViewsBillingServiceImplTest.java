@@ -77,6 +77,7 @@ import io.harness.ccm.views.helper.BusinessMappingSharedCostHelper;
 import io.harness.ccm.views.helper.ViewBillingServiceHelper;
 import io.harness.ccm.views.helper.ViewBusinessMappingResponseHelper;
 import io.harness.ccm.views.helper.ViewParametersHelper;
+import io.harness.ccm.views.helper.ViewsQueryResultCache;
 import io.harness.ccm.views.service.CEViewPreferenceService;
 import io.harness.ccm.views.service.CEViewService;
 import io.harness.ccm.views.service.DataResponseService;
@@ -156,6 +157,7 @@ public class ViewsBillingServiceImplTest extends CategoryTest {
   @InjectMocks @Spy private ViewBusinessMappingResponseHelper viewBusinessMappingResponseHelper;
   @InjectMocks @Spy private ViewsQueryBuilder viewsQueryBuilder;
   @InjectMocks @Spy private BusinessMappingSharedCostHelper businessMappingSharedCostHelper;
+  @InjectMocks @Spy private ViewsQueryResultCache viewsQueryResultCache;
   @Mock private DataResponseService dataResponseService;
   @Mock private ViewsQueryHelper viewsQueryHelper;
   @Mock private FeatureFlagService featureFlagService;
@@ -215,6 +215,9 @@ public class DelegateTask implements PersistentEntity, UuidAware, CreatedAtAware
 
   @Transient private List<String> broadcastToDelegateIds;
 
+  // Set on the capability validation task of a perpetual task, to order the delegates eligible for the perpetual task.
+  @Transient private String perpetualTaskId;
+
   @Transient private List<String> taskActivityLogs;
 
   @Transient Map<String, List<String>> nonAssignableDelegates;
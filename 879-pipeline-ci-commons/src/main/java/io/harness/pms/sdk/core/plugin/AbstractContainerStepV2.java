@@ -51,10 +51,10 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -149,13 +149,15 @@ public abstract class AbstractContainerStepV2<T extends StepParameters> implemen
   }
 
   private void abortTasks(List<String> allCallbackIds, String callbackId) {
-    List<String> callBackIds =
-        allCallbackIds.stream().filter(cid -> !cid.equals(callbackId)).collect(Collectors.toList());
-    callBackIds.forEach(callbackId1
-        -> waitNotifyEngine.doneWith(callbackId1,
-            ErrorNotifyResponseData.builder()
-                .errorMessage("Delegate is not able to connect to created build farm")
-                .build()));
+    Map<String, ResponseData> responses = new HashMap<>();
+    allCallbackIds.stream()
+        .filter(cid -> !cid.equals(callbackId))
+        .forEach(callbackId1
+            -> responses.put(callbackId1,
+                ErrorNotifyResponseData.builder()
+                    .errorMessage("Delegate is not able to connect to created build farm")
+                    .build()));
+    waitNotifyEngine.doneWithAll(responses);
   }
 
   public TaskData getStepTask(
@@ -361,13 +361,15 @@ public abstract class CommonAbstractStepExecutable extends CiAsyncExecutable {
   }
 
   private void abortTasks(List<String> allCallbackIds, String callbackId) {
-    List<String> callBackIds =
-        allCallbackIds.stream().filter(cid -> !cid.equals(callbackId)).collect(Collectors.toList());
-    callBackIds.forEach(callbackId1
-        -> waitNotifyEngine.doneWith(callbackId1,
-            ErrorNotifyResponseData.builder()
-                .errorMessage("Delegate is not able to connect to created build farm")
-                .build()));
+    Map<String, ResponseData> responses = new HashMap<>();
+    allCallbackIds.stream()
+        .filter(cid -> !cid.equals(callbackId))
+        .forEach(callbackId1
+            -> responses.put(callbackId1,
+                ErrorNotifyResponseData.builder()
+                    .errorMessage("Delegate is not able to connect to created build farm")
+                    .build()));
+    waitNotifyEngine.doneWithAll(responses);
   }
 
   @Override
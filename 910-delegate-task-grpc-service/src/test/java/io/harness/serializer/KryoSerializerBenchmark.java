@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.git.model.ChangeType;
+
+import software.wings.beans.yaml.GitCommitRequest;
+import software.wings.beans.yaml.GitFileChange;
+
+import com.google.common.base.Strings;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Measures throughput, allocation per operation and payload size of the {@link KryoSerializer} encodings for delegate
+ * task parameters of growing size.
+ *
+ * Usage: KryoSerializerBenchmark [iterations]
+ */
+@OwnedBy(DEL)
+public class KryoSerializerBenchmark {
+  private static final int[] FILE_COUNTS = {1, 10, 100, 1000};
+
+  public static void main(String[] args) {
+    int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    KryoSerializer kryoSerializer = new KryoSerializer(DelegateTasksBeansRegistrars.kryoRegistrars, true);
+
+    for (int fileCount : FILE_COUNTS) {
+      GitCommitRequest request = gitCommitRequest(fileCount);
+      byte[] bytes = kryoSerializer.asBytes(request);
+      byte[] deflated = kryoSerializer.asDeflatedBytes(request);
+      byte[] lz4 = kryoSerializer.asLz4Bytes(request);
+      System.out.printf("files: %d, raw: %d bytes, deflate: %d bytes, lz4: %d bytes%n", fileCount, bytes.length,
+          deflated.length, lz4.length);
+
+      run("asBytes", iterations, () -> kryoSerializer.asBytes(request));
+      run("writeTo", iterations, () -> {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length);
+        kryoSerializer.writeTo(request, outputStream);
+        return outputStream;
+      });
+      run("asDeflatedBytes", iterations, () -> kryoSerializer.asDeflatedBytes(request));
+      run("asLz4Bytes", iterations, () -> kryoSerializer.asLz4Bytes(request));
+      run("asObject", iterations, () -> kryoSerializer.asObject(bytes));
+      run("asInflatedObject(deflate)", iterations, () -> kryoSerializer.asInflatedObject(deflated));
+      run("asInflatedObject(lz4)", iterations, () -> kryoSerializer.asInflatedObject(lz4));
+    }
+  }
+
+  private static void run(String name, int iterations, Supplier<Object> operation) {
+    // Warm up, so that the numbers are not dominated by class loading and jit compilation.
+    for (int i = 0; i < iterations; i++) {
+      operation.get();
+    }
+    long allocatedBefore = allocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      operation.get();
+    }
+    long elapsed = System.nanoTime() - start;
+    long allocated = allocatedBytes() - allocatedBefore;
+    System.out.printf("  %-26s %10d ops/sec %12d bytes/op%n", name,
+        iterations * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1), allocated / iterations);
+  }
+
+  private static long allocatedBytes() {
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  private static GitCommitRequest gitCommitRequest(int fileCount) {
+    Function<Integer, GitFileChange> fileChange = index
+        -> GitFileChange.Builder.aGitFileChange()
+               .withAccountId("accountId")
+               .withChangeType(ChangeType.MODIFY)
+               .withFilePath("Setup/Applications/app/Services/service" + index + "/Index.yaml")
+               .withFileContent("harnessApiVersion: '1.0'\ntype: SERVICE\n" + Strings.repeat("description: x\n", 50))
+               .build();
+    List<GitFileChange> gitFileChanges = new ArrayList<>(fileCount);
+    for (int i = 0; i < fileCount; i++) {
+      gitFileChanges.add(fileChange.apply(i));
+    }
+    return GitCommitRequest.builder().gitFileChanges(gitFileChanges).forcePush(false).build();
+  }
+}
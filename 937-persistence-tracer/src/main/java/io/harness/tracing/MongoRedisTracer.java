@@ -21,6 +21,8 @@ import io.harness.ng.persistence.tracer.NgTracer;
 import io.harness.persistence.HQuery;
 import io.harness.persistence.Tracer;
 import io.harness.serializer.JsonUtils;
+import io.harness.tracing.profiler.QueryShapeProfiler;
+import io.harness.tracing.shapedetector.QueryHashInfo;
 import io.harness.tracing.shapedetector.QueryShapeDetector;
 import io.harness.version.VersionInfoManager;
 
@@ -28,6 +30,7 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.google.protobuf.ByteString;
 import com.mongodb.DBObject;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import lombok.extern.slf4j.Slf4j;
@@ -42,20 +45,28 @@ import org.springframework.data.mongodb.core.query.Query;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class MongoRedisTracer implements Tracer, NgTracer {
   private static final int SAMPLE_SIZE = 120; // Consider only 1 sample out of 120 invocations
+  // Elapsed time of the queries traced before their execution.
+  private static final long NOT_EXECUTED = -1;
 
   @Inject @Named(PersistenceTracerConstants.TRACING_THREAD_POOL) private ExecutorService executorService;
   @Inject @Named(PersistenceTracerConstants.QUERY_ANALYSIS_PRODUCER) private Producer producer;
   @Inject @Named(SERVICE_ID) private String serviceId;
   @Inject private VersionInfoManager versionInfoManager;
+  @Inject private QueryShapeProfiler queryShapeProfiler;
 
   private final ConcurrentHashMap<String, Long> queryStatsCache = new ConcurrentHashMap<>();
 
   @Override
   public void traceSpringQuery(Query query, Class<?> entityClass, MongoTemplate mongoTemplate) {
+    traceSpringQuery(query, entityClass, mongoTemplate, NOT_EXECUTED);
+  }
+
+  @Override
+  public void traceSpringQuery(Query query, Class<?> entityClass, MongoTemplate mongoTemplate, long elapsedNanos) {
     try {
       executorService.execute(() -> {
         try {
-          traceSpringQueryInternal(query, entityClass, mongoTemplate);
+          traceSpringQueryInternal(query, entityClass, mongoTemplate, elapsedNanos);
         } catch (Exception ex) {
           log.error(String.format("Unable to trace spring query: %s", query.getQueryObject().toJson()), ex);
         }
@@ -67,10 +78,15 @@ public class MongoRedisTracer implements Tracer, NgTracer {
 
   @Override
   public void traceMorphiaQuery(HQuery<?> query) {
+    traceMorphiaQuery(query, NOT_EXECUTED);
+  }
+
+  @Override
+  public void traceMorphiaQuery(HQuery<?> query, long elapsedNanos) {
     try {
       executorService.execute(() -> {
         try {
-          traceMorphiaQueryInternal(query);
+          traceMorphiaQueryInternal(query, elapsedNanos);
         } catch (Exception ex) {
           log.error(String.format("Unable to trace morphia query: %s", query.getQueryObject().toString()), ex);
         }
@@ -80,14 +96,17 @@ public class MongoRedisTracer implements Tracer, NgTracer {
     }
   }
 
-  private void traceSpringQueryInternal(Query query, Class<?> entityClass, MongoTemplate mongoTemplate) {
+  private void traceSpringQueryInternal(
+      Query query, Class<?> entityClass, MongoTemplate mongoTemplate, long elapsedNanos) {
     String collectionName = mongoTemplate.getCollectionName(entityClass);
     MongoConverter mongoConverter = mongoTemplate.getConverter();
     MongoPersistentEntity<?> entity = mongoConverter.getMappingContext().getPersistentEntity(entityClass);
     QueryMapper queryMapper = new QueryMapper(mongoConverter);
     Document queryDoc = queryMapper.getMappedObject(nonNullDocument(query.getQueryObject()), entity);
     Document sortDoc = queryMapper.getMappedSort(nonNullDocument(query.getSortObject()), entity);
-    String qHash = QueryShapeDetector.getQueryHash(collectionName, queryDoc, sortDoc);
+    QueryHashInfo queryHashInfo = QueryShapeDetector.getQueryHashInfo(collectionName, queryDoc, sortDoc);
+    String qHash = QueryShapeDetector.getQueryHash(queryHashInfo);
+    recordLatency(queryHashInfo, qHash, elapsedNanos);
     if (skipSample(qHash)) {
       return;
     }
@@ -101,9 +120,13 @@ public class MongoRedisTracer implements Tracer, NgTracer {
 
     Document command = new Document();
     command.put("explain", explainDocument);
+    // Runs only the winning plan of the sampled query. The analyser needs the execution stats, so queryPlanner is not
+    // enough, while the default allPlansExecution would also run every rejected plan.
+    command.put("verbosity", "executionStats");
 
     Document explainResult = mongoTemplate.getDb().runCommand(command);
     log.debug(String.format("Explain Results: %s", explainResult.toJson()));
+    queryShapeProfiler.recordExplain(queryHashInfo, qHash, explainResult);
     producer.send(Message.newBuilder()
                       .putMetadata(ACCOUNT_IDENTIFIER_METRICS_KEY, serviceId)
                       .putMetadata(VERSION_KEY, versionInfoManager.getVersionInfo().getVersion())
@@ -114,16 +137,20 @@ public class MongoRedisTracer implements Tracer, NgTracer {
                       .build());
   }
 
-  private void traceMorphiaQueryInternal(HQuery<?> query) {
+  private void traceMorphiaQueryInternal(HQuery<?> query, long elapsedNanos) {
     String collectionName = query.getCollection().getName();
     Document queryDoc = toDocument(query.getQueryObject());
     Document sortDoc = toDocument(query.getSortObject());
-    String qHash = QueryShapeDetector.getQueryHash(collectionName, queryDoc, sortDoc);
+    QueryHashInfo queryHashInfo = QueryShapeDetector.getQueryHashInfo(collectionName, queryDoc, sortDoc);
+    String qHash = QueryShapeDetector.getQueryHash(queryHashInfo);
+    recordLatency(queryHashInfo, qHash, elapsedNanos);
     if (skipSample(qHash)) {
       return;
     }
 
-    String explainResult = JsonUtils.asJson(query.explain());
+    Map<String, Object> explain = query.explain();
+    queryShapeProfiler.recordExplain(queryHashInfo, qHash, explain);
+    String explainResult = JsonUtils.asJson(explain);
     log.debug(String.format("Explain Results: %s", explainResult));
     producer.send(Message.newBuilder()
                       .putMetadata(ACCOUNT_IDENTIFIER_METRICS_KEY, serviceId)
@@ -149,6 +176,12 @@ public class MongoRedisTracer implements Tracer, NgTracer {
     return versionInfoManager.getVersionInfo().getVersion().replace(buildNo, replaceBuildNumber);
   }
 
+  private void recordLatency(QueryHashInfo queryHashInfo, String qHash, long elapsedNanos) {
+    if (elapsedNanos != NOT_EXECUTED) {
+      queryShapeProfiler.recordLatency(queryHashInfo, qHash, elapsedNanos);
+    }
+  }
+
   private boolean skipSample(String qHash) {
     // Here we first increment the counter corresponding to a qHash by 1 and the  check is it should be sampled.
     //
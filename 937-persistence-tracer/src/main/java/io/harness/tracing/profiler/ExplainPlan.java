@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.profiler;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The parts of a mongo explain result the profiler cares about. Works with the plain, sharded and slot based engine
+ * explain formats, the execution stats are only present when the explain was run with executionStats verbosity.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+class ExplainPlan {
+  private static final String COLLECTION_SCAN = "COLLSCAN";
+  private static final Set<String> INDEX_STAGES =
+      ImmutableSet.of("IXSCAN", "IDHACK", "COUNT_SCAN", "DISTINCT_SCAN", "EXPRESS_IXSCAN", "EXPRESS_IDHACK");
+
+  boolean collectionScan;
+  boolean indexed;
+  // Stages of the winning plan, from the root down.
+  List<String> stages;
+  boolean executionStats;
+  long docsExamined;
+  long keysExamined;
+  long returned;
+
+  static ExplainPlan parse(Map<String, Object> explainResult) {
+    Set<String> stages = new LinkedHashSet<>();
+    Object queryPlanner = explainResult.get("queryPlanner");
+    if (queryPlanner instanceof Map) {
+      collectStages(((Map<?, ?>) queryPlanner).get("winningPlan"), stages);
+    }
+
+    ExplainPlanBuilder builder = ExplainPlan.builder()
+                                     .stages(new ArrayList<>(stages))
+                                     .collectionScan(stages.contains(COLLECTION_SCAN))
+                                     .indexed(stages.stream().anyMatch(INDEX_STAGES::contains));
+    Object executionStats = explainResult.get("executionStats");
+    if (executionStats instanceof Map) {
+      Map<?, ?> stats = (Map<?, ?>) executionStats;
+      builder.executionStats(true)
+          .docsExamined(toLong(stats.get("totalDocsExamined")))
+          .keysExamined(toLong(stats.get("totalKeysExamined")))
+          .returned(toLong(stats.get("nReturned")));
+    }
+    return builder.build();
+  }
+
+  private static void collectStages(Object node, Set<String> stages) {
+    if (node instanceof Map) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) node).entrySet()) {
+        if ("stage".equals(entry.getKey()) && entry.getValue() instanceof String) {
+          stages.add((String) entry.getValue());
+        } else {
+          collectStages(entry.getValue(), stages);
+        }
+      }
+    } else if (node instanceof List) {
+      ((List<?>) node).forEach(child -> collectStages(child, stages));
+    }
+  }
+
+  private static long toLong(Object value) {
+    return value instanceof Number ? ((Number) value).longValue() : 0;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.profiler;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.rest.RestResponse;
+import io.harness.security.annotations.InternalApi;
+
+import com.google.inject.Inject;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.util.List;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Api(value = "query-profile", hidden = true)
+@Path("/admin/query-profile")
+@Produces(MediaType.APPLICATION_JSON)
+@InternalApi
+public class QueryProfileResource {
+  private static final int MAX_LIMIT = 200;
+
+  @Inject private QueryShapeProfiler queryShapeProfiler;
+
+  @GET
+  @Path("/shapes")
+  @ApiOperation(value = "Get the hottest mongo query shapes of this instance", nickname = "getQueryShapes",
+      hidden = true)
+  public RestResponse<List<QueryShapeProfile>>
+  getShapes(@QueryParam("sortBy") @DefaultValue("TOTAL_TIME") QueryShapeSortBy sortBy,
+      @QueryParam("limit") @DefaultValue("20") int limit) {
+    return new RestResponse<>(queryShapeProfiler.getTopShapes(sortBy, Math.max(0, Math.min(limit, MAX_LIMIT))));
+  }
+
+  @GET
+  @Path("/unindexed")
+  @ApiOperation(value = "Get the mongo query shapes of this instance which scan the whole collection",
+      nickname = "getUnindexedQueryShapes", hidden = true)
+  public RestResponse<List<QueryShapeProfile>>
+  getUnindexedShapes() {
+    return new RestResponse<>(queryShapeProfiler.getUnindexedShapes());
+  }
+
+  @DELETE
+  @ApiOperation(value = "Reset the mongo query profile of this instance", nickname = "resetQueryProfile", hidden = true)
+  public RestResponse<Boolean> reset() {
+    queryShapeProfiler.reset();
+    return new RestResponse<>(true);
+  }
+}
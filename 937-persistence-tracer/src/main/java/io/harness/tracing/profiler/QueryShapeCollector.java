@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.profiler;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.HarnessMetricRegistry;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exports the hottest query shapes to prometheus. The shapes are picked on every scrape, so the shapes which are not
+ * hot anymore drop out of the export instead of leaving stale series behind.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+class QueryShapeCollector extends Collector {
+  static final int TOP_SHAPES = 20;
+  private static final List<String> LABELS = Arrays.asList("collection", "query_hash");
+
+  private final QueryShapeProfiler profiler;
+
+  QueryShapeCollector(QueryShapeProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  @Override
+  public List<MetricFamilySamples> collect() {
+    GaugeMetricFamily count = gauge("mongo_query_shape_count", "Number of traced executions of the query shape");
+    GaugeMetricFamily totalTime =
+        gauge("mongo_query_shape_total_time_ms", "Total time spent executing the query shape");
+    GaugeMetricFamily p99 = gauge("mongo_query_shape_p99_ms", "99th percentile latency of the query shape");
+    GaugeMetricFamily docsExaminedRatio = gauge("mongo_query_shape_docs_examined_ratio",
+        "Documents examined per document returned by the sampled explain plans of the query shape");
+    GaugeMetricFamily collectionScan =
+        gauge("mongo_query_shape_collection_scan", "1 if the latest explain plan of the query shape is a COLLSCAN");
+
+    for (QueryShapeProfile profile : profiler.getTopShapes(QueryShapeSortBy.TOTAL_TIME, TOP_SHAPES)) {
+      List<String> labelValues = Arrays.asList(profile.getCollectionName(), profile.getQueryHash());
+      count.addMetric(labelValues, profile.getCount());
+      totalTime.addMetric(labelValues, profile.getTotalTimeMillis());
+      p99.addMetric(labelValues, profile.getP99Millis());
+      docsExaminedRatio.addMetric(labelValues, profile.getDocsExaminedRatio());
+      collectionScan.addMetric(labelValues, profile.isCollectionScan() ? 1 : 0);
+    }
+    return Arrays.asList(count, totalTime, p99, docsExaminedRatio, collectionScan);
+  }
+
+  private static GaugeMetricFamily gauge(String name, String help) {
+    return new GaugeMetricFamily(HarnessMetricRegistry.getAbsoluteMetricName(name), help, LABELS);
+  }
+}
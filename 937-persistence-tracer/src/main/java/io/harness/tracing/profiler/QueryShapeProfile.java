@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.profiler;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+public class QueryShapeProfile {
+  String collectionName;
+  String queryHash;
+  // Query with all the values replaced, see QueryShapeDetector#getQueryShape.
+  String queryShape;
+  String sortShape;
+
+  long count;
+  double totalTimeMillis;
+  double meanMillis;
+  double p50Millis;
+  double p95Millis;
+  double p99Millis;
+  double maxMillis;
+
+  // Filled from the sampled explain plans, explainSamples is 0 until the first one comes in.
+  long explainSamples;
+  double docsExaminedRatio;
+  boolean collectionScan;
+  boolean indexed;
+  List<String> winningPlanStages;
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.profiler;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.tracing.shapedetector.QueryHashInfo;
+import io.harness.tracing.shapedetector.QueryShapeDetector;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.prometheus.client.CollectorRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In process profile of the traced mongo queries, grouped by their {@link QueryShapeDetector} shape: latency
+ * histograms of every traced execution and the docs examined by the sampled explain plans. The hottest shapes are
+ * exported to prometheus by {@link QueryShapeCollector} and served by {@link QueryProfileResource}.
+ *
+ * The number of tracked shapes is bounded, the least recently executed shape is evicted to make room for a new one, so
+ * a burst of one-off shapes cannot keep the shapes executed afterwards out of the profile.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class QueryShapeProfiler {
+  @VisibleForTesting static final int MAX_SHAPES = 256;
+
+  private final AtomicLong evictedShapes = new AtomicLong();
+  // A single segment, so that the least recently used shape of the whole profile is the one evicted.
+  private final Cache<String, QueryShapeStats> shapes = CacheBuilder.newBuilder()
+                                                            .concurrencyLevel(1)
+                                                            .maximumSize(MAX_SHAPES)
+                                                            .<String, QueryShapeStats>removalListener(this::onRemoval)
+                                                            .build();
+
+  @Inject
+  public QueryShapeProfiler() {
+    this(CollectorRegistry.defaultRegistry);
+  }
+
+  @VisibleForTesting
+  QueryShapeProfiler(CollectorRegistry collectorRegistry) {
+    if (collectorRegistry == null) {
+      return;
+    }
+    try {
+      new QueryShapeCollector(this).register(collectorRegistry);
+    } catch (IllegalArgumentException ex) {
+      // Another profiler instance of the process is exported already, e.g. when running several injectors.
+      log.warn("Query shape metrics are already registered", ex);
+    }
+  }
+
+  public void recordLatency(QueryHashInfo queryHashInfo, String queryHash, long elapsedNanos) {
+    getOrCreate(queryHashInfo, queryHash).recordLatency(elapsedNanos);
+  }
+
+  public void recordExplain(QueryHashInfo queryHashInfo, String queryHash, Map<String, Object> explainResult) {
+    QueryShapeStats stats = getOrCreate(queryHashInfo, queryHash);
+    ExplainPlan explainPlan = ExplainPlan.parse(explainResult);
+    if (explainPlan.isCollectionScan() && !stats.isCollectionScan()) {
+      log.warn("Query shape {} on collection {} is not supported by any index: {}", queryHash,
+          queryHashInfo.getQueryHashKey().getCollectionName(),
+          QueryShapeDetector.getQueryShape(queryHashInfo.getQueryDoc()));
+    }
+    stats.recordExplain(explainPlan);
+  }
+
+  public List<QueryShapeProfile> getTopShapes(QueryShapeSortBy sortBy, int limit) {
+    return shapes.asMap()
+        .values()
+        .stream()
+        .map(QueryShapeStats::toProfile)
+        .sorted(sortBy.hottestFirst())
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Shapes whose latest sampled explain plan scans the whole collection, hottest first.
+   */
+  public List<QueryShapeProfile> getUnindexedShapes() {
+    return shapes.asMap()
+        .values()
+        .stream()
+        .filter(QueryShapeStats::isCollectionScan)
+        .map(QueryShapeStats::toProfile)
+        .sorted(QueryShapeSortBy.TOTAL_TIME.hottestFirst())
+        .collect(Collectors.toList());
+  }
+
+  public long getEvictedShapes() {
+    return evictedShapes.get();
+  }
+
+  public void reset() {
+    shapes.invalidateAll();
+    evictedShapes.set(0);
+  }
+
+  private void onRemoval(RemovalNotification<String, QueryShapeStats> notification) {
+    if (notification.getCause() == RemovalCause.SIZE) {
+      evictedShapes.incrementAndGet();
+    }
+  }
+
+  private QueryShapeStats getOrCreate(QueryHashInfo queryHashInfo, String queryHash) {
+    QueryShapeStats stats = shapes.getIfPresent(queryHash);
+    if (stats != null) {
+      return stats;
+    }
+    try {
+      return shapes.get(queryHash,
+          ()
+              -> new QueryShapeStats(queryHashInfo.getQueryHashKey().getCollectionName(), queryHash,
+                  QueryShapeDetector.getQueryShape(queryHashInfo.getQueryDoc()),
+                  queryHashInfo.getSortDoc() == null ? "{}" : queryHashInfo.getSortDoc().toJson()));
+    } catch (ExecutionException | UncheckedExecutionException ex) {
+      throw new IllegalStateException("Unable to profile query shape " + queryHash, ex.getCause());
+    }
+  }
+}
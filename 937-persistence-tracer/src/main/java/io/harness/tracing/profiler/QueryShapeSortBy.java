@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.profiler;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Comparator;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public enum QueryShapeSortBy {
+  TOTAL_TIME(Comparator.comparingDouble(QueryShapeProfile::getTotalTimeMillis)),
+  P99(Comparator.comparingDouble(QueryShapeProfile::getP99Millis)),
+  COUNT(Comparator.comparingLong(QueryShapeProfile::getCount)),
+  DOCS_EXAMINED_RATIO(Comparator.comparingDouble(QueryShapeProfile::getDocsExaminedRatio));
+
+  private final Comparator<QueryShapeProfile> hottestFirst;
+
+  QueryShapeSortBy(Comparator<QueryShapeProfile> comparator) {
+    this.hottestFirst = comparator.reversed();
+  }
+
+  public Comparator<QueryShapeProfile> hottestFirst() {
+    return hottestFirst;
+  }
+}
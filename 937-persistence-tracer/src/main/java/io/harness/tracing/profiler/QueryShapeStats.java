@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.profiler;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+
+/**
+ * Latency histogram and explain plan aggregates of a single query shape. Recording is lock free, snapshots might be
+ * slightly behind the concurrent updates.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+class QueryShapeStats {
+  // Queries are bound by the mongo maxTime anyway, slower ones are recorded as this value.
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+  private static final int SIGNIFICANT_DIGITS = 2;
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final String collectionName;
+  private final String queryHash;
+  private final String queryShape;
+  private final String sortShape;
+
+  private final ConcurrentHistogram latencyMicros =
+      new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+  private final LongAdder totalMicros = new LongAdder();
+
+  private final LongAdder explainSamples = new LongAdder();
+  private final LongAdder docsExamined = new LongAdder();
+  private final LongAdder returned = new LongAdder();
+  private volatile ExplainPlan lastExplainPlan;
+
+  QueryShapeStats(String collectionName, String queryHash, String queryShape, String sortShape) {
+    this.collectionName = collectionName;
+    this.queryHash = queryHash;
+    this.queryShape = queryShape;
+    this.sortShape = sortShape;
+  }
+
+  void recordLatency(long elapsedNanos) {
+    long micros = Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+    latencyMicros.recordValue(micros);
+    totalMicros.add(micros);
+  }
+
+  void recordExplain(ExplainPlan explainPlan) {
+    lastExplainPlan = explainPlan;
+    if (explainPlan.isExecutionStats()) {
+      explainSamples.increment();
+      docsExamined.add(explainPlan.getDocsExamined());
+      returned.add(explainPlan.getReturned());
+    }
+  }
+
+  boolean isCollectionScan() {
+    ExplainPlan explainPlan = lastExplainPlan;
+    return explainPlan != null && explainPlan.isCollectionScan();
+  }
+
+  QueryShapeProfile toProfile() {
+    ExplainPlan explainPlan = lastExplainPlan;
+    long count = latencyMicros.getTotalCount();
+    return QueryShapeProfile.builder()
+        .collectionName(collectionName)
+        .queryHash(queryHash)
+        .queryShape(queryShape)
+        .sortShape(sortShape)
+        .count(count)
+        .totalTimeMillis(totalMicros.sum() / MICROS_PER_MILLI)
+        .meanMillis(count == 0 ? 0 : latencyMicros.getMean() / MICROS_PER_MILLI)
+        .p50Millis(latencyMicros.getValueAtPercentile(50) / MICROS_PER_MILLI)
+        .p95Millis(latencyMicros.getValueAtPercentile(95) / MICROS_PER_MILLI)
+        .p99Millis(latencyMicros.getValueAtPercentile(99) / MICROS_PER_MILLI)
+        .maxMillis(latencyMicros.getMaxValue() / MICROS_PER_MILLI)
+        .explainSamples(explainSamples.sum())
+        .docsExaminedRatio((double) docsExamined.sum() / Math.max(1, returned.sum()))
+        .collectionScan(explainPlan != null && explainPlan.isCollectionScan())
+        .indexed(explainPlan != null && explainPlan.isIndexed())
+        .winningPlanStages(explainPlan == null ? Collections.emptyList() : explainPlan.getStages())
+        .build();
+  }
+}
@@ -37,10 +37,25 @@ public class QueryShapeDetector {
   ConcurrentMap<QueryHashKey, QueryHashInfo> queryHashCache = new ConcurrentHashMap<>();
 
   public String getQueryHash(String collectionName, Document queryDoc, Document sortDoc) {
+    return getQueryHash(getQueryHashInfo(collectionName, queryDoc, sortDoc));
+  }
+
+  public String getQueryHash(QueryHashInfo queryHashInfo) {
+    return String.valueOf(queryHashInfo.getQueryHashKey().hashCode());
+  }
+
+  public QueryHashInfo getQueryHashInfo(String collectionName, Document queryDoc, Document sortDoc) {
     QueryHashKey queryHashKey = calculateQueryHashKey(collectionName, queryDoc, sortDoc);
-    QueryHashInfo queryHashInfo = queryHashCache.computeIfAbsent(queryHashKey,
+    return queryHashCache.computeIfAbsent(queryHashKey,
         hashKey -> QueryHashInfo.builder().queryHashKey(queryHashKey).queryDoc(queryDoc).sortDoc(sortDoc).build());
-    return String.valueOf(queryHashInfo.getQueryHashKey().hashCode());
+  }
+
+  /**
+   * Returns the json of the query shape, i.e. the document with all the values replaced, so that it can be shown
+   * without leaking any data.
+   */
+  public String getQueryShape(Document queryDoc) {
+    return normalizeMap(queryDoc, false).toJson();
   }
 
   public QueryHashKey calculateQueryHashKey(String collectionName, Document queryDoc, Document sortDoc) {
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.tracing.profiler;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.tracing.shapedetector.QueryHashInfo;
+import io.harness.tracing.shapedetector.QueryShapeDetector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class QueryShapeProfilerTest extends CategoryTest {
+  private QueryShapeProfiler profiler;
+
+  @Before
+  public void setUp() {
+    profiler = new QueryShapeProfiler(null);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldGroupLatenciesByShape() {
+    QueryHashInfo first = hashInfo("pipelines", new Document("accountId", "a").append("name", "x"));
+    QueryHashInfo second = hashInfo("pipelines", new Document("accountId", "b").append("name", "y"));
+    QueryHashInfo other = hashInfo("pipelines", new Document("accountId", "a"));
+
+    for (int i = 1; i <= 100; i++) {
+      profiler.recordLatency(first, QueryShapeDetector.getQueryHash(first), TimeUnit.MILLISECONDS.toNanos(i));
+    }
+    profiler.recordLatency(second, QueryShapeDetector.getQueryHash(second), TimeUnit.MILLISECONDS.toNanos(1000));
+    profiler.recordLatency(other, QueryShapeDetector.getQueryHash(other), TimeUnit.MILLISECONDS.toNanos(1));
+
+    List<QueryShapeProfile> profiles = profiler.getTopShapes(QueryShapeSortBy.TOTAL_TIME, 10);
+    assertThat(profiles).hasSize(2);
+    QueryShapeProfile hottest = profiles.get(0);
+    assertThat(hottest.getQueryHash()).isEqualTo(QueryShapeDetector.getQueryHash(first));
+    assertThat(hottest.getQueryShape()).isEqualTo("{\"accountId\": 1, \"name\": 1}");
+    assertThat(hottest.getCount()).isEqualTo(101);
+    assertThat(hottest.getTotalTimeMillis()).isEqualTo(6050);
+    assertThat(hottest.getP50Millis()).isBetween(50.0, 52.0);
+    assertThat(hottest.getMaxMillis()).isBetween(990.0, 1010.0);
+
+    assertThat(profiler.getTopShapes(QueryShapeSortBy.COUNT, 1)).extracting(QueryShapeProfile::getQueryHash)
+        .containsExactly(QueryShapeDetector.getQueryHash(first));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldDetectCollectionScans() {
+    QueryHashInfo scan = hashInfo("planExecutions", new Document("status", "RUNNING"));
+    QueryHashInfo indexed = hashInfo("planExecutions", new Document("uuid", "id"));
+
+    profiler.recordExplain(scan, QueryShapeDetector.getQueryHash(scan),
+        explain(new Document("stage", "COLLSCAN"), 10_000, 0, 10));
+    profiler.recordExplain(indexed, QueryShapeDetector.getQueryHash(indexed),
+        explain(new Document("stage", "FETCH").append("inputStage", new Document("stage", "IXSCAN")), 1, 1, 1));
+
+    List<QueryShapeProfile> unindexed = profiler.getUnindexedShapes();
+    assertThat(unindexed).hasSize(1);
+    assertThat(unindexed.get(0).getQueryHash()).isEqualTo(QueryShapeDetector.getQueryHash(scan));
+    assertThat(unindexed.get(0).getDocsExaminedRatio()).isEqualTo(1000);
+    assertThat(unindexed.get(0).getWinningPlanStages()).containsExactly("COLLSCAN");
+
+    QueryShapeProfile top = profiler.getTopShapes(QueryShapeSortBy.DOCS_EXAMINED_RATIO, 2).get(1);
+    assertThat(top.isIndexed()).isTrue();
+    assertThat(top.getWinningPlanStages()).containsExactly("FETCH", "IXSCAN");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldParseShardedExplainWithoutExecutionStats() {
+    Document winningPlan = new Document("stage", "SHARD_MERGE")
+                               .append("shards",
+                                   Arrays.asList(new Document("winningPlan", new Document("stage", "COLLSCAN")),
+                                       new Document("winningPlan", new Document("stage", "IXSCAN"))));
+    ExplainPlan explainPlan = ExplainPlan.parse(new Document("queryPlanner", new Document("winningPlan", winningPlan)));
+
+    assertThat(explainPlan.isCollectionScan()).isTrue();
+    assertThat(explainPlan.isIndexed()).isTrue();
+    assertThat(explainPlan.isExecutionStats()).isFalse();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldEvictTheLeastRecentlyExecutedShapes() {
+    QueryHashInfo hot = hashInfo("hot", new Document("field", "value"));
+    for (int i = 0; i < QueryShapeProfiler.MAX_SHAPES + 10; i++) {
+      QueryHashInfo hashInfo = hashInfo("collection" + i, new Document("field", i));
+      profiler.recordLatency(hashInfo, QueryShapeDetector.getQueryHash(hashInfo), 1000);
+      profiler.recordLatency(hot, QueryShapeDetector.getQueryHash(hot), 1000);
+    }
+    List<QueryShapeProfile> profiles = profiler.getTopShapes(QueryShapeSortBy.COUNT, Integer.MAX_VALUE);
+    assertThat(profiles).hasSize(QueryShapeProfiler.MAX_SHAPES);
+    assertThat(profiles.get(0).getQueryHash()).isEqualTo(QueryShapeDetector.getQueryHash(hot));
+    assertThat(profiles)
+        .extracting(QueryShapeProfile::getCollectionName)
+        .contains("collection" + (QueryShapeProfiler.MAX_SHAPES + 9))
+        .doesNotContain("collection0");
+    assertThat(profiler.getEvictedShapes()).isEqualTo(11);
+
+    profiler.reset();
+    assertThat(profiler.getTopShapes(QueryShapeSortBy.COUNT, Integer.MAX_VALUE)).isEmpty();
+  }
+
+  private static QueryHashInfo hashInfo(String collectionName, Document queryDoc) {
+    return QueryShapeDetector.getQueryHashInfo(collectionName, queryDoc, new Document());
+  }
+
+  private static Document explain(Document winningPlan, long docsExamined, long keysExamined, long returned) {
+    return new Document("queryPlanner", new Document("winningPlan", winningPlan))
+        .append("executionStats",
+            new Document("totalDocsExamined", docsExamined)
+                .append("totalKeysExamined", keysExamined)
+                .append("nReturned", returned));
+  }
+}
@@ -10,6 +10,7 @@ package io.harness.perpetualtask.instancesync;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -24,4 +25,6 @@ public class DeploymentReleaseDetails {
   private String taskInfoId;
   List<DeploymentDetails> deploymentDetails;
   String deploymentType;
+  // Hash of the instances last synced for the release, the delegate omits the instances when they still match it
+  @JsonInclude(JsonInclude.Include.NON_NULL) String contentHash;
 }
@@ -48,12 +48,16 @@ public class NotifyEventListenerHelper {
         return;
       }
 
-      ProcessedMessageResponse response = persistenceWrapper.processMessage(waitInstance);
-
       NotifyCallback callback = waitInstance.getCallback();
-      if (callback != null) {
+      if (callback instanceof StreamingNotifyCallback) {
         injector.injectMembers(callback);
-        processCallback(callback, response.getResponseDataMap(), response.isError());
+        processStreamingCallback((StreamingNotifyCallback) callback, waitInstance);
+      } else {
+        ProcessedMessageResponse response = persistenceWrapper.processMessage(waitInstance);
+        if (callback != null) {
+          injector.injectMembers(callback);
+          processCallback(callback, response.getResponseDataMap(), response.isError());
+        }
       }
 
       persistenceWrapper.deleteWaitInstance(waitInstance);
@@ -84,6 +88,23 @@ public class NotifyEventListenerHelper {
     }
   }
 
+  private void processStreamingCallback(StreamingNotifyCallback notifyCallback, WaitInstance waitInstance) {
+    try {
+      // Only the ids of the error responses are read here, the responses are read when the callback iterates them.
+      boolean isError = persistenceWrapper.hasErrorResponse(waitInstance);
+      try (NotifyResponseDataIterator responses = persistenceWrapper.streamResponseData(waitInstance)) {
+        if (isError) {
+          notifyCallback.notifyError(responses);
+        } else {
+          notifyCallback.notify(responses);
+        }
+      }
+      log.debug("WaitInstance callback finished");
+    } catch (Exception exception) {
+      log.error("WaitInstance callback failed", exception);
+    }
+  }
+
   private Map<String, Supplier<ResponseData>> prepareResponseWithError(Map<String, ResponseData> responseMap) {
     Map<String, Supplier<ResponseData>> finalResponseMap = new HashMap<>();
     responseMap.forEach((k, v) -> {
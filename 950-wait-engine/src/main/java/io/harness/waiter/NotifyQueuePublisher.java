@@ -7,6 +7,15 @@
 
 package io.harness.waiter;
 
+import java.util.List;
+
 public interface NotifyQueuePublisher {
   void send(NotifyEvent payload);
+
+  /**
+   * Sends a batch of events, publishers which can pipeline the sends override it to save round trips.
+   */
+  default void sendAll(List<NotifyEvent> payloads) {
+    payloads.forEach(this::send);
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.tasks.ResponseData;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Iterates over the response data of notify responses read from a database cursor, deserializing each response only
+ * when it is reached. Responses without data are skipped. The cursor is opened on the first call to
+ * {@link #hasNext()} or {@link #next()}, so callbacks which never read the responses do not fetch them. Closing the
+ * iterator closes the cursor.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class NotifyResponseDataIterator implements Iterator<Map.Entry<String, ResponseData>>, AutoCloseable {
+  public static final int BATCH_SIZE = 100;
+
+  private final Supplier<Iterator<NotifyResponse>> cursorOpener;
+  private final Function<NotifyResponse, ResponseData> deserializer;
+  private Iterator<NotifyResponse> notifyResponses;
+  private NotifyResponse next;
+
+  /**
+   * @param cursorOpener opens the cursor over the notify responses, the cursor is closed with the iterator if it is
+   *     {@link AutoCloseable}
+   */
+  public NotifyResponseDataIterator(
+      Supplier<Iterator<NotifyResponse>> cursorOpener, Function<NotifyResponse, ResponseData> deserializer) {
+    this.cursorOpener = cursorOpener;
+    this.deserializer = deserializer;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (notifyResponses == null) {
+      notifyResponses = cursorOpener.get();
+    }
+    while (next == null && notifyResponses.hasNext()) {
+      NotifyResponse notifyResponse = notifyResponses.next();
+      if (notifyResponse.getResponseData() != null) {
+        next = notifyResponse;
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public Map.Entry<String, ResponseData> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    NotifyResponse notifyResponse = next;
+    next = null;
+    return new AbstractMap.SimpleImmutableEntry<>(notifyResponse.getUuid(), deserializer.apply(notifyResponse));
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (notifyResponses instanceof AutoCloseable) {
+      ((AutoCloseable) notifyResponses).close();
+    }
+  }
+}
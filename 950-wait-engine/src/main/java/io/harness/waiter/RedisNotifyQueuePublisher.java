@@ -13,6 +13,10 @@ import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.producer.Message;
 import io.harness.waiter.notify.NotifyEventProto;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @OwnedBy(HarnessTeam.PIPELINE)
 public abstract class RedisNotifyQueuePublisher implements NotifyQueuePublisher {
   private final Producer producer;
@@ -23,7 +27,24 @@ public abstract class RedisNotifyQueuePublisher implements NotifyQueuePublisher
 
   @Override
   public void send(NotifyEvent payload) {
-    producer.send(Message.newBuilder().setData(toProto(payload).toByteString()).build());
+    producer.send(toMessage(payload));
+  }
+
+  @Override
+  public void sendAll(List<NotifyEvent> payloads) {
+    if (payloads.size() == 1) {
+      producer.send(toMessage(payloads.get(0)));
+      return;
+    }
+    List<CompletableFuture<String>> futures = new ArrayList<>(payloads.size());
+    for (NotifyEvent payload : payloads) {
+      futures.add(producer.sendAsync(toMessage(payload)));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+  }
+
+  private Message toMessage(NotifyEvent payload) {
+    return Message.newBuilder().setData(toProto(payload).toByteString()).build();
   }
 
   public NotifyEventProto toProto(NotifyEvent event) {
@@ -28,6 +28,7 @@ import io.harness.waiter.persistence.PersistenceWrapper;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -35,9 +36,13 @@ import com.mongodb.DuplicateKeyException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
@@ -52,11 +57,13 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.DEL)
 public class WaitNotifyEngine {
   public static final int MIN_WAIT_INSTANCE_TIMEOUT = 3;
+  private static final int DONE_WITH_BATCH_SIZE = 500;
 
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private WaitNotifyMetrics waitNotifyMetrics;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -169,6 +176,7 @@ public class WaitNotifyEngine {
         log.debug("Process NotifyResponse mongo queryTime {}", queryEndTime - doneWithStartTime);
       }
       handleNotifyResponse(correlationId);
+      waitNotifyMetrics.recordFanIn(1, stopwatch.elapsed(TimeUnit.NANOSECONDS));
       return correlationId;
     } catch (DuplicateKeyException | org.springframework.dao.DuplicateKeyException exception) {
       log.warn("Unexpected rate of DuplicateKeyException per correlation", exception);
@@ -178,6 +186,81 @@ public class WaitNotifyEngine {
     return null;
   }
 
+  /**
+   * Bulk version of {@link #doneWith(String, ResponseData)} for responses which arrive together, e.g. the tasks of a
+   * parallel section. The responses are inserted with one bulk write and the wait instances are released with one
+   * update per batch, instead of a few round trips per correlation id. Returns the correlation ids whose response got
+   * saved, the ones which already had a response are skipped.
+   */
+  public List<String> doneWithAll(Map<String, ResponseData> responses) {
+    if (isEmpty(responses)) {
+      return Collections.emptyList();
+    }
+    if (log.isDebugEnabled()) {
+      log.debug("done with notify request received for the correlationIds : {}", responses.keySet());
+    }
+
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    List<NotifyResponse> notifyResponses = new ArrayList<>(responses.size());
+    responses.forEach((correlationId, response) -> {
+      Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
+      try {
+        notifyResponses.add(NotifyResponse.builder()
+                                .uuid(correlationId)
+                                .createdAt(currentTimeMillis())
+                                .usingKryoWithoutReference(true)
+                                .responseData(referenceFalseKryoSerializer.asDeflatedBytes(response))
+                                .error(response instanceof ErrorResponseData)
+                                .build());
+      } catch (Exception exception) {
+        log.error("Failed to notify for response of type " + response.getClass().getSimpleName(), exception);
+      }
+    });
+
+    List<String> saved = new ArrayList<>(notifyResponses.size());
+    for (List<NotifyResponse> batch : Lists.partition(notifyResponses, DONE_WITH_BATCH_SIZE)) {
+      try {
+        List<String> savedBatch = persistenceWrapper.saveNotifyResponses(batch);
+        if (savedBatch.size() < batch.size()) {
+          log.warn("Unexpected rate of DuplicateKeyException per correlation, {} of {} responses already existed",
+              batch.size() - savedBatch.size(), batch.size());
+        }
+        sendNotifications(persistenceWrapper.modifyAndFetchCompletedWaitInstances(savedBatch));
+        saved.addAll(savedBatch);
+      } catch (Exception exception) {
+        log.error("Failed to notify for {} responses", batch.size(), exception);
+      }
+    }
+    waitNotifyMetrics.recordFanIn(responses.size(), stopwatch.elapsed(TimeUnit.NANOSECONDS));
+    return saved;
+  }
+
+  /**
+   * Sends one notify event per wait instance, grouped by publisher so that each publisher gets a single batch.
+   */
+  private void sendNotifications(Collection<WaitInstance> waitInstances) {
+    if (isEmpty(waitInstances)) {
+      return;
+    }
+    Map<String, Set<String>> waitInstanceIdsByPublisher = new LinkedHashMap<>();
+    for (WaitInstance waitInstance : waitInstances) {
+      waitInstanceIdsByPublisher.computeIfAbsent(waitInstance.getPublisher(), publisher -> new LinkedHashSet<>())
+          .add(waitInstance.getUuid());
+    }
+
+    for (Map.Entry<String, Set<String>> entry : waitInstanceIdsByPublisher.entrySet()) {
+      final NotifyQueuePublisher notifyQueuePublisher = publisherRegister.obtain(entry.getKey());
+      if (notifyQueuePublisher == null) {
+        log.error("Unknown publisher {} for wait instances {}", entry.getKey(), entry.getValue());
+        continue;
+      }
+      List<NotifyEvent> events = new ArrayList<>(entry.getValue().size());
+      entry.getValue().forEach(waitInstanceId -> events.add(aNotifyEvent().waitInstanceId(waitInstanceId).build()));
+      notifyQueuePublisher.sendAll(events);
+      waitNotifyMetrics.recordCompletedWaitInstances(events.size());
+    }
+  }
+
   public void sendNotification(WaitInstance waitInstance) {
     try (WaitInstanceLogContext ignore = new WaitInstanceLogContext(waitInstance.getUuid(), OVERRIDE_NESTS)) {
       String publisher = waitInstance.getPublisher();
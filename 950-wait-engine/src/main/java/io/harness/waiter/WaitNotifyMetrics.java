@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.HarnessMetricRegistry;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan in metrics of the {@link WaitNotifyEngine}: how many responses arrive together, how long it takes to store them
+ * and release the wait instances, and how many wait instances they complete.
+ */
+@Singleton
+@OwnedBy(HarnessTeam.PIPELINE)
+public class WaitNotifyMetrics {
+  public static final String FAN_IN_TIME = "wait_notify_fan_in_time";
+  public static final String FAN_IN_RESPONSES = "wait_notify_fan_in_responses";
+  public static final String COMPLETED_WAIT_INSTANCES = "wait_notify_completed_wait_instances";
+
+  private final Timer fanInTime;
+  private final Histogram fanInResponses;
+  private final Counter completedWaitInstances;
+
+  @Inject
+  public WaitNotifyMetrics(HarnessMetricRegistry harnessMetricRegistry) {
+    // The registry is only populated when the service installs the MetricRegistryModule.
+    MetricRegistry metricRegistry = harnessMetricRegistry.getMetricRegistry() == null
+        ? new MetricRegistry()
+        : harnessMetricRegistry.getMetricRegistry();
+    fanInTime = metricRegistry.timer(FAN_IN_TIME);
+    fanInResponses = metricRegistry.histogram(FAN_IN_RESPONSES);
+    completedWaitInstances = metricRegistry.counter(COMPLETED_WAIT_INSTANCES);
+  }
+
+  public void recordFanIn(int responses, long elapsedNanos) {
+    fanInResponses.update(responses);
+    fanInTime.update(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordCompletedWaitInstances(int count) {
+    completedWaitInstances.inc(count);
+  }
+
+  public Timer getFanInTime() {
+    return fanInTime;
+  }
+
+  public long getCompletedWaitInstances() {
+    return completedWaitInstances.getCount();
+  }
+}
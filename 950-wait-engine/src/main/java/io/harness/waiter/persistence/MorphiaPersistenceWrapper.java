@@ -23,6 +23,7 @@ import io.harness.serializer.KryoSerializer;
 import io.harness.tasks.ResponseData;
 import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.NotifyResponse.NotifyResponseKeys;
+import io.harness.waiter.NotifyResponseDataIterator;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.ProgressUpdate.ProgressUpdateKeys;
@@ -32,15 +33,24 @@ import io.harness.waiter.WaitInstance.WaitInstanceKeys;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.ErrorCategory;
 import com.mongodb.WriteConcern;
 import dev.morphia.FindAndModifyOptions;
 import dev.morphia.Key;
+import dev.morphia.Morphia;
+import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +61,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MorphiaPersistenceWrapper implements PersistenceWrapper {
   @Inject private HPersistence hPersistence;
   @Inject private KryoSerializer kryoSerializer;
+  @Inject private Morphia morphia;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
 
   private FindAndModifyOptions findAndModifyOptions =
@@ -79,25 +90,14 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     boolean isError = false;
     Map<String, ResponseData> responseMap = new HashMap<>();
 
-    Query<NotifyResponse> query = hPersistence.createQuery(NotifyResponse.class, excludeAuthority)
-                                      .field(NotifyResponseKeys.uuid)
-                                      .in(waitInstance.getCorrelationIds());
-
-    if (waitInstance.getProgressCallback() != null) {
-      query.order(Sort.ascending(NotifyResponseKeys.createdAt));
-    }
-
-    try (HIterator<NotifyResponse> notifyResponses = new HIterator(query.fetch())) {
+    try (HIterator<NotifyResponse> notifyResponses = new HIterator(createNotifyResponsesQuery(waitInstance).fetch())) {
       for (NotifyResponse notifyResponse : notifyResponses) {
         if (notifyResponse.isError()) {
           log.debug("Failed notification response {}", notifyResponse.getUuid());
           isError = true;
         }
         if (notifyResponse.getResponseData() != null) {
-          responseMap.put(notifyResponse.getUuid(),
-              notifyResponse.isUsingKryoWithoutReference()
-                  ? (ResponseData) referenceFalseKryoSerializer.asInflatedObject(notifyResponse.getResponseData())
-                  : (ResponseData) kryoSerializer.asInflatedObject(notifyResponse.getResponseData()));
+          responseMap.put(notifyResponse.getUuid(), deserializeResponseData(notifyResponse));
         }
       }
     }
@@ -105,6 +105,42 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return ProcessedMessageResponse.builder().isError(isError).responseDataMap(responseMap).build();
   }
 
+  @Override
+  public boolean hasErrorResponse(WaitInstance waitInstance) {
+    return hPersistence.createQuery(NotifyResponse.class, excludeAuthority)
+               .field(NotifyResponseKeys.uuid)
+               .in(waitInstance.getCorrelationIds())
+               .filter(NotifyResponseKeys.error, Boolean.TRUE)
+               .project(NotifyResponseKeys.uuid, true)
+               .get()
+        != null;
+  }
+
+  @Override
+  public NotifyResponseDataIterator streamResponseData(WaitInstance waitInstance) {
+    Query<NotifyResponse> query = createNotifyResponsesQuery(waitInstance);
+    FindOptions findOptions = new FindOptions().batchSize(NotifyResponseDataIterator.BATCH_SIZE);
+    return new NotifyResponseDataIterator(
+        () -> new HIterator<>(query.fetch(findOptions)), this::deserializeResponseData);
+  }
+
+  private Query<NotifyResponse> createNotifyResponsesQuery(WaitInstance waitInstance) {
+    Query<NotifyResponse> query = hPersistence.createQuery(NotifyResponse.class, excludeAuthority)
+                                      .field(NotifyResponseKeys.uuid)
+                                      .in(waitInstance.getCorrelationIds());
+
+    if (waitInstance.getProgressCallback() != null) {
+      query.order(Sort.ascending(NotifyResponseKeys.createdAt));
+    }
+    return query;
+  }
+
+  private ResponseData deserializeResponseData(NotifyResponse notifyResponse) {
+    return notifyResponse.isUsingKryoWithoutReference()
+        ? (ResponseData) referenceFalseKryoSerializer.asInflatedObject(notifyResponse.getResponseData())
+        : (ResponseData) kryoSerializer.asInflatedObject(notifyResponse.getResponseData());
+  }
+
   @Override
   public List<WaitInstance> fetchWaitInstances(String correlationId) {
     List<WaitInstance> waitInstances = new ArrayList<>();
@@ -202,6 +238,73 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return Collections.emptyList();
+    }
+    // Morphia does not report which documents of a bulk insert failed, so the bulk write is done on the collection.
+    final BulkWriteOperation bulkWriteOperation =
+        hPersistence.getCollection(NotifyResponse.class).initializeUnorderedBulkOperation();
+    notifyResponses.forEach(notifyResponse -> bulkWriteOperation.insert(morphia.toDBObject(notifyResponse)));
+    Set<Integer> duplicates = new HashSet<>();
+    try {
+      bulkWriteOperation.execute();
+    } catch (BulkWriteException ex) {
+      for (BulkWriteError error : ex.getWriteErrors()) {
+        if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+          throw ex;
+        }
+        duplicates.add(error.getIndex());
+      }
+    }
+    List<String> saved = new ArrayList<>(notifyResponses.size() - duplicates.size());
+    for (int i = 0; i < notifyResponses.size(); i++) {
+      if (!duplicates.contains(i)) {
+        saved.add(notifyResponses.get(i).getUuid());
+      }
+    }
+    return saved;
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchCompletedWaitInstances(Collection<String> waitingOnCorrelationIds) {
+    if (isEmpty(waitingOnCorrelationIds)) {
+      return Collections.emptyList();
+    }
+    final List<String> waitInstanceIds = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                             .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                             .in(waitingOnCorrelationIds)
+                                             .asKeyList()
+                                             .stream()
+                                             .map(key -> (String) key.getId())
+                                             .collect(toList());
+    if (isEmpty(waitInstanceIds)) {
+      return Collections.emptyList();
+    }
+
+    final UpdateOperations<WaitInstance> operations =
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, new ArrayList<>(waitingOnCorrelationIds));
+    List<WaitInstance> completed = new ArrayList<>();
+    for (String waitInstanceId : waitInstanceIds) {
+      // Only matches while the instance still waits on one of the ids, so only the call removing the last one sees it
+      // completed.
+      final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                            .filter(WaitInstanceKeys.uuid, waitInstanceId)
+                                            .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                            .in(waitingOnCorrelationIds)
+                                            .project(WaitInstanceKeys.uuid, true)
+                                            .project(WaitInstanceKeys.publisher, true)
+                                            .project(WaitInstanceKeys.waitingOnCorrelationIds, true);
+      final WaitInstance waitInstance = hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
+      if (waitInstance != null && isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+        completed.add(waitInstance);
+      }
+    }
+    return completed;
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (!timeout.isZero()) {
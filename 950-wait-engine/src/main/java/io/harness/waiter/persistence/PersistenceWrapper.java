@@ -9,12 +9,15 @@ package io.harness.waiter.persistence;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
+import io.harness.waiter.NotifyResponseDataIterator;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
 import io.harness.waiter.WaitInstance;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -28,6 +31,18 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Inserts the responses in bulk, skipping the ones which already exist. Returns the ids of the inserted responses.
+   */
+  List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses);
+
+  /**
+   * Removes given correlation ids from all the wait instances waiting on them, with one atomic update per instance.
+   * Returns the wait instances which this call left waiting on nothing, only uuid, publisher and the correlation ids
+   * still waited on are fetched. The ids must not be passed to any other call, see {@link #saveNotifyResponses}.
+   */
+  List<WaitInstance> modifyAndFetchCompletedWaitInstances(Collection<String> waitingOnCorrelationIds);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
@@ -36,6 +51,17 @@ public interface PersistenceWrapper {
 
   ProcessedMessageResponse processMessage(WaitInstance waitInstance);
 
+  /**
+   * Returns whether any of the responses the wait instance waited on is an error.
+   */
+  boolean hasErrorResponse(WaitInstance waitInstance);
+
+  /**
+   * Streams the responses the wait instance waited on, in the order of {@link #processMessage(WaitInstance)}. The
+   * responses are fetched in batches and deserialized as the iterator reaches them. The iterator has to be closed.
+   */
+  NotifyResponseDataIterator streamResponseData(WaitInstance waitInstance);
+
   List<WaitInstance> fetchWaitInstances(String correlationId);
 
   List<String> fetchNotifyResponseKeys(long limit);
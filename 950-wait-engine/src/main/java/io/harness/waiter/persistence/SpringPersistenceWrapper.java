@@ -16,6 +16,7 @@ import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -29,6 +30,7 @@ import io.harness.timeout.TimeoutEngine;
 import io.harness.timeout.TimeoutInstance;
 import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.NotifyResponse.NotifyResponseKeys;
+import io.harness.waiter.NotifyResponseDataIterator;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.ProgressUpdate.ProgressUpdateKeys;
@@ -42,9 +44,14 @@ import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.result.DeleteResult;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,6 +61,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -170,27 +179,50 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     boolean isError = false;
     Map<String, ResponseData> responseMap = new HashMap<>();
 
-    Query query = query(where(NotifyResponseKeys.uuid).in(waitInstance.getCorrelationIds()));
-    if (waitInstance.getProgressCallback() != null) {
-      query.with(Sort.by(Direction.ASC, NotifyResponseKeys.createdAt));
-    }
-
-    List<NotifyResponse> notifyResponses = mongoTemplate.find(query, NotifyResponse.class);
+    List<NotifyResponse> notifyResponses =
+        mongoTemplate.find(createNotifyResponsesQuery(waitInstance), NotifyResponse.class);
     for (NotifyResponse notifyResponse : notifyResponses) {
       if (notifyResponse.isError()) {
         log.debug("Failed notification response {}", notifyResponse.getUuid());
         isError = true;
       }
       if (notifyResponse.getResponseData() != null) {
-        responseMap.put(notifyResponse.getUuid(),
-            notifyResponse.isUsingKryoWithoutReference()
-                ? (ResponseData) referenceFalseKryoSerializer.asInflatedObject(notifyResponse.getResponseData())
-                : (ResponseData) kryoSerializer.asInflatedObject(notifyResponse.getResponseData()));
+        responseMap.put(notifyResponse.getUuid(), deserializeResponseData(notifyResponse));
       }
     }
     return ProcessedMessageResponse.builder().isError(isError).responseDataMap(responseMap).build();
   }
 
+  @Override
+  public boolean hasErrorResponse(WaitInstance waitInstance) {
+    return mongoTemplate.exists(query(where(NotifyResponseKeys.uuid)
+                                          .in(waitInstance.getCorrelationIds())
+                                          .and(NotifyResponseKeys.error)
+                                          .is(Boolean.TRUE)),
+        NotifyResponse.class);
+  }
+
+  @Override
+  public NotifyResponseDataIterator streamResponseData(WaitInstance waitInstance) {
+    Query query = createNotifyResponsesQuery(waitInstance).cursorBatchSize(NotifyResponseDataIterator.BATCH_SIZE);
+    return new NotifyResponseDataIterator(
+        () -> mongoTemplate.stream(query, NotifyResponse.class), this::deserializeResponseData);
+  }
+
+  private Query createNotifyResponsesQuery(WaitInstance waitInstance) {
+    Query query = query(where(NotifyResponseKeys.uuid).in(waitInstance.getCorrelationIds()));
+    if (waitInstance.getProgressCallback() != null) {
+      query.with(Sort.by(Direction.ASC, NotifyResponseKeys.createdAt));
+    }
+    return query;
+  }
+
+  private ResponseData deserializeResponseData(NotifyResponse notifyResponse) {
+    return notifyResponse.isUsingKryoWithoutReference()
+        ? (ResponseData) referenceFalseKryoSerializer.asInflatedObject(notifyResponse.getResponseData())
+        : (ResponseData) kryoSerializer.asInflatedObject(notifyResponse.getResponseData());
+  }
+
   @Override
   public String save(WaitEngineEntity entity) {
     WaitEngineEntity savedEntity = mongoTemplate.insert(entity);
@@ -204,6 +236,66 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public List<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return Collections.emptyList();
+    }
+    Set<Integer> duplicates = new HashSet<>();
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(notifyResponses).execute();
+    } catch (BulkOperationException ex) {
+      for (BulkWriteError error : ex.getErrors()) {
+        if (!isDuplicateKeyCode(error.getCode())) {
+          throw ex;
+        }
+        duplicates.add(error.getIndex());
+      }
+    }
+    List<String> saved = new ArrayList<>(notifyResponses.size() - duplicates.size());
+    for (int i = 0; i < notifyResponses.size(); i++) {
+      if (!duplicates.contains(i)) {
+        saved.add(notifyResponses.get(i).getUuid());
+      }
+    }
+    return saved;
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchCompletedWaitInstances(Collection<String> waitingOnCorrelationIds) {
+    if (isEmpty(waitingOnCorrelationIds)) {
+      return Collections.emptyList();
+    }
+    // Uses - waitingOnCorrelationIds_1 idx
+    Query waitingQuery = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+    waitingQuery.fields().include(WaitInstanceKeys.uuid);
+    List<String> waitInstanceIds =
+        mongoTemplate.find(waitingQuery, WaitInstance.class).stream().map(WaitInstance::getUuid).collect(toList());
+    if (isEmpty(waitInstanceIds)) {
+      return Collections.emptyList();
+    }
+
+    Update update =
+        new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds.toArray(new String[0]));
+    List<WaitInstance> completed = new ArrayList<>();
+    for (String waitInstanceId : waitInstanceIds) {
+      // Only matches while the instance still waits on one of the ids, so only the call removing the last one sees it
+      // completed.
+      Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
+                        .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+      query.fields()
+          .include(WaitInstanceKeys.uuid)
+          .include(WaitInstanceKeys.publisher)
+          .include(WaitInstanceKeys.waitingOnCorrelationIds);
+      WaitInstance waitInstance =
+          mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
+      if (waitInstance != null && isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+        completed.add(waitInstance);
+      }
+    }
+    return completed;
+  }
+
   @Override
   public WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now) {
     final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
@@ -30,5 +30,6 @@ public class WaitEngineTestRegistrar implements KryoRegistrar {
     kryo.register(NotifyEventListenerTest.TestProgressCallback.class, index++);
     kryo.register(WaitNotifyEngineTest.TestNotifyCallback.class, index++);
     kryo.register(WaitNotifyEngineTest.TestProgressCallback.class, index++);
+    kryo.register(NotifyEventListenerTest.TestStreamingNotifyCallback.class, index++);
   }
 }
@@ -8,6 +8,7 @@
 package io.harness.waiter;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.PRASHANT;
 import static io.harness.waiter.NotifyEvent.Builder.aNotifyEvent;
 import static io.harness.waiter.TestNotifyEventListener.TEST_PUBLISHER;
@@ -29,6 +30,7 @@ import com.google.inject.Inject;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -88,6 +90,38 @@ public class NotifyEventListenerTest extends WaitEngineTestBase {
     performTest(waitInstanceId, correlationId, responseData);
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testOnMessageWithStreamingCallback() {
+    String waitInstanceId = generateUuid();
+    List<String> correlationIds = new ArrayList<>();
+    Map<String, ResponseData> expectedResponses = new HashMap<>();
+    for (int i = 0; i < NotifyResponseDataIterator.BATCH_SIZE + 10; i++) {
+      String correlationId = generateUuid();
+      TestResponseData responseData = TestResponseData.builder().responseString("StreamedResponseData" + i).build();
+      hPersistence.save(populateNotifyResponse(correlationId, responseData));
+      correlationIds.add(correlationId);
+      expectedResponses.put(correlationId, responseData);
+    }
+    String noDataCorrelationId = generateUuid();
+    hPersistence.save(NotifyResponse.builder().uuid(noDataCorrelationId).error(false).build());
+    correlationIds.add(noDataCorrelationId);
+    hPersistence.save(WaitInstance.builder()
+                          .uuid(waitInstanceId)
+                          .callback(new TestStreamingNotifyCallback())
+                          .publisher(TEST_PUBLISHER)
+                          .correlationIds(correlationIds)
+                          .waitingOnCorrelationIds(Collections.emptyList())
+                          .build());
+
+    notifyEventListener.onMessage(aNotifyEvent().waitInstanceId(waitInstanceId).build());
+
+    assertThat(responseMap).isEqualTo(expectedResponses);
+    assertThat(callCount.get()).isEqualTo(1);
+    assertThat(hPersistence.get(WaitInstance.class, waitInstanceId)).isNull();
+  }
+
   public void performTest(String waitInstanceId, String correlationId, TestResponseData responseData) {
     notifyEventListener.onMessage(aNotifyEvent().waitInstanceId(waitInstanceId).build());
 
@@ -130,6 +164,19 @@ public class NotifyEventListenerTest extends WaitEngineTestBase {
     }
   }
 
+  public static class TestStreamingNotifyCallback implements StreamingNotifyCallback {
+    @Override
+    public void notify(Iterator<Map.Entry<String, ResponseData>> responses) {
+      callCount.incrementAndGet();
+      responses.forEachRemaining(response -> responseMap.put(response.getKey(), response.getValue()));
+    }
+
+    @Override
+    public void notifyError(Iterator<Map.Entry<String, ResponseData>> responses) {
+      // Do Nothing.
+    }
+  }
+
   public static class TestProgressCallback implements ProgressCallback {
     @Override
     public void notify(String correlationId, ProgressData progressData) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.tasks.ResponseData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class NotifyResponseDataIteratorTest extends CategoryTest {
+  private static final ResponseData RESPONSE_DATA = new ResponseData() {};
+
+  private final AtomicInteger openedCursors = new AtomicInteger();
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotOpenTheCursorUnlessRead() throws Exception {
+    NotifyResponseDataIterator responses = newIterator();
+    responses.close();
+
+    assertThat(openedCursors.get()).isZero();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldSkipTheResponsesWithoutData() throws Exception {
+    List<String> correlationIds = new ArrayList<>();
+    try (NotifyResponseDataIterator responses = newIterator()) {
+      responses.forEachRemaining(response -> {
+        assertThat(response.getValue()).isSameAs(RESPONSE_DATA);
+        correlationIds.add(response.getKey());
+      });
+    }
+
+    assertThat(correlationIds).containsExactly("first", "third");
+    assertThat(openedCursors.get()).isEqualTo(1);
+  }
+
+  private NotifyResponseDataIterator newIterator() {
+    List<NotifyResponse> notifyResponses =
+        Arrays.asList(NotifyResponse.builder().uuid("first").responseData(new byte[1]).build(),
+            NotifyResponse.builder().uuid("second").build(),
+            NotifyResponse.builder().uuid("third").responseData(new byte[1]).build());
+    return new NotifyResponseDataIterator(() -> {
+      openedCursors.incrementAndGet();
+      return notifyResponses.iterator();
+    }, notifyResponse -> RESPONSE_DATA);
+  }
+}
@@ -9,6 +9,7 @@ package io.harness.waiter;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.ASHISHSANODIA;
 import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.PRASHANT;
@@ -79,6 +80,7 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
   @Inject private NotifyResponseCleanupHelper notifyResponseCleaner;
   @Inject private TestNotifyEventListener notifyEventListener;
   @Inject private QueueListenerController queueListenerController;
+  @Inject private WaitNotifyMetrics waitNotifyMetrics;
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
 
@@ -345,6 +347,53 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReleaseWaitInstancesDoneWithAll() {
+    shouldReleaseWaitInstancesDoneWithAllInternal();
+  }
+
+  @Test
+  @SpringWaiter
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReleaseWaitInstancesDoneWithAllUsingSpring() {
+    shouldReleaseWaitInstancesDoneWithAllInternal();
+  }
+
+  private void shouldReleaseWaitInstancesDoneWithAllInternal() {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+    String uuid3 = generateUuid();
+    String uuid4 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid2, uuid3);
+      String pendingWaitInstanceId =
+          waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid3, uuid4);
+      long completedBefore = waitNotifyMetrics.getCompletedWaitInstances();
+
+      Map<String, ResponseData> responses = new HashMap<>();
+      for (String uuid : Arrays.asList(uuid1, uuid2, uuid3)) {
+        responses.put(uuid, StringNotifyResponseData.builder().data("response-" + uuid).build());
+      }
+      assertThat(waitNotifyEngine.doneWithAll(responses)).containsExactlyInAnyOrder(uuid1, uuid2, uuid3);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> callCount.get() == 2);
+      assertThat(responseMap).containsAllEntriesOf(responses);
+      assertThat(waitNotifyMetrics.getCompletedWaitInstances() - completedBefore).isEqualTo(2);
+      WaitInstance pending =
+          mongoTemplate.findOne(query(where(WaitInstanceKeys.uuid).is(pendingWaitInstanceId)), WaitInstance.class);
+      assertThat(pending.getWaitingOnCorrelationIds()).containsExactly(uuid4);
+
+      // Responses which already exist are skipped, like in doneWith.
+      assertThat(waitNotifyEngine.doneWithAll(responses)).isEmpty();
+      assertThat(callCount.get()).isEqualTo(2);
+    }
+  }
+
   /**
    * Should wait forx correlation id for multiple wait instances.
    */
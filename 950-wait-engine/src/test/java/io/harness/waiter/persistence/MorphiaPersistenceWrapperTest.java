@@ -8,6 +8,7 @@
 package io.harness.waiter.persistence;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.PRASHANT;
 import static io.harness.waiter.TestNotifyEventListener.TEST_PUBLISHER;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
@@ -214,4 +215,21 @@ public class MorphiaPersistenceWrapperTest extends WaitEngineTestBase {
     assertThat(keyList).hasSize(1);
     assertThat(keyList).containsExactly(response1.getUuid());
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testHasErrorResponse() {
+    String correlationId = generateUuid();
+    String errorCorrelationId = generateUuid();
+    hPersistence.save(NotifyResponse.builder().uuid(correlationId).error(false).build());
+    hPersistence.save(NotifyResponse.builder().uuid(errorCorrelationId).error(true).build());
+
+    assertThat(persistenceWrapper.hasErrorResponse(
+                   WaitInstance.builder().correlationIds(Collections.singletonList(correlationId)).build()))
+        .isFalse();
+    assertThat(persistenceWrapper.hasErrorResponse(
+                   WaitInstance.builder().correlationIds(Arrays.asList(correlationId, errorCorrelationId)).build()))
+        .isTrue();
+  }
 }
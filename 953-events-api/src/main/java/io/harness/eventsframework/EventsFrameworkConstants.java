@@ -44,6 +44,8 @@ public final class EventsFrameworkConstants {
   public static final String GITX_WEBHOOK_EVENT = "GitXWebhookEvent";
   public static final String GIT_BRANCH_HOOK_EVENT_STREAM = "git_branch_hook_event_stream";
   public static final String USERMEMBERSHIP = "usermembership";
+  public static final String ACL_INDEX_CHANGE = "acl_index_change";
+  public static final int ACL_INDEX_CHANGE_MAX_TOPIC_SIZE = 10_000;
   public static final String MODULE_LICENSE = "modulelicense";
   public static final String ORCHESTRATION_LOG = "orchestration_log";
   public static final String NG_ACCOUNT_SETUP = "ng_account_setup";
@@ -9,7 +9,24 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Sends the message without blocking on the broker where the implementation supports it. The default implementation
+   * sends synchronously and returns an already completed future.
+   */
+  default CompletableFuture<String> sendAsync(Message message) {
+    try {
+      return CompletableFuture.completedFuture(send(message));
+    } catch (Exception ex) {
+      CompletableFuture<String> future = new CompletableFuture<>();
+      future.completeExceptionally(ex);
+      return future;
+    }
+  }
+
   void shutdown();
 }
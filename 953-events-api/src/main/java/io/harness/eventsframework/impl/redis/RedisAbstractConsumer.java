@@ -57,6 +57,7 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   protected Duration maxProcessingTime;
   protected Set<String> consumerGroupNames;
   @Getter protected int batchSize;
+  private StreamMessageId groupStartId;
   private Retry retry;
   @Inject RedisEventMetricPublisher redisEventMetricPublisher;
 
@@ -74,6 +75,19 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     this.redisEventMetricPublisher = redisEventMetricPublisher;
   }
 
+  /**
+   * Creates a consumer whose group, when it does not exist yet, starts reading at the given id instead of at the
+   * beginning of the stream. Use {@link StreamMessageId#NEWEST} for groups that only care about the messages sent
+   * after they were created.
+   */
+  public RedisAbstractConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace,
+      RedisEventMetricPublisher redisEventMetricPublisher, StreamMessageId groupStartId) {
+    super(topicName, groupName);
+    initConsumerGroup(topicName, redissonClient, maxProcessingTime, batchSize, envNamespace, groupStartId);
+    this.redisEventMetricPublisher = redisEventMetricPublisher;
+  }
+
   public RedisAbstractConsumer(String topicName, String groupName, String consumerName,
       @NotNull RedissonClient redissonClient, Duration maxProcessingTime, int batchSize, String envNamespace) {
     super(topicName, groupName, consumerName);
@@ -82,7 +96,13 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
 
   private void initConsumerGroup(
       String topicName, RedissonClient redissonClient, Duration maxProcessingTime, int batchSize, String envNamespace) {
+    initConsumerGroup(topicName, redissonClient, maxProcessingTime, batchSize, envNamespace, StreamMessageId.ALL);
+  }
+
+  private void initConsumerGroup(String topicName, RedissonClient redissonClient, Duration maxProcessingTime,
+      int batchSize, String envNamespace, StreamMessageId groupStartId) {
     this.redissonClient = redissonClient;
+    this.groupStartId = groupStartId;
     this.stream = RedisUtils.getStream(getTopicName(), redissonClient, envNamespace);
     this.deadLetterQueue = RedisUtils.getDeadLetterStream(getTopicName(), redissonClient, envNamespace);
     this.maxProcessingTime = maxProcessingTime;
@@ -100,7 +120,7 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     String groupName = getGroupName();
     try {
       if (!consumerGroupNames.contains(getGroupName())) {
-        stream.createGroup(groupName, StreamMessageId.ALL);
+        stream.createGroup(groupName, groupStartId);
       } else {
         log.info(
             "[REDIS-UPGRADE]: Consumer group {} already exists, continuing with consumer operations...", groupName);
@@ -120,8 +140,8 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     log.warn("Pushed {} to dead letter queue as max retries exceeded. Message data: {}", messageId, messageData);
   }
 
-  private List<PendingEntry> getPendingEntries() {
-    Supplier<List<PendingEntry>> getPendingEntriesSupplier = () -> getPendingEntriesInternal();
+  private List<PendingEntry> getPendingEntries(int count) {
+    Supplier<List<PendingEntry>> getPendingEntriesSupplier = () -> getPendingEntriesInternal(count);
 
     Supplier<List<PendingEntry>> retryingGetPendingEntries = Retry.decorateSupplier(retry, getPendingEntriesSupplier);
     return Try.ofSupplier(retryingGetPendingEntries)
@@ -133,9 +153,9 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
         .get();
   }
 
-  private List<PendingEntry> getPendingEntriesInternal() {
+  private List<PendingEntry> getPendingEntriesInternal(int count) {
     try {
-      return stream.listPending(getGroupName(), StreamMessageId.MIN, StreamMessageId.MAX, batchSize);
+      return stream.listPending(getGroupName(), StreamMessageId.MIN, StreamMessageId.MAX, count);
     } catch (Exception ex) {
       log.warn("Exception occurred while listing pending entries", ex);
       throw ex;
@@ -192,8 +212,8 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     return messages;
   }
 
-  private List<Message> getNewMessages(Duration maxWaitTime) {
-    Supplier<List<Message>> getNewMessagesSupplier = () -> getNewMessagesInternal(maxWaitTime);
+  private List<Message> getNewMessages(Duration maxWaitTime, int count) {
+    Supplier<List<Message>> getNewMessagesSupplier = () -> getNewMessagesInternal(maxWaitTime, count);
 
     Supplier<List<Message>> retryingGetNewMessages = Retry.decorateSupplier(retry, getNewMessagesSupplier);
     return Try.ofSupplier(retryingGetNewMessages)
@@ -205,10 +225,10 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
         .get();
   }
 
-  private List<Message> getNewMessagesInternal(Duration maxWaitTime) {
+  private List<Message> getNewMessagesInternal(Duration maxWaitTime, int count) {
     try {
       return RedisUtils.getMessageObject(
-          stream.readGroup(getGroupName(), getName(), batchSize, maxWaitTime.toMillis(), TimeUnit.MILLISECONDS));
+          stream.readGroup(getGroupName(), getName(), count, maxWaitTime.toMillis(), TimeUnit.MILLISECONDS));
     } catch (Exception ex) {
       log.warn("Exception occurred while getting new messages", ex);
       throw ex;
@@ -226,12 +246,26 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   }
 
   protected List<Message> getMessages(boolean processUnackedMessagesBeforeNewMessages, Duration maxWaitTime) {
-    // Find all the pending entries on the consumer group
-    List<PendingEntry> pendingEntries = getPendingEntries();
+    return getMessages(processUnackedMessagesBeforeNewMessages, maxWaitTime, batchSize, Collections.emptySet());
+  }
+
+  /**
+   * Reads at most {@code maxMessages} messages, claiming the pending entries of the consumer group before reading new
+   * messages. The pending entries in {@code heldMessageIds} are still being processed by this consumer, so they are
+   * neither claimed again nor moved to the dead letter queue.
+   */
+  protected List<Message> getMessages(boolean processUnackedMessagesBeforeNewMessages, Duration maxWaitTime,
+      int maxMessages, Set<String> heldMessageIds) {
+    // Find the pending entries on the consumer group that are not held by this consumer
+    List<PendingEntry> pendingEntries = getPendingEntries(maxMessages + heldMessageIds.size())
+                                            .stream()
+                                            .filter(entry -> !heldMessageIds.contains(entry.getId().toString()))
+                                            .limit(maxMessages)
+                                            .collect(Collectors.toList());
 
     // If no entry is pending then we request for new messages
     if (pendingEntries.isEmpty()) {
-      return getNewMessages(maxWaitTime);
+      return getNewMessages(maxWaitTime, maxMessages);
     }
 
     // If pending entries are not empty then claim the pending entries
@@ -243,10 +277,18 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     if (processUnackedMessagesBeforeNewMessages) {
       return Collections.emptyList();
     } else {
-      return getNewMessages(maxWaitTime);
+      return getNewMessages(maxWaitTime, maxMessages);
     }
   }
 
+  /**
+   * Reads like {@link #read(Duration)}, but returns at most {@code maxMessages} messages and leaves the pending entries
+   * in {@code heldMessageIds} to this consumer.
+   */
+  public List<Message> read(Duration maxWaitTime, int maxMessages, Set<String> heldMessageIds) {
+    return getMessages(false, maxWaitTime, maxMessages, heldMessageIds);
+  }
+
   @Override
   public void acknowledge(String... messageIds) {
     Supplier<Void> acknowledgeSupplier = () -> {
@@ -273,6 +315,21 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     stream.ack(getGroupName(), streamMessageIds);
   }
 
+  /**
+   * Number of messages in the stream after the last message delivered to the consumer group, counting at most
+   * {@code limit} of them.
+   */
+  public long getLag(int limit) {
+    StreamMessageId lastDeliveredId = stream.listGroups()
+                                          .stream()
+                                          .filter(group -> group.getName().equals(getGroupName()))
+                                          .map(StreamGroup::getLastDeliveredId)
+                                          .findFirst()
+                                          .orElse(StreamMessageId.MIN);
+    StreamMessageId firstUndeliveredId = new StreamMessageId(lastDeliveredId.getId0(), lastDeliveredId.getId1() + 1);
+    return stream.range(limit, firstUndeliveredId, StreamMessageId.MAX).size();
+  }
+
   private void createConsumerGroupIfNotPresent(Throwable e) {
     if (e.getMessage().matches("(.*)NOGROUP No such key(.*)or consumer group(.*)")) {
       log.info("Key or consumer group not present, attempting to create consumer group {} for {}", getGroupName(),
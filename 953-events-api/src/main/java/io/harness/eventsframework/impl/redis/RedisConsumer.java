@@ -18,6 +18,7 @@ import java.util.List;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
 
 @OwnedBy(PL)
 @Slf4j
@@ -33,6 +34,13 @@ public class RedisConsumer extends RedisAbstractConsumer {
     super(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace, redisEventMetricPublisher);
   }
 
+  public RedisConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace,
+      RedisEventMetricPublisher redisEventMetricPublisher, StreamMessageId groupStartId) {
+    super(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace, redisEventMetricPublisher,
+        groupStartId);
+  }
+
   @Override
   public List<Message> read(Duration maxWaitTime) {
     return getMessages(false, maxWaitTime);
@@ -49,4 +57,11 @@ public class RedisConsumer extends RedisAbstractConsumer {
     return new RedisConsumer(
         topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace, redisEventMetricPublisher);
   }
+
+  public static RedisConsumer of(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace,
+      RedisEventMetricPublisher redisEventMetricPublisher, StreamMessageId groupStartId) {
+    return new RedisConsumer(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace,
+        redisEventMetricPublisher, groupStartId);
+  }
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.consumer.Message;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs N workers for a single redis consumer. The thread calling {@link #readAndDispatch(Duration)} reads a batch from
+ * the consumer group and hands each message to a worker chosen by hashing its key, so messages with the same key are
+ * processed in order by one worker. Successfully processed messages are acknowledged in batches.
+ *
+ * A batch holds no more messages than there are free workers, so messages do not wait in the local queues long enough
+ * to be claimed again. The messages held by this pod until they are acknowledged are left out of the claim of pending
+ * entries, so they are neither dispatched twice nor moved to the dead letter queue while they are being processed.
+ *
+ * The worker count moves between the configured bounds based on the lag of the consumer group, the messages in the
+ * stream not delivered to the group yet. A resize only happens once every worker has drained its queue, so a key
+ * never has messages in flight on two workers.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisConsumerRuntime {
+  private final RedisAbstractConsumer consumer;
+  private final Predicate<Message> handler;
+  private final Function<Message, String> keyExtractor;
+  private final Runnable workerInitializer;
+  private final RedisConsumerRuntimeConfig config;
+  private final ScheduledExecutorService maintenanceExecutor;
+  private final List<String> pendingAcks = new ArrayList<>();
+  // Messages read by this pod and not acknowledged yet
+  private final Set<String> heldMessageIds = ConcurrentHashMap.newKeySet();
+  private final List<Worker> workers = new ArrayList<>();
+  // Messages dispatched to a worker and not yet processed
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int desiredWorkers;
+
+  public RedisConsumerRuntime(RedisAbstractConsumer consumer, Predicate<Message> handler,
+      RedisConsumerRuntimeConfig config, Runnable workerInitializer) {
+    this(consumer, handler, RedisConsumerRuntime::defaultKey, config, workerInitializer);
+  }
+
+  public RedisConsumerRuntime(RedisAbstractConsumer consumer, Predicate<Message> handler,
+      Function<Message, String> keyExtractor, RedisConsumerRuntimeConfig config, Runnable workerInitializer) {
+    this.consumer = consumer;
+    this.handler = handler;
+    this.keyExtractor = keyExtractor;
+    this.workerInitializer = workerInitializer;
+    this.config = config;
+    this.desiredWorkers = config.getMinWorkers();
+    this.maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat(consumer.getTopicName() + "-consumer-runtime-%d").build());
+    resizeWorkers(config.getMinWorkers());
+    maintenanceExecutor.scheduleWithFixedDelay(
+        this::flushAcks, config.getAckInterval().toMillis(), config.getAckInterval().toMillis(), TimeUnit.MILLISECONDS);
+    maintenanceExecutor.scheduleWithFixedDelay(this::computeDesiredWorkers,
+        config.getScaleCheckInterval().toMillis(), config.getScaleCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Reads one batch from the consumer group and dispatches it to the workers. Blocks while every worker is busy, which
+   * keeps this pod from claiming more messages than it can process.
+   */
+  public void readAndDispatch(Duration maxWaitTime) throws InterruptedException {
+    if (desiredWorkers != workers.size()) {
+      awaitWorkersIdle();
+      flushAcks();
+      resizeWorkers(desiredWorkers);
+    }
+
+    int freeWorkers = awaitFreeWorkers();
+    List<Message> messages =
+        consumer.read(maxWaitTime, Math.min(freeWorkers, consumer.getBatchSize()), new HashSet<>(heldMessageIds));
+    for (Message message : messages) {
+      if (!heldMessageIds.add(message.getId())) {
+        // Claimed again before this pod acknowledged it, the worker holding it acknowledges it
+        continue;
+      }
+      inFlight.incrementAndGet();
+      workers.get(workerIndex(message)).queue.put(message);
+    }
+  }
+
+  public int getWorkerCount() {
+    return workers.size();
+  }
+
+  public void shutdown() throws InterruptedException {
+    for (Worker worker : workers) {
+      worker.thread.interrupt();
+    }
+    for (Worker worker : workers) {
+      worker.thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    workers.clear();
+    maintenanceExecutor.shutdownNow();
+    flushAcks();
+  }
+
+  private int workerIndex(Message message) {
+    String key = keyExtractor.apply(message);
+    return key == null ? 0 : Math.floorMod(key.hashCode(), workers.size());
+  }
+
+  private void awaitWorkersIdle() throws InterruptedException {
+    synchronized (inFlight) {
+      while (inFlight.get() > 0) {
+        inFlight.wait(100);
+      }
+    }
+  }
+
+  private int awaitFreeWorkers() throws InterruptedException {
+    synchronized (inFlight) {
+      while (inFlight.get() >= workers.size()) {
+        inFlight.wait(100);
+      }
+      return workers.size() - inFlight.get();
+    }
+  }
+
+  private void resizeWorkers(int workerCount) {
+    while (workers.size() > workerCount) {
+      workers.remove(workers.size() - 1).thread.interrupt();
+    }
+    while (workers.size() < workerCount) {
+      Worker worker = new Worker(workers.size());
+      workers.add(worker);
+      worker.thread.start();
+    }
+    log.info("Running {} workers for consumer group {} on topic {}", workers.size(), consumer.getGroupName(),
+        consumer.getTopicName());
+  }
+
+  @VisibleForTesting
+  void computeDesiredWorkers() {
+    try {
+      int current = workers.size();
+      // The lag is only counted as far as it takes to double the workers
+      long lag = consumer.getLag((int) (config.getScaleUpLagPerWorker() * current) + 1);
+      int desired = current;
+      if (lag > config.getScaleUpLagPerWorker() * current) {
+        desired = Math.min(config.getMaxWorkers(), current * 2);
+      } else if (lag < config.getScaleDownLagPerWorker() * current) {
+        desired = Math.max(config.getMinWorkers(), current - 1);
+      }
+      if (desired != current) {
+        log.info("Scaling workers for consumer group {} on topic {} from {} to {}, lag: {}", consumer.getGroupName(),
+            consumer.getTopicName(), current, desired, lag);
+      }
+      desiredWorkers = desired;
+    } catch (Exception ex) {
+      log.warn("Unable to compute lag for consumer group {} on topic {}", consumer.getGroupName(),
+          consumer.getTopicName(), ex);
+    }
+  }
+
+  private void addAck(String messageId) {
+    boolean flush;
+    synchronized (pendingAcks) {
+      pendingAcks.add(messageId);
+      flush = pendingAcks.size() >= config.getAckBatchSize();
+    }
+    if (flush) {
+      flushAcks();
+    }
+  }
+
+  private void flushAcks() {
+    String[] messageIds;
+    synchronized (pendingAcks) {
+      if (pendingAcks.isEmpty()) {
+        return;
+      }
+      messageIds = pendingAcks.toArray(new String[0]);
+      pendingAcks.clear();
+    }
+    try {
+      consumer.acknowledge(messageIds);
+    } catch (Exception ex) {
+      // Unacked messages get claimed again once the max processing time is over
+      log.error("Failed to acknowledge {} messages on topic {}", messageIds.length, consumer.getTopicName(), ex);
+    } finally {
+      heldMessageIds.removeAll(Arrays.asList(messageIds));
+    }
+  }
+
+  // The metadata carries no entity identifier, and the payloads of the entity types do not share one either (the
+  // account and module license changes have none), so the key is the account and entity type. Consumers which can
+  // decode their payloads can pass a finer key extractor.
+  private static String defaultKey(Message message) {
+    if (!message.hasMessage()) {
+      return null;
+    }
+    Map<String, String> metadataMap = message.getMessage().getMetadataMap();
+    return metadataMap.get(ACCOUNT_IDENTIFIER_METRICS_KEY) + ":" + metadataMap.get(ENTITY_TYPE);
+  }
+
+  private class Worker implements Runnable {
+    // Bounded by the free workers read ahead by the reader
+    private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+
+    Worker(int index) {
+      this.thread = new ThreadFactoryBuilder()
+                        .setNameFormat(consumer.getTopicName() + "-consumer-worker-" + index)
+                        .setDaemon(true)
+                        .build()
+                        .newThread(this);
+    }
+
+    @Override
+    public void run() {
+      if (workerInitializer != null) {
+        workerInitializer.run();
+      }
+      while (!Thread.currentThread().isInterrupted()) {
+        Message message;
+        try {
+          message = queue.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+        boolean processed = false;
+        try {
+          processed = handler.test(message);
+        } catch (Exception ex) {
+          log.error("Error occurred in processing message with id {}", message.getId(), ex);
+        }
+        try {
+          if (processed) {
+            addAck(message.getId());
+          } else {
+            // Left pending, so that it is claimed again once the max processing time is over
+            heldMessageIds.remove(message.getId());
+          }
+        } finally {
+          synchronized (inFlight) {
+            inFlight.decrementAndGet();
+            inFlight.notifyAll();
+          }
+        }
+      }
+    }
+  }
+}
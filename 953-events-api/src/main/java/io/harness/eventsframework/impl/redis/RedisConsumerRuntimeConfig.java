@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(PL)
+@Value
+@Builder
+public class RedisConsumerRuntimeConfig {
+  @Builder.Default int minWorkers = 1;
+  @Builder.Default int maxWorkers = 8;
+  // Acks are sent with a single XACK once this many messages are processed or the ack interval elapses
+  @Builder.Default int ackBatchSize = 50;
+  @Builder.Default Duration ackInterval = Duration.ofMillis(500);
+  @Builder.Default Duration scaleCheckInterval = Duration.ofSeconds(30);
+  // Messages not delivered to the consumer group yet, per worker, above which the worker count is doubled
+  @Builder.Default long scaleUpLagPerWorker = 200;
+  // Messages not delivered to the consumer group yet, per worker, below which one worker is removed
+  @Builder.Default long scaleDownLagPerWorker = 20;
+}
@@ -27,6 +27,7 @@ import io.vavr.control.Try;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
@@ -50,6 +51,8 @@ public class RedisProducer extends AbstractProducer {
   private int maxTopicSize;
 
   private Retry retry;
+  private String streamName;
+  private RedisStreamBatcher batcher;
 
   public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
       String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher) {
@@ -69,6 +72,7 @@ public class RedisProducer extends AbstractProducer {
     this.maxTopicSize = maxTopicSize;
     this.redissonClient = redissonClient;
     this.stream = RedisUtils.getStream(topicName, redissonClient, envNamespace);
+    this.streamName = RedisUtils.getStreamName(envNamespace, topicName);
     RetryConfig retryConfig =
         RetryConfig.custom().intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5)).maxAttempts(6).build();
 
@@ -80,12 +84,42 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
+  /**
+   * Queues the message in the batching buffer and returns immediately. The returned future completes with the stream
+   * message id once the batch containing the message has been written. Headers (trace id, producer, git context) are
+   * captured on the calling thread. Falls back to a synchronous send when batching is not enabled for this producer.
+   */
+  @Override
+  public CompletableFuture<String> sendAsync(Message message) {
+    if (batcher == null) {
+      return super.sendAsync(message);
+    }
+    return batcher.enqueue(prepareRedisData(message));
+  }
+
+  /**
+   * Turns on the batching mode for {@link #sendAsync(Message)}. Messages are buffered in memory and flushed to redis
+   * in pipelined batches by a single writer thread, which keeps the order of messages for this topic.
+   */
+  public RedisProducer enableBatching(RedisProducerBatchConfig batchConfig) {
+    if (batcher == null) {
+      this.batcher =
+          new RedisStreamBatcher(getTopicName(), redissonClient, streamName, maxTopicSize, batchConfig, retry);
+    }
+    return this;
+  }
+
+  private Map<String, String> prepareRedisData(Message message) {
+    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
+    addTraceId(redisData);
+    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
+    populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
   private String sendInternal(Message message) {
     try {
-      Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-      addTraceId(redisData);
-      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-      populateOtherProducerSpecificData(redisData);
+      Map<String, String> redisData = prepareRedisData(message);
 
       StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
       redisData.remove(REDIS_STREAM_INTERNAL_KEY);
@@ -117,6 +151,9 @@ public class RedisProducer extends AbstractProducer {
 
   @Override
   public void shutdown() {
+    if (batcher != null) {
+      batcher.shutdown();
+    }
     redissonClient.shutdown();
   }
 
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(PL)
+@Value
+@Builder
+public class RedisProducerBatchConfig {
+  // Max number of messages written to redis in a single pipelined batch
+  @Builder.Default int batchSize = 100;
+  // Max time a message waits in the buffer for the batch to fill up
+  @Builder.Default long lingerMillis = 5;
+  // Max number of messages buffered in memory before sendAsync starts applying backpressure
+  @Builder.Default int maxBufferSize = 10000;
+  // Max time sendAsync blocks on a full buffer before failing the message
+  @Builder.Default long enqueueTimeoutMillis = 1000;
+}
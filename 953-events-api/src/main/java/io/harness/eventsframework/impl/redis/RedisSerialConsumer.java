@@ -14,6 +14,7 @@ import io.harness.eventsframework.consumer.Message;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
@@ -31,6 +32,11 @@ public class RedisSerialConsumer extends RedisAbstractConsumer {
     return getMessages(true, maxWaitTime);
   }
 
+  @Override
+  public List<Message> read(Duration maxWaitTime, int maxMessages, Set<String> heldMessageIds) {
+    return getMessages(true, maxWaitTime, maxMessages, heldMessageIds);
+  }
+
   public static RedisSerialConsumer of(String topicName, String groupName, String consumerName,
       @NotNull RedissonClient redissonClient, Duration maxProcessingTime, String envNamespace) {
     return new RedisSerialConsumer(topicName, groupName, consumerName, redissonClient, maxProcessingTime, envNamespace);
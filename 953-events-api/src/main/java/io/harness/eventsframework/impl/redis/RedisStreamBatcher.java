@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+
+import io.github.resilience4j.retry.Retry;
+import io.vavr.control.Try;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Bounded in-memory buffer in front of a redis stream. A single writer thread drains the buffer and writes the
+ * messages with one pipelined {@link RBatch} per flush, so messages land in the stream in the order they were queued.
+ * A batch is flushed once it reaches the configured size or its oldest message has waited for the linger time.
+ */
+@OwnedBy(PL)
+@Slf4j
+class RedisStreamBatcher {
+  private final String topicName;
+  private final RedissonClient redissonClient;
+  private final String streamName;
+  private final int maxTopicSize;
+  private final RedisProducerBatchConfig batchConfig;
+  private final Retry retry;
+  private final BlockingQueue<PendingMessage> buffer;
+  private final Thread writerThread;
+  private volatile boolean running = true;
+
+  @AllArgsConstructor
+  private static class PendingMessage {
+    private final Map<String, String> redisData;
+    private final CompletableFuture<String> future;
+    private final long enqueuedAt;
+  }
+
+  RedisStreamBatcher(String topicName, RedissonClient redissonClient, String streamName, int maxTopicSize,
+      RedisProducerBatchConfig batchConfig, Retry retry) {
+    this.topicName = topicName;
+    this.redissonClient = redissonClient;
+    this.streamName = streamName;
+    this.maxTopicSize = maxTopicSize;
+    this.batchConfig = batchConfig;
+    this.retry = retry;
+    this.buffer = new ArrayBlockingQueue<>(batchConfig.getMaxBufferSize());
+    this.writerThread = new Thread(this::runWriteLoop, "redis-producer-batcher-" + topicName);
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+  }
+
+  CompletableFuture<String> enqueue(Map<String, String> redisData) {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    if (!running) {
+      future.completeExceptionally(
+          new EventsFrameworkDownException("Producer for topic " + topicName + " is shutdown"));
+      return future;
+    }
+    try {
+      boolean queued = buffer.offer(new PendingMessage(redisData, future, System.currentTimeMillis()),
+          batchConfig.getEnqueueTimeoutMillis(), TimeUnit.MILLISECONDS);
+      if (!queued) {
+        future.completeExceptionally(
+            new EventsFrameworkDownException("Producer buffer is full for the topic: " + topicName));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  void shutdown() {
+    running = false;
+    writerThread.interrupt();
+    try {
+      writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    List<PendingMessage> remaining = new ArrayList<>();
+    buffer.drainTo(remaining);
+    remaining.forEach(pendingMessage
+        -> pendingMessage.future.completeExceptionally(
+            new EventsFrameworkDownException("Producer for topic " + topicName + " is shutdown")));
+  }
+
+  private void runWriteLoop() {
+    while (running || !buffer.isEmpty()) {
+      try {
+        List<PendingMessage> batch = nextBatch();
+        if (!batch.isEmpty()) {
+          flush(batch);
+        }
+      } catch (InterruptedException e) {
+        if (running) {
+          log.warn("Redis producer batcher for topic {} interrupted", topicName);
+        }
+        // Flush whatever is left before exiting
+        List<PendingMessage> batch = new ArrayList<>();
+        buffer.drainTo(batch);
+        if (!batch.isEmpty()) {
+          flush(batch);
+        }
+        return;
+      } catch (Exception ex) {
+        log.error("Unexpected error in redis producer batcher for topic {}", topicName, ex);
+      }
+    }
+  }
+
+  private List<PendingMessage> nextBatch() throws InterruptedException {
+    List<PendingMessage> batch = new ArrayList<>(batchConfig.getBatchSize());
+    PendingMessage first = buffer.poll(1, TimeUnit.SECONDS);
+    if (first == null) {
+      return batch;
+    }
+    batch.add(first);
+    long deadline = first.enqueuedAt + batchConfig.getLingerMillis();
+    while (batch.size() < batchConfig.getBatchSize()) {
+      buffer.drainTo(batch, batchConfig.getBatchSize() - batch.size());
+      long waitMillis = deadline - System.currentTimeMillis();
+      if (batch.size() >= batchConfig.getBatchSize() || waitMillis <= 0) {
+        break;
+      }
+      PendingMessage next = buffer.poll(waitMillis, TimeUnit.MILLISECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    return batch;
+  }
+
+  private void flush(List<PendingMessage> batch) {
+    // Messages are removed from the head of the pending list as they are written, so a retry resumes from the first
+    // message that failed and the stream keeps the order the messages were queued in
+    List<PendingMessage> pending = new ArrayList<>(batch);
+    Supplier<Integer> writeBatchSupplier = () -> writeBatch(pending);
+    Supplier<Integer> retryingWriteBatch = Retry.decorateSupplier(retry, writeBatchSupplier);
+
+    Try<Integer> result = Try.ofSupplier(retryingWriteBatch);
+    if (result.isFailure()) {
+      // Exhausted exponential backoff to try operating on redis
+      EventsFrameworkDownException exception = new EventsFrameworkDownException(result.getCause().getMessage());
+      pending.forEach(pendingMessage -> pendingMessage.future.completeExceptionally(exception));
+    }
+  }
+
+  /**
+   * Writes the pending messages in one batch and completes them in order up to the first one redis did not
+   * acknowledge. That message and everything after it are left in the pending list and an exception is thrown, so the
+   * retry writes them again in order. Messages after the failed one that redis did acknowledge are written again by
+   * the retry, which keeps the per-topic order at the cost of a duplicate that consumers already have to tolerate.
+   *
+   * @return the number of messages written
+   */
+  private int writeBatch(List<PendingMessage> pending) {
+    RBatch redisBatch =
+        redissonClient.createBatch(BatchOptions.defaults().executionMode(BatchOptions.ExecutionMode.IN_MEMORY));
+    RStreamAsync<String, String> stream = redisBatch.getStream(streamName, new StringCodec("UTF-8"));
+    List<RFuture<StreamMessageId>> responses = new ArrayList<>(pending.size());
+    for (PendingMessage pendingMessage : pending) {
+      responses.add(stream.addAllAsync(pendingMessage.redisData, maxTopicSize, false));
+    }
+
+    RuntimeException batchException = null;
+    try {
+      redisBatch.execute();
+    } catch (RuntimeException ex) {
+      batchException = ex;
+    }
+
+    int written = 0;
+    while (written < pending.size() && responses.get(written).isSuccess()) {
+      complete(pending.get(written), String.valueOf(responses.get(written).getNow()));
+      written++;
+    }
+    int total = pending.size();
+    pending.subList(0, written).clear();
+
+    if (!pending.isEmpty()) {
+      log.warn("Failed to write {} of {} messages to the topic: {}, retrying from the first failed message",
+          pending.size(), total, topicName, batchException);
+      if (batchException != null) {
+        throw batchException;
+      }
+      throw new EventsFrameworkDownException(
+          "Failed to write " + pending.size() + " messages to the topic: " + topicName);
+    }
+    return written;
+  }
+
+  private void complete(PendingMessage pendingMessage, String messageId) {
+    Map<String, String> metadata = new HashMap<>(pendingMessage.redisData);
+    metadata.remove(REDIS_STREAM_INTERNAL_KEY);
+    log.info("Events framework message inserted - messageId: {}, metaData: {} in the topic: {}", messageId, metadata,
+        topicName);
+    pendingMessage.future.complete(messageId);
+  }
+}
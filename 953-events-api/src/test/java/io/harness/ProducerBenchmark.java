@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness;
+
+import io.harness.eventsframework.entity_crud.project.ProjectEntityChangeDTO;
+import io.harness.eventsframework.impl.redis.RedisProducer;
+import io.harness.eventsframework.impl.redis.RedisProducerBatchConfig;
+import io.harness.eventsframework.impl.redis.RedisUtils;
+import io.harness.eventsframework.producer.Message;
+import io.harness.redis.RedisConfig;
+import io.harness.redis.RedissonClientFactory;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Compares the synchronous {@link RedisProducer#send} path with the batching {@link RedisProducer#sendAsync} path
+ * against a local redis. Reports the end to end publish throughput, messages/sec until every message was acknowledged
+ * by redis, and the p50/p99 publish latency from sending a message until redis acknowledged it. The stream length is
+ * checked after each run, so that a run only counts the messages that really landed in the stream.
+ *
+ * Usage: ProducerBenchmark [redisUrl] [messagesPerThread] [threads]
+ */
+@Slf4j
+public class ProducerBenchmark {
+  private static final String TOPIC = "producer_benchmark";
+
+  public static void main(String[] args) throws Exception {
+    String redisUrl = args.length > 0 ? args[0] : "redis://localhost:6379";
+    int messagesPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+    int threads = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+    RedisConfig redisConfig = RedisConfig.builder().redisUrl(redisUrl).envNamespace("benchmark").build();
+    RedissonClient redissonClient = RedissonClientFactory.getClient(redisConfig);
+
+    // The stream is not trimmed during a run, so that its length can be checked afterwards
+    int maxTopicSize = messagesPerThread * threads * 2;
+    RedisProducer syncProducer =
+        RedisProducer.of(TOPIC, redissonClient, maxTopicSize, "benchmarkProducer", redisConfig.getEnvNamespace());
+    RedisProducer batchingProducer =
+        RedisProducer.of(TOPIC, redissonClient, maxTopicSize, "benchmarkProducer", redisConfig.getEnvNamespace())
+            .enableBatching(RedisProducerBatchConfig.builder().build());
+    RStream<String, String> stream = RedisUtils.getStream(TOPIC, redissonClient, redisConfig.getEnvNamespace());
+
+    // Warm up both paths before measuring
+    run("warmup-sync", stream, syncProducer, false, 1000, threads);
+    run("warmup-async", stream, batchingProducer, true, 1000, threads);
+
+    run("sync", stream, syncProducer, false, messagesPerThread, threads);
+    run("async", stream, batchingProducer, true, messagesPerThread, threads);
+
+    batchingProducer.shutdown();
+  }
+
+  private static void run(String name, RStream<String, String> stream, RedisProducer producer, boolean async,
+      int messagesPerThread, int threads) throws InterruptedException {
+    stream.delete();
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    CountDownLatch latch = new CountDownLatch(threads);
+    long[][] latencies = new long[threads][];
+    long start = System.nanoTime();
+    for (int t = 0; t < threads; t++) {
+      final int threadIndex = t;
+      executorService.submit(() -> {
+        try {
+          latencies[threadIndex] = produce(producer, async, messagesPerThread);
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await();
+    long elapsedNanos = System.nanoTime() - start;
+    executorService.shutdown();
+
+    long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+    long published = stream.size();
+    if (published != all.length) {
+      log.error("[{}] sent {} messages but the stream holds {}", name, all.length, published);
+    }
+    double throughput = published / (elapsedNanos / 1e9);
+    log.info("[{}] messages: {}, published messages/sec: {}, p50 publish latency: {}us, p99 publish latency: {}us",
+        name, published, String.format("%.0f", throughput), percentile(all, 0.50) / 1000,
+        percentile(all, 0.99) / 1000);
+  }
+
+  private static long[] produce(RedisProducer producer, boolean async, int count) {
+    long[] latencies = new long[count];
+    List<CompletableFuture<?>> acknowledgements = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Message message =
+          Message.newBuilder()
+              .putAllMetadata(ImmutableMap.of("accountId", String.valueOf(i % 100)))
+              .setData(ProjectEntityChangeDTO.newBuilder().setIdentifier(String.valueOf(i)).build().toByteString())
+              .build();
+      final int index = i;
+      long sendStart = System.nanoTime();
+      if (async) {
+        // The latency of the async path is the time until the batch holding the message was acknowledged by redis
+        acknowledgements.add(producer.sendAsync(message).thenRun(
+            () -> latencies[index] = System.nanoTime() - sendStart));
+      } else {
+        producer.send(message);
+        latencies[i] = System.nanoTime() - sendStart;
+      }
+    }
+    CompletableFuture.allOf(acknowledgements.toArray(new CompletableFuture[0])).join();
+    return latencies;
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class RedisConsumerRuntimeTest extends CategoryTest {
+  private static final Duration MAX_WAIT_TIME = Duration.ofMillis(10);
+
+  private RedisAbstractConsumer consumer;
+  private RedisConsumerRuntime consumerRuntime;
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger handled = new AtomicInteger();
+
+  @Before
+  public void setUp() {
+    consumer = mock(RedisAbstractConsumer.class);
+    when(consumer.getTopicName()).thenReturn("topic");
+    when(consumer.getGroupName()).thenReturn("group");
+    when(consumer.getBatchSize()).thenReturn(10);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    release.countDown();
+    if (consumerRuntime != null) {
+      consumerRuntime.shutdown();
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReadNoMoreThanTheFreeWorkersAndLeaveTheHeldMessages() throws InterruptedException {
+    consumerRuntime = newRuntime(2, 2, this::handleAfterRelease);
+    when(consumer.read(any(), anyInt(), anySet()))
+        .thenReturn(Collections.singletonList(message("1-0")), Collections.singletonList(message("1-1")));
+
+    consumerRuntime.readAndDispatch(MAX_WAIT_TIME);
+    consumerRuntime.readAndDispatch(MAX_WAIT_TIME);
+
+    ArgumentCaptor<Integer> maxMessages = ArgumentCaptor.forClass(Integer.class);
+    ArgumentCaptor<Set<String>> heldMessageIds = ArgumentCaptor.forClass(Set.class);
+    verify(consumer, times(2)).read(any(), maxMessages.capture(), heldMessageIds.capture());
+    assertThat(maxMessages.getAllValues()).containsExactly(2, 1);
+    assertThat(heldMessageIds.getAllValues().get(0)).isEmpty();
+    assertThat(heldMessageIds.getAllValues().get(1)).containsExactly("1-0");
+
+    release.countDown();
+    verify(consumer, timeout(5000)).acknowledge("1-0");
+    verify(consumer, timeout(5000)).acknowledge("1-1");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotDispatchAMessageHeldByAWorkerAgain() throws InterruptedException {
+    consumerRuntime = newRuntime(2, 2, this::handleAfterRelease);
+    when(consumer.read(any(), anyInt(), anySet())).thenReturn(Collections.singletonList(message("1-0")));
+
+    consumerRuntime.readAndDispatch(MAX_WAIT_TIME);
+    consumerRuntime.readAndDispatch(MAX_WAIT_TIME);
+
+    release.countDown();
+    verify(consumer, timeout(5000)).acknowledge("1-0");
+    assertThat(handled.get()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldScaleOnTheLagOfTheConsumerGroup() throws InterruptedException {
+    consumerRuntime = newRuntime(1, 4, message -> true);
+    when(consumer.read(any(), anyInt(), anySet())).thenReturn(Collections.emptyList());
+
+    when(consumer.getLag(201)).thenReturn(201L);
+    consumerRuntime.computeDesiredWorkers();
+    consumerRuntime.readAndDispatch(MAX_WAIT_TIME);
+    assertThat(consumerRuntime.getWorkerCount()).isEqualTo(2);
+
+    when(consumer.getLag(401)).thenReturn(0L);
+    consumerRuntime.computeDesiredWorkers();
+    consumerRuntime.readAndDispatch(MAX_WAIT_TIME);
+    assertThat(consumerRuntime.getWorkerCount()).isEqualTo(1);
+  }
+
+  private RedisConsumerRuntime newRuntime(int minWorkers, int maxWorkers, Predicate<Message> handler) {
+    RedisConsumerRuntimeConfig config = RedisConsumerRuntimeConfig.builder()
+                                            .minWorkers(minWorkers)
+                                            .maxWorkers(maxWorkers)
+                                            .ackBatchSize(1)
+                                            .scaleCheckInterval(Duration.ofHours(1))
+                                            .build();
+    // Keyed by the sequence of the message id, so that 1-0 and 1-1 run on different workers
+    return new RedisConsumerRuntime(consumer, handler, message -> message.getId().substring(2), config, null);
+  }
+
+  private boolean handleAfterRelease(Message message) {
+    handled.incrementAndGet();
+    try {
+      return release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static Message message(String id) {
+    return Message.newBuilder().setId(id).build();
+  }
+}
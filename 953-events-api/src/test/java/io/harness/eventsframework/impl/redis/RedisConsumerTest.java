@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamGroup;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.Codec;
+
+public class RedisConsumerTest extends CategoryTest {
+  private static final String GROUP = "group";
+
+  private RStream<Object, Object> stream;
+  private RedisConsumer consumer;
+
+  @Before
+  public void setUp() {
+    RedissonClient redissonClient = mock(RedissonClient.class);
+    stream = mock(RStream.class);
+    when(redissonClient.getStream(anyString(), any(Codec.class))).thenReturn(stream);
+    consumer = RedisConsumer.of("topic", GROUP, redissonClient, Duration.ofMinutes(1), 10, "");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotClaimTheHeldMessages() {
+    StreamMessageId heldId = new StreamMessageId(1, 0);
+    StreamMessageId pendingId = new StreamMessageId(1, 1);
+    when(stream.listPending(GROUP, StreamMessageId.MIN, StreamMessageId.MAX, 3))
+        .thenReturn(Arrays.asList(new PendingEntry(heldId, "consumer", 120000, 12),
+            new PendingEntry(pendingId, "consumer", 120000, 1)));
+    when(stream.claim(eq(GROUP), anyString(), anyLong(), any(TimeUnit.class), any(StreamMessageId.class)))
+        .thenReturn(Collections.emptyMap());
+
+    assertThat(consumer.read(Duration.ofMillis(10), 2, ImmutableSet.of(heldId.toString()))).isEmpty();
+
+    verify(stream).claim(GROUP, consumer.getName(), 60000, TimeUnit.MILLISECONDS, pendingId);
+    verify(stream, never()).claim(GROUP, consumer.getName(), 60000, TimeUnit.MILLISECONDS, heldId, pendingId);
+    verify(stream).readGroup(GROUP, consumer.getName(), 2, 10, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldCountTheLagAfterTheLastDeliveredMessage() {
+    when(stream.listGroups())
+        .thenReturn(Collections.singletonList(new StreamGroup(GROUP, 1, 0, new StreamMessageId(5, 2))));
+    when(stream.range(11, new StreamMessageId(5, 3), StreamMessageId.MAX))
+        .thenReturn(Collections.singletonMap(new StreamMessageId(6, 0), Collections.emptyMap()));
+
+    assertThat(consumer.getLag(11)).isEqualTo(1);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.Codec;
+
+public class RedisStreamBatcherTest extends CategoryTest {
+  private RedissonClient redissonClient;
+  private RStreamAsync<String, String> stream;
+  private RedisStreamBatcher batcher;
+
+  @Before
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    RBatch redisBatch = mock(RBatch.class);
+    stream = mock(RStreamAsync.class);
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(redisBatch);
+    when(redisBatch.getStream(anyString(), any(Codec.class))).thenReturn((RStreamAsync) stream);
+  }
+
+  @After
+  public void tearDown() {
+    if (batcher != null) {
+      batcher.shutdown();
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRetryFromTheFirstFailedMessageInOrder() throws Exception {
+    when(stream.addAllAsync(anyMap(), anyInt(), anyBoolean()))
+        .thenReturn(written("1-0"), failed(), written("1-2"), written("1-3"), written("1-4"));
+    batcher = newBatcher(2);
+
+    List<CompletableFuture<String>> futures = enqueue("a", "b", "c");
+
+    assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("1-0");
+    assertThat(futures.get(1).get(5, TimeUnit.SECONDS)).isEqualTo("1-3");
+    assertThat(futures.get(2).get(5, TimeUnit.SECONDS)).isEqualTo("1-4");
+    assertThat(writtenMessages(5)).containsExactly("a", "b", "c", "b", "c");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldFailTheMessagesFromTheFirstFailureWhenRetriesAreExhausted() throws Exception {
+    when(stream.addAllAsync(anyMap(), anyInt(), anyBoolean()))
+        .thenReturn(written("1-0"), failed(), written("1-2"), failed(), written("1-4"));
+    batcher = newBatcher(2);
+
+    List<CompletableFuture<String>> futures = enqueue("a", "b", "c");
+
+    assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("1-0");
+    for (CompletableFuture<String> future : futures.subList(1, 3)) {
+      assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(EventsFrameworkDownException.class);
+    }
+    assertThat(writtenMessages(5)).containsExactly("a", "b", "c", "b", "c");
+  }
+
+  private RedisStreamBatcher newBatcher(int maxAttempts) {
+    RetryConfig retryConfig = RetryConfig.custom().maxAttempts(maxAttempts).waitDuration(Duration.ofMillis(1)).build();
+    RedisProducerBatchConfig batchConfig = RedisProducerBatchConfig.builder().batchSize(3).lingerMillis(5000).build();
+    return new RedisStreamBatcher("topic", redissonClient, "stream", 100, batchConfig, Retry.of("test", retryConfig));
+  }
+
+  private List<CompletableFuture<String>> enqueue(String... payloads) {
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    for (String payload : payloads) {
+      futures.add(batcher.enqueue(ImmutableMap.of("o", payload)));
+    }
+    return futures;
+  }
+
+  private List<String> writtenMessages(int count) {
+    ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+    verify(stream, times(count)).addAllAsync(captor.capture(), anyInt(), anyBoolean());
+    List<String> payloads = new ArrayList<>();
+    captor.getAllValues().forEach(redisData -> payloads.add(redisData.get("o")));
+    return payloads;
+  }
+
+  private static RFuture<StreamMessageId> written(String messageId) {
+    RFuture<StreamMessageId> future = mock(RFuture.class);
+    String[] parts = messageId.split("-");
+    when(future.isSuccess()).thenReturn(true);
+    when(future.getNow()).thenReturn(new StreamMessageId(Long.parseLong(parts[0]), Long.parseLong(parts[1])));
+    return future;
+  }
+
+  private static RFuture<StreamMessageId> failed() {
+    RFuture<StreamMessageId> future = mock(RFuture.class);
+    when(future.isSuccess()).thenReturn(false);
+    return future;
+  }
+}
@@ -157,29 +157,35 @@ public class YamlNode implements Visitable {
       if (curr == null) {
         return null;
       }
+      curr = curr.gotoChild(currName);
+    }
 
-      JsonNode next;
-      if (currName.charAt(0) == '[') {
-        if (!curr.isArray()) {
-          throw new YamlException(String.format("Trying to use index path (%s) on non-array node", currName));
-        }
+    return curr;
+  }
 
-        int idx;
-        try {
-          idx = Integer.parseInt(currName.substring(1, currName.length() - 1));
-        } catch (Exception ex) {
-          throw new YamlException(String.format("Incorrect index path (%s) on array node", currName));
-        }
+  /**
+   * Goes down one segment of a yaml path, a field name or an array index like [0].
+   */
+  YamlNode gotoChild(String currName) {
+    JsonNode next;
+    if (currName.charAt(0) == '[') {
+      if (!isArray()) {
+        throw new YamlException(String.format("Trying to use index path (%s) on non-array node", currName));
+      }
 
-        next = curr.getCurrJsonNode().get(idx);
-      } else {
-        next = curr.getValueInternal(currName);
+      int idx;
+      try {
+        idx = Integer.parseInt(currName.substring(1, currName.length() - 1));
+      } catch (Exception ex) {
+        throw new YamlException(String.format("Incorrect index path (%s) on array node", currName));
       }
 
-      curr = next == null ? null : new YamlNode(currName, next, curr);
+      next = currJsonNode.get(idx);
+    } else {
+      next = getValueInternal(currName);
     }
 
-    return curr;
+    return next == null ? null : new YamlNode(currName, next, this);
   }
 
   public void replacePath(String path, JsonNode newNode) {
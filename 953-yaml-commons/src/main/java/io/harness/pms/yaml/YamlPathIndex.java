@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.yaml;
+
+import static io.harness.pms.yaml.YamlNode.PATH_SEP;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves yaml paths, as returned by {@link YamlNode#getYamlPath()}, in a parsed yaml and remembers every node on the
+ * way. Resolving the paths of many dependencies under the same parent walks the shared part of their paths once.
+ *
+ * Can be used by several threads at a time.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class YamlPathIndex {
+  private final YamlField rootField;
+  private final Map<String, Optional<YamlNode>> nodesByPath = new ConcurrentHashMap<>();
+
+  public YamlPathIndex(YamlField rootField) {
+    this.rootField = rootField;
+  }
+
+  public YamlField getRootField() {
+    return rootField;
+  }
+
+  public YamlField getField(String path) {
+    YamlNode node = getNode(path);
+    return node == null ? null : new YamlField(node);
+  }
+
+  public YamlNode getNode(String path) {
+    if (EmptyPredicate.isEmpty(path)) {
+      return rootField.getNode();
+    }
+    Optional<YamlNode> node = nodesByPath.get(path);
+    if (node == null) {
+      node = Optional.ofNullable(resolve(path));
+      nodesByPath.put(path, node);
+    }
+    return node.orElse(null);
+  }
+
+  private YamlNode resolve(String path) {
+    if (path.endsWith(PATH_SEP) || path.contains(PATH_SEP + PATH_SEP)) {
+      return rootField.getNode().gotoPath(path);
+    }
+    int separatorIndex = path.lastIndexOf(PATH_SEP);
+    YamlNode parent = separatorIndex < 0 ? rootField.getNode() : getNode(path.substring(0, separatorIndex));
+    return parent == null ? null : parent.gotoChild(path.substring(separatorIndex + 1));
+  }
+}
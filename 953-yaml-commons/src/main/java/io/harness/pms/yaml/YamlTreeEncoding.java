@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.yaml;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import java.io.IOException;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Binary encoding of a parsed yaml tree. The plan creation yaml is parsed once by the pipeline service and shipped to
+ * the sdks in this encoding, which is smaller than the yaml and decodes many times faster than the yaml parses. Field
+ * names and short values are written once and referenced afterwards, so repeated keys like __uuid, identifier and type
+ * take a byte or two each.
+ */
+@UtilityClass
+@OwnedBy(HarnessTeam.PIPELINE)
+public class YamlTreeEncoding {
+  private final ObjectMapper mapper =
+      new ObjectMapper(new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES));
+
+  public byte[] encode(YamlField rootField) throws IOException {
+    return mapper.writeValueAsBytes(rootField.getNode().getCurrJsonNode());
+  }
+
+  public YamlField decode(byte[] encodedTree) throws IOException {
+    JsonNode rootJsonNode = mapper.readTree(encodedTree);
+    return new YamlField(new YamlNode(rootJsonNode));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.yaml;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates the yaml work of one plan creation iteration on a synthetic pipeline: the pipeline service resolving every
+ * step dependency and the sdks resolving the dependencies of every batch they are sent. Prints the time taken when
+ * every batch parses the yaml and walks each path from the root, and when the yaml is parsed and encoded once, every
+ * batch decodes the encoded tree and the paths are resolved through a {@link YamlPathIndex}.
+ *
+ * Arguments: [steps] [steps per stage] [batch size] [rounds], defaults to 5000 100 50 5.
+ */
+@OwnedBy(PIPELINE)
+public class PlanCreationYamlBenchmark {
+  public static void main(String[] args) throws IOException {
+    int steps = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+    int stepsPerStage = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+    int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+    int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+    String yaml = YamlUtils.injectUuid(createPipelineYaml(steps, stepsPerStage));
+    List<String> paths = new ArrayList<>();
+    for (int step = 0; step < steps; step++) {
+      paths.add(String.format("pipeline/stages/[%d]/stage/spec/execution/steps/[%d]/step", step / stepsPerStage,
+          step % stepsPerStage));
+    }
+    System.out.printf("steps=%d yaml=%d bytes encoded tree=%d bytes batches=%d%n", steps,
+        yaml.getBytes(StandardCharsets.UTF_8).length, YamlTreeEncoding.encode(YamlUtils.readTree(yaml)).length,
+        (steps + batchSize - 1) / batchSize);
+
+    for (int round = 0; round < rounds; round++) {
+      long startNanos = System.nanoTime();
+      resolveFromYaml(yaml, paths, batchSize);
+      long yamlMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+      startNanos = System.nanoTime();
+      resolveFromEncodedTree(yaml, paths, batchSize);
+      long encodedTreeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+      System.out.printf("round %d: parse per batch %dms, parse once and decode per batch %dms%n", round, yamlMillis,
+          encodedTreeMillis);
+    }
+  }
+
+  private static void resolveFromYaml(String yaml, List<String> paths, int batchSize) throws IOException {
+    YamlField pmsField = YamlUtils.readTree(yaml);
+    for (String path : paths) {
+      checkResolved(pmsField.fromYamlPath(path), path);
+    }
+    for (int from = 0; from < paths.size(); from += batchSize) {
+      YamlField sdkField = YamlUtils.readTree(yaml);
+      for (String path : paths.subList(from, Math.min(paths.size(), from + batchSize))) {
+        checkResolved(sdkField.fromYamlPath(path), path);
+      }
+    }
+  }
+
+  private static void resolveFromEncodedTree(String yaml, List<String> paths, int batchSize) throws IOException {
+    YamlField pmsField = YamlUtils.readTree(yaml);
+    YamlPathIndex pmsIndex = new YamlPathIndex(pmsField);
+    byte[] yamlTree = YamlTreeEncoding.encode(pmsField);
+    for (String path : paths) {
+      checkResolved(pmsIndex.getField(path), path);
+    }
+    for (int from = 0; from < paths.size(); from += batchSize) {
+      YamlPathIndex sdkIndex = new YamlPathIndex(YamlTreeEncoding.decode(yamlTree));
+      for (String path : paths.subList(from, Math.min(paths.size(), from + batchSize))) {
+        checkResolved(sdkIndex.getField(path), path);
+      }
+    }
+  }
+
+  private static void checkResolved(YamlField field, String path) {
+    if (field == null) {
+      throw new IllegalStateException("Could not resolve " + path);
+    }
+  }
+
+  private static String createPipelineYaml(int steps, int stepsPerStage) {
+    StringBuilder yaml = new StringBuilder(256 * steps);
+    yaml.append("pipeline:\n  identifier: benchmark\n  name: benchmark\n  stages:\n");
+    for (int step = 0; step < steps; step++) {
+      if (step % stepsPerStage == 0) {
+        int stage = step / stepsPerStage;
+        yaml.append("    - stage:\n")
+            .append("        identifier: stage")
+            .append(stage)
+            .append("\n        name: stage")
+            .append(stage)
+            .append("\n        type: Custom\n        spec:\n          execution:\n            steps:\n");
+      }
+      yaml.append("              - step:\n")
+          .append("                  identifier: step")
+          .append(step)
+          .append("\n                  name: step")
+          .append(step)
+          .append("\n                  type: ShellScript\n                  timeout: 10m\n")
+          .append("                  spec:\n                    shell: Bash\n                    onDelegate: true\n")
+          .append("                    source:\n                      type: Inline\n                      spec:\n")
+          .append("                        script: echo step ")
+          .append(step)
+          .append('\n');
+    }
+    return yaml.toString();
+  }
+}
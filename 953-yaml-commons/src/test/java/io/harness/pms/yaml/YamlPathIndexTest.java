@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.yaml;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.exception.YamlException;
+import io.harness.rule.Owner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class YamlPathIndexTest extends CategoryTest {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetFieldResolvesEveryPathLikeGotoPath() throws IOException {
+    YamlField rootField = YamlUtils.injectUuidInYamlField(readFile("pipeline-extensive.yml"));
+    YamlPathIndex yamlPathIndex = new YamlPathIndex(rootField);
+    List<String> paths = new ArrayList<>();
+    collectPaths(rootField.getNode().getCurrJsonNode(), "", paths);
+    assertThat(paths).hasSizeGreaterThan(100);
+
+    for (String path : paths) {
+      YamlNode expected = rootField.getNode().gotoPath(path);
+      YamlField field = yamlPathIndex.getField(path);
+      assertThat(field.getNode().getYamlPath()).isEqualTo(expected.getYamlPath()).isEqualTo(path);
+      assertThat(field.getNode().getCurrJsonNode()).isSameAs(expected.getCurrJsonNode());
+      assertThat(field.getName()).isEqualTo(new YamlField(expected).getName());
+    }
+    assertThat(yamlPathIndex.getNode("")).isSameAs(rootField.getNode());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetFieldOfMissingOrInvalidPath() throws IOException {
+    YamlField rootField = YamlUtils.readTree(readFile("pipeline-extensive.yml"));
+    YamlPathIndex yamlPathIndex = new YamlPathIndex(rootField);
+
+    assertThat(yamlPathIndex.getField("pipeline/missing/stage")).isNull();
+    assertThat(yamlPathIndex.getField("pipeline/stages/[100]/stage")).isNull();
+    assertThat(yamlPathIndex.getField("pipeline/stages/[0]/stage/").getNode().getYamlPath())
+        .isEqualTo("pipeline/stages/[0]/stage");
+    assertThatThrownBy(() -> yamlPathIndex.getField("pipeline/[0]")).isInstanceOf(YamlException.class);
+  }
+
+  private void collectPaths(JsonNode jsonNode, String path, List<String> paths) {
+    if (jsonNode.isObject()) {
+      for (Iterator<Map.Entry<String, JsonNode>> it = jsonNode.fields(); it.hasNext();) {
+        Map.Entry<String, JsonNode> field = it.next();
+        String childPath = path.isEmpty() ? field.getKey() : path + YamlNode.PATH_SEP + field.getKey();
+        paths.add(childPath);
+        collectPaths(field.getValue(), childPath, paths);
+      }
+    } else if (jsonNode.isArray()) {
+      for (int idx = 0; idx < jsonNode.size(); idx++) {
+        String childPath = path + YamlNode.PATH_SEP + "[" + idx + "]";
+        paths.add(childPath);
+        collectPaths(jsonNode.get(idx), childPath, paths);
+      }
+    }
+  }
+
+  private String readFile(String filePath) throws IOException {
+    return Resources.toString(
+        Resources.getResource(YamlPathIndexTest.class, "/" + filePath), StandardCharsets.UTF_8);
+  }
+}
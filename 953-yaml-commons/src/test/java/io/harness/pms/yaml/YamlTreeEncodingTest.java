@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.yaml;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class YamlTreeEncodingTest extends CategoryTest {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testDecodeReturnsTheEncodedTree() throws IOException {
+    String yaml = Resources.toString(
+        Resources.getResource(YamlTreeEncodingTest.class, "/pipeline-extensive.yml"), StandardCharsets.UTF_8);
+    YamlField rootField = YamlUtils.injectUuidInYamlField(yaml);
+
+    byte[] encodedTree = YamlTreeEncoding.encode(rootField);
+    YamlField decodedField = YamlTreeEncoding.decode(encodedTree);
+
+    assertThat(decodedField.getNode().getCurrJsonNode()).isEqualTo(rootField.getNode().getCurrJsonNode());
+    assertThat(decodedField.getNode().getParentNode()).isNull();
+    assertThat(YamlUtils.writeYamlString(decodedField)).isEqualTo(YamlUtils.writeYamlString(rootField));
+    assertThat(encodedTree.length).isLessThan(YamlUtils.writeYamlString(rootField).length());
+  }
+}
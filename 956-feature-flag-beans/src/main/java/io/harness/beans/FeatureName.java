@@ -72,6 +72,8 @@ public enum FeatureName {
   CCM_INSTANCE_DATA_CLUSTERID_FILTER("Query from instanceData collection based on clusterId", HarnessTeam.CE),
   CCM_LABELS_FLATTENING("Use flattened label's columns in BigQuery", HarnessTeam.CE),
   CCM_MSP("To enable margin obfuscation for CCM MSP accounts", HarnessTeam.CE),
+  CCM_PERSPECTIVE_QUERY_CACHE(
+      "Cache the results of perspective queries until the billing data changes", HarnessTeam.CE),
   CCM_SUNSETTING_CG("Sunsetting CCM CG Features", HarnessTeam.CE),
   CCM_SUSTAINABILITY("Sustainability Feature in CCM Module", HarnessTeam.CE),
   CCM_WORKLOAD_LABELS_OPTIMISATION("Use workload labels from instance data instead of k8sworkload", HarnessTeam.CE),
@@ -301,8 +303,12 @@ public enum FeatureName {
   DELEGATE_TASK_LOAD_DISTRIBUTION("Delegate task load distribution among delegates", HarnessTeam.DEL),
   DEL_FETCH_TASK_LOG_API("FF to enable fetch delegate task logs from stackdriver", HarnessTeam.DEL),
   DEL_NOTIFICATION("FF to enable notifications for delegate events", HarnessTeam.DEL),
+  DEL_PERPETUAL_TASK_BALANCED_ASSIGNMENT(
+      "Validates a perpetual task on the delegates in the order of their perpetual task load", HarnessTeam.DEL),
   DEL_SELECTION_LOGS_READ_FROM_GOOGLE_DATA_STORE(
       "Enables the fetching of delegate selection records from google data store instead of mongo", HarnessTeam.DEL),
+  DEL_TASK_ASSIGNMENT_INDEX(
+      "Finds the delegates eligible for a task through an index of delegate task types and selectors", HarnessTeam.DEL),
   DEPLOYMENT_RECONCILIATION_LOGIC_QUERY_OPTIMIZATIONS(
       "Used to modify logic for reconciliation queries", HarnessTeam.CDC),
   DEPLOYMENT_SUBFORMIK_APPLICATION_DROPDOWN,
@@ -12,4 +12,11 @@ import org.springframework.data.mongodb.core.query.Query;
 
 public interface NgTracer {
   void traceSpringQuery(Query query, Class<?> entityClass, MongoTemplate mongoTemplate);
+
+  /**
+   * Traces a query which was executed, with the time its execution took.
+   */
+  default void traceSpringQuery(Query query, Class<?> entityClass, MongoTemplate mongoTemplate, long elapsedNanos) {
+    traceSpringQuery(query, entityClass, mongoTemplate);
+  }
 }
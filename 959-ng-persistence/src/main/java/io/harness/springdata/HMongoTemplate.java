@@ -82,7 +82,6 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
   @Nullable
   @Override
   public <T> T findAndModify(Query query, UpdateDefinition update, Class<T> entityClass) {
-    traceQuery(query, entityClass);
     return retry(
         () -> findAndModify(query, update, new FindAndModifyOptions(), entityClass, getCollectionName(entityClass)));
   }
@@ -90,7 +89,6 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
   @Nullable
   @Override
   public <T> T findAndModify(Query query, UpdateDefinition update, FindAndModifyOptions options, Class<T> entityClass) {
-    traceQuery(query, entityClass);
     return retry(() -> findAndModify(query, update, options, entityClass, getCollectionName(entityClass)));
   }
 
@@ -103,8 +101,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
   @Override
   public <T> T findAndModify(
       Query query, UpdateDefinition update, FindAndModifyOptions options, Class<T> entityClass, String collectionName) {
+    long startNanos = System.nanoTime();
     try {
-      traceQuery(query, entityClass);
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationTimeInMillis));
       }
@@ -114,6 +112,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
       }
       throw ex;
+    } finally {
+      traceQuery(query, entityClass, startNanos);
     }
   }
 
@@ -135,8 +135,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
   @Override
   public <T> List<T> find(Query query, Class<T> entityClass, String collectionName) {
     List<T> list = new ArrayList<>();
+    long startNanos = System.nanoTime();
     try {
-      traceQuery(query, entityClass);
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationTimeInMillis));
       }
@@ -149,6 +149,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
       }
       throw ex;
+    } finally {
+      traceQuery(query, entityClass, startNanos);
     }
     if (checkIfListIsLarge(list)) {
       log.warn("find query {} returns {} items for collection {}. Consider using an Iterator to avoid causing OOM",
@@ -165,8 +167,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
 
   @Override
   public <T> T findOne(Query query, Class<T> entityClass, String collectionName) {
+    long startNanos = System.nanoTime();
     try {
-      traceQuery(query, entityClass);
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationTimeInMillis));
       }
@@ -176,6 +178,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
       }
       throw ex;
+    } finally {
+      traceQuery(query, entityClass, startNanos);
     }
   }
 
@@ -183,8 +187,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
   public <T> List<T> findDistinct(
       Query query, String field, String collectionName, Class<?> entityClass, Class<T> resultClass) {
     List<T> list = new ArrayList<>();
+    long startNanos = System.nanoTime();
     try {
-      traceQuery(query, entityClass);
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationTimeInMillis));
       }
@@ -194,6 +198,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
       }
       throw ex;
+    } finally {
+      traceQuery(query, entityClass, startNanos);
     }
     if (checkIfListIsLarge(list)) {
       log.warn(
@@ -206,8 +212,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
   @Override
   public <S, T> T findAndReplace(Query query, S replacement, FindAndReplaceOptions options, Class<S> entityType,
       String collectionName, Class<T> resultType) {
+    long startNanos = System.nanoTime();
     try {
-      traceQuery(query, entityType);
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationTimeInMillis));
       }
@@ -217,13 +223,15 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
       }
       throw ex;
+    } finally {
+      traceQuery(query, entityType, startNanos);
     }
   }
 
   @Override
   public <T> T findAndRemove(Query query, Class<T> entityClass, String collectionName) {
+    long startNanos = System.nanoTime();
     try {
-      traceQuery(query, entityClass);
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationTimeInMillis));
       }
@@ -233,14 +241,16 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
       }
       throw ex;
+    } finally {
+      traceQuery(query, entityClass, startNanos);
     }
   }
 
   @Override
   public <T> List<T> findAllAndRemove(Query query, Class<T> entityClass, String collectionName) {
     List<T> list = new ArrayList<>();
+    long startNanos = System.nanoTime();
     try {
-      traceQuery(query, entityClass);
       if (query.getMeta().getMaxTimeMsec() == null) {
         query.maxTime(Duration.ofMillis(maxOperationTimeInMillis));
       }
@@ -250,6 +260,8 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
         logAndThrowMongoExecutionTimeoutException(query, collectionName, ex);
       }
       throw ex;
+    } finally {
+      traceQuery(query, entityClass, startNanos);
     }
     if (checkIfListIsLarge(list)) {
       log.warn(
@@ -370,6 +382,12 @@ public class HMongoTemplate extends MongoTemplate implements HealthMonitor {
     }
   }
 
+  private <T> void traceQuery(Query query, Class<T> entityClass, long startNanos) {
+    if (traceMode == TraceMode.ENABLED) {
+      tracerSubject.fireInform(NgTracer::traceSpringQuery, query, entityClass, this, System.nanoTime() - startNanos);
+    }
+  }
+
   private <T> boolean checkIfListIsLarge(List<T> list) {
     return list.size() > 1000;
   }
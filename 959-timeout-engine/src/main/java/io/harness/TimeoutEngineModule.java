@@ -10,9 +10,11 @@ package io.harness;
 import io.harness.registrars.TimeoutEngineTimeoutRegistrar;
 import io.harness.registries.TimeoutEngineRegistryModule;
 import io.harness.registries.registrar.TimeoutRegistrar;
+import io.harness.timeout.wheel.TimeoutWheelConfig;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.MapBinder;
+import com.google.inject.multibindings.OptionalBinder;
 
 public class TimeoutEngineModule extends AbstractModule {
   private static TimeoutEngineModule instance;
@@ -32,5 +34,10 @@ public class TimeoutEngineModule extends AbstractModule {
         MapBinder.newMapBinder(binder(), String.class, TimeoutRegistrar.class);
     timeoutRegistrarMapBinder.addBinding(TimeoutEngineTimeoutRegistrar.class.getName())
         .to(TimeoutEngineTimeoutRegistrar.class);
+
+    // Disabled unless the service sets the binding, as the pipeline service does from its timeoutWheelConfig.
+    OptionalBinder.newOptionalBinder(binder(), TimeoutWheelConfig.class)
+        .setDefault()
+        .toInstance(TimeoutWheelConfig.disabled());
   }
 }
@@ -10,6 +10,8 @@ package io.harness.serializer.morphia;
 import io.harness.morphia.MorphiaRegistrar;
 import io.harness.morphia.MorphiaRegistrarHelperPut;
 import io.harness.timeout.TimeoutInstance;
+import io.harness.timeout.wheel.TimeoutWheelMember;
+import io.harness.timeout.wheel.TimeoutWheelShard;
 
 import java.util.Set;
 
@@ -17,6 +19,8 @@ public class TimeoutEngineMorphiaRegistrar implements MorphiaRegistrar {
   @Override
   public void registerClasses(Set<Class> set) {
     set.add(TimeoutInstance.class);
+    set.add(TimeoutWheelMember.class);
+    set.add(TimeoutWheelShard.class);
   }
 
   @Override
@@ -14,6 +14,8 @@ import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.
 
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
@@ -34,6 +36,7 @@ import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.contracts.Dimension;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutParameters;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTrackerFactory;
+import io.harness.timeout.wheel.TimeoutWheelScheduler;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -42,6 +45,7 @@ import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -50,7 +54,10 @@ import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_FIRST_GEN})
 @OwnedBy(CDC)
@@ -65,6 +72,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   @Inject private MongoTemplate mongoTemplate;
   @Inject private Injector injector;
   @Inject private TimeoutRegistry timeoutRegistry;
+  @Inject private TimeoutWheelScheduler timeoutWheelScheduler;
 
   public TimeoutInstance registerTimeout(@NotNull Dimension dimension, @NotNull TimeoutParameters timeoutParameters,
       @NotNull TimeoutCallback timeoutCallback) {
@@ -82,14 +90,15 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
   TimeoutInstance registerTimeout(@NotNull TimeoutTracker timeoutTracker, @NotNull TimeoutCallback timeoutCallback) {
     TimeoutInstance timeoutInstance =
         TimeoutInstance.builder().uuid(generateUuid()).tracker(timeoutTracker).callback(timeoutCallback).build();
-    timeoutInstance.resetNextIteration();
+    if (timeoutWheelScheduler.isEnabled()) {
+      timeoutInstance.setShard(timeoutWheelScheduler.shardOf(timeoutInstance.getUuid()));
+    }
+    resetNextIteration(timeoutInstance);
     TimeoutInstance savedTimeoutInstance = timeoutInstanceRepository.save(timeoutInstance);
-    log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
+    log.info(format("Registered timeout with uuid: %s, currentTime: %d, nextIteration: %d, diff: %d",
         timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
         timeoutInstance.getNextIteration() - System.currentTimeMillis()));
-    if (iterator != null) {
-      iterator.wakeup();
-    }
+    scheduleOrWakeup(savedTimeoutInstance);
     return savedTimeoutInstance;
   }
 
@@ -101,11 +110,13 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     for (List<String> batchTimeInstanceIds : partition) {
       timeoutInstanceRepository.deleteByUuidIn(batchTimeInstanceIds);
     }
+    timeoutWheelScheduler.unschedule(timeoutInstanceIds);
   }
 
   public void deleteTimeout(@NonNull String timeoutInstanceId) {
     // equal operator is better than in operator
     timeoutInstanceRepository.deleteById(timeoutInstanceId);
+    timeoutWheelScheduler.unschedule(Collections.singletonList(timeoutInstanceId));
   }
 
   public void onEvent(List<String> timeoutInstanceIds, TimeoutEvent event) {
@@ -115,15 +126,49 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
 
     for (TimeoutInstance timeoutInstance : timeoutInstanceRepository.findAllById(timeoutInstanceIds)) {
       if (timeoutInstance.tracker.onEvent(event)) {
-        timeoutInstance.resetNextIteration();
-        timeoutInstanceRepository.save(timeoutInstance);
-        if (iterator != null) {
-          iterator.wakeup();
-        }
+        resetNextIteration(timeoutInstance);
+        scheduleOrWakeup(timeoutInstanceRepository.save(timeoutInstance));
       }
     }
   }
 
+  /**
+   * Fires a timeout scheduled by the timeout wheel. The instance is claimed by moving its nextIteration forward only if
+   * it did not change since it was scheduled, so a timeout which was rescheduled, deleted, or already fired by another
+   * wheel or the iterator is skipped.
+   */
+  @VisibleForTesting
+  void handleScheduled(String timeoutInstanceId, long nextIteration) {
+    long claimedIteration = timeoutWheelScheduler.toRecoveryIteration(
+        System.currentTimeMillis() + MAX_CALLBACK_PROCESSING_TIME.toMillis());
+    Query query = query(where(TimeoutInstanceKeys.uuid).is(timeoutInstanceId))
+                      .addCriteria(where(TimeoutInstanceKeys.nextIteration).is(nextIteration));
+    Update update = new Update().set(TimeoutInstanceKeys.nextIteration, claimedIteration);
+    TimeoutInstance timeoutInstance =
+        mongoTemplate.findAndModify(query, update, new FindAndModifyOptions().returnNew(true), TimeoutInstance.class);
+    if (timeoutInstance == null) {
+      return;
+    }
+    handle(timeoutInstance);
+  }
+
+  private void resetNextIteration(TimeoutInstance timeoutInstance) {
+    if (timeoutWheelScheduler.isEnabled()) {
+      // The wheels fire the timeout at its expiry, the iterator only picks up the ones they missed.
+      timeoutInstance.resetNextIteration(timeoutWheelScheduler::toRecoveryIteration);
+    } else {
+      timeoutInstance.resetNextIteration();
+    }
+  }
+
+  private void scheduleOrWakeup(TimeoutInstance timeoutInstance) {
+    if (timeoutWheelScheduler.isEnabled()) {
+      timeoutWheelScheduler.schedule(timeoutInstance);
+    } else if (iterator != null) {
+      iterator.wakeup();
+    }
+  }
+
   @Override
   public void createAndStartRedisBatchIterator(
       PersistenceIteratorFactory.RedisBatchExecutorOptions executorOptions, Duration targetInterval) {
@@ -138,6 +183,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
                            .acceptableExecutionTime(ofSeconds(10))
                            .handler(this)
                            .persistenceProvider(new SpringPersistenceRequiredProvider<>(mongoTemplate)));
+    timeoutWheelScheduler.start(this::handleScheduled);
   }
 
   @Override
@@ -164,6 +210,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
                 .persistenceProvider(new SpringPersistenceRequiredProvider<>(mongoTemplate))
                 .schedulingType(REGULAR));
     executor.submit(() -> iterator.process());
+    timeoutWheelScheduler.start(this::handleScheduled);
   }
 
   @Override
@@ -14,15 +14,20 @@ import static java.time.Duration.ofDays;
 import io.harness.annotations.StoreIn;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.PersistentRegularIterable;
+import io.harness.mongo.index.CompoundMongoIndex;
 import io.harness.mongo.index.FdIndex;
 import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
 import io.harness.ng.DbAliases;
 import io.harness.persistence.UuidAccess;
 
+import com.google.common.collect.ImmutableList;
 import dev.morphia.annotations.Entity;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Date;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
 import javax.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Data;
@@ -45,6 +50,16 @@ import org.springframework.data.mongodb.core.mapping.Document;
 public class TimeoutInstance implements PersistentRegularIterable, UuidAccess {
   public static final Duration TTL = ofDays(21);
 
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("shard_nextIteration_idx")
+                 .field(TimeoutInstanceKeys.shard)
+                 .field(TimeoutInstanceKeys.nextIteration)
+                 .build())
+        .build();
+  }
+
   @Id @dev.morphia.annotations.Id String uuid;
   @NotNull TimeoutTracker tracker;
   @NotNull TimeoutCallback callback;
@@ -60,11 +75,19 @@ public class TimeoutInstance implements PersistentRegularIterable, UuidAccess {
   // iterator.
   @FdIndex long nextIteration;
 
+  // Timeout wheel shard the instance belongs to, only set when the timeout wheel is enabled.
+  Integer shard;
+
   public void resetNextIteration() {
     Long expiryTime = tracker.getExpiryTime();
     nextIteration = expiryTime == null ? Long.MAX_VALUE : expiryTime;
   }
 
+  public void resetNextIteration(LongUnaryOperator expiryToNextIteration) {
+    Long expiryTime = tracker.getExpiryTime();
+    nextIteration = expiryTime == null ? Long.MAX_VALUE : expiryToNextIteration.applyAsLong(expiryTime);
+  }
+
   @Override
   public Long obtainNextIteration(String fieldName) {
     return nextIteration;
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel keyed by id. Level 0 has wheelSize buckets of tickMillis each, every next level has buckets
+ * as wide as the whole previous level, so adding, removing and expiring an entry is O(1) no matter how far its deadline
+ * is. Entries of higher levels cascade down as the time advances.
+ *
+ * Entries expire once the tick holding their deadline has fully passed, so they fire at most one tick late and never
+ * early. The wheel is not driven by a clock of its own, callers move it forward with {@link #advance(long)}. All the
+ * methods are synchronized.
+ */
+@OwnedBy(CDC)
+public class HierarchicalTimingWheel<T> {
+  private static final int MAX_LEVELS = 8;
+
+  private final int wheelSize;
+  private final List<Level> levels = new ArrayList<>();
+  private final Map<String, Entry<T>> entries = new HashMap<>();
+
+  public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+    Preconditions.checkArgument(tickMillis > 0, "tickMillis should be positive");
+    Preconditions.checkArgument(wheelSize > 1, "wheelSize should be greater than 1");
+    this.wheelSize = wheelSize;
+    levels.add(new Level(tickMillis, startMillis));
+  }
+
+  /**
+   * Schedules the value to expire at given deadline, replacing the entry with the same id if any. Returns false if the
+   * deadline has already passed, in which case nothing is scheduled and the caller should handle the value right away.
+   */
+  public synchronized boolean add(String id, long deadlineMillis, T value) {
+    remove(id);
+    Entry<T> entry = new Entry<>(id, deadlineMillis, value);
+    if (!place(entry)) {
+      return false;
+    }
+    entries.put(id, entry);
+    return true;
+  }
+
+  public synchronized T remove(String id) {
+    Entry<T> entry = entries.remove(id);
+    if (entry == null) {
+      return null;
+    }
+    entry.bucket.remove(entry);
+    return entry.value;
+  }
+
+  public synchronized boolean contains(String id) {
+    return entries.containsKey(id);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Moves the wheel forward to given time, returning the values whose deadline has passed in deadline bucket order.
+   */
+  public synchronized List<T> advance(long nowMillis) {
+    List<Entry<T>> flushed = new ArrayList<>();
+    for (int i = 0; i < levels.size(); i++) {
+      levels.get(i).advance(nowMillis, i == 0, flushed);
+    }
+    List<T> expired = new ArrayList<>();
+    for (Entry<T> entry : flushed) {
+      if (!place(entry)) {
+        entries.remove(entry.id);
+        expired.add(entry.value);
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * Puts the entry in the lowest level which covers its deadline. Returns false if the deadline has passed.
+   */
+  private boolean place(Entry<T> entry) {
+    if (entry.deadlineMillis < levels.get(0).currentMillis) {
+      return false;
+    }
+    for (int i = 0;; i++) {
+      if (i == levels.size()) {
+        Level previous = levels.get(i - 1);
+        levels.add(new Level(previous.intervalMillis, previous.currentMillis));
+      }
+      Level level = levels.get(i);
+      long levelEndMillis = level.currentMillis + level.intervalMillis;
+      if (entry.deadlineMillis < levelEndMillis) {
+        level.add(entry, entry.deadlineMillis);
+        return true;
+      }
+      if (i == MAX_LEVELS - 1) {
+        // Too far to be covered, park it in the last bucket, it gets placed again when the bucket cascades.
+        level.add(entry, levelEndMillis - 1);
+        return true;
+      }
+    }
+  }
+
+  private final class Level {
+    private final long levelTickMillis;
+    private final long intervalMillis;
+    private final List<Set<Entry<T>>> buckets;
+    private long currentMillis;
+
+    private Level(long levelTickMillis, long startMillis) {
+      this.levelTickMillis = levelTickMillis;
+      // Saturates for levels which are so high that they can not be reached anyway.
+      this.intervalMillis =
+          levelTickMillis > Long.MAX_VALUE / wheelSize ? Long.MAX_VALUE / 2 : levelTickMillis * wheelSize;
+      this.buckets = new ArrayList<>(wheelSize);
+      for (int i = 0; i < wheelSize; i++) {
+        buckets.add(new LinkedHashSet<>());
+      }
+      this.currentMillis = startMillis - Math.floorMod(startMillis, levelTickMillis);
+    }
+
+    private void add(Entry<T> entry, long bucketMillis) {
+      Set<Entry<T>> bucket = buckets.get(bucketIndex(bucketMillis));
+      bucket.add(entry);
+      entry.bucket = bucket;
+    }
+
+    /**
+     * The lowest level flushes the ticks which have fully passed, higher levels flush the tick which was entered so
+     * that its entries cascade into the lower levels before they are due.
+     */
+    private void advance(long nowMillis, boolean lowest, List<Entry<T>> flushed) {
+      long newCurrentMillis = nowMillis - Math.floorMod(nowMillis, levelTickMillis);
+      if (newCurrentMillis <= currentMillis) {
+        return;
+      }
+      long ticks = Math.min((newCurrentMillis - currentMillis) / levelTickMillis, wheelSize);
+      long firstTickMillis = lowest ? currentMillis : currentMillis + levelTickMillis;
+      for (long i = 0; i < ticks; i++) {
+        Set<Entry<T>> bucket = buckets.get(bucketIndex(firstTickMillis + i * levelTickMillis));
+        flushed.addAll(bucket);
+        bucket.clear();
+      }
+      currentMillis = newCurrentMillis;
+    }
+
+    private int bucketIndex(long millis) {
+      return (int) Math.floorMod(Math.floorDiv(millis, levelTickMillis), (long) wheelSize);
+    }
+  }
+
+  private static final class Entry<T> {
+    private final String id;
+    private final long deadlineMillis;
+    private final T value;
+    private Set<Entry<T>> bucket;
+
+    private Entry(String id, long deadlineMillis, T value) {
+      this.id = id;
+      this.deadlineMillis = deadlineMillis;
+      this.value = value;
+    }
+  }
+}
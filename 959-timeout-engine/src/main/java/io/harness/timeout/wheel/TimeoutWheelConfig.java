@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Value;
+
+@OwnedBy(CDC)
+@Value
+@Builder
+public class TimeoutWheelConfig {
+  @Default boolean enabled = false;
+  // Precision of the wheel, timeouts fire at most one tick after their expiry.
+  @Default long tickMillis = 100;
+  @Default int wheelSize = 512;
+  // Timeout instances are spread over the shards by uuid, each shard is owned by a single pod at a time.
+  @Default int shardCount = 64;
+  @Default long shardLeaseMillis = 30_000;
+  @Default long shardRefreshMillis = 10_000;
+  // Owned shards are loaded from mongo for the timeouts expiring within the horizon.
+  @Default long loadHorizonMillis = 10 * 60_000;
+  // Delay after the expiry before the iterator fires a timeout which was missed by the wheels, e.g. when its owner
+  // died.
+  @Default long recoveryGraceMillis = 60_000;
+  @Default int handlerPoolSize = 5;
+
+  public static TimeoutWheelConfig disabled() {
+    return TimeoutWheelConfig.builder().build();
+  }
+}
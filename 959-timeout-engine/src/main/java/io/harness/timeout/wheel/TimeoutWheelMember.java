@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+
+import dev.morphia.annotations.Entity;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Heartbeat of a pod running a timeout wheel, the shards are shared between the pods with a live heartbeat.
+ */
+@OwnedBy(CDC)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldNameConstants(innerTypeName = "TimeoutWheelMemberKeys")
+@StoreIn(DbAliases.PMS)
+@Entity(value = "timeoutWheelMembers", noClassnameStored = true)
+@Document("timeoutWheelMembers")
+@TypeAlias("timeoutWheelMember")
+public class TimeoutWheelMember implements PersistentEntity {
+  @Id @dev.morphia.annotations.Id String owner;
+  long heartbeatUntil;
+  // Removes the members of the pods which died.
+  @FdTtlIndex Date validUntil;
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.timeout.TimeoutInstance;
+import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
+import io.harness.timeout.wheel.TimeoutWheelMember.TimeoutWheelMemberKeys;
+import io.harness.timeout.wheel.TimeoutWheelShard.TimeoutWheelShardKeys;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.dropwizard.lifecycle.Managed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Fires timeouts from an in memory {@link HierarchicalTimingWheel} instead of polling mongo for due instances.
+ *
+ * Mongo stays the durable store: timeout instances are still inserted and deleted there, with nextIteration set to the
+ * expiry plus {@link TimeoutWheelConfig#getRecoveryGraceMillis()}, so that the regular iterator only picks up the
+ * timeouts which were missed by the wheels. The instances are spread over shards by uuid and every shard is leased to
+ * one pod, which loads the timeouts of its shards expiring within the load horizon, e.g. after a restart. Pods also
+ * schedule the timeouts they register themselves, so that short timeouts do not wait for the next load.
+ *
+ * The same timeout can be held by more than one wheel, firing claims the instance with a conditional update of
+ * nextIteration, so only one of them runs the callback.
+ *
+ * Pods running a wheel keep a heartbeat in the timeoutWheelMembers collection and take a fair share of the shards over
+ * the pods with a live heartbeat, releasing the shards above it. The wheel is started by {@link io.harness.timeout.TimeoutEngine} with its
+ * handler and stopped with the application.
+ */
+@OwnedBy(CDC)
+@Singleton
+@Slf4j
+public class TimeoutWheelScheduler implements Managed {
+  // The members of the pods which died are removed by the ttl index, well after their heartbeat.
+  private static final int MEMBER_RETENTION_LEASES = 10;
+
+  public interface TimeoutHandler {
+    void handle(String timeoutInstanceId, long nextIteration);
+  }
+
+  private final TimeoutWheelConfig config;
+  private final MongoTemplate mongoTemplate;
+  private final String owner = generateUuid();
+  private final Set<Integer> ownedShards = ConcurrentHashMap.newKeySet();
+
+  private HierarchicalTimingWheel<ScheduledTimeout> wheel;
+  private TimeoutHandler handler;
+  private ScheduledExecutorService scheduler;
+  private ExecutorService handlerExecutor;
+  private long lastLoadMillis;
+
+  @Inject
+  public TimeoutWheelScheduler(TimeoutWheelConfig config, MongoTemplate mongoTemplate) {
+    this.config = config;
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  public boolean isEnabled() {
+    return config.isEnabled();
+  }
+
+  public int shardOf(String timeoutInstanceId) {
+    return Math.floorMod(timeoutInstanceId.hashCode(), config.getShardCount());
+  }
+
+  /**
+   * The nextIteration to store for a timeout expiring at given time, so that the iterator only sees it once the wheels
+   * had their chance to fire it.
+   */
+  public long toRecoveryIteration(long expiryMillis) {
+    return expiryMillis >= Long.MAX_VALUE - config.getRecoveryGraceMillis()
+        ? Long.MAX_VALUE
+        : expiryMillis + config.getRecoveryGraceMillis();
+  }
+
+  public synchronized void start(TimeoutHandler handler) {
+    if (!isEnabled() || wheel != null) {
+      return;
+    }
+    this.handler = handler;
+    wheel = new HierarchicalTimingWheel<>(config.getTickMillis(), config.getWheelSize(), System.currentTimeMillis());
+    handlerExecutor = Executors.newFixedThreadPool(config.getHandlerPoolSize(),
+        new ThreadFactoryBuilder().setNameFormat("timeout-wheel-handler-%d").build());
+    scheduler = Executors.newScheduledThreadPool(
+        2, new ThreadFactoryBuilder().setNameFormat("timeout-wheel-%d").setDaemon(true).build());
+    scheduler.scheduleAtFixedRate(this::tick, config.getTickMillis(), config.getTickMillis(), TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(this::refreshShards, 0, config.getShardRefreshMillis(), TimeUnit.MILLISECONDS);
+    log.info("Started timeout wheel {} with {} shards", owner, config.getShardCount());
+  }
+
+  @Override
+  public void start() {
+    // Started by the TimeoutEngine iterators, which provide the handler, see start(TimeoutHandler).
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (wheel == null) {
+      return;
+    }
+    scheduler.shutdownNow();
+    handlerExecutor.shutdown();
+    releaseShards(new ArrayList<>(ownedShards));
+    try {
+      mongoTemplate.remove(query(where(TimeoutWheelMemberKeys.owner).is(owner)), TimeoutWheelMember.class);
+    } catch (Exception ex) {
+      log.warn("Failed to remove timeout wheel member {}", owner, ex);
+    }
+    wheel = null;
+  }
+
+  /**
+   * Schedules the given instance, or drops it from the wheel if its tracker is paused. Does nothing if the wheel is
+   * not started.
+   */
+  public void schedule(TimeoutInstance timeoutInstance) {
+    HierarchicalTimingWheel<ScheduledTimeout> current = wheel;
+    if (current == null) {
+      return;
+    }
+    Long expiryMillis = timeoutInstance.getTracker().getExpiryTime();
+    if (expiryMillis == null) {
+      current.remove(timeoutInstance.getUuid());
+      return;
+    }
+    schedule(current, timeoutInstance.getUuid(), expiryMillis, timeoutInstance.getNextIteration());
+  }
+
+  public void unschedule(Collection<String> timeoutInstanceIds) {
+    HierarchicalTimingWheel<ScheduledTimeout> current = wheel;
+    if (current == null) {
+      return;
+    }
+    timeoutInstanceIds.forEach(current::remove);
+  }
+
+  @VisibleForTesting
+  Set<Integer> getOwnedShards() {
+    return ownedShards;
+  }
+
+  @VisibleForTesting
+  int scheduledCount() {
+    HierarchicalTimingWheel<ScheduledTimeout> current = wheel;
+    return current == null ? 0 : current.size();
+  }
+
+  private void schedule(
+      HierarchicalTimingWheel<ScheduledTimeout> current, String uuid, long expiryMillis, long nextIteration) {
+    ScheduledTimeout scheduledTimeout = new ScheduledTimeout(uuid, nextIteration);
+    if (!current.add(uuid, expiryMillis, scheduledTimeout)) {
+      fire(scheduledTimeout);
+    }
+  }
+
+  private void tick() {
+    try {
+      wheel.advance(System.currentTimeMillis()).forEach(this::fire);
+    } catch (Exception ex) {
+      log.error("Timeout wheel tick failed", ex);
+    }
+  }
+
+  private void fire(ScheduledTimeout scheduledTimeout) {
+    handlerExecutor.submit(() -> {
+      try {
+        handler.handle(scheduledTimeout.getUuid(), scheduledTimeout.getNextIteration());
+      } catch (Exception ex) {
+        log.error("Failed to fire timeout instance {}", scheduledTimeout.getUuid(), ex);
+      }
+    });
+  }
+
+  @VisibleForTesting
+  void refreshShards() {
+    try {
+      long now = System.currentTimeMillis();
+      heartbeat(now);
+      // Counts the pods which own no shard yet too, so that they get their share.
+      long liveMembers = Math.max(1,
+          mongoTemplate.count(
+              query(where(TimeoutWheelMemberKeys.heartbeatUntil).gte(now)), TimeoutWheelMember.class));
+      int fairShare = (int) ((config.getShardCount() + liveMembers - 1) / liveMembers);
+      Set<Integer> leased = new HashSet<>();
+      for (TimeoutWheelShard shard : mongoTemplate.findAll(TimeoutWheelShard.class)) {
+        if (shard.getLeaseUntil() >= now) {
+          leased.add(shard.getShard());
+        }
+      }
+
+      for (Integer shard : new ArrayList<>(ownedShards)) {
+        if (!tryLease(shard, now, false)) {
+          log.warn("Lost the lease of timeout wheel shard {}", shard);
+          ownedShards.remove(shard);
+        }
+      }
+
+      // Hand over the extra shards to the pods which joined, they pick them up on their next refresh.
+      List<Integer> extra = new ArrayList<>();
+      for (Integer shard : ownedShards) {
+        if (ownedShards.size() - extra.size() <= fairShare) {
+          break;
+        }
+        extra.add(shard);
+      }
+      releaseShards(extra);
+
+      List<Integer> acquired = new ArrayList<>();
+      for (int shard = 0; shard < config.getShardCount() && ownedShards.size() < fairShare; shard++) {
+        if (!leased.contains(shard) && tryLease(shard, now, true)) {
+          ownedShards.add(shard);
+          acquired.add(shard);
+        }
+      }
+
+      if (now - lastLoadMillis >= config.getLoadHorizonMillis() / 2) {
+        load(ownedShards, now);
+        lastLoadMillis = now;
+      } else if (!acquired.isEmpty()) {
+        load(acquired, now);
+      }
+    } catch (Exception ex) {
+      log.error("Failed to refresh timeout wheel shards", ex);
+    }
+  }
+
+  private void heartbeat(long now) {
+    mongoTemplate.upsert(query(where(TimeoutWheelMemberKeys.owner).is(owner)),
+        new Update()
+            .set(TimeoutWheelMemberKeys.heartbeatUntil, now + config.getShardLeaseMillis())
+            .set(TimeoutWheelMemberKeys.validUntil,
+                new Date(now + MEMBER_RETENTION_LEASES * config.getShardLeaseMillis())),
+        TimeoutWheelMember.class);
+  }
+
+  private boolean tryLease(int shard, long now, boolean acquire) {
+    Criteria criteria = where(TimeoutWheelShardKeys.shard).is(shard);
+    if (acquire) {
+      criteria.orOperator(
+          where(TimeoutWheelShardKeys.leaseUntil).lt(now), where(TimeoutWheelShardKeys.owner).is(owner));
+    } else {
+      criteria.and(TimeoutWheelShardKeys.owner).is(owner);
+    }
+    Update update = new Update()
+                        .set(TimeoutWheelShardKeys.owner, owner)
+                        .set(TimeoutWheelShardKeys.leaseUntil, now + config.getShardLeaseMillis());
+    try {
+      return mongoTemplate.findAndModify(query(criteria), update,
+                 new FindAndModifyOptions().upsert(acquire).returnNew(true), TimeoutWheelShard.class)
+          != null;
+    } catch (DuplicateKeyException ex) {
+      // Another pod holds the lease.
+      return false;
+    }
+  }
+
+  private void releaseShards(Collection<Integer> shards) {
+    for (Integer shard : shards) {
+      try {
+        mongoTemplate.updateFirst(
+            query(where(TimeoutWheelShardKeys.shard).is(shard).and(TimeoutWheelShardKeys.owner).is(owner)),
+            new Update().set(TimeoutWheelShardKeys.leaseUntil, 0L), TimeoutWheelShard.class);
+      } catch (Exception ex) {
+        log.warn("Failed to release timeout wheel shard {}", shard, ex);
+      }
+      ownedShards.remove(shard);
+    }
+  }
+
+  private void load(Collection<Integer> shards, long now) {
+    HierarchicalTimingWheel<ScheduledTimeout> current = wheel;
+    if (current == null || shards.isEmpty()) {
+      return;
+    }
+    // Uses - shard_nextIteration idx
+    Query query = query(where(TimeoutInstanceKeys.shard)
+                            .in(shards)
+                            .and(TimeoutInstanceKeys.nextIteration)
+                            .lt(toRecoveryIteration(now + config.getLoadHorizonMillis())));
+    query.fields().include(TimeoutInstanceKeys.uuid).include(TimeoutInstanceKeys.nextIteration);
+    int loaded = 0;
+    for (TimeoutInstance timeoutInstance : mongoTemplate.find(query, TimeoutInstance.class)) {
+      long nextIteration = timeoutInstance.getNextIteration();
+      schedule(current, timeoutInstance.getUuid(), nextIteration - config.getRecoveryGraceMillis(), nextIteration);
+      loaded++;
+    }
+    log.info("Loaded {} timeout instances of {} timeout wheel shards", loaded, shards.size());
+  }
+
+  @Value
+  private static class ScheduledTimeout {
+    String uuid;
+    long nextIteration;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+
+import dev.morphia.annotations.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Lease of a timeout wheel shard, see {@link TimeoutWheelScheduler}.
+ */
+@OwnedBy(CDC)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldNameConstants(innerTypeName = "TimeoutWheelShardKeys")
+@StoreIn(DbAliases.PMS)
+@Entity(value = "timeoutWheelShards", noClassnameStored = true)
+@Document("timeoutWheelShards")
+@TypeAlias("timeoutWheelShard")
+public class TimeoutWheelShard implements PersistentEntity {
+  @Id @dev.morphia.annotations.Id Integer shard;
+  String owner;
+  long leaseUntil;
+}
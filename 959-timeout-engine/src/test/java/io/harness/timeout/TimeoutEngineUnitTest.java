@@ -7,6 +7,7 @@
 
 package io.harness.timeout;
 
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.ARCHIT;
 import static io.harness.rule.OwnerRule.GARVIT;
 import static io.harness.rule.OwnerRule.PRASHANT;
@@ -26,20 +27,26 @@ import io.harness.persistence.HPersistence;
 import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.rule.Owner;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTracker;
+import io.harness.timeout.wheel.TimeoutWheelConfig;
+import io.harness.timeout.wheel.TimeoutWheelScheduler;
 
 import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.Mock;
+import org.springframework.data.mongodb.core.MongoTemplate;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
   @Mock TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private TimeoutEngine timeoutEngine;
   @Inject private HPersistence hPersistence;
+  @Inject private MongoTemplate mongoTemplate;
 
   @Test
   @Owner(developers = GARVIT)
@@ -86,6 +93,54 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     verify(timeoutInstanceRepository, times(2)).deleteByUuidIn(any());
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testHandleScheduledFiresOnlyUnchangedInstance() {
+    TimeoutInstance instance =
+        timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(1000), new TestTimeoutCallback());
+
+    // Rescheduled since it was put on the wheel.
+    timeoutEngine.handleScheduled(instance.getUuid(), instance.getNextIteration() + 1);
+    assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNotNull();
+
+    timeoutEngine.handleScheduled(instance.getUuid(), instance.getNextIteration());
+    assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNull();
+
+    // Already fired.
+    timeoutEngine.handleScheduled(instance.getUuid(), instance.getNextIteration());
+    assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNull();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testRegisterTimeoutFiresFromEnabledWheel() throws InterruptedException {
+    TimeoutWheelConfig config = TimeoutWheelConfig.builder().enabled(true).tickMillis(10).shardCount(4).build();
+    TimeoutWheelScheduler timeoutWheelScheduler = new TimeoutWheelScheduler(config, mongoTemplate);
+    TimeoutWheelScheduler disabledScheduler = on(timeoutEngine).get("timeoutWheelScheduler");
+    on(timeoutEngine).set("timeoutWheelScheduler", timeoutWheelScheduler);
+    CountDownLatch fired = new CountDownLatch(1);
+    timeoutWheelScheduler.start((timeoutInstanceId, nextIteration) -> {
+      timeoutEngine.handleScheduled(timeoutInstanceId, nextIteration);
+      fired.countDown();
+    });
+    try {
+      long registeredAt = System.currentTimeMillis();
+      TimeoutInstance instance =
+          timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(200), new TestTimeoutCallback());
+      assertThat(instance.getShard()).isEqualTo(timeoutWheelScheduler.shardOf(instance.getUuid()));
+      // The iterator only picks the instance up if the wheel missed it.
+      assertThat(instance.getNextIteration()).isGreaterThanOrEqualTo(registeredAt + config.getRecoveryGraceMillis());
+
+      assertThat(fired.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNull();
+    } finally {
+      timeoutWheelScheduler.stop();
+      on(timeoutEngine).set("timeoutWheelScheduler", disabledScheduler);
+    }
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
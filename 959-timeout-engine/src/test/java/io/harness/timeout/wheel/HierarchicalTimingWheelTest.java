@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(CDC)
+public class HierarchicalTimingWheelTest extends CategoryTest {
+  private static final long START = 1_000_000L;
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldExpireWithinOneTick() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+    assertThat(wheel.add("near", START + 25, "near")).isTrue();
+    assertThat(wheel.add("far", START + 5_000, "far")).isTrue();
+
+    assertThat(wheel.advance(START + 29)).isEmpty();
+    assertThat(wheel.advance(START + 30)).containsExactly("near");
+    assertThat(wheel.advance(START + 5_009)).isEmpty();
+    assertThat(wheel.advance(START + 5_010)).containsExactly("far");
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotScheduleExpiredDeadline() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+    assertThat(wheel.add("past", START - 1, "past")).isFalse();
+    assertThat(wheel.contains("past")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRemoveAndReplace() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+    wheel.add("a", START + 15, "a1");
+    wheel.add("b", START + 15, "b");
+    wheel.add("a", START + 500, "a2");
+    assertThat(wheel.remove("b")).isEqualTo("b");
+
+    assertThat(wheel.advance(START + 100)).isEmpty();
+    assertThat(wheel.advance(START + 510)).containsExactly("a2");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldHandleLargeJumpsAndUnreachableDeadlines() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+    wheel.add("day", START + 86_400_000L, "day");
+    wheel.add("never", Long.MAX_VALUE, "never");
+
+    assertThat(wheel.advance(START + 86_400_000L)).isEmpty();
+    assertThat(wheel.advance(START + 90_000_000L)).containsExactly("day");
+    assertThat(wheel.contains("never")).isTrue();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNeverFireEarlyOrLate() {
+    HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 4, START);
+    Random random = new Random(42);
+    List<Long> deadlines = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      long deadline = START + random.nextInt(100_000);
+      deadlines.add(deadline);
+      wheel.add(String.valueOf(i), deadline, deadline);
+    }
+
+    int fired = 0;
+    for (long now = START; now <= START + 100_020; now += 1 + random.nextInt(7)) {
+      for (Long deadline : wheel.advance(now)) {
+        assertThat(deadline).isLessThan(now);
+        assertThat(now - deadline).isLessThanOrEqualTo(20);
+        fired++;
+      }
+    }
+    assertThat(fired).isEqualTo(deadlines.size());
+  }
+}
@@ -57,6 +57,12 @@ public class DelegateConfiguration {
   private Integer grpcServiceConnectorPort;
 
   private String logStreamingServiceBaseUrl;
+  /*
+   * Memory cap of the task log lines buffered by all the tasks before they are pushed to the log service. Lines above
+   * the cap are spilled to logStreamingSpillDirectory if it is set, otherwise the writing task waits for room.
+   */
+  private Long logStreamingMaxBufferedBytes;
+  private String logStreamingSpillDirectory;
   private boolean clientToolsDownloadDisabled;
   private boolean installClientToolsInBackground;
   private boolean dynamicHandlingOfRequestEnabled;
@@ -7,4 +7,4 @@
 
 package io.harness.cache;
 
-public enum CacheBackend { NOOP, CAFFEINE, HAZELCAST, REDIS }
+public enum CacheBackend { NOOP, CAFFEINE, HAZELCAST, REDIS, REDIS_NEAR_CACHE }
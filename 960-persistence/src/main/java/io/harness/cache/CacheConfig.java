@@ -24,4 +24,9 @@ public class CacheConfig {
   String cacheNamespace;
   Set<String> disabledCaches;
   @JsonProperty(defaultValue = "false") boolean enterpriseCacheEnabled;
+  // Local tier of the REDIS_NEAR_CACHE backend, only for the listed caches as their values are shared by the readers
+  Set<String> nearCaches;
+  // 0 selects the default
+  int nearCacheMaximumSize;
+  int nearCacheExpireAfterWriteSeconds;
 }
@@ -9,17 +9,21 @@ package io.harness.cache;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.cache.CacheBackend.REDIS;
+import static io.harness.cache.CacheBackend.REDIS_NEAR_CACHE;
 
 import static javax.cache.Caching.getCachingProvider;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.govern.ProviderMethodInterceptor;
 import io.harness.govern.ServersModule;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.redis.RedissonKryoCodec;
 
 import com.google.common.io.Files;
 import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.Provider;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
@@ -176,13 +180,14 @@ public class CacheModule extends AbstractModule implements ServersModule {
   @Singleton
   public HarnessCacheManager getHarnessCacheManager(@Named("Redis") Provider<CacheManager> redisProvider,
       @Named("EnterpriseRedis") Provider<Optional<CacheManager>> enterpriseRedisProvider,
-      @Named("Caffeine") Provider<CacheManager> caffeineProvider) {
+      @Named("Caffeine") Provider<CacheManager> caffeineProvider, Injector injector) {
     CacheBackend cacheBackend = cacheConfig.getCacheBackend();
     switch (cacheBackend) {
       case NOOP:
       case HAZELCAST:
         return new NoOpHarnessCacheManager();
       case REDIS:
+      case REDIS_NEAR_CACHE:
         this.cacheManager = redisProvider.get();
         this.enterpriseRedisCacheManagerOptional = enterpriseRedisProvider.get();
         break;
@@ -192,7 +197,10 @@ public class CacheModule extends AbstractModule implements ServersModule {
       default:
         throw new UnsupportedOperationException();
     }
-    return new HarnessCacheManagerImpl(cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig);
+    // The metrics of the near cache are exported by the services which bind a MetricService
+    Binding<MetricService> metricServiceBinding = injector.getExistingBinding(Key.get(MetricService.class));
+    MetricService metricService = metricServiceBinding == null ? null : metricServiceBinding.getProvider().get();
+    return new HarnessCacheManagerImpl(cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig, metricService);
   }
 
   public static <T, R> Supplier<R> bind(Function<T, R> fn, T val) {
@@ -201,7 +209,7 @@ public class CacheModule extends AbstractModule implements ServersModule {
 
   @Override
   protected void configure() {
-    if (cacheConfig.getCacheBackend() == REDIS) {
+    if (cacheConfig.getCacheBackend() == REDIS || cacheConfig.getCacheBackend() == REDIS_NEAR_CACHE) {
       bind(RedissonKryoCodec.class).toInstance(new RedissonKryoCodec());
     }
     MapBinder.newMapBinder(binder(), TypeLiteral.get(String.class), new TypeLiteral<Cache<?, ?>>() {});
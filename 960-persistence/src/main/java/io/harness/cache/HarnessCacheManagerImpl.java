@@ -9,14 +9,19 @@ package io.harness.cache;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.cache.CacheBackend.CAFFEINE;
+import static io.harness.cache.CacheBackend.REDIS_NEAR_CACHE;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.threading.Morpheus.sleep;
 
 import static java.time.Duration.ofMillis;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import javax.cache.Cache;
 import javax.cache.CacheException;
@@ -32,15 +37,25 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
   private final CacheManager cacheManager;
   private final Optional<CacheManager> enterpriseRedisCacheManagerOptional;
   private final CacheConfig cacheConfig;
+  private final MetricService metricService;
+  private final Map<String, NearCache<?, ?>> nearCaches = new ConcurrentHashMap<>();
   static final String CACHE_PREFIX = "hCache";
   private static final int NUM_OF_RETRIES = 3;
   private static final int WAIT_TIME_BETWEEN_RETRIES = 1000;
+  private static final int DEFAULT_NEAR_CACHE_MAXIMUM_SIZE = 10000;
+  private static final int DEFAULT_NEAR_CACHE_EXPIRE_AFTER_WRITE_SECONDS = 60;
 
   HarnessCacheManagerImpl(
       CacheManager cacheManager, Optional<CacheManager> enterpriseRedisCacheManagerOptional, CacheConfig cacheConfig) {
+    this(cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig, null);
+  }
+
+  HarnessCacheManagerImpl(CacheManager cacheManager, Optional<CacheManager> enterpriseRedisCacheManagerOptional,
+      CacheConfig cacheConfig, MetricService metricService) {
     this.cacheManager = cacheManager;
     this.enterpriseRedisCacheManagerOptional = enterpriseRedisCacheManagerOptional;
     this.cacheConfig = cacheConfig;
+    this.metricService = metricService;
   }
 
   @Override
@@ -72,6 +87,7 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
     return new VersionedCache<>(jCache, keyPrefix);
   }
 
+  @SuppressWarnings("unchecked")
   private <K, V> Cache<K, V> getCacheInternal(String cacheName, Class<K> keyType, Class<V> valueType,
       Factory<ExpiryPolicy> expiryPolicy, boolean enterpriseRedis) {
     if (isCacheDisabled(cacheName)) {
@@ -92,6 +108,19 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
         ? enterpriseRedisCacheManagerOptional.get()
         : cacheManager;
 
+    if (cacheConfig.getCacheBackend() != REDIS_NEAR_CACHE || !isNearCacheEnabled(cacheName)) {
+      return getOrCreateCache(manager, internalCacheName, keyType, valueType, jCacheConfiguration);
+    }
+    // One near cache per Redis cache, so that there is a single local copy and a single invalidation listener
+    String nearCacheName = (manager == cacheManager ? "" : "enterprise:").concat(internalCacheName);
+    return (Cache<K, V>) nearCaches.computeIfAbsent(nearCacheName,
+        name
+        -> new NearCache<>(getOrCreateCache(manager, internalCacheName, keyType, valueType, jCacheConfiguration),
+            nearCacheMaximumSize(), nearCacheExpireAfterWrite(), metricService));
+  }
+
+  private <K, V> Cache<K, V> getOrCreateCache(CacheManager manager, String internalCacheName, Class<K> keyType,
+      Class<V> valueType, MutableConfiguration<K, V> jCacheConfiguration) {
     int failedAttempts = 0;
     while (true) {
       try {
@@ -109,11 +138,31 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
     }
   }
 
+  private long nearCacheMaximumSize() {
+    return cacheConfig.getNearCacheMaximumSize() > 0 ? cacheConfig.getNearCacheMaximumSize()
+                                                     : DEFAULT_NEAR_CACHE_MAXIMUM_SIZE;
+  }
+
+  private Duration nearCacheExpireAfterWrite() {
+    return Duration.ofSeconds(cacheConfig.getNearCacheExpireAfterWriteSeconds() > 0
+            ? cacheConfig.getNearCacheExpireAfterWriteSeconds()
+            : DEFAULT_NEAR_CACHE_EXPIRE_AFTER_WRITE_SECONDS);
+  }
+
   private boolean isCacheExistsError(CacheException ce, String cacheName) {
     return ce.getMessage().equalsIgnoreCase("Cache " + cacheName + " already exists")
         || ce.getMessage().equalsIgnoreCase("A cache named " + cacheName + " already exists.");
   }
 
+  // The local tier returns the same value instance to every reader, so it is kept only for the caches of immutable
+  // values listed in the configuration.
+  private boolean isNearCacheEnabled(String cacheName) {
+    if (isEmpty(cacheConfig.getNearCaches())) {
+      return false;
+    }
+    return Stream.of(cacheName.split(":")).anyMatch(value -> cacheConfig.getNearCaches().contains(value));
+  }
+
   private boolean isCacheDisabled(String cacheName) {
     if (isEmpty(cacheConfig.getDisabledCaches())) {
       return false;
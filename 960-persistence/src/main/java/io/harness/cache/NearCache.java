@@ -0,0 +1,367 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.beans.CacheMetricContext;
+import io.harness.metrics.service.api.MetricService;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+import javax.cache.integration.CompletionListener;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache keeping the recently read entries of a Redis cache in a bounded local cache, so that repeated reads do not cost
+ * a Redis round trip and a Kryo decode.
+ *
+ * Writes go to Redis and drop the local entry. The other instances drop theirs when Redis publishes the update,
+ * removal or expiry of the entry to the listener registered by every near cache. The publication is not guaranteed,
+ * so the local entries also expire after a short time, which bounds how stale a served entry can be.
+ *
+ * The same value instance is returned to every reader of a local entry, while Redis decodes a new one on every read.
+ * A reader modifying the value would change it for the others, so {@link HarnessCacheManagerImpl} puts a near cache
+ * only in front of the caches listed in {@link CacheConfig#getNearCaches()}, which must hold immutable values.
+ *
+ * {@link VersionedCache} wraps the near cache like any other cache, the local entries are keyed by the versioned key.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class NearCache<K, V> implements Cache<K, V> {
+  public static final String NEAR_CACHE_HIT = "near_cache_hit";
+  public static final String NEAR_CACHE_MISS = "near_cache_miss";
+  public static final String NEAR_CACHE_INVALIDATION = "near_cache_invalidation";
+  public static final String NEAR_CACHE_ENTRY_AGE = "near_cache_entry_age";
+
+  private final Cache<K, V> remoteCache;
+  private final com.github.benmanes.caffeine.cache.Cache<K, LocalEntry<V>> localCache;
+  private final MetricService metricService;
+  // Incremented on every invalidation, a value read from Redis is kept locally only if no invalidation happened
+  // during the read, otherwise it could be older than the invalidated one.
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  @Value
+  private static class LocalEntry<V> {
+    V value;
+    long createdAt;
+  }
+
+  /**
+   * @param metricService null when the service does not export metrics
+   */
+  public NearCache(Cache<K, V> remoteCache, long maximumSize, Duration expireAfterWrite, MetricService metricService) {
+    this.remoteCache = remoteCache;
+    this.localCache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+    this.metricService = metricService;
+    InvalidationListener invalidationListener = new InvalidationListener();
+    remoteCache.registerCacheEntryListener(new MutableCacheEntryListenerConfiguration<>(
+        (Factory<CacheEntryListener<? super K, ? super V>>) () -> invalidationListener, null, false, false));
+  }
+
+  private class InvalidationListener implements CacheEntryUpdatedListener<K, V>, CacheEntryRemovedListener<K, V>,
+                                                CacheEntryExpiredListener<K, V> {
+    @Override
+    public void onUpdated(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      invalidate(events);
+    }
+
+    @Override
+    public void onRemoved(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      invalidate(events);
+    }
+
+    @Override
+    public void onExpired(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      invalidate(events);
+    }
+
+    private void invalidate(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      for (CacheEntryEvent<? extends K, ? extends V> event : events) {
+        invalidateLocal(event.getKey());
+        incCounter(NEAR_CACHE_INVALIDATION);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void invalidateLocal(K key) {
+    invalidationCount.incrementAndGet();
+    localCache.invalidate(key);
+  }
+
+  private void invalidateAllLocal() {
+    invalidationCount.incrementAndGet();
+    localCache.invalidateAll();
+  }
+
+  private void putLocal(K key, V value, long observedInvalidationCount) {
+    if (value == null) {
+      return;
+    }
+    localCache.put(key, new LocalEntry<>(value, System.currentTimeMillis()));
+    // An invalidation which raced with the read may have missed the entry, drop it then.
+    if (invalidationCount.get() != observedInvalidationCount) {
+      localCache.invalidate(key);
+    }
+  }
+
+  private V getLocal(K key) {
+    LocalEntry<V> entry = localCache.getIfPresent(key);
+    if (entry == null) {
+      incCounter(NEAR_CACHE_MISS);
+      return null;
+    }
+    incCounter(NEAR_CACHE_HIT);
+    recordDuration(NEAR_CACHE_ENTRY_AGE, Duration.ofMillis(System.currentTimeMillis() - entry.getCreatedAt()));
+    return entry.getValue();
+  }
+
+  private void incCounter(String metricName) {
+    if (metricService == null) {
+      return;
+    }
+    try (CacheMetricContext ignore = new CacheMetricContext(getName())) {
+      metricService.incCounter(metricName);
+    } catch (RuntimeException e) {
+      log.debug("Failed to record metric {} for cache {}", metricName, getName(), e);
+    }
+  }
+
+  private void recordDuration(String metricName, Duration duration) {
+    if (metricService == null) {
+      return;
+    }
+    try (CacheMetricContext ignore = new CacheMetricContext(getName())) {
+      metricService.recordDuration(metricName, duration);
+    } catch (RuntimeException e) {
+      log.debug("Failed to record metric {} for cache {}", metricName, getName(), e);
+    }
+  }
+
+  @Override
+  public V get(K key) {
+    V value = getLocal(key);
+    if (value != null) {
+      return value;
+    }
+    long observedInvalidationCount = invalidationCount.get();
+    value = remoteCache.get(key);
+    putLocal(key, value, observedInvalidationCount);
+    return value;
+  }
+
+  @Override
+  public Map<K, V> getAll(Set<? extends K> keys) {
+    Map<K, V> result = new HashMap<>();
+    Set<K> missingKeys = new HashSet<>();
+    for (K key : keys) {
+      V value = getLocal(key);
+      if (value != null) {
+        result.put(key, value);
+      } else {
+        missingKeys.add(key);
+      }
+    }
+    if (missingKeys.isEmpty()) {
+      return result;
+    }
+
+    long observedInvalidationCount = invalidationCount.get();
+    Map<K, V> remoteValues = remoteCache.getAll(missingKeys);
+    if (remoteValues != null) {
+      remoteValues.forEach((key, value) -> putLocal(key, value, observedInvalidationCount));
+      result.putAll(remoteValues);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    return localCache.getIfPresent(key) != null || remoteCache.containsKey(key);
+  }
+
+  @Override
+  public void loadAll(Set<? extends K> keys, boolean replaceExistingValues, CompletionListener completionListener) {
+    remoteCache.loadAll(keys, replaceExistingValues, completionListener);
+  }
+
+  @Override
+  public void put(K key, V value) {
+    remoteCache.put(key, value);
+    invalidateLocal(key);
+  }
+
+  @Override
+  public V getAndPut(K key, V value) {
+    V previous = remoteCache.getAndPut(key, value);
+    invalidateLocal(key);
+    return previous;
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> map) {
+    remoteCache.putAll(map);
+    map.keySet().forEach(this::invalidateLocal);
+  }
+
+  @Override
+  public boolean putIfAbsent(K key, V value) {
+    boolean put = remoteCache.putIfAbsent(key, value);
+    invalidateLocal(key);
+    return put;
+  }
+
+  @Override
+  public boolean remove(K key) {
+    boolean removed = remoteCache.remove(key);
+    invalidateLocal(key);
+    return removed;
+  }
+
+  @Override
+  public boolean remove(K key, V oldValue) {
+    boolean removed = remoteCache.remove(key, oldValue);
+    invalidateLocal(key);
+    return removed;
+  }
+
+  @Override
+  public V getAndRemove(K key) {
+    V previous = remoteCache.getAndRemove(key);
+    invalidateLocal(key);
+    return previous;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    boolean replaced = remoteCache.replace(key, oldValue, newValue);
+    invalidateLocal(key);
+    return replaced;
+  }
+
+  @Override
+  public boolean replace(K key, V value) {
+    boolean replaced = remoteCache.replace(key, value);
+    invalidateLocal(key);
+    return replaced;
+  }
+
+  @Override
+  public V getAndReplace(K key, V value) {
+    V previous = remoteCache.getAndReplace(key, value);
+    invalidateLocal(key);
+    return previous;
+  }
+
+  @Override
+  public void removeAll(Set<? extends K> keys) {
+    remoteCache.removeAll(keys);
+    keys.forEach(this::invalidateLocal);
+  }
+
+  @Override
+  public void removeAll() {
+    remoteCache.removeAll();
+    invalidateAllLocal();
+  }
+
+  @Override
+  public void clear() {
+    remoteCache.clear();
+    invalidateAllLocal();
+  }
+
+  @Override
+  public <C extends Configuration<K, V>> C getConfiguration(Class<C> clazz) {
+    return remoteCache.getConfiguration(clazz);
+  }
+
+  @Override
+  public <T> T invoke(K key, EntryProcessor<K, V, T> entryProcessor, Object... arguments)
+      throws EntryProcessorException {
+    T result = remoteCache.invoke(key, entryProcessor, arguments);
+    invalidateLocal(key);
+    return result;
+  }
+
+  @Override
+  public <T> Map<K, EntryProcessorResult<T>> invokeAll(
+      Set<? extends K> keys, EntryProcessor<K, V, T> entryProcessor, Object... arguments) {
+    Map<K, EntryProcessorResult<T>> result = remoteCache.invokeAll(keys, entryProcessor, arguments);
+    keys.forEach(this::invalidateLocal);
+    return result;
+  }
+
+  @Override
+  public String getName() {
+    return remoteCache.getName();
+  }
+
+  @Override
+  public CacheManager getCacheManager() {
+    return remoteCache.getCacheManager();
+  }
+
+  @Override
+  public void close() {
+    invalidateAllLocal();
+    remoteCache.close();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return remoteCache.isClosed();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> clazz) {
+    if (clazz.isAssignableFrom(getClass())) {
+      return clazz.cast(this);
+    }
+    return remoteCache.unwrap(clazz);
+  }
+
+  @Override
+  public void registerCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration) {
+    remoteCache.registerCacheEntryListener(cacheEntryListenerConfiguration);
+  }
+
+  @Override
+  public void deregisterCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration) {
+    remoteCache.deregisterCacheEntryListener(cacheEntryListenerConfiguration);
+  }
+
+  @Override
+  public Iterator<Entry<K, V>> iterator() {
+    return remoteCache.iterator();
+  }
+}
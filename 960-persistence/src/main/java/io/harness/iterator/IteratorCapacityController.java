@@ -0,0 +1,178 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.iterator;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_LAG;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_THREAD_POOL_SIZE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adapts the number of worker threads of an iterator to its lag, the time between the next iteration of the entities
+ * and the moment they are picked up.
+ *
+ * The workers record the lag of every entity they process and the controller periodically compares its moving average
+ * with the acceptable lag. The busy workers are sampled every second and averaged over the adjust interval. The pool
+ * grows by a quarter, up to the maximum, while the lag is too high and the workers were busy nearly all the time, and
+ * shrinks by one thread, down to the configured size, while the lag is low and the workers were mostly idle. A high lag
+ * with idle workers means the iterator is limited by something else than threads, so the pool is left as it is. When
+ * no entity was picked up during an interval while workers were free, nothing was due and the lag average is halved.
+ * The lag and the pool size are published as iterator metrics.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class IteratorCapacityController {
+  private static final Duration ADJUST_INTERVAL = Duration.ofSeconds(30);
+  private static final Duration BUSY_SAMPLE_INTERVAL = Duration.ofSeconds(1);
+  private static final double BUSY_RATIO_TO_GROW = 0.9;
+  private static final int LAG_AVG_MULTIPLIER = 7; // The multiplier to be used for the moving average of the lag
+  private static final int LAG_AVG_DIVISOR = 8; // The divisor to be used for the moving average of the lag
+
+  private final String iteratorName;
+  private final ScheduledThreadPoolExecutor workerPool;
+  @Getter private final ResizableSemaphore semaphore;
+  private final int minPoolSize;
+  private final int maxPoolSize;
+  private final long acceptableLagMillis;
+  private final PersistenceMetricsServiceImpl iteratorMetricsService;
+
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final AtomicLong lagSamples = new AtomicLong();
+  @Getter private int poolSize;
+  // The busy workers and the pool size summed over the samples of the current interval.
+  private long busySum;
+  private long poolSizeSum;
+  private ScheduledFuture<?> adjustFuture;
+  private ScheduledFuture<?> sampleFuture;
+
+  public IteratorCapacityController(String iteratorName, ScheduledThreadPoolExecutor workerPool, int minPoolSize,
+      int maxPoolSize, Duration acceptableLag, PersistenceMetricsServiceImpl iteratorMetricsService) {
+    this.iteratorName = iteratorName;
+    this.workerPool = workerPool;
+    this.semaphore = new ResizableSemaphore(minPoolSize);
+    this.minPoolSize = minPoolSize;
+    this.maxPoolSize = Math.max(minPoolSize, maxPoolSize);
+    this.acceptableLagMillis = acceptableLag.toMillis();
+    this.iteratorMetricsService = iteratorMetricsService;
+    this.poolSize = minPoolSize;
+  }
+
+  public synchronized void start(ScheduledExecutorService scheduler) {
+    sampleFuture = scheduler.scheduleWithFixedDelay(this::sampleBusy, BUSY_SAMPLE_INTERVAL.toMillis(),
+        BUSY_SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    adjustFuture = scheduler.scheduleWithFixedDelay(
+        this::adjust, ADJUST_INTERVAL.toMillis(), ADJUST_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records the lag of an entity picked up by a worker.
+   */
+  public void recordLag(long entityLagMillis) {
+    lagMillis.updateAndGet(
+        current -> (LAG_AVG_MULTIPLIER * current + Math.max(0, entityLagMillis)) / LAG_AVG_DIVISOR);
+    lagSamples.incrementAndGet();
+  }
+
+  public long getLagMillis() {
+    return lagMillis.get();
+  }
+
+  @VisibleForTesting
+  synchronized void sampleBusy() {
+    busySum += poolSize - semaphore.availablePermits();
+    poolSizeSum += poolSize;
+  }
+
+  @VisibleForTesting
+  synchronized void adjust() {
+    if (workerPool.isShutdown()) {
+      // The iterator was stopped, a new controller comes with the new executor.
+      if (adjustFuture != null) {
+        adjustFuture.cancel(false);
+      }
+      if (sampleFuture != null) {
+        sampleFuture.cancel(false);
+      }
+      return;
+    }
+
+    try {
+      double busyRatio = getBusyRatio();
+      if (lagSamples.getAndSet(0) == 0 && busyRatio < 1) {
+        lagMillis.updateAndGet(current -> current / 2);
+      }
+      long lag = lagMillis.get();
+      int newPoolSize = poolSize;
+      if (lag > acceptableLagMillis && busyRatio >= BUSY_RATIO_TO_GROW) {
+        newPoolSize = Math.min(maxPoolSize, poolSize + Math.max(1, poolSize / 4));
+      } else if (lag < acceptableLagMillis / 2 && busyRatio <= 0.5) {
+        newPoolSize = Math.max(minPoolSize, poolSize - 1);
+      }
+
+      if (newPoolSize != poolSize) {
+        log.info("Resizing the worker pool of iterator {} from {} to {} threads, lag {}ms, {}% busy", iteratorName,
+            poolSize, newPoolSize, lag, Math.round(busyRatio * 100));
+        resize(newPoolSize);
+      }
+
+      iteratorMetricsService.recordIteratorMetricValue(iteratorName, lag, ITERATOR_LAG);
+      iteratorMetricsService.recordIteratorMetricValue(iteratorName, poolSize, ITERATOR_THREAD_POOL_SIZE);
+    } catch (RuntimeException e) {
+      log.error("Failed to adjust the worker pool of iterator {}", iteratorName, e);
+    }
+  }
+
+  // The average share of busy workers since the last adjustment, or the current share if no sample was taken.
+  private double getBusyRatio() {
+    if (poolSizeSum == 0) {
+      sampleBusy();
+    }
+    double busyRatio = (double) busySum / poolSizeSum;
+    busySum = 0;
+    poolSizeSum = 0;
+    return busyRatio;
+  }
+
+  private void resize(int newPoolSize) {
+    if (newPoolSize > poolSize) {
+      workerPool.setCorePoolSize(newPoolSize);
+      semaphore.release(newPoolSize - poolSize);
+    } else {
+      semaphore.reducePermits(poolSize - newPoolSize);
+      workerPool.setCorePoolSize(newPoolSize);
+    }
+    poolSize = newPoolSize;
+  }
+
+  /**
+   * Semaphore limiting the entities processed at the same time, its permits follow the size of the pool.
+   */
+  public static class ResizableSemaphore extends Semaphore {
+    ResizableSemaphore(int permits) {
+      super(permits);
+    }
+
+    @Override
+    protected void reducePermits(int reduction) {
+      super.reducePermits(reduction);
+    }
+  }
+}
@@ -22,6 +22,8 @@ public interface IteratorExecutionHandler {
     String name;
     boolean enabled;
     int threadPoolSize;
+    // Upper bound of the worker threads when the pool adapts to the iterator lag, 0 keeps threadPoolSize fixed.
+    int maxThreadPoolSize;
     int threadPoolIntervalInSeconds;
     String nextIterationMode;
     int targetIntervalInSeconds;
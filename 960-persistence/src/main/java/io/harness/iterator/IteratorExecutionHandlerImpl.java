@@ -239,6 +239,7 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
         .createAndStartRedisBatchIterator(PersistenceIteratorFactory.RedisBatchExecutorOptions.builder()
                                               .name(config.getName())
                                               .poolSize(config.getThreadPoolSize())
+                                              .maxPoolSize(config.getMaxThreadPoolSize())
                                               .batchSize(redisBatchSize)
                                               .lockTimeout(redisLockTimeout)
                                               .interval(getIntervalDuration(config.getThreadPoolIntervalInSeconds()))
@@ -256,6 +257,7 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
         .createAndStartIterator(PersistenceIteratorFactory.PumpExecutorOptions.builder()
                                     .name(config.getName())
                                     .poolSize(config.getThreadPoolSize())
+                                    .maxPoolSize(config.getMaxThreadPoolSize())
                                     .interval(getIntervalDuration(config.getThreadPoolIntervalInSeconds()))
                                     .build(),
             getNextIterationInterval(config));
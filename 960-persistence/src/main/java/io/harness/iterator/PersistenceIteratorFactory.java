@@ -18,6 +18,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.config.WorkersConfiguration;
 import io.harness.lock.PersistentLocker;
 import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.FilterExpander;
@@ -33,6 +34,7 @@ import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -51,11 +53,15 @@ public final class PersistenceIteratorFactory {
   @Inject WorkersConfiguration workersConfiguration;
   @Inject HarnessMetricRegistry harnessMetricRegistry;
 
+  private ScheduledExecutorService capacityScheduler;
+
   @Value
   @Builder
   public static class PumpExecutorOptions {
     private String name;
     private int poolSize;
+    // The pool grows up to this size when the iterator lags behind, no adaptation when not above poolSize.
+    private int maxPoolSize;
     private Duration interval;
   }
 
@@ -64,6 +70,8 @@ public final class PersistenceIteratorFactory {
   public static class RedisBatchExecutorOptions {
     private String name;
     private int poolSize;
+    // The pool grows up to this size when the iterator lags behind, no adaptation when not above poolSize.
+    private int maxPoolSize;
     private int batchSize;
     private int lockTimeout;
     private Duration interval;
@@ -107,12 +115,16 @@ public final class PersistenceIteratorFactory {
     InstrumentedExecutorService instrumentedExecutorService =
         new InstrumentedExecutorService(executor, metricRegistry, iteratorName);
 
+    IteratorCapacityController capacityController =
+        createCapacityController(options.name, executor, options.poolSize, options.maxPoolSize, options.interval);
     MongoPersistenceIterator<T, F> iterator = builder.mode(processMode)
                                                   .executorService(instrumentedExecutorService)
-                                                  .semaphore(new Semaphore(options.poolSize))
+                                                  .semaphore(createSemaphore(options.poolSize, capacityController))
+                                                  .capacityController(capacityController)
                                                   .iteratorName(options.name)
                                                   .build();
     injector.injectMembers(iterator);
+    startCapacityController(capacityController);
     long millis = options.interval.toMillis();
     executor.scheduleAtFixedRate(iterator::process, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
 
@@ -145,12 +157,16 @@ public final class PersistenceIteratorFactory {
     InstrumentedExecutorService instrumentedExecutorService =
         new InstrumentedExecutorService(executor, metricRegistry, iteratorName);
 
+    IteratorCapacityController capacityController =
+        createCapacityController(options.name, executor, options.poolSize, options.maxPoolSize, options.interval);
     MongoPersistenceIterator<T, F> iterator = builder.mode(processMode)
                                                   .executorService(instrumentedExecutorService)
-                                                  .semaphore(new Semaphore(options.poolSize))
+                                                  .semaphore(createSemaphore(options.poolSize, capacityController))
+                                                  .capacityController(capacityController)
                                                   .iteratorName(options.name)
                                                   .build();
     injector.injectMembers(iterator);
+    startCapacityController(capacityController);
     long millis = options.interval.toMillis();
     executor.scheduleAtFixedRate(iterator::process, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
     return iterator;
@@ -201,11 +217,14 @@ public final class PersistenceIteratorFactory {
     ExecutorService mainExecutor =
         Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(iteratorName + "-Main").build());
 
+    IteratorCapacityController capacityController =
+        createCapacityController(options.name, executor, options.poolSize, options.maxPoolSize, options.interval);
     MongoPersistenceIterator<T, F> iterator =
         builder.mode(REDIS_BATCH)
             .executorService(mainExecutor)
             .workerThreadPoolExecutor(executor)
-            .semaphore(new Semaphore(options.poolSize))
+            .semaphore(createSemaphore(options.poolSize, capacityController))
+            .capacityController(capacityController)
             .iteratorName(options.name)
             .threadPoolIntervalInSeconds(options.interval)
             .redisModeBatchSize(options.getBatchSize())
@@ -213,10 +232,36 @@ public final class PersistenceIteratorFactory {
             .persistentLocker(injector.getInstance(Key.get(PersistentLocker.class)))
             .build();
     injector.injectMembers(iterator);
+    startCapacityController(capacityController);
 
     // Start the main executor
     mainExecutor.submit(() -> iterator.redisBatchProcess());
 
     return iterator;
   }
+
+  private IteratorCapacityController createCapacityController(
+      String name, ScheduledThreadPoolExecutor workerPool, int poolSize, int maxPoolSize, Duration interval) {
+    if (maxPoolSize <= poolSize) {
+      return null;
+    }
+    return new IteratorCapacityController(
+        name, workerPool, poolSize, maxPoolSize, interval, injector.getInstance(PersistenceMetricsServiceImpl.class));
+  }
+
+  private Semaphore createSemaphore(int poolSize, IteratorCapacityController capacityController) {
+    return capacityController == null ? new Semaphore(poolSize) : capacityController.getSemaphore();
+  }
+
+  private synchronized void startCapacityController(IteratorCapacityController capacityController) {
+    if (capacityController == null) {
+      return;
+    }
+    // One thread adjusts the worker pools of all the adaptive iterators.
+    if (capacityScheduler == null) {
+      capacityScheduler = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("Iterator-Capacity").setDaemon(true).build());
+    }
+    capacityController.start(capacityScheduler);
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.lock;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.LOCK_ACQUIRE_FAIL;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.LOCK_ACQUIRE_TIME;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.LOCK_CONTENTION;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.LOCK_HOLD_TIME;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
+import io.harness.metrics.service.api.MetricService;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the acquire time, hold time, failures and contention of the persistent locks.
+ *
+ * The lock names mostly end with the id of the locked entity, the metrics are tagged with the name without it so that
+ * the locks of the same kind are aggregated. Contention is only counted when the lock was waited for. Does nothing
+ * when the service does not bind a {@link MetricService}.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class PersistentLockMetrics {
+  public static final PersistentLockMetrics NONE = new PersistentLockMetrics(null);
+  @VisibleForTesting static final String OTHER_LOCKS = "other";
+
+  private static final Pattern CLASS_NAME = Pattern.compile("([a-z][a-z0-9_]*\\.)+[A-Z][A-Za-z0-9_$]*");
+  private static final Pattern UPPER_CAMEL_CASE_NAME = Pattern.compile("([A-Z][a-z]{2,}){2,}");
+  private static final int MIN_UPPER_CASE_PREFIX_LENGTH = 3;
+
+  private final PersistenceMetricsServiceImpl metricsService;
+
+  public PersistentLockMetrics(MetricService metricService) {
+    this.metricsService = metricService == null ? null : new PersistenceMetricsServiceImpl(metricService);
+  }
+
+  public static long startTime() {
+    return System.nanoTime();
+  }
+
+  public void recordAcquired(String name, long startTime, boolean contended) {
+    if (contended) {
+      record(name, LOCK_CONTENTION);
+    }
+    record(name, startTime, LOCK_ACQUIRE_TIME);
+  }
+
+  public void recordFailed(String name, long startTime, boolean contended) {
+    if (contended) {
+      record(name, LOCK_CONTENTION);
+    }
+    record(name, LOCK_ACQUIRE_FAIL);
+    record(name, startTime, LOCK_ACQUIRE_TIME);
+  }
+
+  public void recordReleased(String name, Duration holdTime) {
+    record(name, holdTime, LOCK_HOLD_TIME);
+  }
+
+  private void record(String name, String metricName) {
+    if (metricsService == null) {
+      return;
+    }
+    try {
+      metricsService.recordLockMetrics(lockNamePrefix(name), metricName);
+    } catch (RuntimeException e) {
+      log.debug("Failed to record metric {} for lock {}", metricName, name, e);
+    }
+  }
+
+  private void record(String name, long startTime, String metricName) {
+    record(name, Duration.ofNanos(System.nanoTime() - startTime), metricName);
+  }
+
+  private void record(String name, Duration duration, String metricName) {
+    if (metricsService == null) {
+      return;
+    }
+    try {
+      metricsService.recordLockMetricsWithDuration(lockNamePrefix(name), duration, metricName);
+    } catch (RuntimeException e) {
+      log.debug("Failed to record metric {} for lock {}", metricName, name, e);
+    }
+  }
+
+  /**
+   * The part of the lock name before its first '-', ':', '/', '@' or ' ' when it names a kind of lock: a class name, an
+   * upper camel case name, or the leading upper case words of a name like GRAPH_LOCK_&lt;id&gt;. Every other name, like
+   * the names made of an email or of an id only, is tagged {@link #OTHER_LOCKS} to keep the number of series bounded.
+   */
+  @VisibleForTesting
+  static String lockNamePrefix(String name) {
+    if (name.indexOf('@') >= 0) {
+      return OTHER_LOCKS;
+    }
+    int end = name.length();
+    for (int i = 0; i < name.length(); i++) {
+      if ("-:/ ".indexOf(name.charAt(i)) >= 0) {
+        end = i;
+        break;
+      }
+    }
+    String prefix = name.substring(0, end);
+    if (CLASS_NAME.matcher(prefix).matches() || UPPER_CAMEL_CASE_NAME.matcher(prefix).matches()) {
+      return prefix;
+    }
+    int upperCaseEnd = 0;
+    for (String word : prefix.split("_")) {
+      if (word.isEmpty() || !word.chars().allMatch(Character::isUpperCase)) {
+        break;
+      }
+      upperCaseEnd += word.length() + 1;
+    }
+    return upperCaseEnd > MIN_UPPER_CASE_PREFIX_LENGTH ? prefix.substring(0, upperCaseEnd - 1) : OTHER_LOCKS;
+  }
+}
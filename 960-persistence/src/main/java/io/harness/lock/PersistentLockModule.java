@@ -65,8 +65,10 @@ public class PersistentLockModule extends ProviderModule implements ServersModul
   @Provides
   @Singleton
   MongoPersistentLocker mongoPersistentLocker(
-      HPersistence persistence, DistributedLockSvc distributedLockSvc, TimeLimiter timeLimiter) {
-    return new MongoPersistentLocker(persistence, distributedLockSvc, timeLimiter);
+      HPersistence persistence, DistributedLockSvc distributedLockSvc, TimeLimiter timeLimiter, Injector injector) {
+    MongoPersistentLocker locker = new MongoPersistentLocker(persistence, distributedLockSvc, timeLimiter);
+    injector.injectMembers(locker);
+    return locker;
   }
 
   @Provides
@@ -13,11 +13,13 @@ import static io.harness.lock.mongo.MongoPersistentLocker.LOCKS_STORE;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.lock.AcquiredLock;
+import io.harness.lock.PersistentLockMetrics;
 import io.harness.persistence.HPersistence;
 
 import com.deftlabs.lock.mongo.DistributedLock;
 import com.deftlabs.lock.mongo.DistributedLockSvc;
 import com.mongodb.BasicDBObject;
+import java.time.Duration;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +40,7 @@ public class AcquiredDistributedLock implements AcquiredLock<DistributedLock> {
   private DistributedLockSvc distributedLockSvc;
   private HPersistence persistence;
   private CloseAction closeAction;
+  private PersistentLockMetrics lockMetrics;
 
   public static long monotonicTimestamp() {
     try (ProposedTimestamp timestamp = monotonicSystemClock.propose()) {
@@ -97,5 +100,9 @@ public class AcquiredDistributedLock implements AcquiredLock<DistributedLock> {
     } catch (RuntimeException ex) {
       log.warn("releaseLock failed for key: " + lock.getName(), ex);
     }
+
+    if (lockMetrics != null) {
+      lockMetrics.recordReleased(lock.getName(), Duration.ofMillis(elapsed));
+    }
   }
 }
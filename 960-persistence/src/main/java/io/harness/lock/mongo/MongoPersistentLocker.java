@@ -24,9 +24,11 @@ import io.harness.exception.PersistentLockException;
 import io.harness.exception.WingsException;
 import io.harness.health.HealthMonitor;
 import io.harness.lock.AcquiredLock;
+import io.harness.lock.PersistentLockMetrics;
 import io.harness.lock.PersistentLocker;
 import io.harness.lock.mongo.AcquiredDistributedLock.AcquiredDistributedLockBuilder;
 import io.harness.lock.mongo.AcquiredDistributedLock.CloseAction;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.persistence.HPersistence;
 import io.harness.persistence.store.Store;
 
@@ -38,6 +40,7 @@ import com.google.inject.Inject;
 import com.mongodb.BasicDBObject;
 import io.dropwizard.lifecycle.Managed;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -52,6 +55,7 @@ public class MongoPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   private DistributedLockSvc distributedLockSvc;
   private TimeLimiter timeLimiter;
+  private PersistentLockMetrics lockMetrics = PersistentLockMetrics.NONE;
 
   @Inject
   public MongoPersistentLocker(
@@ -61,6 +65,11 @@ public class MongoPersistentLocker implements PersistentLocker, HealthMonitor, M
     this.distributedLockSvc = distributedLockSvc;
   }
 
+  @Inject(optional = true)
+  void setMetricService(MetricService metricService) {
+    this.lockMetrics = new PersistentLockMetrics(metricService);
+  }
+
   @Override
   public AcquiredLock acquireLock(String name, Duration timeout) {
     return acquireLock(name, timeout, AcquiredDistributedLock.builder().closeAction(CloseAction.RELEASE));
@@ -75,8 +84,20 @@ public class MongoPersistentLocker implements PersistentLocker, HealthMonitor, M
             .distributedLockSvc(distributedLockSvc));
   }
 
-  @SuppressWarnings({"PMD", "squid:S2222"})
   public AcquiredLock acquireLock(String name, Duration timeout, AcquiredDistributedLockBuilder builder) {
+    long startTime = PersistentLockMetrics.startTime();
+    AcquiredLock acquiredLock = tryLock(name, timeout, builder);
+    if (acquiredLock == null) {
+      lockMetrics.recordFailed(name, startTime, false);
+      throw new PersistentLockException(
+          format("Failed to acquire distributed lock for %s", name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, NOBODY);
+    }
+    lockMetrics.recordAcquired(name, startTime, false);
+    return acquiredLock;
+  }
+
+  @SuppressWarnings({"PMD", "squid:S2222"})
+  private AcquiredLock tryLock(String name, Duration timeout, AcquiredDistributedLockBuilder builder) {
     DistributedLockOptions options = new DistributedLockOptions();
     options.setInactiveLockTimeout((int) timeout.toMillis());
 
@@ -88,15 +109,13 @@ public class MongoPersistentLocker implements PersistentLocker, HealthMonitor, M
       if (lock.tryLock()) {
         log.debug("Lock acquired on {} for timeout {}", name, timeout);
         long start = AcquiredDistributedLock.monotonicTimestamp();
-        return builder.lock(lock).startTimestamp(start).build();
+        return builder.lock(lock).startTimestamp(start).lockMetrics(lockMetrics).build();
       }
     } catch (NullPointerException ignore) {
       // There is a race inside DistributedLock that can result in a NullPointerException when the persistent db lock
       // object is deleted in the middle of tryLock. Ignore the exception and assume that we failed to obtain the lock.
     }
-
-    throw new PersistentLockException(
-        format("Failed to acquire distributed lock for %s", name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, NOBODY);
+    return null;
   }
 
   @Override
@@ -142,17 +161,23 @@ public class MongoPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock waitToAcquireLock(String name, Duration lockTimeout, Duration waitTimeout) {
+    long startTime = PersistentLockMetrics.startTime();
+    AtomicBoolean contended = new AtomicBoolean();
     try {
       return HTimeLimiter.callInterruptible21(timeLimiter, Duration.ofMillis(waitTimeout.toMillis()), () -> {
         while (true) {
-          try {
-            return acquireLock(name, lockTimeout);
-          } catch (WingsException exception) {
-            sleep(ofMillis(100));
+          AcquiredLock lock =
+              tryLock(name, lockTimeout, AcquiredDistributedLock.builder().closeAction(CloseAction.RELEASE));
+          if (lock != null) {
+            lockMetrics.recordAcquired(name, startTime, contended.get());
+            return lock;
           }
+          contended.set(true);
+          sleep(ofMillis(100));
         }
       });
     } catch (Exception e) {
+      lockMetrics.recordFailed(name, startTime, contended.get());
       throw new PersistentLockException(
           format("Failed to acquire distributed lock for %s", name), e, FAILED_TO_ACQUIRE_PERSISTENT_LOCK, NOBODY);
     }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.lock.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * In-process locks taken before the Redis locks of the same name.
+ *
+ * The threads of a pod waiting for the same lock queue here instead of polling Redis, and a thread trying a lock held
+ * by another thread of the pod fails without a Redis call. Like the Redis locks, they are reentrant for the owning
+ * thread and expire after their lease time, so a lock which is never released does not block the pod longer than it
+ * blocks the other pods. Unlike a lock object, a local lock can be released by any thread. The locks are removed once
+ * nobody waits for them and they are released or their lease expired. The locks whose lease expired without anybody
+ * touching them again are swept out every {@link #SWEEP_INTERVAL} acquisitions.
+ */
+@OwnedBy(PL)
+class LocalLockTable {
+  private static final int SWEEP_INTERVAL = 1024;
+
+  private final Map<String, LocalLock> locks = new ConcurrentHashMap<>();
+  private final AtomicLong acquisitions = new AtomicLong();
+
+  /**
+   * @param leaseTime how long the lock is held at most, a negative duration keeps it until it is released
+   * @return the acquired lock, null when it is held by another thread for the whole wait time
+   */
+  Handle tryAcquire(String name, Duration waitTime, Duration leaseTime) throws InterruptedException {
+    if (acquisitions.incrementAndGet() % SWEEP_INTERVAL == 0) {
+      sweep();
+    }
+    LocalLock localLock = locks.compute(name, (key, current) -> {
+      LocalLock lock = current == null ? new LocalLock() : current;
+      lock.waiters++;
+      return lock;
+    });
+
+    boolean contended = localLock.isHeldByOtherThread();
+    try {
+      long generation = localLock.acquire(waitTime.toNanos(), leaseTime.toNanos());
+      return generation < 0 ? null : new Handle(name, localLock, generation, contended);
+    } finally {
+      locks.computeIfPresent(name, (key, lock) -> {
+        if (lock == localLock) {
+          lock.waiters--;
+        }
+        return lock.isUnused() ? null : lock;
+      });
+    }
+  }
+
+  private void removeIfUnused(String name) {
+    locks.computeIfPresent(name, (key, lock) -> lock.isUnused() ? null : lock);
+  }
+
+  @VisibleForTesting
+  void sweep() {
+    locks.keySet().forEach(this::removeIfUnused);
+  }
+
+  @VisibleForTesting
+  int size() {
+    return locks.size();
+  }
+
+  class Handle {
+    private final String name;
+    private final LocalLock localLock;
+    private final long generation;
+    @Getter private final boolean contended;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    Handle(String name, LocalLock localLock, long generation, boolean contended) {
+      this.name = name;
+      this.localLock = localLock;
+      this.generation = generation;
+      this.contended = contended;
+    }
+
+    /**
+     * @return false when the lock was already released through this handle
+     */
+    boolean release() {
+      if (!released.compareAndSet(false, true)) {
+        return false;
+      }
+      localLock.release(generation);
+      removeIfUnused(name);
+      return true;
+    }
+  }
+
+  private static class LocalLock {
+    // Guarded by the map entry
+    private int waiters;
+
+    private Thread owner;
+    private int holds;
+    private long generation;
+    private boolean expiring;
+    private long expiresAt;
+
+    synchronized boolean isHeldByOtherThread() {
+      return owner != null && owner != Thread.currentThread() && !isExpired(System.nanoTime());
+    }
+
+    // Called within the map entry
+    synchronized boolean isUnused() {
+      return waiters == 0 && (owner == null || isExpired(System.nanoTime()));
+    }
+
+    private boolean isExpired(long now) {
+      return expiring && now - expiresAt >= 0;
+    }
+
+    /**
+     * @return the generation of the acquired lock, -1 when not acquired
+     */
+    synchronized long acquire(long waitNanos, long leaseNanos) throws InterruptedException {
+      Thread current = Thread.currentThread();
+      long deadline = System.nanoTime() + waitNanos;
+      while (true) {
+        long now = System.nanoTime();
+        if (owner == null || isExpired(now)) {
+          owner = current;
+          holds = 1;
+          generation++;
+          expiring = leaseNanos >= 0;
+          expiresAt = now + leaseNanos;
+          return generation;
+        }
+        if (owner == current) {
+          holds++;
+          if (expiring) {
+            expiring = leaseNanos >= 0;
+            expiresAt = Math.max(expiresAt, now + leaseNanos);
+          }
+          return generation;
+        }
+
+        long remaining = deadline - now;
+        if (remaining <= 0) {
+          return -1;
+        }
+        TimeUnit.NANOSECONDS.timedWait(this, expiring ? Math.min(remaining, expiresAt - now) : remaining);
+      }
+    }
+
+    synchronized void release(long acquiredGeneration) {
+      // A lock taken over after its lease expired is not released by its previous owner.
+      if (acquiredGeneration != generation || owner == null) {
+        return;
+      }
+      if (--holds == 0) {
+        owner = null;
+        notifyAll();
+      }
+    }
+  }
+}
@@ -25,6 +25,8 @@ public class RedisAcquiredLock implements AcquiredLock<RLock> {
   RLock lock;
   boolean isLeaseInfinite;
   boolean isSentinelMode;
+  // Releases the local lock and records the hold time once the Redis lock is released
+  Runnable releaseCallback;
 
   @Override
   public void release() {
@@ -36,6 +38,10 @@ public class RedisAcquiredLock implements AcquiredLock<RLock> {
       }
     } catch (Exception ex) {
       log.error(" Received a exception while releasing Redis lock ", ex);
+    } finally {
+      if (releaseCallback != null) {
+        releaseCallback.run();
+      }
     }
   }
 
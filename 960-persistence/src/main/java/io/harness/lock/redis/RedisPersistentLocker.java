@@ -13,6 +13,7 @@ import static io.harness.eraro.ErrorCode.FAILED_TO_ACQUIRE_PERSISTENT_LOCK;
 import static io.harness.exception.WingsException.SRE;
 
 import static java.lang.String.format;
+import static java.time.Duration.ZERO;
 import static java.time.Duration.ofSeconds;
 
 import io.harness.annotations.dev.OwnedBy;
@@ -22,7 +23,9 @@ import io.harness.exception.UnexpectedException;
 import io.harness.exception.WingsException;
 import io.harness.health.HealthMonitor;
 import io.harness.lock.AcquiredLock;
+import io.harness.lock.PersistentLockMetrics;
 import io.harness.lock.PersistentLocker;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.redis.RedisConfig;
 import io.harness.redis.RedissonClientFactory;
 
@@ -44,6 +47,9 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
   private String lockNamespace;
   private static final String LOCK_PREFIX = "locks";
   private static final String ERROR_MESSAGE = "Failed to acquire distributed lock for %s";
+  private static final Duration INFINITE_LEASE = Duration.ofMillis(-1);
+  private final LocalLockTable localLocks = new LocalLockTable();
+  private PersistentLockMetrics lockMetrics = PersistentLockMetrics.NONE;
 
   @Inject
   RedisPersistentLocker(@Named("lock") RedisConfig redisLockConfig) {
@@ -53,34 +59,93 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
                                                               : String.format("%s:%s:", envNamespace, LOCK_PREFIX);
   }
 
+  @Inject(optional = true)
+  void setMetricService(MetricService metricService) {
+    this.lockMetrics = new PersistentLockMetrics(metricService);
+  }
+
   private String getLockName(String name) {
     return lockNamespace.concat(name);
   }
 
   @Override
   public AcquiredLock acquireLock(String name, Duration timeout) {
+    return acquire(name, ZERO, timeout, ofSeconds(1));
+  }
+
+  /**
+   * Takes the local lock of the name, then the Redis lock within what is left of the wait time. Releasing the returned
+   * lock releases both. The Redis lock is tried once without waiting, so that a wait for a lock held by another pod is
+   * counted as contention like a wait for a lock held by another thread of this pod.
+   *
+   * @param leaseTime how long the lock is held at most, a negative duration keeps it until it is released
+   */
+  private AcquiredLock acquire(String name, Duration waitTime, Duration leaseTime, Duration sentinelTimeout) {
+    String lockName = getLockName(name);
+    long startTime = PersistentLockMetrics.startTime();
+    LocalLockTable.Handle localLock;
     try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked;
-      if (client.getConfig().isSentinelConfig()) {
-        log.debug("[RedisSentinelMode]: Trying Async lock");
-        locked = lock.tryLockAsync(0, timeout.toMillis(), TimeUnit.MILLISECONDS).get(1, TimeUnit.SECONDS);
-        log.debug("[RedisSentinelMode]: Async lock acquired successfully");
-      } else {
-        locked = lock.tryLock(0, timeout.toMillis(), TimeUnit.MILLISECONDS);
+      localLock = localLocks.tryAcquire(lockName, waitTime, leaseTime);
+    } catch (InterruptedException iex) {
+      log.error(format(ERROR_MESSAGE, lockName), iex);
+      Thread.currentThread().interrupt();
+      throw new PersistentLockException(format(ERROR_MESSAGE, lockName), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    }
+    if (localLock == null) {
+      // Held by another thread of this pod for the whole wait time, there is no need to ask Redis
+      lockMetrics.recordFailed(name, startTime, waitTime.toMillis() > 0);
+      throw new PersistentLockException(format(ERROR_MESSAGE, lockName), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    }
+
+    boolean acquired = false;
+    boolean contended = localLock.isContended();
+    try {
+      long remainingWaitMillis =
+          Math.max(0, waitTime.toMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+      long leaseMillis = leaseTime.isNegative() ? -1 : leaseTime.toMillis();
+      RLock lock = client.getLock(lockName);
+      boolean locked = tryLock(lock, 0, leaseMillis, sentinelTimeout);
+      if (!locked && remainingWaitMillis > 0) {
+        contended = true;
+        locked = tryLock(lock, remainingWaitMillis, leaseMillis, sentinelTimeout);
       }
       if (locked) {
-        log.debug("Lock acquired on {} for timeout {}", name, timeout);
-        return RedisAcquiredLock.builder().lock(lock).isSentinelMode(client.getConfig().isSentinelConfig()).build();
+        log.debug("Lock acquired on {} for {} having a wait timeout of {}", lockName, leaseTime, waitTime);
+        lockMetrics.recordAcquired(name, startTime, contended);
+        long acquiredTime = PersistentLockMetrics.startTime();
+        acquired = true;
+        return RedisAcquiredLock.builder()
+            .lock(lock)
+            .isLeaseInfinite(leaseTime.isNegative())
+            .isSentinelMode(client.getConfig().isSentinelConfig())
+            .releaseCallback(() -> {
+              if (localLock.release()) {
+                lockMetrics.recordReleased(name, Duration.ofNanos(System.nanoTime() - acquiredTime));
+              }
+            })
+            .build();
       }
     } catch (InterruptedException iex) {
-      log.error(format(ERROR_MESSAGE, name), iex);
+      log.error(format(ERROR_MESSAGE, lockName), iex);
       Thread.currentThread().interrupt();
     } catch (Exception ex) {
-      throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
+      throw new UnexpectedException(format(ERROR_MESSAGE, lockName), ex);
+    } finally {
+      if (!acquired) {
+        localLock.release();
+      }
     }
-    throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    lockMetrics.recordFailed(name, startTime, contended);
+    throw new PersistentLockException(format(ERROR_MESSAGE, lockName), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+  }
+
+  private boolean tryLock(RLock lock, long waitMillis, long leaseMillis, Duration sentinelTimeout) throws Exception {
+    if (client.getConfig().isSentinelConfig()) {
+      log.debug("[RedisSentinelMode]: Trying Async lock");
+      return lock.tryLockAsync(waitMillis, leaseMillis, TimeUnit.MILLISECONDS)
+          .get(sentinelTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    return lock.tryLock(waitMillis, leaseMillis, TimeUnit.MILLISECONDS);
   }
 
   @Override
@@ -113,30 +178,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock tryToAcquireInfiniteLockWithPeriodicRefresh(String name, Duration waitTime) {
-    try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked;
-      if (client.getConfig().isSentinelConfig()) {
-        locked = lock.tryLockAsync(waitTime.toMillis(), -1, TimeUnit.MILLISECONDS)
-                     .get(waitTime.toMillis(), TimeUnit.MILLISECONDS);
-      } else {
-        locked = lock.tryLock(waitTime.toMillis(), -1, TimeUnit.MILLISECONDS);
-      }
-      if (locked) {
-        return RedisAcquiredLock.builder()
-            .lock(lock)
-            .isLeaseInfinite(true)
-            .isSentinelMode(client.getConfig().isSentinelConfig())
-            .build();
-      }
-    } catch (InterruptedException iex) {
-      log.error(format(ERROR_MESSAGE, name), iex);
-      Thread.currentThread().interrupt();
-    } catch (Exception ex) {
-      throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
-    }
-    throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    return acquire(name, waitTime, INFINITE_LEASE, waitTime);
   }
 
   @Override
@@ -157,27 +199,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock waitToAcquireLock(String name, Duration lockTimeout, Duration waitTimeout) {
-    try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked;
-      if (client.getConfig().isSentinelConfig()) {
-        locked = lock.tryLockAsync(waitTimeout.toMillis(), lockTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                     .get(lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
-      } else {
-        locked = lock.tryLock(waitTimeout.toMillis(), lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
-      }
-      if (locked) {
-        log.debug("Acquired lock on {} for {} having a wait Timeout of {}", name, lockTimeout, waitTimeout);
-        return RedisAcquiredLock.builder().lock(lock).isSentinelMode(client.getConfig().isSentinelConfig()).build();
-      }
-    } catch (InterruptedException iex) {
-      log.error(format(ERROR_MESSAGE, name), iex);
-      Thread.currentThread().interrupt();
-    } catch (Exception ex) {
-      throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
-    }
-    throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    return acquire(name, waitTimeout, lockTimeout, lockTimeout);
   }
 
   @Override
@@ -0,0 +1,16 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.metrics.beans;
+
+import io.harness.metrics.AutoMetricContext;
+
+public class CacheMetricContext extends AutoMetricContext {
+  public CacheMetricContext(String cacheName) {
+    put("cacheName", cacheName);
+  }
+}
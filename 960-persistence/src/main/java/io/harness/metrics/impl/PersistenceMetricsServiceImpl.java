@@ -10,6 +10,7 @@ package io.harness.metrics.impl;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.beans.IteratorMetricContext;
+import io.harness.metrics.beans.LockMetricContext;
 import io.harness.metrics.beans.RedisTopicContext;
 import io.harness.metrics.service.api.MetricService;
 
@@ -29,7 +30,13 @@ public class PersistenceMetricsServiceImpl {
   public static final String ITERATOR_WORKING_ON_ENTITY = "iterator_working_on_entity";
   public static final String ITERATOR_PROCESSING_TIME = "iterator_processing_time";
   public static final String ITERATOR_REDIS_LOCK_ACQUIRE_FAIL = "iterator_redis_lock_acq_fail";
+  public static final String ITERATOR_LAG = "iterator_lag";
+  public static final String ITERATOR_THREAD_POOL_SIZE = "iterator_thread_pool_size";
   public static final String REDIS_SUBSCRIPTION_CNT = "redis_subscription_count";
+  public static final String LOCK_ACQUIRE_TIME = "lock_acquire_time";
+  public static final String LOCK_HOLD_TIME = "lock_hold_time";
+  public static final String LOCK_ACQUIRE_FAIL = "lock_acquire_fail";
+  public static final String LOCK_CONTENTION = "lock_contention";
 
   private final MetricService metricService;
 
@@ -44,6 +51,24 @@ public class PersistenceMetricsServiceImpl {
     }
   }
 
+  public void recordIteratorMetricValue(String iteratorName, double value, String metricName) {
+    try (IteratorMetricContext ignore = new IteratorMetricContext(iteratorName)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
+  public void recordLockMetrics(String lockNamePrefix, String metricName) {
+    try (LockMetricContext ignore = new LockMetricContext(lockNamePrefix)) {
+      metricService.incCounter(metricName);
+    }
+  }
+
+  public void recordLockMetricsWithDuration(String lockNamePrefix, Duration duration, String metricName) {
+    try (LockMetricContext ignore = new LockMetricContext(lockNamePrefix)) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
+
   public void recordRedisMetric(final String metric, final String topicName, final double value) {
     try (RedisTopicContext ignore = new RedisTopicContext(topicName)) {
       metricService.recordMetric(metric, value);
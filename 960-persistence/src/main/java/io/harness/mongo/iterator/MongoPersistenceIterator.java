@@ -29,6 +29,7 @@ import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
+import io.harness.iterator.IteratorCapacityController;
 import io.harness.iterator.PersistenceIterator;
 import io.harness.iterator.PersistentIrregularIterable;
 import io.harness.iterator.PersistentIterable;
@@ -105,6 +106,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
   private boolean isDelegateTaskMigrationEnabled;
   private PersistentLocker persistentLocker;
+  // Set when the worker pool adapts to the iterator lag.
+  private IteratorCapacityController capacityController;
 
   public interface Handler<T> {
     void handle(T entity);
@@ -558,6 +561,9 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
       iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_WORKING_ON_ENTITY);
       iteratorMetricsService.recordIteratorMetricsWithDuration(iteratorName, ofMillis(delay), ITERATOR_DELAY);
+      if (capacityController != null) {
+        capacityController.recordLag(delay);
+      }
 
       if (delay >= acceptableNoAlertDelay.toMillis()) {
         log.debug("Working on entity but the delay is more than the acceptable {}", acceptableNoAlertDelay.toMillis());
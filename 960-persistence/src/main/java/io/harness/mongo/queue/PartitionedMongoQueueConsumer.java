@@ -0,0 +1,368 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.queue;
+
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.govern.Switch.unhandled;
+import static io.harness.persistence.HPersistence.returnOldOptions;
+import static io.harness.persistence.HQuery.excludeAuthority;
+
+import static java.lang.String.format;
+
+import io.harness.exception.UnexpectedException;
+import io.harness.persistence.HPersistence;
+import io.harness.queue.Queuable;
+import io.harness.queue.Queuable.QueuableKeys;
+import io.harness.queue.QueueConsumer;
+import io.harness.queue.TopicUtils;
+
+import com.google.inject.Inject;
+import dev.morphia.AdvancedDatastore;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
+import dev.morphia.query.UpdateOperations;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queue consumer which waits for new messages on a change stream of the queue collection instead of polling for them.
+ *
+ * The ids of the due messages are read in batches and claimed one by one by id. Every consumer owns one of the hash
+ * partitions of the message ids and tries the messages of its partition first, so that consumers on different pods
+ * do not all race for the oldest message. The messages are therefore taken in earliestGet order only batch by batch:
+ * within the batchSize oldest due messages, those of the own partition go before the older ones of other partitions.
+ * Queues relying on strict FIFO order should keep using {@link MongoQueueConsumer}.
+ *
+ * While no message is due the consumer waits until the change stream reports an inserted or requeued message, the next
+ * message becomes due or the wait ends. The change stream is shared by the consumers of the queue through
+ * {@link QueueChangeStreams}. When the change stream could not be opened or is closed, the consumer polls like
+ * {@link MongoQueueConsumer}.
+ */
+@Slf4j
+public class PartitionedMongoQueueConsumer<T extends Queuable> implements QueueConsumer<T> {
+  public static final int DEFAULT_PARTITIONS = 16;
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  // Upper bound of a wait on the change stream, in case an event was missed.
+  private static final long MAX_CHANGE_STREAM_WAIT_MILLIS = Duration.ofSeconds(30).toMillis();
+
+  private final Class<T> klass;
+  @Setter private Duration heartbeat;
+  List<String> topics;
+  private final int partitions;
+  private final int partition;
+  private final int batchSize;
+  private final QueueChangeStreams changeStreams;
+  private final Consumer<Queuable> changeSubscriber = this::onQueueChange;
+
+  // Guarded by candidates.
+  private final Deque<String> candidates = new ArrayDeque<>();
+  private long nextDueTime = Long.MAX_VALUE;
+
+  // Guarded by changeMonitor.
+  private final Object changeMonitor = new Object();
+  private long changeCount;
+  private boolean changeStreamSubscribed;
+
+  @Inject private HPersistence persistence;
+
+  public PartitionedMongoQueueConsumer(
+      Class<T> klass, Duration heartbeat, List<List<String>> topicExpression, QueueChangeStreams changeStreams) {
+    this(klass, heartbeat, topicExpression, changeStreams, DEFAULT_PARTITIONS, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * @param changeStreams the change streams shared by the consumers of the service, or null to always poll
+   */
+  public PartitionedMongoQueueConsumer(Class<T> klass, Duration heartbeat, List<List<String>> topicExpression,
+      QueueChangeStreams changeStreams, int partitions, int batchSize) {
+    Objects.requireNonNull(klass);
+    this.klass = klass;
+    this.heartbeat = heartbeat;
+    this.topics = TopicUtils.resolveExpressionIntoListOfTopics(topicExpression);
+    this.changeStreams = changeStreams;
+    this.partitions = partitions;
+    this.partition = ThreadLocalRandom.current().nextInt(partitions);
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public T get(Duration wait, Duration poll) {
+    startChangeStream();
+    long endTime = System.currentTimeMillis() + wait.toMillis();
+    while (true) {
+      long observedChangeCount = getChangeCount();
+      T message = claimNext();
+      if (message != null) {
+        return message;
+      }
+
+      long now = System.currentTimeMillis();
+      if (now >= endTime) {
+        return null;
+      }
+
+      long waitMillis;
+      if (isChangeStreamOpen()) {
+        waitMillis = Math.min(MAX_CHANGE_STREAM_WAIT_MILLIS, getNextDueTime() - now);
+      } else {
+        waitMillis = Math.max(poll.toMillis(), 0);
+      }
+      if (!awaitChange(observedChangeCount, Math.min(waitMillis, endTime - now))) {
+        return null;
+      }
+    }
+  }
+
+  // The candidates are claimed outside of the lock, so that the listener threads of the consumer claim in parallel.
+  // When other consumers took all the candidates the due messages are read again, as more of them may be waiting.
+  private T claimNext() {
+    while (true) {
+      String id = pollCandidate();
+      if (id == null && !readCandidates()) {
+        return null;
+      }
+      if (id != null) {
+        T message = claim(id);
+        if (message != null) {
+          return message;
+        }
+      }
+    }
+  }
+
+  private String pollCandidate() {
+    synchronized (candidates) {
+      return candidates.poll();
+    }
+  }
+
+  /**
+   * @return false if no message is due
+   */
+  private boolean readCandidates() {
+    final long now = System.currentTimeMillis();
+    List<T> messages = createQuery()
+                           .project(QueuableKeys.id, true)
+                           .project(QueuableKeys.earliestGet, true)
+                           .order(Sort.ascending(QueuableKeys.earliestGet))
+                           .asList(new FindOptions().limit(batchSize));
+
+    long firstNotDueTime = Long.MAX_VALUE;
+    List<String> ownPartition = new ArrayList<>();
+    List<String> otherPartitions = new ArrayList<>();
+    for (T message : messages) {
+      if (message.getEarliestGet().getTime() > now) {
+        firstNotDueTime = message.getEarliestGet().getTime();
+        break;
+      }
+      if (partitionOf(message.getId()) == partition) {
+        ownPartition.add(message.getId());
+      } else {
+        otherPartitions.add(message.getId());
+      }
+    }
+
+    synchronized (candidates) {
+      candidates.clear();
+      candidates.addAll(ownPartition);
+      candidates.addAll(otherPartitions);
+      nextDueTime = firstNotDueTime;
+      return !candidates.isEmpty();
+    }
+  }
+
+  private T claim(String id) {
+    final Date now = new Date();
+    Query<T> query = persistence.createQuery(klass)
+                         .filter(QueuableKeys.id, id)
+                         .field(QueuableKeys.earliestGet)
+                         .lessThanOrEq(now);
+    UpdateOperations<T> updateOperations = persistence.createUpdateOperations(klass).set(
+        QueuableKeys.earliestGet, new Date(now.getTime() + heartbeat().toMillis()));
+    return HPersistence.retry(() -> persistence.findAndModify(query, updateOperations, returnOldOptions));
+  }
+
+  private int partitionOf(String id) {
+    return Math.floorMod(id.hashCode(), partitions);
+  }
+
+  private long getNextDueTime() {
+    synchronized (candidates) {
+      return nextDueTime;
+    }
+  }
+
+  private void startChangeStream() {
+    if (changeStreams == null) {
+      return;
+    }
+    synchronized (changeMonitor) {
+      if (changeStreamSubscribed) {
+        return;
+      }
+      changeStreamSubscribed = true;
+    }
+    changeStreams.subscribe(klass, changeSubscriber);
+  }
+
+  private boolean isChangeStreamOpen() {
+    if (changeStreams == null) {
+      return false;
+    }
+    try {
+      return changeStreams.isOpen(klass);
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  // The change stream of the queue carries the messages of all topics.
+  private void onQueueChange(Queuable message) {
+    if (message == null || (isNotEmpty(topics) ? topics.contains(message.getTopic()) : message.getTopic() == null)) {
+      onQueueChange();
+    }
+  }
+
+  void onQueueChange() {
+    synchronized (changeMonitor) {
+      changeCount++;
+      changeMonitor.notifyAll();
+    }
+  }
+
+  private long getChangeCount() {
+    synchronized (changeMonitor) {
+      return changeCount;
+    }
+  }
+
+  /**
+   * Waits until the queue changed since the change count was observed or the time is up.
+   *
+   * @return false if the thread was interrupted
+   */
+  private boolean awaitChange(long observedChangeCount, long waitMillis) {
+    long endTime = System.currentTimeMillis() + waitMillis;
+    synchronized (changeMonitor) {
+      long remaining = waitMillis;
+      while (changeCount == observedChangeCount && remaining > 0) {
+        try {
+          changeMonitor.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+        remaining = endTime - System.currentTimeMillis();
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void updateHeartbeat(T message) {
+    Date earliestGet = new Date(System.currentTimeMillis() + heartbeat().toMillis());
+
+    Query<T> query = persistence.createQuery(klass).filter(QueuableKeys.id, message.getId());
+    UpdateOperations<T> updateOperations =
+        persistence.createUpdateOperations(klass).set(QueuableKeys.earliestGet, earliestGet);
+
+    if (persistence.findAndModify(query, updateOperations, returnOldOptions) != null) {
+      message.setEarliestGet(earliestGet);
+      return;
+    }
+
+    log.error("Update heartbeat failed for {}", message.getId());
+  }
+
+  @Override
+  // This API is used only for testing, we do not need index for the running field. If you start using the
+  // API in production, please consider adding such.
+  public long count(final Filter filter) {
+    final AdvancedDatastore datastore = persistence.getDatastore(klass);
+
+    switch (filter) {
+      case ALL:
+        return datastore.getCount(klass);
+      case RUNNING:
+        return datastore.getCount(createQuery().field(QueuableKeys.earliestGet).greaterThan(new Date()));
+      case NOT_RUNNING:
+        return datastore.getCount(createQuery().field(QueuableKeys.earliestGet).lessThanOrEq(new Date()));
+      default:
+        unhandled(filter);
+    }
+    throw new UnexpectedException(format("Unknown filter type %s", filter));
+  }
+
+  @Override
+  public void ack(final T message) {
+    log.debug("Queue event consumer msg: [{}]", message);
+    Objects.requireNonNull(message);
+    persistence.delete(klass, message.getId());
+  }
+
+  @Override
+  public void requeue(final String id, int retries) {
+    requeue(id, retries, new Date());
+  }
+
+  @Override
+  public void requeue(final String id, final int retries, final Date earliestGet) {
+    Objects.requireNonNull(id);
+    Objects.requireNonNull(earliestGet);
+
+    persistence.update(persistence.createQuery(klass, excludeAuthority).filter(QueuableKeys.id, id),
+        persistence.createUpdateOperations(klass)
+            .set(QueuableKeys.retries, retries)
+            .set(QueuableKeys.earliestGet, earliestGet));
+    onQueueChange();
+  }
+
+  @Override
+  public Duration heartbeat() {
+    return heartbeat;
+  }
+
+  @Override
+  public String getName() {
+    return klass.getSimpleName();
+  }
+
+  /**
+   * Leaves the shared change stream, the next get joins it again.
+   */
+  public void stop() {
+    synchronized (changeMonitor) {
+      if (changeStreams == null || !changeStreamSubscribed) {
+        return;
+      }
+      changeStreamSubscribed = false;
+    }
+    changeStreams.unsubscribe(klass, changeSubscriber);
+  }
+
+  private Query<T> createQuery() {
+    final Query<T> query = persistence.createQuery(klass);
+    if (isNotEmpty(topics)) {
+      query.field(QueuableKeys.topic).in(topics);
+    } else {
+      query.field(QueuableKeys.topic).doesNotExist();
+    }
+    return query;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.queue;
+
+import io.harness.mongo.changestreams.ChangeTracker;
+import io.harness.mongo.changestreams.ChangeTrackingInfo;
+import io.harness.queue.Queuable;
+import io.harness.queue.Queuable.QueuableKeys;
+
+import com.google.inject.ConfigurationException;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.conversions.Bson;
+
+/**
+ * Shares one change stream per queue collection among the {@link PartitionedMongoQueueConsumer}s of the service, every
+ * change tracker holds its own Mongo client and threads. The change stream is opened for the first consumer of a queue
+ * and closed after the last one, or when the queue listeners stop.
+ */
+@Singleton
+@Slf4j
+public class QueueChangeStreams {
+  @Inject private Injector injector;
+
+  // Guarded by this.
+  private final Map<Class<?>, QueueChangeStream> changeStreams = new HashMap<>();
+
+  private static class QueueChangeStream {
+    private final List<Consumer<Queuable>> subscribers = new CopyOnWriteArrayList<>();
+    private ChangeTracker changeTracker;
+  }
+
+  /**
+   * Calls the subscriber with every inserted or requeued message of the queue, or with null when the message is
+   * not known. Without a change tracker in the service the subscriber is never called.
+   */
+  public synchronized <T extends Queuable> void subscribe(Class<T> klass, Consumer<Queuable> subscriber) {
+    QueueChangeStream changeStream = changeStreams.computeIfAbsent(klass, key -> new QueueChangeStream());
+    changeStream.subscribers.add(subscriber);
+    if (changeStream.changeTracker == null) {
+      changeStream.changeTracker = startChangeTracker(klass, changeStream);
+    }
+  }
+
+  public synchronized void unsubscribe(Class<?> klass, Consumer<Queuable> subscriber) {
+    QueueChangeStream changeStream = changeStreams.get(klass);
+    if (changeStream == null) {
+      return;
+    }
+    changeStream.subscribers.remove(subscriber);
+    if (changeStream.subscribers.isEmpty()) {
+      changeStreams.remove(klass);
+      stopChangeTracker(klass, changeStream.changeTracker);
+    }
+  }
+
+  public boolean isOpen(Class<?> klass) {
+    ChangeTracker changeTracker;
+    synchronized (this) {
+      QueueChangeStream changeStream = changeStreams.get(klass);
+      changeTracker = changeStream == null ? null : changeStream.changeTracker;
+    }
+    return changeTracker != null && changeTracker.checkIfAnyChangeTrackerIsAlive();
+  }
+
+  /**
+   * Closes the change streams of all queues, the consumers keep working by polling.
+   */
+  public synchronized void stop() {
+    changeStreams.forEach((klass, changeStream) -> stopChangeTracker(klass, changeStream.changeTracker));
+    changeStreams.clear();
+  }
+
+  private <T extends Queuable> ChangeTracker startChangeTracker(Class<T> klass, QueueChangeStream changeStream) {
+    ChangeTracker changeTracker;
+    try {
+      changeTracker = injector.getInstance(ChangeTracker.class);
+    } catch (ConfigurationException e) {
+      log.warn("No change tracker available for the {} queue, polling instead", klass.getSimpleName());
+      return null;
+    }
+
+    try {
+      changeTracker.start(Collections.<ChangeTrackingInfo<?>>singleton(new ChangeTrackingInfo<>(klass,
+          changeEvent
+          -> changeStream.subscribers.forEach(subscriber -> subscriber.accept(changeEvent.getFullDocument())),
+          null, changeStreamPipeline())));
+      return changeTracker;
+    } catch (RuntimeException e) {
+      log.warn("Could not open the change stream of the {} queue, polling instead", klass.getSimpleName(), e);
+      stopChangeTracker(klass, changeTracker);
+      return null;
+    }
+  }
+
+  private void stopChangeTracker(Class<?> klass, ChangeTracker changeTracker) {
+    if (changeTracker == null) {
+      return;
+    }
+    try {
+      changeTracker.stop();
+    } catch (RuntimeException e) {
+      log.warn("Could not close the change stream of the {} queue", klass.getSimpleName(), e);
+    }
+  }
+
+  // Inserted messages and requeued messages, requeue always updates the retries while claims and heartbeats do not.
+  private static List<Bson> changeStreamPipeline() {
+    return Collections.singletonList(Aggregates.match(Filters.or(Filters.eq("operationType", "insert"),
+        Filters.exists("updateDescription.updatedFields." + QueuableKeys.retries))));
+  }
+}
@@ -38,7 +38,12 @@ public class QueueFactory {
 
   public static <T extends Queuable> QueueConsumer<T> createQueueConsumer(Injector injector, Class<T> klass,
       Duration heartbeat, List<List<String>> topicExpression, PublisherConfiguration configuration) {
-    if (configuration.isPublisherActive(klass)) {
+    if (configuration.isPublisherActive(klass) && configuration.isChangeStreamConsumerActive(klass)) {
+      final PartitionedMongoQueueConsumer<T> queueConsumer = new PartitionedMongoQueueConsumer<>(
+          klass, heartbeat, topicExpression, injector.getInstance(QueueChangeStreams.class));
+      injector.injectMembers(queueConsumer);
+      return queueConsumer;
+    } else if (configuration.isPublisherActive(klass)) {
       final MongoQueueConsumer mongoQueueConsumer = new MongoQueueConsumer(klass, heartbeat, topicExpression);
       injector.injectMembers(mongoQueueConsumer);
       return mongoQueueConsumer;
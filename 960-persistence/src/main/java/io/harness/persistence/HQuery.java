@@ -176,18 +176,22 @@ public class HQuery<T> extends QueryImpl<T> {
     try {
       entityClass = super.getEntityClass();
       enforceHarnessRules();
-      traceQuery();
       if (options.getMaxTime(TimeUnit.MILLISECONDS) == 0) {
         options.maxTime(maxOperationTimeInMillis, TimeUnit.MILLISECONDS);
       }
       if (options.getLimit() == 0) {
         options.limit(maxDocumentsToBeFetched);
       }
-      return HPersistence.retry(() -> {
-        final List<Key<T>> list = super.asKeyList(options);
-        checkKeyListSize(list);
-        return list;
-      });
+      long startNanos = System.nanoTime();
+      try {
+        return HPersistence.retry(() -> {
+          final List<Key<T>> list = super.asKeyList(options);
+          checkKeyListSize(list);
+          return list;
+        });
+      } finally {
+        traceQuery(startNanos);
+      }
     } catch (MongoExecutionTimeoutException ex) {
       log.error("asKeyList query {} exceeded max time limit of {} ms for entityClass {} with error {}", this,
           maxOperationTimeInMillis, entityClass, ex);
@@ -207,12 +211,16 @@ public class HQuery<T> extends QueryImpl<T> {
       if (options.getLimit() == 0) {
         options.limit(maxDocumentsToBeFetched);
       }
-      traceQuery();
-      return HPersistence.retry(() -> {
-        final List<T> list = super.asList(options);
-        checkListSize(list);
-        return list;
-      });
+      long startNanos = System.nanoTime();
+      try {
+        return HPersistence.retry(() -> {
+          final List<T> list = super.asList(options);
+          checkListSize(list);
+          return list;
+        });
+      } finally {
+        traceQuery(startNanos);
+      }
     } catch (MongoExecutionTimeoutException ex) {
       log.error("asList query {} exceeded max time limit of {} ms for collection {} with error {}", this,
           maxOperationTimeInMillis, collectionName, ex);
@@ -360,6 +368,12 @@ public class HQuery<T> extends QueryImpl<T> {
     }
   }
 
+  private void traceQuery(long startNanos) {
+    if (traceMode == TraceMode.ENABLED) {
+      tracerSubject.fireInform(Tracer::traceMorphiaQuery, this, System.nanoTime() - startNanos);
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
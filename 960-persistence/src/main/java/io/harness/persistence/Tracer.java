@@ -13,4 +13,11 @@ import io.harness.annotations.dev.OwnedBy;
 @OwnedBy(HarnessTeam.PIPELINE)
 public interface Tracer {
   void traceMorphiaQuery(HQuery<?> query);
+
+  /**
+   * Traces a query which was executed, with the time its execution took.
+   */
+  default void traceMorphiaQuery(HQuery<?> query, long elapsedNanos) {
+    traceMorphiaQuery(query);
+  }
 }
@@ -8,6 +8,7 @@
 package io.harness.queue;
 
 import io.harness.config.WorkersConfiguration;
+import io.harness.mongo.queue.QueueChangeStreams;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
@@ -28,6 +29,7 @@ public class QueueListenerController implements Managed {
       Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("queue-listener-%d").build());
   private List<QueueListener<?>> abstractQueueListeners = new ArrayList<>();
   @Inject private WorkersConfiguration workersConfiguration;
+  @Inject private QueueChangeStreams queueChangeStreams;
   public void register(QueueListener<?> listener, int threads) {
     if (!workersConfiguration.confirmWorkerIsActive(listener.getClass())) {
       log.info("Not initializing QueueListener: [{}], worker has been configured as inactive", listener.getClass());
@@ -55,5 +57,6 @@ public class QueueListenerController implements Managed {
     abstractQueueListeners.forEach(QueueListener::shutDown);
     executorService.shutdownNow();
     executorService.awaitTermination(1, TimeUnit.HOURS);
+    queueChangeStreams.stop();
   }
 }
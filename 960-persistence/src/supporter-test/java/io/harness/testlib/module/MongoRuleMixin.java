@@ -17,12 +17,15 @@ import com.google.inject.Module;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.mongodb.MongoClient;
+import com.mongodb.MongoClientURI;
+import com.mongodb.client.MongoClients;
 import java.lang.annotation.Annotation;
 import java.util.List;
 import java.util.Random;
 
 public interface MongoRuleMixin {
-  enum MongoType { FAKE }
+  // REAL connects to the mongo given by the mongoUri system property, for benchmarks that need a real server.
+  enum MongoType { FAKE, REAL }
 
   default Module mongoTypeModule(List<Annotation> annotations) {
     return new ProviderModule() {
@@ -47,6 +50,22 @@ public interface MongoRuleMixin {
     return fakeMongo.getMongoClient();
   }
 
+  default String realMongoUri() {
+    return System.getProperty("mongoUri", "mongodb://localhost:27017");
+  }
+
+  default MongoClient realLegacyMongoClient(ClosingFactory closingFactory) {
+    MongoClient mongoClient = new MongoClient(new MongoClientURI(realMongoUri()));
+    closingFactory.addServer(mongoClient);
+    return mongoClient;
+  }
+
+  default com.mongodb.client.MongoClient realMongoClient(ClosingFactory closingFactory) {
+    com.mongodb.client.MongoClient mongoClient = MongoClients.create(realMongoUri());
+    closingFactory.addServer(mongoClient);
+    return mongoClient;
+  }
+
   default com.mongodb.client.MongoClient fakeMongoClient(ClosingFactory closingFactory) {
     FakeMongoCreator.FakeMongo fakeMongo = takeFakeMongo();
     closingFactory.addServer(fakeMongo);
@@ -77,16 +77,34 @@ public class TestMongoModule extends AbstractModule implements MongoRuleMixin {
     return fakeMongoClient(closingFactory);
   }
 
+  @Provides
+  @Named("realLegacyMongoClient")
+  @Singleton
+  public MongoClient realLegacyMongoClientProvider(ClosingFactory closingFactory) {
+    return realLegacyMongoClient(closingFactory);
+  }
+
+  @Provides
+  @Named("realMongoClient")
+  @Singleton
+  public com.mongodb.client.MongoClient realMongoClientProvider(ClosingFactory closingFactory) {
+    return realMongoClient(closingFactory);
+  }
+
   @Provides
   @Named("primaryMongoClient")
   @Singleton
-  public com.mongodb.client.MongoClient mongoClient(
-      MongoType type, @Named("fakeMongoClient") Provider<com.mongodb.client.MongoClient> fakeMongoClient) {
+  public com.mongodb.client.MongoClient mongoClient(MongoType type,
+      @Named("fakeMongoClient") Provider<com.mongodb.client.MongoClient> fakeMongoClient,
+      @Named("realMongoClient") Provider<com.mongodb.client.MongoClient> realMongoClient) {
     com.mongodb.client.MongoClient mongoClient = null;
     switch (type) {
       case FAKE:
         mongoClient = fakeMongoClient.get();
         break;
+      case REAL:
+        mongoClient = realMongoClient.get();
+        break;
       default:
         unhandled(type);
     }
@@ -97,21 +115,27 @@ public class TestMongoModule extends AbstractModule implements MongoRuleMixin {
   @Provides
   @Named("locksMongoClient")
   @Singleton
-  public MongoClient locksMongoClient(@Named("fakeLegacyMongoClient") MongoClient mongoClient) throws Exception {
-    return mongoClient;
+  public MongoClient locksMongoClient(MongoType type,
+      @Named("fakeLegacyMongoClient") Provider<MongoClient> fakeLegacyMongoClient,
+      @Named("realLegacyMongoClient") Provider<MongoClient> realLegacyMongoClient) throws Exception {
+    return type == MongoType.REAL ? realLegacyMongoClient.get() : fakeLegacyMongoClient.get();
   }
 
   @Provides
   @Named("primaryDatastore")
   @Singleton
   AdvancedDatastore datastore(@Named("databaseName") String databaseName, MongoType type,
-      @Named("fakeLegacyMongoClient") Provider<MongoClient> fakeLegacyMongoClient, Morphia morphia,
+      @Named("fakeLegacyMongoClient") Provider<MongoClient> fakeLegacyMongoClient,
+      @Named("realLegacyMongoClient") Provider<MongoClient> realLegacyMongoClient, Morphia morphia,
       ObjectFactory objectFactory) {
     MongoClient mongoClient = null;
     switch (type) {
       case FAKE:
         mongoClient = fakeLegacyMongoClient.get();
         break;
+      case REAL:
+        mongoClient = realLegacyMongoClient.get();
+        break;
       default:
         unhandled(type);
     }
@@ -8,8 +8,10 @@
 package io.harness.cache;
 
 import static io.harness.cache.CacheBackend.REDIS;
+import static io.harness.cache.CacheBackend.REDIS_NEAR_CACHE;
 import static io.harness.cache.HarnessCacheManagerImpl.CACHE_PREFIX;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.KSHITIJ;
 import static io.harness.rule.OwnerRule.UTKARSH;
 
@@ -209,4 +211,23 @@ public class HarnessCacheManagerImplTest extends CategoryTest {
     assertThat(cache).isNotNull();
     verify(cacheManager, times(2)).getCache(internalCacheName, String.class, Integer.class);
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void test_getCache_shouldUseNearCacheOnlyForListedCaches() {
+    CacheConfig cacheConfig = CacheConfig.builder()
+                                  .cacheBackend(REDIS_NEAR_CACHE)
+                                  .cacheNamespace("test")
+                                  .nearCaches(Collections.singleton("immutableCache"))
+                                  .build();
+    HarnessCacheManager nearCacheManager = new HarnessCacheManagerImpl(cacheManager, Optional.empty(), cacheConfig);
+    Factory<ExpiryPolicy> expiryPolicy = AccessedExpiryPolicy.factoryOf(Duration.TEN_MINUTES);
+    when(cacheManager.getCache(any(), eq(String.class), eq(Integer.class))).thenReturn(new NoOpCache<>());
+
+    assertThat(nearCacheManager.getCache("immutableCache", String.class, Integer.class, expiryPolicy))
+        .isInstanceOf(NearCache.class);
+    assertThat(nearCacheManager.getCache("mutableCache", String.class, Integer.class, expiryPolicy))
+        .isNotInstanceOf(NearCache.class);
+  }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.cache.NearCache.NEAR_CACHE_HIT;
+import static io.harness.cache.NearCache.NEAR_CACHE_INVALIDATION;
+import static io.harness.cache.NearCache.NEAR_CACHE_MISS;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import java.time.Duration;
+import java.util.Map;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryUpdatedListener;
+import javax.cache.event.EventType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class NearCacheTest extends CategoryTest {
+  private Cache<String, String> remoteCache;
+  private MetricService metricService;
+  private NearCache<String, String> nearCache;
+  private CacheEntryListenerConfiguration<String, String> listenerConfiguration;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    remoteCache = mock(Cache.class);
+    when(remoteCache.getName()).thenReturn("hCache/test");
+    metricService = mock(MetricService.class);
+    nearCache = new NearCache<>(remoteCache, 100, Duration.ofMinutes(1), metricService);
+
+    ArgumentCaptor<CacheEntryListenerConfiguration<String, String>> captor =
+        ArgumentCaptor.forClass(CacheEntryListenerConfiguration.class);
+    verify(remoteCache).registerCacheEntryListener(captor.capture());
+    listenerConfiguration = captor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void publishUpdate(String key) {
+    CacheEntryEvent<String, String> event = new CacheEntryEvent<String, String>(remoteCache, EventType.UPDATED) {
+      @Override
+      public String getKey() {
+        return key;
+      }
+
+      @Override
+      public String getValue() {
+        return null;
+      }
+
+      @Override
+      public String getOldValue() {
+        return null;
+      }
+
+      @Override
+      public boolean isOldValueAvailable() {
+        return false;
+      }
+
+      @Override
+      public <T> T unwrap(Class<T> clazz) {
+        return null;
+      }
+    };
+    ((CacheEntryUpdatedListener<String, String>) listenerConfiguration.getCacheEntryListenerFactory().create())
+        .onUpdated(singletonList(event));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldServeRepeatedReadsLocally() {
+    when(remoteCache.get("key")).thenReturn("value");
+
+    assertThat(nearCache.get("key")).isEqualTo("value");
+    assertThat(nearCache.get("key")).isEqualTo("value");
+    assertThat(nearCache.containsKey("key")).isTrue();
+
+    verify(remoteCache, times(1)).get("key");
+    verify(metricService, times(1)).incCounter(NEAR_CACHE_MISS);
+    verify(metricService, times(1)).incCounter(NEAR_CACHE_HIT);
+    verify(metricService).recordDuration(any(), any());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotKeepMissingEntries() {
+    assertThat(nearCache.get("key")).isNull();
+    assertThat(nearCache.get("key")).isNull();
+    verify(remoteCache, times(2)).get("key");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldInvalidateOnLocalWrite() {
+    when(remoteCache.get("key")).thenReturn("value", "newValue");
+    assertThat(nearCache.get("key")).isEqualTo("value");
+
+    nearCache.put("key", "newValue");
+    verify(remoteCache).put("key", "newValue");
+    assertThat(nearCache.get("key")).isEqualTo("newValue");
+    verify(remoteCache, times(2)).get("key");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldInvalidateOnPublishedUpdate() {
+    when(remoteCache.get("key")).thenReturn("value", "newValue");
+    assertThat(nearCache.get("key")).isEqualTo("value");
+
+    publishUpdate("key");
+    assertThat(nearCache.get("key")).isEqualTo("newValue");
+    verify(metricService).incCounter(NEAR_CACHE_INVALIDATION);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotKeepValueReadDuringInvalidation() {
+    doAnswer(invocation -> {
+      // The value read from Redis is already outdated when the invalidation arrives.
+      publishUpdate("key");
+      return "value";
+    })
+        .when(remoteCache)
+        .get("key");
+
+    assertThat(nearCache.get("key")).isEqualTo("value");
+    nearCache.get("key");
+    verify(remoteCache, times(2)).get("key");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReadOnlyMissingEntriesFromRemote() {
+    when(remoteCache.get("a")).thenReturn("1");
+    nearCache.get("a");
+    when(remoteCache.getAll(anySet())).thenReturn(ImmutableMap.of("b", "2"));
+
+    Map<String, String> values = nearCache.getAll(Sets.newHashSet("a", "b"));
+    assertThat(values).hasSize(2).containsEntry("a", "1").containsEntry("b", "2");
+    verify(remoteCache).getAll(Sets.newHashSet("b"));
+
+    assertThat(nearCache.getAll(Sets.newHashSet("a", "b"))).hasSize(2);
+    verify(remoteCache, times(1)).getAll(anySet());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldWorkBehindVersionedCache() {
+    Cache<VersionedKey<String>, String> versionedRemoteCache = mock(Cache.class);
+    NearCache<VersionedKey<String>, String> versionedNearCache =
+        new NearCache<>(versionedRemoteCache, 100, Duration.ofMinutes(1), null);
+    VersionedCache<String, String> v1 = new VersionedCache<>(versionedNearCache, "1");
+    VersionedCache<String, String> v2 = new VersionedCache<>(versionedNearCache, "2");
+    when(versionedRemoteCache.get(new VersionedKey<>("key", "1"))).thenReturn("v1");
+    when(versionedRemoteCache.get(new VersionedKey<>("key", "2"))).thenReturn("v2");
+
+    assertThat(v1.get("key")).isEqualTo("v1");
+    assertThat(v2.get("key")).isEqualTo("v2");
+    assertThat(v1.get("key")).isEqualTo("v1");
+    verify(versionedRemoteCache, times(1)).get(new VersionedKey<>("key", "1"));
+  }
+}
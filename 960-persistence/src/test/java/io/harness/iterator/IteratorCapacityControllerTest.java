@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.iterator;
+
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_LAG;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_THREAD_POOL_SIZE;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class IteratorCapacityControllerTest extends CategoryTest {
+  private ScheduledThreadPoolExecutor workerPool;
+  private PersistenceMetricsServiceImpl metricsService;
+  private IteratorCapacityController controller;
+
+  @Before
+  public void setUp() {
+    workerPool = new ScheduledThreadPoolExecutor(4);
+    metricsService = mock(PersistenceMetricsServiceImpl.class);
+    controller = new IteratorCapacityController("test", workerPool, 4, 10, Duration.ofSeconds(10), metricsService);
+  }
+
+  @After
+  public void tearDown() {
+    workerPool.shutdownNow();
+  }
+
+  private void recordLag(long lagMillis) {
+    for (int i = 0; i < 100; i++) {
+      controller.recordLag(lagMillis);
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldGrowWhenLaggingWithAllWorkersBusy() throws InterruptedException {
+    recordLag(60000);
+    controller.getSemaphore().acquire(4);
+
+    controller.adjust();
+    assertThat(controller.getPoolSize()).isEqualTo(5);
+    assertThat(workerPool.getCorePoolSize()).isEqualTo(5);
+    assertThat(controller.getSemaphore().availablePermits()).isEqualTo(1);
+
+    while (controller.getPoolSize() < 10) {
+      controller.getSemaphore().acquire(controller.getSemaphore().availablePermits());
+      controller.adjust();
+    }
+    assertThat(workerPool.getCorePoolSize()).isEqualTo(10);
+
+    verify(metricsService).recordIteratorMetricValue(eq("test"), eq(10.0), eq(ITERATOR_THREAD_POOL_SIZE));
+    verify(metricsService, atLeastOnce()).recordIteratorMetricValue(eq("test"), anyDouble(), eq(ITERATOR_LAG));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotGrowWhenLaggingWithIdleWorkers() {
+    recordLag(60000);
+
+    controller.adjust();
+    assertThat(controller.getPoolSize()).isEqualTo(4);
+    assertThat(controller.getSemaphore().availablePermits()).isEqualTo(4);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldShrinkBackWhenIdle() throws InterruptedException {
+    recordLag(60000);
+    controller.getSemaphore().acquire(4);
+    controller.adjust();
+    controller.getSemaphore().acquire(1);
+    controller.adjust();
+    assertThat(controller.getPoolSize()).isEqualTo(6);
+    controller.getSemaphore().release(5);
+
+    recordLag(0);
+    assertThat(controller.getLagMillis()).isLessThan(5000);
+    controller.adjust();
+    controller.adjust();
+    controller.adjust();
+    assertThat(controller.getPoolSize()).isEqualTo(4);
+    assertThat(workerPool.getCorePoolSize()).isEqualTo(4);
+    assertThat(controller.getSemaphore().availablePermits()).isEqualTo(4);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldAverageTheBusyWorkersOverTheInterval() throws InterruptedException {
+    recordLag(60000);
+    controller.getSemaphore().acquire(4);
+    for (int i = 0; i < 10; i++) {
+      controller.sampleBusy();
+    }
+    controller.getSemaphore().release(1);
+
+    controller.adjust();
+    assertThat(controller.getPoolSize()).isEqualTo(5);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldDecayTheLagWhenNothingIsPickedUp() throws InterruptedException {
+    recordLag(60000);
+    long lag = controller.getLagMillis();
+    controller.adjust();
+    assertThat(controller.getLagMillis()).isEqualTo(lag);
+
+    controller.adjust();
+    assertThat(controller.getLagMillis()).isEqualTo(lag / 2);
+
+    // Workers busy all the time pick nothing up, the lag is not known then.
+    controller.getSemaphore().acquire(4);
+    controller.adjust();
+    assertThat(controller.getLagMillis()).isEqualTo(lag / 2);
+  }
+}
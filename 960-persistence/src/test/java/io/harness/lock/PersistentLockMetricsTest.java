@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.lock;
+
+import static io.harness.lock.PersistentLockMetrics.OTHER_LOCKS;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PersistentLockMetricsTest extends CategoryTest {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldStripEntityIdsFromLockNames() {
+    assertThat(PersistentLockMetrics.lockNamePrefix("io.harness.beans.Environment-Yq2vD3sbQ4mTkQ_4Jr7a-w"))
+        .isEqualTo("io.harness.beans.Environment");
+    assertThat(PersistentLockMetrics.lockNamePrefix("GRAPH_LOCK_Yq2vD3sbQ4mTkQ_4Jr7a-w")).isEqualTo("GRAPH_LOCK");
+    assertThat(PersistentLockMetrics.lockNamePrefix("HEALTH_CHECK - id")).isEqualTo("HEALTH_CHECK");
+    assertThat(PersistentLockMetrics.lockNamePrefix("DeploymentReconciliationJob"))
+        .isEqualTo("DeploymentReconciliationJob");
+    assertThat(PersistentLockMetrics.lockNamePrefix("PERPETUAL_TASK")).isEqualTo("PERPETUAL_TASK");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTagLockNamesOfIdsAndEmailsAsOther() {
+    assertThat(PersistentLockMetrics.lockNamePrefix("john.doe@harness.io")).isEqualTo(OTHER_LOCKS);
+    assertThat(PersistentLockMetrics.lockNamePrefix("John.Doe@harness.io")).isEqualTo(OTHER_LOCKS);
+    assertThat(PersistentLockMetrics.lockNamePrefix("Yq2vD3sbQ4mTkQ_4Jr7a-w")).isEqualTo(OTHER_LOCKS);
+    assertThat(PersistentLockMetrics.lockNamePrefix("6489a1f2c3d4e5f60718293a")).isEqualTo(OTHER_LOCKS);
+    assertThat(PersistentLockMetrics.lockNamePrefix("Yq-2vD3sbQ4mTkQ")).isEqualTo(OTHER_LOCKS);
+  }
+}
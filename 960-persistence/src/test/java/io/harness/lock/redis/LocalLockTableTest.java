@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.lock.redis;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class LocalLockTableTest extends CategoryTest {
+  private final LocalLockTable localLocks = new LocalLockTable();
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  private LocalLockTable.Handle acquireInOtherThread(String name, long waitMillis) throws Exception {
+    return executorService.submit(() -> localLocks.tryAcquire(name, ofMillis(waitMillis), ofMinutes(1))).get();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldExcludeOtherThreads() throws Exception {
+    LocalLockTable.Handle handle = localLocks.tryAcquire("lock", ZERO, ofMinutes(1));
+    assertThat(handle).isNotNull();
+    assertThat(handle.isContended()).isFalse();
+
+    assertThat(acquireInOtherThread("lock", 0)).isNull();
+    assertThat(acquireInOtherThread("other", 0)).isNotNull();
+
+    assertThat(handle.release()).isTrue();
+    assertThat(handle.release()).isFalse();
+    LocalLockTable.Handle otherHandle = acquireInOtherThread("lock", 0);
+    assertThat(otherHandle).isNotNull();
+    otherHandle.release();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldBeReentrant() throws Exception {
+    LocalLockTable.Handle outer = localLocks.tryAcquire("lock", ZERO, ofMinutes(1));
+    LocalLockTable.Handle inner = localLocks.tryAcquire("lock", ZERO, ofMinutes(1));
+    assertThat(inner).isNotNull();
+
+    inner.release();
+    assertThat(acquireInOtherThread("lock", 0)).isNull();
+    outer.release();
+    assertThat(localLocks.size()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldWakeUpWaiterOnRelease() throws Exception {
+    LocalLockTable.Handle handle = localLocks.tryAcquire("lock", ZERO, ofMinutes(1));
+    Future<LocalLockTable.Handle> waiter =
+        executorService.submit(() -> localLocks.tryAcquire("lock", ofSeconds(30), ofMinutes(1)));
+    Thread.sleep(100);
+
+    long startTime = System.currentTimeMillis();
+    handle.release();
+    LocalLockTable.Handle waiterHandle = waiter.get(10, TimeUnit.SECONDS);
+    assertThat(waiterHandle).isNotNull();
+    assertThat(waiterHandle.isContended()).isTrue();
+    assertThat(System.currentTimeMillis() - startTime).isLessThan(10000);
+
+    waiterHandle.release();
+    assertThat(localLocks.size()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldExpireAfterLeaseTime() throws Exception {
+    LocalLockTable.Handle handle = localLocks.tryAcquire("lock", ZERO, ofMillis(100));
+    LocalLockTable.Handle otherHandle = acquireInOtherThread("lock", 5000);
+    assertThat(otherHandle).isNotNull();
+
+    // The expired lock does not release the lock taken over by the other thread.
+    handle.release();
+    assertThat(localLocks.tryAcquire("lock", ZERO, ofMinutes(1))).isNull();
+    otherHandle.release();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRemoveTheLockWhoseLeaseExpiredWithoutRelease() throws Exception {
+    localLocks.tryAcquire("lock", ZERO, ofMillis(10));
+    assertThat(localLocks.size()).isEqualTo(1);
+    Thread.sleep(50);
+
+    localLocks.sweep();
+    assertThat(localLocks.size()).isEqualTo(0);
+  }
+}
@@ -8,7 +8,9 @@
 package io.harness.lock.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.LOCK_CONTENTION;
 import static io.harness.redis.RedisReadMode.SLAVE;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.PIYUSH;
 import static io.harness.rule.OwnerRule.RAGHAV_MURALI;
 import static io.harness.rule.OwnerRule.RAMA;
@@ -17,8 +19,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,12 +32,15 @@ import io.harness.PersistenceTestBase;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.lock.AcquiredLock;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.redis.RedisConfig;
 import io.harness.redis.RedissonClientFactory;
 import io.harness.rule.Owner;
 
 import java.time.Duration;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.junit.Before;
@@ -185,4 +192,64 @@ public class RedisPersistentLockerTest extends PersistenceTestBase {
 
     verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testLockHeldByOtherThreadIsNotRequestedFromRedis() throws Exception {
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try (AcquiredLock lock = redisPersistentLocker.acquireLock("lock", Duration.ofMinutes(1))) {
+      assertThat(executorService.submit(() -> redisPersistentLocker.tryToAcquireLock("lock", Duration.ofMinutes(1)))
+                     .get())
+          .isNull();
+    } finally {
+      executorService.shutdownNow();
+    }
+    verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+
+    try (AcquiredLock lock = redisPersistentLocker.acquireLock("lock", Duration.ofMinutes(1))) {
+      assertThat(lock).isNotNull();
+    }
+    verify(rLock, times(2)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testWaitForLockHeldByOtherPodIsContention() throws InterruptedException {
+    MetricService metricService = mock(MetricService.class);
+    redisPersistentLocker.setMetricService(metricService);
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false, true);
+
+    try (AcquiredLock lock = redisPersistentLocker.waitToAcquireLock(
+             AcquiredLock.class, "cba", Duration.ofMinutes(1), Duration.ofMinutes(2))) {
+      assertThat(lock).isNotNull();
+    }
+
+    verify(rLock).tryLock(eq(0L), anyLong(), any(TimeUnit.class));
+    verify(rLock, times(2)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+    verify(metricService).incCounter(LOCK_CONTENTION);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testFailureWithoutWaitIsNotContention() throws InterruptedException {
+    MetricService metricService = mock(MetricService.class);
+    redisPersistentLocker.setMetricService(metricService);
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+    assertThat(redisPersistentLocker.tryToAcquireLock("lock", Duration.ofMinutes(1))).isNull();
+
+    verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+    verify(metricService, never()).incCounter(LOCK_CONTENTION);
+  }
 }
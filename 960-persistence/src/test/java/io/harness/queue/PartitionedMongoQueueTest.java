@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.queue;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.joor.Reflect.on;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.harness.PersistenceTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.mongo.changestreams.ChangeEvent;
+import io.harness.mongo.changestreams.ChangeTracker;
+import io.harness.mongo.changestreams.ChangeTrackingInfo;
+import io.harness.mongo.changestreams.ChangeType;
+import io.harness.mongo.queue.PartitionedMongoQueueConsumer;
+import io.harness.mongo.queue.QueueChangeStreams;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class PartitionedMongoQueueTest extends PersistenceTestBase {
+  @Inject private HPersistence persistence;
+  @Inject private QueuePublisher<TestTopicQueuableObject> topicProducer;
+
+  private ChangeTracker changeTracker;
+  private QueueChangeStreams changeStreams;
+  private ExecutorService executorService;
+
+  @Before
+  public void setup() {
+    changeTracker = mock(ChangeTracker.class);
+    doReturn(true).when(changeTracker).checkIfAnyChangeTrackerIsAlive();
+    Injector injector = mock(Injector.class);
+    doReturn(changeTracker).when(injector).getInstance(ChangeTracker.class);
+    changeStreams = new QueueChangeStreams();
+    on(changeStreams).set("injector", injector);
+    executorService = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+    changeStreams.stop();
+  }
+
+  private PartitionedMongoQueueConsumer<TestTopicQueuableObject> createConsumer(QueueChangeStreams changeStreams) {
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> consumer = new PartitionedMongoQueueConsumer<>(
+        TestTopicQueuableObject.class, ofSeconds(5), asList(asList("topic")), changeStreams, 4, 3);
+    on(consumer).set("persistence", persistence);
+    return consumer;
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldPollWithoutChangeStream() {
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> consumer = createConsumer(null);
+    topicProducer.send(new TestTopicQueuableObject(1));
+
+    TestTopicQueuableObject message = consumer.get(ofSeconds(3), ofMillis(100));
+    assertThat(message).isNotNull();
+    assertThat(message.getData()).isEqualTo(1);
+    assertThat(consumer.get(ZERO, ZERO)).isNull();
+
+    consumer.ack(message);
+    assertThat(consumer.count(QueueConsumer.Filter.ALL)).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldClaimEveryMessageOnceAcrossConsumers() {
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> first = createConsumer(null);
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> second = createConsumer(null);
+    for (int i = 0; i < 10; i++) {
+      topicProducer.send(new TestTopicQueuableObject(i));
+    }
+
+    Set<Integer> claimed = new HashSet<>();
+    TestTopicQueuableObject message;
+    do {
+      message = first.get(ZERO, ZERO);
+      if (message != null) {
+        assertThat(claimed.add(message.getData())).isTrue();
+      }
+      TestTopicQueuableObject other = second.get(ZERO, ZERO);
+      if (other != null) {
+        assertThat(claimed.add(other.getData())).isTrue();
+        message = other;
+      }
+    } while (message != null);
+
+    assertThat(claimed).hasSize(10);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldWakeUpOnChangeStreamEvent() throws Exception {
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> consumer = createConsumer(changeStreams);
+    assertThat(consumer.get(ZERO, ZERO)).isNull();
+
+    ArgumentCaptor<Set<ChangeTrackingInfo<?>>> captor = ArgumentCaptor.forClass(Set.class);
+    verify(changeTracker).start(captor.capture());
+    assertThat(captor.getValue()).hasSize(1);
+    ChangeTrackingInfo<TestTopicQueuableObject> changeTrackingInfo =
+        (ChangeTrackingInfo<TestTopicQueuableObject>) captor.getValue().iterator().next();
+    assertThat(changeTrackingInfo.getMorphiaClass()).isEqualTo(TestTopicQueuableObject.class);
+
+    long startTime = System.currentTimeMillis();
+    Future<TestTopicQueuableObject> future = executorService.submit(() -> consumer.get(ofSeconds(20), ofSeconds(20)));
+    Thread.sleep(200);
+    topicProducer.send(new TestTopicQueuableObject(1));
+    TestTopicQueuableObject inserted = new TestTopicQueuableObject(1);
+    inserted.setTopic("topic");
+    changeTrackingInfo.getChangeSubscriber().onChange(ChangeEvent.<TestTopicQueuableObject>builder()
+                                                          .token("token")
+                                                          .changeType(ChangeType.INSERT)
+                                                          .entityType(TestTopicQueuableObject.class)
+                                                          .uuid("uuid")
+                                                          .fullDocument(inserted)
+                                                          .build());
+
+    assertThat(future.get(10, TimeUnit.SECONDS).getData()).isEqualTo(1);
+    assertThat(System.currentTimeMillis() - startTime).isLessThan(10000);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldWakeUpWhenRequeuedMessageIsDue() {
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> consumer = createConsumer(changeStreams);
+    topicProducer.send(new TestTopicQueuableObject(1));
+    TestTopicQueuableObject message = consumer.get(ofSeconds(3), ofSeconds(3));
+    assertThat(message).isNotNull();
+
+    consumer.requeue(message.getId(), 1, new Date(System.currentTimeMillis() + 500));
+    assertThat(consumer.get(ZERO, ZERO)).isNull();
+
+    // No change stream event will come, the consumer has to wake up by itself when the message is due.
+    TestTopicQueuableObject requeued = consumer.get(ofSeconds(10), ofSeconds(10));
+    assertThat(requeued).isNotNull();
+    assertThat(requeued.getRetries()).isEqualTo(1);
+    verify(changeTracker).start(any());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldShareTheChangeStreamOfTheQueue() {
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> first = createConsumer(changeStreams);
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> second = createConsumer(changeStreams);
+    assertThat(first.get(ZERO, ZERO)).isNull();
+    assertThat(second.get(ZERO, ZERO)).isNull();
+    verify(changeTracker).start(any());
+
+    first.stop();
+    verify(changeTracker, never()).stop();
+    second.stop();
+    verify(changeTracker).stop();
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.queue;
+
+import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+
+import io.harness.factory.ClosingFactory;
+import io.harness.govern.ProviderModule;
+import io.harness.mongo.MongoConfig;
+import io.harness.mongo.queue.MongoQueueConsumer;
+import io.harness.mongo.queue.PartitionedMongoQueueConsumer;
+import io.harness.mongo.queue.QueueChangeStreams;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.PersistenceRule;
+import io.harness.testlib.module.MongoRuleMixin.MongoType;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.google.inject.util.Modules;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+
+/**
+ * Compares {@link MongoQueueConsumer} with {@link PartitionedMongoQueueConsumer}, with and without change streams,
+ * against the mongo given by the mongoUri system property. Change streams need a replica set, a single node one is
+ * enough. Every consumer stands for a pod and is used by one listener thread waiting like a {@link QueueListener}.
+ *
+ * For every consumer it measures the messages consumed per second while a publisher sends them, and the Mongo
+ * operations per second while the consumers wait on an empty queue. The operations are read from the opcounters of
+ * serverStatus, so the mongo should not serve anything else during the run.
+ *
+ * Usage: QueueConsumerBenchmark [consumers] [messages] [idleSeconds],
+ * with -DmongoUri=mongodb://localhost:27017/?replicaSet=rs0
+ */
+@Slf4j
+public class QueueConsumerBenchmark {
+  private static final List<String> TOPIC = asList("topic");
+
+  private final int consumers;
+  private final int messages;
+  private final long idleMillis;
+  private final Injector injector;
+  private final HPersistence persistence;
+  private final QueuePublisher<TestTopicQueuableObject> publisher;
+
+  private QueueConsumerBenchmark(int consumers, int messages, long idleMillis, Injector injector) {
+    this.consumers = consumers;
+    this.messages = messages;
+    this.idleMillis = idleMillis;
+    this.injector = injector;
+    this.persistence = injector.getInstance(HPersistence.class);
+    this.publisher = injector.getInstance(new Key<QueuePublisher<TestTopicQueuableObject>>() {});
+  }
+
+  public static void main(String[] args) throws Exception {
+    int consumers = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+    int messages = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+    long idleMillis = TimeUnit.SECONDS.toMillis(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+    try (ClosingFactory closingFactory = new ClosingFactory()) {
+      PersistenceRule persistenceRule = new PersistenceRule(closingFactory);
+      List<Module> modules = persistenceRule.modules(Collections.emptyList());
+      Injector injector = Guice.createInjector(Modules.override(modules).with(new ProviderModule() {
+        @Provides
+        @Singleton
+        MongoType mongoType() {
+          return MongoType.REAL;
+        }
+
+        // The change tracker connects on its own, the database has to be part of its uri.
+        @Provides
+        @Singleton
+        MongoConfig mongoConfig(@Named("databaseName") String databaseName) {
+          return MongoConfig.builder().uri(withDatabase(persistenceRule.realMongoUri(), databaseName)).build();
+        }
+      }));
+      persistenceRule.initialize(injector, modules);
+
+      QueueConsumerBenchmark benchmark = new QueueConsumerBenchmark(consumers, messages, idleMillis, injector);
+      benchmark.persistence.ensureIndexForTesting(TestTopicQueuableObject.class);
+      benchmark.run("MongoQueueConsumer", benchmark::createMongoQueueConsumer);
+      benchmark.run("PartitionedMongoQueueConsumer polling", () -> benchmark.createPartitionedQueueConsumer(null));
+      benchmark.run("PartitionedMongoQueueConsumer with change streams",
+          () -> benchmark.createPartitionedQueueConsumer(benchmark.createChangeStreams()));
+    }
+  }
+
+  private static String withDatabase(String uri, String databaseName) {
+    int optionsStart = uri.indexOf('?');
+    String hosts = optionsStart < 0 ? uri : uri.substring(0, optionsStart);
+    String options = optionsStart < 0 ? "" : uri.substring(optionsStart);
+    return (hosts.endsWith("/") ? hosts : hosts + "/") + databaseName + options;
+  }
+
+  private QueueConsumer<TestTopicQueuableObject> createMongoQueueConsumer() {
+    MongoQueueConsumer<TestTopicQueuableObject> consumer =
+        new MongoQueueConsumer<>(TestTopicQueuableObject.class, ofSeconds(5), asList(TOPIC));
+    injector.injectMembers(consumer);
+    return consumer;
+  }
+
+  private QueueConsumer<TestTopicQueuableObject> createPartitionedQueueConsumer(QueueChangeStreams changeStreams) {
+    PartitionedMongoQueueConsumer<TestTopicQueuableObject> consumer = new PartitionedMongoQueueConsumer<>(
+        TestTopicQueuableObject.class, ofSeconds(5), asList(TOPIC), changeStreams);
+    injector.injectMembers(consumer);
+    return consumer;
+  }
+
+  // Every pod opens its own change stream, so every consumer gets its own change streams instead of the singleton.
+  private QueueChangeStreams createChangeStreams() {
+    QueueChangeStreams changeStreams = new QueueChangeStreams();
+    injector.injectMembers(changeStreams);
+    return changeStreams;
+  }
+
+  private void run(String name, ConsumerFactory consumerFactory) throws Exception {
+    List<QueueConsumer<TestTopicQueuableObject>> queueConsumers = new ArrayList<>();
+    for (int i = 0; i < consumers; i++) {
+      queueConsumers.add(consumerFactory.create());
+    }
+    try {
+      // Opens the change streams before anything is measured.
+      queueConsumers.forEach(consumer -> consumer.get(ofSeconds(0), ofSeconds(0)));
+      long messagesPerSecond = measureThroughput(queueConsumers);
+      double idleOperationsPerSecond = measureIdleOperations(queueConsumers);
+      log.info("{}: {} consumers, {} messages/s, {} idle Mongo ops/s", name, consumers, messagesPerSecond,
+          String.format("%.1f", idleOperationsPerSecond));
+    } finally {
+      for (QueueConsumer<TestTopicQueuableObject> consumer : queueConsumers) {
+        if (consumer instanceof PartitionedMongoQueueConsumer) {
+          ((PartitionedMongoQueueConsumer<TestTopicQueuableObject>) consumer).stop();
+        }
+      }
+    }
+  }
+
+  private long measureThroughput(List<QueueConsumer<TestTopicQueuableObject>> queueConsumers) throws Exception {
+    AtomicLong consumed = new AtomicLong();
+    AtomicLong endNanos = new AtomicLong();
+    long startNanos = System.nanoTime();
+    runConsumers(queueConsumers, () -> consumed.get() < messages, consumer -> {
+      TestTopicQueuableObject message = consumer.get(ofSeconds(3), ofSeconds(1));
+      if (message != null) {
+        consumer.ack(message);
+        if (consumed.incrementAndGet() == messages) {
+          endNanos.set(System.nanoTime());
+        }
+      }
+    }, () -> {
+      for (int i = 0; i < messages; i++) {
+        publisher.send(new TestTopicQueuableObject(i));
+      }
+    });
+    // The waiting consumers stop up to a wait later, the time ends with the last message.
+    long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(endNanos.get() - startNanos));
+    return consumed.get() * 1000 / millis;
+  }
+
+  private double measureIdleOperations(List<QueueConsumer<TestTopicQueuableObject>> queueConsumers)
+      throws Exception {
+    long startOperations = serverOperations();
+    long startNanos = System.nanoTime();
+    long endTime = System.currentTimeMillis() + idleMillis;
+    runConsumers(queueConsumers, () -> System.currentTimeMillis() < endTime, consumer -> {
+      TestTopicQueuableObject message = consumer.get(ofSeconds(3), ofSeconds(1));
+      if (message != null) {
+        log.error("Unexpected message {} in the idle queue", message.getId());
+        consumer.ack(message);
+      }
+    }, () -> {});
+    long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    // The serverStatus command reading the counters counts as one operation.
+    return (serverOperations() - startOperations - 1) * 1000.0 / millis;
+  }
+
+  private long serverOperations() {
+    Document opcounters = (Document) persistence.getDatastore(TestTopicQueuableObject.class)
+                              .getMongo()
+                              .getDatabase("admin")
+                              .runCommand(new Document("serverStatus", 1))
+                              .get("opcounters");
+    long operations = 0;
+    for (Object count : opcounters.values()) {
+      operations += ((Number) count).longValue();
+    }
+    return operations;
+  }
+
+  private void runConsumers(List<QueueConsumer<TestTopicQueuableObject>> queueConsumers, Running running,
+      ConsumerStep step, Runnable publishing) throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(queueConsumers.size());
+    AtomicBoolean failed = new AtomicBoolean();
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (QueueConsumer<TestTopicQueuableObject> consumer : queueConsumers) {
+        futures.add(executorService.submit(() -> {
+          while (!failed.get() && running.get()) {
+            step.run(consumer);
+          }
+        }));
+      }
+      publishing.run();
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (Exception e) {
+          failed.set(true);
+          throw e;
+        }
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private interface ConsumerFactory {
+    QueueConsumer<TestTopicQueuableObject> create();
+  }
+
+  private interface Running {
+    boolean get();
+  }
+
+  private interface ConsumerStep {
+    void run(QueueConsumer<TestTopicQueuableObject> consumer);
+  }
+}
@@ -13,4 +13,10 @@ import io.harness.annotations.dev.OwnedBy;
 @OwnedBy(HarnessTeam.CDP)
 public interface InstanceSyncMonitoringService {
   void recordMetrics(String accountId, boolean isNg, boolean isNewDeployment, long duration);
+
+  /**
+   * Records how many deployments of an NG perpetual task response were processed, and how many of them had unchanged
+   * or changed instances
+   */
+  void recordDeltaMetrics(String accountId, int processed, int unchanged, int changed);
 }
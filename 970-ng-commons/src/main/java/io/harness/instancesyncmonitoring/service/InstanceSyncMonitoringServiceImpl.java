@@ -26,6 +26,9 @@ public class InstanceSyncMonitoringServiceImpl implements InstanceSyncMonitoring
   public static final String PERPETUAL_TASK_METRIC_NAME = "instance_sync_perpetual_task";
   public static final String DURATION_METRIC_PATTERN = "%s_duration";
   public static final String NG_SUFFIX_PATTERN = "%s_ng";
+  public static final String PROCESSED_METRIC_NAME = "instance_sync_perpetual_task_ng_processed";
+  public static final String UNCHANGED_METRIC_NAME = "instance_sync_perpetual_task_ng_unchanged";
+  public static final String CHANGED_METRIC_NAME = "instance_sync_perpetual_task_ng_changed";
 
   public void recordMetrics(String accountId, boolean isNg, boolean isNewDeployment, long duration) {
     String countMetricName = isNewDeployment ? NEW_DEPLOYMENT_METRIC_NAME : PERPETUAL_TASK_METRIC_NAME;
@@ -38,6 +41,14 @@ public class InstanceSyncMonitoringServiceImpl implements InstanceSyncMonitoring
     recordMetricDuration(accountId, durationMetricName, Duration.ofMillis(duration));
   }
 
+  public void recordDeltaMetrics(String accountId, int processed, int unchanged, int changed) {
+    try (AccountMetricContext ignore = new AccountMetricContext(accountId)) {
+      metricService.recordMetric(PROCESSED_METRIC_NAME, processed);
+      metricService.recordMetric(UNCHANGED_METRIC_NAME, unchanged);
+      metricService.recordMetric(CHANGED_METRIC_NAME, changed);
+    }
+  }
+
   private void recordMetric(String accountId, String metricName) {
     try (AccountMetricContext ignore = new AccountMetricContext(accountId)) {
       metricService.incCounter(metricName);
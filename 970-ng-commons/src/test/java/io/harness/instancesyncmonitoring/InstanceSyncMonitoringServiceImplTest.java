@@ -7,9 +7,13 @@
 
 package io.harness.instancesyncmonitoring;
 
+import static io.harness.instancesyncmonitoring.service.InstanceSyncMonitoringServiceImpl.CHANGED_METRIC_NAME;
 import static io.harness.instancesyncmonitoring.service.InstanceSyncMonitoringServiceImpl.DURATION_METRIC_PATTERN;
 import static io.harness.instancesyncmonitoring.service.InstanceSyncMonitoringServiceImpl.NEW_DEPLOYMENT_METRIC_NAME;
 import static io.harness.instancesyncmonitoring.service.InstanceSyncMonitoringServiceImpl.NG_SUFFIX_PATTERN;
+import static io.harness.instancesyncmonitoring.service.InstanceSyncMonitoringServiceImpl.PROCESSED_METRIC_NAME;
+import static io.harness.instancesyncmonitoring.service.InstanceSyncMonitoringServiceImpl.UNCHANGED_METRIC_NAME;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.VIKYATH_HAREKAL;
 
 import static org.mockito.Mockito.verify;
@@ -68,4 +72,15 @@ public class InstanceSyncMonitoringServiceImplTest {
         .recordDuration(
             String.format(DURATION_METRIC_PATTERN, NEW_DEPLOYMENT_METRIC_NAME), Duration.ofMillis(duration));
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testRecordDeltaMetrics() {
+    instanceSyncMonitoringServiceImpl.recordDeltaMetrics(ACCOUNT_ID, 3, 2, 1);
+
+    verify(metricService).recordMetric(PROCESSED_METRIC_NAME, 3);
+    verify(metricService).recordMetric(UNCHANGED_METRIC_NAME, 2);
+    verify(metricService).recordMetric(CHANGED_METRIC_NAME, 1);
+  }
 }
@@ -10,6 +10,7 @@ package io.harness.config;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import java.util.Set;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +22,12 @@ public class PublisherConfiguration implements ActiveConfigValidator {
     return isActive(cls, active);
   }
 
+  // Class names of the messages whose queues wait on a change stream instead of polling, none by default.
+  @JsonProperty("changeStreamConsumers") Set<String> changeStreamConsumers;
+  public boolean isChangeStreamConsumerActive(Class cls) {
+    return changeStreamConsumers != null && changeStreamConsumers.contains(cls.getName());
+  }
+
   public static PublisherConfiguration allOn() {
     return new PublisherConfiguration();
   }
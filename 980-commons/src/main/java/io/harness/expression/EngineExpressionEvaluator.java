@@ -48,11 +48,9 @@ import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true,
@@ -82,7 +80,7 @@ public class EngineExpressionEvaluator {
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
+    this.engine = EngineExpressionParseCache.getEngine();
 
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
@@ -674,8 +672,8 @@ public class EngineExpressionEvaluator {
   protected Object evaluateExpressionInJexl(
       @NotNull String expression, @NotNull EngineJexlContext ctx, boolean shouldCreateScript) {
     ExpressionEvaluatorUtils.sanitizeExpression(expression, ctx);
-    return shouldCreateScript ? engine.createScript(expression).execute(ctx)
-                              : engine.createExpression(expression).evaluate(ctx);
+    return shouldCreateScript ? EngineExpressionParseCache.getScript(engine, expression).execute(ctx)
+                              : EngineExpressionParseCache.getExpression(engine, expression).evaluate(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -720,8 +718,10 @@ public class EngineExpressionEvaluator {
   }
 
   public static boolean isSingleExpression(String str) {
-    return TrackingExpressionResolver.isSingleExpression(
-        ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, str);
+    return EngineExpressionParseCache.isSingleExpression(str,
+        source
+        -> TrackingExpressionResolver.isSingleExpression(
+            ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, source));
   }
 
   public static boolean hasExpressions(String str) {
@@ -729,13 +729,17 @@ public class EngineExpressionEvaluator {
   }
 
   public static List<String> findExpressions(String str) {
-    return TrackingExpressionResolver.findExpressions(
-        ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, false, str);
+    return EngineExpressionParseCache.findExpressions(str, true, false,
+        ()
+            -> TrackingExpressionResolver.findExpressions(
+                ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, false, str));
   }
 
   public static List<String> findVariables(String str) {
-    return TrackingExpressionResolver.findExpressions(
-        ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, true, str);
+    return EngineExpressionParseCache.findExpressions(str, true, true,
+        ()
+            -> TrackingExpressionResolver.findExpressions(
+                ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, true, str));
   }
 
   public static boolean validVariableFieldName(String name) {
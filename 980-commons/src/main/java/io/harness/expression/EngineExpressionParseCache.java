@@ -0,0 +1,144 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.Value;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide cache of parsed jexl scripts/expressions and of the expressions found in `<+...>` templates.
+ *
+ * Parsing does not depend on the context or the functors registered on an evaluator, so entries are keyed by the
+ * expression text only and are shared across all {@link EngineExpressionEvaluator} instances. Parsed scripts are
+ * immutable and safe to execute concurrently with different contexts.
+ *
+ * A parsed script keeps a reference to the engine that parsed it, so only the scripts of the engine shared by all the
+ * evaluators are cached. Scripts of any other engine are parsed on every call and never keep that engine alive.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public final class EngineExpressionParseCache {
+  // Longer inputs are mostly rendered files and scripts which are rarely evaluated twice.
+  @VisibleForTesting static final int MAX_CACHEABLE_LENGTH = 4096;
+  private static final int MAX_ENTRIES = 10000;
+  private static final int CONCURRENCY_LEVEL = 16;
+  private static final JexlEngine ENGINE = new JexlBuilder().logger(new NoOpLog()).create();
+
+  private static final Cache<String, JexlScript> SCRIPTS = newCache();
+  private static final Cache<String, JexlExpression> EXPRESSIONS = newCache();
+  private static final Cache<TemplateKey, List<String>> TEMPLATE_EXPRESSIONS = newCache();
+  private static final Cache<String, Boolean> SINGLE_EXPRESSION_TEMPLATES = newCache();
+
+  private EngineExpressionParseCache() {}
+
+  /**
+   * The jexl engine shared by all the evaluators. Jexl engines are thread safe and hold no evaluation state.
+   */
+  public static JexlEngine getEngine() {
+    return ENGINE;
+  }
+
+  public static JexlScript getScript(JexlEngine engine, String expression) {
+    if (engine != ENGINE || !isCacheable(expression)) {
+      return engine.createScript(expression);
+    }
+    return getOrLoad(SCRIPTS, expression, () -> engine.createScript(expression));
+  }
+
+  public static JexlExpression getExpression(JexlEngine engine, String expression) {
+    if (engine != ENGINE || !isCacheable(expression)) {
+      return engine.createExpression(expression);
+    }
+    return getOrLoad(EXPRESSIONS, expression, () -> engine.createExpression(expression));
+  }
+
+  /**
+   * Returns the expressions found in the given template, tokenizing it only the first time it is seen. The returned
+   * list is a fresh copy, callers are free to modify it.
+   */
+  public static List<String> findExpressions(
+      String source, boolean wrapExpressions, boolean onlyVariables, Supplier<List<String>> tokenizer) {
+    if (!isCacheable(source)) {
+      return tokenizer.get();
+    }
+    List<String> expressions = getOrLoad(TEMPLATE_EXPRESSIONS, new TemplateKey(source, wrapExpressions, onlyVariables),
+        () -> ImmutableList.copyOf(tokenizer.get()));
+    return new ArrayList<>(expressions);
+  }
+
+  public static boolean isSingleExpression(String source, Predicate<String> checker) {
+    if (!isCacheable(source)) {
+      return checker.test(source);
+    }
+    return getOrLoad(SINGLE_EXPRESSION_TEMPLATES, source, () -> checker.test(source));
+  }
+
+  public static CacheStats getScriptStats() {
+    return SCRIPTS.stats().plus(EXPRESSIONS.stats());
+  }
+
+  public static CacheStats getTemplateStats() {
+    return TEMPLATE_EXPRESSIONS.stats().plus(SINGLE_EXPRESSION_TEMPLATES.stats());
+  }
+
+  @VisibleForTesting
+  static void invalidateAll() {
+    SCRIPTS.invalidateAll();
+    EXPRESSIONS.invalidateAll();
+    TEMPLATE_EXPRESSIONS.invalidateAll();
+    SINGLE_EXPRESSION_TEMPLATES.invalidateAll();
+  }
+
+  private static boolean isCacheable(String source) {
+    return source != null && source.length() <= MAX_CACHEABLE_LENGTH;
+  }
+
+  private static <K, V> Cache<K, V> newCache() {
+    return CacheBuilder.newBuilder()
+        .concurrencyLevel(CONCURRENCY_LEVEL)
+        .maximumSize(MAX_ENTRIES)
+        .recordStats()
+        .build();
+  }
+
+  private static <K, V> V getOrLoad(Cache<K, V> cache, K key, Callable<V> loader) {
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      // Keep the original parse exception so that callers can keep handling JexlException as before.
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new UncheckedExecutionException(e.getCause());
+    }
+  }
+
+  @Value
+  private static class TemplateKey {
+    String source;
+    boolean wrapExpressions;
+    boolean onlyVariables;
+  }
+}
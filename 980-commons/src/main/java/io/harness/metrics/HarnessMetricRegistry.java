@@ -142,6 +142,17 @@ public class HarnessMetricRegistry {
     }
   }
 
+  public void recordCounterInc(String metricName, String[] labelValues, double amount) {
+    Counter metric = (Counter) namesToCollectors.get(getAbsoluteMetricName(metricName));
+    if (metric != null) {
+      if (labelValues != null) {
+        metric.labels(labelValues).inc(amount);
+      } else {
+        metric.inc(amount);
+      }
+    }
+  }
+
   public void recordHistogram(String metricName, String[] labelValues, double amount) {
     Histogram metric = (Histogram) namesToCollectors.get(getAbsoluteMetricName(metricName));
     if (metric != null) {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Per thread kryo buffers reused across {@link KryoSerializer} calls.
+ *
+ * Serializers can call back into {@link KryoSerializer} while a buffer is in use, such nested calls get a fresh
+ * buffer. Buffers which grew beyond {@link #MAX_RETAINED_BUFFER_SIZE} while serializing a large payload are dropped on
+ * release, so that a single large payload does not pin memory on every thread.
+ */
+final class KryoBuffers {
+  private static final int BUFFER_SIZE = 4096;
+  @VisibleForTesting static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
+  private static final ThreadLocal<KryoBuffers> BUFFERS = ThreadLocal.withInitial(KryoBuffers::new);
+
+  private Output output = newOutput();
+  private boolean outputInUse;
+  private Input input = newInput();
+  private boolean inputInUse;
+
+  private KryoBuffers() {}
+
+  static Output acquireOutput() {
+    KryoBuffers buffers = BUFFERS.get();
+    if (buffers.outputInUse) {
+      return newOutput();
+    }
+    buffers.outputInUse = true;
+    return buffers.output;
+  }
+
+  static void release(Output output) {
+    KryoBuffers buffers = BUFFERS.get();
+    if (output != buffers.output) {
+      return;
+    }
+    if (output.getBuffer().length > MAX_RETAINED_BUFFER_SIZE) {
+      buffers.output = newOutput();
+    } else {
+      // Drops the reference to the stream and discards anything left in the buffer.
+      output.setOutputStream(null);
+    }
+    buffers.outputInUse = false;
+  }
+
+  static Input acquireInput() {
+    KryoBuffers buffers = BUFFERS.get();
+    if (buffers.inputInUse) {
+      return newInput();
+    }
+    buffers.inputInUse = true;
+    return buffers.input;
+  }
+
+  static void release(Input input) {
+    KryoBuffers buffers = BUFFERS.get();
+    if (input != buffers.input) {
+      return;
+    }
+    if (input.getBuffer().length > MAX_RETAINED_BUFFER_SIZE) {
+      buffers.input = newInput();
+    } else {
+      input.setInputStream(null);
+    }
+    buffers.inputInUse = false;
+  }
+
+  private static Output newOutput() {
+    return new Output(BUFFER_SIZE, -1);
+  }
+
+  private static Input newInput() {
+    return new Input(BUFFER_SIZE);
+  }
+}
@@ -14,7 +14,6 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
 
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -25,6 +24,13 @@ import org.apache.commons.lang3.StringUtils;
 @Slf4j
 public class StringReplacer {
   private static final char ESCAPE_CHAR = '\\';
+  // method invocation should be true for <+expr> in <+expr>.method()
+  private static final Pattern METHOD_INVOCATION_PATTERN = Pattern.compile("^\\.\\w+\\(");
+  // method invocation should be true for <+expr> in (<+expr>).method()
+  private static final Pattern WRAPPED_METHOD_INVOCATION_PATTERN = Pattern.compile("^\\)\\.\\w+\\(");
+  // https://commons.apache.org/proper/commons-jexl/reference/syntax.html
+  private static final Set<String> JEXL_KEYWORD_OPERATORS = Set.of("or", "eq", "ne", "and", "not", "size", "empty");
+  private static final Set<Character> SPACE_CHARS = Set.of(' ', '\n', '\t', '\r');
 
   private final ExpressionResolver expressionResolver;
   private final char[] expressionPrefix;
@@ -233,15 +239,8 @@ public class StringReplacer {
   private boolean checkIfValueHasMethodInvocation(StringBuffer buf, int expressionEndPos) {
     // Right substring
     CharSequence charSequence = buf.subSequence(expressionEndPos, buf.length());
-    // method invocation should be true for <+expr> in <+expr>.method()
-    Pattern pattern = Pattern.compile("^\\.\\w+\\(");
-    Matcher matcher = pattern.matcher(charSequence);
-    boolean isMatch = matcher.find();
-    // method invocation should be true for <+expr> in (<+expr>).method()
-    Pattern pattern2 = Pattern.compile("^\\)\\.\\w+\\(");
-    Matcher matcher2 = pattern2.matcher(charSequence);
-    boolean isMatch2 = matcher2.find();
-    return isMatch || isMatch2;
+    return METHOD_INVOCATION_PATTERN.matcher(charSequence).find()
+        || WRAPPED_METHOD_INVOCATION_PATTERN.matcher(charSequence).find();
   }
 
   private boolean checkBooleanOperators(StringBuffer s, int currentPos, boolean leftSubString) {
@@ -249,21 +248,16 @@ public class StringReplacer {
       return false;
     }
 
-    // https://commons.apache.org/proper/commons-jexl/reference/syntax.html
-    Set<String> jexlKeywordOperators = Set.of("or", "eq", "ne", "and", "not", "size", "empty");
-
     int minLength = 2;
     int maxLength = 5;
 
-    Set<Character> spaceChars = Set.of(' ', '\n', '\t', '\r');
-
     // checking if any of above keywords separated by space or '\n' or \t or \r is present in the expression
     if (leftSubString) {
       for (int i = minLength; i <= maxLength; i++) {
         if (currentPos - i + 1 >= 0 && currentPos + 1 < s.length()) {
           String substring = s.substring(currentPos - i + 1, currentPos + 1).trim();
-          if (jexlKeywordOperators.contains(substring) && currentPos - i >= 0
-              && (spaceChars.contains(s.charAt(currentPos + 1))) && (spaceChars.contains(s.charAt(currentPos - i)))) {
+          if (JEXL_KEYWORD_OPERATORS.contains(substring) && currentPos - i >= 0
+              && (SPACE_CHARS.contains(s.charAt(currentPos + 1))) && (SPACE_CHARS.contains(s.charAt(currentPos - i)))) {
             return true;
           }
         }
@@ -273,8 +267,8 @@ public class StringReplacer {
     for (int i = minLength; i <= maxLength; i++) {
       if (currentPos >= 0 && currentPos + i < s.length()) {
         String substring = s.substring(currentPos, currentPos + i).trim();
-        if (jexlKeywordOperators.contains(substring) && currentPos - 1 >= 0
-            && (spaceChars.contains(s.charAt(currentPos - 1))) && (spaceChars.contains(s.charAt(currentPos + i)))) {
+        if (JEXL_KEYWORD_OPERATORS.contains(substring) && currentPos - 1 >= 0
+            && (SPACE_CHARS.contains(s.charAt(currentPos - 1))) && (SPACE_CHARS.contains(s.charAt(currentPos + i)))) {
           return true;
         }
       }
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import io.harness.tasks.ResponseData;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Function to call when all correlationIds are completed for a wait instance, for waits on many correlation ids. The
+ * responses are read from the database in batches when the iterator is first used, and each one is deserialized when
+ * the iterator reaches it, so the responses are never all in memory at once and callbacks which only need to know if
+ * any response is an error never read them. The iterator can only be used until the callback returns.
+ */
+public interface StreamingNotifyCallback extends NotifyCallback {
+  void notify(Iterator<Map.Entry<String, ResponseData>> responses);
+  void notifyError(Iterator<Map.Entry<String, ResponseData>> responses);
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EngineExpressionEvaluator} throughput for expression patterns typically found in pipeline yamls,
+ * once with the parse caches cleared before every round (cold) and once with warm caches.
+ *
+ * Usage: EngineExpressionEvaluatorBenchmark [rounds] [evaluatorsPerRound]
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class EngineExpressionEvaluatorBenchmark {
+  private static final List<String> RENDER_EXPRESSIONS = Arrays.asList(
+      "<+pipeline.variables.image>:<+pipeline.sequenceId>",
+      "https://<+stage.variables.host>/api/v1/<+pipeline.variables.service>?env=<+env.identifier>",
+      "<+pipeline.variables.service>-<+stage.identifier>-<+pipeline.sequenceId>");
+  private static final List<String> EVALUATE_EXPRESSIONS = Arrays.asList("<+pipeline.variables.replicas> * 2",
+      "<+stage.variables.host> == \"example.com\" && <+pipeline.sequenceId> > 10",
+      "<+env.type> == \"Production\" ? <+pipeline.variables.replicas> : 1",
+      "<+pipeline.variables.service>.startsWith(\"svc\")", "<+pipeline.variables.tags>.split(\",\").length",
+      "<+stage.status> != \"FAILED\" || <+pipeline.variables.force>");
+
+  public static void main(String[] args) {
+    int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+    int evaluatorsPerRound = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+    // Warm up the JIT with both paths before measuring.
+    run(5, evaluatorsPerRound, true);
+    run(5, evaluatorsPerRound, false);
+
+    long coldNanos = run(rounds, evaluatorsPerRound, true);
+    long warmNanos = run(rounds, evaluatorsPerRound, false);
+    long evaluations = (long) rounds * evaluatorsPerRound * (RENDER_EXPRESSIONS.size() + EVALUATE_EXPRESSIONS.size());
+    System.out.printf("cold: %d evaluations/sec%n", evaluations * TimeUnit.SECONDS.toNanos(1) / coldNanos);
+    System.out.printf("warm: %d evaluations/sec%n", evaluations * TimeUnit.SECONDS.toNanos(1) / warmNanos);
+    System.out.printf("script cache: %s%n", EngineExpressionParseCache.getScriptStats());
+    System.out.printf("template cache: %s%n", EngineExpressionParseCache.getTemplateStats());
+  }
+
+  private static long run(int rounds, int evaluatorsPerRound, boolean clearCaches) {
+    long elapsed = 0;
+    for (int round = 0; round < rounds; round++) {
+      if (clearCaches) {
+        EngineExpressionParseCache.invalidateAll();
+      }
+      long start = System.nanoTime();
+      // A fresh evaluator per node start, the way the engine creates them.
+      for (int i = 0; i < evaluatorsPerRound; i++) {
+        PipelineLikeEvaluator evaluator = new PipelineLikeEvaluator();
+        for (String expression : RENDER_EXPRESSIONS) {
+          evaluator.renderExpression(expression);
+        }
+        for (String expression : EVALUATE_EXPRESSIONS) {
+          evaluator.evaluateExpression(expression);
+        }
+      }
+      elapsed += System.nanoTime() - start;
+    }
+    return elapsed;
+  }
+
+  private static class PipelineLikeEvaluator extends EngineExpressionEvaluator {
+    PipelineLikeEvaluator() {
+      super(null);
+    }
+
+    @Override
+    protected void initialize() {
+      super.initialize();
+      addToContext("pipeline",
+          ImmutableMap.of("sequenceId", 42, "variables",
+              ImmutableMap.of("image", "harness/delegate", "service", "svc-orders", "replicas", 3, "tags", "a,b,c",
+                  "force", false)));
+      addToContext("stage",
+          ImmutableMap.of("identifier", "deploy", "status", "RUNNING", "variables",
+              ImmutableMap.of("host", "example.com")));
+      addToContext("env", ImmutableMap.of("identifier", "prod", "type", "Production"));
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.base.Strings;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.MapContext;
+import org.apache.commons.logging.impl.NoOpLog;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class EngineExpressionParseCacheTest extends CategoryTest {
+  private final JexlEngine engine = EngineExpressionParseCache.getEngine();
+
+  @Before
+  public void setUp() {
+    EngineExpressionParseCache.invalidateAll();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testScriptsAreParsedOnce() {
+    assertThat(EngineExpressionParseCache.getScript(engine, "a + 1"))
+        .isSameAs(EngineExpressionParseCache.getScript(engine, "a + 1"));
+    assertThat(EngineExpressionParseCache.getExpression(engine, "a + 1"))
+        .isSameAs(EngineExpressionParseCache.getExpression(engine, "a + 1"));
+
+    MapContext context = new MapContext();
+    context.set("a", 1);
+    assertThat(EngineExpressionParseCache.getScript(engine, "a + 1").execute(context)).isEqualTo(2);
+    context.set("a", 41);
+    assertThat(EngineExpressionParseCache.getExpression(engine, "a + 1").evaluate(context)).isEqualTo(42);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testScriptsOfOtherEnginesAreNotCached() {
+    JexlEngine otherEngine = new JexlBuilder().logger(new NoOpLog()).create();
+
+    assertThat(EngineExpressionParseCache.getScript(otherEngine, "a + 1"))
+        .isNotSameAs(EngineExpressionParseCache.getScript(otherEngine, "a + 1"));
+    assertThat(EngineExpressionParseCache.getExpression(otherEngine, "a + 1"))
+        .isNotSameAs(EngineExpressionParseCache.getExpression(otherEngine, "a + 1"));
+    assertThat(EngineExpressionParseCache.getScriptStats().requestCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testEvaluatorsShareTheEngine() {
+    assertThat(new EngineExpressionEvaluator(null).getEngine())
+        .isSameAs(new EngineExpressionEvaluator(null).getEngine())
+        .isSameAs(engine);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testParseErrorsAreNotWrapped() {
+    assertThatThrownBy(() -> EngineExpressionParseCache.getScript(engine, "a +")).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> EngineExpressionParseCache.getExpression(engine, "a +"))
+        .isInstanceOf(JexlException.class);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testTemplatesAreTokenizedOnce() {
+    AtomicInteger tokenized = new AtomicInteger();
+    String template = "<+a.b> and <+c>";
+
+    for (int i = 0; i < 3; i++) {
+      List<String> expressions = EngineExpressionParseCache.findExpressions(template, true, false, () -> {
+        tokenized.incrementAndGet();
+        return EngineExpressionEvaluator.findExpressions(template);
+      });
+      assertThat(expressions).containsExactly("<+a.b>", "<+c>");
+      // Callers get their own copy.
+      expressions.clear();
+    }
+    assertThat(tokenized.get()).isEqualTo(1);
+    assertThat(EngineExpressionEvaluator.findVariables(template)).containsExactly("<+a.b>", "<+c>");
+    assertThat(EngineExpressionEvaluator.isSingleExpression("<+a.b>")).isTrue();
+    assertThat(EngineExpressionEvaluator.isSingleExpression(template)).isFalse();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testLongSourcesAreNotCached() {
+    AtomicInteger tokenized = new AtomicInteger();
+    String template = Strings.repeat("x", EngineExpressionParseCache.MAX_CACHEABLE_LENGTH) + "<+a>";
+
+    for (int i = 0; i < 2; i++) {
+      EngineExpressionParseCache.findExpressions(template, true, false, () -> {
+        tokenized.incrementAndGet();
+        return Arrays.asList("<+a>");
+      });
+    }
+    assertThat(tokenized.get()).isEqualTo(2);
+    assertThat(EngineExpressionParseCache.getTemplateStats().requestCount()).isZero();
+  }
+}
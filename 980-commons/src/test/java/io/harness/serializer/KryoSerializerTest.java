@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.base.Strings;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(Collections.emptySet(), true);
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testRoundTripsReusingBuffers() {
+    Map<String, Object> small = payload(10);
+    Map<String, Object> large = payload(KryoBuffers.MAX_RETAINED_BUFFER_SIZE);
+
+    // Alternate sizes so that a reused buffer would leak bytes of the previous payload if it were not reset.
+    for (Map<String, Object> value : Arrays.asList(large, small, large, small)) {
+      assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(value))).isEqualTo(value);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(value))).isEqualTo(value);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asLz4Bytes(value))).isEqualTo(value);
+      assertThat(kryoSerializer.asObject(kryoSerializer.asString(value))).isEqualTo(value);
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testStreamAndByteBufferApis() {
+    Map<String, Object> first = payload(100);
+    List<String> second = new ArrayList<>(Arrays.asList("a", "b"));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    kryoSerializer.writeTo(first, outputStream);
+    kryoSerializer.writeTo(second, outputStream);
+    byte[] bytes = outputStream.toByteArray();
+    assertThat(bytes).startsWith(kryoSerializer.asBytes(first));
+
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(kryoSerializer.asBytes(first));
+    assertThat(kryoSerializer.readFrom(inputStream)).isEqualTo(first);
+
+    ByteBuffer heapBuffer = ByteBuffer.allocate(bytes.length + 3);
+    heapBuffer.put(new byte[] {1, 2, 3}).put(bytes).flip().position(3);
+    assertThat(kryoSerializer.asObject(heapBuffer)).isEqualTo(first);
+    assertThat(heapBuffer.position()).isEqualTo(3);
+
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+    directBuffer.put(bytes).flip();
+    assertThat(kryoSerializer.asObject(directBuffer)).isEqualTo(first);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testReadsConsecutiveObjectsFromOneStream() {
+    Map<String, Object> first = payload(100);
+    List<String> second = new ArrayList<>(Arrays.asList("a", "b"));
+    Map<String, Object> third = payload(KryoBuffers.MAX_RETAINED_BUFFER_SIZE);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    kryoSerializer.writeTo(first, outputStream);
+    kryoSerializer.writeTo(second, outputStream);
+    kryoSerializer.writeTo(third, outputStream);
+    byte[] bytes = outputStream.toByteArray();
+
+    for (InputStream inputStream :
+        Arrays.asList(new ByteArrayInputStream(bytes), new BufferedInputStream(new ByteArrayInputStream(bytes), 16))) {
+      assertThat(kryoSerializer.readFrom(inputStream)).isEqualTo(first);
+      assertThat(kryoSerializer.readFrom(inputStream)).isEqualTo(second);
+      assertThat(kryoSerializer.readFrom(inputStream)).isEqualTo(third);
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testDeflatedPayloadsStayReadable() {
+    Map<String, Object> value = payload(1000);
+    byte[] deflated = kryoSerializer.asDeflatedBytes(value);
+    // zlib header, unchanged so that payloads stored before lz4 support can still be read.
+    assertThat(deflated[0]).isEqualTo((byte) 0x78);
+    assertThat(kryoSerializer.asLz4Bytes(value)).startsWith("LZ4Block".getBytes());
+  }
+
+  private static Map<String, Object> payload(int size) {
+    Map<String, Object> payload = new HashMap<>();
+    payload.put("content", Strings.repeat("x", size));
+    payload.put("items", new ArrayList<>(Arrays.asList(1, 2L, "three")));
+    return payload;
+  }
+}
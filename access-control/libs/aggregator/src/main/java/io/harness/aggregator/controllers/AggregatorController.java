@@ -12,6 +12,7 @@ import static io.harness.aggregator.AggregatorConfiguration.ACCESS_CONTROL_SERVI
 import static io.harness.aggregator.models.MongoReconciliationOffset.PRIMARY_COLLECTION;
 import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_COLLECTION;
 
+import io.harness.accesscontrol.acl.index.ACLIndex;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.aggregator.models.AggregatorSecondarySyncState;
@@ -45,19 +46,22 @@ public class AggregatorController implements Runnable {
   private final ACLRepository secondaryACLRepository;
   private final MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository;
   private final PersistentLocker persistentLocker;
+  private final ACLIndex aclIndex;
 
   @Inject
   public AggregatorController(AggregatorSecondarySyncController secondarySyncController,
       AggregatorPrimarySyncController primarySyncJobController,
       AggregatorSecondarySyncStateRepository aggregatorSecondarySyncStateRepository,
       @Named(ACL.SECONDARY_COLLECTION) ACLRepository secondaryACLRepository,
-      MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker) {
+      MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker,
+      ACLIndex aclIndex) {
     this.secondarySyncController = secondarySyncController;
     this.primarySyncController = primarySyncJobController;
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
     this.secondaryACLRepository = secondaryACLRepository;
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
     this.persistentLocker = persistentLocker;
+    this.aclIndex = aclIndex;
   }
 
   @Override
@@ -123,6 +127,7 @@ public class AggregatorController implements Runnable {
       if (primaryControllerLock != null && secondaryControllerLock != null) {
         log.info("Both child controller locks have been acquired. Switching primary");
         secondaryACLRepository.renameCollection(ACL.PRIMARY_COLLECTION);
+        aclIndex.invalidateAll();
         mongoReconciliationOffsetRepository.renameCollectionAToCollectionB(SECONDARY_COLLECTION, PRIMARY_COLLECTION);
         aggregatorSecondarySyncStateRepository.removeByIdentifier(ACCESS_CONTROL_SERVICE);
       } else {
@@ -7,6 +7,9 @@
 
 package io.harness.accesscontrol.acl;
 
+import io.harness.accesscontrol.acl.index.ACLIndexChangePublisher;
+import io.harness.accesscontrol.acl.index.ACLIndexConfig;
+import io.harness.accesscontrol.acl.index.NoOpACLIndexChangePublisher;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
 import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
@@ -21,6 +24,7 @@ import io.harness.morphia.MorphiaRegistrar;
 import com.google.inject.AbstractModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.OptionalBinder;
 import com.google.inject.name.Names;
 
 @OwnedBy(HarnessTeam.PL)
@@ -42,6 +46,10 @@ public class ACLModule extends AbstractModule {
 
     bind(ACLService.class).to(ACLServiceImpl.class);
     bind(ACLDAO.class).to(ACLDAOImpl.class);
+    OptionalBinder.newOptionalBinder(binder(), ACLIndexConfig.class).setDefault().toInstance(ACLIndexConfig.disabled());
+    OptionalBinder.newOptionalBinder(binder(), ACLIndexChangePublisher.class)
+        .setDefault()
+        .to(NoOpACLIndexChangePublisher.class);
     bind(ACLRepository.class).annotatedWith(Names.named(ACL.PRIMARY_COLLECTION)).to(PrimaryACLRepositoryImpl.class);
     bind(ACLRepository.class).annotatedWith(Names.named(ACL.SECONDARY_COLLECTION)).to(SecondaryACLRepositoryImpl.class);
   }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns dense, stable int ids to strings, so that they can be used as bitset indexes. Ids are never released, only
+ * use it for small vocabularies such as permission identifiers.
+ */
+@OwnedBy(PL)
+public class ACLIdInterner {
+  private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+  private final AtomicInteger nextId = new AtomicInteger();
+
+  public int intern(String value) {
+    return ids.computeIfAbsent(value, k -> nextId.getAndIncrement());
+  }
+
+  /**
+   * Returns the id of given value, or -1 if it has never been interned.
+   */
+  public int idOf(String value) {
+    Integer id = ids.get(value);
+    return id == null ? -1 : id;
+  }
+
+  public int size() {
+    return ids.size();
+  }
+}
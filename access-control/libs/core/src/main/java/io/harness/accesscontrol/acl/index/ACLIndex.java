@@ -0,0 +1,324 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.scopes.core.Scope;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterables;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In memory index of the enabled acls of recently seen principals, keyed by account and principal, so that access
+ * checks can be answered without querying mongo.
+ *
+ * The index is kept up to date incrementally with the acl writes done through the primary {@link ACLRepository} of
+ * this process, and each write is published through the {@link ACLIndexChangePublisher} so that the other pods drop
+ * the affected entries, see {@link #onChange}. The index does not answer access checks unless changes are published.
+ * Entries still expire, see {@link ACLIndexConfig#getExpireAfterWriteSeconds()}, and {@link #checkConsistency} is run
+ * periodically to compare a sample of the entries with mongo, for changes which never reach the pod.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class ACLIndex {
+  private static final int CONCURRENCY_LEVEL = 16;
+  // Marks principals with too many acls to be indexed.
+  private static final PrincipalACLIndex OVERSIZED = PrincipalACLIndex.of(Collections.emptyList(), new ACLIdInterner());
+
+  private final ACLRepository aclRepository;
+  private final ACLIndexConfig config;
+  private final ACLIndexChangePublisher changePublisher;
+  // Identifies the changes published by this process, which are already applied when they are received.
+  private final String source = UUID.randomUUID().toString();
+  private final ACLIdInterner permissionIds = new ACLIdInterner();
+  private final Cache<PrincipalKey, PrincipalACLIndex> principals;
+  private final AtomicLong fallbacks = new AtomicLong();
+  private final AtomicLong inconsistencies = new AtomicLong();
+  // Incremented before every change is applied, a principal loaded across a change is not cached.
+  private final AtomicLong changes = new AtomicLong();
+
+  @Inject
+  public ACLIndex(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, ACLIndexConfig config,
+      ACLIndexChangePublisher changePublisher) {
+    this.aclRepository = aclRepository;
+    this.config = config;
+    this.changePublisher = changePublisher;
+    this.principals = CacheBuilder.newBuilder()
+                          .concurrencyLevel(CONCURRENCY_LEVEL)
+                          .maximumSize(Math.max(config.getMaxPrincipals(), 1))
+                          .expireAfterWrite(Math.max(config.getExpireAfterWriteSeconds(), 1), TimeUnit.SECONDS)
+                          .recordStats()
+                          .build();
+  }
+
+  public boolean isEnabled() {
+    return config.isEnabled() && changePublisher.isEnabled();
+  }
+
+  /**
+   * Returns the acls of given principal in the account of given scope, loading them from mongo if needed. Returns
+   * empty if the principal can not be served from memory, callers should query mongo instead.
+   */
+  public Optional<PrincipalACLIndex> get(Scope scope, String principalType, String principalIdentifier) {
+    if (!isEnabled() || scope == null) {
+      fallbacks.incrementAndGet();
+      return Optional.empty();
+    }
+    PrincipalKey key = new PrincipalKey(getAccountScope(scope).toString(), principalType, principalIdentifier);
+    PrincipalACLIndex index = principals.getIfPresent(key);
+    if (index == null) {
+      long loadedAfter = changes.get();
+      try {
+        index = load(key);
+      } catch (RuntimeException e) {
+        log.error("Failed to load acls of principal {} in {}", principalIdentifier, key.getAccountScopeIdentifier(), e);
+        fallbacks.incrementAndGet();
+        return Optional.empty();
+      }
+      cacheIfUnchanged(key, index, loadedAfter);
+    }
+    if (index == OVERSIZED) {
+      fallbacks.incrementAndGet();
+      return Optional.empty();
+    }
+    return Optional.of(index);
+  }
+
+  /**
+   * Adds newly inserted acls to the principals which are already indexed. Principals which are not indexed are loaded
+   * lazily on the next access check, so nothing needs to be done for them. The other pods drop the principals.
+   */
+  public void onACLsCreated(Collection<ACL> acls) {
+    if (!isEnabled() || isEmpty(acls)) {
+      return;
+    }
+    Map<PrincipalKey, List<ACL>> aclsByPrincipal =
+        acls.stream().filter(acl -> acl.getScopeIdentifier() != null).collect(Collectors.groupingBy(this::keyOf));
+    changes.incrementAndGet();
+    aclsByPrincipal.forEach((key, principalACLs) -> principals.asMap().computeIfPresent(key, (k, index) -> {
+      if (index == OVERSIZED) {
+        return index;
+      }
+      PrincipalACLIndex updated = index.withACLs(principalACLs);
+      return updated.getSize() > config.getMaxACLsPerPrincipal() ? OVERSIZED : updated;
+    }));
+    aclsByPrincipal.keySet()
+        .stream()
+        .collect(Collectors.groupingBy(PrincipalKey::getAccountScopeIdentifier,
+            Collectors.mapping(key
+                -> new ACLIndexChange.PrincipalRef(key.getPrincipalType(), key.getPrincipalIdentifier()),
+                Collectors.toList())))
+        .forEach((accountScopeIdentifier, principalRefs)
+                     -> publish(ACLIndexChange.builder()
+                                    .type(ACLIndexChange.Type.PRINCIPALS)
+                                    .scopeIdentifier(accountScopeIdentifier)
+                                    .principals(principalRefs)));
+  }
+
+  /**
+   * Drops all the principals which have acls generated from given role assignment. Deletions can be partial (by
+   * selector, permission or principal), so affected principals are reloaded instead of being patched.
+   */
+  public void onRoleAssignmentACLsDeleted(String roleAssignmentId) {
+    if (!isEnabled() || roleAssignmentId == null) {
+      return;
+    }
+    dropRoleAssignment(roleAssignmentId);
+    publish(ACLIndexChange.builder().type(ACLIndexChange.Type.ROLE_ASSIGNMENT).roleAssignmentId(roleAssignmentId));
+  }
+
+  /**
+   * Drops all the principals of the account of given scope, for deletions which can not be mapped to role assignment
+   * ids.
+   */
+  public void onScopeACLsDeleted(String scopeIdentifier) {
+    if (!isEnabled() || scopeIdentifier == null) {
+      return;
+    }
+    dropScope(scopeIdentifier);
+    publish(ACLIndexChange.builder().type(ACLIndexChange.Type.SCOPE).scopeIdentifier(scopeIdentifier));
+  }
+
+  public void invalidateAll() {
+    dropAll();
+    if (isEnabled()) {
+      publish(ACLIndexChange.builder().type(ACLIndexChange.Type.ALL));
+    }
+  }
+
+  /**
+   * Applies an acl write published by another pod, dropping the affected entries.
+   */
+  public void onChange(ACLIndexChange change) {
+    if (change.getType() == null || source.equals(change.getSource())) {
+      return;
+    }
+    switch (change.getType()) {
+      case PRINCIPALS:
+        changes.incrementAndGet();
+        if (change.getScopeIdentifier() != null && change.getPrincipals() != null) {
+          principals.invalidateAll(change.getPrincipals()
+                                       .stream()
+                                       .map(principal
+                                           -> new PrincipalKey(change.getScopeIdentifier(),
+                                               principal.getPrincipalType(), principal.getPrincipalIdentifier()))
+                                       .collect(Collectors.toList()));
+        }
+        break;
+      case ROLE_ASSIGNMENT:
+        if (change.getRoleAssignmentId() != null) {
+          dropRoleAssignment(change.getRoleAssignmentId());
+        }
+        break;
+      case SCOPE:
+        if (change.getScopeIdentifier() != null) {
+          dropScope(change.getScopeIdentifier());
+        }
+        break;
+      default:
+        dropAll();
+    }
+  }
+
+  /**
+   * Compares the cached acls of up to sampleSize principals with mongo, dropping the ones which differ. Returns the
+   * number of inconsistent entries found.
+   */
+  public int checkConsistency(int sampleSize) {
+    if (!isEnabled()) {
+      return 0;
+    }
+    List<Map.Entry<PrincipalKey, PrincipalACLIndex>> entries = new ArrayList<>(principals.asMap().entrySet());
+    Collections.shuffle(entries);
+    int inconsistent = 0;
+    for (Map.Entry<PrincipalKey, PrincipalACLIndex> entry : Iterables.limit(entries, sampleSize)) {
+      PrincipalKey key = entry.getKey();
+      PrincipalACLIndex fromDB = load(key);
+      // Skip entries which got replaced while loading, they are checked in a later round.
+      if (!fromDB.equals(entry.getValue()) && principals.asMap().remove(key, entry.getValue())) {
+        log.warn("ACL index of principal {} {} in {} differs from mongo, dropping it", key.getPrincipalType(),
+            key.getPrincipalIdentifier(), key.getAccountScopeIdentifier());
+        inconsistent++;
+      }
+    }
+    inconsistencies.addAndGet(inconsistent);
+    return inconsistent;
+  }
+
+  public CacheStats getStats() {
+    return principals.stats();
+  }
+
+  public long getFallbackCount() {
+    return fallbacks.get();
+  }
+
+  public long getInconsistencyCount() {
+    return inconsistencies.get();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return principals.size();
+  }
+
+  private void cacheIfUnchanged(PrincipalKey key, PrincipalACLIndex index, long loadedAfter) {
+    // Checked under the lock of the entry, a change applied after this drops the cached entry again.
+    principals.asMap().compute(key, (k, current) -> {
+      if (current != null) {
+        return current;
+      }
+      return changes.get() == loadedAfter ? index : null;
+    });
+  }
+
+  private void dropRoleAssignment(String roleAssignmentId) {
+    changes.incrementAndGet();
+    principals.asMap().values().removeIf(index -> index.getRoleAssignmentIds().contains(roleAssignmentId));
+  }
+
+  private void dropScope(String scopeIdentifier) {
+    changes.incrementAndGet();
+    String accountScopeIdentifier = getAccountScopeIdentifier(scopeIdentifier);
+    principals.asMap().keySet().removeIf(key -> key.getAccountScopeIdentifier().equals(accountScopeIdentifier));
+  }
+
+  private void dropAll() {
+    changes.incrementAndGet();
+    principals.invalidateAll();
+  }
+
+  private void publish(ACLIndexChange.ACLIndexChangeBuilder change) {
+    try {
+      changePublisher.publish(change.source(source).build());
+    } catch (Exception e) {
+      // The write is done, the other pods pick it up when their entries expire or fail the consistency check.
+      log.error("Failed to publish the acl index change {}", change, e);
+    }
+  }
+
+  private PrincipalACLIndex load(PrincipalKey key) {
+    List<ACL> acls = aclRepository.getByPrincipalInScopeHierarchyAndEnabled(
+        key.getAccountScopeIdentifier(), key.getPrincipalType(), key.getPrincipalIdentifier());
+    if (acls.size() > config.getMaxACLsPerPrincipal()) {
+      return OVERSIZED;
+    }
+    return PrincipalACLIndex.of(acls, permissionIds);
+  }
+
+  private PrincipalKey keyOf(ACL acl) {
+    return new PrincipalKey(
+        getAccountScopeIdentifier(acl.getScopeIdentifier()), acl.getPrincipalType(), acl.getPrincipalIdentifier());
+  }
+
+  private static String getAccountScopeIdentifier(String scopeIdentifier) {
+    // scope identifiers look like /ACCOUNT/{accountId}/..., the account scope is made of the first two segments.
+    int accountIdStart = scopeIdentifier.indexOf(Scope.PATH_DELIMITER, 1) + 1;
+    int accountEnd = accountIdStart == 0 ? -1 : scopeIdentifier.indexOf(Scope.PATH_DELIMITER, accountIdStart);
+    return accountEnd < 0 ? scopeIdentifier : scopeIdentifier.substring(0, accountEnd);
+  }
+
+  public static Scope getAccountScope(Scope scope) {
+    Scope accountScope = scope;
+    while (accountScope.getParentScope() != null) {
+      accountScope = accountScope.getParentScope();
+    }
+    return accountScope;
+  }
+
+  @Value
+  static class PrincipalKey {
+    String accountScopeIdentifier;
+    String principalType;
+    String principalIdentifier;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An acl write, as seen by the acl index of the other pods. Only says which entries are affected, the entries are
+ * dropped and reloaded from mongo on the next access check.
+ */
+@OwnedBy(PL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ACLIndexChange {
+  public enum Type {
+    // acls were added for the principals in the account scope
+    PRINCIPALS,
+    // acls of the role assignment were deleted
+    ROLE_ASSIGNMENT,
+    // acls were deleted in the scope
+    SCOPE,
+    // the acl collection was cleaned or replaced
+    ALL
+  }
+
+  private Type type;
+  // The publishing process, which skips its own changes.
+  private String source;
+  private String scopeIdentifier;
+  private String roleAssignmentId;
+  private List<PrincipalRef> principals;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PrincipalRef {
+    private String principalType;
+    private String principalIdentifier;
+  }
+}
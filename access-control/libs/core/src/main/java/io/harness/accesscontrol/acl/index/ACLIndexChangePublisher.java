@@ -0,0 +1,26 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+/**
+ * Sends the acl writes of this pod to the acl index of every pod.
+ */
+@OwnedBy(PL)
+public interface ACLIndexChangePublisher {
+  /**
+   * Whether the published changes reach every pod. The acl index only answers access checks when they do, as it would
+   * otherwise keep granting revoked permissions.
+   */
+  boolean isEnabled();
+
+  void publish(ACLIndexChange change);
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+@OwnedBy(PL)
+@Value
+@Builder
+public class ACLIndexConfig {
+  boolean enabled;
+  // Number of (account, principal) entries kept in memory.
+  long maxPrincipals;
+  // Principals with more acls than this in an account are always served from mongo.
+  int maxACLsPerPrincipal;
+  // Bounds how long an acl change of another pod which was never received stays invisible.
+  long expireAfterWriteSeconds;
+  long consistencyCheckIntervalSeconds;
+  int consistencyCheckSampleSize;
+
+  public static ACLIndexConfig disabled() {
+    return ACLIndexConfig.builder().enabled(false).build();
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+@OwnedBy(PL)
+public class NoOpACLIndexChangePublisher implements ACLIndexChangePublisher {
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public void publish(ACLIndexChange change) {
+    // Nothing listens, the acl index stays disabled.
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the enabled acls of one principal within one account.
+ *
+ * Unconditional acls are stored as a bitset of interned permission ids per scope and resource selector, conditional
+ * acls (rare) are stored by acl query string. Instances are never modified after being published, acl changes build a
+ * new snapshot with {@link #withACLs}.
+ */
+@OwnedBy(PL)
+@EqualsAndHashCode
+public class PrincipalACLIndex {
+  private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+  @EqualsAndHashCode.Exclude private final ACLIdInterner permissionIds;
+  // scopeIdentifier -> resourceSelector -> permission ids
+  private final Map<String, Map<String, BitSet>> permissions;
+  // aclQueryString -> conditions
+  private final Map<String, Set<String>> conditions;
+  @Getter private final Set<String> roleAssignmentIds;
+  // Number of acls added, including duplicates, only used to bound memory.
+  @Getter @EqualsAndHashCode.Exclude private final int size;
+
+  private PrincipalACLIndex(ACLIdInterner permissionIds, Map<String, Map<String, BitSet>> permissions,
+      Map<String, Set<String>> conditions, Set<String> roleAssignmentIds, int size) {
+    this.permissionIds = permissionIds;
+    this.permissions = permissions;
+    this.conditions = conditions;
+    this.roleAssignmentIds = roleAssignmentIds;
+    this.size = size;
+  }
+
+  public static PrincipalACLIndex of(Collection<ACL> acls, ACLIdInterner permissionIds) {
+    PrincipalACLIndex index =
+        new PrincipalACLIndex(permissionIds, new HashMap<>(), new HashMap<>(), new HashSet<>(), 0);
+    return index.withACLs(acls);
+  }
+
+  /**
+   * Returns a new snapshot containing both the acls of this snapshot and the given ones.
+   */
+  public PrincipalACLIndex withACLs(Collection<ACL> acls) {
+    Map<String, Map<String, BitSet>> newPermissions = new HashMap<>(permissions.size());
+    permissions.forEach((scope, selectors) -> {
+      Map<String, BitSet> newSelectors = new HashMap<>(selectors.size());
+      selectors.forEach((selector, bits) -> newSelectors.put(selector, (BitSet) bits.clone()));
+      newPermissions.put(scope, newSelectors);
+    });
+    Map<String, Set<String>> newConditions = new HashMap<>(conditions.size());
+    conditions.forEach((queryString, values) -> newConditions.put(queryString, new HashSet<>(values)));
+    Set<String> newRoleAssignmentIds = new HashSet<>(roleAssignmentIds);
+
+    int added = 0;
+    for (ACL acl : acls) {
+      if (!acl.isEnabled()) {
+        continue;
+      }
+      added++;
+      if (acl.getRoleAssignmentId() != null) {
+        newRoleAssignmentIds.add(acl.getRoleAssignmentId());
+      }
+      if (acl.isConditional()) {
+        newConditions
+            .computeIfAbsent(getAclQueryString(acl.getScopeIdentifier(), acl.getResourceSelector(),
+                                 acl.getPrincipalType(), acl.getPrincipalIdentifier(), acl.getPermissionIdentifier()),
+                k -> new HashSet<>())
+            .add(acl.getCondition());
+      } else {
+        newPermissions.computeIfAbsent(STRINGS.intern(acl.getScopeIdentifier()), k -> new HashMap<>())
+            .computeIfAbsent(STRINGS.intern(acl.getResourceSelector()), k -> new BitSet())
+            .set(permissionIds.intern(acl.getPermissionIdentifier()));
+      }
+    }
+    return new PrincipalACLIndex(permissionIds, newPermissions, newConditions, newRoleAssignmentIds, size + added);
+  }
+
+  /**
+   * Adds the acls matching given acl query string components to matchedACLs. The returned acls only carry the query
+   * string and the condition, which is all the access check needs.
+   */
+  public void match(String scopeIdentifier, String resourceSelector, String principalType, String principalIdentifier,
+      String permissionIdentifier, List<ACL> matchedACLs) {
+    Map<String, BitSet> selectors = permissions.get(scopeIdentifier);
+    BitSet bits = selectors == null ? null : selectors.get(resourceSelector);
+    int permissionId = bits == null ? -1 : permissionIds.idOf(permissionIdentifier);
+    if (permissionId >= 0 && bits.get(permissionId)) {
+      matchedACLs.add(ACL.builder()
+                          .aclQueryString(getAclQueryString(scopeIdentifier, resourceSelector, principalType,
+                              principalIdentifier, permissionIdentifier))
+                          .conditional(false)
+                          .enabled(true)
+                          .build());
+    }
+    if (conditions.isEmpty()) {
+      return;
+    }
+    String aclQueryString = getAclQueryString(
+        scopeIdentifier, resourceSelector, principalType, principalIdentifier, permissionIdentifier);
+    for (String condition : conditions.getOrDefault(aclQueryString, Collections.emptySet())) {
+      matchedACLs.add(ACL.builder()
+                          .aclQueryString(aclQueryString)
+                          .conditional(true)
+                          .condition(condition)
+                          .enabled(true)
+                          .build());
+    }
+  }
+}
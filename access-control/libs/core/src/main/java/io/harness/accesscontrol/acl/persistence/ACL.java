@@ -129,6 +129,12 @@ public class ACL implements PersistentEntity {
                  .field(ACLKeys.aclQueryString)
                  .field(ACLKeys.enabled)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("principalScopeIdx")
+                 .field(ACLKeys.principalIdentifier)
+                 .field(ACLKeys.principalType)
+                 .field(ACLKeys.scopeIdentifier)
+                 .build())
         .build();
   }
 }
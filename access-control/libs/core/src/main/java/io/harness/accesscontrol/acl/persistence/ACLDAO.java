@@ -20,5 +20,11 @@ import java.util.Set;
 public interface ACLDAO {
   Set<String> getQueryStrings(PermissionCheck permissionCheck, Principal principal);
 
+  /**
+   * Calls consumer with the components of every acl query string returned by {@link #getQueryStrings}, without
+   * building the strings themselves.
+   */
+  void forEachQuery(PermissionCheck permissionCheck, Principal principal, ACLQueryConsumer consumer);
+
   List<List<ACL>> getMatchingACLs(Principal principal, List<PermissionCheck> permissionChecks);
 }
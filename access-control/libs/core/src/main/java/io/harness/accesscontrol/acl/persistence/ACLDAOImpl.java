@@ -12,6 +12,8 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.index.ACLIndex;
+import io.harness.accesscontrol.acl.index.PrincipalACLIndex;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.scopes.core.Scope;
@@ -22,6 +24,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +33,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
 @OwnedBy(PL)
 @Singleton
@@ -43,10 +47,13 @@ public class ACLDAOImpl implements ACLDAO {
   public static final String ALL_AUTHENTICATED_USERS = "ALL_AUTHENTICATED_USERS";
   private final ACLRepository aclRepository;
   private final Set<String> scopeResourceTypes;
+  private final ACLIndex aclIndex;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels,
+      ACLIndex aclIndex) {
     this.aclRepository = aclRepository;
+    this.aclIndex = aclIndex;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -81,44 +88,53 @@ public class ACLDAOImpl implements ACLDAO {
 
   @Override
   public Set<String> getQueryStrings(PermissionCheck permissionCheck, Principal principal) {
+    Set<String> queryStrings = new HashSet<>();
+    forEachQuery(permissionCheck, principal,
+        (scopeIdentifier, resourceSelector, principalType, principalIdentifier, permissionIdentifier)
+            -> queryStrings.add(getAclQueryString(
+                scopeIdentifier, resourceSelector, principalType, principalIdentifier, permissionIdentifier)));
+    return queryStrings;
+  }
+
+  @Override
+  public void forEachQuery(PermissionCheck permissionCheck, Principal principal, ACLQueryConsumer consumer) {
     String scope =
         Optional.ofNullable(permissionCheck.getResourceScope()).flatMap(rs -> Optional.of(rs.toString())).orElse("");
-    Set<String> queryStrings = new HashSet<>();
     String resourceType = permissionCheck.getResourceType();
     String resourceIdentifier = permissionCheck.getResourceIdentifier();
 
     // query for resource=/RESOURCE_TYPE/{resourceIdentifier} in given scope
     if (!StringUtils.isEmpty(resourceIdentifier)) {
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      consumer.accept(scope, getResourceSelector(resourceType, resourceIdentifier),
+          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
 
       if (PrincipalType.USER.equals(principal.getPrincipalType())
           && !ALL_USERS.equals(principal.getPrincipalIdentifier())) {
-        queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-            principal.getPrincipalType().name(), ALL_AUTHENTICATED_USERS, permissionCheck.getPermission()));
+        consumer.accept(scope, getResourceSelector(resourceType, resourceIdentifier),
+            principal.getPrincipalType().name(), ALL_AUTHENTICATED_USERS, permissionCheck.getPermission());
       }
     }
 
     if (isValidPermissionCheckForSameScopeLevel(permissionCheck)) {
       // query for resource=/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      consumer.accept(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
+          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
 
       // query for resource=/*/* in given scope
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      consumer.accept(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
+          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
     }
 
     Scope currentScope = permissionCheck.getResourceScope();
     while (currentScope != null) {
       // query for resource=/**/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(currentScope.toString(), getIncludeChildScopesResourceSelector(resourceType),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      consumer.accept(currentScope.toString(), getIncludeChildScopesResourceSelector(resourceType),
+          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
 
       // query for resource=/**/*/* in given scope
-      queryStrings.add(getAclQueryString(currentScope.toString(),
+      consumer.accept(currentScope.toString(),
           getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER), principal.getPrincipalType().name(),
-          principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+          principal.getPrincipalIdentifier(), permissionCheck.getPermission());
 
       currentScope = currentScope.getParentScope();
     }
@@ -131,31 +147,36 @@ public class ACLDAOImpl implements ACLDAO {
 
       // and resource = /RESOURCE_TYPE/{resourceIdentifier}
       if (!StringUtils.isEmpty(resourceIdentifier)) {
-        queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-            principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+        consumer.accept(scope, getResourceSelector(resourceType, resourceIdentifier),
+            principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
       }
 
       // and resource = /RESOURCE_TYPE/*
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      consumer.accept(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
+          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
 
       // and resource = /*/*
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      consumer.accept(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
+          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
 
       // query for resource=/**/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(scope, getIncludeChildScopesResourceSelector(resourceType),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      consumer.accept(scope, getIncludeChildScopesResourceSelector(resourceType),
+          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
 
       // query for resource=/**/*/* in given scope
-      queryStrings.add(getAclQueryString(scope, getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      consumer.accept(scope, getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER),
+          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission());
     }
-    return queryStrings;
   }
 
   @Override
   public List<List<ACL>> getMatchingACLs(Principal principal, List<PermissionCheck> permissionChecks) {
+    if (aclIndex.isEnabled()) {
+      Optional<List<List<ACL>>> matchingACLs = getMatchingACLsFromIndex(principal, permissionChecks);
+      if (matchingACLs.isPresent()) {
+        return matchingACLs.get();
+      }
+    }
     List<Set<String>> aclQueryStringsPerPermission = new ArrayList<>();
     Set<String> aclQueryStrings = new HashSet<>();
     permissionChecks.forEach(permissionCheck -> {
@@ -172,4 +193,36 @@ public class ACLDAOImpl implements ACLDAO {
                    .collect(Collectors.toList()))
         .collect(Collectors.toList());
   }
+
+  private Optional<List<List<ACL>>> getMatchingACLsFromIndex(
+      Principal principal, List<PermissionCheck> permissionChecks) {
+    // A user check also matches the acls of ALL_AUTHENTICATED_USERS, so at most two principals are looked up.
+    Map<Pair<Scope, String>, Optional<PrincipalACLIndex>> principalIndexes = new HashMap<>();
+    List<List<ACL>> matchingACLs = new ArrayList<>(permissionChecks.size());
+    for (PermissionCheck permissionCheck : permissionChecks) {
+      if (permissionCheck.getResourceScope() == null) {
+        return Optional.empty();
+      }
+      Scope accountScope = ACLIndex.getAccountScope(permissionCheck.getResourceScope());
+      List<ACL> matchingACLsForPermission = new ArrayList<>();
+      boolean[] indexed = {true};
+      forEachQuery(permissionCheck, principal,
+          (scopeIdentifier, resourceSelector, principalType, principalIdentifier, permissionIdentifier) -> {
+            Optional<PrincipalACLIndex> principalIndex =
+                principalIndexes.computeIfAbsent(Pair.of(accountScope, principalIdentifier),
+                    key -> aclIndex.get(accountScope, principalType, principalIdentifier));
+            if (principalIndex.isPresent()) {
+              principalIndex.get().match(scopeIdentifier, resourceSelector, principalType, principalIdentifier,
+                  permissionIdentifier, matchingACLsForPermission);
+            } else {
+              indexed[0] = false;
+            }
+          });
+      if (!indexed[0]) {
+        return Optional.empty();
+      }
+      matchingACLs.add(matchingACLsForPermission);
+    }
+    return Optional.of(matchingACLs);
+  }
 }
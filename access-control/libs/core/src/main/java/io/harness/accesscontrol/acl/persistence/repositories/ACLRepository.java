@@ -35,6 +35,8 @@ public interface ACLRepository {
 
   long deleteByScopeIdentifierAndRoleAssignmentIdentifier(String scopeIdentifier, String roleAssignmentIdentifier);
 
+  long deleteAll(Collection<ACL> acls);
+
   List<String> getDistinctPermissionsInACLsForRoleAssignment(String roleAssignmentId);
 
   List<String> getDistinctPrincipalsInACLsForRoleAssignment(String id);
@@ -43,6 +45,9 @@ public interface ACLRepository {
 
   List<ACL> getByAclQueryStringIn(Collection<String> aclQueryStrings);
 
+  List<ACL> getByPrincipalInScopeHierarchyAndEnabled(
+      String scopeIdentifier, String principalType, String principalIdentifier);
+
   void cleanCollection();
 
   void renameCollection(String newCollectionName);
@@ -34,6 +34,7 @@ import com.mongodb.client.model.RenameCollectionOptions;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.validation.executable.ValidateOnExecution;
 import lombok.AccessLevel;
@@ -185,6 +186,16 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
         .getDeletedCount();
   }
 
+  @Override
+  public long deleteAll(Collection<ACL> acls) {
+    if (isEmpty(acls)) {
+      return 0;
+    }
+    List<String> ids = acls.stream().map(ACL::getId).collect(Collectors.toList());
+    return mongoTemplate.remove(new Query(Criteria.where(ACLKeys.id).in(ids)), ACL.class, getCollectionName())
+        .getDeletedCount();
+  }
+
   @Override
   public long deleteByRoleAssignmentIdAndImplicitForScope(String roleAssignmentId) {
     return mongoTemplate
@@ -227,6 +238,32 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     return mongoTemplate.find(query, ACL.class);
   }
 
+  @Override
+  public List<ACL> getByPrincipalInScopeHierarchyAndEnabled(
+      String scopeIdentifier, String principalType, String principalIdentifier) {
+    Pattern scopeHierarchy = Pattern.compile("^" + Pattern.quote(scopeIdentifier) + "(/|$)");
+    Query query = new Query(Criteria.where(ACLKeys.principalIdentifier)
+                                .is(principalIdentifier)
+                                .and(ACLKeys.principalType)
+                                .is(principalType)
+                                .and(ACLKeys.scopeIdentifier)
+                                .regex(scopeHierarchy)
+                                .and(ACLKeys.enabled)
+                                .is(true));
+    query.fields()
+        .include(ACLKeys.roleAssignmentId)
+        .include(ACLKeys.scopeIdentifier)
+        .include(ACLKeys.resourceSelector)
+        .include(ACLKeys.permissionIdentifier)
+        .include(ACLKeys.principalType)
+        .include(ACLKeys.principalIdentifier)
+        .include(ACLKeys.aclQueryString)
+        .include(ACLKeys.condition)
+        .include(ACLKeys.conditional)
+        .include(ACLKeys.enabled);
+    return mongoTemplate.find(query, ACL.class, getCollectionName());
+  }
+
   @Override
   public void cleanCollection() {
     mongoTemplate.dropCollection(getCollectionName());
@@ -7,24 +7,103 @@
 
 package io.harness.accesscontrol.acl.persistence.repositories;
 
+import io.harness.accesscontrol.acl.index.ACLIndex;
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
 @OwnedBy(HarnessTeam.PL)
 @Singleton
 public class PrimaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
+  // Provider, as the index itself loads acls through this repository.
+  private final Provider<ACLIndex> aclIndex;
+
   @Inject
-  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
+  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate, Provider<ACLIndex> aclIndex) {
     super(mongoTemplate);
+    this.aclIndex = aclIndex;
   }
 
   @Override
   protected String getCollectionName() {
     return ACL.PRIMARY_COLLECTION;
   }
+
+  @Override
+  public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    long inserted = super.insertAllIgnoringDuplicates(acls);
+    aclIndex.get().onACLsCreated(acls);
+    return inserted;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentId(String id) {
+    long deleted = super.deleteByRoleAssignmentId(id);
+    aclIndex.get().onRoleAssignmentACLsDeleted(id);
+    return deleted;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndResourceSelectors(
+      String roleAssignmentId, Set<ResourceSelector> resourceSelectorsToDelete) {
+    long deleted = super.deleteByRoleAssignmentIdAndResourceSelectors(roleAssignmentId, resourceSelectorsToDelete);
+    aclIndex.get().onRoleAssignmentACLsDeleted(roleAssignmentId);
+    return deleted;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPermissions(String roleAssignmentId, Set<String> permissions) {
+    long deleted = super.deleteByRoleAssignmentIdAndPermissions(roleAssignmentId, permissions);
+    aclIndex.get().onRoleAssignmentACLsDeleted(roleAssignmentId);
+    return deleted;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPrincipals(String roleAssignmentId, Set<String> principals) {
+    long deleted = super.deleteByRoleAssignmentIdAndPrincipals(roleAssignmentId, principals);
+    aclIndex.get().onRoleAssignmentACLsDeleted(roleAssignmentId);
+    return deleted;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndImplicitForScope(String roleAssignmentId) {
+    long deleted = super.deleteByRoleAssignmentIdAndImplicitForScope(roleAssignmentId);
+    aclIndex.get().onRoleAssignmentACLsDeleted(roleAssignmentId);
+    return deleted;
+  }
+
+  @Override
+  public long deleteByScopeIdentifierAndRoleAssignmentIdentifier(
+      String scopeIdentifier, String roleAssignmentIdentifier) {
+    long deleted = super.deleteByScopeIdentifierAndRoleAssignmentIdentifier(scopeIdentifier, roleAssignmentIdentifier);
+    aclIndex.get().onScopeACLsDeleted(scopeIdentifier);
+    return deleted;
+  }
+
+  @Override
+  public long deleteAll(Collection<ACL> acls) {
+    long deleted = super.deleteAll(acls);
+    // The index only holds enabled acls, deleting disabled ones does not change it.
+    acls.stream()
+        .filter(ACL::isEnabled)
+        .map(ACL::getRoleAssignmentId)
+        .distinct()
+        .forEach(roleAssignmentId -> aclIndex.get().onRoleAssignmentACLsDeleted(roleAssignmentId));
+    return deleted;
+  }
+
+  @Override
+  public void cleanCollection() {
+    super.cleanCollection();
+    aclIndex.get().invalidateAll();
+  }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.accesscontrol.scopes.TestScopeLevels;
+import io.harness.accesscontrol.scopes.core.Scope;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Compares access check throughput of {@link ACLDAOImpl} with and without the {@link ACLIndex}, for a synthetic
+ * account with many projects and users. Mongo is replaced by an in memory map with a configurable round trip latency,
+ * so the numbers show the cost of the lookup path itself plus the round trips saved.
+ *
+ * Usage: ACLIndexBenchmark [threads] [checksPerThread] [mongoLatencyMicros]
+ */
+@OwnedBy(PL)
+public class ACLIndexBenchmark {
+  private static final int PROJECTS = 200;
+  private static final int USERS = 500;
+  private static final int PERMISSIONS = 50;
+  private static final int CHECKS_PER_REQUEST = 10;
+  private static final Scope ACCOUNT = Scope.builder().level(TestScopeLevels.TEST_SCOPE).instanceId("account").build();
+
+  public static void main(String[] args) throws Exception {
+    int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+    int checksPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+    long mongoLatencyMicros = args.length > 2 ? Long.parseLong(args[2]) : 500;
+
+    List<ACL> acls = generateACLs();
+    AtomicLong roundTrips = new AtomicLong();
+    ACLRepository aclRepository = fakeRepository(acls, mongoLatencyMicros, roundTrips);
+    ACLIndexConfig config = ACLIndexConfig.builder()
+                                .enabled(true)
+                                .maxPrincipals(USERS * 2)
+                                .maxACLsPerPrincipal(50000)
+                                .expireAfterWriteSeconds(3600)
+                                .build();
+    ACLDAOImpl mongoDAO = new ACLDAOImpl(aclRepository, Collections.emptyMap(),
+        new ACLIndex(aclRepository, ACLIndexConfig.disabled(), new NoOpACLIndexChangePublisher()));
+    ACLIndex aclIndex = new ACLIndex(aclRepository, config, new ACLIndexChangePublisher() {
+      @Override
+      public boolean isEnabled() {
+        return true;
+      }
+
+      @Override
+      public void publish(ACLIndexChange change) {}
+    });
+    ACLDAOImpl indexedDAO = new ACLDAOImpl(aclRepository, Collections.emptyMap(), aclIndex);
+
+    System.out.printf("acls: %d, threads: %d, mongo latency: %dus%n", acls.size(), threads, mongoLatencyMicros);
+    run("mongo", mongoDAO, threads, checksPerThread, roundTrips);
+    run("index", indexedDAO, threads, checksPerThread, roundTrips);
+    System.out.printf("index stats: %s, fallbacks: %d%n", aclIndex.getStats(), aclIndex.getFallbackCount());
+  }
+
+  private static void run(String name, ACLDAOImpl dao, int threads, int checksPerThread, AtomicLong roundTrips)
+      throws Exception {
+    roundTrips.set(0);
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    long start = System.nanoTime();
+    List<Future<?>> futures = new ArrayList<>();
+    for (int thread = 0; thread < threads; thread++) {
+      int seed = thread;
+      futures.add(executorService.submit(() -> {
+        Random random = new Random(seed);
+        for (int i = 0; i < checksPerThread / CHECKS_PER_REQUEST; i++) {
+          Principal principal = Principal.of(PrincipalType.USER, "user" + random.nextInt(USERS));
+          dao.getMatchingACLs(principal, randomChecks(random));
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    long elapsed = System.nanoTime() - start;
+    executorService.shutdown();
+    long checks = (long) threads * (checksPerThread / CHECKS_PER_REQUEST) * CHECKS_PER_REQUEST;
+    System.out.printf("%s: %d checks/sec, %d mongo round trips%n", name,
+        checks * TimeUnit.SECONDS.toNanos(1) / elapsed, roundTrips.get());
+  }
+
+  private static List<PermissionCheck> randomChecks(Random random) {
+    Scope project = projectScope(random.nextInt(PROJECTS));
+    List<PermissionCheck> permissionChecks = new ArrayList<>(CHECKS_PER_REQUEST);
+    for (int i = 0; i < CHECKS_PER_REQUEST; i++) {
+      permissionChecks.add(PermissionCheck.builder()
+                               .resourceScope(project)
+                               .resourceType("PIPELINE")
+                               .resourceIdentifier("pipeline" + random.nextInt(100))
+                               .permission("permission" + random.nextInt(PERMISSIONS))
+                               .build());
+    }
+    return permissionChecks;
+  }
+
+  private static List<ACL> generateACLs() {
+    Random random = new Random(0);
+    List<ACL> acls = new ArrayList<>();
+    for (int user = 0; user < USERS; user++) {
+      // A handful of project level role assignments per user plus an account level viewer role.
+      for (int roleAssignment = 0; roleAssignment < 5; roleAssignment++) {
+        Scope project = projectScope(random.nextInt(PROJECTS));
+        for (int permission = 0; permission < PERMISSIONS; permission += 2) {
+          acls.add(
+              acl("ra" + user + "_" + roleAssignment, project, "/**/*/*", "user" + user, "permission" + permission));
+        }
+      }
+      acls.add(acl("ra" + user, ACCOUNT, "/**/*/*", "user" + user, "permission1"));
+    }
+    return acls;
+  }
+
+  private static ACLRepository fakeRepository(List<ACL> acls, long latencyMicros, AtomicLong roundTrips) {
+    Map<String, List<ACL>> byQueryString = acls.stream().collect(Collectors.groupingBy(ACL::getAclQueryString));
+    Map<String, List<ACL>> byPrincipal = acls.stream().collect(Collectors.groupingBy(ACL::getPrincipalIdentifier));
+    ACLRepository aclRepository = mock(ACLRepository.class);
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenAnswer(invocation -> {
+      simulateRoundTrip(latencyMicros, roundTrips);
+      Collection<String> queryStrings = invocation.getArgument(0);
+      return queryStrings.stream()
+          .flatMap(queryString -> byQueryString.getOrDefault(queryString, Collections.emptyList()).stream())
+          .collect(Collectors.toList());
+    });
+    when(aclRepository.getByPrincipalInScopeHierarchyAndEnabled(anyString(), anyString(), anyString()))
+        .thenAnswer(invocation -> {
+          simulateRoundTrip(latencyMicros, roundTrips);
+          return byPrincipal.getOrDefault(invocation.getArgument(2), Collections.emptyList());
+        });
+    return aclRepository;
+  }
+
+  private static void simulateRoundTrip(long latencyMicros, AtomicLong roundTrips) throws InterruptedException {
+    roundTrips.incrementAndGet();
+    if (latencyMicros > 0) {
+      TimeUnit.MICROSECONDS.sleep(latencyMicros);
+    }
+  }
+
+  private static Scope projectScope(int project) {
+    return Scope.builder()
+        .level(TestScopeLevels.EXTRA_SCOPE)
+        .instanceId("project" + project)
+        .parentScope(ACCOUNT)
+        .build();
+  }
+
+  private static ACL acl(
+      String roleAssignmentId, Scope scope, String resourceSelector, String principalIdentifier, String permission) {
+    String principalType = PrincipalType.USER.name();
+    return ACL.builder()
+        .roleAssignmentId(roleAssignmentId)
+        .scopeIdentifier(scope.toString())
+        .resourceSelector(resourceSelector)
+        .principalType(principalType)
+        .principalIdentifier(principalIdentifier)
+        .permissionIdentifier(permission)
+        .aclQueryString(
+            ACL.getAclQueryString(scope.toString(), resourceSelector, principalType, principalIdentifier, permission))
+        .conditional(false)
+        .enabled(true)
+        .build();
+  }
+}
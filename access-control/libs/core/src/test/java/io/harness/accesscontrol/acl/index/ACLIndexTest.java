@@ -0,0 +1,266 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.index;
+
+import static io.harness.accesscontrol.acl.persistence.ACLDAOImpl.ALL_AUTHENTICATED_USERS;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.accesscontrol.scopes.TestScopeLevels;
+import io.harness.accesscontrol.scopes.core.Scope;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class ACLIndexTest extends AccessControlCoreTestBase {
+  private static final String USER = "user";
+  private static final Scope ACCOUNT = Scope.builder().level(TestScopeLevels.TEST_SCOPE).instanceId("account").build();
+  private static final Scope ORG =
+      Scope.builder().level(TestScopeLevels.EXTRA_SCOPE).instanceId("org").parentScope(ACCOUNT).build();
+
+  private ACLRepository aclRepository;
+  private List<ACL> acls;
+  private final Pods publisher = new Pods();
+
+  @Before
+  public void setup() {
+    aclRepository = mock(ACLRepository.class);
+    acls = new ArrayList<>(Arrays.asList(acl("ra1", ACCOUNT, "/**/*/*", USER, "core_pipeline_view", null),
+        acl("ra2", ORG, "/PIPELINE/p2", USER, "core_pipeline_edit", "<+resource.name> == \"p2\""),
+        acl("ra3", ORG, "/PIPELINE/p1", ALL_AUTHENTICATED_USERS, "core_pipeline_execute", null)));
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenAnswer(invocation -> {
+      Collection<String> queryStrings = invocation.getArgument(0);
+      return acls.stream().filter(acl -> queryStrings.contains(acl.getAclQueryString())).collect(Collectors.toList());
+    });
+    when(aclRepository.getByPrincipalInScopeHierarchyAndEnabled(anyString(), anyString(), anyString()))
+        .thenAnswer(invocation
+            -> acls.stream()
+                   .filter(acl -> acl.getScopeIdentifier().startsWith(invocation.getArgument(0)))
+                   .filter(acl -> acl.getPrincipalType().equals(invocation.getArgument(1)))
+                   .filter(acl -> acl.getPrincipalIdentifier().equals(invocation.getArgument(2)))
+                   .collect(Collectors.toList()));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testMatchesSameACLsAsMongo() {
+    ACLIndex aclIndex = new ACLIndex(aclRepository, config(100), publisher);
+    ACLDAOImpl indexedDAO = new ACLDAOImpl(aclRepository, Collections.emptyMap(), aclIndex);
+    ACLDAOImpl mongoDAO = new ACLDAOImpl(aclRepository, Collections.emptyMap(),
+        new ACLIndex(aclRepository, ACLIndexConfig.disabled(), new NoOpACLIndexChangePublisher()));
+    List<PermissionCheck> permissionChecks = Arrays.asList(check("p1", "core_pipeline_view"),
+        check("p2", "core_pipeline_edit"), check("p1", "core_pipeline_execute"), check("p1", "core_pipeline_delete"));
+    Principal principal = Principal.of(PrincipalType.USER, USER);
+
+    List<List<ACL>> fromIndex = indexedDAO.getMatchingACLs(principal, permissionChecks);
+    List<List<ACL>> fromMongo = mongoDAO.getMatchingACLs(principal, permissionChecks);
+
+    assertThat(summarize(fromIndex)).isEqualTo(summarize(fromMongo));
+    assertThat(fromIndex.get(0)).hasSize(1);
+    assertThat(fromIndex.get(1)).extracting(ACL::isConditional).containsExactly(true);
+    assertThat(fromIndex.get(2)).hasSize(1);
+    assertThat(fromIndex.get(3)).isEmpty();
+
+    indexedDAO.getMatchingACLs(principal, permissionChecks);
+    verify(aclRepository, times(1)).getByPrincipalInScopeHierarchyAndEnabled(eq(ACCOUNT.toString()), any(), eq(USER));
+    verify(aclRepository, times(1))
+        .getByPrincipalInScopeHierarchyAndEnabled(eq(ACCOUNT.toString()), any(), eq(ALL_AUTHENTICATED_USERS));
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+    assertThat(aclIndex.size()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testIncrementalUpdates() {
+    ACLIndex aclIndex = new ACLIndex(aclRepository, config(100), publisher);
+    ACLDAOImpl indexedDAO = new ACLDAOImpl(aclRepository, Collections.emptyMap(), aclIndex);
+    Principal principal = Principal.of(PrincipalType.USER, USER);
+    List<PermissionCheck> permissionChecks = Collections.singletonList(check("p1", "core_pipeline_delete"));
+    assertThat(indexedDAO.getMatchingACLs(principal, permissionChecks).get(0)).isEmpty();
+
+    ACL created = acl("ra4", ORG, "/PIPELINE/p1", USER, "core_pipeline_delete", null);
+    acls.add(created);
+    aclIndex.onACLsCreated(Collections.singletonList(created));
+    assertThat(indexedDAO.getMatchingACLs(principal, permissionChecks).get(0)).hasSize(1);
+
+    acls.remove(created);
+    aclIndex.onRoleAssignmentACLsDeleted("ra4");
+    assertThat(indexedDAO.getMatchingACLs(principal, permissionChecks).get(0)).isEmpty();
+
+    verify(aclRepository, times(2)).getByPrincipalInScopeHierarchyAndEnabled(eq(ACCOUNT.toString()), any(), eq(USER));
+    verify(aclRepository, never()).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testOversizedPrincipalsAreServedFromMongo() {
+    ACLIndex aclIndex = new ACLIndex(aclRepository, config(0), publisher);
+    ACLDAOImpl indexedDAO = new ACLDAOImpl(aclRepository, Collections.emptyMap(), aclIndex);
+
+    List<List<ACL>> matchingACLs = indexedDAO.getMatchingACLs(
+        Principal.of(PrincipalType.USER, USER), Collections.singletonList(check("p1", "core_pipeline_view")));
+
+    assertThat(matchingACLs.get(0)).hasSize(1);
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+    assertThat(aclIndex.getFallbackCount()).isPositive();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testConsistencyCheckDropsStaleEntries() {
+    ACLIndex aclIndex = new ACLIndex(aclRepository, config(100), publisher);
+    aclIndex.get(ORG, PrincipalType.USER.name(), USER);
+    aclIndex.get(ORG, PrincipalType.USER.name(), ALL_AUTHENTICATED_USERS);
+    assertThat(aclIndex.checkConsistency(10)).isZero();
+
+    // Written by another process, so the index has not been notified.
+    acls.add(acl("ra4", ORG, "/PIPELINE/p1", USER, "core_pipeline_delete", null));
+
+    assertThat(aclIndex.checkConsistency(10)).isEqualTo(1);
+    assertThat(aclIndex.size()).isEqualTo(1);
+    assertThat(aclIndex.getInconsistencyCount()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testIsDisabledWhenChangesAreNotPublished() {
+    ACLIndex aclIndex = new ACLIndex(aclRepository, config(100), new NoOpACLIndexChangePublisher());
+    ACLDAOImpl indexedDAO = new ACLDAOImpl(aclRepository, Collections.emptyMap(), aclIndex);
+
+    indexedDAO.getMatchingACLs(
+        Principal.of(PrincipalType.USER, USER), Collections.singletonList(check("p1", "core_pipeline_view")));
+
+    assertThat(aclIndex.isEnabled()).isFalse();
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+    verify(aclRepository, never()).getByPrincipalInScopeHierarchyAndEnabled(anyString(), anyString(), anyString());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testWritesOfOtherPodsDropEntries() {
+    ACLIndex writer = new ACLIndex(aclRepository, config(100), publisher);
+    ACLIndex reader = new ACLIndex(aclRepository, config(100), publisher);
+    publisher.indexes.addAll(Arrays.asList(writer, reader));
+    ACLDAOImpl readerDAO = new ACLDAOImpl(aclRepository, Collections.emptyMap(), reader);
+    Principal principal = Principal.of(PrincipalType.USER, USER);
+    List<PermissionCheck> permissionChecks = Collections.singletonList(check("p1", "core_pipeline_delete"));
+    assertThat(readerDAO.getMatchingACLs(principal, permissionChecks).get(0)).isEmpty();
+
+    ACL created = acl("ra4", ORG, "/PIPELINE/p1", USER, "core_pipeline_delete", null);
+    acls.add(created);
+    writer.onACLsCreated(Collections.singletonList(created));
+    assertThat(readerDAO.getMatchingACLs(principal, permissionChecks).get(0)).hasSize(1);
+
+    acls.remove(created);
+    writer.onRoleAssignmentACLsDeleted("ra4");
+    assertThat(readerDAO.getMatchingACLs(principal, permissionChecks).get(0)).isEmpty();
+
+    acls.clear();
+    writer.invalidateAll();
+    assertThat(reader.size()).isZero();
+    assertThat(publisher.published).extracting(ACLIndexChange::getType)
+        .containsExactly(ACLIndexChange.Type.PRINCIPALS, ACLIndexChange.Type.ROLE_ASSIGNMENT, ACLIndexChange.Type.ALL);
+  }
+
+  // Delivers the published changes to the indexes of all the pods, including the publishing one.
+  private static class Pods implements ACLIndexChangePublisher {
+    private final List<ACLIndex> indexes = new ArrayList<>();
+    private final List<ACLIndexChange> published = new ArrayList<>();
+
+    @Override
+    public boolean isEnabled() {
+      return true;
+    }
+
+    @Override
+    public void publish(ACLIndexChange change) {
+      published.add(change);
+      indexes.forEach(index -> index.onChange(change));
+    }
+  }
+
+  private static ACLIndexConfig config(int maxACLsPerPrincipal) {
+    return ACLIndexConfig.builder()
+        .enabled(true)
+        .maxPrincipals(100)
+        .maxACLsPerPrincipal(maxACLsPerPrincipal)
+        .expireAfterWriteSeconds(3600)
+        .build();
+  }
+
+  private static PermissionCheck check(String resourceIdentifier, String permission) {
+    return PermissionCheck.builder()
+        .resourceScope(ORG)
+        .resourceType("PIPELINE")
+        .resourceIdentifier(resourceIdentifier)
+        .permission(permission)
+        .build();
+  }
+
+  private static ACL acl(String roleAssignmentId, Scope scope, String resourceSelector, String principalIdentifier,
+      String permission, String condition) {
+    return ACL.builder()
+        .roleAssignmentId(roleAssignmentId)
+        .scopeIdentifier(scope.toString())
+        .resourceSelector(resourceSelector)
+        .principalType(PrincipalType.USER.name())
+        .principalIdentifier(principalIdentifier)
+        .permissionIdentifier(permission)
+        .aclQueryString(ACL.getAclQueryString(
+            scope.toString(), resourceSelector, PrincipalType.USER.name(), principalIdentifier, permission))
+        .conditional(condition != null)
+        .condition(condition)
+        .enabled(true)
+        .build();
+  }
+
+  private static List<Set<String>> summarize(List<List<ACL>> matchingACLs) {
+    return matchingACLs.stream()
+        .map(acls
+            -> acls.stream()
+                   .map(acl -> acl.getAclQueryString() + "#" + acl.isConditional() + "#" + acl.getCondition())
+                   .collect(Collectors.toSet()))
+        .collect(Collectors.toList());
+  }
+}
@@ -19,6 +19,9 @@ import static org.mockito.Mockito.verify;
 import io.harness.accesscontrol.AccessControlCoreTestBase;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.index.ACLIndex;
+import io.harness.accesscontrol.acl.index.ACLIndexConfig;
+import io.harness.accesscontrol.acl.index.NoOpACLIndexChangePublisher;
 import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
@@ -49,7 +52,8 @@ public class ACLDAOImplTest extends AccessControlCoreTestBase {
   @Owner(developers = ASHISHSANODIA)
   @Category(UnitTests.class)
   public void testOnlyEnabledACLMatch() {
-    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels);
+    aclDaoImpl = new ACLDAOImpl(aclRepository, scopeLevels,
+        new ACLIndex(aclRepository, ACLIndexConfig.disabled(), new NoOpACLIndexChangePublisher()));
     Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
     List<PermissionCheck> permissionChecks = new ArrayList<>();
     permissionChecks.add(PermissionCheck.builder().resourceType("user").permission("core_user_view").build());
@@ -28,6 +28,8 @@ import static com.google.common.collect.ImmutableMap.of;
 import static io.serializer.HObjectMapper.configureObjectMapperForNG;
 
 import io.harness.Microservice;
+import io.harness.accesscontrol.acl.events.ACLIndexChangeEventListenerService;
+import io.harness.accesscontrol.acl.worker.ACLIndexConsistencyCheckService;
 import io.harness.accesscontrol.acl.worker.RemoveRedundantACLService;
 import io.harness.accesscontrol.commons.bootstrap.AccessControlManagementJob;
 import io.harness.accesscontrol.commons.events.EntityCrudEventListenerService;
@@ -291,6 +293,12 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     environment.lifecycle().manage(injector.getInstance(UserRoleAssignmentRemovalService.class));
     environment.lifecycle().manage(injector.getInstance(ProjectOrgBasicRoleCreationService.class));
     environment.lifecycle().manage(injector.getInstance(RemoveRedundantACLService.class));
+    if (configuration.getAclIndexConfig() != null && configuration.getAclIndexConfig().isEnabled()) {
+      environment.lifecycle().manage(injector.getInstance(ACLIndexConsistencyCheckService.class));
+      if (configuration.getEventsConfig().isEnabled()) {
+        environment.lifecycle().manage(injector.getInstance(ACLIndexChangeEventListenerService.class));
+      }
+    }
   }
 
   private void registerJerseyProviders(Environment environment) {
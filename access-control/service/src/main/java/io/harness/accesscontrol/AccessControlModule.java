@@ -18,6 +18,8 @@ import static io.harness.accesscontrol.scopes.HarnessScopeLevel.ORGANIZATION;
 import static io.harness.accesscontrol.scopes.HarnessScopeLevel.PROJECT;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.authorization.AuthorizationServiceHeader.ACCESS_CONTROL_SERVICE;
+import static io.harness.eventsframework.EventsFrameworkConstants.ACL_INDEX_CHANGE;
+import static io.harness.eventsframework.EventsFrameworkConstants.ACL_INDEX_CHANGE_MAX_TOPIC_SIZE;
 import static io.harness.eventsframework.EventsFrameworkConstants.DUMMY_GROUP_NAME;
 import static io.harness.eventsframework.EventsFrameworkConstants.DUMMY_TOPIC_NAME;
 import static io.harness.eventsframework.EventsFrameworkConstants.ENTITY_CRUD;
@@ -31,6 +33,11 @@ import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.events.ACLIndexChangeEventConsumer;
+import io.harness.accesscontrol.acl.events.ACLIndexChangeEventListenerService;
+import io.harness.accesscontrol.acl.events.ACLIndexChangePublisherImpl;
+import io.harness.accesscontrol.acl.index.ACLIndexChangePublisher;
+import io.harness.accesscontrol.acl.index.ACLIndexConfig;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResource;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResourceImpl;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
@@ -108,8 +115,11 @@ import io.harness.connector.ConnectorResourceClientModule;
 import io.harness.enforcement.client.EnforcementClientModule;
 import io.harness.environment.EnvironmentResourceClientModule;
 import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.impl.noop.NoOpConsumer;
+import io.harness.eventsframework.impl.noop.NoOpProducer;
 import io.harness.eventsframework.impl.redis.RedisConsumer;
+import io.harness.eventsframework.impl.redis.RedisProducer;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.ff.FeatureFlagClientModule;
 import io.harness.ff.FeatureFlagModule;
@@ -152,6 +162,7 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.OptionalBinder;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import java.time.Duration;
@@ -165,6 +176,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.hibernate.validator.parameternameprovider.ReflectionParameterNameProvider;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
 import ru.vyarus.guice.validator.ValidationModule;
 
 @OwnedBy(PL)
@@ -249,6 +261,34 @@ public class AccessControlModule extends AbstractModule {
         Duration.ofMinutes(10), 3, redisConfig.getEnvNamespace(), redisEventMetricPublisher);
   }
 
+  @Provides
+  @Named(ACL_INDEX_CHANGE)
+  @Singleton
+  public Consumer getACLIndexChangeConsumer(
+      @Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient,
+      RedisEventMetricPublisher redisEventMetricPublisher) {
+    RedisConfig redisConfig = config.getEventsConfig().getRedisConfig();
+    if (!config.getEventsConfig().isEnabled()) {
+      return NoOpConsumer.of(DUMMY_TOPIC_NAME, DUMMY_GROUP_NAME);
+    }
+    // The index is built from mongo on start, so a new pod only needs the changes sent after its group was created
+    return RedisConsumer.of(ACL_INDEX_CHANGE, ACLIndexChangeEventListenerService.GROUP_NAME, redissonClient,
+        Duration.ofMinutes(1), 100, redisConfig.getEnvNamespace(), redisEventMetricPublisher, StreamMessageId.NEWEST);
+  }
+
+  @Provides
+  @Named(ACL_INDEX_CHANGE)
+  @Singleton
+  public Producer getACLIndexChangeProducer(
+      @Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    RedisConfig redisConfig = config.getEventsConfig().getRedisConfig();
+    if (!config.getEventsConfig().isEnabled()) {
+      return NoOpProducer.of(DUMMY_TOPIC_NAME);
+    }
+    return RedisProducer.of(ACL_INDEX_CHANGE, redissonClient, ACL_INDEX_CHANGE_MAX_TOPIC_SIZE,
+        ACCESS_CONTROL_SERVICE.getServiceId(), redisConfig.getEnvNamespace());
+  }
+
   @Provides
   public AccessControlIteratorsConfig getIteratorsConfig() {
     return config.getIteratorsConfig();
@@ -393,6 +433,10 @@ public class AccessControlModule extends AbstractModule {
         Multibinder.newSetBinder(binder(), EventConsumer.class, Names.named(USERMEMBERSHIP));
     userMembershipEventConsumers.addBinding().to(UserMembershipEventConsumer.class);
 
+    Multibinder<EventConsumer> aclIndexChangeEventConsumers =
+        Multibinder.newSetBinder(binder(), EventConsumer.class, Names.named(ACL_INDEX_CHANGE));
+    aclIndexChangeEventConsumers.addBinding().to(ACLIndexChangeEventConsumer.class);
+
     binder()
         .bind(new TypeLiteral<HarnessActionValidator<RoleAssignment>>() {})
         .annotatedWith(Names.named(RoleAssignmentDTO.MODEL_NAME))
@@ -431,5 +475,16 @@ public class AccessControlModule extends AbstractModule {
     bind(Integer.class)
         .annotatedWith(Names.named("batchSizeForACLCreation"))
         .toInstance(config.getBatchSizeForACLCreation());
+    if (config.getAclIndexConfig() != null) {
+      OptionalBinder.newOptionalBinder(binder(), ACLIndexConfig.class)
+          .setBinding()
+          .toInstance(config.getAclIndexConfig());
+    }
+    if (config.getEventsConfig().isEnabled()) {
+      // Without the events framework the acl writes of other pods are not seen, and the acl index stays disabled.
+      OptionalBinder.newOptionalBinder(binder(), ACLIndexChangePublisher.class)
+          .setBinding()
+          .to(ACLIndexChangePublisherImpl.class);
+    }
   }
 }
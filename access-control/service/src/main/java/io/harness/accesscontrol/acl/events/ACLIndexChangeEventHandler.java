@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.events;
+
+import io.harness.accesscontrol.acl.index.ACLIndex;
+import io.harness.accesscontrol.acl.index.ACLIndexChange;
+import io.harness.accesscontrol.commons.events.EventHandler;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.serializer.JsonUtils;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+@Singleton
+public class ACLIndexChangeEventHandler implements EventHandler {
+  private final ACLIndex aclIndex;
+
+  @Inject
+  public ACLIndexChangeEventHandler(ACLIndex aclIndex) {
+    this.aclIndex = aclIndex;
+  }
+
+  @Override
+  public boolean handle(Message message) {
+    ACLIndexChange change;
+    try {
+      change = JsonUtils.asObject(message.getMessage().getData().toStringUtf8(), ACLIndexChange.class);
+    } catch (Exception e) {
+      log.error("Could not read the acl index change of message {}", message.getId(), e);
+      // The message can never be read, dropping the whole index is the only safe option.
+      aclIndex.onChange(ACLIndexChange.builder().type(ACLIndexChange.Type.ALL).build());
+      return true;
+    }
+    aclIndex.onChange(change);
+    return true;
+  }
+}
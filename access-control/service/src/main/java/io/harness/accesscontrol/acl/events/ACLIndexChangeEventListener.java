@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.events;
+
+import static io.harness.eventsframework.EventsFrameworkConstants.ACL_INDEX_CHANGE;
+
+import io.harness.accesscontrol.commons.events.EventConsumer;
+import io.harness.accesscontrol.commons.events.EventListener;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.Consumer;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import java.util.Set;
+
+@OwnedBy(HarnessTeam.PL)
+public class ACLIndexChangeEventListener extends EventListener {
+  @Inject
+  public ACLIndexChangeEventListener(
+      @Named(ACL_INDEX_CHANGE) Consumer redisConsumer, @Named(ACL_INDEX_CHANGE) Set<EventConsumer> eventConsumers) {
+    super(redisConsumer, eventConsumers);
+  }
+
+  @Override
+  public String getListenerName() {
+    return ACL_INDEX_CHANGE;
+  }
+}
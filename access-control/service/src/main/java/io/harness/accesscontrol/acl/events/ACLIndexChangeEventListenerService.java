@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.events;
+
+import static io.harness.authorization.AuthorizationServiceHeader.ACCESS_CONTROL_SERVICE;
+import static io.harness.eventsframework.EventsFrameworkConstants.ACL_INDEX_CHANGE;
+
+import io.harness.accesscontrol.commons.events.EventListenerService;
+import io.harness.accesscontrol.commons.events.EventsConfig;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.impl.redis.RedisUtils;
+import io.harness.network.Localhost;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamConsumer;
+import org.redisson.api.StreamGroup;
+
+/**
+ * Reads the acl index changes of all the pods. Unlike the other listeners, each pod has its own consumer group, so
+ * that every pod receives every change. The group starts at the newest change since the index is built from mongo on
+ * start, and is removed when the pod stops. Groups left behind by pods that crashed are removed by the next pod that
+ * starts once none of their consumers have read for {@link #STALE_GROUP_IDLE_TIME}.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+public class ACLIndexChangeEventListenerService extends EventListenerService {
+  private static final String GROUP_NAME_PREFIX = ACCESS_CONTROL_SERVICE.getServiceId() + ":";
+  public static final String GROUP_NAME = GROUP_NAME_PREFIX + Localhost.getLocalHostName();
+  private static final Duration STALE_GROUP_IDLE_TIME = Duration.ofHours(1);
+
+  private final RedissonClient redissonClient;
+  private final EventsConfig eventsConfig;
+
+  @Inject
+  public ACLIndexChangeEventListenerService(ACLIndexChangeEventListener aclIndexChangeEventListener,
+      @Named("eventsConfig") EventsConfig eventsConfig,
+      @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    super(aclIndexChangeEventListener, eventsConfig);
+    this.redissonClient = redissonClient;
+    this.eventsConfig = eventsConfig;
+  }
+
+  @Override
+  public String getServiceName() {
+    return ACL_INDEX_CHANGE;
+  }
+
+  @Override
+  public void start() throws Exception {
+    removeStaleGroups();
+    super.start();
+  }
+
+  @Override
+  public void stop() throws Exception {
+    super.stop();
+    try {
+      getStream().removeGroup(GROUP_NAME);
+    } catch (Exception e) {
+      log.warn("Failed to remove the consumer group {} of {}", GROUP_NAME, ACL_INDEX_CHANGE, e);
+    }
+  }
+
+  private void removeStaleGroups() {
+    try {
+      RStream<String, String> stream = getStream();
+      if (!stream.isExists()) {
+        return;
+      }
+      for (StreamGroup group : stream.listGroups()) {
+        String groupName = group.getName();
+        if (!groupName.startsWith(GROUP_NAME_PREFIX) || groupName.equals(GROUP_NAME)) {
+          continue;
+        }
+        // A group without consumers may belong to a pod that is still starting, so only idle consumers mark it stale
+        List<StreamConsumer> consumers = stream.listConsumers(groupName);
+        boolean stale = !consumers.isEmpty()
+            && consumers.stream().allMatch(consumer -> consumer.getIdleTime() > STALE_GROUP_IDLE_TIME.toMillis());
+        if (stale) {
+          stream.removeGroup(groupName);
+          log.info("Removed the stale consumer group {} of {}", groupName, ACL_INDEX_CHANGE);
+        }
+      }
+    } catch (Exception e) {
+      log.warn("Failed to remove the stale consumer groups of {}", ACL_INDEX_CHANGE, e);
+    }
+  }
+
+  private RStream<String, String> getStream() {
+    return RedisUtils.getStream(ACL_INDEX_CHANGE, redissonClient, eventsConfig.getRedisConfig().getEnvNamespace());
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.events;
+
+import static io.harness.eventsframework.EventsFrameworkConstants.ACL_INDEX_CHANGE;
+
+import io.harness.accesscontrol.acl.index.ACLIndexChange;
+import io.harness.accesscontrol.acl.index.ACLIndexChangePublisher;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.producer.Message;
+import io.harness.serializer.JsonUtils;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import com.google.protobuf.ByteString;
+
+/**
+ * Publishes the acl index changes on the acl_index_change stream, which every pod reads with its own consumer group,
+ * see {@link ACLIndexChangeEventListenerService}.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Singleton
+public class ACLIndexChangePublisherImpl implements ACLIndexChangePublisher {
+  private final Producer producer;
+
+  @Inject
+  public ACLIndexChangePublisherImpl(@Named(ACL_INDEX_CHANGE) Producer producer) {
+    this.producer = producer;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public void publish(ACLIndexChange change) {
+    producer.send(Message.newBuilder().setData(ByteString.copyFromUtf8(JsonUtils.asJson(change))).build());
+  }
+}
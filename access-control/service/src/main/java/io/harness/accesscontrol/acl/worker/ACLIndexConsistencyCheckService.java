@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.worker;
+
+import io.harness.accesscontrol.acl.index.ACLIndex;
+import io.harness.accesscontrol.acl.index.ACLIndexConfig;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import io.dropwizard.lifecycle.Managed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically compares a sample of the in memory acl index with mongo and logs the index statistics.
+ */
+@Slf4j
+@OwnedBy(HarnessTeam.PL)
+public class ACLIndexConsistencyCheckService implements Managed {
+  private static final String DEBUG_MESSAGE = "ACLIndexConsistencyCheckService: ";
+  private Future<?> consistencyCheckFuture;
+  private final ScheduledExecutorService executorService;
+  private final ACLIndex aclIndex;
+  private final ACLIndexConfig aclIndexConfig;
+
+  @Inject
+  public ACLIndexConsistencyCheckService(ACLIndex aclIndex, ACLIndexConfig aclIndexConfig) {
+    this.aclIndex = aclIndex;
+    this.aclIndexConfig = aclIndexConfig;
+    String threadName = "acl-index-consistency-check-thread";
+    this.executorService =
+        Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(threadName).build());
+  }
+
+  @Override
+  public void start() throws Exception {
+    log.info(DEBUG_MESSAGE + "started...");
+    long interval = aclIndexConfig.getConsistencyCheckIntervalSeconds();
+    consistencyCheckFuture = executorService.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.SECONDS);
+  }
+
+  @Override
+  public void stop() throws Exception {
+    log.info(DEBUG_MESSAGE + "stopping...");
+    consistencyCheckFuture.cancel(false);
+    executorService.shutdown();
+  }
+
+  private void check() {
+    try {
+      int inconsistent = aclIndex.checkConsistency(aclIndexConfig.getConsistencyCheckSampleSize());
+      if (inconsistent > 0) {
+        log.warn(DEBUG_MESSAGE + "dropped {} stale principals", inconsistent);
+      }
+      log.info(DEBUG_MESSAGE + "stats {}, fallbacks to mongo {}, inconsistencies {}", aclIndex.getStats(),
+          aclIndex.getFallbackCount(), aclIndex.getInconsistencyCount());
+    } catch (Exception e) {
+      log.error(DEBUG_MESSAGE + "consistency check failed", e);
+    }
+  }
+}
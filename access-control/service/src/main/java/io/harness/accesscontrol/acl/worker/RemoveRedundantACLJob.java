@@ -15,7 +15,6 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.springframework.data.domain.Sort.Direction.ASC;
 import static org.springframework.data.domain.Sort.by;
-import static org.springframework.data.mongodb.core.BulkOperations.BulkMode.UNORDERED;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
@@ -24,6 +23,7 @@ import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset;
 import io.harness.accesscontrol.acl.persistence.ACLOptimizationMigrationOffset.ACLOptimizationMigrationOffsetKey;
 import io.harness.accesscontrol.acl.persistence.RemoveRedundantACLJobState;
 import io.harness.accesscontrol.acl.persistence.RemoveRedundantACLJobState.RemoveRedundantACLJobStateKey;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.permissions.persistence.repositories.InMemoryPermissionRepository;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -35,9 +35,11 @@ import io.harness.security.dto.ServicePrincipal;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
-import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -51,14 +53,17 @@ public class RemoveRedundantACLJob implements Runnable {
   public static final String REFERENCE_TIMESTAMP = "000000000000000000000000";
   private static final String DEBUG_MESSAGE = "[RemoveRedundantACLJob] ";
   private final MongoTemplate mongoTemplate;
+  private final ACLRepository aclRepository;
   private final PersistentLocker persistentLocker;
   private final InMemoryPermissionRepository inMemoryPermissionRepository;
   private static final String LOCK_NAME = "RemoveRedundantACLJob";
 
   @Inject
-  public RemoveRedundantACLJob(MongoTemplate mongoTemplate, PersistentLocker persistentLocker,
+  public RemoveRedundantACLJob(MongoTemplate mongoTemplate,
+      @Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, PersistentLocker persistentLocker,
       InMemoryPermissionRepository inMemoryPermissionRepository) {
     this.mongoTemplate = mongoTemplate;
+    this.aclRepository = aclRepository;
     this.persistentLocker = persistentLocker;
     this.inMemoryPermissionRepository = inMemoryPermissionRepository;
   }
@@ -99,26 +104,24 @@ public class RemoveRedundantACLJob implements Runnable {
       try (CloseableIterator<ACL> iterator = runQueryWithBatchForDisabledAcls()) {
         String offset = null;
         int totalRemoved = 0;
-        BulkOperations bulkOperations = mongoTemplate.bulkOps(UNORDERED, ACL.class);
+        // Removed through the repository, so that the acl index sees the removals
+        List<ACL> aclsToRemove = new ArrayList<>();
 
         while (iterator.hasNext()) {
           ACL acl = iterator.next();
           offset = acl.getId();
 
-          // Create a query to remove the ACL
-          Query query = new Query();
-          query.addCriteria(where(ACLKeys.id).is(acl.getId()));
-          bulkOperations.remove(query);
+          aclsToRemove.add(acl);
 
           totalRemoved++;
 
           // Check if it's time to execute the bulk removal
           if (totalRemoved % BATCH_SIZE == 0) {
-            log.info(DEBUG_MESSAGE + "Removing disabled ACLs. total: {}, removed: {}", bulkOperations.execute(),
-                totalRemoved);
+            log.info(DEBUG_MESSAGE + "Removing disabled ACLs. total: {}, removed: {}",
+                aclRepository.deleteAll(aclsToRemove), totalRemoved);
 
-            // Reset bulkOperations for the next batch
-            bulkOperations = mongoTemplate.bulkOps(UNORDERED, ACL.class);
+            // Reset the batch
+            aclsToRemove = new ArrayList<>();
 
             // Update the offset
             updateOffset(offset);
@@ -130,8 +133,8 @@ public class RemoveRedundantACLJob implements Runnable {
 
         // Execute any remaining removals
         if (totalRemoved % BATCH_SIZE != 0) {
-          log.info(
-              DEBUG_MESSAGE + "Removing disabled ACLs. total: {}, removed: {}", bulkOperations.execute(), totalRemoved);
+          log.info(DEBUG_MESSAGE + "Removing disabled ACLs. total: {}, removed: {}",
+              aclRepository.deleteAll(aclsToRemove), totalRemoved);
         }
 
         // Update the offset
@@ -145,24 +148,22 @@ public class RemoveRedundantACLJob implements Runnable {
       try (CloseableIterator<ACL> iterator = runQueryWithBatch()) {
         String offset = null;
         int totalRemoved = 0;
-        BulkOperations bulkOperations = mongoTemplate.bulkOps(UNORDERED, ACL.class);
+        List<ACL> aclsToRemove = new ArrayList<>();
 
         while (iterator.hasNext()) {
           ACL acl = iterator.next();
           offset = acl.getId();
 
-          Query query = new Query().addCriteria(where(ACLKeys.id).is(acl.getId()));
-
           if (!inMemoryPermissionRepository.isPermissionCompatibleWithResourceSelector(
                   acl.getPermissionIdentifier(), acl.getResourceSelector())) {
-            bulkOperations.remove(query);
+            aclsToRemove.add(acl);
             totalRemoved++;
           }
 
           if (totalRemoved != 0 && totalRemoved % BATCH_SIZE == 0) {
-            log.info(DEBUG_MESSAGE + "Removing redundant ACLs. total: {}, removed: {}", bulkOperations.execute(),
-                totalRemoved);
-            bulkOperations = mongoTemplate.bulkOps(UNORDERED, ACL.class);
+            log.info(DEBUG_MESSAGE + "Removing redundant ACLs. total: {}, removed: {}",
+                aclRepository.deleteAll(aclsToRemove), totalRemoved);
+            aclsToRemove = new ArrayList<>();
 
             updateOffset(offset);
             Thread.sleep(1000);
@@ -170,8 +171,8 @@ public class RemoveRedundantACLJob implements Runnable {
         }
 
         if (totalRemoved % BATCH_SIZE != 0) {
-          log.info(DEBUG_MESSAGE + "Removing redundant ACLs. total: {}, removed: {}", bulkOperations.execute(),
-              totalRemoved);
+          log.info(DEBUG_MESSAGE + "Removing redundant ACLs. total: {}, removed: {}",
+              aclRepository.deleteAll(aclsToRemove), totalRemoved);
         }
 
         if (offset != null) {
@@ -9,10 +9,13 @@ package io.harness.accesscontrol.acl.worker;
 
 import static io.harness.accesscontrol.acl.worker.RemoveRedundantACLJob.REFERENCE_TIMESTAMP;
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.ASHISHSANODIA;
 
 import static java.util.Map.of;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import io.harness.accesscontrol.AccessControlTestBase;
 import io.harness.accesscontrol.acl.persistence.ACL;
@@ -36,6 +39,7 @@ import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -88,7 +92,8 @@ public class RemoveRedundantACLJobTest extends AccessControlTestBase {
         ResourceTypeDBO.builder().identifier(SERVICE_RESOURCE_IDENTIFIER).permissionKey(SERVICE_RESOURCE_NAME).build());
     inMemoryPermissionRepository =
         new InMemoryPermissionRepository(mongoTemplate, of("ccm_perspective_view", Set.of("CCM_FOLDER")));
-    removeRedundantACLJob = new RemoveRedundantACLJob(mongoTemplate, persistentLocker, inMemoryPermissionRepository);
+    removeRedundantACLJob =
+        new RemoveRedundantACLJob(mongoTemplate, aclRepository, persistentLocker, inMemoryPermissionRepository);
   }
 
   @Test
@@ -240,6 +245,30 @@ public class RemoveRedundantACLJobTest extends AccessControlTestBase {
     assertThat(state.getOffset()).isEqualTo("some-offset");
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testRemovesRedundantACLsThroughTheRepository() {
+    ACL redundantACL = ACL.builder()
+                           .id("000000120000000000000000")
+                           .roleAssignmentId("role-assignment-id")
+                           .permissionIdentifier(CORE_SERVICE_VIEW_PERMISSION)
+                           .resourceSelector("/ACCOUNT/account-id$/USER/*")
+                           .enabled(true)
+                           .build();
+    aclRepository.insertAllIgnoringDuplicates(List.of(redundantACL));
+    ACLRepository spiedACLRepository = spy(aclRepository);
+    removeRedundantACLJob =
+        new RemoveRedundantACLJob(mongoTemplate, spiedACLRepository, persistentLocker, inMemoryPermissionRepository);
+
+    removeRedundantACLJob.execute();
+
+    ArgumentCaptor<List<ACL>> removedACLs = ArgumentCaptor.forClass(List.class);
+    verify(spiedACLRepository).deleteAll(removedACLs.capture());
+    assertThat(removedACLs.getValue()).extracting(ACL::getRoleAssignmentId).containsExactly("role-assignment-id");
+    assertThat(getCurrentACLs()).isEmpty();
+  }
+
   private void createEntities() {
     List<ACL> acls = new ArrayList<>();
     // These are valid ACLs
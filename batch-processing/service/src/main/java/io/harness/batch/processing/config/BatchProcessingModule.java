@@ -111,6 +111,7 @@ import io.harness.instanceng.InstanceNGResourceClientModule;
 import io.harness.licensing.remote.NgLicenseHttpClientModule;
 import io.harness.lock.PersistentLocker;
 import io.harness.lock.noop.PersistentNoopLocker;
+import io.harness.metrics.MetricRegistryModule;
 import io.harness.metrics.modules.MetricsModule;
 import io.harness.metrics.service.api.MetricsPublisher;
 import io.harness.mongo.MongoConfig;
@@ -143,6 +144,7 @@ import software.wings.service.intfc.instance.DeploymentService;
 import software.wings.service.intfc.security.EncryptedSettingAttributes;
 import software.wings.service.intfc.security.SecretManager;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.Resources;
 import com.google.inject.AbstractModule;
@@ -296,6 +298,8 @@ public class BatchProcessingModule extends AbstractModule {
     bind(LabelFlattenedService.class).to(LabelFlattenedServiceImpl.class);
 
     install(new MetricsModule());
+    // The perspective query cache of the views billing service records its metrics in the registry.
+    install(new MetricRegistryModule(new MetricRegistry()));
     install(new CENGGraphQLModule(batchMainConfig.getCurrencyPreferencesConfig()));
     bind(MetricsPublisher.class).to(BatchProcessingMetricsPublisher.class).in(Scopes.SINGLETON);
     install(new AccountClientModule(batchMainConfig.getManagerServiceHttpClientConfig(),
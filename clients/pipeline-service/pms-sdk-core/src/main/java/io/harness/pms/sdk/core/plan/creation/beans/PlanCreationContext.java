@@ -24,6 +24,7 @@ import io.harness.pms.yaml.YAMLFieldNameConstants;
 import io.harness.pms.yaml.YamlField;
 import io.harness.pms.yaml.YamlNode;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.google.common.base.Preconditions;
 import com.google.protobuf.ByteString;
@@ -32,6 +33,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -47,6 +49,8 @@ public class PlanCreationContext implements AsyncCreatorContext {
   YamlField currentField;
   @Singular("globalContext") private Map<String, PlanCreationContextValue> globalContext;
   String yaml;
+  // Writes the yaml on the first getYaml, when the plan creation request only had the yaml tree.
+  @JsonIgnore @EqualsAndHashCode.Exclude Supplier<String> yamlSupplier;
   Dependency dependency;
   String executionInputTemplate;
 
@@ -54,6 +58,13 @@ public class PlanCreationContext implements AsyncCreatorContext {
     return globalContext;
   }
 
+  public String getYaml() {
+    if (yaml == null && yamlSupplier != null) {
+      yaml = yamlSupplier.get();
+    }
+    return yaml;
+  }
+
   public Dependency getDependency() {
     return dependency;
   }
@@ -69,6 +80,17 @@ public class PlanCreationContext implements AsyncCreatorContext {
         .build();
   }
 
+  public static PlanCreationContext cloneWithCurrentField(PlanCreationContext planCreationContext, YamlField field,
+      Supplier<String> yamlSupplier, Dependency dependency, String executionInputTemplate) {
+    return PlanCreationContext.builder()
+        .currentField(field)
+        .yamlSupplier(yamlSupplier)
+        .dependency(dependency)
+        .globalContext(planCreationContext.getGlobalContext())
+        .executionInputTemplate(executionInputTemplate)
+        .build();
+  }
+
   public PlanCreationContextValue getMetadata() {
     return globalContext == null ? null : globalContext.get("metadata");
   }
@@ -52,11 +52,15 @@ import io.harness.pms.sdk.core.variables.VariableCreatorService;
 import io.harness.pms.utils.CompletableFutures;
 import io.harness.pms.yaml.HarnessYamlVersion;
 import io.harness.pms.yaml.YamlField;
+import io.harness.pms.yaml.YamlPathIndex;
+import io.harness.pms.yaml.YamlTreeEncoding;
 import io.harness.pms.yaml.YamlUtils;
 
+import com.google.common.base.Suppliers;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -65,6 +69,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
@@ -113,8 +118,8 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
       PlanCreationContext ctx = PlanCreationContext.builder().globalContext(request.getContextMap()).build();
       try (AutoLogContext ignore = PlanCreatorServiceHelper.autoLogContextWithRandomRequestId(ctx)) {
         try {
-          MergePlanCreationResponse finalResponse =
-              createPlanForDependenciesRecursive(request.getDeps(), ctx, request.getServiceAffinityMap());
+          MergePlanCreationResponse finalResponse = createPlanForDependenciesRecursive(
+              request.getDeps(), request.getYamlTree(), ctx, request.getServiceAffinityMap());
           planCreationResponse = getPlanCreationResponseFromFinalResponse(finalResponse);
         } catch (Exception ex) {
           log.error(ExceptionUtils.getMessage(ex), ex);
@@ -136,8 +141,8 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     }
   }
 
-  private MergePlanCreationResponse createPlanForDependenciesRecursive(
-      Dependencies initialDependencies, PlanCreationContext ctx, Map<String, String> serviceAffinityMap) {
+  private MergePlanCreationResponse createPlanForDependenciesRecursive(Dependencies initialDependencies,
+      ByteString yamlTree, PlanCreationContext ctx, Map<String, String> serviceAffinityMap) {
     // TODO: Add patch version before sending the response back
     MergePlanCreationResponse finalResponse =
         MergePlanCreationResponse.builder().serviceAffinityMap(serviceAffinityMap).build();
@@ -148,10 +153,21 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     long start = System.currentTimeMillis();
     try (PmsGitSyncBranchContextGuard ignore =
              pmsGitSyncHelper.createGitSyncBranchContextGuardFromBytes(ctx.getGitSyncBranchContext(), true)) {
+      // The pipeline service sends the yaml either as is or as the encoded tree. The yaml is only written from the tree
+      // when a plan creator asks for it or returns yaml updates, from a fresh decoding as the plan creators modify the
+      // fields they get.
+      Supplier<String> treeYaml = yamlTree.isEmpty()
+          ? null
+          : Suppliers.memoize(() -> YamlUtils.writeYamlString(decodeYamlTree(yamlTree).getNode().getCurrJsonNode()));
       Dependencies dependencies = initialDependencies.toBuilder().build();
       while (!dependencies.getDependenciesMap().isEmpty()) {
-        dependencies =
-            createPlanForDependencies(ctx, finalResponse, dependencies, finalResponse.getServiceAffinityMap());
+        // The tree sent by the pipeline service can only stand in for the yaml as long as no plan creator updated it.
+        YamlField fullField = null;
+        if (treeYaml != null && dependencies.getYaml().equals(initialDependencies.getYaml())) {
+          fullField = decodeYamlTree(yamlTree);
+        }
+        dependencies = createPlanForDependencies(
+            ctx, finalResponse, dependencies, finalResponse.getServiceAffinityMap(), fullField, treeYaml);
         PlanCreatorServiceHelper.removeInitialDependencies(dependencies, initialDependencies);
       }
       if (finalResponse.getDependencies() != null
@@ -166,40 +182,62 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
 
   public Dependencies createPlanForDependencies(PlanCreationContext ctx, MergePlanCreationResponse finalResponse,
       Dependencies dependencies, Map<String, String> serviceAffinityMap) {
+    return createPlanForDependencies(ctx, finalResponse, dependencies, serviceAffinityMap, null, null);
+  }
+
+  /**
+   * Creates the plan for the dependencies. The yaml of the dependencies is parsed unless its tree, decoded from the
+   * tree sent by the pipeline service which is much cheaper than parsing, is given as decodedField. The dependencies
+   * have no yaml then, treeYaml writes it from the tree for the plan creators needing it.
+   */
+  Dependencies createPlanForDependencies(PlanCreationContext ctx, MergePlanCreationResponse finalResponse,
+      Dependencies dependencies, Map<String, String> serviceAffinityMap, YamlField decodedField,
+      Supplier<String> treeYaml) {
     if (EmptyPredicate.isEmpty(dependencies.getDependenciesMap())) {
       return dependencies;
     }
     CompletableFutures<PlanCreationResponse> completableFutures = new CompletableFutures<>(executor);
     List<Map.Entry<String, String>> dependenciesList = new ArrayList<>(dependencies.getDependenciesMap().entrySet());
     String currentYaml = dependencies.getYaml();
+    Supplier<String> fullYaml = decodedField != null && treeYaml != null ? treeYaml : () -> currentYaml;
     long start = System.currentTimeMillis();
-    YamlField fullField;
-    try {
-      fullField = YamlUtils.readTree(currentYaml);
-    } catch (IOException ex) {
-      String message = "Invalid yaml during plan creation";
-      log.error(message, ex);
-      throw new InvalidRequestException(message);
+    YamlField fullField = decodedField;
+    if (fullField == null) {
+      try {
+        fullField = YamlUtils.readTree(currentYaml);
+      } catch (IOException ex) {
+        String message = "Invalid yaml during plan creation";
+        log.error(message, ex);
+        throw new InvalidRequestException(message);
+      }
     }
+    YamlPathIndex yamlPathIndex = new YamlPathIndex(fullField);
     // Iterating dependencies to create plan for each dependency by submitting parallel threads of executor thread.
     dependenciesList.forEach(key -> completableFutures.supplyAsync(() -> {
-      try {
-        return createPlanForDependencyInternal(currentYaml, fullField.fromYamlPath(key.getValue()), ctx,
-            dependencies.getDependencyMetadataMap().get(key.getKey()), serviceAffinityMap.get(key.getKey()));
-      } catch (IOException e) {
-        throw new InvalidRequestException("Unable to parse the field in the path:" + key.getValue());
-      }
+      YamlField field = yamlPathIndex.getField(key.getValue());
+      return createPlanForDependencyInternal(fullYaml, field, ctx,
+          dependencies.getDependencyMetadataMap().get(key.getKey()), serviceAffinityMap.get(key.getKey()));
     }));
 
     try {
       List<PlanCreationResponse> planCreationResponses = completableFutures.allOf().get(5, TimeUnit.MINUTES);
       return PlanCreatorServiceHelper.handlePlanCreationResponses(
-          planCreationResponses, finalResponse, currentYaml, dependencies, dependenciesList);
+          planCreationResponses, finalResponse, currentYaml, fullYaml, dependencies, dependenciesList);
     } catch (Exception ex) {
       throw new UnexpectedException(format("Unexpected plan creation error: %s", ex.getMessage()), ex);
     }
   }
 
+  private YamlField decodeYamlTree(ByteString yamlTree) {
+    try {
+      return YamlTreeEncoding.decode(yamlTree.toByteArray());
+    } catch (IOException ex) {
+      String message = "Invalid yaml during plan creation";
+      log.error(message, ex);
+      throw new InvalidRequestException(message);
+    }
+  }
+
   @Override
   public void createFilter(FilterCreationBlobRequest request, StreamObserver<FilterCreationResponse> responseObserver) {
     try (AutoLogContext autoLogContext =
@@ -266,7 +304,7 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
 
   // Method to create plan for single dependency.
   // Dependency passed from parent to its children plan creator
-  private PlanCreationResponse createPlanForDependencyInternal(String currentYaml, YamlField field,
+  private PlanCreationResponse createPlanForDependencyInternal(Supplier<String> currentYaml, YamlField field,
       PlanCreationContext ctx, Dependency dependency, String currentNodeServiceAffinity) {
     try (AutoLogContext ignore = PlanCreatorUtils.autoLogContext(ctx.getAccountIdentifier(), ctx.getOrgIdentifier(),
              ctx.getProjectIdentifier(), ctx.getPipelineIdentifier(), ctx.getExecutionUuid())) {
@@ -38,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 
@@ -67,6 +68,18 @@ public class PlanCreatorServiceHelper {
   public Dependencies handlePlanCreationResponses(List<PlanCreationResponse> planCreationResponses,
       MergePlanCreationResponse finalResponse, String currentYaml, Dependencies dependencies,
       List<Map.Entry<String, String>> dependenciesList) {
+    return handlePlanCreationResponses(
+        planCreationResponses, finalResponse, currentYaml, () -> currentYaml, dependencies, dependenciesList);
+  }
+
+  /**
+   * Same as {@link #handlePlanCreationResponses(List, MergePlanCreationResponse, String, Dependencies, List)} but the
+   * yaml updates are merged into fullYaml, which is only written when a plan creator returned yaml updates. The
+   * currentYaml is empty while the dependencies came with the yaml tree instead of the yaml.
+   */
+  public Dependencies handlePlanCreationResponses(List<PlanCreationResponse> planCreationResponses,
+      MergePlanCreationResponse finalResponse, String currentYaml, Supplier<String> fullYaml,
+      Dependencies dependencies, List<Map.Entry<String, String>> dependenciesList) {
     String updatedYaml = currentYaml;
     List<String> errorMessages = planCreationResponses.stream()
                                      .filter(resp -> resp != null && EmptyPredicate.isNotEmpty(resp.getErrorMessages()))
@@ -102,7 +115,7 @@ public class PlanCreatorServiceHelper {
       }
       if (response.getYamlUpdates() != null && EmptyPredicate.isNotEmpty(response.getYamlUpdates().getFqnToYamlMap())) {
         updatedYaml = PlanCreationBlobResponseUtils.mergeYamlUpdates(
-            currentYaml, finalResponse.getYamlUpdates().getFqnToYamlMap());
+            fullYaml.get(), finalResponse.getYamlUpdates().getFqnToYamlMap());
         finalResponse.updateYamlInDependencies(updatedYaml);
       }
     }
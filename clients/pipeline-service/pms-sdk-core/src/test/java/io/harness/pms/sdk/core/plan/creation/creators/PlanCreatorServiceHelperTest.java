@@ -145,6 +145,23 @@ public class PlanCreatorServiceHelperTest extends PmsSdkCoreTestBase {
     assertThat(finalResponse.getErrorMessages().size()).isEqualTo(0);
   }
 
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testHandlePlanCreationResponsesWithoutYamlUpdatesDoesNotWriteTheYaml() {
+    PlanCreationResponse planCreationResponse = PlanCreationResponse.builder().build();
+    MergePlanCreationResponse finalResponse = MergePlanCreationResponse.builder().build();
+    Dependencies deps = Dependencies.newBuilder().putDependencies("test", "pipeline.stages").build();
+    List<Map.Entry<String, String>> dependenciesList = new ArrayList<>(deps.getDependenciesMap().entrySet());
+
+    Dependencies dependencies =
+        PlanCreatorServiceHelper.handlePlanCreationResponses(ListUtils.newArrayList(planCreationResponse),
+            finalResponse, "", () -> { throw new IllegalStateException("The yaml should not be written"); },
+            Dependencies.newBuilder().build(), dependenciesList);
+    assertThat(dependencies).isEqualTo(Dependencies.newBuilder().build());
+    assertThat(finalResponse.getErrorMessages().size()).isEqualTo(0);
+  }
+
   @Test
   @Owner(developers = RAGHAV_GUPTA)
   @Category(UnitTests.class)
@@ -155,6 +155,7 @@ public class PmsSdkInitHelper {
         .putAllStaticAliases(CollectionUtils.emptyIfNull(sdkConfiguration.getStaticAliases()))
         .addAllSdkFunctors(PmsSdkInitHelper.getSupportedSdkFunctorsList(sdkConfiguration))
         .addAllJsonExpansionInfo(getJsonExpansionInfo(sdkConfiguration))
+        .setSupportsYamlTree(true)
         .setNodeStartEventConsumerConfig(buildConsumerConfig(eventsConfig, PmsEventCategory.NODE_START,
             sdkConfiguration.getServiceName(), sdkConfiguration.isStreamPerServiceConfiguration()))
         .setProgressEventConsumerConfig(buildConsumerConfig(eventsConfig, PmsEventCategory.PROGRESS_EVENT,
@@ -661,6 +661,7 @@ replace_key_value awsServiceEndpointUrls.ecsEndPointUrl "$AWS_SERVICE_ENDPOINT_U
 replace_key_value awsServiceEndpointUrls.cloudwatchEndPointUrl "$AWS_SERVICE_ENDPOINT_URLS_CLOUDWATCH_ENDPOINT_URL"
 
 replace_key_value enablePaginatedQueryOnTimescale "$ENABLE_PAGINATED_QUERY_ON_TIMESCALE"
+replace_key_value enableCdDashboardRollups "$ENABLE_CD_DASHBOARD_ROLLUPS"
 
 #Changes to use internal connection urls for PMS client gRPC
 replace_key_value pmsGrpcClientConfig.target "$INTERNAL_PMS_TARGET"
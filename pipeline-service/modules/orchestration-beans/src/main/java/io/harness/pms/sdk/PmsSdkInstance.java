@@ -60,6 +60,7 @@ public class PmsSdkInstance implements PersistentEntity, UuidAware {
   List<SdkStep> supportedSdkSteps;
   List<String> expandableFields;
   List<JsonExpansionInfo> jsonExpansionInfo;
+  Boolean supportsYamlTree;
 
   SdkModuleInfo sdkModuleInfo;
 
@@ -53,9 +53,9 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @CodePulse(
@@ -161,13 +161,15 @@ public abstract class AbstractContainerStep implements AsyncExecutableWithRbac<S
   }
 
   private void abortTasks(List<String> allCallbackIds, String callbackId) {
-    List<String> callBackIds =
-        allCallbackIds.stream().filter(cid -> !cid.equals(callbackId)).collect(Collectors.toList());
-    callBackIds.forEach(callbackId1
-        -> waitNotifyEngine.doneWith(callbackId1,
-            ErrorNotifyResponseData.builder()
-                .errorMessage("Delegate is not able to connect to created build farm")
-                .build()));
+    Map<String, ResponseData> responses = new HashMap<>();
+    allCallbackIds.stream()
+        .filter(cid -> !cid.equals(callbackId))
+        .forEach(callbackId1
+            -> responses.put(callbackId1,
+                ErrorNotifyResponseData.builder()
+                    .errorMessage("Delegate is not able to connect to created build farm")
+                    .build()));
+    waitNotifyEngine.doneWithAll(responses);
   }
 
   private String getK8sConnectorRef(ContainerStepSpec containerStepInfo) {
@@ -86,6 +86,8 @@ import org.springframework.data.mongodb.core.mapping.Document;
     handler = "PipelineExecutionSummaryEntity")
 @ChangeDataCapture(table = "pipeline_execution_summary", dataStore = "pms-harness", fields = {},
     handler = "PipelineExecutionSummaryEntityAllStages")
+@ChangeDataCapture(table = "pipeline_execution_summary_cd_hourly", dataStore = "pms-harness", fields = {},
+    handler = "PipelineExecutionSummaryEntityCDHourly")
 @ChangeDataCapture(table = "pipeline_execution_summary_cd", dataStore = "pms-harness", fields = {},
     handler = "PipelineExecutionSummaryEntityCD")
 @ChangeDataCapture(table = "service_infra_info", dataStore = "pms-harness", fields = {},
@@ -36,10 +36,14 @@ import io.harness.pms.data.PmsOutcome;
 import io.harness.pms.sdk.core.resolver.outcome.mapper.PmsOutcomeMapper;
 import io.harness.steps.StepUtils;
 
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -53,6 +57,8 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(HarnessTeam.CDC)
 @Singleton
 public class OrchestrationAdjacencyListGenerator {
+  private static final int PREFETCH_BATCH_SIZE = 500;
+
   @Inject private PmsOutcomeService pmsOutcomeService;
   @Inject private GraphVertexConverter graphVertexConverter;
   @Inject private NodeExecutionInfoService pmsGraphStepDetailsService;
@@ -141,16 +147,37 @@ public class OrchestrationAdjacencyListGenerator {
 
   OrchestrationAdjacencyListInternal generateList(
       String startingNodeExId, List<NodeExecution> nodeExecutions, boolean isOutcomePresent) {
-    final GraphGeneratorSession session = createSession(nodeExecutions);
+    final GraphGeneratorSession session = createSession(nodeExecutions, isOutcomePresent);
     return session.generateListStartingFrom(startingNodeExId, isOutcomePresent);
   }
 
-  private GraphGeneratorSession createSession(List<NodeExecution> nodeExecutions) {
+  private GraphGeneratorSession createSession(List<NodeExecution> nodeExecutions, boolean isOutcomePresent) {
     Map<String, NodeExecution> nodeExIdMap = obtainNodeExecutionMap(nodeExecutions);
     Map<String, List<String>> parentIdMap = obtainParentIdMap(nodeExecutions);
     Map<String, String> oldRetriedNodeToLatestRetriedNodeExecutionMap =
         createOldRetriedNodeToLatestRetriedNodeExecutionMap(nodeExecutions);
-    return new GraphGeneratorSession(nodeExIdMap, parentIdMap, oldRetriedNodeToLatestRetriedNodeExecutionMap);
+    Map<String, Map<String, String>> outcomesMap = new HashMap<>();
+    Map<String, NodeExecutionsInfo> stepDetailsMap = new HashMap<>();
+    prefetchVertexData(nodeExecutions, isOutcomePresent, outcomesMap, stepDetailsMap);
+    return new GraphGeneratorSession(
+        nodeExIdMap, parentIdMap, oldRetriedNodeToLatestRetriedNodeExecutionMap, outcomesMap, stepDetailsMap);
+  }
+
+  // Outcomes and step details are fetched in batches instead of two queries per vertex, which dominated the time to
+  // build graphs with thousands of nodes
+  private void prefetchVertexData(List<NodeExecution> nodeExecutions, boolean isOutcomePresent,
+      Map<String, Map<String, String>> outcomesMap, Map<String, NodeExecutionsInfo> stepDetailsMap) {
+    if (isEmpty(nodeExecutions)) {
+      return;
+    }
+    String planExecutionId = nodeExecutions.get(0).getAmbiance().getPlanExecutionId();
+    List<String> nodeExecutionIds = nodeExecutions.stream().map(NodeExecution::getUuid).collect(toList());
+    for (List<String> batch : Lists.partition(nodeExecutionIds, PREFETCH_BATCH_SIZE)) {
+      if (isOutcomePresent) {
+        outcomesMap.putAll(pmsOutcomeService.findAllOutcomesMapByRuntimeIds(planExecutionId, batch));
+      }
+      stepDetailsMap.putAll(pmsGraphStepDetailsService.getNodeExecutionsInfos(batch));
+    }
   }
 
   private Map<String, String> createOldRetriedNodeToLatestRetriedNodeExecutionMap(List<NodeExecution> nodeExecutions) {
@@ -185,50 +212,47 @@ public class OrchestrationAdjacencyListGenerator {
     edgeList.getNextIds().add(nextId);
   }
 
+  // Walks the subtree with an explicit stack, long chains of steps used to overflow the stack with recursion. Only the
+  // vertices reachable from startingId are visited, the rest of the cached graph is not touched.
   private void populateAdjacencyListWithEdgesStartingFrom(String startingId,
       OrchestrationAdjacencyListInternal listToTraverse, OrchestrationAdjacencyListInternal listToPopulate) {
-    EdgeListInternal edgeListInternal = listToTraverse.getAdjacencyMap().get(startingId);
-    if (edgeListInternal == null) {
+    EdgeListInternal startingEdgeList = listToTraverse.getAdjacencyMap().get(startingId);
+    if (startingEdgeList == null) {
       return;
     }
 
-    for (String edgeId : edgeListInternal.getEdges()) {
-      populateAdjacencyListFor(edgeId, listToTraverse, listToPopulate);
+    Deque<String> stack = new ArrayDeque<>(startingEdgeList.getEdges());
+    while (!stack.isEmpty()) {
+      String currentId = stack.pop();
+      EdgeListInternal edgeListInternal = listToTraverse.getAdjacencyMap().get(currentId);
+      if (edgeListInternal == null || listToPopulate.getAdjacencyMap().containsKey(currentId)) {
+        continue;
+      }
+      listToPopulate.getGraphVertexMap().put(currentId, listToTraverse.getGraphVertexMap().get(currentId));
+      listToPopulate.getAdjacencyMap().put(currentId, edgeListInternal);
+      stack.addAll(edgeListInternal.getEdges());
+      stack.addAll(edgeListInternal.getNextIds());
     }
 
     listToPopulate.getGraphVertexMap().put(startingId, listToTraverse.getGraphVertexMap().get(startingId));
-    listToPopulate.getAdjacencyMap().put(startingId, listToTraverse.getAdjacencyMap().get(startingId));
-  }
-
-  private void populateAdjacencyListFor(String currentId, OrchestrationAdjacencyListInternal listToTraverse,
-      OrchestrationAdjacencyListInternal listToPopulate) {
-    EdgeListInternal edgeListInternal = listToTraverse.getAdjacencyMap().get(currentId);
-    if (edgeListInternal == null) {
-      return;
-    }
-
-    for (String edgeId : edgeListInternal.getEdges()) {
-      populateAdjacencyListFor(edgeId, listToTraverse, listToPopulate);
-    }
-
-    for (String nextId : edgeListInternal.getNextIds()) {
-      populateAdjacencyListFor(nextId, listToTraverse, listToPopulate);
-    }
-
-    listToPopulate.getGraphVertexMap().put(currentId, listToTraverse.getGraphVertexMap().get(currentId));
-    listToPopulate.getAdjacencyMap().put(currentId, listToTraverse.getAdjacencyMap().get(currentId));
+    listToPopulate.getAdjacencyMap().put(startingId, startingEdgeList);
   }
 
   private class GraphGeneratorSession {
     private final Map<String, NodeExecution> nodeExIdMap;
     private final Map<String, List<String>> parentIdMap;
     private final Map<String, String> oldRetriedNodeToLatestRetriedNodeExecutionMap;
+    private final Map<String, Map<String, String>> outcomesMap;
+    private final Map<String, NodeExecutionsInfo> stepDetailsMap;
 
     GraphGeneratorSession(Map<String, NodeExecution> nodeExIdMap, Map<String, List<String>> parentIdMap,
-        Map<String, String> oldRetriedNodeToLatestRetriedNodeExecutionMap) {
+        Map<String, String> oldRetriedNodeToLatestRetriedNodeExecutionMap,
+        Map<String, Map<String, String>> outcomesMap, Map<String, NodeExecutionsInfo> stepDetailsMap) {
       this.nodeExIdMap = nodeExIdMap;
       this.parentIdMap = parentIdMap;
       this.oldRetriedNodeToLatestRetriedNodeExecutionMap = oldRetriedNodeToLatestRetriedNodeExecutionMap;
+      this.outcomesMap = outcomesMap;
+      this.stepDetailsMap = stepDetailsMap;
     }
 
     private OrchestrationAdjacencyListInternal generateListStartingFrom(
@@ -247,15 +271,19 @@ public class OrchestrationAdjacencyListGenerator {
       while (!queue.isEmpty()) {
         String currentNodeId = queue.removeFirst();
         NodeExecution nodeExecution = nodeExIdMap.get(currentNodeId);
+        if (nodeExecution == null) {
+          // Happens when building a subgraph, the next node of the starting node is outside the fetched subtree
+          continue;
+        }
 
         Map<String, PmsOutcome> outcomes;
         if (isOutcomePresent) {
-          outcomes = PmsOutcomeMapper.convertJsonToOrchestrationMap(pmsOutcomeService.findAllOutcomesMapByRuntimeId(
-              nodeExecution.getAmbiance().getPlanExecutionId(), currentNodeId));
+          outcomes = PmsOutcomeMapper.convertJsonToOrchestrationMap(
+              outcomesMap.getOrDefault(currentNodeId, Collections.emptyMap()));
         } else {
           outcomes = new LinkedHashMap<>();
         }
-        NodeExecutionsInfo stepDetails = pmsGraphStepDetailsService.getNodeExecutionsInfo(currentNodeId);
+        NodeExecutionsInfo stepDetails = stepDetailsMap.get(currentNodeId);
         List<String> logBaseKeys = StepUtils.generateLogKeys(nodeExecution.getAmbiance(), null);
 
         GraphVertex graphVertex = graphVertexConverter.convertFrom(nodeExecution, outcomes, stepDetails, logBaseKeys);
@@ -58,6 +58,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -276,7 +277,9 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       String startingSetupNodeId, String planExecutionId, String startingExecutionId) {
     OrchestrationGraph orchestrationGraph = getCachedOrchestrationGraphFromSecondary(planExecutionId);
     if (orchestrationGraph == null) {
-      orchestrationGraph = buildOrchestrationGraph(planExecutionId);
+      // Only the requested subtree is needed, avoid loading every node execution of the plan when possible
+      OrchestrationGraph subtreeGraph = getSubtreeOrchestrationGraph(planExecutionId, startingExecutionId);
+      orchestrationGraph = subtreeGraph != null ? subtreeGraph : buildOrchestrationGraph(planExecutionId);
     } else {
       sendUpdateEventIfAny(orchestrationGraph);
     }
@@ -290,6 +293,79 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     }
   }
 
+  /**
+   * Returns the graph of the subtree rooted at the given node execution, from the cache when nothing happened to the
+   * execution since it was cached. Subtree graphs are only built for finished executions, the graph of a running
+   * execution is needed as a whole so that the graph updates can be applied to it. Returns null when no subtree graph
+   * can be built, callers then fall back to building the whole graph.
+   */
+  @VisibleForTesting
+  OrchestrationGraph getSubtreeOrchestrationGraph(String planExecutionId, String startingExecutionId) {
+    if (EmptyPredicate.isEmpty(startingExecutionId)) {
+      return null;
+    }
+    OrchestrationGraph cachedSubtreeGraph = mongoStore.getFromSecondary(OrchestrationGraph.ALGORITHM_ID,
+        OrchestrationGraph.STRUCTURE_HASH, planExecutionId, Collections.singletonList(startingExecutionId));
+    if (cachedSubtreeGraph != null && StatusUtils.isFinalStatus(cachedSubtreeGraph.getStatus())
+        && !orchestrationEventLogRepository.checkIfAnyUnprocessedEvents(
+            planExecutionId, cachedSubtreeGraph.getLastUpdatedAt())) {
+      return cachedSubtreeGraph;
+    }
+    return buildSubtreeOrchestrationGraph(planExecutionId, startingExecutionId);
+  }
+
+  /**
+   * Builds and caches the graph for the subtree rooted at the given node execution by fetching only its descendants,
+   * level by level, and regenerates the layout of the stages in it like a full build does.
+   */
+  @VisibleForTesting
+  OrchestrationGraph buildSubtreeOrchestrationGraph(String planExecutionId, String startingExecutionId) {
+    try {
+      // Taken before reading the node executions, so that the events logged while building make the graph stale
+      long lastUpdatedAt = System.currentTimeMillis();
+      PlanExecution planExecution = planExecutionService.getWithFieldsIncluded(planExecutionId,
+          Set.of(PlanExecution.PlanExecutionKeys.ambiance, PlanExecution.PlanExecutionKeys.startTs,
+              PlanExecution.PlanExecutionKeys.endTs, PlanExecution.PlanExecutionKeys.status));
+      if (planExecution == null || !StatusUtils.isFinalStatus(planExecution.getStatus())) {
+        return null;
+      }
+      NodeExecution startingNodeExecution = nodeExecutionService.get(startingExecutionId);
+      if (startingNodeExecution == null) {
+        return null;
+      }
+      List<NodeExecution> nodeExecutions =
+          nodeExecutionService.fetchChildrenNodeExecutionsRecursivelyFromGivenParentIdWithoutOldRetries(
+              planExecutionId, Lists.newArrayList(startingExecutionId));
+      nodeExecutions.add(startingNodeExecution);
+      log.info("[PMS_GRAPH] Building subtree graph for planExecutionId [{}] from [{}] with [{}] node executions",
+          planExecutionId, startingExecutionId, nodeExecutions.size());
+
+      OrchestrationGraph graph = OrchestrationGraph.builder()
+                                     .cacheKey(planExecutionId)
+                                     .cacheContextOrder(System.currentTimeMillis())
+                                     .cacheParams(Collections.singletonList(startingExecutionId))
+                                     .lastUpdatedAt(lastUpdatedAt)
+                                     .planExecutionId(planExecution.getUuid())
+                                     .startTs(planExecution.getStartTs())
+                                     .endTs(planExecution.getEndTs())
+                                     .status(planExecution.getStatus())
+                                     .rootNodeIds(Lists.newArrayList(startingExecutionId))
+                                     .adjacencyList(orchestrationAdjacencyListGenerator.generateAdjacencyList(
+                                         startingExecutionId, nodeExecutions, true))
+                                     .build();
+
+      List<NodeExecution> stageNodeExecutions =
+          nodeExecutions.stream().filter(OrchestrationUtils::isStageOrParallelStageNode).collect(Collectors.toList());
+      cacheOrchestrationGraph(graph, AmbianceUtils.getAccountId(planExecution.getAmbiance()));
+      pmsExecutionSummaryService.regenerateStageLayoutGraph(planExecutionId, stageNodeExecutions);
+      return graph;
+    } catch (Exception ex) {
+      log.warn("[GRAPH_ERROR] Could not build subtree graph for planExecutionId [{}] from [{}]", planExecutionId,
+          startingExecutionId, ex);
+      return null;
+    }
+  }
+
   @Override
   public void sendUpdateEventIfAny(PipelineExecutionSummaryEntity executionSummaryEntity) {
     sendUpdateEventIfAny(executionSummaryEntity.getStatus().getEngineStatus(),
@@ -415,22 +491,20 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
 
   private String obtainStartingIdFromSetupNodeIdAndExecutionId(
       Map<String, GraphVertex> graphVertexMap, String startingSetupNodeId, String startingExecutionId) {
+    if (startingExecutionId != null) {
+      // Direct lookup instead of scanning every vertex of the graph
+      GraphVertex vertex = graphVertexMap.get(startingExecutionId);
+      return vertex != null && vertex.getPlanNodeId().equals(startingSetupNodeId) ? vertex.getUuid() : null;
+    }
     List<GraphVertex> vertexList = graphVertexMap.values()
                                        .stream()
-                                       .filter(vertex -> {
-                                         if (startingExecutionId != null) {
-                                           return vertex.getPlanNodeId().equals(startingSetupNodeId)
-                                               && vertex.getUuid().equals(startingExecutionId);
-                                         }
-                                         return vertex.getPlanNodeId().equals(startingSetupNodeId);
-                                       })
+                                       .filter(vertex -> vertex.getPlanNodeId().equals(startingSetupNodeId))
                                        .collect(Collectors.toList());
     if (vertexList.size() == 1) {
       return vertexList.get(0).getUuid();
     }
     if (vertexList.size() > 1) {
-      log.error(String.format("Multiple node Ids found for a given combination of setupId: %s and ExecutionId: %s",
-          startingSetupNodeId, startingExecutionId));
+      log.error(String.format("Multiple node Ids found for the setupId: %s", startingSetupNodeId));
     }
     return null;
   }
@@ -527,4 +527,75 @@ public class OrchestrationAdjacencyListDTOGeneratorTest extends OrchestrationVis
     assertThat(adjacencyList.getAdjacencyMap().get(dummyNode3.getUuid()).getNextIds()).isEmpty();
     assertThat(adjacencyList.getAdjacencyMap().get(dummyNode3.getUuid()).getEdges()).isEmpty();
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldGeneratePartialAdjacencyListForLargeMatrixGraph() {
+    // Synthetic 50k node plan: pipeline -> stage -> 100 matrix children -> chain of 499 steps each
+    OrchestrationAdjacencyListInternal listInternal = OrchestrationAdjacencyListInternal.builder()
+                                                          .graphVertexMap(new HashMap<>())
+                                                          .adjacencyMap(new HashMap<>())
+                                                          .build();
+    addSyntheticVertex(listInternal, "pipeline", null, Collections.singletonList("stage"), new ArrayList<>());
+    List<String> matrixChildren = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      matrixChildren.add("matrix_" + i);
+    }
+    addSyntheticVertex(listInternal, "stage", "pipeline", matrixChildren, new ArrayList<>());
+    for (String matrixChild : matrixChildren) {
+      addSyntheticVertex(
+          listInternal, matrixChild, "stage", Collections.singletonList(matrixChild + "_step_0"), new ArrayList<>());
+      addSyntheticChain(listInternal, matrixChild + "_step_", matrixChild, 499);
+    }
+    assertThat(listInternal.getGraphVertexMap().size()).isEqualTo(50002);
+
+    OrchestrationAdjacencyListInternal stageSubtree =
+        orchestrationAdjacencyListGenerator.generatePartialAdjacencyList("stage", listInternal);
+    OrchestrationAdjacencyListInternal matrixSubtree =
+        orchestrationAdjacencyListGenerator.generatePartialAdjacencyList("matrix_42", listInternal);
+
+    assertThat(stageSubtree.getGraphVertexMap().size()).isEqualTo(50001);
+    assertThat(stageSubtree.getGraphVertexMap()).doesNotContainKey("pipeline");
+    assertThat(matrixSubtree.getGraphVertexMap().size()).isEqualTo(500);
+    assertThat(matrixSubtree.getGraphVertexMap()).containsKey("matrix_42_step_498");
+    assertThat(matrixSubtree.getGraphVertexMap()).doesNotContainKey("matrix_43");
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldGeneratePartialAdjacencyListForLongChain() {
+    OrchestrationAdjacencyListInternal listInternal = OrchestrationAdjacencyListInternal.builder()
+                                                          .graphVertexMap(new HashMap<>())
+                                                          .adjacencyMap(new HashMap<>())
+                                                          .build();
+    addSyntheticVertex(listInternal, "stepGroup", null, Collections.singletonList("step_0"), new ArrayList<>());
+    addSyntheticChain(listInternal, "step_", "stepGroup", 50000);
+
+    OrchestrationAdjacencyListInternal adjacencyList =
+        orchestrationAdjacencyListGenerator.generatePartialAdjacencyList("stepGroup", listInternal);
+    assertThat(adjacencyList.getGraphVertexMap().size()).isEqualTo(50001);
+  }
+
+  private void addSyntheticChain(
+      OrchestrationAdjacencyListInternal listInternal, String prefix, String parentId, int length) {
+    for (int j = 0; j < length; j++) {
+      List<String> nextIds = j + 1 < length ? Lists.newArrayList(prefix + (j + 1)) : new ArrayList<>();
+      addSyntheticVertex(listInternal, prefix + j, j == 0 ? parentId : null, new ArrayList<>(), nextIds);
+    }
+  }
+
+  private void addSyntheticVertex(OrchestrationAdjacencyListInternal listInternal, String uuid, String parentId,
+      List<String> edges, List<String> nextIds) {
+    listInternal.getGraphVertexMap().put(
+        uuid, GraphVertex.builder().uuid(uuid).planNodeId(uuid + "_plan").mode(ExecutionMode.SYNC).build());
+    listInternal.getAdjacencyMap().put(uuid,
+        EdgeListInternal.builder()
+            .edges(edges)
+            .nextIds(nextIds)
+            .prevIds(new ArrayList<>())
+            .parentId(parentId)
+            .build());
+  }
 }
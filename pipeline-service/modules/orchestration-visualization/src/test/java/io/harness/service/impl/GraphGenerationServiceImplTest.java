@@ -18,6 +18,7 @@ import static io.harness.steps.StepUtils.PIE_SIMPLIFY_LOG_BASE_KEY;
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -211,6 +212,91 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
         .isEmpty();
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldBuildTheSameSubtreeGraphAsTheFullGraph() {
+    doReturn(
+        PlanExecution.builder()
+            .uuid(planExecutionUuid)
+            .startTs(100L)
+            .endTs(200L)
+            .status(Status.SUCCEEDED)
+            .ambiance(
+                Ambiance.newBuilder().putSetupAbstractions(SetupAbstractionKeys.accountId, "accountIdentifier").build())
+            .build())
+        .when(planExecutionService)
+        .getWithFieldsIncluded(any(), any());
+    NodeExecution pipeline = saveNodeExecution("pipeline", null, null);
+    NodeExecution stage = saveNodeExecution("stage", pipeline.getUuid(), null);
+    NodeExecution step1 = saveNodeExecution("step1", stage.getUuid(), null);
+    NodeExecution step2 = saveNodeExecution("step2", stage.getUuid(), step1.getUuid());
+
+    OrchestrationGraphDTO subtreeGraph =
+        graphGenerationService.generatePartialOrchestrationGraphFromSetupNodeIdAndExecutionId(
+            "stage_plan", planExecutionUuid, stage.getUuid());
+    assertThat(graphGenerationService.getCachedOrchestrationGraph(planExecutionUuid)).isNull();
+    OrchestrationGraph cachedSubtreeGraph = mongoStore.get(OrchestrationGraph.ALGORITHM_ID,
+        OrchestrationGraph.STRUCTURE_HASH, planExecutionUuid, Collections.singletonList(stage.getUuid()));
+    assertThat(cachedSubtreeGraph).isNotNull();
+    assertThat(cachedSubtreeGraph.getStatus()).isEqualTo(Status.SUCCEEDED);
+    verify(pmsExecutionSummaryService).regenerateStageLayoutGraph(eq(planExecutionUuid), any());
+
+    graphGenerationServiceImpl.buildOrchestrationGraph(planExecutionUuid);
+    OrchestrationGraphDTO fullGraph =
+        graphGenerationService.generatePartialOrchestrationGraphFromSetupNodeIdAndExecutionId(
+            "stage_plan", planExecutionUuid, stage.getUuid());
+
+    assertThat(subtreeGraph.getRootNodeIds()).containsExactly(stage.getUuid()).isEqualTo(fullGraph.getRootNodeIds());
+    assertThat(subtreeGraph.getStartTs()).isEqualTo(100L).isEqualTo(fullGraph.getStartTs());
+    assertThat(subtreeGraph.getEndTs()).isEqualTo(200L).isEqualTo(fullGraph.getEndTs());
+    assertThat(subtreeGraph.getStatus()).isEqualTo(Status.SUCCEEDED).isEqualTo(fullGraph.getStatus());
+    assertThat(subtreeGraph.getAdjacencyList().getGraphVertexMap().keySet())
+        .containsExactlyInAnyOrder(stage.getUuid(), step1.getUuid(), step2.getUuid())
+        .isEqualTo(fullGraph.getAdjacencyList().getGraphVertexMap().keySet());
+    assertThat(subtreeGraph.getAdjacencyList().getAdjacencyMap())
+        .isEqualTo(fullGraph.getAdjacencyList().getAdjacencyMap());
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotBuildTheSubtreeGraphOfARunningExecution() {
+    doReturn(PlanExecution.builder().uuid(planExecutionUuid).status(Status.RUNNING).build())
+        .when(planExecutionService)
+        .getWithFieldsIncluded(any(), any());
+    NodeExecution stage = saveNodeExecution("stage", null, null);
+
+    assertThat(graphGenerationServiceImpl.getSubtreeOrchestrationGraph(planExecutionUuid, stage.getUuid())).isNull();
+  }
+
+  private NodeExecution saveNodeExecution(String name, String parentId, String previousId) {
+    NodeExecution nodeExecution =
+        NodeExecution.builder()
+            .uuid(generateUuid())
+            .status(Status.SUCCEEDED)
+            .ambiance(
+                Ambiance.newBuilder()
+                    .setPlanExecutionId(planExecutionUuid)
+                    .addAllLevels(Collections.singletonList(
+                        Level.newBuilder().setSetupId(name + "_plan").setNodeType(NodeType.PLAN_NODE.name()).build()))
+                    .setMetadata(ExecutionMetadata.newBuilder()
+                                     .putFeatureFlagToValueMap(PIE_SIMPLIFY_LOG_BASE_KEY, false)
+                                     .build())
+                    .build())
+            .mode(ExecutionMode.SYNC)
+            .nodeId(name + "_plan")
+            .name(name)
+            .parentId(parentId)
+            .previousId(previousId)
+            .stepType(StepType.newBuilder().setType("DUMMY").build())
+            .identifier(name)
+            .module("CD")
+            .skipGraphType(SkipType.NOOP)
+            .build();
+    return nodeExecutionService.save(nodeExecution);
+  }
+
   private OrchestrationGraph constructOrchestrationGraphForPartialTest(List<GraphVertex> graphVertices) {
     Map<String, GraphVertex> graphVertexMap =
         graphVertices.stream().collect(Collectors.toMap(GraphVertex::getUuid, Function.identity()));
@@ -163,6 +163,17 @@ public interface NodeExecutionService {
   CloseableIterator<NodeExecution> fetchChildrenNodeExecutionsIterator(
       String planExecutionId, String parentId, Direction sortOrderOfCreatedAt, Set<String> fieldsToBeIncluded);
 
+  /**
+   * Returns iterator for children nodeExecution of all the given parentIds(direct children only) with projection sort
+   * by CreatedAt (Desc) in a single query. Uses - planExecutionId_parentId_createdAt_idx
+   * @param planExecutionId
+   * @param parentIds
+   * @param fieldsToBeIncluded
+   * @return
+   */
+  CloseableIterator<NodeExecution> fetchChildrenNodeExecutionsIteratorByParentIds(
+      String planExecutionId, Collection<String> parentIds, Set<String> fieldsToBeIncluded);
+
   /**
    * Returns List for all children nodeExecution for given parentId recursively with oldRetry as false
    * without projection, sort by CreatedAt (Asc) Uses - planExecutionId_parentId_createdAt_idx
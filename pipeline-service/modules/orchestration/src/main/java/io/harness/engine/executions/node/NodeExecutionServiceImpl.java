@@ -320,6 +320,19 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     return nodeExecutionReadHelper.fetchNodeExecutions(query);
   }
 
+  @Override
+  public CloseableIterator<NodeExecution> fetchChildrenNodeExecutionsIteratorByParentIds(
+      String planExecutionId, Collection<String> parentIds, Set<String> fieldsToBeIncluded) {
+    // Uses planExecutionId_parentId_createdAt_idx
+    Query query = query(where(NodeExecutionKeys.planExecutionId).is(planExecutionId))
+                      .addCriteria(where(NodeExecutionKeys.parentId).in(parentIds))
+                      .with(Sort.by(Direction.DESC, NodeExecutionKeys.createdAt));
+    for (String field : fieldsToBeIncluded) {
+      query.fields().include(field);
+    }
+    return nodeExecutionReadHelper.fetchNodeExecutions(query);
+  }
+
   @VisibleForTesting
   CloseableIterator<NodeExecution> fetchChildrenNodeExecutionsIteratorWithoutProjection(
       String planExecutionId, List<String> parentIds) {
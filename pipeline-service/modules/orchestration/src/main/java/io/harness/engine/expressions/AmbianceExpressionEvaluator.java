@@ -45,6 +45,7 @@ import io.harness.expression.common.ExpressionMode;
 import io.harness.expression.functors.NGJsonFunctor;
 import io.harness.expression.functors.NGShellScriptFunctor;
 import io.harness.graph.stepDetail.service.NodeExecutionInfoService;
+import io.harness.metrics.PipelineMetricUtils;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.execution.utils.AmbianceUtils;
 import io.harness.pms.expression.EngineExpressionEvaluatorResolver;
@@ -58,6 +59,7 @@ import io.harness.pms.yaml.validation.InputSetValidatorFactory;
 import io.harness.shell.ScriptType;
 import io.harness.utils.PmsFeatureFlagService;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import java.util.Collections;
@@ -105,12 +107,14 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
   @Inject private PipelineRbacHelper pipelineRbacHelper;
 
   @Inject private ExpressionsObserverFactory expressionsObserverFactory;
+  @Inject private PipelineMetricUtils pipelineMetricUtils;
 
   protected final Ambiance ambiance;
   private final Set<NodeExecutionEntityType> entityTypes;
   private final boolean refObjectSpecific;
   private final Map<String, String> groupAliases;
   protected NodeExecutionsCache nodeExecutionsCache;
+  private CacheStats publishedNodeExecutionsCacheStats = new CacheStats(0, 0, 0, 0, 0, 0);
   private final String SECRETS = "secrets";
 
   private boolean contextMapProvided = false;
@@ -217,6 +221,20 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
             .build());
   }
 
+  /**
+   * Publishes the node executions cache hits and misses recorded since the previous call, so an evaluator used for
+   * several evaluations never reports the same lookups twice.
+   */
+  public void publishNodeExecutionsCacheStats() {
+    if (nodeExecutionsCache == null || pipelineMetricUtils == null) {
+      return;
+    }
+    CacheStats cacheStats = nodeExecutionsCache.getStats();
+    pipelineMetricUtils.publishNodeExecutionsCacheStats(
+        AmbianceUtils.getAccountId(ambiance), cacheStats.minus(publishedNodeExecutionsCacheStats));
+    publishedNodeExecutionsCacheStats = cacheStats;
+  }
+
   /**
    * Add a group alias. Any expression that starts with `aliasName` will be replaced by the identifier of the first
    * ancestor node with the given groupName. Should be called within the initialize method only.
@@ -20,93 +20,150 @@ import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.Builder;
-import lombok.Value;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.util.CloseableIterator;
 
+/**
+ * Per evaluation cache of node executions used by the expression functors.
+ *
+ * Backed by bounded guava caches, so concurrent lookups of different keys do not serialize on a single monitor while
+ * concurrent lookups of the same key load it only once. Children are cached as lists of node executions keyed by
+ * parent id, so a child list stays usable even after the individual entries are evicted from the node execution cache.
+ */
 @OwnedBy(CDC)
-@Value
+@Slf4j
 public class NodeExecutionsCache {
   private static final String NULL_PARENT_ID = "__NULL_PARENT_ID__";
+  private static final int CONCURRENCY_LEVEL = 8;
+  @VisibleForTesting static final int MAX_NODE_EXECUTIONS = 5000;
+  @VisibleForTesting static final int MAX_CHILDREN_WEIGHT = 20000;
+  @VisibleForTesting static final int PREFETCH_BATCH_SIZE = 500;
+  private static final int MAX_PREFETCH_DEPTH = 20;
 
-  NodeExecutionService nodeExecutionService;
-  PlanService planService;
-  Ambiance ambiance;
-  Map<String, NodeExecution> map;
-  Map<String, List<String>> childrenMap;
-  Map<String, Node> nodeMap;
-  Map<String, Ambiance> ambianceMap;
+  @Getter private final NodeExecutionService nodeExecutionService;
+  @Getter private final PlanService planService;
+  @Getter private final Ambiance ambiance;
+  private final Cache<String, Optional<NodeExecution>> nodeExecutionCache;
+  private final Cache<String, List<NodeExecution>> childrenCache;
+  private final Cache<String, Optional<Node>> nodeCache;
+  private final Cache<String, Ambiance> ambianceCache;
 
   @Builder
   public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance) {
     this.nodeExecutionService = nodeExecutionService;
     this.planService = planService;
     this.ambiance = ambiance;
-    this.nodeMap = new HashMap<>();
-    this.map = new HashMap<>();
-    this.childrenMap = new HashMap<>();
-    this.ambianceMap = new HashMap<>();
+    this.nodeExecutionCache = CacheBuilder.newBuilder()
+                                  .concurrencyLevel(CONCURRENCY_LEVEL)
+                                  .maximumSize(MAX_NODE_EXECUTIONS)
+                                  .recordStats()
+                                  .build();
+    this.childrenCache = CacheBuilder.newBuilder()
+                             .concurrencyLevel(CONCURRENCY_LEVEL)
+                             .maximumWeight(MAX_CHILDREN_WEIGHT)
+                             .<String, List<NodeExecution>>weigher((key, children) -> children.size() + 1)
+                             .recordStats()
+                             .build();
+    this.nodeCache = CacheBuilder.newBuilder()
+                         .concurrencyLevel(CONCURRENCY_LEVEL)
+                         .maximumSize(MAX_NODE_EXECUTIONS)
+                         .recordStats()
+                         .build();
+    this.ambianceCache = CacheBuilder.newBuilder()
+                             .concurrencyLevel(CONCURRENCY_LEVEL)
+                             .maximumSize(MAX_NODE_EXECUTIONS)
+                             .recordStats()
+                             .build();
   }
 
-  public synchronized NodeExecution fetch(String nodeExecutionId) {
+  public NodeExecution fetch(String nodeExecutionId) {
     if (nodeExecutionId == null) {
       return null;
     }
-    if (map.containsKey(nodeExecutionId)) {
-      return map.get(nodeExecutionId);
-    }
-
-    NodeExecution nodeExecution =
-        nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
-    map.put(nodeExecutionId, nodeExecution);
-    return nodeExecution;
+    return getOrLoad(nodeExecutionCache, nodeExecutionId,
+        ()
+            -> Optional.ofNullable(nodeExecutionService.getWithFieldsIncluded(
+                nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine)))
+        .orElse(null);
   }
 
   /**
    * Fetches a list of children for a particular parent Id.
    *
-   * If parentId found in cache {@link NodeExecutionsCache#childrenMap} return list of nodes by
-   * querying the {@link NodeExecutionsCache#map}
-   *
-   * Adds all the children to the {@link NodeExecutionsCache#map} and populates
-   * {@link NodeExecutionsCache#childrenMap} with parentId => List#childIds
+   * If parentId is found in {@link NodeExecutionsCache#childrenCache} the cached list is returned, otherwise the
+   * children are queried and also added to {@link NodeExecutionsCache#nodeExecutionCache}.
    *
    */
-  public synchronized List<NodeExecution> fetchChildren(String parentId) {
-    String childrenMapKey = parentId == null ? NULL_PARENT_ID : parentId;
-    if (childrenMap.containsKey(childrenMapKey)) {
-      List<String> ids = childrenMap.get(childrenMapKey);
-      if (EmptyPredicate.isEmpty(ids)) {
-        return Collections.emptyList();
-      }
-
-      return ids.stream().map(map::get).filter(Objects::nonNull).collect(Collectors.toList());
-    }
+  public List<NodeExecution> fetchChildren(String parentId) {
+    return getOrLoad(childrenCache, childrenCacheKey(parentId), () -> loadChildren(parentId));
+  }
 
-    List<NodeExecution> childExecutions = new LinkedList<>();
-    Set<String> fieldsForExpressionEngine = NodeProjectionUtils.fieldsForExpressionEngine;
-    try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             ambiance.getPlanExecutionId(), parentId, fieldsForExpressionEngine)) {
-      while (iterator.hasNext()) {
-        childExecutions.add(iterator.next());
+  /**
+   * Fetches children for all the given parent ids. Parents which are not cached yet are fetched together using a
+   * single query per {@link NodeExecutionsCache#PREFETCH_BATCH_SIZE} parents instead of one query per parent.
+   */
+  public Map<String, List<NodeExecution>> fetchChildren(Collection<String> parentIds) {
+    Map<String, List<NodeExecution>> childrenByParentId = new LinkedHashMap<>();
+    List<String> missingParentIds = new ArrayList<>();
+    for (String parentId : new LinkedHashSet<>(parentIds)) {
+      List<NodeExecution> children = childrenCache.getIfPresent(childrenCacheKey(parentId));
+      if (children == null) {
+        missingParentIds.add(parentId);
+      } else {
+        childrenByParentId.put(parentId, children);
       }
     }
-    if (EmptyPredicate.isEmpty(childExecutions)) {
-      childrenMap.put(parentId, Collections.emptyList());
-      return Collections.emptyList();
+    if (missingParentIds.size() == 1) {
+      String parentId = missingParentIds.get(0);
+      childrenByParentId.put(parentId, fetchChildren(parentId));
+      return childrenByParentId;
+    }
+    for (List<String> batch : Iterables.partition(missingParentIds, PREFETCH_BATCH_SIZE)) {
+      childrenByParentId.putAll(loadChildren(batch));
     }
+    return childrenByParentId;
+  }
 
-    childExecutions.forEach(childExecution -> map.put(childExecution.getUuid(), childExecution));
-    childrenMap.put(parentId, childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
-    return childExecutions;
+  /**
+   * Loads the subtree under given parent level by level, issuing one query per level for all the nodes satisfying
+   * descendPredicate instead of one query per node. Stops once the cache bound would be exceeded.
+   */
+  public void prefetchSubtree(String parentId, Predicate<NodeExecution> descendPredicate) {
+    List<String> frontier = childIdsToDescend(fetchChildren(parentId), descendPredicate);
+    int fetched = 0;
+    for (int depth = 0; EmptyPredicate.isNotEmpty(frontier) && depth < MAX_PREFETCH_DEPTH; depth++) {
+      List<NodeExecution> children =
+          fetchChildren(frontier).values().stream().flatMap(List::stream).collect(Collectors.toList());
+      fetched += children.size();
+      if (fetched >= MAX_NODE_EXECUTIONS) {
+        log.debug("Stopping prefetch of subtree for parent {} after {} node executions", parentId, fetched);
+        return;
+      }
+      frontier = childIdsToDescend(children, descendPredicate);
+    }
   }
 
   // Should not change the fields to be included as its only used by NodeExecutionMap, if you change it may not use
@@ -120,29 +177,92 @@ public class NodeExecutionsCache {
         .collect(Collectors.toList());
   }
 
-  public synchronized Node fetchNode(String nodeId) {
+  public Node fetchNode(String nodeId) {
     if (nodeId == null) {
       return null;
     }
-    if (nodeMap.containsKey(nodeId)) {
-      return nodeMap.get(nodeId);
-    }
-
-    Node node = planService.fetchNode(ambiance.getPlanId(), nodeId);
-    nodeMap.put(nodeId, node);
-    return node;
+    return getOrLoad(nodeCache, nodeId, () -> Optional.ofNullable(planService.fetchNode(ambiance.getPlanId(), nodeId)))
+        .orElse(null);
   }
 
-  public synchronized Ambiance getAmbiance(String nodeExecutionId) {
+  public Ambiance getAmbiance(String nodeExecutionId) {
     if (nodeExecutionId == null) {
       return null;
     }
-    if (ambianceMap.containsKey(nodeExecutionId)) {
-      return ambianceMap.get(nodeExecutionId);
+    return getOrLoad(ambianceCache, nodeExecutionId,
+        ()
+            -> nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.withAmbiance)
+                   .getAmbiance());
+  }
+
+  public ConcurrentMap<String, Ambiance> getAmbianceMap() {
+    return ambianceCache.asMap();
+  }
+
+  /**
+   * Hit/miss statistics of all the underlying caches combined.
+   */
+  public CacheStats getStats() {
+    return nodeExecutionCache.stats().plus(childrenCache.stats()).plus(nodeCache.stats()).plus(ambianceCache.stats());
+  }
+
+  public CacheStats getChildrenStats() {
+    return childrenCache.stats();
+  }
+
+  private List<NodeExecution> loadChildren(String parentId) {
+    List<NodeExecution> childExecutions = new ArrayList<>();
+    Set<String> fieldsForExpressionEngine = NodeProjectionUtils.fieldsForExpressionEngine;
+    try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchChildrenNodeExecutionsIterator(
+             ambiance.getPlanExecutionId(), parentId, fieldsForExpressionEngine)) {
+      while (iterator.hasNext()) {
+        childExecutions.add(iterator.next());
+      }
+    }
+    if (EmptyPredicate.isEmpty(childExecutions)) {
+      return Collections.emptyList();
+    }
+    childExecutions.forEach(
+        childExecution -> nodeExecutionCache.put(childExecution.getUuid(), Optional.of(childExecution)));
+    return Collections.unmodifiableList(childExecutions);
+  }
+
+  private Map<String, List<NodeExecution>> loadChildren(List<String> parentIds) {
+    Map<String, List<NodeExecution>> childrenByParentId = new LinkedHashMap<>();
+    parentIds.forEach(parentId -> childrenByParentId.put(parentId, new ArrayList<>()));
+    try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchChildrenNodeExecutionsIteratorByParentIds(
+             ambiance.getPlanExecutionId(), parentIds, NodeProjectionUtils.fieldsForExpressionEngine)) {
+      while (iterator.hasNext()) {
+        NodeExecution childExecution = iterator.next();
+        List<NodeExecution> children = childrenByParentId.get(childExecution.getParentId());
+        if (children != null) {
+          children.add(childExecution);
+          nodeExecutionCache.put(childExecution.getUuid(), Optional.of(childExecution));
+        }
+      }
+    }
+    childrenByParentId.replaceAll((parentId, children)
+                                      -> children.isEmpty() ? Collections.emptyList()
+                                                            : Collections.unmodifiableList(children));
+    childrenByParentId.forEach((parentId, children) -> childrenCache.put(childrenCacheKey(parentId), children));
+    return childrenByParentId;
+  }
+
+  private static List<String> childIdsToDescend(
+      List<NodeExecution> children, Predicate<NodeExecution> descendPredicate) {
+    return children.stream().filter(descendPredicate).map(NodeExecution::getUuid).collect(Collectors.toList());
+  }
+
+  private static String childrenCacheKey(String parentId) {
+    return parentId == null ? NULL_PARENT_ID : parentId;
+  }
+
+  private static <V> V getOrLoad(Cache<String, V> cache, String key, Callable<V> loader) {
+    try {
+      return cache.get(key, loader);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new UncheckedExecutionException(e.getCause());
     }
-    Ambiance ambiance =
-        nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.withAmbiance).getAmbiance();
-    ambianceMap.put(nodeExecutionId, ambiance);
-    return ambiance;
   }
 }
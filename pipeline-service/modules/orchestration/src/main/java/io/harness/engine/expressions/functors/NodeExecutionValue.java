@@ -54,7 +54,10 @@ public class NodeExecutionValue implements LateBindingValue {
   @Override
   public Object bind() {
     Map<String, Object> map = new HashMap<>();
-    addChildren(map, startNodeExecution == null ? null : startNodeExecution.getUuid());
+    String startNodeExecutionId = startNodeExecution == null ? null : startNodeExecution.getUuid();
+    // Children which are skipped in the expression chain are walked recursively below, load them level by level.
+    nodeExecutionsCache.prefetchSubtree(startNodeExecutionId, child -> !canAdd(child));
+    addChildren(map, startNodeExecutionId);
     return NodeExecutionMap.builder()
         .nodeExecutionsCache(nodeExecutionsCache)
         .pmsOutcomeService(pmsOutcomeService)
@@ -17,16 +17,17 @@ import io.harness.annotations.dev.ProductModule;
 import io.harness.engine.interrupts.InterruptService;
 import io.harness.interrupts.Interrupt;
 import io.harness.tasks.ResponseData;
-import io.harness.waiter.OldNotifyCallback;
+import io.harness.waiter.StreamingNotifyCallback;
 
 import com.google.inject.Inject;
+import java.util.Iterator;
 import java.util.Map;
 import lombok.Builder;
 
 @CodePulse(
     module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_COMMON_STEPS})
 @OwnedBy(CDC)
-public class AllInterruptCallback implements OldNotifyCallback {
+public class AllInterruptCallback implements StreamingNotifyCallback {
   @Inject private InterruptService interruptService;
 
   Interrupt interrupt;
@@ -37,12 +38,12 @@ public class AllInterruptCallback implements OldNotifyCallback {
   }
 
   @Override
-  public void notify(Map<String, ResponseData> response) {
+  public void notify(Iterator<Map.Entry<String, ResponseData>> responses) {
     // Do nothing. Do not mark the interrupt PROCESSED here. It will be marked on pipeline end.
   }
 
   @Override
-  public void notifyError(Map<String, ResponseData> response) {
+  public void notifyError(Iterator<Map.Entry<String, ResponseData>> responses) {
     interruptService.markProcessed(interrupt.getUuid(), PROCESSED_UNSUCCESSFULLY);
   }
 }
@@ -15,14 +15,15 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.interrupts.InterruptService;
 import io.harness.interrupts.Interrupt;
 import io.harness.tasks.ResponseData;
-import io.harness.waiter.OldNotifyCallback;
+import io.harness.waiter.StreamingNotifyCallback;
 
 import com.google.inject.Inject;
+import java.util.Iterator;
 import java.util.Map;
 import lombok.Builder;
 
 @OwnedBy(CDC)
-public class UserMarkedFailAllInterruptCallback implements OldNotifyCallback {
+public class UserMarkedFailAllInterruptCallback implements StreamingNotifyCallback {
   @Inject private InterruptService interruptService;
 
   Interrupt interrupt;
@@ -33,12 +34,12 @@ public class UserMarkedFailAllInterruptCallback implements OldNotifyCallback {
   }
 
   @Override
-  public void notify(Map<String, ResponseData> response) {
+  public void notify(Iterator<Map.Entry<String, ResponseData>> responses) {
     interruptService.markProcessed(interrupt.getUuid(), PROCESSED_SUCCESSFULLY);
   }
 
   @Override
-  public void notifyError(Map<String, ResponseData> response) {
+  public void notifyError(Iterator<Map.Entry<String, ResponseData>> responses) {
     interruptService.markProcessed(interrupt.getUuid(), PROCESSED_UNSUCCESSFULLY);
   }
 }
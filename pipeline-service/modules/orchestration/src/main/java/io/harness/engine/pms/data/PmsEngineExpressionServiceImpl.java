@@ -14,6 +14,7 @@ import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
+import io.harness.engine.expressions.AmbianceExpressionEvaluator;
 import io.harness.engine.expressions.ExpressionEvaluatorProvider;
 import io.harness.expression.EngineExpressionEvaluator;
 import io.harness.expression.common.ExpressionMode;
@@ -36,13 +37,21 @@ public class PmsEngineExpressionServiceImpl implements PmsEngineExpressionServic
   @Override
   public String renderExpression(Ambiance ambiance, String expression, boolean skipUnresolvedExpressionsCheck) {
     EngineExpressionEvaluator evaluator = prepareExpressionEvaluator(ambiance);
-    return evaluator.renderExpression(expression, skipUnresolvedExpressionsCheck);
+    try {
+      return evaluator.renderExpression(expression, skipUnresolvedExpressionsCheck);
+    } finally {
+      publishNodeExecutionsCacheStats(evaluator);
+    }
   }
 
   @Override
   public String renderExpression(Ambiance ambiance, String expression, ExpressionMode expressionMode) {
     EngineExpressionEvaluator evaluator = prepareExpressionEvaluator(ambiance);
-    return evaluator.renderExpression(expression, expressionMode);
+    try {
+      return evaluator.renderExpression(expression, expressionMode);
+    } finally {
+      publishNodeExecutionsCacheStats(evaluator);
+    }
   }
 
   @Override
@@ -64,7 +73,12 @@ public class PmsEngineExpressionServiceImpl implements PmsEngineExpressionServic
   public String evaluateExpression(
       Ambiance ambiance, String expression, ExpressionMode expressionMode, boolean newRecastFlow) {
     EngineExpressionEvaluator evaluator = prepareExpressionEvaluator(ambiance);
-    Object value = evaluator.evaluateExpression(expression, expressionMode);
+    Object value;
+    try {
+      value = evaluator.evaluateExpression(expression, expressionMode);
+    } finally {
+      publishNodeExecutionsCacheStats(evaluator);
+    }
     return RecastOrchestrationUtils.toJson(value, newRecastFlow);
   }
 
@@ -77,7 +91,11 @@ public class PmsEngineExpressionServiceImpl implements PmsEngineExpressionServic
   @Override
   public Object resolve(Ambiance ambiance, Object o, ExpressionMode expressionMode) {
     EngineExpressionEvaluator evaluator = prepareExpressionEvaluator(ambiance);
-    return evaluator.resolve(o, expressionMode);
+    try {
+      return evaluator.resolve(o, expressionMode);
+    } finally {
+      publishNodeExecutionsCacheStats(evaluator);
+    }
   }
   @Override
   public Object resolve(Ambiance ambiance, Object o, ExpressionMode expressionMode, List<String> enabledFeatureFlags) {
@@ -86,20 +104,32 @@ public class PmsEngineExpressionServiceImpl implements PmsEngineExpressionServic
       contxtMap.put(EngineExpressionEvaluator.ENABLED_FEATURE_FLAGS_KEY, String.join(",", enabledFeatureFlags));
     }
     EngineExpressionEvaluator evaluator = prepareExpressionEvaluator(ambiance, contxtMap);
-    return evaluator.resolve(o, expressionMode);
+    try {
+      return evaluator.resolve(o, expressionMode);
+    } finally {
+      publishNodeExecutionsCacheStats(evaluator);
+    }
   }
 
   @Override
   public Object resolve(Ambiance ambiance, Object o, ExpressionMode expressionMode, Map<String, String> contextMap) {
     EngineExpressionEvaluator evaluator = prepareExpressionEvaluator(ambiance, contextMap);
-    return evaluator.resolve(o, expressionMode);
+    try {
+      return evaluator.resolve(o, expressionMode);
+    } finally {
+      publishNodeExecutionsCacheStats(evaluator);
+    }
   }
 
   @Override
   public Object evaluateExpression(
       Ambiance ambiance, String expression, ExpressionMode expressionMode, Map<String, String> contextMap) {
     EngineExpressionEvaluator evaluator = prepareExpressionEvaluator(ambiance, contextMap);
-    return evaluator.evaluateExpression(expression, expressionMode);
+    try {
+      return evaluator.evaluateExpression(expression, expressionMode);
+    } finally {
+      publishNodeExecutionsCacheStats(evaluator);
+    }
   }
 
   @Override
@@ -125,4 +155,10 @@ public class PmsEngineExpressionServiceImpl implements PmsEngineExpressionServic
     injector.injectMembers(engineExpressionEvaluator);
     return engineExpressionEvaluator;
   }
+
+  private void publishNodeExecutionsCacheStats(EngineExpressionEvaluator evaluator) {
+    if (evaluator instanceof AmbianceExpressionEvaluator) {
+      ((AmbianceExpressionEvaluator) evaluator).publishNodeExecutionsCacheStats();
+    }
+  }
 }
@@ -14,6 +14,7 @@ import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.data.StepOutcomeRef;
 import io.harness.pms.contracts.refobjects.RefObject;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,14 @@ public interface PmsOutcomeService extends Resolver {
 
   Map<String, String> findAllOutcomesMapByRuntimeId(String planExecutionId, String runtimeId);
 
+  /**
+   * Batched version of {@link #findAllOutcomesMapByRuntimeId(String, String)} with a single $in query
+   * Uses - planExecutionIdProducedByRuntimeIdCreatedAtIdx
+   *
+   * @return runtimeId to outcome name to outcome json, runtimeIds without outcomes are absent
+   */
+  Map<String, Map<String, String>> findAllOutcomesMapByRuntimeIds(String planExecutionId, Collection<String> runtimeIds);
+
   List<String> fetchOutcomes(List<String> outcomeInstanceIds);
 
   String fetchOutcome(@NonNull String outcomeInstanceId);
@@ -42,6 +42,7 @@ import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.mongodb.client.result.UpdateResult;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
@@ -179,6 +180,24 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
     return outcomesMap;
   }
 
+  @Override
+  public Map<String, Map<String, String>> findAllOutcomesMapByRuntimeIds(
+      String planExecutionId, Collection<String> runtimeIds) {
+    if (isEmpty(runtimeIds)) {
+      return Collections.emptyMap();
+    }
+    Query query = query(where(OutcomeInstanceKeys.planExecutionId).is(planExecutionId))
+                      .addCriteria(where(OutcomeInstanceKeys.producedByRuntimeId).in(runtimeIds))
+                      .with(Sort.by(Sort.Direction.DESC, OutcomeInstanceKeys.createdAt));
+
+    Map<String, Map<String, String>> outcomesMap = new HashMap<>();
+    for (OutcomeInstance outcomeInstance : mongoTemplate.find(query, OutcomeInstance.class)) {
+      outcomesMap.computeIfAbsent(outcomeInstance.getProducedBy().getRuntimeId(), k -> new LinkedHashMap<>())
+          .put(outcomeInstance.getName(), outcomeInstance.getOutcomeJsonValue());
+    }
+    return outcomesMap;
+  }
+
   @Override
   public List<String> fetchOutcomes(List<String> outcomeInstanceIds) {
     if (isEmpty(outcomeInstanceIds)) {
@@ -51,6 +51,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.client.result.UpdateResult;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -136,6 +137,19 @@ public class NodeExecutionInfoServiceImpl implements NodeExecutionInfoService {
     return nodeExecutionsInfoRepository.findByNodeExecutionId(nodeExecutionId).orElse(null);
   }
 
+  @Override
+  public Map<String, NodeExecutionsInfo> getNodeExecutionsInfos(Collection<String> nodeExecutionIds) {
+    if (EmptyPredicate.isEmpty(nodeExecutionIds)) {
+      return Collections.emptyMap();
+    }
+    Map<String, NodeExecutionsInfo> nodeExecutionsInfoMap = new HashMap<>();
+    for (NodeExecutionsInfo nodeExecutionsInfo :
+        nodeExecutionsInfoRepository.findAllByNodeExecutionIdIn(nodeExecutionIds)) {
+      nodeExecutionsInfoMap.put(nodeExecutionsInfo.getNodeExecutionId(), nodeExecutionsInfo);
+    }
+    return nodeExecutionsInfoMap;
+  }
+
   @Override
   public Map<String, PmsStepDetails> getStepDetails(String planExecutionId, String nodeExecutionId) {
     Optional<NodeExecutionsInfo> nodeExecutionsInfo =
@@ -20,6 +20,7 @@ import io.harness.pms.contracts.execution.StrategyMetadata;
 import io.harness.pms.data.stepdetails.PmsStepDetails;
 import io.harness.pms.data.stepparameters.PmsStepParameters;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,13 @@ public interface NodeExecutionInfoService {
 
   NodeExecutionsInfo getNodeExecutionsInfo(String nodeExecutionId);
 
+  /**
+   * Batched version of {@link #getNodeExecutionsInfo(String)}
+   * Uses - nodeExecutionId_unique_idx index
+   * @return nodeExecutionId to NodeExecutionsInfo, ids without info are absent
+   */
+  Map<String, NodeExecutionsInfo> getNodeExecutionsInfos(Collection<String> nodeExecutionIds);
+
   Map<String, PmsStepDetails> getStepDetails(String planExecutionId, String nodeExecutionId);
 
   void copyStepDetailsForRetry(String planExecutionId, String originalNodeExecutionId, String newNodeExecutionId);
@@ -16,11 +16,15 @@ import io.harness.pms.contracts.steps.StepType;
 import io.harness.pms.events.PmsEventMonitoringConstants;
 import io.harness.pms.events.base.PmsMetricContextGuard;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_PIPELINE})
 public class PipelineMetricUtils {
+  public static final String NODE_EXECUTIONS_CACHE_HIT_COUNT = "node_executions_cache_hit_count";
+  public static final String NODE_EXECUTIONS_CACHE_MISS_COUNT = "node_executions_cache_miss_count";
+
   @Inject MetricService metricService;
   public void publishPipelineExecutionMetrics(String metricName, Status status, String accountId, String edition) {
     ImmutableMap<String, String> metricContextMap = ImmutableMap.<String, String>builder()
@@ -45,4 +49,17 @@ public class PipelineMetricUtils {
       metricService.incCounter(metricName);
     }
   }
+
+  public void publishNodeExecutionsCacheStats(String accountId, CacheStats cacheStats) {
+    if (cacheStats.requestCount() == 0) {
+      return;
+    }
+    ImmutableMap<String, String> metricContextMap =
+        ImmutableMap.<String, String>builder().put(PmsEventMonitoringConstants.ACCOUNT_ID, accountId).build();
+
+    try (PmsMetricContextGuard pmsMetricContextGuard = new PmsMetricContextGuard(metricContextMap)) {
+      metricService.recordMetric(NODE_EXECUTIONS_CACHE_HIT_COUNT, cacheStats.hitCount());
+      metricService.recordMetric(NODE_EXECUTIONS_CACHE_MISS_COUNT, cacheStats.missCount());
+    }
+  }
 }
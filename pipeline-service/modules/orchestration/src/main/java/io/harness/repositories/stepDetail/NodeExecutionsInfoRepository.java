@@ -12,6 +12,8 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.stepDetail.NodeExecutionsInfo;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -21,6 +23,12 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 public interface NodeExecutionsInfoRepository extends PagingAndSortingRepository<NodeExecutionsInfo, String> {
   Optional<NodeExecutionsInfo> findByNodeExecutionId(String nodeExecutionId);
 
+  /**
+   * Uses - nodeExecutionId_unique_idx index
+   * @param nodeExecutionIds
+   */
+  List<NodeExecutionsInfo> findAllByNodeExecutionIdIn(Collection<String> nodeExecutionIds);
+
   /**
    * Delete all nodeExecutionsInfo for given nodeExecutionIds
    * Uses - nodeExecutionId_unique_idx index
@@ -7,24 +7,36 @@
 
 package io.harness.engine.expressions;
 
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.ARCHIT;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.engine.OrchestrationTestHelper;
 import io.harness.engine.executions.node.NodeExecutionService;
 import io.harness.engine.executions.plan.PlanService;
 import io.harness.execution.NodeExecution;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.execution.Status;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.rule.Owner;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -57,4 +69,79 @@ public class NodeExecutionsCacheTest extends CategoryTest {
     List<Status> allChildren = nodeExecutionsCache.findAllTerminalChildrenStatusOnly("PARENT_ID", false);
     assertThat(allChildren.size()).isEqualTo(1);
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testFetchChildrenIsCachedAndRecordsStats() {
+    NodeExecution child = NodeExecution.builder().uuid("CHILD_ID").parentId("PARENT_ID").build();
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Collections.singletonList(child).iterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngine);
+
+    assertThat(nodeExecutionsCache.fetchChildren("PARENT_ID")).containsExactly(child);
+    assertThat(nodeExecutionsCache.fetchChildren("PARENT_ID")).containsExactly(child);
+    assertThat(nodeExecutionsCache.fetch("CHILD_ID")).isEqualTo(child);
+
+    verify(nodeExecutionService, times(1))
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngine);
+    verify(nodeExecutionService, times(0)).getWithFieldsIncluded(any(), any());
+    assertThat(nodeExecutionsCache.getChildrenStats().missCount()).isEqualTo(1);
+    assertThat(nodeExecutionsCache.getChildrenStats().hitCount()).isEqualTo(1);
+    assertThat(nodeExecutionsCache.getStats().hitCount()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testFetchChildrenOfNullParentIsCached() {
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Collections.emptyIterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIterator(
+            eq("PLAN_EXECUTION_ID"), isNull(), eq(NodeProjectionUtils.fieldsForExpressionEngine));
+
+    assertThat(nodeExecutionsCache.fetchChildren((String) null)).isEmpty();
+    assertThat(nodeExecutionsCache.fetchChildren((String) null)).isEmpty();
+
+    verify(nodeExecutionService, times(1))
+        .fetchChildrenNodeExecutionsIterator(
+            eq("PLAN_EXECUTION_ID"), isNull(), eq(NodeProjectionUtils.fieldsForExpressionEngine));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testPrefetchSubtreeQueriesOncePerLevel() {
+    NodeExecution a = NodeExecution.builder().uuid("A").parentId("ROOT").build();
+    NodeExecution b = NodeExecution.builder().uuid("B").parentId("ROOT").build();
+    NodeExecution c = NodeExecution.builder().uuid("C").parentId("A").build();
+    NodeExecution d = NodeExecution.builder().uuid("D").parentId("B").build();
+    NodeExecution e = NodeExecution.builder().uuid("E").parentId("B").build();
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Arrays.asList(a, b).iterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIterator("PLAN_EXECUTION_ID", "ROOT", NodeProjectionUtils.fieldsForExpressionEngine);
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Arrays.asList(c, d, e).iterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIteratorByParentIds(
+            "PLAN_EXECUTION_ID", Arrays.asList("A", "B"), NodeProjectionUtils.fieldsForExpressionEngine);
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Collections.emptyIterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIteratorByParentIds(
+            "PLAN_EXECUTION_ID", Arrays.asList("C", "D", "E"), NodeProjectionUtils.fieldsForExpressionEngine);
+
+    nodeExecutionsCache.prefetchSubtree("ROOT", nodeExecution -> true);
+
+    assertThat(nodeExecutionsCache.fetchChildren("A")).containsExactly(c);
+    assertThat(nodeExecutionsCache.fetchChildren("B")).containsExactly(d, e);
+    Map<String, List<NodeExecution>> leaves = nodeExecutionsCache.fetchChildren(Arrays.asList("C", "D", "E"));
+    assertThat(leaves).containsOnlyKeys("C", "D", "E");
+    assertThat(leaves.values()).allMatch(List::isEmpty);
+    assertThat(nodeExecutionsCache.fetch("E")).isEqualTo(e);
+
+    verify(nodeExecutionService, times(2))
+        .fetchChildrenNodeExecutionsIteratorByParentIds(eq("PLAN_EXECUTION_ID"), anyCollection(), any());
+    verify(nodeExecutionService, times(1)).fetchChildrenNodeExecutionsIterator(any(), any(), any(Set.class));
+  }
 }
@@ -24,7 +24,7 @@ import io.harness.interrupts.Interrupt;
 import io.harness.pms.contracts.interrupts.InterruptType;
 import io.harness.rule.Owner;
 
-import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
 import org.joor.Reflect;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -47,7 +47,7 @@ public class AbortAllInterruptCallbackTest extends OrchestrationTestBase {
                                                                              .build())
                                                               .build();
     Reflect.on(abortAllInterruptCallback).set("interruptService", interruptService);
-    abortAllInterruptCallback.notify(ImmutableMap.of());
+    abortAllInterruptCallback.notify(Collections.emptyIterator());
     verify(interruptService).markProcessed(eq(interruptId), eq(PROCESSED_SUCCESSFULLY));
   }
 
@@ -64,7 +64,7 @@ public class AbortAllInterruptCallbackTest extends OrchestrationTestBase {
                                                                              .build())
                                                               .build();
     Reflect.on(abortAllInterruptCallback).set("interruptService", interruptService);
-    abortAllInterruptCallback.notifyError(ImmutableMap.of());
+    abortAllInterruptCallback.notifyError(Collections.emptyIterator());
     verify(interruptService).markProcessed(eq(interruptId), eq(PROCESSED_UNSUCCESSFULLY));
   }
 }
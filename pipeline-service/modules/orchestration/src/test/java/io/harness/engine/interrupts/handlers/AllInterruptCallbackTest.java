@@ -25,7 +25,7 @@ import io.harness.interrupts.Interrupt;
 import io.harness.pms.contracts.interrupts.InterruptType;
 import io.harness.rule.Owner;
 
-import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
 import org.joor.Reflect;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -48,7 +48,7 @@ public class AllInterruptCallbackTest extends OrchestrationTestBase {
                                                                        .build())
                                                         .build();
     Reflect.on(allInterruptCallbackTest).set("interruptService", interruptService);
-    allInterruptCallbackTest.notify(ImmutableMap.of());
+    allInterruptCallbackTest.notify(Collections.emptyIterator());
     verify(interruptService, times(0)).markProcessed(any(), any());
   }
 
@@ -65,7 +65,7 @@ public class AllInterruptCallbackTest extends OrchestrationTestBase {
                                                                    .build())
                                                     .build();
     Reflect.on(allInterruptCallback).set("interruptService", interruptService);
-    allInterruptCallback.notifyError(ImmutableMap.of());
+    allInterruptCallback.notifyError(Collections.emptyIterator());
     verify(interruptService).markProcessed(eq(interruptId), eq(PROCESSED_UNSUCCESSFULLY));
   }
 }
@@ -24,7 +24,7 @@ import io.harness.interrupts.Interrupt;
 import io.harness.pms.contracts.interrupts.InterruptType;
 import io.harness.rule.Owner;
 
-import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
 import org.joor.Reflect;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -48,7 +48,7 @@ public class UserMarkedFailureInterruptCallbackTest extends OrchestrationTestBas
                            .build())
             .build();
     Reflect.on(userMarkedFailAllInterruptCallback).set("interruptService", interruptService);
-    userMarkedFailAllInterruptCallback.notify(ImmutableMap.of());
+    userMarkedFailAllInterruptCallback.notify(Collections.emptyIterator());
     verify(interruptService).markProcessed(eq(interruptId), eq(PROCESSED_SUCCESSFULLY));
   }
 
@@ -66,7 +66,7 @@ public class UserMarkedFailureInterruptCallbackTest extends OrchestrationTestBas
                            .build())
             .build();
     Reflect.on(userMarkedFailAllInterruptCallback).set("interruptService", interruptService);
-    userMarkedFailAllInterruptCallback.notifyError(ImmutableMap.of());
+    userMarkedFailAllInterruptCallback.notifyError(Collections.emptyIterator());
     verify(interruptService).markProcessed(eq(interruptId), eq(PROCESSED_UNSUCCESSFULLY));
   }
 }
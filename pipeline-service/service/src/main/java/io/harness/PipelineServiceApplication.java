@@ -208,8 +208,10 @@ import io.harness.telemetry.filter.TerraformTelemetryFilter;
 import io.harness.threading.ExecutorModule;
 import io.harness.threading.ThreadPool;
 import io.harness.timeout.TimeoutEngine;
+import io.harness.timeout.wheel.TimeoutWheelScheduler;
 import io.harness.token.remote.TokenClient;
 import io.harness.tracing.MongoRedisTracer;
+import io.harness.tracing.profiler.QueryProfileResource;
 import io.harness.waiter.NotifierScheduledExecutorService;
 import io.harness.waiter.NotifyQueuePublisherRegister;
 import io.harness.waiter.NotifyResponseCleaner;
@@ -952,6 +954,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
     environment.lifecycle().manage(injector.getInstance(OutboxEventPollService.class));
     environment.lifecycle().manage(injector.getInstance(PipelineEventConsumerController.class));
     environment.lifecycle().manage(injector.getInstance(RolesResourceMigrationService.class));
+    environment.lifecycle().manage(injector.getInstance(TimeoutWheelScheduler.class));
     if (appConfig.isUseQueueServiceForWebhookTriggers()) {
       environment.lifecycle().manage(injector.getInstance(WebhookEventQueueProcessor.class));
     }
@@ -973,6 +976,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
       environment.jersey().register(injector.getInstance(resource));
     }
     environment.jersey().register(injector.getInstance(VersionInfoResource.class));
+    environment.jersey().register(injector.getInstance(QueryProfileResource.class));
   }
 
   private void registerJerseyProviders(Environment environment, Injector injector) {
@@ -46,6 +46,7 @@ import io.harness.ssca.beans.entities.SSCAServiceConfig;
 import io.harness.steps.container.execution.ContainerExecutionConfig;
 import io.harness.telemetry.segment.SegmentConfiguration;
 import io.harness.threading.ThreadPoolConfig;
+import io.harness.timeout.wheel.TimeoutWheelConfig;
 import io.harness.timescaledb.TimeScaleDBConfig;
 import io.harness.yaml.schema.client.config.YamlSchemaClientConfig;
 
@@ -186,6 +187,7 @@ public class PipelineServiceConfiguration extends Configuration {
 
   @JsonProperty("staticSchemaFileURL") private String staticSchemaFileURL;
   @JsonProperty("timeoutIteratorMode") private String timeoutIteratorMode;
+  @JsonProperty("timeoutWheelConfig") private TimeoutWheelConfig timeoutWheelConfig;
   @JsonProperty("webhookEventHsqsDequeueConfig") private HsqsDequeueConfig webhookEventHsqsDequeueConfig;
   @JsonProperty("maxMultiArtifactTriggerSources") private Integer maxMultiArtifactTriggerSources;
   @JsonProperty("graphConsumerSleepIntervalMs") private Integer graphConsumerSleepIntervalMs;
@@ -233,6 +233,7 @@ import io.harness.template.TemplateResourceClientModule;
 import io.harness.threading.ThreadPool;
 import io.harness.threading.ThreadPoolConfig;
 import io.harness.time.TimeModule;
+import io.harness.timeout.wheel.TimeoutWheelConfig;
 import io.harness.timescaledb.JooqModule;
 import io.harness.timescaledb.TimeScaleDBConfig;
 import io.harness.timescaledb.TimeScaleDBService;
@@ -261,6 +262,7 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.MapBinder;
+import com.google.inject.multibindings.OptionalBinder;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import dev.morphia.converters.TypeConverter;
@@ -354,6 +356,11 @@ public class PipelineServiceModule extends AbstractModule {
             .expandedJsonLockConfig(configuration.getExpandedJsonLockConfig())
             .build(),
         threadPoolMetricRegistry));
+    if (configuration.getTimeoutWheelConfig() != null) {
+      OptionalBinder.newOptionalBinder(binder(), TimeoutWheelConfig.class)
+          .setBinding()
+          .toInstance(configuration.getTimeoutWheelConfig());
+    }
     install(OrchestrationStepsModule.getInstance(configuration.getOrchestrationStepConfig()));
     install(FeatureFlagModule.getInstance());
     install(OrchestrationVisualizationModule.getInstance(configuration.getEventsFrameworkConfiguration(),
@@ -53,6 +53,8 @@ public class PipelineCoreTimeScaleMigrationDetails implements MigrationDetails {
         .add(Pair.of(16, AddExecutionFailureDetailsToServiceInfraInfoTable.class))
         .add(Pair.of(17, CreateCustomStageTimeScaleTable.class))
         .add(Pair.of(18, CreateStepExecutionsTimeScaleTable.class))
+        .add(Pair.of(19, CreatePipelineExecutionSummaryCdHourlyTable.class))
+        .add(Pair.of(20, CreateServiceInfraInfoHourlyTable.class))
         .build();
   }
 }
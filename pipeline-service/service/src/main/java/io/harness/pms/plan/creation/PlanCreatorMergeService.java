@@ -57,6 +57,8 @@ import io.harness.pms.utils.CompletableFutures;
 import io.harness.pms.utils.PmsGrpcClientUtils;
 import io.harness.pms.yaml.HarnessYamlVersion;
 import io.harness.pms.yaml.YamlField;
+import io.harness.pms.yaml.YamlPathIndex;
+import io.harness.pms.yaml.YamlTreeEncoding;
 import io.harness.pms.yaml.YamlUtils;
 import io.harness.remote.client.NGRestUtils;
 import io.harness.serializer.KryoSerializer;
@@ -67,6 +69,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import com.google.protobuf.ByteString;
 import io.grpc.StatusRuntimeException;
 import java.io.IOException;
 import java.time.Duration;
@@ -267,12 +270,23 @@ public class PlanCreatorMergeService {
         createInitialPlanCreationContext(accountId, orgIdentifier, projectIdentifier, metadata, planExecutionMetadata));
 
     try {
+      String parsedYaml = null;
+      YamlPathIndex yamlPathIndex = null;
+      ByteString yamlTree = null;
       for (int i = 0; i < MAX_DEPTH && EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap());
            i++) {
         String version = metadata.getHarnessVersion();
-        YamlField fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
+        // The yaml only changes between iterations when plan creators update it, so it is parsed and encoded for the
+        // sdks once per change instead of once per iteration and batch.
+        String yaml = finalResponseBuilder.getDeps().getYaml();
+        if (!yaml.equals(parsedYaml)) {
+          YamlField fullYamlField = YamlUtils.readTree(yaml);
+          yamlPathIndex = new YamlPathIndex(fullYamlField);
+          yamlTree = ByteString.copyFrom(YamlTreeEncoding.encode(fullYamlField));
+          parsedYaml = yaml;
+        }
         PlanCreationBlobResponse currIterationResponse =
-            createPlanForDependencies(services, finalResponseBuilder, fullYamlField, version);
+            createPlanForDependencies(services, finalResponseBuilder, yamlPathIndex, yamlTree, version);
         PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, currIterationResponse.getNodesMap());
         PlanCreationBlobResponseUtils.mergeStartingNodeId(
             finalResponseBuilder, currIterationResponse.getStartingNodeId());
@@ -294,7 +308,8 @@ public class PlanCreatorMergeService {
   }
 
   private PlanCreationBlobResponse createPlanForDependencies(Map<String, PlanCreatorServiceInfo> services,
-      PlanCreationBlobResponse.Builder responseBuilder, YamlField fullYamlField, String harnessVersion) {
+      PlanCreationBlobResponse.Builder responseBuilder, YamlPathIndex yamlPathIndex, ByteString yamlTree,
+      String harnessVersion) {
     PlanCreationBlobResponse.Builder currIterationResponseBuilder = PlanCreationBlobResponse.newBuilder();
     CompletableFutures<PlanCreationResponse> completableFutures = new CompletableFutures<>(executor);
 
@@ -303,10 +318,10 @@ public class PlanCreatorMergeService {
       long start = System.currentTimeMillis();
       Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap =
           new HashMap<>();
-      getServiceToDependenciesMap(services, responseBuilder, fullYamlField, serviceToDependencyMap, harnessVersion);
+      getServiceToDependenciesMap(services, responseBuilder, yamlPathIndex, serviceToDependencyMap, harnessVersion);
 
       // Sending batch dependency requests for a single service in a async fashion.
-      executeCreatePlanInBatchDependency(responseBuilder, completableFutures, serviceToDependencyMap);
+      executeCreatePlanInBatchDependency(responseBuilder, yamlTree, completableFutures, serviceToDependencyMap);
 
       // Collecting results for all completable futures at one go, thus it will wait till all dependencies are resolved.
       List<ErrorResponse> errorResponses;
@@ -333,7 +348,7 @@ public class PlanCreatorMergeService {
 
   // Sending all dependencies in batch manner in async fashion
   private void executeCreatePlanInBatchDependency(PlanCreationBlobResponse.Builder responseBuilder,
-      CompletableFutures<PlanCreationResponse> completableFutures,
+      ByteString yamlTree, CompletableFutures<PlanCreationResponse> completableFutures,
       Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap) {
     for (Map.Entry<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceDependencyEntry :
         serviceToDependencyMap.entrySet()) {
@@ -346,8 +361,8 @@ public class PlanCreatorMergeService {
           Dependencies batchDependency = PmsSdkHelper.createBatchDependency(responseBuilder.getDeps(), dependencyBatch);
           Map<String, String> batchServiceAffinityMap = PmsSdkHelper.createBatchServiceAffinityMap(
               dependencyBatch.keySet(), responseBuilder.getServiceAffinityMap());
-          executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, batchServiceAffinityMap,
-              responseBuilder.getContextMap());
+          executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, yamlTree,
+              batchServiceAffinityMap, responseBuilder.getContextMap());
           dependencyBatch = new HashMap<>();
         }
       }
@@ -357,15 +372,15 @@ public class PlanCreatorMergeService {
         Dependencies batchDependency = PmsSdkHelper.createBatchDependency(responseBuilder.getDeps(), dependencyBatch);
         Map<String, String> batchServiceAffinityMap = PmsSdkHelper.createBatchServiceAffinityMap(
             dependencyBatch.keySet(), responseBuilder.getServiceAffinityMap());
-        executeDependenciesAsync(
-            completableFutures, serviceInfo, batchDependency, batchServiceAffinityMap, responseBuilder.getContextMap());
+        executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, yamlTree, batchServiceAffinityMap,
+            responseBuilder.getContextMap());
       }
     }
   }
 
   // Collecting which dependencies are supported with which service as a map.
   private void getServiceToDependenciesMap(Map<String, PlanCreatorServiceInfo> services,
-      PlanCreationBlobResponse.Builder responseBuilder, YamlField fullYamlField,
+      PlanCreationBlobResponse.Builder responseBuilder, YamlPathIndex yamlPathIndex,
       Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap,
       String harnessVersion) {
     // Initializing the responseMap
@@ -374,11 +389,11 @@ public class PlanCreatorMergeService {
     }
 
     addDependencyToServiceDependencyMapBasedOnPriority(
-        services, responseBuilder, fullYamlField, serviceToDependencyMap, harnessVersion);
+        services, responseBuilder, yamlPathIndex, serviceToDependencyMap, harnessVersion);
   }
 
   private void addDependencyToServiceDependencyMapBasedOnPriority(Map<String, PlanCreatorServiceInfo> services,
-      PlanCreationBlobResponse.Builder responseBuilder, YamlField fullYamlField,
+      PlanCreationBlobResponse.Builder responseBuilder, YamlPathIndex yamlPathIndex,
       Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap,
       String harnessVersion) {
     for (Map.Entry<String, String> dependencyEntry : responseBuilder.getDeps().getDependenciesMap().entrySet()) {
@@ -404,10 +419,10 @@ public class PlanCreatorMergeService {
               .orElse(null);
 
       if (PmsSdkHelper.checkIfGivenServiceSupportsPath(
-              affinityServicePlanCreatorService, dependencyEntry, fullYamlField, harnessVersion)) {
+              affinityServicePlanCreatorService, dependencyEntry, yamlPathIndex, harnessVersion)) {
         serviceToDependencyMap.get(affinityServicePlanCreatorService).add(dependencyEntry);
       } else if (PmsSdkHelper.checkIfGivenServiceSupportsPath(
-                     pmsPlanCreatorService, dependencyEntry, fullYamlField, harnessVersion)) {
+                     pmsPlanCreatorService, dependencyEntry, yamlPathIndex, harnessVersion)) {
         serviceToDependencyMap.get(pmsPlanCreatorService).add(dependencyEntry);
       } else {
         for (Map.Entry<String, PlanCreatorServiceInfo> serviceInfoEntry : services.entrySet()) {
@@ -415,7 +430,7 @@ public class PlanCreatorMergeService {
             continue;
           }
           if (PmsSdkHelper.checkIfGivenServiceSupportsPath(
-                  serviceInfoEntry, dependencyEntry, fullYamlField, harnessVersion)) {
+                  serviceInfoEntry, dependencyEntry, yamlPathIndex, harnessVersion)) {
             serviceToDependencyMap.get(serviceInfoEntry).add(dependencyEntry);
           }
         }
@@ -425,15 +440,21 @@ public class PlanCreatorMergeService {
 
   // Sending batch dependency requests for a single service in a async fashion.
   private void executeDependenciesAsync(CompletableFutures<PlanCreationResponse> completableFutures,
-      Map.Entry<String, PlanCreatorServiceInfo> serviceInfo, Dependencies batchDependency,
+      Map.Entry<String, PlanCreatorServiceInfo> serviceInfo, Dependencies batchDependency, ByteString yamlTree,
       Map<String, String> batchServiceAffinityMap, Map<String, PlanCreationContextValue> contextMap) {
     PlanCreationContext ctx = PlanCreationContext.builder().globalContext(contextMap).build();
+    // An sdk declaring yaml tree support rebuilds the yaml from the tree, sending both would ship the pipeline twice per
+    // batch. Older sdks only read the yaml and get it without the tree.
+    boolean sendYamlTree = !yamlTree.isEmpty() && serviceInfo.getValue().isSupportsYamlTree();
+    Dependencies requestDependencies = sendYamlTree ? batchDependency.toBuilder().clearYaml().build() : batchDependency;
+    ByteString requestYamlTree = sendYamlTree ? yamlTree : ByteString.EMPTY;
     completableFutures.supplyAsync(() -> {
       try (AutoLogContext ignore = PlanCreatorServiceHelper.autoLogContext(ctx)) {
         try {
           return PmsGrpcClientUtils.retryAndProcessException(serviceInfo.getValue().getPlanCreationClient()::createPlan,
               PlanCreationBlobRequest.newBuilder()
-                  .setDeps(batchDependency)
+                  .setDeps(requestDependencies)
+                  .setYamlTree(requestYamlTree)
                   .putAllContext(contextMap)
                   .putAllServiceAffinity(batchServiceAffinityMap)
                   .build());
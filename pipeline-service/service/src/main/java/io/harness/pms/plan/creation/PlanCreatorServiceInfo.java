@@ -11,10 +11,19 @@ import io.harness.pms.contracts.plan.PlanCreationServiceGrpc.PlanCreationService
 
 import java.util.Map;
 import java.util.Set;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 @Value
+@AllArgsConstructor
 public class PlanCreatorServiceInfo {
   Map<String, Set<String>> supportedTypes;
   PlanCreationServiceBlockingStub planCreationClient;
+  // Whether the service rebuilds the dependencies yaml from the yaml tree of the plan creation request
+  boolean supportsYamlTree;
+
+  public PlanCreatorServiceInfo(
+      Map<String, Set<String>> supportedTypes, PlanCreationServiceBlockingStub planCreationClient) {
+    this(supportedTypes, planCreationClient, false);
+  }
 }
@@ -18,6 +18,7 @@ import io.harness.pms.plan.creation.PlanCreatorServiceInfo;
 import io.harness.pms.plan.creation.PlanCreatorUtils;
 import io.harness.pms.yaml.HarnessYamlVersion;
 import io.harness.pms.yaml.YamlField;
+import io.harness.pms.yaml.YamlPathIndex;
 import io.harness.pms.yaml.YamlUtils;
 
 import com.google.inject.Inject;
@@ -43,9 +44,12 @@ public class PmsSdkHelper {
     Map<String, Map<String, Set<String>>> sdkInstances = pmsSdkInstanceService.getInstanceNameToSupportedTypes();
     Map<String, PlanCreatorServiceInfo> services = new HashMap<>();
     if (EmptyPredicate.isNotEmpty(planCreatorServices) && EmptyPredicate.isNotEmpty(sdkInstances)) {
+      Set<String> yamlTreeInstances = pmsSdkInstanceService.getInstanceNamesSupportingYamlTree();
       sdkInstances.forEach((k, v) -> {
         if (planCreatorServices.containsKey(ModuleType.fromString(k))) {
-          services.put(k, new PlanCreatorServiceInfo(v, planCreatorServices.get(ModuleType.fromString(k))));
+          services.put(k,
+              new PlanCreatorServiceInfo(
+                  v, planCreatorServices.get(ModuleType.fromString(k)), yamlTreeInstances.contains(k)));
         }
       });
     }
@@ -99,6 +103,26 @@ public class PmsSdkHelper {
     }
   }
 
+  /**
+   * Same as {@link #containsSupportedSingleDependencyByYamlPath(PlanCreatorServiceInfo, YamlField, Map.Entry, String)}
+   * but resolves the dependency path through an index shared by all the dependencies of an iteration.
+   */
+  public static boolean containsSupportedSingleDependencyByYamlPath(PlanCreatorServiceInfo serviceInfo,
+      YamlPathIndex yamlPathIndex, Map.Entry<String, String> dependencyEntry, String harnessVersion) {
+    if (dependencyEntry == null) {
+      return false;
+    }
+    Map<String, Set<String>> supportedTypes = serviceInfo.getSupportedTypes();
+    try {
+      YamlField field = yamlPathIndex.getField(dependencyEntry.getValue());
+      return PlanCreatorUtils.supportsField(supportedTypes, field, harnessVersion);
+    } catch (Exception ex) {
+      String message = "Invalid yaml during plan creation for dependency path - " + dependencyEntry.getValue();
+      log.error(message, ex);
+      throw new InvalidRequestException(message);
+    }
+  }
+
   public static String getServiceAffinityForGivenDependency(
       Map<String, String> serviceAffinityMap, Map.Entry<String, String> dependencyEntry) {
     String affinityService = null;
@@ -118,6 +142,15 @@ public class PmsSdkHelper {
         givenServiceInfo.getValue(), fullYamlField, dependencyEntry, harnessVersion);
   }
 
+  public static boolean checkIfGivenServiceSupportsPath(Map.Entry<String, PlanCreatorServiceInfo> givenServiceInfo,
+      Map.Entry<String, String> dependencyEntry, YamlPathIndex yamlPathIndex, String harnessVersion) {
+    if (givenServiceInfo == null) {
+      return false;
+    }
+    return containsSupportedSingleDependencyByYamlPath(
+        givenServiceInfo.getValue(), yamlPathIndex, dependencyEntry, harnessVersion);
+  }
+
   public static Dependencies createBatchDependency(Dependencies dependencies, Map<String, String> dependencyMap) {
     return Dependencies.newBuilder()
         .putAllDependencies(dependencyMap)
@@ -129,6 +129,7 @@ public class PmsSdkInstanceService extends PmsServiceImplBase {
             .set(PmsSdkInstanceKeys.staticAliases, request.getStaticAliasesMap())
             .set(PmsSdkInstanceKeys.sdkFunctors, request.getSdkFunctorsList())
             .set(PmsSdkInstanceKeys.jsonExpansionInfo, request.getJsonExpansionInfoList())
+            .set(PmsSdkInstanceKeys.supportsYamlTree, request.getSupportsYamlTree())
             .set(PmsSdkInstanceKeys.orchestrationEventConsumerConfig, request.getOrchestrationEventConsumerConfig())
             .set(PmsSdkInstanceKeys.active, true)
             .set(PmsSdkInstanceKeys.sdkModuleInfo, request.getSdkModuleInfo())
@@ -169,6 +170,17 @@ public class PmsSdkInstanceService extends PmsServiceImplBase {
     return instances;
   }
 
+  public Set<String> getInstanceNamesSupportingYamlTree() {
+    Set<String> instanceNames = new HashSet<>();
+    Map<String, PmsSdkInstance> cacheValueMap = getSdkInstanceCacheValue();
+    for (Map.Entry<String, PmsSdkInstance> entry : cacheValueMap.entrySet()) {
+      if (Boolean.TRUE.equals(entry.getValue().getSupportsYamlTree())) {
+        instanceNames.add(entry.getKey());
+      }
+    }
+    return instanceNames;
+  }
+
   public Map<String, StepPalleteInfo> getModuleNameToStepPalleteInfo() {
     Map<String, StepPalleteInfo> instances = new HashMap<>();
     Map<String, PmsSdkInstance> cacheValueMap = getSdkInstanceCacheValue();
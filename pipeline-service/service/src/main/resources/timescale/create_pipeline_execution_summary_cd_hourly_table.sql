@@ -0,0 +1,51 @@
+-- Copyright 2024 Harness Inc. All rights reserved.
+-- Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+-- that can be found in the licenses directory at the root of this repository, also available at
+-- https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+
+---------- PIPELINE EXECUTION SUMMARY CD HOURLY TABLE START ------------
+-- Executions of pipeline_execution_summary_cd counted per project, hour of startts and status, kept up to date by
+-- the change data capture service. production and non_production count the service_infra_info rows of the
+-- executions by env_type.
+BEGIN;
+CREATE TABLE IF NOT EXISTS pipeline_execution_summary_cd_hourly (
+    accountid text NOT NULL,
+    orgidentifier text NOT NULL,
+    projectidentifier text NOT NULL,
+    bucket bigint NOT NULL,
+    status text NOT NULL,
+    executions bigint NOT NULL,
+    production bigint NOT NULL,
+    non_production bigint NOT NULL,
+    PRIMARY KEY (accountid, orgidentifier, projectidentifier, bucket, status)
+);
+COMMIT;
+
+-- Hours of pipeline_execution_summary_cd_hourly changed at changedat and not counted again yet.
+BEGIN;
+CREATE TABLE IF NOT EXISTS pipeline_execution_summary_cd_hourly_changes (
+    accountid text NOT NULL,
+    orgidentifier text NOT NULL,
+    projectidentifier text NOT NULL,
+    bucket bigint NOT NULL,
+    changedat bigint NOT NULL,
+    PRIMARY KEY (accountid, orgidentifier, projectidentifier, bucket)
+);
+CREATE INDEX IF NOT EXISTS pipeline_execution_summary_cd_hourly_changes_changedat_idx
+    ON pipeline_execution_summary_cd_hourly_changes USING btree (changedat);
+COMMIT;
+
+BEGIN;
+INSERT INTO pipeline_execution_summary_cd_hourly
+SELECT cd.accountid, cd.orgidentifier, cd.projectidentifier, cd.startts - cd.startts % 3600000,
+       COALESCE(cd.status, ''), COUNT(*), COALESCE(SUM(env.production), 0), COALESCE(SUM(env.non_production), 0)
+FROM pipeline_execution_summary_cd cd
+LEFT JOIN LATERAL (
+    SELECT COUNT(*) FILTER (WHERE env_type = 'Production') AS production,
+           COUNT(*) FILTER (WHERE env_type = 'PreProduction') AS non_production
+    FROM service_infra_info WHERE pipeline_execution_summary_cd_id = cd.id) env ON TRUE
+WHERE cd.accountid IS NOT NULL AND cd.orgidentifier IS NOT NULL AND cd.projectidentifier IS NOT NULL
+GROUP BY 1, 2, 3, 4, 5
+ON CONFLICT DO NOTHING;
+COMMIT;
+---------- PIPELINE EXECUTION SUMMARY CD HOURLY TABLE END ------------
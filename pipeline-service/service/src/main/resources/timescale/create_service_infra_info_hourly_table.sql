@@ -0,0 +1,43 @@
+-- Copyright 2024 Harness Inc. All rights reserved.
+-- Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+-- that can be found in the licenses directory at the root of this repository, also available at
+-- https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+
+---------- SERVICE INFRA INFO HOURLY TABLE START ------------
+-- Service deployments of service_infra_info counted per project, hour of the execution startts, hour of the
+-- service_startts, service, status, env_type and deployment_type, kept up to date by the change data capture service
+-- together with pipeline_execution_summary_cd_hourly. named_deployments counts the deployments with a service_name.
+BEGIN;
+CREATE TABLE IF NOT EXISTS service_infra_info_hourly (
+    accountid text NOT NULL,
+    orgidentifier text NOT NULL,
+    projectidentifier text NOT NULL,
+    bucket bigint NOT NULL,
+    service_bucket bigint NOT NULL,
+    service_id text NOT NULL,
+    service_name text,
+    service_status text,
+    env_type text,
+    deployment_type text,
+    deployments bigint NOT NULL,
+    named_deployments bigint NOT NULL
+);
+CREATE INDEX IF NOT EXISTS service_infra_info_hourly_bucket_idx
+    ON service_infra_info_hourly USING btree (accountid, orgidentifier, projectidentifier, bucket);
+CREATE INDEX IF NOT EXISTS service_infra_info_hourly_service_bucket_idx
+    ON service_infra_info_hourly USING btree (accountid, orgidentifier, projectidentifier, service_id, service_bucket);
+COMMIT;
+
+BEGIN;
+DELETE FROM service_infra_info_hourly;
+INSERT INTO service_infra_info_hourly
+SELECT cd.accountid, cd.orgidentifier, cd.projectidentifier, cd.startts - cd.startts % 3600000,
+       sii.service_startts - sii.service_startts % 3600000, sii.service_id, MAX(sii.service_name), sii.service_status,
+       sii.env_type, sii.deployment_type, COUNT(*), COUNT(sii.service_name)
+FROM pipeline_execution_summary_cd cd
+JOIN service_infra_info sii ON sii.pipeline_execution_summary_cd_id = cd.id AND sii.accountid = cd.accountid
+WHERE cd.accountid IS NOT NULL AND cd.orgidentifier IS NOT NULL AND cd.projectidentifier IS NOT NULL
+  AND cd.startts IS NOT NULL AND sii.service_id IS NOT NULL AND sii.service_startts IS NOT NULL
+GROUP BY 1, 2, 3, 4, 5, 6, 8, 9, 10;
+COMMIT;
+---------- SERVICE INFRA INFO HOURLY TABLE END ------------
@@ -7,6 +7,7 @@
 
 package io.harness.cvng.core.services.impl;
 
+import static io.harness.cvng.CVConstants.BULK_OPERATION_THRESHOLD;
 import static io.harness.cvng.analysis.CVAnalysisConstants.TIMESERIES_SERVICE_GUARD_WINDOW_SIZE_NEW;
 import static io.harness.cvng.core.services.CVNextGenConstants.CV_ANALYSIS_WINDOW_MINUTES;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
@@ -57,18 +58,21 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.io.Resources;
 import com.google.inject.Inject;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.DBCollection;
 import com.mongodb.ReadPreference;
-import dev.morphia.UpdateOptions;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
 import dev.morphia.query.UpdateOperations;
+import dev.morphia.query.UpdateOpsImpl;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -106,20 +110,35 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       return true;
     }
     log.info("Saving {} data records", validDataRecords.size());
-    log.info("Records being saved: {}", StringUtils.join(validDataRecords, ","));
-    UpdateOptions options = new UpdateOptions();
-    options.upsert(true);
-    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap = bucketTimeSeriesRecords(validDataRecords);
-    timeSeriesRecordMap.forEach((timeSeriesRecordBucketKey, timeSeriesRecord) -> {
-      List<TimeSeriesMetricDefinition> metricTemplates =
-          timeSeriesAnalysisService.getMetricTemplate(timeSeriesRecord.getVerificationTaskId());
-      TimeSeriesMetricDefinition timeSeriesMetricDefinition =
-          metricTemplates.stream()
-              .filter(metricTemplate -> metricTemplate.getMetricName().equals(timeSeriesRecord.getMetricName()))
-              .findFirst()
-              .orElse(null);
+    if (log.isDebugEnabled()) {
+      log.debug("Records being saved: {}", StringUtils.join(validDataRecords, ","));
+    }
+    // The metric templates are the same for all the buckets of a verification task, look them up once per call.
+    Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTask = new HashMap<>();
+    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap =
+        bucketTimeSeriesRecords(validDataRecords, metricTypesByVerificationTask);
+    upsertTimeSeriesRecords(timeSeriesRecordMap, metricTypesByVerificationTask);
+    saveHosts(validDataRecords);
+    return true;
+  }
+
+  /**
+   * Upserts all the buckets with unordered bulk writes, every bucket is a separate document so the order does not
+   * matter and a failed bucket does not stop the others from being written.
+   */
+  private void upsertTimeSeriesRecords(Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap,
+      Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTask) {
+    DBCollection collection = hPersistence.getCollection(TimeSeriesRecord.class);
+    BulkWriteOperation bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+    int numberOfBulkOperations = 0;
+    long createdAt = Instant.now().toEpochMilli();
+    Date validUntil = TimeSeriesRecord.builder().build().getValidUntil();
+    for (Map.Entry<TimeSeriesRecordBucketKey, TimeSeriesRecord> entry : timeSeriesRecordMap.entrySet()) {
+      TimeSeriesRecordBucketKey timeSeriesRecordBucketKey = entry.getKey();
+      TimeSeriesRecord timeSeriesRecord = entry.getValue();
       TimeSeriesMetricType metricType =
-          timeSeriesMetricDefinition != null ? timeSeriesMetricDefinition.getMetricType() : null;
+          getMetricTypes(timeSeriesRecord.getVerificationTaskId(), metricTypesByVerificationTask)
+              .get(timeSeriesRecord.getMetricName());
       Query<TimeSeriesRecord> query =
           hPersistence.createQuery(TimeSeriesRecord.class)
               .filter(
@@ -133,8 +152,8 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       UpdateOperations<TimeSeriesRecord> updateOperations =
           hPersistence.createUpdateOperations(TimeSeriesRecord.class)
               .setOnInsert(TimeSeriesRecordKeys.uuid, generateUuid())
-              .setOnInsert(VerificationTaskBaseKeys.createdAt, Instant.now().toEpochMilli())
-              .setOnInsert(TimeSeriesRecordKeys.validUntil, TimeSeriesRecord.builder().build().getValidUntil())
+              .setOnInsert(VerificationTaskBaseKeys.createdAt, createdAt)
+              .setOnInsert(TimeSeriesRecordKeys.validUntil, validUntil)
               .set(TimeSeriesRecordKeys.accountId, timeSeriesRecord.getAccountId())
               .addToSet(TimeSeriesRecordKeys.timeSeriesGroupValues,
                   Lists.newArrayList(timeSeriesRecord.getTimeSeriesGroupValues()));
@@ -144,10 +163,30 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       if (Objects.nonNull(timeSeriesRecord.getMetricIdentifier())) {
         updateOperations.set(TimeSeriesRecordKeys.metricIdentifier, timeSeriesRecord.getMetricIdentifier());
       }
-      hPersistence.getDatastore(TimeSeriesRecord.class).update(query, updateOperations, options);
+      bulkWriteOperation.find(query.getQueryObject())
+          .upsert()
+          .updateOne(((UpdateOpsImpl<TimeSeriesRecord>) updateOperations).getOps());
+      numberOfBulkOperations++;
+      if (numberOfBulkOperations >= BULK_OPERATION_THRESHOLD) {
+        bulkWriteOperation.execute();
+        numberOfBulkOperations = 0;
+        bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+      }
+    }
+    if (numberOfBulkOperations > 0) {
+      bulkWriteOperation.execute();
+    }
+  }
+
+  private Map<String, TimeSeriesMetricType> getMetricTypes(
+      String verificationTaskId, Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTask) {
+    return metricTypesByVerificationTask.computeIfAbsent(verificationTaskId, id -> {
+      Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
+      timeSeriesAnalysisService.getMetricTemplate(id).forEach(timeSeriesMetricDefinition
+          -> metricTypeMap.putIfAbsent(
+              timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      return metricTypeMap;
     });
-    saveHosts(validDataRecords);
-    return true;
   }
 
   private List<TimeSeriesDataCollectionRecord> filterValidDataRecords(
@@ -216,12 +255,10 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   }
 
   private Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> bucketTimeSeriesRecords(
-      List<TimeSeriesDataCollectionRecord> dataRecords) {
-    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
-    List<TimeSeriesMetricDefinition> metricDefinitions =
-        timeSeriesAnalysisService.getMetricTemplate(dataRecords.get(0).getVerificationTaskId());
-    metricDefinitions.forEach(timeSeriesMetricDefinition
-        -> metricTypeMap.put(timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      List<TimeSeriesDataCollectionRecord> dataRecords,
+      Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTask) {
+    Map<String, TimeSeriesMetricType> metricTypeMap =
+        getMetricTypes(dataRecords.get(0).getVerificationTaskId(), metricTypesByVerificationTask);
     populatePercent(metricTypeMap, dataRecords);
     Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> rv = new HashMap<>();
     dataRecords.forEach(dataRecord -> {
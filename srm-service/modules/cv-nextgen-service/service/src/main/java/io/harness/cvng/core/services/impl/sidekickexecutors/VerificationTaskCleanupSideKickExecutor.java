@@ -36,6 +36,8 @@ import io.harness.cvng.servicelevelobjective.entities.CompositeSLORecordBucket;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
 import io.harness.cvng.statemachine.entities.AnalysisOrchestrator;
 import io.harness.cvng.statemachine.entities.AnalysisStateMachine;
 import io.harness.persistence.HPersistence;
@@ -78,7 +80,7 @@ public class VerificationTaskCleanupSideKickExecutor implements SideKickExecutor
 
   @VisibleForTesting
   static final Map<Class<? extends PersistentEntity>, String> ENTITIES_TO_DELETE_BY_ID_MAP =
-      Map.of(SLIRecordBucket.class, SLIRecordBucketKeys.sliId);
+      Map.of(SLIRecordBucket.class, SLIRecordBucketKeys.sliId, SLIRecordRollup.class, SLIRecordRollupKeys.sliId);
   @Inject private Clock clock;
   @Inject private HPersistence hPersistence;
   @Inject private VerificationTaskService verificationTaskService;
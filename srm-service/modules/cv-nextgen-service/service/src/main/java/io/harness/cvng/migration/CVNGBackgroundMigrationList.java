@@ -60,6 +60,7 @@ import io.harness.cvng.migration.list.RecoverMonitoringSourceWorkerId;
 import io.harness.cvng.migration.list.RecreateMetricPackAndThresholdMigration;
 import io.harness.cvng.migration.list.SLIBucketCleanupMigration;
 import io.harness.cvng.migration.list.SLIRecordMigration;
+import io.harness.cvng.migration.list.SLIRecordRollupBackfillMigration;
 import io.harness.cvng.migration.list.SLIRecordToSLIRecordBucketMigration;
 import io.harness.cvng.migration.list.SetNotRequiredActivityAnalysisStatusToIgnored;
 import io.harness.cvng.migration.list.UpdateActivityStatusMigration;
@@ -163,6 +164,7 @@ public class CVNGBackgroundMigrationList {
         .add(Pair.of(74, CompositeSLORecordBucketCleanupMigration.class))
         .add(Pair.of(75, CVNGBaseMigration.class))
         .add(Pair.of(76, CompositeSLORecordBucketMigration.class))
+        .add(Pair.of(77, SLIRecordRollupBackfillMigration.class))
         .build();
   }
 }
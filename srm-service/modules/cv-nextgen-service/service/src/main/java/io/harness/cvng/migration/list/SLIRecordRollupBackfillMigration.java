@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.migration.list;
+
+import io.harness.SRMPersistence;
+import io.harness.cvng.migration.CVNGMigration;
+import io.harness.cvng.migration.beans.ChecklistItem;
+import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
+import io.harness.persistence.UuidAware;
+
+import com.google.inject.Inject;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SLIRecordRollupBackfillMigration implements CVNGMigration {
+  @Inject SRMPersistence hPersistence;
+  @Inject SLIRecordRollupService sliRecordRollupService;
+
+  @Override
+  public void migrate() {
+    log.info("[SLI Record Rollup Migration] Starting backfill of sli record rollups");
+    List<ServiceLevelIndicator> serviceLevelIndicators =
+        hPersistence.createQuery(ServiceLevelIndicator.class).project(UuidAware.UUID_KEY, true).asList();
+    int failed = 0;
+    for (ServiceLevelIndicator serviceLevelIndicator : serviceLevelIndicators) {
+      try {
+        sliRecordRollupService.backfill(serviceLevelIndicator.getUuid());
+      } catch (Exception exception) {
+        failed++;
+        log.error("[SLI Record Rollup Migration] Failed to backfill rollups of sli {}", serviceLevelIndicator.getUuid(),
+            exception);
+      }
+    }
+    log.info("[SLI Record Rollup Migration] Backfilled rollups of {} slis, {} failed", serviceLevelIndicators.size(),
+        failed);
+  }
+
+  @Override
+  public ChecklistItem whatHappensOnRollback() {
+    return ChecklistItem.NA;
+  }
+
+  @Override
+  public ChecklistItem whatHappensIfOldVersionIteratorPicksMigratedEntity() {
+    return ChecklistItem.NA;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.entities;
+
+import static io.harness.cvng.CVConstants.SLO_RECORDS_TTL_DAYS;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.cvng.analysis.entities.VerificationTaskBase;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAware;
+
+import com.google.common.collect.ImmutableList;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+
+/**
+ * Hourly or daily prefix sums of an SLI. A rollup is a copy of the last {@link SLIRecordBucket} written in its hour or
+ * day, so that long SLO graphs can be read from one record per hour or day instead of the 5-minute buckets.
+ */
+@Data
+@Builder
+@FieldNameConstants(innerTypeName = "SLIRecordRollupKeys")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@StoreIn(DbAliases.CVNG)
+@Entity(value = "sliRecordRollups", noClassnameStored = true)
+@HarnessEntity(exportable = true)
+@OwnedBy(HarnessTeam.CV)
+public class SLIRecordRollup extends VerificationTaskBase implements PersistentEntity, UuidAware {
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("slirollup_resolution_timestamp")
+                 .field(SLIRecordRollupKeys.sliId)
+                 .field(SLIRecordRollupKeys.resolution)
+                 .field(SLIRecordRollupKeys.rollupStartTime)
+                 .build())
+        .build();
+  }
+
+  @Id private String uuid;
+  private String sliId;
+  private SLIRecordRollupResolution resolution;
+  private Instant rollupStartTime;
+  private Instant bucketStartTime; // start of the last bucket of the hour or day which was written
+  private List<SLIState> sliStates;
+  private long runningBadCount;
+  private long runningGoodCount;
+  private long runningSkipDataCount;
+  private int sliVersion;
+
+  @Builder.Default
+  @FdTtlIndex
+  private Date validUntil = Date.from(OffsetDateTime.now().plusDays(SLO_RECORDS_TTL_DAYS).toInstant());
+
+  public static String getUuid(String sliId, SLIRecordRollupResolution resolution, Instant rollupStartTime) {
+    return sliId + "_" + resolution + "_" + rollupStartTime.getEpochSecond();
+  }
+
+  public static SLIRecordRollup fromSLIRecordBucket(
+      SLIRecordBucket sliRecordBucket, SLIRecordRollupResolution resolution) {
+    Instant rollupStartTime = resolution.getRollupStartTime(sliRecordBucket.getBucketStartTime());
+    return SLIRecordRollup.builder()
+        .uuid(getUuid(sliRecordBucket.getSliId(), resolution, rollupStartTime))
+        .sliId(sliRecordBucket.getSliId())
+        .resolution(resolution)
+        .rollupStartTime(rollupStartTime)
+        .bucketStartTime(sliRecordBucket.getBucketStartTime())
+        .sliStates(sliRecordBucket.getSliStates())
+        .runningBadCount(sliRecordBucket.getRunningBadCount())
+        .runningGoodCount(sliRecordBucket.getRunningGoodCount())
+        .runningSkipDataCount(sliRecordBucket.getRunningSkipDataCount())
+        .sliVersion(sliRecordBucket.getSliVersion())
+        .build();
+  }
+
+  public SLIRecordBucket toSLIRecordBucket() {
+    return SLIRecordBucket.builder()
+        .sliId(sliId)
+        .bucketStartTime(bucketStartTime)
+        .sliStates(sliStates)
+        .runningBadCount(runningBadCount)
+        .runningGoodCount(runningGoodCount)
+        .runningSkipDataCount(runningSkipDataCount)
+        .sliVersion(sliVersion)
+        .build();
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.entities;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+public enum SLIRecordRollupResolution {
+  HOUR(ChronoUnit.HOURS),
+  DAY(ChronoUnit.DAYS);
+
+  private final ChronoUnit unit;
+
+  SLIRecordRollupResolution(ChronoUnit unit) {
+    this.unit = unit;
+  }
+
+  public Duration getDuration() {
+    return unit.getDuration();
+  }
+
+  public Instant getRollupStartTime(Instant bucketStartTime) {
+    return bucketStartTime.truncatedTo(unit);
+  }
+
+  /**
+   * @return the coarsest resolution which still has at least one rollup per sampling interval, null if the interval is
+   *     shorter than an hour
+   */
+  public static SLIRecordRollupResolution getCoarsestResolution(Duration samplingInterval) {
+    SLIRecordRollupResolution coarsest = null;
+    for (SLIRecordRollupResolution resolution : values()) {
+      if (resolution.getDuration().compareTo(samplingInterval) <= 0) {
+        coarsest = resolution;
+      }
+    }
+    return coarsest;
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.api;
+
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollupResolution;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface SLIRecordRollupService {
+  /**
+   * Copies the last written bucket of every hour and day to its rollup.
+   *
+   * @param appended the buckets are newer than all the stored buckets of the sli, so the rollups are replaced without
+   *     reading the stored ones first
+   */
+  void update(String sliId, List<SLIRecordBucket> sliRecordBuckets, boolean appended);
+
+  /**
+   * @return the rollups of the given hours or days which were written by the given version of the sli
+   */
+  List<SLIRecordRollup> getSLIRecordRollups(
+      String sliId, SLIRecordRollupResolution resolution, Collection<Instant> rollupStartTimes, int sliVersion);
+
+  void backfill(String sliId);
+}
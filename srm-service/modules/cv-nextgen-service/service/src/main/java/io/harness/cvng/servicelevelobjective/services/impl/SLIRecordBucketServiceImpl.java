@@ -24,10 +24,13 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordCount;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordParam;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollupResolution;
 import io.harness.cvng.servicelevelobjective.entities.SLIState;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.SimpleServiceLevelObjective;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordBucketService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelIndicatorService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelObjectiveV2Service;
 import io.harness.cvng.utils.SLOGraphUtils;
@@ -37,6 +40,7 @@ import com.google.inject.Inject;
 import com.mongodb.ReadPreference;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Sort;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -44,6 +48,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -58,6 +63,7 @@ public class SLIRecordBucketServiceImpl implements SLIRecordBucketService {
   private static final int RETRY_COUNT = 3;
   @Inject private ServiceLevelObjectiveV2Service serviceLevelObjectiveV2Service;
   @Inject private ServiceLevelIndicatorService serviceLevelIndicatorService;
+  @Inject private SLIRecordRollupService sliRecordRollupService;
   @Inject SRMPersistence hPersistence;
   @Override
   public void create(List<SLIRecordParam> sliRecordParamList, String sliId, int sliVersion) {
@@ -116,6 +122,7 @@ public class SLIRecordBucketServiceImpl implements SLIRecordBucketService {
                                .build());
     }
     hPersistence.saveBatch(sliRecordBuckets);
+    sliRecordRollupService.update(sliId, sliRecordBuckets, true);
   }
 
   @RetryOnException(retryCount = RETRY_COUNT, retryOn = ConcurrentModificationException.class)
@@ -164,6 +171,7 @@ public class SLIRecordBucketServiceImpl implements SLIRecordBucketService {
           exception.getLocalizedMessage());
       hPersistence.save(updateOrCreateSLIRecords);
     }
+    sliRecordRollupService.update(sliId, updateOrCreateSLIRecords, false);
   }
 
   @Override
@@ -256,7 +264,8 @@ public class SLIRecordBucketServiceImpl implements SLIRecordBucketService {
       sliRecordBuckets.add(firstRecordInRange);
     }
     if (!minutes.isEmpty()) {
-      sliRecordBuckets.addAll(getSLIRecordsOfMinutes(sliId, minutes));
+      sliRecordBuckets.addAll(getSampledSLIRecords(
+          sliId, firstRecordInRange.getBucketStartTime(), endTime, minutes, lastRecordInRange.getSliVersion()));
     }
     if (!lastRecordInRange.getBucketStartTime().equals(
             lastRecord.getBucketStartTime())) { // handle edge cases of adding the last record
@@ -276,6 +285,46 @@ public class SLIRecordBucketServiceImpl implements SLIRecordBucketService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Reads the sampled buckets from the hourly or daily rollups when the sampling interval is at least an hour, so that
+   * a long range reads one record per sampled hour or day. The point of a sampled minute is then the last bucket of its
+   * hour or day, i.e. it moves forward by less than the sampling interval, and the points stay in order.
+   *
+   * The 5-minute bucket of the sampled minute is read instead when the rollup is missing, e.g. while the sli is not
+   * backfilled, when it was written by another version of the sli than the last record of the range, or when its last
+   * bucket is past the end of the range.
+   */
+  private List<SLIRecordBucket> getSampledSLIRecords(
+      String sliId, Instant startTime, Instant endTime, List<Instant> minutes, int sliVersion) {
+    SLIRecordRollupResolution resolution = minutes.size() > 1
+        ? SLIRecordRollupResolution.getCoarsestResolution(Duration.between(minutes.get(0), minutes.get(1)))
+        : null;
+    if (resolution == null) {
+      return getSLIRecordsOfMinutes(sliId, minutes);
+    }
+    Map<Instant, Instant> minutesByRollupStartTime = new LinkedHashMap<>();
+    minutes.forEach(minute -> minutesByRollupStartTime.putIfAbsent(resolution.getRollupStartTime(minute), minute));
+    Map<Instant, SLIRecordRollup> sliRecordRollups =
+        sliRecordRollupService.getSLIRecordRollups(sliId, resolution, minutesByRollupStartTime.keySet(), sliVersion)
+            .stream()
+            .collect(Collectors.toMap(SLIRecordRollup::getRollupStartTime, Function.identity()));
+    List<SLIRecordBucket> sliRecordBuckets = new ArrayList<>();
+    List<Instant> missingMinutes = new ArrayList<>();
+    minutesByRollupStartTime.forEach((rollupStartTime, minute) -> {
+      SLIRecordRollup sliRecordRollup = sliRecordRollups.get(rollupStartTime);
+      if (sliRecordRollup != null && sliRecordRollup.getBucketStartTime().isAfter(startTime)
+          && sliRecordRollup.getBucketStartTime().isBefore(endTime)) {
+        sliRecordBuckets.add(sliRecordRollup.toSLIRecordBucket());
+      } else {
+        missingMinutes.add(minute);
+      }
+    });
+    if (!missingMinutes.isEmpty()) {
+      sliRecordBuckets.addAll(getSLIRecordsOfMinutes(sliId, missingMinutes));
+    }
+    return sliRecordBuckets;
+  }
+
   @Override
   public long getBadCountTillRangeStartTime(ServiceLevelIndicator serviceLevelIndicator,
       SLIMissingDataType sliMissingDataType, SLIValue sliValue, SLIRecordBucket sliRecordBucket,
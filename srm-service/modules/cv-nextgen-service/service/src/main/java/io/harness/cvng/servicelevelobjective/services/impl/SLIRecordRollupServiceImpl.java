@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.impl;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.persistence.HQuery.excludeAuthorityCount;
+
+import io.harness.SRMPersistence;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket.SLIRecordBucketKeys;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollupResolution;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
+import io.harness.persistence.UuidAware;
+
+import com.google.inject.Inject;
+import com.mongodb.ReadPreference;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SLIRecordRollupServiceImpl implements SLIRecordRollupService {
+  private static final int BACKFILL_BATCH_SIZE = 1000;
+  @Inject SRMPersistence hPersistence;
+
+  @Override
+  public void update(String sliId, List<SLIRecordBucket> sliRecordBuckets, boolean appended) {
+    if (isEmpty(sliRecordBuckets)) {
+      return;
+    }
+    List<SLIRecordRollup> sliRecordRollups = new ArrayList<>();
+    for (SLIRecordRollupResolution resolution : SLIRecordRollupResolution.values()) {
+      Map<String, SLIRecordRollup> rollupsToWrite = new HashMap<>();
+      for (SLIRecordBucket sliRecordBucket : sliRecordBuckets) {
+        SLIRecordRollup sliRecordRollup = SLIRecordRollup.fromSLIRecordBucket(sliRecordBucket, resolution);
+        rollupsToWrite.merge(sliRecordRollup.getUuid(), sliRecordRollup, SLIRecordRollupServiceImpl::getLatest);
+      }
+      if (!appended) {
+        removeOutdated(rollupsToWrite);
+      }
+      sliRecordRollups.addAll(rollupsToWrite.values());
+    }
+    if (sliRecordRollups.isEmpty()) {
+      return;
+    }
+    try {
+      hPersistence.upsertBatch(SLIRecordRollup.class, sliRecordRollups, new ArrayList<>());
+    } catch (IllegalAccessException exception) {
+      log.error("[SLI Record Rollup Error] SLI Record Rollups update failed through Bulk update {}",
+          exception.getLocalizedMessage());
+      hPersistence.save(sliRecordRollups);
+    }
+  }
+
+  /**
+   * A rollup keeps the prefix sums of the last bucket of its hour or day, an update of earlier buckets of the same hour
+   * or day does not change it unless it comes from another version of the sli.
+   */
+  private void removeOutdated(Map<String, SLIRecordRollup> rollupsToWrite) {
+    List<SLIRecordRollup> existingRollups = hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+                                                .field(UuidAware.UUID_KEY)
+                                                .in(rollupsToWrite.keySet())
+                                                .project(SLIRecordRollupKeys.bucketStartTime, true)
+                                                .project(SLIRecordRollupKeys.sliVersion, true)
+                                                .asList();
+    for (SLIRecordRollup existingRollup : existingRollups) {
+      SLIRecordRollup sliRecordRollup = rollupsToWrite.get(existingRollup.getUuid());
+      if (existingRollup.getBucketStartTime().isAfter(sliRecordRollup.getBucketStartTime())
+          && existingRollup.getSliVersion() == sliRecordRollup.getSliVersion()) {
+        rollupsToWrite.remove(existingRollup.getUuid());
+      }
+    }
+  }
+
+  private static SLIRecordRollup getLatest(SLIRecordRollup sliRecordRollup1, SLIRecordRollup sliRecordRollup2) {
+    return sliRecordRollup1.getBucketStartTime().isAfter(sliRecordRollup2.getBucketStartTime()) ? sliRecordRollup1
+                                                                                               : sliRecordRollup2;
+  }
+
+  @Override
+  public List<SLIRecordRollup> getSLIRecordRollups(
+      String sliId, SLIRecordRollupResolution resolution, Collection<Instant> rollupStartTimes, int sliVersion) {
+    if (isEmpty(rollupStartTimes)) {
+      return Collections.emptyList();
+    }
+    List<String> uuids = rollupStartTimes.stream()
+                             .map(rollupStartTime -> SLIRecordRollup.getUuid(sliId, resolution, rollupStartTime))
+                             .collect(Collectors.toList());
+    return hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+        .field(UuidAware.UUID_KEY)
+        .in(uuids)
+        .filter(SLIRecordRollupKeys.sliVersion, sliVersion)
+        .order(Sort.ascending(SLIRecordRollupKeys.rollupStartTime))
+        .asList(new FindOptions().readPreference(ReadPreference.secondaryPreferred()));
+  }
+
+  @Override
+  public void backfill(String sliId) {
+    Instant lastBucketStartTime = Instant.EPOCH;
+    long buckets = 0;
+    while (true) {
+      Query<SLIRecordBucket> query = hPersistence.createQuery(SLIRecordBucket.class, excludeAuthorityCount)
+                                         .filter(SLIRecordBucketKeys.sliId, sliId)
+                                         .field(SLIRecordBucketKeys.bucketStartTime)
+                                         .greaterThan(lastBucketStartTime)
+                                         .order(Sort.ascending(SLIRecordBucketKeys.bucketStartTime));
+      List<SLIRecordBucket> sliRecordBuckets = query.asList(new FindOptions().limit(BACKFILL_BATCH_SIZE));
+      if (sliRecordBuckets.isEmpty()) {
+        break;
+      }
+      update(sliId, sliRecordBuckets, false);
+      buckets += sliRecordBuckets.size();
+      lastBucketStartTime = sliRecordBuckets.get(sliRecordBuckets.size() - 1).getBucketStartTime();
+    }
+    log.info("[SLI Record Rollup] Backfilled rollups of sli {} from {} buckets", sliId, buckets);
+  }
+}
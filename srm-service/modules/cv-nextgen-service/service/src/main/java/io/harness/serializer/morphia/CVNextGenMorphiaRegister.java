@@ -113,6 +113,7 @@ import io.harness.cvng.servicelevelobjective.entities.RatioServiceLevelIndicator
 import io.harness.cvng.servicelevelobjective.entities.RequestServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
 import io.harness.cvng.servicelevelobjective.entities.SLOErrorBudgetReset;
 import io.harness.cvng.servicelevelobjective.entities.SLOHealthIndicator;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
@@ -261,6 +262,7 @@ public class CVNextGenMorphiaRegister implements MorphiaRegistrar {
     set.add(SRMTelemetrySentStatus.class);
     set.add(ActivityBucket.class);
     set.add(SLIRecordBucket.class);
+    set.add(SLIRecordRollup.class);
     set.add(SimpleVerificationJob.class);
     set.add(SRMAnalysisStepExecutionDetail.class);
     set.add(AutoDiscoveryAgent.class);
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.core.services.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.persistence.HQuery.excludeAuthority;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.cvng.analysis.entities.VerificationTaskBase.VerificationTaskBaseKeys;
+import io.harness.cvng.analysis.services.api.TimeSeriesAnalysisService;
+import io.harness.cvng.beans.TimeSeriesDataCollectionRecord;
+import io.harness.cvng.beans.TimeSeriesDataCollectionRecord.TimeSeriesDataRecordGroupValue;
+import io.harness.cvng.beans.TimeSeriesDataCollectionRecord.TimeSeriesDataRecordMetricValue;
+import io.harness.cvng.beans.TimeSeriesMetricType;
+import io.harness.cvng.core.beans.TimeSeriesMetricDefinition;
+import io.harness.cvng.core.entities.TimeSeriesRecord;
+import io.harness.cvng.core.entities.TimeSeriesRecord.TimeSeriesGroupValue;
+import io.harness.cvng.core.entities.TimeSeriesRecord.TimeSeriesRecordKeys;
+import io.harness.cvng.core.services.api.TimeSeriesRecordService;
+import io.harness.factory.ClosingFactory;
+import io.harness.govern.ProviderModule;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.CvNextGenRule;
+import io.harness.testlib.module.MongoRuleMixin.MongoType;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.util.Modules;
+import dev.morphia.UpdateOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.UpdateOperations;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+/**
+ * Compares saving a 10k bucket batch of time series data with one upsert per bucket, as save used to do, and with the
+ * bulk upserts of {@link TimeSeriesRecordServiceImpl#save} against the mongo given by the mongoUri system property.
+ * Both paths are timed once inserting all the buckets and once more updating the same buckets.
+ *
+ * Usage: TimeSeriesRecordSaveBenchmark [hosts] [metrics], with -DmongoUri=mongodb://localhost:27017
+ */
+@OwnedBy(HarnessTeam.CV)
+@Slf4j
+public class TimeSeriesRecordSaveBenchmark {
+  private final int hosts;
+  private final int metrics;
+  private final TimeSeriesRecordService timeSeriesRecordService;
+  private final TimeSeriesAnalysisService timeSeriesAnalysisService;
+  private final HPersistence hPersistence;
+
+  private TimeSeriesRecordSaveBenchmark(int hosts, int metrics, Injector injector) throws IllegalAccessException {
+    this.hosts = hosts;
+    this.metrics = metrics;
+    this.timeSeriesRecordService = injector.getInstance(TimeSeriesRecordService.class);
+    this.hPersistence = injector.getInstance(HPersistence.class);
+    this.timeSeriesAnalysisService = mock(TimeSeriesAnalysisService.class);
+    FieldUtils.writeField(timeSeriesRecordService, "timeSeriesAnalysisService", timeSeriesAnalysisService, true);
+    List<TimeSeriesMetricDefinition> definitions = new ArrayList<>();
+    for (int metric = 0; metric < metrics; metric++) {
+      definitions.add(TimeSeriesMetricDefinition.builder()
+                          .metricName("metric-" + metric)
+                          .metricType(TimeSeriesMetricType.RESP_TIME)
+                          .build());
+    }
+    when(timeSeriesAnalysisService.getMetricTemplate(anyString())).thenReturn(definitions);
+  }
+
+  public static void main(String[] args) throws Exception {
+    int hosts = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+    int metrics = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+    try (ClosingFactory closingFactory = new ClosingFactory()) {
+      CvNextGenRule cvNextGenRule = new CvNextGenRule(closingFactory, false);
+      List<Module> modules = cvNextGenRule.modules(Collections.emptyList());
+      Injector injector = Guice.createInjector(Modules.override(modules).with(new ProviderModule() {
+        @Provides
+        @Singleton
+        MongoType mongoType() {
+          return MongoType.REAL;
+        }
+      }));
+      cvNextGenRule.initialize(injector, modules);
+
+      TimeSeriesRecordSaveBenchmark benchmark = new TimeSeriesRecordSaveBenchmark(hosts, metrics, injector);
+      // Warm up both paths before measuring
+      benchmark.run("warmup", 1);
+      benchmark.run("measure", 3);
+    }
+  }
+
+  private void run(String name, int rounds) {
+    for (int round = 0; round < rounds; round++) {
+      String sequentialVerificationTaskId = generateUuid();
+      long sequentialInsertMillis = time(() -> upsertSequentially(sequentialVerificationTaskId));
+      long sequentialUpdateMillis = time(() -> upsertSequentially(sequentialVerificationTaskId));
+
+      String bulkVerificationTaskId = generateUuid();
+      long bulkInsertMillis = time(() -> timeSeriesRecordService.save(createRecords(bulkVerificationTaskId)));
+      long bulkUpdateMillis = time(() -> timeSeriesRecordService.save(createRecords(bulkVerificationTaskId)));
+
+      checkCount(sequentialVerificationTaskId);
+      checkCount(bulkVerificationTaskId);
+      log.info("[{}] {} buckets: one upsert per bucket inserts {}ms ({} buckets/s), updates {}ms ({} buckets/s); "
+              + "bulk upserts inserts {}ms ({} buckets/s), updates {}ms ({} buckets/s)",
+          name, buckets(), sequentialInsertMillis, bucketsPerSecond(sequentialInsertMillis), sequentialUpdateMillis,
+          bucketsPerSecond(sequentialUpdateMillis), bulkInsertMillis, bucketsPerSecond(bulkInsertMillis),
+          bulkUpdateMillis, bucketsPerSecond(bulkUpdateMillis));
+    }
+  }
+
+  private static long time(Runnable runnable) {
+    long startNanos = System.nanoTime();
+    runnable.run();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  private int buckets() {
+    return hosts * metrics;
+  }
+
+  private long bucketsPerSecond(long millis) {
+    return buckets() * 1000L / Math.max(1, millis);
+  }
+
+  private List<TimeSeriesDataCollectionRecord> createRecords(String verificationTaskId) {
+    List<TimeSeriesDataCollectionRecord> records = new ArrayList<>();
+    for (int host = 0; host < hosts; host++) {
+      Set<TimeSeriesDataRecordMetricValue> metricValues = new HashSet<>();
+      for (int metric = 0; metric < metrics; metric++) {
+        metricValues.add(TimeSeriesDataRecordMetricValue.builder()
+                             .metricName("metric-" + metric)
+                             .metricIdentifier("metric-" + metric)
+                             .timeSeriesValues(Sets.newHashSet(
+                                 TimeSeriesDataRecordGroupValue.builder().value(metric).groupName("group").build()))
+                             .build());
+      }
+      records.add(TimeSeriesDataCollectionRecord.builder()
+                      .accountId(generateUuid())
+                      .verificationTaskId(verificationTaskId)
+                      .host("host-" + host)
+                      .timeStamp(0)
+                      .metricValues(metricValues)
+                      .build());
+    }
+    return records;
+  }
+
+  // The write path of save before the bulk upserts: a metric template lookup and an upsert per bucket.
+  private void upsertSequentially(String verificationTaskId) {
+    UpdateOptions options = new UpdateOptions();
+    options.upsert(true);
+    for (int host = 0; host < hosts; host++) {
+      for (int metric = 0; metric < metrics; metric++) {
+        String metricName = "metric-" + metric;
+        TimeSeriesMetricType metricType = timeSeriesAnalysisService.getMetricTemplate(verificationTaskId)
+                                              .stream()
+                                              .filter(definition -> definition.getMetricName().equals(metricName))
+                                              .findFirst()
+                                              .map(TimeSeriesMetricDefinition::getMetricType)
+                                              .orElse(null);
+        Query<TimeSeriesRecord> query = hPersistence.createQuery(TimeSeriesRecord.class)
+                                            .filter(TimeSeriesRecordKeys.bucketStartTime, Instant.ofEpochMilli(0))
+                                            .filter(TimeSeriesRecordKeys.metricName, metricName)
+                                            .filter(TimeSeriesRecordKeys.verificationTaskId, verificationTaskId)
+                                            .filter(TimeSeriesRecordKeys.host, "host-" + host);
+        UpdateOperations<TimeSeriesRecord> updateOperations =
+            hPersistence.createUpdateOperations(TimeSeriesRecord.class)
+                .setOnInsert(TimeSeriesRecordKeys.uuid, generateUuid())
+                .setOnInsert(VerificationTaskBaseKeys.createdAt, Instant.now().toEpochMilli())
+                .setOnInsert(TimeSeriesRecordKeys.validUntil, TimeSeriesRecord.builder().build().getValidUntil())
+                .setOnInsert(TimeSeriesRecordKeys.metricType, metricType)
+                .set(TimeSeriesRecordKeys.accountId, generateUuid())
+                .set(TimeSeriesRecordKeys.metricIdentifier, metricName)
+                .addToSet(TimeSeriesRecordKeys.timeSeriesGroupValues,
+                    Lists.newArrayList(TimeSeriesGroupValue.builder()
+                                           .groupName("group")
+                                           .timeStamp(Instant.ofEpochMilli(0))
+                                           .metricValue(metric)
+                                           .build()));
+        hPersistence.getDatastore(TimeSeriesRecord.class).update(query, updateOperations, options);
+      }
+    }
+  }
+
+  private void checkCount(String verificationTaskId) {
+    long count = hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority)
+                     .filter(TimeSeriesRecordKeys.verificationTaskId, verificationTaskId)
+                     .count();
+    if (count != buckets()) {
+      log.error("Expected {} buckets for {} but found {}", buckets(), verificationTaskId, count);
+    }
+  }
+}
@@ -13,6 +13,7 @@ import static io.harness.cvng.core.services.CVNextGenConstants.CV_ANALYSIS_WINDO
 import static io.harness.cvng.core.services.CVNextGenConstants.PERFORMANCE_PACK_IDENTIFIER;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.DHRUVX;
 import static io.harness.rule.OwnerRule.KAMAL;
 import static io.harness.rule.OwnerRule.PRAVEEN;
@@ -23,6 +24,8 @@ import static io.harness.rule.TestUserProvider.testUserProvider;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CvNextGenTestBase;
@@ -201,6 +204,50 @@ public class TimeSeriesRecordServiceImplTest extends CvNextGenTestBase {
     validateSavedRecords(numOfMetrics, numOfTxnx, numOfMins, timeSeriesRecords);
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testSave_bulkUpsertsBucketsAndLooksUpMetricTemplateOnce() {
+    int numOfHosts = 300;
+    int numOfMetrics = 4;
+    List<TimeSeriesDataCollectionRecord> collectionRecords = new ArrayList<>();
+    for (int host = 0; host < numOfHosts; host++) {
+      for (int minute = 0; minute < CV_ANALYSIS_WINDOW_MINUTES; minute++) {
+        Set<TimeSeriesDataRecordMetricValue> metricValues = new HashSet<>();
+        for (int metric = 0; metric < numOfMetrics; metric++) {
+          TimeSeriesDataRecordGroupValue groupValue =
+              TimeSeriesDataRecordGroupValue.builder().value(minute + 1).groupName("group").build();
+          metricValues.add(TimeSeriesDataRecordMetricValue.builder()
+                               .metricName("metric-" + metric)
+                               .metricIdentifier("metricIdentifier-" + metric)
+                               .timeSeriesValues(Sets.newHashSet(groupValue))
+                               .build());
+        }
+        collectionRecords.add(TimeSeriesDataCollectionRecord.builder()
+                                  .accountId(accountId)
+                                  .verificationTaskId(verificationTaskId)
+                                  .host("host-" + host)
+                                  .timeStamp(TimeUnit.MINUTES.toMillis(minute))
+                                  .metricValues(metricValues)
+                                  .build());
+      }
+    }
+
+    timeSeriesRecordService.save(collectionRecords);
+    timeSeriesRecordService.save(collectionRecords);
+
+    verify(timeSeriesAnalysisService, times(2)).getMetricTemplate(verificationTaskId);
+    List<TimeSeriesRecord> timeSeriesRecords =
+        hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority).asList();
+    assertThat(timeSeriesRecords).hasSize(numOfHosts * numOfMetrics);
+    timeSeriesRecords.forEach(timeSeriesRecord -> {
+      assertThat(timeSeriesRecord.getUuid()).isNotNull();
+      assertThat(timeSeriesRecord.getMetricType()).isNotNull();
+      assertThat(timeSeriesRecord.getMetricIdentifier()).isNotNull();
+      assertThat(timeSeriesRecord.getTimeSeriesGroupValues()).hasSize((int) CV_ANALYSIS_WINDOW_MINUTES);
+    });
+  }
+
   @Test
   @Owner(developers = SOWMYA)
   @Category(UnitTests.class)
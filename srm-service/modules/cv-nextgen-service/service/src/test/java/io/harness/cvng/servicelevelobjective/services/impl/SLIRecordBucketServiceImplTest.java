@@ -11,6 +11,7 @@ import static io.harness.cvng.servicelevelobjective.entities.SLIState.BAD;
 import static io.harness.cvng.servicelevelobjective.entities.SLIState.GOOD;
 import static io.harness.cvng.servicelevelobjective.entities.SLIState.NO_DATA;
 import static io.harness.cvng.servicelevelobjective.entities.SLIState.SKIP_DATA;
+import static io.harness.rule.OwnerRule.ALEXEI;
 import static io.harness.rule.OwnerRule.VARSHA_LALWANI;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,13 +20,18 @@ import io.harness.CvNextGenTestBase;
 import io.harness.category.element.UnitTests;
 import io.harness.cvng.BuilderFactory;
 import io.harness.cvng.core.beans.monitoredService.MonitoredServiceDTO;
+import io.harness.cvng.core.beans.params.TimeRangeParams;
 import io.harness.cvng.core.services.api.monitoredService.MonitoredServiceService;
 import io.harness.cvng.servicelevelobjective.beans.ServiceLevelIndicatorDTO;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordBucket;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecordParam;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollupResolution;
 import io.harness.cvng.servicelevelobjective.entities.SLIState;
 import io.harness.cvng.servicelevelobjective.entities.ServiceLevelIndicator;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordBucketService;
+import io.harness.cvng.servicelevelobjective.services.api.SLIRecordRollupService;
 import io.harness.cvng.servicelevelobjective.services.api.ServiceLevelIndicatorService;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
@@ -45,6 +51,7 @@ import org.mockito.MockitoAnnotations;
 
 public class SLIRecordBucketServiceImplTest extends CvNextGenTestBase {
   @Inject SLIRecordBucketService sliRecordBucketService;
+  @Inject SLIRecordRollupService sliRecordRollupService;
   @Inject private HPersistence hPersistence;
   @Inject private ServiceLevelIndicatorService serviceLevelIndicatorService;
   @Inject private MonitoredServiceService monitoredServiceService;
@@ -259,6 +266,124 @@ public class SLIRecordBucketServiceImplTest extends CvNextGenTestBase {
     assertThat(updatedLastRecord.getBucketStartTime()).isEqualTo(Instant.parse("2020-07-27T10:10:00Z"));
   }
 
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testCreate_updatesRollups() {
+    Instant startTime = Instant.parse("2020-07-27T22:00:00Z");
+    createData(startTime, getAlternatingSLIStates(180));
+    List<SLIRecordRollup> hourlyRollups = sliRecordRollupService.getSLIRecordRollups(sliId,
+        SLIRecordRollupResolution.HOUR,
+        Arrays.asList(startTime, startTime.plus(1, ChronoUnit.HOURS), startTime.plus(2, ChronoUnit.HOURS)), 0);
+    assertThat(hourlyRollups)
+        .extracting(SLIRecordRollup::getBucketStartTime)
+        .containsExactly(Instant.parse("2020-07-27T22:55:00Z"), Instant.parse("2020-07-27T23:55:00Z"),
+            Instant.parse("2020-07-28T00:55:00Z"));
+    List<SLIRecordRollup> dailyRollups = sliRecordRollupService.getSLIRecordRollups(sliId,
+        SLIRecordRollupResolution.DAY,
+        Arrays.asList(Instant.parse("2020-07-27T00:00:00Z"), Instant.parse("2020-07-28T00:00:00Z")), 0);
+    assertThat(dailyRollups)
+        .extracting(SLIRecordRollup::getBucketStartTime)
+        .containsExactly(Instant.parse("2020-07-27T23:55:00Z"), Instant.parse("2020-07-28T00:55:00Z"));
+    SLIRecordBucket lastRecord = sliRecordBucketService.getLatestSLIRecord(sliId);
+    assertThat(dailyRollups.get(1).getRunningBadCount()).isEqualTo(lastRecord.getRunningBadCount()).isEqualTo(60);
+    assertThat(dailyRollups.get(1).getRunningGoodCount()).isEqualTo(lastRecord.getRunningGoodCount()).isEqualTo(120);
+    assertThat(dailyRollups.get(1).getSliStates()).isEqualTo(lastRecord.getSliStates());
+
+    createData(Instant.parse("2020-07-27T23:50:00Z"), Arrays.asList(BAD, BAD, BAD, BAD, BAD, BAD, BAD, BAD, BAD, BAD));
+    Instant hourStartTime = Instant.parse("2020-07-27T23:00:00Z");
+    SLIRecordBucket updatedRecord =
+        sliRecordBucketService.getLastSLIRecord(sliId, Instant.parse("2020-07-28T00:00:00Z"));
+    SLIRecordRollup updatedRollup = sliRecordRollupService
+                                        .getSLIRecordRollups(sliId, SLIRecordRollupResolution.HOUR,
+                                            Collections.singletonList(hourStartTime), 0)
+                                        .get(0);
+    assertThat(updatedRollup.getRunningBadCount()).isEqualTo(updatedRecord.getRunningBadCount());
+    assertThat(updatedRollup.getRunningGoodCount()).isEqualTo(updatedRecord.getRunningGoodCount());
+    assertThat(updatedRollup.getSliStates()).containsExactly(BAD, BAD, BAD, BAD, BAD);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetSLIRecordBucketsForFilterRange_readsHourlyRollups() {
+    Instant startTime = Instant.parse("2020-07-27T22:00:00Z");
+    Instant endTime = Instant.parse("2020-07-28T02:00:00Z");
+    createData(startTime, getAlternatingSLIStates(240));
+    TimeRangeParams filter = TimeRangeParams.builder().startTime(startTime).endTime(endTime).build();
+
+    List<SLIRecordBucket> sliRecordBuckets =
+        sliRecordBucketService.getSLIRecordBucketsForFilterRange(sliId, startTime, endTime, filter, 3);
+
+    // The sampled minutes are 23:00, 00:00 and 01:00, the rollup of the last hour ends with the last record
+    assertThat(sliRecordBuckets)
+        .extracting(SLIRecordBucket::getBucketStartTime)
+        .containsExactly(startTime, Instant.parse("2020-07-27T23:55:00Z"), Instant.parse("2020-07-28T00:55:00Z"),
+            Instant.parse("2020-07-28T01:00:00Z"), Instant.parse("2020-07-28T01:55:00Z"));
+    for (SLIRecordBucket sliRecordBucket : sliRecordBuckets) {
+      SLIRecordBucket storedRecord =
+          sliRecordBucketService.getFirstSLIRecord(sliId, sliRecordBucket.getBucketStartTime());
+      assertThat(sliRecordBucket.getRunningBadCount()).isEqualTo(storedRecord.getRunningBadCount());
+      assertThat(sliRecordBucket.getRunningGoodCount()).isEqualTo(storedRecord.getRunningGoodCount());
+      assertThat(sliRecordBucket.getSliStates()).isEqualTo(storedRecord.getSliStates());
+      assertThat(sliRecordBucket.getSliVersion()).isEqualTo(storedRecord.getSliVersion());
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetSLIRecordBucketsForFilterRange_readsBucketsUntilBackfilled() {
+    Instant startTime = Instant.parse("2020-07-27T22:00:00Z");
+    Instant endTime = Instant.parse("2020-07-28T02:00:00Z");
+    createData(startTime, getAlternatingSLIStates(240));
+    hPersistence.delete(hPersistence.createQuery(SLIRecordRollup.class).filter(SLIRecordRollupKeys.sliId, sliId));
+    TimeRangeParams filter = TimeRangeParams.builder().startTime(startTime).endTime(endTime).build();
+
+    assertThat(sliRecordBucketService.getSLIRecordBucketsForFilterRange(sliId, startTime, endTime, filter, 3))
+        .extracting(SLIRecordBucket::getBucketStartTime)
+        .containsExactly(startTime, Instant.parse("2020-07-27T23:00:00Z"), Instant.parse("2020-07-28T00:00:00Z"),
+            Instant.parse("2020-07-28T01:00:00Z"), Instant.parse("2020-07-28T01:55:00Z"));
+
+    sliRecordRollupService.backfill(sliId);
+    assertThat(sliRecordBucketService.getSLIRecordBucketsForFilterRange(sliId, startTime, endTime, filter, 3))
+        .extracting(SLIRecordBucket::getBucketStartTime)
+        .containsExactly(startTime, Instant.parse("2020-07-27T23:55:00Z"), Instant.parse("2020-07-28T00:55:00Z"),
+            Instant.parse("2020-07-28T01:00:00Z"), Instant.parse("2020-07-28T01:55:00Z"));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void testGetSLIRecordBucketsForFilterRange_readsBucketsOfMissingAndOtherVersionHours() {
+    Instant startTime = Instant.parse("2020-07-27T22:00:00Z");
+    Instant endTime = Instant.parse("2020-07-28T02:00:00Z");
+    createData(startTime, getAlternatingSLIStates(240));
+    hPersistence.delete(hPersistence.createQuery(SLIRecordRollup.class)
+                            .filter(SLIRecordRollupKeys.sliId, sliId)
+                            .filter(SLIRecordRollupKeys.resolution, SLIRecordRollupResolution.HOUR)
+                            .filter(SLIRecordRollupKeys.rollupStartTime, Instant.parse("2020-07-27T23:00:00Z")));
+    hPersistence.update(hPersistence.createQuery(SLIRecordRollup.class)
+                            .filter(SLIRecordRollupKeys.sliId, sliId)
+                            .filter(SLIRecordRollupKeys.resolution, SLIRecordRollupResolution.HOUR)
+                            .filter(SLIRecordRollupKeys.rollupStartTime, Instant.parse("2020-07-28T00:00:00Z")),
+        hPersistence.createUpdateOperations(SLIRecordRollup.class).set(SLIRecordRollupKeys.sliVersion, 1));
+    TimeRangeParams filter = TimeRangeParams.builder().startTime(startTime).endTime(endTime).build();
+
+    assertThat(sliRecordBucketService.getSLIRecordBucketsForFilterRange(sliId, startTime, endTime, filter, 3))
+        .extracting(SLIRecordBucket::getBucketStartTime)
+        .containsExactly(startTime, Instant.parse("2020-07-27T23:00:00Z"), Instant.parse("2020-07-28T00:00:00Z"),
+            Instant.parse("2020-07-28T01:00:00Z"), Instant.parse("2020-07-28T01:55:00Z"));
+  }
+
+  private List<SLIState> getAlternatingSLIStates(int minutes) {
+    List<SLIState> sliStates = new ArrayList<>();
+    for (int minute = 0; minute < minutes; minute++) {
+      sliStates.add(minute % 3 == 0 ? BAD : GOOD);
+    }
+    return sliStates;
+  }
+
   private void createData(Instant startTime, List<SLIState> sliStates) {
     List<SLIRecordParam> sliRecordParams = getSLIRecordParam(startTime, sliStates);
     sliRecordBucketService.create(sliRecordParams, serviceLevelIndicator.getUuid(), 0);